@@ -0,0 +1,336 @@
+package com.paypal.benchmarks.datasets;
+
+import com.mirakl.client.mmp.domain.common.MiraklAdditionalFieldValue;
+import com.mirakl.client.mmp.domain.common.MiraklAdditionalFieldValue.MiraklBooleanAdditionalFieldValue;
+import com.mirakl.client.mmp.domain.common.MiraklAdditionalFieldValue.MiraklDateAdditionalFieldValue;
+import com.mirakl.client.mmp.domain.common.MiraklAdditionalFieldValue.MiraklStringAdditionalFieldValue;
+import com.mirakl.client.mmp.domain.common.MiraklAdditionalFieldValue.MiraklValueListAdditionalFieldValue;
+import com.mirakl.client.mmp.domain.common.currency.MiraklIsoCurrencyCode;
+import com.mirakl.client.mmp.domain.shop.MiraklContactInformation;
+import com.mirakl.client.mmp.domain.shop.MiraklProfessionalInformation;
+import com.mirakl.client.mmp.domain.shop.MiraklShop;
+import com.mirakl.client.mmp.domain.shop.bank.MiraklAbaBankAccountInformation;
+import com.mirakl.client.mmp.domain.shop.bank.MiraklCanadianBankAccountInformation;
+import com.mirakl.client.mmp.domain.shop.bank.MiraklIbanBankAccountInformation;
+import com.mirakl.client.mmp.domain.shop.bank.MiraklPaymentInformation;
+import com.mirakl.client.mmp.domain.shop.bank.MiraklUkBankAccountInformation;
+import com.paypal.sellers.bankaccountextract.model.BankAccountType;
+import com.paypal.sellers.sellersextract.model.BusinessStakeHolderConstants;
+import com.paypal.sellers.sellersextract.model.SellerBusinessType;
+import com.paypal.sellers.sellersextract.model.SellerGender;
+import com.paypal.sellers.sellersextract.model.SellerGovernmentIdType;
+import com.paypal.sellers.sellersextract.model.SellerModelConstants;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates Mirakl shops filled with the custom fields read by the connector, so the
+ * benchmarks run over realistic shops without calling Mirakl. The same seed always
+ * generates the same shops, which makes the results of different runs comparable.
+ */
+public class SyntheticMiraklShops {
+
+	private static final BankAccountType[] BANK_ACCOUNT_TYPES = BankAccountType.values();
+
+	private static final String[] FIRST_NAMES = { "John", "Maria", "Wei", "Amara", "Lucas", "Sofia", "Omar", "Emma" };
+
+	private static final String[] LAST_NAMES = { "Smith", "Garcia", "Chen", "Okafor", "Martin", "Rossi", "Haddad" };
+
+	private static final String[] IBAN_COUNTRIES = { "ES", "FR", "DE", "IT", "NL" };
+
+	private static final String[] IBAN_CONTACT_COUNTRIES = { "ESP", "FRA", "DEU", "ITA", "NLD" };
+
+	private static final String[] PROGRAMS = { "DEFAULT", "UK", "EUROPE" };
+
+	private static final Instant FIRST_DATE_OF_BIRTH = Instant.parse("1950-01-01T00:00:00Z");
+
+	private final Random random;
+
+	public SyntheticMiraklShops(final long seed) {
+		random = new Random(seed);
+	}
+
+	/**
+	 * Generates individual shops whose bank accounts are evenly distributed among all the
+	 * supported bank account types.
+	 * @param count number of shops
+	 * @return the generated shops
+	 */
+	public List<MiraklShop> individualShops(final int count) {
+		final List<MiraklShop> miraklShops = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			miraklShops.add(shop(String.valueOf(2000 + i), BANK_ACCOUNT_TYPES[i % BANK_ACCOUNT_TYPES.length], false, 0));
+		}
+
+		return miraklShops;
+	}
+
+	/**
+	 * Generates professional shops whose bank accounts are evenly distributed among all
+	 * the supported bank account types.
+	 * @param count number of shops
+	 * @param businessStakeHolders number of business stakeholders of every shop, from 0
+	 * to 5
+	 * @return the generated shops
+	 */
+	public List<MiraklShop> professionalShops(final int count, final int businessStakeHolders) {
+		final List<MiraklShop> miraklShops = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			miraklShops.add(shop(String.valueOf(5000 + i), BANK_ACCOUNT_TYPES[i % BANK_ACCOUNT_TYPES.length], true,
+					businessStakeHolders));
+		}
+
+		return miraklShops;
+	}
+
+	/**
+	 * Generates shops with a bank account of the given type.
+	 * @param count number of shops
+	 * @param bankAccountType type of the bank account of every shop
+	 * @return the generated shops
+	 */
+	public List<MiraklShop> shopsWithBankAccount(final int count, final BankAccountType bankAccountType) {
+		final List<MiraklShop> miraklShops = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			miraklShops.add(shop(String.valueOf(8000 + i), bankAccountType, random.nextBoolean(), 0));
+		}
+
+		return miraklShops;
+	}
+
+	/**
+	 * Generates the custom fields of the given business stakeholder.
+	 * @param businessStakeHolderNumber number of the business stakeholder, from 1 to 5
+	 * @return the custom fields of the business stakeholder
+	 */
+	public List<MiraklAdditionalFieldValue> businessStakeHolderFields(final int businessStakeHolderNumber) {
+		final String suffix = "-" + businessStakeHolderNumber;
+		final List<MiraklAdditionalFieldValue> fields = new ArrayList<>();
+		fields.add(stringField(BusinessStakeHolderConstants.TOKEN + suffix, "stk-" + randomDigits(8)));
+		fields.add(booleanField(BusinessStakeHolderConstants.BUSINESS + suffix, businessStakeHolderNumber == 1));
+		fields.add(booleanField(BusinessStakeHolderConstants.DIRECTOR + suffix, random.nextBoolean()));
+		fields.add(booleanField(BusinessStakeHolderConstants.UBO + suffix, random.nextBoolean()));
+		fields.add(booleanField(BusinessStakeHolderConstants.SMO + suffix, random.nextBoolean()));
+		fields.add(stringField(BusinessStakeHolderConstants.FIRST_NAME + suffix, pick(FIRST_NAMES)));
+		fields.add(stringField(BusinessStakeHolderConstants.MIDDLE_NAME + suffix, pick(FIRST_NAMES)));
+		fields.add(stringField(BusinessStakeHolderConstants.LAST_NAME + suffix, pick(LAST_NAMES)));
+		fields.add(dateField(BusinessStakeHolderConstants.DOB + suffix, randomDateOfBirth()));
+		fields.add(stringField(BusinessStakeHolderConstants.COUNTRY_OF_BIRTH + suffix, pick(IBAN_COUNTRIES)));
+		fields.add(stringField(BusinessStakeHolderConstants.NATIONALITY + suffix, pick(IBAN_COUNTRIES)));
+		fields.add(valueListField(BusinessStakeHolderConstants.GENDER + suffix, pick(SellerGender.values()).name()));
+		fields.add(stringField(BusinessStakeHolderConstants.PHONE_NUMBER + suffix, "+34" + randomDigits(9)));
+		fields.add(stringField(BusinessStakeHolderConstants.MOBILE_NUMBER + suffix, "+34" + randomDigits(9)));
+		fields.add(stringField(BusinessStakeHolderConstants.EMAIL + suffix,
+				"stakeholder" + randomDigits(6) + "@example.com"));
+		fields.add(stringField(BusinessStakeHolderConstants.GOVERNMENT_ID_NUM + suffix, randomDigits(9)));
+		fields.add(valueListField(BusinessStakeHolderConstants.GOVERNMENT_ID_TYPE + suffix,
+				pick(SellerGovernmentIdType.values()).name()));
+		fields.add(stringField(BusinessStakeHolderConstants.DRIVERS_LICENSE_NUM + suffix, randomDigits(8)));
+		fields.add(stringField(BusinessStakeHolderConstants.ADDRESS_LINE_1 + suffix, randomDigits(2) + " Main St"));
+		fields.add(stringField(BusinessStakeHolderConstants.ADDRESS_LINE_2 + suffix, "Floor " + random.nextInt(10)));
+		fields.add(stringField(BusinessStakeHolderConstants.CITY + suffix, "City " + random.nextInt(100)));
+		fields.add(stringField(BusinessStakeHolderConstants.STATE + suffix, "State " + random.nextInt(50)));
+		fields.add(stringField(BusinessStakeHolderConstants.COUNTRY + suffix, pick(IBAN_COUNTRIES)));
+		fields.add(stringField(BusinessStakeHolderConstants.POST_CODE + suffix, randomDigits(5)));
+
+		return fields;
+	}
+
+	/**
+	 * Generates custom fields not read by the connector, as the ones Mirakl operators
+	 * create for their own purposes.
+	 * @param count number of custom fields
+	 * @return the generated custom fields
+	 */
+	public List<MiraklAdditionalFieldValue> unrelatedFields(final int count) {
+		final List<MiraklAdditionalFieldValue> fields = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			fields.add(stringField("operator-field-" + i, randomDigits(6)));
+		}
+
+		return fields;
+	}
+
+	private MiraklShop shop(final String shopId, final BankAccountType bankAccountType, final boolean professional,
+			final int businessStakeHolders) {
+		final int ibanCountry = random.nextInt(IBAN_COUNTRIES.length);
+		final MiraklShop miraklShop = new MiraklShop();
+		miraklShop.setId(shopId);
+		miraklShop.setName("Shop " + shopId);
+		miraklShop.setProfessional(professional);
+		miraklShop.setContactInformation(contactInformation(bankAccountType, ibanCountry));
+		miraklShop.setCurrencyIsoCode(currency(bankAccountType));
+		miraklShop.setPaymentInformation(paymentInformation(bankAccountType, ibanCountry));
+
+		final List<MiraklAdditionalFieldValue> fields = new ArrayList<>(sellerFields());
+		if (professional) {
+			final MiraklProfessionalInformation professionalInformation = new MiraklProfessionalInformation();
+			professionalInformation.setCorporateName(pick(LAST_NAMES) + " Ltd");
+			professionalInformation.setIdentificationNumber(randomDigits(9));
+			professionalInformation.setTaxIdentificationNumber(randomDigits(9));
+			miraklShop.setProfessionalInformation(professionalInformation);
+
+			fields.add(valueListField(SellerModelConstants.BUSINESS_TYPE, pick(SellerBusinessType.values()).name()));
+			fields.add(stringField(SellerModelConstants.HYPERWALLET_BUSINESS_REGISTRATION_COUNTRY,
+					IBAN_COUNTRIES[ibanCountry]));
+			fields.add(stringField(SellerModelConstants.HYPERWALLET_BUSINESS_REGISTRATION_STATE_PROVINCE,
+					"State " + random.nextInt(50)));
+			for (int i = 1; i <= businessStakeHolders; i++) {
+				fields.addAll(businessStakeHolderFields(i));
+			}
+		}
+		miraklShop.setAdditionalFieldValues(fields);
+
+		return miraklShop;
+	}
+
+	private List<MiraklAdditionalFieldValue> sellerFields() {
+		final List<MiraklAdditionalFieldValue> fields = new ArrayList<>();
+		fields.add(stringField(SellerModelConstants.HYPERWALLET_USER_TOKEN, "usr-" + randomDigits(8)));
+		fields.add(stringField(SellerModelConstants.HYPERWALLET_BANK_ACCOUNT_TOKEN, "trm-" + randomDigits(8)));
+		fields.add(stringField(SellerModelConstants.HYPERWALLET_BANK_ACCOUNT_STATE, "State " + random.nextInt(50)));
+		fields.add(valueListField(SellerModelConstants.HYPERWALLET_PROGRAM, pick(PROGRAMS)));
+		fields.add(booleanField(SellerModelConstants.HYPERWALLET_TERMS_CONSENT, true));
+		fields.add(dateField(SellerModelConstants.DATE_OF_BIRTH, randomDateOfBirth()));
+		fields.add(stringField(SellerModelConstants.COUNTRY_OF_BIRTH, pick(IBAN_COUNTRIES)));
+		fields.add(stringField(SellerModelConstants.COUNTRY_OF_NATIONALITY, pick(IBAN_COUNTRIES)));
+		fields.add(stringField(SellerModelConstants.GOVERNMENT_ID, randomDigits(9)));
+		fields.add(valueListField(SellerModelConstants.GOVERNMENT_ID_TYPE,
+				pick(SellerGovernmentIdType.values()).name()));
+		fields.add(stringField(SellerModelConstants.PASSPORT_ID, randomDigits(9)));
+		fields.add(stringField(SellerModelConstants.DRIVERS_LICENSE_ID, randomDigits(8)));
+
+		return fields;
+	}
+
+	private MiraklContactInformation contactInformation(final BankAccountType bankAccountType,
+			final int ibanCountry) {
+		final MiraklContactInformation contactInformation = new MiraklContactInformation();
+		contactInformation.setFirstname(pick(FIRST_NAMES));
+		contactInformation.setLastname(pick(LAST_NAMES));
+		contactInformation.setEmail("seller" + randomDigits(6) + "@example.com");
+		contactInformation.setPhone(randomDigits(9));
+		contactInformation.setPhoneSecondary(randomDigits(9));
+		contactInformation.setStreet1(randomDigits(2) + " Main St");
+		contactInformation.setStreet2("Floor " + random.nextInt(10));
+		contactInformation.setCity("City " + random.nextInt(100));
+		contactInformation.setZipCode(randomDigits(5));
+		contactInformation.setState("State " + random.nextInt(50));
+		contactInformation.setCountry(contactCountry(bankAccountType, ibanCountry));
+
+		return contactInformation;
+	}
+
+	private String contactCountry(final BankAccountType bankAccountType, final int ibanCountry) {
+		switch (bankAccountType) {
+		case ABA:
+			return "USA";
+		case CANADIAN:
+			return "CAN";
+		case UK:
+			return "GBR";
+		default:
+			return IBAN_CONTACT_COUNTRIES[ibanCountry];
+		}
+	}
+
+	private MiraklIsoCurrencyCode currency(final BankAccountType bankAccountType) {
+		switch (bankAccountType) {
+		case ABA:
+			return MiraklIsoCurrencyCode.USD;
+		case CANADIAN:
+			return MiraklIsoCurrencyCode.CAD;
+		case UK:
+			return MiraklIsoCurrencyCode.GBP;
+		default:
+			return MiraklIsoCurrencyCode.EUR;
+		}
+	}
+
+	private MiraklPaymentInformation paymentInformation(final BankAccountType bankAccountType,
+			final int ibanCountry) {
+		switch (bankAccountType) {
+		case ABA:
+			final MiraklAbaBankAccountInformation abaBankAccountInformation = new MiraklAbaBankAccountInformation();
+			abaBankAccountInformation.setBankAccountNumber(randomDigits(10));
+			abaBankAccountInformation.setRoutingNumber(randomDigits(9));
+			abaBankAccountInformation.setBankCity("City " + random.nextInt(100));
+			abaBankAccountInformation.setBankZip(randomDigits(5));
+			return abaBankAccountInformation;
+		case CANADIAN:
+			final MiraklCanadianBankAccountInformation canadianBankAccountInformation = new MiraklCanadianBankAccountInformation();
+			canadianBankAccountInformation.setBankAccountNumber(randomDigits(10));
+			canadianBankAccountInformation.setInstitutionNumber(randomDigits(3));
+			canadianBankAccountInformation.setTransitNumber(randomDigits(5));
+			canadianBankAccountInformation.setBankCity("City " + random.nextInt(100));
+			canadianBankAccountInformation.setBankZip(randomDigits(6));
+			return canadianBankAccountInformation;
+		case UK:
+			final MiraklUkBankAccountInformation ukBankAccountInformation = new MiraklUkBankAccountInformation();
+			ukBankAccountInformation.setBankAccountNumber(randomDigits(8));
+			ukBankAccountInformation.setBankSortCode(randomDigits(6));
+			ukBankAccountInformation.setBankCity("City " + random.nextInt(100));
+			return ukBankAccountInformation;
+		default:
+			final MiraklIbanBankAccountInformation ibanBankAccountInformation = new MiraklIbanBankAccountInformation();
+			ibanBankAccountInformation.setIban(IBAN_COUNTRIES[ibanCountry] + randomDigits(22));
+			ibanBankAccountInformation.setBic("BIC" + randomDigits(5));
+			ibanBankAccountInformation.setBankCity("City " + random.nextInt(100));
+			return ibanBankAccountInformation;
+		}
+	}
+
+	private String randomDateOfBirth() {
+		return FIRST_DATE_OF_BIRTH.plus(random.nextInt(50 * 365), ChronoUnit.DAYS).toString();
+	}
+
+	private String randomDigits(final int length) {
+		final StringBuilder digits = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			digits.append(random.nextInt(10));
+		}
+
+		return digits.toString();
+	}
+
+	private <T> T pick(final T[] values) {
+		return values[random.nextInt(values.length)];
+	}
+
+	private static MiraklStringAdditionalFieldValue stringField(final String code, final String value) {
+		final MiraklStringAdditionalFieldValue field = new MiraklStringAdditionalFieldValue();
+		field.setCode(code);
+		field.setValue(value);
+
+		return field;
+	}
+
+	private static MiraklBooleanAdditionalFieldValue booleanField(final String code, final boolean value) {
+		final MiraklBooleanAdditionalFieldValue field = new MiraklBooleanAdditionalFieldValue();
+		field.setCode(code);
+		field.setValue(String.valueOf(value));
+
+		return field;
+	}
+
+	private static MiraklDateAdditionalFieldValue dateField(final String code, final String value) {
+		final MiraklDateAdditionalFieldValue field = new MiraklDateAdditionalFieldValue();
+		field.setCode(code);
+		field.setValue(value);
+
+		return field;
+	}
+
+	private static MiraklValueListAdditionalFieldValue valueListField(final String code, final String value) {
+		final MiraklValueListAdditionalFieldValue field = new MiraklValueListAdditionalFieldValue();
+		field.setCode(code);
+		field.setValue(value);
+
+		return field;
+	}
+
+}
@@ -0,0 +1,180 @@
+package com.paypal.notifications.httpconverters;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hyperwallet.clientsdk.model.HyperwalletWebhookNotification;
+import com.hyperwallet.clientsdk.util.HyperwalletEncryption;
+import com.nimbusds.jose.EncryptionMethod;
+import com.nimbusds.jose.JWEAlgorithm;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decrypts signed and encrypted Hyperwallet webhook notifications as received by the
+ * notifications endpoint when the {@code encrypted} profile is active, with and without
+ * the deserialization of the decrypted notification.
+ * <p>
+ * The notifications are generated from the seed and encrypted during the setup with a
+ * key set created for the benchmark, which is used both as the connector and the
+ * Hyperwallet key set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JWEConverterBenchmark {
+
+	private static final int NUM_NOTIFICATIONS = 64;
+
+	private static final String[] NOTIFICATION_TYPES = { "USERS.UPDATED.STATUS.ACTIVATED",
+			"USERS.BUSINESS_STAKEHOLDERS.UPDATED.VERIFICATION_STATUS.REQUIRED", "PAYMENTS.UPDATED.STATUS.COMPLETED",
+			"PAYMENTS.UPDATED.STATUS.FAILED" };
+
+	private static final LocalDateTime FIRST_CREATED_ON = LocalDateTime.of(2023, 1, 1, 0, 0);
+
+	private static final DateTimeFormatter CREATED_ON_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+	@Param({ "42" })
+	private long seed;
+
+	private Path keySetFile;
+
+	private JWEConverter jweConverter;
+
+	private byte[][] encryptedNotifications;
+
+	private int currentNotification;
+
+	@Setup
+	public void setUp() throws Exception {
+		keySetFile = Files.createTempFile("benchmark-jwkset", ".json");
+		Files.writeString(keySetFile, new ObjectMapper().writeValueAsString(createKeySet().toJSONObject(false)));
+
+		//@formatter:off
+		final HyperwalletEncryption hyperwalletEncryption = new HyperwalletEncryption(JWEAlgorithm.RSA_OAEP_256,
+				JWSAlgorithm.RS256, EncryptionMethod.A256CBC_HS512, keySetFile.toString(), keySetFile.toString(), 60);
+		//@formatter:on
+		final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		jweConverter = new JWEConverter(hyperwalletEncryption, objectMapper);
+
+		final Random random = new Random(seed);
+		encryptedNotifications = new byte[NUM_NOTIFICATIONS][];
+		for (int i = 0; i < NUM_NOTIFICATIONS; i++) {
+			final String notification = objectMapper.writeValueAsString(notification(i, random));
+			encryptedNotifications[i] = hyperwalletEncryption.encrypt(notification).getBytes(StandardCharsets.UTF_8);
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+		Files.deleteIfExists(keySetFile);
+	}
+
+	@Benchmark
+	public InputStream decrypt() {
+		return jweConverter.decrypt(new ByteArrayInputStream(nextNotification()));
+	}
+
+	@Benchmark
+	public Object decryptAndDeserialize() throws Exception {
+		return jweConverter.read(HyperwalletWebhookNotification.class,
+				new BenchmarkHttpInputMessage(nextNotification()));
+	}
+
+	private byte[] nextNotification() {
+		currentNotification = (currentNotification + 1) % NUM_NOTIFICATIONS;
+		return encryptedNotifications[currentNotification];
+	}
+
+	private static JWKSet createKeySet() throws Exception {
+		final KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+		keyPairGenerator.initialize(2048);
+		final KeyPair encryptionKeyPair = keyPairGenerator.generateKeyPair();
+		final KeyPair signatureKeyPair = keyPairGenerator.generateKeyPair();
+
+		//@formatter:off
+		final RSAKey encryptionKey = new RSAKey.Builder((RSAPublicKey) encryptionKeyPair.getPublic())
+				.privateKey((RSAPrivateKey) encryptionKeyPair.getPrivate())
+				.keyUse(KeyUse.ENCRYPTION)
+				.algorithm(JWEAlgorithm.RSA_OAEP_256)
+				.keyID("benchmark-encryption")
+				.build();
+		final RSAKey signatureKey = new RSAKey.Builder((RSAPublicKey) signatureKeyPair.getPublic())
+				.privateKey((RSAPrivateKey) signatureKeyPair.getPrivate())
+				.keyUse(KeyUse.SIGNATURE)
+				.algorithm(JWSAlgorithm.RS256)
+				.keyID("benchmark-signature")
+				.build();
+		//@formatter:on
+
+		return new JWKSet(List.of(encryptionKey, signatureKey));
+	}
+
+	private static Map<String, Object> notification(final int index, final Random random) {
+		final Map<String, Object> object = new LinkedHashMap<>();
+		object.put("token", "usr-" + Math.abs(random.nextLong()));
+		object.put("clientUserId", String.valueOf(2000 + random.nextInt(1000)));
+		object.put("status", "ACTIVATED");
+		object.put("verificationStatus", "VERIFIED");
+		object.put("profileType", random.nextBoolean() ? "INDIVIDUAL" : "BUSINESS");
+		object.put("email", "seller" + random.nextInt(100000) + "@example.com");
+		object.put("programToken", "prg-" + Math.abs(random.nextLong()));
+		final List<Map<String, String>> links = new ArrayList<>();
+		links.add(Map.of("href", "https://api.sandbox.hyperwallet.com/rest/v4/users/" + object.get("token")));
+		object.put("links", links);
+
+		final Map<String, Object> notification = new LinkedHashMap<>();
+		notification.put("token", "wbh-" + index + "-" + Math.abs(random.nextLong()));
+		notification.put("type", NOTIFICATION_TYPES[random.nextInt(NOTIFICATION_TYPES.length)]);
+		notification.put("createdOn", CREATED_ON_FORMATTER.format(FIRST_CREATED_ON.plusSeconds(random.nextInt(86400))));
+		notification.put("object", object);
+
+		return notification;
+	}
+
+	private static class BenchmarkHttpInputMessage implements HttpInputMessage {
+
+		private final byte[] body;
+
+		private BenchmarkHttpInputMessage(final byte[] body) {
+			this.body = body;
+		}
+
+		@Override
+		public InputStream getBody() {
+			return new ByteArrayInputStream(body);
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return new HttpHeaders();
+		}
+
+	}
+
+}
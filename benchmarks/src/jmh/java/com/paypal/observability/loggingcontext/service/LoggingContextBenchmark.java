@@ -0,0 +1,92 @@
+package com.paypal.observability.loggingcontext.service;
+
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paypal.observability.batchjoblogging.model.BatchJobLoggingTransaction;
+import com.paypal.observability.loggingcontext.logging.BusinessTransactionConverter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.MDC;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Updates the logging context once per batch job item, comparing the JSON serialization
+ * into the MDC on every update that used to be done with the structured MDC fields, with
+ * and without rendering a log event for each item. Run it with the {@code gc} profiler to
+ * compare the bytes allocated per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoggingContextBenchmark {
+
+	private static final int NUM_ITEMS = 1024;
+
+	private LoggingContextHolder loggingContextHolder;
+
+	private LoggingContextServiceImpl loggingContextService;
+
+	private BusinessTransactionConverter businessTransactionConverter;
+
+	private BatchJobLoggingTransaction loggingTransaction;
+
+	private String[] itemIds;
+
+	private int currentItem;
+
+	@Setup
+	public void setUp() {
+		loggingContextHolder = new LoggingContextHolder();
+		loggingContextService = new LoggingContextServiceImpl(loggingContextHolder);
+		businessTransactionConverter = new BusinessTransactionConverter();
+		loggingTransaction = new BatchJobLoggingTransaction("3f1e2a9c-5b7d-4c1e-9a0b-7d2e4f6a8b1c", "seller");
+		loggingTransaction.setSubtype("SellersExtractBatchJob");
+		itemIds = new String[NUM_ITEMS];
+		for (int i = 0; i < NUM_ITEMS; i++) {
+			itemIds[i] = String.valueOf(2000 + i);
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		loggingContextHolder.closeBusinessTransaction();
+		MDC.clear();
+	}
+
+	@Benchmark
+	public void eagerJsonSerialization(final Blackhole blackhole) throws JsonProcessingException {
+		loggingTransaction.setItemId(nextItemId());
+		loggingContextHolder.refreshBusinessTransaction(loggingTransaction);
+		MDC.put(LoggingContextServiceImpl.KEY_BUSINESS_TRANSACTION,
+				new ObjectMapper().writeValueAsString(loggingTransaction.toJson()));
+		blackhole.consume(loggingTransaction);
+	}
+
+	@Benchmark
+	public void structuredMdcFields(final Blackhole blackhole) {
+		loggingTransaction.setItemId(nextItemId());
+		loggingContextService.updateLoggingTransaction(loggingTransaction);
+		blackhole.consume(loggingTransaction);
+	}
+
+	@Benchmark
+	public void structuredMdcFieldsWithLogEvent(final Blackhole blackhole) {
+		loggingTransaction.setItemId(nextItemId());
+		loggingContextService.updateLoggingTransaction(loggingTransaction);
+
+		final LoggingEvent loggingEvent = new LoggingEvent();
+		loggingEvent.setMDCPropertyMap(MDC.getCopyOfContextMap());
+		blackhole.consume(businessTransactionConverter.convert(loggingEvent));
+	}
+
+	private String nextItemId() {
+		currentItem = (currentItem + 1) % NUM_ITEMS;
+		return itemIds[currentItem];
+	}
+
+}
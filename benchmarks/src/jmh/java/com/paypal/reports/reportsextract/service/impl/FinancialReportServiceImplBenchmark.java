@@ -0,0 +1,181 @@
+package com.paypal.reports.reportsextract.service.impl;
+
+import com.paypal.reports.infraestructure.configuration.ReportsConfig;
+import com.paypal.reports.reportsextract.converter.BrainTreeMiraklTransactionLinesIntoFinancialReportLineConverter;
+import com.paypal.reports.reportsextract.converter.BraintreeTransactionLineToFinancialReportLineConverter;
+import com.paypal.reports.reportsextract.converter.MiraklTransactionLineToFinancialReportLineConverter;
+import com.paypal.reports.reportsextract.model.HmcBraintreeRefundLine;
+import com.paypal.reports.reportsextract.model.HmcBraintreeTransactionLine;
+import com.paypal.reports.reportsextract.model.HmcMiraklTransactionLine;
+import com.paypal.reports.reportsextract.model.graphql.braintree.paymentransaction.BraintreeTransactionTypeEnum;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reconciles synthetic Braintree transactions and refunds with the Mirakl transaction
+ * lines of the same period and generates the financial report. Most of the Braintree
+ * transactions match several Mirakl lines, and the rest of the lines are only found in
+ * one of the sources, so all the branches of the reconciliation are exercised. The CSV
+ * file is not written, only the lines of the report are generated.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FinancialReportServiceImplBenchmark {
+
+	private static final String[] CURRENCIES = { "EUR", "GBP", "USD", "CAD" };
+
+	private static final String[] MIRAKL_TRANSACTION_TYPES = { "ORDER_AMOUNT", "ORDER_SHIPPING_AMOUNT",
+			"COMMISSION_FEE", "COMMISSION_VAT" };
+
+	private static final LocalDateTime START_TIME = LocalDateTime.of(2023, 1, 1, 0, 0);
+
+	@Param({ "1000", "10000" })
+	private int transactions;
+
+	@Param({ "42" })
+	private long seed;
+
+	private FinancialReportServiceImpl financialReportService;
+
+	@Setup
+	public void setUp() {
+		final Random random = new Random(seed);
+		final List<HmcBraintreeTransactionLine> braintreeTransactions = new ArrayList<>();
+		final List<HmcBraintreeRefundLine> braintreeRefunds = new ArrayList<>();
+		final List<HmcMiraklTransactionLine> miraklTransactions = new ArrayList<>();
+		for (int i = 0; i < transactions; i++) {
+			final String orderId = "order-" + i;
+			final String paymentTransactionId = "pt-" + i;
+			final String currency = CURRENCIES[random.nextInt(CURRENCIES.length)];
+			final LocalDateTime transactionTime = START_TIME.plusSeconds(random.nextInt(30 * 24 * 3600));
+			final int scenario = random.nextInt(10);
+
+			// 10% of the transactions are only found in Mirakl
+			if (scenario != 0) {
+				braintreeTransactions.add(braintreeTransaction(orderId, paymentTransactionId, currency,
+						transactionTime, random));
+			}
+			// 5% of the transactions are refunded
+			if (scenario == 1) {
+				braintreeRefunds.add(braintreeRefund(orderId, paymentTransactionId, currency,
+						transactionTime.plusDays(1), random));
+			}
+			// 10% of the transactions are only found in Braintree
+			if (scenario != 2) {
+				final int miraklLines = 1 + random.nextInt(4);
+				for (int line = 0; line < miraklLines; line++) {
+					// Some Mirakl lines are not related to any Braintree transaction
+					final String transactionNumber = scenario == 3 && line == 0 ? null : paymentTransactionId;
+					miraklTransactions.add(miraklTransaction(orderId, transactionNumber, line, currency,
+							transactionTime, random));
+				}
+			}
+		}
+
+		//@formatter:off
+		financialReportService = new FinancialReportServiceImpl(
+				new FinancialReportConverterServiceImpl(new BraintreeTransactionLineToFinancialReportLineConverter(),
+						new MiraklTransactionLineToFinancialReportLineConverter(),
+						new BrainTreeMiraklTransactionLinesIntoFinancialReportLineConverter()),
+				new BenchmarkReportsConfig(),
+				(path, prefixFileName, lines, headers) -> prefixFileName + "-" + lines.size() + ".csv",
+				(transactionType, startDate, endDate) -> braintreeTransactions,
+				(transactionType, startDate, endDate) -> braintreeRefunds,
+				(startDate, endDate) -> miraklTransactions);
+		//@formatter:on
+	}
+
+	@Benchmark
+	public String generateFinancialReport() {
+		return financialReportService.generateFinancialReport(new Date(0), new Date(), "financialReport");
+	}
+
+	private static HmcBraintreeTransactionLine braintreeTransaction(final String orderId,
+			final String paymentTransactionId, final String currency, final LocalDateTime transactionTime,
+			final Random random) {
+		//@formatter:off
+		return HmcBraintreeTransactionLine.builder()
+				.orderId(orderId)
+				.paymentTransactionId(paymentTransactionId)
+				.paymentTransactionTime(transactionTime)
+				.transactionType(BraintreeTransactionTypeEnum.OPERATOR_ORDER_AMOUNT.name())
+				.currencyIsoCode(currency)
+				.amount(randomAmount(random))
+				.build();
+		//@formatter:on
+	}
+
+	private static HmcBraintreeRefundLine braintreeRefund(final String orderId, final String paymentTransactionId,
+			final String currency, final LocalDateTime transactionTime, final Random random) {
+		//@formatter:off
+		return HmcBraintreeRefundLine.builder()
+				.orderId(orderId)
+				.paymentTransactionId(paymentTransactionId)
+				.paymentTransactionTime(transactionTime)
+				.transactionType(BraintreeTransactionTypeEnum.REFUND_OPERATOR_ORDER_AMOUNT.name())
+				.currencyIsoCode(currency)
+				.amount(randomAmount(random).negate())
+				.build();
+		//@formatter:on
+	}
+
+	private static HmcMiraklTransactionLine miraklTransaction(final String orderId, final String transactionNumber,
+			final int line, final String currency, final LocalDateTime transactionTime, final Random random) {
+		final BigDecimal amount = randomAmount(random);
+		final boolean credit = random.nextBoolean();
+		//@formatter:off
+		return HmcMiraklTransactionLine.builder()
+				.orderId(orderId)
+				.transactionNumber(transactionNumber)
+				.sellerId(String.valueOf(2000 + random.nextInt(500)))
+				.transactionLineId(orderId + "-" + line)
+				.transactionTime(transactionTime)
+				.transactionType(MIRAKL_TRANSACTION_TYPES[random.nextInt(MIRAKL_TRANSACTION_TYPES.length)])
+				.amount(amount)
+				.creditAmount(credit ? amount : BigDecimal.ZERO)
+				.debitAmount(credit ? BigDecimal.ZERO : amount)
+				.currencyIsoCode(currency)
+				.build();
+		//@formatter:on
+	}
+
+	private static BigDecimal randomAmount(final Random random) {
+		return BigDecimal.valueOf(100 + random.nextInt(100000), 2);
+	}
+
+	/**
+	 * {@link ReportsConfig} with the default values of {@code reports.properties}.
+	 */
+	private static class BenchmarkReportsConfig extends ReportsConfig {
+
+		@Override
+		public String getFinancialReportHeader() {
+			return "braintreeCommerceOrderId,miraklOrderId,miraklSellerId,miraklTransactionLineId,"
+					+ "miraklTransactionTime,TransactionType,braintreeAmount,miraklDebitAmount,miraklCreditAmount,"
+					+ "currencyIsoCode,braintreeTransactionId,braintreeTransactionTime";
+		}
+
+		@Override
+		public String getFinancialReportPrefixFileName() {
+			return "financialReport";
+		}
+
+		@Override
+		public String getRepoPath() {
+			return "/home/reports/";
+		}
+
+	}
+
+}
@@ -0,0 +1,166 @@
+package com.paypal.sellers.bankaccountextract.converter.impl;
+
+import com.hyperwallet.clientsdk.model.HyperwalletBankAccount;
+import com.mirakl.client.mmp.domain.shop.MiraklShop;
+import com.mirakl.client.mmp.domain.shop.bank.MiraklAbaBankAccountInformation;
+import com.mirakl.client.mmp.domain.shop.bank.MiraklCanadianBankAccountInformation;
+import com.mirakl.client.mmp.domain.shop.bank.MiraklIbanBankAccountInformation;
+import com.mirakl.client.mmp.domain.shop.bank.MiraklPaymentInformation;
+import com.mirakl.client.mmp.domain.shop.bank.MiraklUkBankAccountInformation;
+import com.paypal.infrastructure.strategy.KeyedStrategy;
+import com.paypal.infrastructure.strategy.Strategy;
+import com.paypal.sellers.bankaccountextract.converter.impl.miraklshop.MiraklShopToABABankAccountModelConverterStrategy;
+import com.paypal.sellers.bankaccountextract.converter.impl.miraklshop.MiraklShopToCanadianBankAccountModelConverterStrategy;
+import com.paypal.sellers.bankaccountextract.converter.impl.miraklshop.MiraklShopToIBANBankAccountModelConverterStrategy;
+import com.paypal.sellers.bankaccountextract.converter.impl.miraklshop.MiraklShopToUKBankAccountModelConverterStrategy;
+import com.paypal.sellers.bankaccountextract.converter.impl.miraklshop.MiraklToBankAccountModelExecutor;
+import com.paypal.sellers.bankaccountextract.converter.impl.sellermodel.SellerModelToHyperWalletABABankAccount;
+import com.paypal.sellers.bankaccountextract.converter.impl.sellermodel.SellerModelToHyperWalletCanadianBankAccount;
+import com.paypal.sellers.bankaccountextract.converter.impl.sellermodel.SellerModelToHyperWalletIBANBankAccount;
+import com.paypal.sellers.bankaccountextract.converter.impl.sellermodel.SellerModelToHyperWalletUKBankAccount;
+import com.paypal.sellers.bankaccountextract.converter.impl.sellermodel.SellerModelToHyperwalletBankAccountExecutor;
+import com.paypal.sellers.bankaccountextract.model.ABABankAccountModel;
+import com.paypal.sellers.bankaccountextract.model.BankAccountModel;
+import com.paypal.sellers.bankaccountextract.model.CanadianBankAccountModel;
+import com.paypal.sellers.bankaccountextract.model.IBANBankAccountModel;
+import com.paypal.sellers.bankaccountextract.model.UKBankAccountModel;
+import com.paypal.sellers.sellersextract.model.SellerModel;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Selects the bank account strategies of shops and sellers of every bank account type,
+ * comparing the lookup in the dispatch table of the executors with the scan over all the
+ * strategies that used to be done. The strategies are wrapped so only the selection is
+ * measured and not the conversion itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BankAccountStrategyExecutorsBenchmark {
+
+	private MiraklToBankAccountModelExecutor miraklShopKeyedExecutor;
+
+	private MiraklToBankAccountModelExecutor miraklShopScanningExecutor;
+
+	private SellerModelToHyperwalletBankAccountExecutor sellerModelKeyedExecutor;
+
+	private SellerModelToHyperwalletBankAccountExecutor sellerModelScanningExecutor;
+
+	private List<MiraklShop> miraklShops;
+
+	private List<SellerModel> sellerModels;
+
+	@Setup
+	public void setUp() {
+		//@formatter:off
+		final List<KeyedStrategy<MiraklShop, BankAccountModel>> miraklShopConverters = List.of(
+				new MiraklShopToABABankAccountModelConverterStrategy(null),
+				new MiraklShopToCanadianBankAccountModelConverterStrategy(null),
+				new MiraklShopToIBANBankAccountModelConverterStrategy(null),
+				new MiraklShopToUKBankAccountModelConverterStrategy(null));
+		final List<KeyedStrategy<SellerModel, HyperwalletBankAccount>> sellerModelConverters = List.of(
+				new SellerModelToHyperWalletABABankAccount(),
+				new SellerModelToHyperWalletCanadianBankAccount(),
+				new SellerModelToHyperWalletIBANBankAccount(),
+				new SellerModelToHyperWalletUKBankAccount());
+		//@formatter:on
+		final Set<Strategy<MiraklShop, BankAccountModel>> miraklShopStrategies = selectionOnly(miraklShopConverters);
+		final Set<Strategy<SellerModel, HyperwalletBankAccount>> sellerModelStrategies = selectionOnly(
+				sellerModelConverters);
+
+		miraklShopKeyedExecutor = new MiraklToBankAccountModelExecutor(miraklShopStrategies);
+		miraklShopScanningExecutor = new MiraklToBankAccountModelExecutor(miraklShopStrategies) {
+			@Override
+			protected Object getStrategyKey(final MiraklShop source) {
+				return null;
+			}
+		};
+		sellerModelKeyedExecutor = new SellerModelToHyperwalletBankAccountExecutor(sellerModelStrategies);
+		sellerModelScanningExecutor = new SellerModelToHyperwalletBankAccountExecutor(sellerModelStrategies) {
+			@Override
+			protected Object getStrategyKey(final SellerModel source) {
+				return null;
+			}
+		};
+
+		miraklShops = List.of(miraklShop(new MiraklAbaBankAccountInformation()),
+				miraklShop(new MiraklCanadianBankAccountInformation()),
+				miraklShop(new MiraklIbanBankAccountInformation()), miraklShop(new MiraklUkBankAccountInformation()));
+		sellerModels = List.of(sellerModel(ABABankAccountModel.builder().build()),
+				sellerModel(CanadianBankAccountModel.builder().build()),
+				sellerModel(IBANBankAccountModel.builder().build()), sellerModel(UKBankAccountModel.builder().build()));
+	}
+
+	@Benchmark
+	public void miraklShopKeyedDispatch(final Blackhole blackhole) {
+		miraklShops.forEach(miraklShop -> blackhole.consume(miraklShopKeyedExecutor.execute(miraklShop)));
+	}
+
+	@Benchmark
+	public void miraklShopLinearScan(final Blackhole blackhole) {
+		miraklShops.forEach(miraklShop -> blackhole.consume(miraklShopScanningExecutor.execute(miraklShop)));
+	}
+
+	@Benchmark
+	public void sellerModelKeyedDispatch(final Blackhole blackhole) {
+		sellerModels.forEach(sellerModel -> blackhole.consume(sellerModelKeyedExecutor.execute(sellerModel)));
+	}
+
+	@Benchmark
+	public void sellerModelLinearScan(final Blackhole blackhole) {
+		sellerModels.forEach(sellerModel -> blackhole.consume(sellerModelScanningExecutor.execute(sellerModel)));
+	}
+
+	private static MiraklShop miraklShop(final MiraklPaymentInformation paymentInformation) {
+		final MiraklShop miraklShop = new MiraklShop();
+		miraklShop.setPaymentInformation(paymentInformation);
+
+		return miraklShop;
+	}
+
+	private static SellerModel sellerModel(final BankAccountModel bankAccountModel) {
+		return SellerModel.builder().bankAccountDetails(bankAccountModel).build();
+	}
+
+	private static <S, T> Set<Strategy<S, T>> selectionOnly(final List<KeyedStrategy<S, T>> strategies) {
+		return strategies.stream().<Strategy<S, T>>map(SelectionOnlyStrategy::new).collect(Collectors.toUnmodifiableSet());
+	}
+
+	/**
+	 * Delegates the selection to the wrapped strategy without converting the source.
+	 */
+	private static class SelectionOnlyStrategy<S, T> implements KeyedStrategy<S, T> {
+
+		private final KeyedStrategy<S, T> strategy;
+
+		private SelectionOnlyStrategy(final KeyedStrategy<S, T> strategy) {
+			this.strategy = strategy;
+		}
+
+		@Override
+		public T execute(final S source) {
+			return null;
+		}
+
+		@Override
+		public boolean isApplicable(final S source) {
+			return strategy.isApplicable(source);
+		}
+
+		@Override
+		public Set<Object> getStrategyKeys() {
+			return strategy.getStrategyKeys();
+		}
+
+	}
+
+}
@@ -0,0 +1,71 @@
+package com.paypal.sellers.bankaccountextract.converter.impl.miraklshop;
+
+import com.mirakl.client.mmp.domain.shop.MiraklShop;
+import com.paypal.benchmarks.datasets.SyntheticMiraklShops;
+import com.paypal.infrastructure.strategy.Strategy;
+import com.paypal.sellers.bankaccountextract.converter.impl.miraklshop.currency.HyperwalletBankAccountCurrencyPriorityResolver;
+import com.paypal.sellers.bankaccountextract.converter.impl.miraklshop.currency.HyperwalletBankAccountCurrencyResolutionConfiguration;
+import com.paypal.sellers.bankaccountextract.converter.impl.miraklshop.currency.HyperwalletBankAccountCurrencyResolver;
+import com.paypal.sellers.bankaccountextract.converter.impl.miraklshop.currency.HyperwalletBankAccountCurrencyResolverImpl;
+import com.paypal.sellers.bankaccountextract.converter.impl.miraklshop.currency.HyperwalletBankAccountCurrencyRestrictionsLoader;
+import com.paypal.sellers.bankaccountextract.model.BankAccountModel;
+import com.paypal.sellers.bankaccountextract.model.BankAccountType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converts synthetic Mirakl shops into bank accounts with the strategies of every bank
+ * account type, including the automatic selection of the Hyperwallet currency and
+ * transfer type from the bank account constraints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MiraklShopToBankAccountModelConvertersBenchmark {
+
+	@Param({ "IBAN", "ABA", "CANADIAN", "UK" })
+	private BankAccountType bankAccountType;
+
+	@Param({ "1000" })
+	private int shops;
+
+	@Param({ "42" })
+	private long seed;
+
+	private MiraklToBankAccountModelExecutor miraklToBankAccountModelExecutor;
+
+	private List<MiraklShop> miraklShops;
+
+	@Setup
+	public void setUp() {
+		final HyperwalletBankAccountCurrencyResolutionConfiguration configuration = new HyperwalletBankAccountCurrencyResolutionConfiguration(
+				"USD,GBP,EUR;GB:GBP,EUR;CA:CAD,USD");
+		configuration.setEnableAutomaticCurrencySelection(true);
+		final HyperwalletBankAccountCurrencyResolver currencyResolver = new HyperwalletBankAccountCurrencyResolverImpl(
+				new HyperwalletBankAccountCurrencyRestrictionsLoader("", 0).countryCurrencyConfiguration(),
+				configuration, new HyperwalletBankAccountCurrencyPriorityResolver(configuration));
+
+		//@formatter:off
+		final Set<Strategy<MiraklShop, BankAccountModel>> strategies = Set.of(
+				new MiraklShopToABABankAccountModelConverterStrategy(currencyResolver),
+				new MiraklShopToCanadianBankAccountModelConverterStrategy(currencyResolver),
+				new MiraklShopToIBANBankAccountModelConverterStrategy(currencyResolver),
+				new MiraklShopToUKBankAccountModelConverterStrategy(currencyResolver));
+		//@formatter:on
+		miraklToBankAccountModelExecutor = new MiraklToBankAccountModelExecutor(strategies);
+		miraklShops = new SyntheticMiraklShops(seed).shopsWithBankAccount(shops, bankAccountType);
+	}
+
+	@Benchmark
+	public void convert(final Blackhole blackhole) {
+		miraklShops.forEach(miraklShop -> blackhole.consume(miraklToBankAccountModelExecutor.execute(miraklShop)));
+	}
+
+}
@@ -0,0 +1,111 @@
+package com.paypal.sellers.bankaccountextract.converter.impl.miraklshop.currency;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paypal.sellers.bankaccountextract.model.TransferType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolves the bank account types and the sorted currency candidates of every country,
+ * currency and transfer type combination included in
+ * {@code hwapi-bankaccount-constraints.json}, comparing the scan over all the entries
+ * that used to be done with the lookups in the compiled constraint tables.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HyperwalletBankAccountCurrencyRestrictionsBenchmark {
+
+	private HyperwalletBankAccountCurrencyRestrictions restrictions;
+
+	private HyperwalletBankAccountCurrencyPriorityResolver priorityResolver;
+
+	private List<HyperwalletBankAccountCurrencyRestrictions.CountryCurrencyEntry> countryCurrencyEntries;
+
+	private List<String[]> combinations;
+
+	@Setup
+	public void setUp() throws IOException {
+		restrictions = new HyperwalletBankAccountCurrencyRestrictionsLoader("", 0).countryCurrencyConfiguration();
+
+		final HyperwalletBankAccountCurrencyResolutionConfiguration configuration = new HyperwalletBankAccountCurrencyResolutionConfiguration(
+				"USD,GBP,EUR;GB:GBP,EUR;CA:CAD,USD");
+		configuration.setOverrideCurrencySelectionPriority(true);
+		configuration.setPrioritizeBankAccountTypeOverCurrency(true);
+		priorityResolver = new HyperwalletBankAccountCurrencyPriorityResolver(configuration);
+
+		final Set<String> bankAccountTypes = new LinkedHashSet<>();
+		final Set<List<String>> uniqueCombinations = new LinkedHashSet<>();
+		try (InputStream inputStream = getClass().getClassLoader()
+				.getResourceAsStream("hwapi-bankaccount-constraints.json")) {
+			final List<Map<String, String>> jsonEntries = new ObjectMapper().readValue(inputStream,
+					new TypeReference<>() {
+					});
+			for (final Map<String, String> jsonEntry : jsonEntries) {
+				bankAccountTypes.add(jsonEntry.get("bankAccountType"));
+				uniqueCombinations.add(List.of(jsonEntry.get("bankAccountType"), jsonEntry.get("country"),
+						jsonEntry.get("currency"), jsonEntry.get("transferType")));
+			}
+		}
+		combinations = new ArrayList<>();
+		uniqueCombinations.forEach(combination -> combinations.add(combination.toArray(String[]::new)));
+
+		countryCurrencyEntries = new ArrayList<>();
+		final Set<String> countries = new LinkedHashSet<>();
+		combinations.forEach(combination -> countries.add(combination[1]));
+		for (final String bankAccountType : bankAccountTypes) {
+			for (final String country : countries) {
+				final List<HyperwalletBankAccountCurrencyInfo> currencies = restrictions
+						.getCurrenciesFor(bankAccountType, country);
+				if (!currencies.isEmpty()) {
+					countryCurrencyEntries.add(new HyperwalletBankAccountCurrencyRestrictions.CountryCurrencyEntry(
+							bankAccountType, country, currencies));
+				}
+			}
+		}
+	}
+
+	@Benchmark
+	public void bankAccountTypeLinearScan(final Blackhole blackhole) {
+		for (final String[] combination : combinations) {
+			final TransferType transferType = TransferType.valueOf(combination[3]);
+			for (final HyperwalletBankAccountCurrencyRestrictions.CountryCurrencyEntry entry : countryCurrencyEntries) {
+				if (entry.getCountry().equals(combination[1]) && entry.getSupportedCurrencies().stream()
+						.anyMatch(info -> info.getCurrency().equals(combination[2])
+								&& info.getTransferType().equals(transferType))) {
+					blackhole.consume(entry);
+				}
+			}
+		}
+	}
+
+	@Benchmark
+	public void bankAccountTypeIndexedLookup(final Blackhole blackhole) {
+		for (final String[] combination : combinations) {
+			blackhole.consume(
+					restrictions.getEntriesFor(combination[1], combination[2], TransferType.valueOf(combination[3])));
+		}
+	}
+
+	@Benchmark
+	public void sortedCurrencyCandidates(final Blackhole blackhole) {
+		for (final String[] combination : combinations) {
+			blackhole.consume(priorityResolver
+					.sortCurrenciesByPriority(restrictions.getCurrenciesFor(combination[0], combination[1])));
+		}
+	}
+
+}
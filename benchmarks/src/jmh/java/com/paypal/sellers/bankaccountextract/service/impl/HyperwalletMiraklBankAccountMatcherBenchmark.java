@@ -0,0 +1,115 @@
+package com.paypal.sellers.bankaccountextract.service.impl;
+
+import com.hyperwallet.clientsdk.model.HyperwalletBankAccount;
+import com.paypal.sellers.bankaccountextract.converter.impl.miraklshop.bankaccounttype.HyperwalletBankAccountTypeResolver;
+import com.paypal.sellers.bankaccountextract.model.BankAccountModel;
+import com.paypal.sellers.bankaccountextract.model.BankAccountType;
+import com.paypal.sellers.bankaccountextract.model.IBANBankAccountModel;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the matching of a Mirakl bank account against the Hyperwallet bank accounts of
+ * a seller with many historical bank accounts, scanning the list of candidates for every
+ * kind of match as it used to be done versus looking them up in an index, both when the
+ * index has to be built and when it's taken from the per-user cache.
+ * <p>
+ * The Mirakl bank account matches the last Hyperwallet bank account of the seller, which
+ * is the worst case for the linear scan.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HyperwalletMiraklBankAccountMatcherBenchmark {
+
+	private static final String[] COUNTRIES = { "ES", "FR", "DE", "IT", "GB", "US", "CA", "NL" };
+
+	private static final String[] CURRENCIES = { "EUR", "GBP", "USD", "CAD" };
+
+	@Param({ "10", "100", "1000" })
+	private int bankAccounts;
+
+	@Param({ "42" })
+	private long seed;
+
+	private HyperwalletMiraklBankAccountMatcher matcher;
+
+	private HyperwalletMiraklBankAccountCompatibilityChecker compatibilityChecker;
+
+	private HyperwalletMiraklBankAccountEqualityChecker equalityChecker;
+
+	private List<HyperwalletBankAccount> hyperwalletBankAccounts;
+
+	private HyperwalletBankAccountsIndex hyperwalletBankAccountsIndex;
+
+	private BankAccountModel miraklBankAccount;
+
+	@Setup
+	public void setUp() {
+		final HyperwalletBankAccountTypeResolver typeResolver = hyperwalletBankAccount -> BankAccountType.IBAN;
+		compatibilityChecker = new HyperwalletMiraklBankAccountCompatibilityChecker(typeResolver);
+		equalityChecker = new HyperwalletMiraklBankAccountEqualityChecker();
+		matcher = new HyperwalletMiraklBankAccountMatcher(compatibilityChecker, equalityChecker, typeResolver);
+
+		final Random random = new Random(seed);
+		hyperwalletBankAccounts = new ArrayList<>(bankAccounts);
+		for (int i = 0; i < bankAccounts; i++) {
+			final HyperwalletBankAccount hyperwalletBankAccount = new HyperwalletBankAccount();
+			hyperwalletBankAccount.setToken("trm-" + i);
+			hyperwalletBankAccount.setType(HyperwalletBankAccount.Type.BANK_ACCOUNT);
+			hyperwalletBankAccount.setTransferMethodCountry(COUNTRIES[random.nextInt(COUNTRIES.length)]);
+			hyperwalletBankAccount.setTransferMethodCurrency(CURRENCIES[random.nextInt(CURRENCIES.length)]);
+			hyperwalletBankAccount.setBankAccountId(String.format("****%04d", random.nextInt(10000)));
+			hyperwalletBankAccount.setBankId("BIC" + random.nextInt(100));
+			hyperwalletBankAccounts.add(hyperwalletBankAccount);
+		}
+
+		final HyperwalletBankAccount target = hyperwalletBankAccounts.get(bankAccounts - 1);
+		//@formatter:off
+		miraklBankAccount = IBANBankAccountModel.builder()
+				.transferMethodCountry(target.getTransferMethodCountry())
+				.transferMethodCurrency(target.getTransferMethodCurrency())
+				.type(BankAccountType.IBAN)
+				.bankAccountNumber("ES91210004184502" + target.getBankAccountId().substring(4))
+				.bankBic(target.getBankId())
+				.build();
+		//@formatter:on
+
+		hyperwalletBankAccountsIndex = matcher.index(hyperwalletBankAccounts);
+	}
+
+	@Benchmark
+	public Optional<HyperwalletBankAccount> linearScan() {
+		//@formatter:off
+		return hyperwalletBankAccounts.stream()
+				.filter(candidate -> candidate.getToken().equals(miraklBankAccount.getToken()))
+				.filter(candidate -> compatibilityChecker.isBankAccountCompatible(candidate, miraklBankAccount))
+				.findFirst()
+				.or(() -> hyperwalletBankAccounts.stream()
+						.filter(candidate -> equalityChecker.isSameBankAccount(candidate, miraklBankAccount))
+						.findFirst())
+				.or(() -> hyperwalletBankAccounts.stream()
+						.filter(candidate -> compatibilityChecker.isBankAccountCompatible(candidate, miraklBankAccount))
+						.findFirst());
+		//@formatter:on
+	}
+
+	@Benchmark
+	public Optional<HyperwalletBankAccount> indexedLookupBuildingIndex() {
+		return matcher.findExactOrCompatibleMatch(hyperwalletBankAccounts, miraklBankAccount);
+	}
+
+	@Benchmark
+	public Optional<HyperwalletBankAccount> indexedLookupCachedIndex() {
+		return matcher.findExactOrCompatibleMatch(hyperwalletBankAccountsIndex, miraklBankAccount);
+	}
+
+}
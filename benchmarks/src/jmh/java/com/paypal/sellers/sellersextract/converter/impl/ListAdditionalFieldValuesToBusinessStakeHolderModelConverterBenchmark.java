@@ -0,0 +1,64 @@
+package com.paypal.sellers.sellersextract.converter.impl;
+
+import com.mirakl.client.mmp.domain.common.MiraklAdditionalFieldValue;
+import com.paypal.benchmarks.datasets.SyntheticMiraklShops;
+import com.paypal.sellers.infrastructure.configuration.SellersMiraklApiConfig;
+import org.apache.commons.lang3.tuple.Triple;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converts the five business stakeholders of a shop from its custom fields. Every
+ * attribute of a stakeholder is looked up among all the custom fields of the shop, so the
+ * shop also includes custom fields not read by the connector, shuffled with the ones of
+ * the stakeholders.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListAdditionalFieldValuesToBusinessStakeHolderModelConverterBenchmark {
+
+	private static final int BUSINESS_STAKE_HOLDERS = 5;
+
+	@Param({ "0", "50", "200" })
+	private int unrelatedFields;
+
+	@Param({ "42" })
+	private long seed;
+
+	private ListAdditionalFieldValuesToBusinessStakeHolderModelConverter converter;
+
+	private List<MiraklAdditionalFieldValue> additionalFieldValues;
+
+	@Setup
+	public void setUp() {
+		final SellersMiraklApiConfig sellersMiraklApiConfig = new SellersMiraklApiConfig();
+		sellersMiraklApiConfig.setTimeZone("UTC");
+		converter = MiraklShopToSellerModelConvertersBenchmark
+				.businessStakeHolderModelConverter(sellersMiraklApiConfig);
+
+		final SyntheticMiraklShops syntheticMiraklShops = new SyntheticMiraklShops(seed);
+		additionalFieldValues = new ArrayList<>(syntheticMiraklShops.unrelatedFields(unrelatedFields));
+		for (int i = 1; i <= BUSINESS_STAKE_HOLDERS; i++) {
+			additionalFieldValues.addAll(syntheticMiraklShops.businessStakeHolderFields(i));
+		}
+		Collections.shuffle(additionalFieldValues, new Random(seed));
+	}
+
+	@Benchmark
+	public void convert(final Blackhole blackhole) {
+		for (int i = 1; i <= BUSINESS_STAKE_HOLDERS; i++) {
+			blackhole.consume(converter.convert(Triple.of(additionalFieldValues, i, "2000")));
+		}
+	}
+
+}
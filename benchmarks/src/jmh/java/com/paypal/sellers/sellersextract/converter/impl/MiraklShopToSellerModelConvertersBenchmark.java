@@ -0,0 +1,110 @@
+package com.paypal.sellers.sellersextract.converter.impl;
+
+import com.mirakl.client.mmp.domain.shop.MiraklShop;
+import com.paypal.benchmarks.datasets.SyntheticMiraklShops;
+import com.paypal.infrastructure.strategy.Strategy;
+import com.paypal.sellers.bankaccountextract.converter.impl.miraklshop.MiraklShopToABABankAccountModelConverterStrategy;
+import com.paypal.sellers.bankaccountextract.converter.impl.miraklshop.MiraklShopToCanadianBankAccountModelConverterStrategy;
+import com.paypal.sellers.bankaccountextract.converter.impl.miraklshop.MiraklShopToIBANBankAccountModelConverterStrategy;
+import com.paypal.sellers.bankaccountextract.converter.impl.miraklshop.MiraklShopToUKBankAccountModelConverterStrategy;
+import com.paypal.sellers.bankaccountextract.converter.impl.miraklshop.MiraklToBankAccountModelExecutor;
+import com.paypal.sellers.bankaccountextract.converter.impl.miraklshop.currency.HyperwalletBankAccountCurrencyPriorityResolver;
+import com.paypal.sellers.bankaccountextract.converter.impl.miraklshop.currency.HyperwalletBankAccountCurrencyResolutionConfiguration;
+import com.paypal.sellers.bankaccountextract.converter.impl.miraklshop.currency.HyperwalletBankAccountCurrencyResolver;
+import com.paypal.sellers.bankaccountextract.converter.impl.miraklshop.currency.HyperwalletBankAccountCurrencyResolverImpl;
+import com.paypal.sellers.bankaccountextract.converter.impl.miraklshop.currency.HyperwalletBankAccountCurrencyRestrictionsLoader;
+import com.paypal.sellers.bankaccountextract.model.BankAccountModel;
+import com.paypal.sellers.infrastructure.configuration.SellersMiraklApiConfig;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Converts synthetic Mirakl shops into sellers as the sellers extract jobs do, with the
+ * conversion of their bank accounts and, for professional shops, of their business
+ * stakeholders.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MiraklShopToSellerModelConvertersBenchmark {
+
+	@Param({ "1000" })
+	private int shops;
+
+	@Param({ "1", "5" })
+	private int businessStakeHolders;
+
+	@Param({ "42" })
+	private long seed;
+
+	private MiraklShopToIndividualSellerModelConverter individualSellerModelConverter;
+
+	private MiraklShopToProfessionalSellerModelConverter professionalSellerModelConverter;
+
+	private List<MiraklShop> individualShops;
+
+	private List<MiraklShop> professionalShops;
+
+	@Setup
+	public void setUp() {
+		final SellersMiraklApiConfig sellersMiraklApiConfig = new SellersMiraklApiConfig();
+		sellersMiraklApiConfig.setTimeZone("UTC");
+
+		final HyperwalletBankAccountCurrencyResolutionConfiguration configuration = new HyperwalletBankAccountCurrencyResolutionConfiguration(
+				"USD,GBP,EUR;GB:GBP,EUR;CA:CAD,USD");
+		configuration.setEnableAutomaticCurrencySelection(true);
+		final HyperwalletBankAccountCurrencyResolver currencyResolver = new HyperwalletBankAccountCurrencyResolverImpl(
+				new HyperwalletBankAccountCurrencyRestrictionsLoader("", 0).countryCurrencyConfiguration(),
+				configuration, new HyperwalletBankAccountCurrencyPriorityResolver(configuration));
+		//@formatter:off
+		final Set<Strategy<MiraklShop, BankAccountModel>> bankAccountStrategies = Set.of(
+				new MiraklShopToABABankAccountModelConverterStrategy(currencyResolver),
+				new MiraklShopToCanadianBankAccountModelConverterStrategy(currencyResolver),
+				new MiraklShopToIBANBankAccountModelConverterStrategy(currencyResolver),
+				new MiraklShopToUKBankAccountModelConverterStrategy(currencyResolver));
+		//@formatter:on
+		final MiraklToBankAccountModelExecutor bankAccountModelExecutor = new MiraklToBankAccountModelExecutor(
+				bankAccountStrategies);
+
+		individualSellerModelConverter = new MiraklShopToIndividualSellerModelConverter(bankAccountModelExecutor,
+				sellersMiraklApiConfig);
+		professionalSellerModelConverter = new MiraklShopToProfessionalSellerModelConverter(bankAccountModelExecutor,
+				businessStakeHolderModelConverter(sellersMiraklApiConfig), sellersMiraklApiConfig);
+
+		final SyntheticMiraklShops syntheticMiraklShops = new SyntheticMiraklShops(seed);
+		individualShops = syntheticMiraklShops.individualShops(shops);
+		professionalShops = syntheticMiraklShops.professionalShops(shops, businessStakeHolders);
+	}
+
+	@Benchmark
+	public void individualShops(final Blackhole blackhole) {
+		individualShops.forEach(miraklShop -> blackhole.consume(individualSellerModelConverter.execute(miraklShop)));
+	}
+
+	@Benchmark
+	public void professionalShops(final Blackhole blackhole) {
+		professionalShops
+				.forEach(miraklShop -> blackhole.consume(professionalSellerModelConverter.execute(miraklShop)));
+	}
+
+	static ListAdditionalFieldValuesToBusinessStakeHolderModelConverter businessStakeHolderModelConverter(
+			final SellersMiraklApiConfig sellersMiraklApiConfig) {
+		final ListAdditionalFieldValuesToBusinessStakeHolderModelConverter converter = new ListAdditionalFieldValuesToBusinessStakeHolderModelConverter();
+		final Field sellersMiraklApiConfigField = ReflectionUtils.findField(converter.getClass(),
+				"sellersMiraklApiConfig");
+		ReflectionUtils.makeAccessible(sellersMiraklApiConfigField);
+		ReflectionUtils.setField(sellersMiraklApiConfigField, converter, sellersMiraklApiConfig);
+
+		return converter;
+	}
+
+}
@@ -0,0 +1,76 @@
+package com.paypal.infrastructure.test.load;
+
+import org.mockserver.model.Delay;
+import org.mockserver.model.HttpResponse;
+import org.springframework.http.HttpStatus;
+
+import java.util.Random;
+
+import static org.mockserver.model.HttpResponse.response;
+
+/**
+ * Latency and errors injected in the responses of the load test mocks. Every response is
+ * delayed a random time between the minimum and maximum latency, and a fraction of them,
+ * given by the error rate, are replaced by a {@code 503 Service Unavailable} response.
+ * The random values are generated from a seed, so the same seed always injects the
+ * same faults for the same sequence of requests.
+ */
+public class EndpointFaults {
+
+	/**
+	 * Faults that don't delay nor fail any response.
+	 */
+	public static final EndpointFaults NONE = new EndpointFaults(0, 0, 0, 0);
+
+	private final long minLatencyMillis;
+
+	private final long maxLatencyMillis;
+
+	private final double errorRate;
+
+	private final Random random;
+
+	/**
+	 * Creates the faults to inject in the responses of a mock.
+	 * @param minLatencyMillis minimum latency of the responses in milliseconds.
+	 * @param maxLatencyMillis maximum latency of the responses in milliseconds.
+	 * @param errorRate fraction of responses that fail, between {@code 0} and {@code 1}.
+	 * @param seed seed of the random latencies and errors.
+	 */
+	public EndpointFaults(final long minLatencyMillis, final long maxLatencyMillis, final double errorRate,
+			final long seed) {
+		if (minLatencyMillis < 0 || maxLatencyMillis < minLatencyMillis) {
+			throw new IllegalArgumentException(String.format("Invalid latency range [%d, %d]", minLatencyMillis,
+					maxLatencyMillis));
+		}
+		if (errorRate < 0 || errorRate > 1) {
+			throw new IllegalArgumentException(String.format("Invalid error rate [%f]", errorRate));
+		}
+		this.minLatencyMillis = minLatencyMillis;
+		this.maxLatencyMillis = maxLatencyMillis;
+		this.errorRate = errorRate;
+		this.random = new Random(seed);
+	}
+
+	/**
+	 * Applies the faults to a response, delaying it or replacing it by an error response.
+	 * @param httpResponse the response returned by the mock when no error is injected.
+	 * @return the response to return.
+	 */
+	public HttpResponse apply(final HttpResponse httpResponse) {
+		final HttpResponse faultyResponse = errorRate > 0 && random.nextDouble() < errorRate
+				? response().withStatusCode(HttpStatus.SERVICE_UNAVAILABLE.value()) : httpResponse;
+		final long latencyMillis = nextLatencyMillis();
+
+		return latencyMillis > 0 ? faultyResponse.withDelay(Delay.milliseconds(latencyMillis)) : faultyResponse;
+	}
+
+	private long nextLatencyMillis() {
+		if (maxLatencyMillis == minLatencyMillis) {
+			return minLatencyMillis;
+		}
+
+		return minLatencyMillis + (long) (random.nextDouble() * (maxLatencyMillis - minLatencyMillis + 1));
+	}
+
+}
@@ -0,0 +1,63 @@
+package com.paypal.infrastructure.test.load;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records latencies and calculates their percentiles. All the latencies are kept, so the
+ * percentiles are exact, which is affordable for the number of items of a load test.
+ */
+public class LatencyRecorder {
+
+	private static final int INITIAL_CAPACITY = 1024;
+
+	private long[] latencies = new long[INITIAL_CAPACITY];
+
+	private int count;
+
+	/**
+	 * Records a latency.
+	 * @param latencyNanos the latency in nanoseconds.
+	 */
+	public synchronized void record(final long latencyNanos) {
+		if (count == latencies.length) {
+			latencies = Arrays.copyOf(latencies, latencies.length * 2);
+		}
+		latencies[count++] = latencyNanos;
+	}
+
+	/**
+	 * Returns the number of recorded latencies.
+	 * @return the number of recorded latencies.
+	 */
+	public synchronized int getCount() {
+		return count;
+	}
+
+	/**
+	 * Returns the given percentile of the recorded latencies, using the nearest-rank
+	 * method.
+	 * @param percentile the percentile, between {@code 0} and {@code 100}.
+	 * @return the percentile in milliseconds, or {@code 0} if no latency was recorded.
+	 */
+	public synchronized double getPercentileMillis(final double percentile) {
+		if (count == 0) {
+			return 0;
+		}
+
+		final long[] sortedLatencies = Arrays.copyOf(latencies, count);
+		Arrays.sort(sortedLatencies);
+		final int rank = (int) Math.ceil(percentile / 100 * count);
+
+		return (double) sortedLatencies[Math.max(rank, 1) - 1] / TimeUnit.MILLISECONDS.toNanos(1);
+	}
+
+	/**
+	 * Discards all the recorded latencies.
+	 */
+	public synchronized void reset() {
+		latencies = new long[INITIAL_CAPACITY];
+		count = 0;
+	}
+
+}
@@ -0,0 +1,97 @@
+package com.paypal.infrastructure.test.load;
+
+import com.paypal.infrastructure.batchjob.BatchJobContext;
+import com.paypal.infrastructure.batchjob.BatchJobItem;
+import com.paypal.infrastructure.batchjob.listeners.AbstractBatchJobProcessingListenerSupport;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Batch job processing listener that records the number of items processed by the batch
+ * jobs executed during a load test, and the time taken to enrich, validate and process
+ * each of them.
+ */
+public class LoadTestBatchJobProcessingListener extends AbstractBatchJobProcessingListenerSupport {
+
+	private final Map<String, Long> itemStartTimes = new ConcurrentHashMap<>();
+
+	private final AtomicInteger items = new AtomicInteger();
+
+	private final AtomicInteger failedItems = new AtomicInteger();
+
+	private final LatencyRecorder latencyRecorder = new LatencyRecorder();
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void beforeProcessingItem(final BatchJobContext ctx, final BatchJobItem<?> item) {
+		// Items of the same job are processed sequentially
+		itemStartTimes.put(ctx.getJobUuid(), System.nanoTime());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onItemProcessingSuccess(final BatchJobContext ctx, final BatchJobItem<?> item) {
+		recordItem(ctx);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onItemProcessingFailure(final BatchJobContext ctx, final BatchJobItem<?> item, final Exception e) {
+		failedItems.incrementAndGet();
+		recordItem(ctx);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onBatchJobFinished(final BatchJobContext ctx) {
+		itemStartTimes.remove(ctx.getJobUuid());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onBatchJobFailure(final BatchJobContext ctx, final Exception e) {
+		itemStartTimes.remove(ctx.getJobUuid());
+	}
+
+	public int getItems() {
+		return items.get();
+	}
+
+	public int getFailedItems() {
+		return failedItems.get();
+	}
+
+	public LatencyRecorder getLatencyRecorder() {
+		return latencyRecorder;
+	}
+
+	/**
+	 * Discards the items recorded until now, to start a new load test run.
+	 */
+	public void reset() {
+		items.set(0);
+		failedItems.set(0);
+		latencyRecorder.reset();
+	}
+
+	private void recordItem(final BatchJobContext ctx) {
+		items.incrementAndGet();
+		final Long itemStartTime = itemStartTimes.remove(ctx.getJobUuid());
+		if (itemStartTime != null) {
+			latencyRecorder.record(System.nanoTime() - itemStartTime);
+		}
+	}
+
+}
@@ -0,0 +1,65 @@
+package com.paypal.infrastructure.test.load;
+
+import lombok.Getter;
+import org.quartz.Scheduler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the load tests. The defaults of {@code load-test.properties} can be
+ * overridden with system properties of the same name.
+ */
+@Getter
+@Configuration
+@PropertySource({ "classpath:load-test.properties" })
+public class LoadTestConfig {
+
+	@Value("${loadtest.seed}")
+	private long seed;
+
+	@Value("${loadtest.items}")
+	private int items;
+
+	@Value("${loadtest.concurrency}")
+	private int concurrency;
+
+	@Value("${loadtest.timeoutSeconds}")
+	private long timeoutSeconds;
+
+	@Value("${loadtest.faults.minLatencyMillis}")
+	private long minLatencyMillis;
+
+	@Value("${loadtest.faults.maxLatencyMillis}")
+	private long maxLatencyMillis;
+
+	@Value("${loadtest.faults.errorRate}")
+	private double errorRate;
+
+	@Bean
+	public LoadTestBatchJobProcessingListener loadTestBatchJobProcessingListener() {
+		return new LoadTestBatchJobProcessingListener();
+	}
+
+	@Bean
+	public LoadTestRunner loadTestRunner(final Scheduler scheduler,
+			final LoadTestBatchJobProcessingListener loadTestBatchJobProcessingListener) {
+		return new LoadTestRunner(scheduler, loadTestBatchJobProcessingListener);
+	}
+
+	public Duration getTimeout() {
+		return Duration.ofSeconds(timeoutSeconds);
+	}
+
+	/**
+	 * Creates the faults to inject in the responses of the mocks of an API.
+	 * @return the faults of the configured latency and error rate.
+	 */
+	public EndpointFaults endpointFaults() {
+		return new EndpointFaults(minLatencyMillis, maxLatencyMillis, errorRate, seed);
+	}
+
+}
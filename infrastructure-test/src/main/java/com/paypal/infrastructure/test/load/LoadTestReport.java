@@ -0,0 +1,84 @@
+package com.paypal.infrastructure.test.load;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Results of a load test run: the number of items processed, the throughput, the p50 and
+ * p99 latencies of the items and the peak heap usage during the run.
+ */
+public class LoadTestReport {
+
+	private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+
+	private final String name;
+
+	private final int items;
+
+	private final int failedItems;
+
+	private final Duration duration;
+
+	private final double p50LatencyMillis;
+
+	private final double p99LatencyMillis;
+
+	private final long peakHeapBytes;
+
+	public LoadTestReport(final String name, final int items, final int failedItems, final Duration duration,
+			final LatencyRecorder latencyRecorder, final long peakHeapBytes) {
+		this.name = name;
+		this.items = items;
+		this.failedItems = failedItems;
+		this.duration = duration;
+		this.p50LatencyMillis = latencyRecorder.getPercentileMillis(50);
+		this.p99LatencyMillis = latencyRecorder.getPercentileMillis(99);
+		this.peakHeapBytes = peakHeapBytes;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getItems() {
+		return items;
+	}
+
+	public int getFailedItems() {
+		return failedItems;
+	}
+
+	public Duration getDuration() {
+		return duration;
+	}
+
+	/**
+	 * Returns the number of items, successful or failed, processed per second.
+	 * @return the throughput of the run.
+	 */
+	public double getItemsPerSecond() {
+		return duration.isZero() ? 0 : items * (double) TimeUnit.SECONDS.toNanos(1) / duration.toNanos();
+	}
+
+	public double getP50LatencyMillis() {
+		return p50LatencyMillis;
+	}
+
+	public double getP99LatencyMillis() {
+		return p99LatencyMillis;
+	}
+
+	public long getPeakHeapBytes() {
+		return peakHeapBytes;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+				"[%s] items: %d, failed: %d, duration: %d ms, throughput: %.1f items/s, p50: %.2f ms, p99: %.2f ms, "
+						+ "peak heap: %d MB",
+				name, items, failedItems, duration.toMillis(), getItemsPerSecond(), p50LatencyMillis,
+				p99LatencyMillis, peakHeapBytes / BYTES_PER_MEGABYTE);
+	}
+
+}
@@ -0,0 +1,20 @@
+package com.paypal.infrastructure.test.load;
+
+/**
+ * Request sent to an endpoint of the connector during a load test.
+ *
+ * @param <T> the type of the payload of the request.
+ */
+@FunctionalInterface
+public interface LoadTestRequest<T> {
+
+	/**
+	 * Sends the request with the given payload, failing if the connector doesn't accept
+	 * it.
+	 * @param payload the payload of the request.
+	 * @throws Exception if the request fails.
+	 */
+	@SuppressWarnings("java:S112")
+	void send(T payload) throws Exception;
+
+}
@@ -0,0 +1,175 @@
+package com.paypal.infrastructure.test.load;
+
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.JobKey;
+import org.quartz.JobListener;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.impl.matchers.KeyMatcher;
+import org.quartz.listeners.JobListenerSupport;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Runs the load tests of the connector, executing its batch jobs through the Quartz
+ * scheduler as in production, or sending requests to its endpoints, and reports the
+ * throughput, the latency percentiles and the peak heap usage of each run.
+ * <p>
+ * The peak heap usage is the sum of the peak usages of the heap memory pools since the
+ * start of the run, so it's an upper bound of the real peak.
+ */
+@Slf4j
+public class LoadTestRunner {
+
+	private final Scheduler scheduler;
+
+	private final LoadTestBatchJobProcessingListener loadTestBatchJobProcessingListener;
+
+	public LoadTestRunner(final Scheduler scheduler,
+			final LoadTestBatchJobProcessingListener loadTestBatchJobProcessingListener) {
+		this.scheduler = scheduler;
+		this.loadTestBatchJobProcessingListener = loadTestBatchJobProcessingListener;
+	}
+
+	/**
+	 * Triggers the given job and waits for it to finish. All the batch jobs executed by
+	 * the job are included in the report.
+	 * @param jobKey the key of the job.
+	 * @param timeout maximum time to wait for the job to finish.
+	 * @return the report of the run.
+	 * @throws SchedulerException if the job can't be triggered.
+	 * @throws InterruptedException if interrupted while waiting for the job to finish.
+	 */
+	public LoadTestReport runJob(final JobKey jobKey, final Duration timeout)
+			throws SchedulerException, InterruptedException {
+		final CountDownLatch jobFinished = new CountDownLatch(1);
+		final JobListener jobFinishedListener = new JobFinishedListener(jobKey, jobFinished);
+		scheduler.getListenerManager().addJobListener(jobFinishedListener, KeyMatcher.keyEquals(jobKey));
+		loadTestBatchJobProcessingListener.reset();
+		try {
+			final List<MemoryPoolMXBean> heapMemoryPools = resetHeapPeakUsage();
+			final long start = System.nanoTime();
+			scheduler.triggerJob(jobKey);
+			if (!jobFinished.await(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+				throw new IllegalStateException(String.format("Job [%s] didn't finish in %d seconds", jobKey,
+						timeout.toSeconds()));
+			}
+			final Duration duration = Duration.ofNanos(System.nanoTime() - start);
+
+			return report(new LoadTestReport(jobKey.getName(), loadTestBatchJobProcessingListener.getItems(),
+					loadTestBatchJobProcessingListener.getFailedItems(), duration,
+					loadTestBatchJobProcessingListener.getLatencyRecorder(), getHeapPeakUsage(heapMemoryPools)));
+		}
+		finally {
+			scheduler.getListenerManager().removeJobListener(jobFinishedListener.getName());
+		}
+	}
+
+	/**
+	 * Sends a request for every payload from the given number of concurrent clients, and
+	 * waits for all of them to finish. Requests that throw an exception are reported as
+	 * failed.
+	 * @param name name of the run.
+	 * @param payloads the payloads of the requests.
+	 * @param concurrency number of concurrent clients.
+	 * @param timeout maximum time to wait for all the requests to finish.
+	 * @param request the request to send.
+	 * @param <T> the type of the payloads.
+	 * @return the report of the run.
+	 * @throws InterruptedException if interrupted while waiting for the requests to
+	 * finish.
+	 */
+	public <T> LoadTestReport runRequests(final String name, final List<T> payloads, final int concurrency,
+			final Duration timeout, final LoadTestRequest<T> request) throws InterruptedException {
+		final LatencyRecorder latencyRecorder = new LatencyRecorder();
+		final AtomicInteger failedRequests = new AtomicInteger();
+		final ExecutorService executorService = Executors.newFixedThreadPool(concurrency);
+		try {
+			final List<MemoryPoolMXBean> heapMemoryPools = resetHeapPeakUsage();
+			final long start = System.nanoTime();
+			payloads.forEach(payload -> executorService.execute(() -> {
+				final long requestStart = System.nanoTime();
+				try {
+					request.send(payload);
+				}
+				catch (final Exception e) {
+					failedRequests.incrementAndGet();
+					log.debug("Request of load test [{}] failed", name, e);
+				}
+				latencyRecorder.record(System.nanoTime() - requestStart);
+			}));
+			executorService.shutdown();
+			if (!executorService.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+				throw new IllegalStateException(String.format("Requests of load test [%s] didn't finish in %d seconds",
+						name, timeout.toSeconds()));
+			}
+			final Duration duration = Duration.ofNanos(System.nanoTime() - start);
+
+			return report(new LoadTestReport(name, payloads.size(), failedRequests.get(), duration, latencyRecorder,
+					getHeapPeakUsage(heapMemoryPools)));
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private static LoadTestReport report(final LoadTestReport loadTestReport) {
+		log.info("Load test finished: {}", loadTestReport);
+
+		return loadTestReport;
+	}
+
+	private static List<MemoryPoolMXBean> resetHeapPeakUsage() {
+		//@formatter:off
+		final List<MemoryPoolMXBean> heapMemoryPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+				.filter(memoryPool -> memoryPool.getType() == MemoryType.HEAP)
+				.collect(Collectors.toList());
+		//@formatter:on
+		heapMemoryPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+		return heapMemoryPools;
+	}
+
+	private static long getHeapPeakUsage(final List<MemoryPoolMXBean> heapMemoryPools) {
+		return heapMemoryPools.stream().mapToLong(memoryPool -> memoryPool.getPeakUsage().getUsed()).sum();
+	}
+
+	/**
+	 * Job listener that signals when an execution of a job has finished.
+	 */
+	private static class JobFinishedListener extends JobListenerSupport {
+
+		private final JobKey jobKey;
+
+		private final CountDownLatch jobFinished;
+
+		private JobFinishedListener(final JobKey jobKey, final CountDownLatch jobFinished) {
+			this.jobKey = jobKey;
+			this.jobFinished = jobFinished;
+		}
+
+		@Override
+		public String getName() {
+			return "loadTestJobFinishedListener-" + jobKey;
+		}
+
+		@Override
+		public void jobWasExecuted(final JobExecutionContext context, final JobExecutionException jobException) {
+			jobFinished.countDown();
+		}
+
+	}
+
+}
@@ -0,0 +1,288 @@
+package com.paypal.infrastructure.test.load;
+
+import com.mirakl.client.mmp.domain.common.MiraklAdditionalFieldValue;
+import com.mirakl.client.mmp.domain.common.MiraklAdditionalFieldValue.MiraklBooleanAdditionalFieldValue;
+import com.mirakl.client.mmp.domain.common.MiraklAdditionalFieldValue.MiraklStringAdditionalFieldValue;
+import com.mirakl.client.mmp.domain.common.MiraklAdditionalFieldValue.MiraklValueListAdditionalFieldValue;
+import com.mirakl.client.mmp.domain.common.currency.MiraklIsoCurrencyCode;
+import com.mirakl.client.mmp.domain.shop.MiraklContactInformation;
+import com.mirakl.client.mmp.domain.shop.MiraklProfessionalInformation;
+import com.mirakl.client.mmp.domain.shop.MiraklShop;
+import com.mirakl.client.mmp.domain.shop.bank.MiraklIbanBankAccountInformation;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generates the Mirakl shops, shop documents and invoices, and the Hyperwallet webhook
+ * notifications used by the load tests. Shops are generated as Mirakl SDK objects, while
+ * documents, invoices and notifications are generated with the JSON structure of the
+ * Mirakl and Hyperwallet API responses. The same seed always generates the same data, so
+ * the results of different runs are comparable.
+ */
+public class SyntheticLoadTestData {
+
+	public static final String HYPERWALLET_PROGRAM = "DEFAULT";
+
+	private static final long FIRST_SHOP_ID = 10000;
+
+	private static final int BUSINESS_STAKE_HOLDERS = 2;
+
+	private static final String[] FIRST_NAMES = { "John", "Maria", "Wei", "Amara", "Lucas", "Sofia", "Omar", "Emma" };
+
+	private static final String[] LAST_NAMES = { "Smith", "Garcia", "Chen", "Okafor", "Martin", "Rossi", "Haddad" };
+
+	private static final String[] INDIVIDUAL_DOCUMENT_TYPES = { "hw-ind-proof-identity-front",
+			"hw-ind-proof-identity-back", "hw-ind-proof-address" };
+
+	private static final String[] PROFESSIONAL_DOCUMENT_TYPES = { "hw-prof-proof-business-front" };
+
+	private static final String[] NOTIFICATION_TYPES = { "PAYMENTS.UPDATED.STATUS.COMPLETED",
+			"USERS.UPDATED.VERIFICATION_STATUS.VERIFIED",
+			"USERS.BUSINESS_STAKEHOLDERS.UPDATED.VERIFICATION_STATUS.VERIFIED" };
+
+	private static final Instant CREATION_DATE = Instant.parse("2023-01-01T00:00:00Z");
+
+	private final Random random;
+
+	public SyntheticLoadTestData(final long seed) {
+		random = new Random(seed);
+	}
+
+	/**
+	 * Generates shops that are alternately individual and professional, with the custom
+	 * fields and the IBAN bank account needed to be processed by the extract jobs.
+	 * Professional shops have two business stakeholders.
+	 * @param count number of shops.
+	 * @return the generated shops.
+	 */
+	public List<MiraklShop> shops(final int count) {
+		final List<MiraklShop> miraklShops = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			miraklShops.add(shop(String.valueOf(FIRST_SHOP_ID + i), i % 2 == 1));
+		}
+
+		return miraklShops;
+	}
+
+	/**
+	 * Generates the documents uploaded for the given shop. Individual shops have their
+	 * proofs of identity and address, and professional shops their proof of business and
+	 * the proofs of identity of their business stakeholders.
+	 * @param miraklShop the shop.
+	 * @return the documents of the shop, as returned by the Mirakl shop documents API.
+	 */
+	public List<Map<String, Object>> shopDocuments(final MiraklShop miraklShop) {
+		final List<String> documentTypes = new ArrayList<>();
+		if (miraklShop.isProfessional()) {
+			documentTypes.addAll(List.of(PROFESSIONAL_DOCUMENT_TYPES));
+			for (int i = 1; i <= BUSINESS_STAKE_HOLDERS; i++) {
+				documentTypes.add("hw-bsh" + i + "-proof-identity-front");
+				documentTypes.add("hw-bsh" + i + "-proof-identity-back");
+			}
+		}
+		else {
+			documentTypes.addAll(List.of(INDIVIDUAL_DOCUMENT_TYPES));
+		}
+
+		final List<Map<String, Object>> documents = new ArrayList<>(documentTypes.size());
+		for (int i = 0; i < documentTypes.size(); i++) {
+			final Map<String, Object> document = new LinkedHashMap<>();
+			document.put("id", Long.parseLong(miraklShop.getId()) * 100 + i);
+			document.put("shop_id", Long.parseLong(miraklShop.getId()));
+			document.put("type", documentTypes.get(i));
+			document.put("file_name", documentTypes.get(i) + ".png");
+			document.put("date_uploaded", CREATION_DATE.plus(random.nextInt(30 * 24), ChronoUnit.HOURS).toString());
+			documents.add(document);
+		}
+
+		return documents;
+	}
+
+	/**
+	 * Generates the content of a document.
+	 * @param size size of the document in bytes.
+	 * @return the content of the document.
+	 */
+	public byte[] documentContent(final int size) {
+		final byte[] content = new byte[size];
+		random.nextBytes(content);
+
+		return content;
+	}
+
+	/**
+	 * Generates pending invoices of the given shops.
+	 * @param miraklShops the shops the invoices are issued to.
+	 * @param count number of invoices.
+	 * @return the invoices, as returned by the Mirakl invoices API.
+	 */
+	public List<Map<String, Object>> invoices(final List<MiraklShop> miraklShops, final int count) {
+		final List<Map<String, Object>> invoices = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			final MiraklShop miraklShop = miraklShops.get(random.nextInt(miraklShops.size()));
+			final BigDecimal amountTransferred = randomAmount();
+			final BigDecimal commissions = randomAmount();
+
+			final Map<String, Object> summary = new LinkedHashMap<>();
+			summary.put("amount_transferred", amountTransferred);
+			summary.put("amount_transferred_to_operator", commissions);
+			summary.put("total_commissions_incl_tax", commissions.negate());
+			summary.put("total_subscription_incl_tax", BigDecimal.ZERO);
+
+			final Map<String, Object> invoice = new LinkedHashMap<>();
+			invoice.put("invoice_id", String.valueOf(2000000 + i));
+			invoice.put("shop_id", Long.parseLong(miraklShop.getId()));
+			invoice.put("type", "AUTO_INVOICE");
+			invoice.put("state", "COMPLETE");
+			invoice.put("payment_status", "PENDING");
+			invoice.put("currency_iso_code", miraklShop.getCurrencyIsoCode().name());
+			invoice.put("date_created", CREATION_DATE.plus(random.nextInt(30 * 24), ChronoUnit.HOURS).toString());
+			invoice.put("total_charged_amount", amountTransferred.add(commissions));
+			invoice.put("summary", summary);
+			invoices.add(invoice);
+		}
+
+		return invoices;
+	}
+
+	/**
+	 * Generates Hyperwallet webhook notifications of payments and of KYC status changes of
+	 * users and business stakeholders of the given shops.
+	 * @param miraklShops the shops the notifications refer to.
+	 * @param count number of notifications.
+	 * @return the notifications, as sent by Hyperwallet.
+	 */
+	public List<Map<String, Object>> webhookNotifications(final List<MiraklShop> miraklShops, final int count) {
+		final List<Map<String, Object>> notifications = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			final MiraklShop miraklShop = miraklShops.get(random.nextInt(miraklShops.size()));
+			final String type = NOTIFICATION_TYPES[i % NOTIFICATION_TYPES.length];
+
+			final Map<String, Object> object = new LinkedHashMap<>();
+			object.put("token", (type.startsWith("PAYMENTS") ? "pmt-" : "usr-") + randomDigits(8));
+			object.put("clientUserId", miraklShop.getId());
+			object.put("programToken", "prg-" + randomDigits(8));
+			if (type.startsWith("PAYMENTS")) {
+				object.put("clientPaymentId", String.valueOf(2000000 + i));
+				object.put("status", "COMPLETED");
+			}
+			else {
+				object.put("verificationStatus", "VERIFIED");
+			}
+
+			final Map<String, Object> notification = new LinkedHashMap<>();
+			notification.put("token", "wbh-" + randomDigits(8) + "-" + i);
+			notification.put("type", type);
+			notification.put("createdOn", CREATION_DATE.plus(i, ChronoUnit.SECONDS).toString());
+			notification.put("object", object);
+			notifications.add(notification);
+		}
+
+		return notifications;
+	}
+
+	private MiraklShop shop(final String shopId, final boolean professional) {
+		final MiraklShop miraklShop = new MiraklShop();
+		miraklShop.setId(shopId);
+		miraklShop.setName("Shop " + shopId);
+		miraklShop.setProfessional(professional);
+		miraklShop.setCurrencyIsoCode(MiraklIsoCurrencyCode.EUR);
+
+		final MiraklContactInformation contactInformation = new MiraklContactInformation();
+		contactInformation.setFirstname(pick(FIRST_NAMES));
+		contactInformation.setLastname(pick(LAST_NAMES));
+		contactInformation.setEmail("seller" + shopId + "@example.com");
+		contactInformation.setStreet1(randomDigits(2) + " Main St");
+		contactInformation.setCity("City " + random.nextInt(100));
+		contactInformation.setZipCode(randomDigits(5));
+		contactInformation.setCountry("ESP");
+		miraklShop.setContactInformation(contactInformation);
+
+		final MiraklIbanBankAccountInformation paymentInformation = new MiraklIbanBankAccountInformation();
+		paymentInformation.setIban("ES" + randomDigits(22));
+		paymentInformation.setBic("CAIXESBBXXX");
+		paymentInformation.setOwner(contactInformation.getFirstname() + " " + contactInformation.getLastname());
+		paymentInformation.setBankCity(contactInformation.getCity());
+		miraklShop.setPaymentInformation(paymentInformation);
+
+		final List<MiraklAdditionalFieldValue> fields = new ArrayList<>();
+		fields.add(stringField("hw-user-token", "usr-" + shopId));
+		fields.add(stringField("hw-bankaccount-token", "trm-" + shopId));
+		fields.add(valueListField("hw-program", HYPERWALLET_PROGRAM));
+		fields.add(booleanField("hw-terms-consent", true));
+		if (professional) {
+			final MiraklProfessionalInformation professionalInformation = new MiraklProfessionalInformation();
+			professionalInformation.setCorporateName(pick(LAST_NAMES) + " Ltd");
+			professionalInformation.setIdentificationNumber(randomDigits(9));
+			miraklShop.setProfessionalInformation(professionalInformation);
+
+			fields.add(valueListField("hw-prof-proof-business-type", "INCORPORATION"));
+			fields.add(booleanField("hw-kyc-req-proof-identity-business", true));
+			fields.add(booleanField("hw-kyc-req-proof-authorization", false));
+			for (int i = 1; i <= BUSINESS_STAKE_HOLDERS; i++) {
+				fields.add(stringField("hw-stakeholder-token-" + i, "stk-" + shopId + "-" + i));
+				fields.add(booleanField("hw-stakeholder-req-proof-identity-" + i, true));
+				fields.add(valueListField("hw-stakeholder-proof-identity-type-" + i, "GOVERNMENT_ID"));
+				fields.add(stringField("hw-stakeholder-proof-identity-ctry-" + i, "ES"));
+				fields.add(booleanField("hw-stakeholder-business-contact-" + i, i == 1));
+			}
+		}
+		else {
+			fields.add(valueListField("hw-ind-proof-identity-type", "GOVERNMENT_ID"));
+			fields.add(valueListField("hw-ind-proof-address-type", "BANK_STATEMENT"));
+			fields.add(stringField("hw-ind-proof-identity-country", "ES"));
+		}
+		miraklShop.setAdditionalFieldValues(fields);
+
+		return miraklShop;
+	}
+
+	private BigDecimal randomAmount() {
+		return BigDecimal.valueOf(100 + random.nextInt(100000), 2);
+	}
+
+	private String randomDigits(final int length) {
+		final StringBuilder digits = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			digits.append(random.nextInt(10));
+		}
+
+		return digits.toString();
+	}
+
+	private <T> T pick(final T[] values) {
+		return values[random.nextInt(values.length)];
+	}
+
+	private static MiraklStringAdditionalFieldValue stringField(final String code, final String value) {
+		final MiraklStringAdditionalFieldValue field = new MiraklStringAdditionalFieldValue();
+		field.setCode(code);
+		field.setValue(value);
+
+		return field;
+	}
+
+	private static MiraklBooleanAdditionalFieldValue booleanField(final String code, final boolean value) {
+		final MiraklBooleanAdditionalFieldValue field = new MiraklBooleanAdditionalFieldValue();
+		field.setCode(code);
+		field.setValue(String.valueOf(value));
+
+		return field;
+	}
+
+	private static MiraklValueListAdditionalFieldValue valueListField(final String code, final String value) {
+		final MiraklValueListAdditionalFieldValue field = new MiraklValueListAdditionalFieldValue();
+		field.setCode(code);
+		field.setValue(value);
+
+		return field;
+	}
+
+}
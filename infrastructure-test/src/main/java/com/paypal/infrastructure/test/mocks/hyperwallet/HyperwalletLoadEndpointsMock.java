@@ -0,0 +1,77 @@
+package com.paypal.infrastructure.test.mocks.hyperwallet;
+
+import com.paypal.infrastructure.test.load.EndpointFaults;
+import org.mockserver.client.MockServerClient;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.HttpResponse;
+import org.mockserver.model.MediaType;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+
+/**
+ * Hyperwallet REST API used by the load tests. Every request is accepted: JSON bodies of
+ * creations and updates are returned back as the created or updated resource, requests
+ * of a single resource return a resource with the requested token and any other request
+ * returns an empty list. The given {@link EndpointFaults} are injected in every response.
+ */
+public class HyperwalletLoadEndpointsMock {
+
+	private static final String URL_REGEX = "/api/rest/v4/.*";
+
+	private static final String TOKEN_REGEX = "[a-z]{3}-.+";
+
+	private static final String EMPTY_LIST = "{\"count\":0,\"offset\":0,\"limit\":10,\"data\":[]}";
+
+	private final MockServerClient mockServerClient;
+
+	private final EndpointFaults endpointFaults;
+
+	public HyperwalletLoadEndpointsMock(final MockServerClient mockServerClient, final EndpointFaults endpointFaults) {
+		this.mockServerClient = mockServerClient;
+		this.endpointFaults = endpointFaults;
+	}
+
+	/**
+	 * Accepts any request to the Hyperwallet REST API.
+	 */
+	public void acceptAllRequests() {
+		mockServerClient.when(request().withPath(URL_REGEX))
+				.respond(httpRequest -> endpointFaults.apply(hyperwalletResponse(httpRequest)));
+	}
+
+	private static HttpResponse hyperwalletResponse(final HttpRequest httpRequest) {
+		final String method = httpRequest.getMethod().getValue();
+		final String body = httpRequest.getBodyAsString();
+		final String lastPathSegment = lastPathSegment(httpRequest.getPath().getValue());
+
+		final String responseBody;
+		if (!HttpMethod.GET.name().equals(method) && isJson(httpRequest) && body != null && !body.isBlank()) {
+			responseBody = body;
+		}
+		else if (lastPathSegment.matches(TOKEN_REGEX)) {
+			responseBody = "{\"token\":\"" + lastPathSegment + "\"}";
+		}
+		else {
+			responseBody = EMPTY_LIST;
+		}
+
+		return response().withStatusCode(HttpStatus.OK.value()).withContentType(MediaType.APPLICATION_JSON)
+				.withBody(responseBody);
+	}
+
+	private static boolean isJson(final HttpRequest httpRequest) {
+		final String contentType = httpRequest.getFirstHeader("Content-Type");
+
+		return contentType != null && contentType.contains("json");
+	}
+
+	private static String lastPathSegment(final String path) {
+		final String trimmedPath = path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+
+		return trimmedPath.substring(trimmedPath.lastIndexOf('/') + 1);
+	}
+
+}
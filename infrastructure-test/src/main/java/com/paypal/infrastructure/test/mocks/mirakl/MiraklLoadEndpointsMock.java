@@ -0,0 +1,206 @@
+package com.paypal.infrastructure.test.mocks.mirakl;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.mirakl.client.mmp.domain.shop.MiraklShop;
+import com.paypal.infrastructure.test.load.EndpointFaults;
+import org.mockserver.client.MockServerClient;
+import org.mockserver.model.HttpRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.mockserver.model.BinaryBody.binary;
+import static org.mockserver.model.Header.header;
+import static org.mockserver.model.HttpRequest.request;
+import static org.mockserver.model.HttpResponse.response;
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+
+/**
+ * Mirakl endpoints used by the load tests. Unlike the fixture based mocks, they serve any
+ * number of generated shops, documents and invoices, paginating them and filtering them
+ * by shop as Mirakl does, and inject the given {@link EndpointFaults} in every response.
+ */
+public class MiraklLoadEndpointsMock {
+
+	private static final String URL_SHOPS = "/api/shops";
+
+	private static final String URL_SHOPS_DOCUMENTS = "/api/shops/documents";
+
+	private static final String URL_SHOPS_DOCUMENTS_DOWNLOAD = "/api/shops/documents/download";
+
+	private static final String URL_DOCUMENTS_REGEX = "/api/.*documents/.+";
+
+	private static final String URL_INVOICES = "/api/invoices";
+
+	private static final int DEFAULT_PAGE_SIZE = 10;
+
+	private final ObjectMapper mapper;
+
+	private final MockServerClient mockServerClient;
+
+	private final EndpointFaults endpointFaults;
+
+	@SuppressWarnings("java:S1874")
+	public MiraklLoadEndpointsMock(final MockServerClient mockServerClient, final EndpointFaults endpointFaults) {
+		this.mapper = new ObjectMapper();
+		this.mockServerClient = mockServerClient;
+		this.endpointFaults = endpointFaults;
+		this.mapper.setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
+		this.mapper.setPropertyNamingStrategy(PropertyNamingStrategy.SNAKE_CASE);
+	}
+
+	/**
+	 * Serves the given shops, filtered by the {@code shop_ids} parameter when present.
+	 * @param miraklShops the shops.
+	 */
+	public void getShops(final List<MiraklShop> miraklShops) {
+		final Map<String, MiraklShop> shopsById = miraklShops.stream()
+				.collect(Collectors.toMap(MiraklShop::getId, Function.identity(), (a, b) -> a, LinkedHashMap::new));
+
+		//@formatter:off
+		mockServerClient
+				.when(request()
+						.withMethod(HttpMethod.GET.name())
+						.withPath(URL_SHOPS))
+				.respond(httpRequest -> endpointFaults.apply(response()
+						.withStatusCode(HttpStatus.OK.value())
+						.withBody(mapper.writeValueAsString(page("shops",
+								filterByShop(shopsById, httpRequest),
+								httpRequest)))));
+		//@formatter:on
+	}
+
+	/**
+	 * Accepts any update of shops.
+	 */
+	public void updateShops() {
+		//@formatter:off
+		mockServerClient
+				.when(request()
+						.withMethod(HttpMethod.PUT.name())
+						.withPath(URL_SHOPS))
+				.respond(httpRequest -> endpointFaults.apply(response()
+						.withStatusCode(HttpStatus.OK.value())
+						.withBody("{\"shop_returns\":[]}")));
+		//@formatter:on
+	}
+
+	/**
+	 * Serves the documents of the shops requested in the {@code shop_ids} parameter.
+	 * @param documentsByShop the documents of every shop, by shop id.
+	 */
+	public void getShopDocuments(final Map<String, List<Map<String, Object>>> documentsByShop) {
+		//@formatter:off
+		mockServerClient
+				.when(request()
+						.withMethod(HttpMethod.GET.name())
+						.withPath(URL_SHOPS_DOCUMENTS))
+				.respond(httpRequest -> endpointFaults.apply(response()
+						.withStatusCode(HttpStatus.OK.value())
+						.withBody(mapper.writeValueAsString(page("shop_documents",
+								filterByShop(documentsByShop, httpRequest).stream()
+										.flatMap(Collection::stream)
+										.collect(Collectors.toList()),
+								httpRequest)))));
+		//@formatter:on
+	}
+
+	/**
+	 * Serves the given content for any requested document.
+	 * @param content content of the documents.
+	 */
+	public void getShopDocument(final byte[] content) {
+		//@formatter:off
+		mockServerClient
+				.when(request()
+						.withMethod(HttpMethod.GET.name())
+						.withPath(URL_SHOPS_DOCUMENTS_DOWNLOAD))
+				.respond(httpRequest -> endpointFaults.apply(response()
+						.withStatusCode(HttpStatus.OK.value())
+						.withHeaders(
+								header(CONTENT_TYPE, MediaType.IMAGE_PNG.toString()),
+								header(CONTENT_DISPOSITION, "attachment; filename=\"document-"
+										+ httpRequest.getFirstQueryStringParameter("document_ids") + ".png\"")
+						)
+						.withBody(binary(content))));
+		//@formatter:on
+	}
+
+	/**
+	 * Accepts the deletion of any document.
+	 */
+	public void deleteShopDocuments() {
+		//@formatter:off
+		mockServerClient
+				.when(request()
+						.withMethod(HttpMethod.DELETE.name())
+						.withPath(URL_DOCUMENTS_REGEX))
+				.respond(httpRequest -> endpointFaults.apply(response()
+						.withStatusCode(HttpStatus.NO_CONTENT.value())));
+		//@formatter:on
+	}
+
+	/**
+	 * Serves the given invoices, paginated as Mirakl does.
+	 * @param invoices the invoices.
+	 */
+	public void getInvoices(final List<Map<String, Object>> invoices) {
+		//@formatter:off
+		mockServerClient
+				.when(request()
+						.withMethod(HttpMethod.GET.name())
+						.withPath(URL_INVOICES))
+				.respond(httpRequest -> endpointFaults.apply(response()
+						.withStatusCode(HttpStatus.OK.value())
+						.withBody(mapper.writeValueAsString(page("invoices", invoices, httpRequest)))));
+		//@formatter:on
+	}
+
+	private static <T> List<T> filterByShop(final Map<String, T> itemsByShop, final HttpRequest httpRequest) {
+		final String shopIds = httpRequest.getFirstQueryStringParameter("shop_ids");
+		if (shopIds == null || shopIds.isBlank()) {
+			return List.copyOf(itemsByShop.values());
+		}
+
+		//@formatter:off
+		return Arrays.stream(shopIds.split(","))
+				.map(itemsByShop::get)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toList());
+		//@formatter:on
+	}
+
+	private static Map<String, Object> page(final String field, final List<?> items, final HttpRequest httpRequest) {
+		final Map<String, Object> page = new LinkedHashMap<>();
+		page.put("total_count", items.size());
+		if ("false".equals(httpRequest.getFirstQueryStringParameter("paginate"))) {
+			page.put(field, items);
+			return page;
+		}
+
+		final int offset = intParameter(httpRequest, "offset", 0);
+		final int max = intParameter(httpRequest, "max", DEFAULT_PAGE_SIZE);
+		page.put(field, items.subList(Math.min(offset, items.size()), Math.min(offset + max, items.size())));
+
+		return page;
+	}
+
+	private static int intParameter(final HttpRequest httpRequest, final String name, final int defaultValue) {
+		final String value = httpRequest.getFirstQueryStringParameter(name);
+
+		return value != null && value.matches("\\d+") ? Integer.parseInt(value) : defaultValue;
+	}
+
+}
@@ -1,11 +1,14 @@
 package com.paypal.infrastructure.batchjob;
 
+import java.io.Serializable;
+
 /**
- * Wrapper class for the job item type.
+ * Wrapper class for the job item type. Items are {@link Serializable} when the wrapped
+ * item is, so they can be stored in the persistent tier of the failed items cache.
  *
  * @param <T> the job item type.
  */
-public abstract class AbstractBatchJobItem<T> implements BatchJobItem<T> {
+public abstract class AbstractBatchJobItem<T> implements BatchJobItem<T>, Serializable {
 
 	private final T item;
 
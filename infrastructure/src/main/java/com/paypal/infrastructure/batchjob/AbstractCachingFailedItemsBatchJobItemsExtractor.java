@@ -3,6 +3,7 @@ package com.paypal.infrastructure.batchjob;
 import com.paypal.infrastructure.batchjob.cache.BatchJobFailedItemCacheFailureResolvePolicy;
 import com.paypal.infrastructure.batchjob.cache.BatchJobFailedItemCacheService;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -24,8 +25,24 @@ public abstract class AbstractCachingFailedItemsBatchJobItemsExtractor<C extends
 		this.batchJobFailedItemCacheService = batchJobFailedItemCacheService;
 	}
 
+	/**
+	 * Loads the items with the given ids. It's called once with all the items of a retry
+	 * run not found in the cache, split in chunks of {@link #getMaxItemsPerRequest()} ids,
+	 * so implementations should load them all with a single request.
+	 * @param ids the ids of the items to be loaded.
+	 * @return the loaded items.
+	 */
 	protected abstract Collection<T> getItems(List<String> ids);
 
+	/**
+	 * Returns the maximum number of ids {@link #getItems(List)} can be called with, for
+	 * endpoints limiting the number of items that can be requested at once.
+	 * @return the maximum number of ids per call, unbounded by default.
+	 */
+	protected int getMaxItemsPerRequest() {
+		return Integer.MAX_VALUE;
+	}
+
 	protected Optional<BatchJobFailedItemCacheFailureResolvePolicy> getBatchJobFailedItemCacheFailureResolvePolicy() {
 		return Optional.empty();
 	}
@@ -55,7 +72,18 @@ public abstract class AbstractCachingFailedItemsBatchJobItemsExtractor<C extends
 	}
 
 	protected Collection<T> getBatchJobFailedItemsInternal(List<BatchJobFailedItem> batchJobFailedItems) {
-		return getItems(batchJobFailedItems.stream().map(BatchJobFailedItem::getId).collect(Collectors.toList()));
+		final List<String> ids = batchJobFailedItems.stream().map(BatchJobFailedItem::getId).distinct()
+				.collect(Collectors.toList());
+		final int maxItemsPerRequest = Math.max(1, getMaxItemsPerRequest());
+		if (ids.size() <= maxItemsPerRequest) {
+			return getItems(ids);
+		}
+
+		final List<T> items = new ArrayList<>();
+		for (int i = 0; i < ids.size(); i += maxItemsPerRequest) {
+			items.addAll(getItems(ids.subList(i, Math.min(i + maxItemsPerRequest, ids.size()))));
+		}
+		return items;
 	}
 
 }
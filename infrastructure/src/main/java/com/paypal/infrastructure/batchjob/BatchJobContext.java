@@ -72,6 +72,12 @@ public interface BatchJobContext {
 	 */
 	void incrementFailedItems();
 
+	/**
+	 * Moves an item already counted as processed to the failed items, for items whose
+	 * processing is found to have failed after it finished.
+	 */
+	void markProcessedItemAsFailed();
+
 	/**
 	 * Reset items counters.
 	 */
@@ -120,6 +126,13 @@ public interface BatchJobContext {
 	 */
 	BatchJobStatus getStatus();
 
+	/**
+	 * Returns the job status and item counters read at once, so they are consistent with
+	 * each other while items are being processed.
+	 * @return the {@link BatchJobContextSnapshot}.
+	 */
+	BatchJobContextSnapshot getSnapshot();
+
 	/**
 	 * Returns the job {@link JobExecutionContext}.
 	 * @return the job {@link JobExecutionContext}.
@@ -0,0 +1,25 @@
+package com.paypal.infrastructure.batchjob;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Consistent view of the status and item counters of a {@link BatchJobContext} at a given
+ * moment. All the counters are read at once, so they always add up even while items are
+ * being processed by other threads.
+ */
+@Value
+@Builder
+public class BatchJobContextSnapshot {
+
+	BatchJobStatus status;
+
+	int numberOfItemsToBeProcessed;
+
+	int numberOfItemsProcessed;
+
+	int numberOfItemsFailed;
+
+	int numberOfItemsRemaining;
+
+}
@@ -1,11 +1,13 @@
 package com.paypal.infrastructure.batchjob;
 
+import com.paypal.infrastructure.batchjob.sharding.BatchJobShardingService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.Resource;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -16,6 +18,12 @@ public class BatchJobExecutor {
 	@Resource
 	protected List<BatchJobProcessingListener> batchJobProcessingListeners;
 
+	@Resource
+	protected BatchJobShardingService batchJobShardingService;
+
+	@Resource
+	protected BatchJobProcessingEventBus batchJobProcessingEventBus;
+
 	public <C extends BatchJobContext, T extends BatchJobItem<?>> void execute(BatchJob<C, T> job, C ctx) {
 		try {
 			reportBatchJobStarted(ctx);
@@ -24,8 +32,9 @@ public class BatchJobExecutor {
 
 			prepareForProcessing(job, ctx, itemsToBeProcessed);
 
-			itemsToBeProcessed.forEach(i -> processItem(job, ctx, i));
+			processItems(job, ctx, itemsToBeProcessed);
 
+			reportItemsProcessingFinished(ctx);
 			reportBatchJobFinished(ctx);
 		}
 		catch (final RuntimeException e) {
@@ -65,13 +74,24 @@ public class BatchJobExecutor {
 		}
 	}
 
+	private <C extends BatchJobContext, T extends BatchJobItem<?>> void processItems(BatchJob<C, T> job,
+			final C context, final Collection<T> items) {
+		final int itemsOfOtherNodes = batchJobShardingService.processItemsOfThisNode(context, items,
+				item -> processItem(job, context, item));
+		if (itemsOfOtherNodes > 0) {
+			context.setNumberOfItemsToBeProcessed(items.size() - itemsOfOtherNodes);
+		}
+	}
+
 	private <C extends BatchJobContext, T extends BatchJobItem<?>> void processItem(BatchJob<C, T> job, final C context,
 			final T item) {
 		try {
 			reportItemProcessingStarted(context, item);
 
 			T enrichedItem = job.enrichItem(context, item);
+			reportItemEnrichmentFinished(context, item);
 			BatchJobItemValidationResult validationResult = job.validateItem(context, enrichedItem);
+			reportItemValidationFinished(context, item, validationResult);
 			switch (validationResult.getStatus()) {
 			case INVALID:
 				reportItemProcessingValidationFailure(context, item, validationResult);
@@ -96,14 +116,11 @@ public class BatchJobExecutor {
 	private <C extends BatchJobContext> void reportBatchJobStarted(final C ctx) {
 		ctx.setRunningStatus();
 
-		for (final var batchJobProcessingListener : batchJobProcessingListeners) {
-			try {
-				batchJobProcessingListener.onBatchJobStarted(ctx);
-			}
-			catch (final RuntimeException e) {
-				log.error(MSG_ERROR_WHILE_INVOKING_BATCH_JOB_LISTENER, e);
-			}
-		}
+		notifyJobLifecycleListeners(ctx, listener -> listener.onBatchJobStarted(ctx));
+	}
+
+	private <C extends BatchJobContext> void reportItemsProcessingFinished(final C ctx) {
+		notifyJobLifecycleListeners(ctx, listener -> listener.onItemsProcessingFinished(ctx));
 	}
 
 	private <C extends BatchJobContext> void reportBatchJobFinished(final C ctx) {
@@ -114,150 +131,104 @@ public class BatchJobExecutor {
 			ctx.setFinishedWithFailuresStatus();
 		}
 
-		for (final var batchJobProcessingListener : batchJobProcessingListeners) {
-			try {
-				batchJobProcessingListener.onBatchJobFinished(ctx);
-			}
-			catch (final RuntimeException e) {
-				log.error(MSG_ERROR_WHILE_INVOKING_BATCH_JOB_LISTENER, e);
-			}
-		}
+		notifyJobLifecycleListeners(ctx, listener -> listener.onBatchJobFinished(ctx));
 	}
 
 	private <C extends BatchJobContext> void reportBatchJobFailure(final C ctx, final Exception e) {
 		ctx.setFailedStatus();
 
-		for (final var batchJobProcessingListener : batchJobProcessingListeners) {
-			try {
-				batchJobProcessingListener.onBatchJobFailure(ctx, e);
-			}
-			catch (final RuntimeException e1) {
-				log.error(MSG_ERROR_WHILE_INVOKING_BATCH_JOB_LISTENER, e1);
-			}
-		}
+		notifyJobLifecycleListeners(ctx, listener -> listener.onBatchJobFailure(ctx, e));
+	}
+
+	private <C extends BatchJobContext, T extends BatchJobItem<?>> void reportItemEnrichmentFinished(final C ctx,
+			final T item) {
+		notifyListeners(ctx, listener -> listener.onItemEnrichmentFinished(ctx, item));
+	}
+
+	private <C extends BatchJobContext, T extends BatchJobItem<?>> void reportItemValidationFinished(final C ctx,
+			final T item, final BatchJobItemValidationResult validationResult) {
+		notifyListeners(ctx, listener -> listener.onItemValidationFinished(ctx, item, validationResult));
 	}
 
 	private <C extends BatchJobContext, T extends BatchJobItem<?>> void reportItemProcessingValidationFailure(C ctx,
 			T item, BatchJobItemValidationResult validationResult) {
-		for (final var batchJobProcessingListener : batchJobProcessingListeners) {
-			try {
-				batchJobProcessingListener.onItemProcessingValidationFailure(ctx, item, validationResult);
-			}
-			catch (final RuntimeException e) {
-				log.error(MSG_ERROR_WHILE_INVOKING_BATCH_JOB_LISTENER, e);
-			}
-		}
+		notifyListeners(ctx, listener -> listener.onItemProcessingValidationFailure(ctx, item, validationResult));
 	}
 
 	private <C extends BatchJobContext, T extends BatchJobItem<?>> void reportItemProcessingFailure(final C ctx,
 			final T item, final RuntimeException e) {
 		ctx.incrementFailedItems();
 
-		for (final var batchJobProcessingListener : batchJobProcessingListeners) {
-			try {
-				batchJobProcessingListener.onItemProcessingFailure(ctx, item, e);
-			}
-			catch (final RuntimeException e1) {
-				log.error(MSG_ERROR_WHILE_INVOKING_BATCH_JOB_LISTENER, e1);
-			}
-		}
+		notifyListeners(ctx, listener -> listener.onItemProcessingFailure(ctx, item, e));
 	}
 
 	private <C extends BatchJobContext, T extends BatchJobItem<?>> void reportItemProcessingFinished(final C ctx,
 			T item) {
 		ctx.incrementProcessedItems();
 
-		for (final var batchJobProcessingListener : batchJobProcessingListeners) {
-			try {
-				batchJobProcessingListener.onItemProcessingSuccess(ctx, item);
-			}
-			catch (final RuntimeException e1) {
-				log.error(MSG_ERROR_WHILE_INVOKING_BATCH_JOB_LISTENER, e1);
-			}
-		}
+		notifyListeners(ctx, listener -> listener.onItemProcessingSuccess(ctx, item));
 	}
 
 	private <C extends BatchJobContext, T extends BatchJobItem<?>> void reportItemProcessingStarted(final C ctx,
 			final T item) {
-		for (final var batchJobProcessingListener : batchJobProcessingListeners) {
-			try {
-				batchJobProcessingListener.beforeProcessingItem(ctx, item);
-			}
-			catch (final RuntimeException e1) {
-				log.error(MSG_ERROR_WHILE_INVOKING_BATCH_JOB_LISTENER, e1);
-			}
-		}
+		notifyListeners(ctx, listener -> listener.beforeProcessingItem(ctx, item));
 	}
 
 	private <C extends BatchJobContext> void reportItemExtractionStarted(final C ctx) {
-		for (final var batchJobProcessingListener : batchJobProcessingListeners) {
-			try {
-				batchJobProcessingListener.beforeItemExtraction(ctx);
-			}
-			catch (final RuntimeException e) {
-				log.error(MSG_ERROR_WHILE_INVOKING_BATCH_JOB_LISTENER, e);
-			}
-		}
+		notifyListeners(ctx, listener -> listener.beforeItemExtraction(ctx));
 	}
 
 	@SuppressWarnings("unchecked")
 	private <C extends BatchJobContext, T extends BatchJobItem<?>> void reportItemExtractionFinished(final C ctx,
 			Collection<T> extractedItems) {
-		for (final var batchJobProcessingListener : batchJobProcessingListeners) {
-			try {
-				batchJobProcessingListener.onItemExtractionSuccessful(ctx,
-						(Collection<BatchJobItem<?>>) extractedItems);
-			}
-			catch (final RuntimeException e) {
-				log.error(MSG_ERROR_WHILE_INVOKING_BATCH_JOB_LISTENER, e);
-			}
-		}
+		notifyListeners(ctx,
+				listener -> listener.onItemExtractionSuccessful(ctx, (Collection<BatchJobItem<?>>) extractedItems));
 	}
 
 	private <C extends BatchJobContext> void reportItemExtractionFailure(final C ctx, final RuntimeException e) {
-		for (final var batchJobProcessingListener : batchJobProcessingListeners) {
-			try {
-				batchJobProcessingListener.onItemExtractionFailure(ctx, e);
-			}
-			catch (final RuntimeException e1) {
-				log.error(MSG_ERROR_WHILE_INVOKING_BATCH_JOB_LISTENER, e1);
-			}
-		}
+		notifyListeners(ctx, listener -> listener.onItemExtractionFailure(ctx, e));
 	}
 
 	private <C extends BatchJobContext> void reportPreparationForProcessingStarted(C context) {
-		for (final var batchJobProcessingListener : batchJobProcessingListeners) {
-			try {
-				batchJobProcessingListener.onPreparationForProcessingStarted(context);
-			}
-			catch (final RuntimeException e) {
-				log.error(MSG_ERROR_WHILE_INVOKING_BATCH_JOB_LISTENER, e);
-			}
-		}
-
+		notifyListeners(context, listener -> listener.onPreparationForProcessingStarted(context));
 	}
 
 	private <C extends BatchJobContext> void reportPreparationForProcessingFinished(C context) {
+		notifyListeners(context, listener -> listener.onPreparationForProcessingFinished(context));
+	}
+
+	private <C extends BatchJobContext> void reportPreparationForProcessingFailure(C context, RuntimeException e) {
+		notifyListeners(context, listener -> listener.onPreparationForProcessingFailure(context, e));
+	}
+
+	private void notifyListeners(final BatchJobContext ctx, final Consumer<BatchJobProcessingListener> event) {
 		for (final var batchJobProcessingListener : batchJobProcessingListeners) {
-			try {
-				batchJobProcessingListener.onPreparationForProcessingFinished(context);
+			if (batchJobProcessingListener.isAsynchronous()) {
+				batchJobProcessingEventBus.publish(ctx.getJobUuid(), batchJobProcessingListener, event);
 			}
-			catch (final RuntimeException e) {
-				log.error(MSG_ERROR_WHILE_INVOKING_BATCH_JOB_LISTENER, e);
+			else {
+				notifyListener(batchJobProcessingListener, event);
 			}
 		}
 	}
 
-	private <C extends BatchJobContext> void reportPreparationForProcessingFailure(C context, RuntimeException e) {
+	private void notifyJobLifecycleListeners(final BatchJobContext ctx,
+			final Consumer<BatchJobProcessingListener> event) {
+		// Asynchronous listeners catch up first, so every listener sees the whole job
+		batchJobProcessingEventBus.flush(ctx.getJobUuid());
 		for (final var batchJobProcessingListener : batchJobProcessingListeners) {
-			try {
-				batchJobProcessingListener.onPreparationForProcessingFailure(context, e);
-			}
-			catch (final RuntimeException e1) {
-				log.error(MSG_ERROR_WHILE_INVOKING_BATCH_JOB_LISTENER, e1);
-			}
+			notifyListener(batchJobProcessingListener, event);
 		}
+	}
 
+	private void notifyListener(final BatchJobProcessingListener batchJobProcessingListener,
+			final Consumer<BatchJobProcessingListener> event) {
+		try {
+			event.accept(batchJobProcessingListener);
+		}
+		catch (final RuntimeException e) {
+			log.error(MSG_ERROR_WHILE_INVOKING_BATCH_JOB_LISTENER, e);
+		}
 	}
 
 }
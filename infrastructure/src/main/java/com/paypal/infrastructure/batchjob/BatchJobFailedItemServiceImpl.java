@@ -1,6 +1,5 @@
 package com.paypal.infrastructure.batchjob;
 
-import com.paypal.infrastructure.batchjob.entities.BatchJobItemTrackInfoEntity;
 import com.paypal.infrastructure.mail.MailNotificationUtil;
 import com.paypal.infrastructure.util.TimeMachine;
 import org.springframework.beans.factory.annotation.Value;
@@ -99,8 +98,8 @@ public class BatchJobFailedItemServiceImpl implements BatchJobFailedItemService
 		List<BatchJobFailedItem> failedItems = failedItemRepository.findByTypeAndStatusOrderByLastRetryTimestampAsc(
 				itemType, BatchJobFailedItemStatus.RETRY_PENDING, Pageable.ofSize(getMaxNumberOfFailedItems()));
 
-		Set<String> itemsBeingProcessedIds = batchJobTrackingService.getItemsBeingProcessedOrEnquedToProcess(itemType)
-				.stream().map(BatchJobItemTrackInfoEntity::getItemId).collect(Collectors.toSet());
+		Set<String> itemsBeingProcessedIds = batchJobTrackingService.getItemIdsBeingProcessedOrEnquedToProcess(
+				itemType, failedItems.stream().map(BatchJobFailedItem::getId).collect(Collectors.toList()));
 
 		return failedItems.stream().filter(it -> !itemsBeingProcessedIds.contains(it.getId()))
 				.filter(this::shouldRetryFailedItem).collect(Collectors.toList());
@@ -0,0 +1,29 @@
+package com.paypal.infrastructure.batchjob;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filter of the tracked items of a batch job. Null fields don't filter.
+ */
+@Value
+@Builder
+public class BatchJobItemTrackingFilter {
+
+	String itemType;
+
+	BatchJobItemStatus status;
+
+	/**
+	 * Minimum start time of the items, inclusive.
+	 */
+	LocalDateTime from;
+
+	/**
+	 * Maximum start time of the items, exclusive.
+	 */
+	LocalDateTime to;
+
+}
@@ -0,0 +1,256 @@
+package com.paypal.infrastructure.batchjob;
+
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Delivers the events of the batch jobs to the {@link BatchJobProcessingListener}
+ * declared as asynchronous, so they don't add latency to the processing of the items.
+ * <p>
+ * Every asynchronous listener has its own thread and a queue of up to
+ * {@code jobs.listeners.async.queueCapacity} events, delivered in the same order they
+ * were published in batches of up to {@code jobs.listeners.async.maxBatchSize} events.
+ * Publishing blocks while the queue of a listener is full, so a slow listener slows
+ * down the jobs instead of piling up events. When {@code jobs.listeners.async.enabled} is
+ * {@code false} the events are delivered synchronously to every listener.
+ * <p>
+ * The events are delivered with the logging context of the thread that published them,
+ * propagated by the {@link TaskDecorator} bean when there is one and by copying the MDC
+ * otherwise. The pending events of every job are counted, so a job only waits for its own
+ * events to be delivered.
+ */
+@Slf4j
+@Component
+public class BatchJobProcessingEventBus {
+
+	protected static final Duration FLUSH_TIMEOUT = Duration.ofMinutes(5);
+
+	private final boolean asyncListenersEnabled;
+
+	private final int queueCapacity;
+
+	private final int maxBatchSize;
+
+	private final TaskDecorator taskDecorator;
+
+	private final Map<BatchJobProcessingListener, ListenerQueue> listenerQueues = new ConcurrentHashMap<>();
+
+	private final Map<String, Integer> pendingEventsByJob = new ConcurrentHashMap<>();
+
+	private final Object deliveryMonitor = new Object();
+
+	public BatchJobProcessingEventBus(@Value("${jobs.listeners.async.enabled}") final boolean asyncListenersEnabled,
+			@Value("${jobs.listeners.async.queueCapacity}") final int queueCapacity,
+			@Value("${jobs.listeners.async.maxBatchSize}") final int maxBatchSize,
+			final Optional<TaskDecorator> taskDecorator) {
+		this.asyncListenersEnabled = asyncListenersEnabled;
+		this.queueCapacity = Math.max(1, queueCapacity);
+		this.maxBatchSize = Math.max(1, maxBatchSize);
+		this.taskDecorator = taskDecorator.orElse(BatchJobProcessingEventBus::propagateMdc);
+	}
+
+	/**
+	 * Publishes an event of a job for the given asynchronous listener. It's delivered after
+	 * all the events previously published for that listener.
+	 * @param jobUuid the unique identifier of the job the event belongs to.
+	 * @param listener the {@link BatchJobProcessingListener}.
+	 * @param event the event, as the invocation of a listener handler.
+	 */
+	public void publish(final String jobUuid, final BatchJobProcessingListener listener,
+			final Consumer<BatchJobProcessingListener> event) {
+		if (!asyncListenersEnabled) {
+			deliver(listener, event);
+			return;
+		}
+
+		pendingEventsByJob.merge(jobUuid, 1, Integer::sum);
+		listenerQueues.computeIfAbsent(listener, ListenerQueue::new)
+				.publish(new JobEvent(jobUuid, taskDecorator.decorate(() -> deliver(listener, event))));
+	}
+
+	/**
+	 * Waits until all the events published so far for the given job have been delivered to
+	 * their listeners. The events of other jobs aren't waited for.
+	 * @param jobUuid the unique identifier of the job.
+	 */
+	public void flush(final String jobUuid) {
+		final long deadline = System.nanoTime() + FLUSH_TIMEOUT.toNanos();
+		synchronized (deliveryMonitor) {
+			while (pendingEventsByJob.containsKey(jobUuid)) {
+				final long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+				if (remainingMillis <= 0) {
+					log.warn("Events of batch job [{}] not delivered after {}", jobUuid, FLUSH_TIMEOUT);
+					return;
+				}
+				try {
+					deliveryMonitor.wait(remainingMillis);
+				}
+				catch (final InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		listenerQueues.values().forEach(ListenerQueue::flush);
+		listenerQueues.values().forEach(ListenerQueue::shutdown);
+	}
+
+	private void deliverJobEvent(final JobEvent jobEvent) {
+		try {
+			jobEvent.delivery.run();
+		}
+		catch (final RuntimeException e) {
+			log.error(BatchJobExecutor.MSG_ERROR_WHILE_INVOKING_BATCH_JOB_LISTENER, e);
+		}
+		finally {
+			eventDelivered(jobEvent.jobUuid);
+		}
+	}
+
+	private void eventDelivered(final String jobUuid) {
+		if (jobUuid == null) {
+			return;
+		}
+		if (pendingEventsByJob.computeIfPresent(jobUuid, (key, pending) -> pending > 1 ? pending - 1 : null) == null) {
+			synchronized (deliveryMonitor) {
+				deliveryMonitor.notifyAll();
+			}
+		}
+	}
+
+	private static void deliver(final BatchJobProcessingListener listener,
+			final Consumer<BatchJobProcessingListener> event) {
+		try {
+			event.accept(listener);
+		}
+		catch (final RuntimeException e) {
+			log.error(BatchJobExecutor.MSG_ERROR_WHILE_INVOKING_BATCH_JOB_LISTENER, e);
+		}
+	}
+
+	private static Runnable propagateMdc(final Runnable runnable) {
+		final Map<String, String> publisherMdc = MDC.getCopyOfContextMap();
+		return () -> {
+			final Map<String, String> deliveryThreadMdc = MDC.getCopyOfContextMap();
+			setMdc(publisherMdc);
+			try {
+				runnable.run();
+			}
+			finally {
+				setMdc(deliveryThreadMdc);
+			}
+		};
+	}
+
+	private static void setMdc(final Map<String, String> mdc) {
+		if (mdc != null) {
+			MDC.setContextMap(mdc);
+		}
+		else {
+			MDC.clear();
+		}
+	}
+
+	private static final class JobEvent {
+
+		private final String jobUuid;
+
+		private final Runnable delivery;
+
+		private JobEvent(final String jobUuid, final Runnable delivery) {
+			this.jobUuid = jobUuid;
+			this.delivery = delivery;
+		}
+
+	}
+
+	private final class ListenerQueue {
+
+		private final BatchJobProcessingListener listener;
+
+		private final BlockingQueue<JobEvent> events;
+
+		private final ExecutorService deliveryExecutor;
+
+		private ListenerQueue(final BatchJobProcessingListener listener) {
+			this.listener = listener;
+			this.events = new ArrayBlockingQueue<>(queueCapacity);
+			this.deliveryExecutor = Executors.newSingleThreadExecutor(runnable -> {
+				final Thread thread = new Thread(runnable,
+						"batch-job-listener-" + listener.getClass().getSimpleName());
+				thread.setDaemon(true);
+				return thread;
+			});
+			deliveryExecutor.execute(this::deliverEvents);
+		}
+
+		private void publish(final JobEvent jobEvent) {
+			try {
+				events.put(jobEvent);
+			}
+			catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				// The event isn't lost, although it may be delivered out of order
+				deliverJobEvent(jobEvent);
+			}
+		}
+
+		private void flush() {
+			final CountDownLatch delivered = new CountDownLatch(1);
+			publish(new JobEvent(null, delivered::countDown));
+			try {
+				if (!delivered.await(FLUSH_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+					log.warn("Events of batch job listener [{}] not delivered after {}",
+							listener.getClass().getSimpleName(), FLUSH_TIMEOUT);
+				}
+			}
+			catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		private void shutdown() {
+			deliveryExecutor.shutdownNow();
+		}
+
+		private void deliverEvents() {
+			final List<JobEvent> batch = new ArrayList<>(maxBatchSize);
+			while (!Thread.currentThread().isInterrupted()) {
+				try {
+					batch.add(events.take());
+				}
+				catch (final InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				events.drainTo(batch, maxBatchSize - 1);
+				batch.forEach(BatchJobProcessingEventBus.this::deliverJobEvent);
+				batch.clear();
+			}
+		}
+
+	}
+
+}
@@ -7,6 +7,20 @@ import java.util.Collection;
  */
 public interface BatchJobProcessingListener {
 
+	/**
+	 * Returns whether the handlers of the listener can be invoked asynchronously, out of
+	 * the thread processing the job. Asynchronous listeners receive the events of a job in
+	 * the same order they were published, and all of them are delivered before the job
+	 * started, finished and failure handlers are invoked. The rest of handlers of these
+	 * listeners must only read the job context data that doesn't change while the job
+	 * runs, like the job name or uuid, since the job may have moved on when they're
+	 * invoked.
+	 * @return whether the listener is asynchronous, {@code false} by default.
+	 */
+	default boolean isAsynchronous() {
+		return false;
+	}
+
 	/**
 	 * Handler before item extraction.
 	 * @param ctx the job context.
@@ -34,6 +48,22 @@ public interface BatchJobProcessingListener {
 	 */
 	void beforeProcessingItem(BatchJobContext ctx, BatchJobItem<?> item);
 
+	/**
+	 * Handler after the item has been enriched.
+	 * @param ctx the job context.
+	 * @param item the item before being enriched.
+	 */
+	void onItemEnrichmentFinished(BatchJobContext ctx, BatchJobItem<?> item);
+
+	/**
+	 * Handler after the item has been validated, whatever the validation result is.
+	 * @param ctx the job context.
+	 * @param item the item before being enriched.
+	 * @param validationResult the validation result.
+	 */
+	void onItemValidationFinished(BatchJobContext ctx, BatchJobItem<?> item,
+			BatchJobItemValidationResult validationResult);
+
 	/**
 	 * Handler on validation failure while item processing
 	 * @param ctx the job context.
@@ -70,6 +100,14 @@ public interface BatchJobProcessingListener {
 	 */
 	void onBatchJobFinished(BatchJobContext ctx);
 
+	/**
+	 * Handler on all the items of the job processed. It's executed before the job status
+	 * is calculated and the job finished event is sent, so the item counters can still be
+	 * updated.
+	 * @param ctx the job context.
+	 */
+	void onItemsProcessingFinished(BatchJobContext ctx);
+
 	/**
 	 * Handler on failure job.
 	 * @param ctx the job context.
@@ -0,0 +1,29 @@
+package com.paypal.infrastructure.batchjob;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filter of the tracked batch jobs. Null fields don't filter.
+ */
+@Value
+@Builder
+public class BatchJobTrackingFilter {
+
+	String batchJobType;
+
+	BatchJobStatus status;
+
+	/**
+	 * Minimum start time of the jobs, inclusive.
+	 */
+	LocalDateTime from;
+
+	/**
+	 * Maximum start time of the jobs, exclusive.
+	 */
+	LocalDateTime to;
+
+}
@@ -0,0 +1,17 @@
+package com.paypal.infrastructure.batchjob;
+
+/**
+ * Service that keeps the batch job tracking data bounded by deleting the data that's
+ * older than the configured retention periods.
+ */
+public interface BatchJobTrackingRetentionService {
+
+	/**
+	 * Deletes the tracked items of the jobs older than the item retention period, keeping
+	 * the item counters of the jobs, and the tracked jobs older than the job retention
+	 * period. Expired items of the persistent tier of the failed items cache are deleted
+	 * too.
+	 */
+	void applyRetentionPolicies();
+
+}
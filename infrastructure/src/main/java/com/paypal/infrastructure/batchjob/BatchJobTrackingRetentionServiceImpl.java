@@ -0,0 +1,101 @@
+package com.paypal.infrastructure.batchjob;
+
+import com.paypal.infrastructure.batchjob.repository.BatchJobFailedItemCacheEntryRepository;
+import com.paypal.infrastructure.util.TimeMachine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.function.IntSupplier;
+
+/**
+ * Default implementation of {@link BatchJobTrackingRetentionService}.
+ * <p>
+ * The tracked items of the jobs started more than
+ * {@code jobs.tracking.retention.itemsDays} days ago are deleted once the item counters
+ * of their jobs are computed, so those jobs are still audited and found by the delta
+ * extractions. The jobs started more than {@code jobs.tracking.retention.jobsDays} days
+ * ago are deleted afterwards. Every chunk of about
+ * {@code jobs.tracking.retention.chunkSize} rows is deleted in its own transaction,
+ * pausing {@code jobs.tracking.retention.pauseMillis} between chunks so the running jobs
+ * get access to the database. The items of a job are always deleted in the same chunk.
+ * <p>
+ * The items stored in the persistent tier of the failed items cache more than
+ * {@code jobs.failedItemsCache.ttlDays} days ago are deleted too.
+ */
+@Slf4j
+@Service
+public class BatchJobTrackingRetentionServiceImpl implements BatchJobTrackingRetentionService {
+
+	private final BatchJobTrackingService batchJobTrackingService;
+
+	private final BatchJobFailedItemCacheEntryRepository batchJobFailedItemCacheEntryRepository;
+
+	private final int itemsDays;
+
+	private final int jobsDays;
+
+	private final int chunkSize;
+
+	private final long pauseMillis;
+
+	private final int failedItemsCacheDays;
+
+	public BatchJobTrackingRetentionServiceImpl(final BatchJobTrackingService batchJobTrackingService,
+			final BatchJobFailedItemCacheEntryRepository batchJobFailedItemCacheEntryRepository,
+			@Value("${jobs.tracking.retention.itemsDays}") final int itemsDays,
+			@Value("${jobs.tracking.retention.jobsDays}") final int jobsDays,
+			@Value("${jobs.tracking.retention.chunkSize}") final int chunkSize,
+			@Value("${jobs.tracking.retention.pauseMillis}") final long pauseMillis,
+			@Value("${jobs.failedItemsCache.ttlDays}") final int failedItemsCacheDays) {
+		this.batchJobTrackingService = batchJobTrackingService;
+		this.batchJobFailedItemCacheEntryRepository = batchJobFailedItemCacheEntryRepository;
+		this.itemsDays = Math.max(1, itemsDays);
+		// Jobs are never deleted before their items
+		this.jobsDays = Math.max(this.itemsDays, jobsDays);
+		this.chunkSize = Math.max(1, chunkSize);
+		this.pauseMillis = Math.max(0, pauseMillis);
+		this.failedItemsCacheDays = Math.max(1, failedItemsCacheDays);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void applyRetentionPolicies() {
+		final LocalDateTime now = TimeMachine.now();
+
+		batchJobTrackingService.computeMissingItemCounters();
+		try {
+			final long deletedItems = deleteInChunks(() -> batchJobTrackingService
+					.deleteJobItemTrackingEntries(now.minusDays(itemsDays), chunkSize));
+			final long deletedJobs = deleteInChunks(
+					() -> batchJobTrackingService.deleteJobTrackingEntries(now.minusDays(jobsDays), chunkSize));
+			final int deletedCachedItems = batchJobFailedItemCacheEntryRepository
+					.deleteByStoredTimeBefore(now.minusDays(failedItemsCacheDays));
+			log.info("Batch job tracking retention finished, {} items, {} jobs and {} cached failed items deleted",
+					deletedItems, deletedJobs, deletedCachedItems);
+		}
+		catch (final InterruptedException e) {
+			log.warn("Batch job tracking retention interrupted");
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private long deleteInChunks(final IntSupplier chunkDeletion) throws InterruptedException {
+		long totalDeleted = 0;
+		int deleted;
+		do {
+			deleted = chunkDeletion.getAsInt();
+			totalDeleted += deleted;
+			if (deleted > 0 && pauseMillis > 0) {
+				Thread.sleep(pauseMillis);
+			}
+		}
+		while (deleted > 0);
+
+		return totalDeleted;
+	}
+
+}
@@ -1,12 +1,14 @@
 package com.paypal.infrastructure.batchjob;
 
 import com.paypal.infrastructure.batchjob.entities.BatchJobItemTrackInfoEntity;
+import com.paypal.infrastructure.batchjob.entities.BatchJobItemTrackingInfoId;
 import com.paypal.infrastructure.batchjob.entities.BatchJobTrackInfoEntity;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface BatchJobTrackingService {
 
@@ -42,6 +44,33 @@ public interface BatchJobTrackingService {
 	 */
 	void markNonFinishedJobsAsAborted();
 
+	/**
+	 * Computes the item counters of the jobs tracked before the counters existed.
+	 */
+	void computeMissingItemCounters();
+
+	/**
+	 * Deletes the {@link BatchJobItemTrackInfoEntity} of the oldest jobs started before the
+	 * given {@link LocalDateTime}, taking as many jobs as have up to {@code limit} items
+	 * between them. The items of a job are always deleted together, so the items of a
+	 * single job are deleted even if they exceed the limit. The jobs keep their item
+	 * counters.
+	 * @param before the {@link LocalDateTime} the jobs started before.
+	 * @param limit the number of items to delete at most, unless a single job has more.
+	 * @return the number of deleted items, 0 when no job started before the given
+	 * {@link LocalDateTime} has items left.
+	 */
+	int deleteJobItemTrackingEntries(LocalDateTime before, int limit);
+
+	/**
+	 * Deletes up to {@code limit} {@link BatchJobTrackInfoEntity} started before the
+	 * given {@link LocalDateTime}.
+	 * @param before the {@link LocalDateTime} the jobs started before.
+	 * @param limit the maximum number of jobs to delete.
+	 * @return the number of deleted jobs.
+	 */
+	int deleteJobTrackingEntries(LocalDateTime before, int limit);
+
 	/**
 	 * Track job items added to the job.
 	 * @param batchJobId the batch job id
@@ -64,6 +93,14 @@ public interface BatchJobTrackingService {
 	 */
 	<T extends BatchJobItem<?>> void trackJobItemProcessingFinished(String batchJobId, T item, boolean successful);
 
+	/**
+	 * Track job item already tracked as successfully processed as failed, moving it from
+	 * the successful to the failed items of the job.
+	 * @param batchJobId the batch job id.
+	 * @param item the {@link BatchJobItem} item.
+	 */
+	<T extends BatchJobItem<?>> void trackProcessedJobItemAsFailed(String batchJobId, T item);
+
 	/**
 	 * Retrieves a {@link List} of {@link BatchJobItemTrackInfoEntity} that are being
 	 * processed or are going to be processed.
@@ -73,6 +110,16 @@ public interface BatchJobTrackingService {
 	 */
 	List<BatchJobItemTrackInfoEntity> getItemsBeingProcessedOrEnquedToProcess(String itemType);
 
+	/**
+	 * Retrieves which of the given item ids are being processed or are going to be
+	 * processed. Only the given ids are looked up, instead of all the items of the type.
+	 * @param itemType the item type.
+	 * @param itemIds the {@link Collection} of item ids to check.
+	 * @return a {@link Set} with the item ids that are being processed or are going to be
+	 * processed.
+	 */
+	Set<String> getItemIdsBeingProcessedOrEnquedToProcess(String itemType, Collection<String> itemIds);
+
 	/**
 	 * Retrieves a {@link List} of {@link BatchJobTrackInfoEntity} between the given
 	 * {@link LocalDateTime} from and to.
@@ -92,6 +139,32 @@ public interface BatchJobTrackingService {
 	 */
 	List<BatchJobItemTrackInfoEntity> getJobItemTrackingEntries(String batchJobId);
 
+	/**
+	 * Retrieves a page of the {@link BatchJobTrackInfoEntity} matching the given
+	 * {@link BatchJobTrackingFilter}, from the newest to the oldest.
+	 * @param filter the {@link BatchJobTrackingFilter}.
+	 * @param after the last {@link BatchJobTrackInfoEntity} of the previous page, or
+	 * {@code null} for the first page.
+	 * @param limit the maximum number of jobs of the page.
+	 * @return a {@link List} of {@link BatchJobTrackInfoEntity} with the page.
+	 */
+	List<BatchJobTrackInfoEntity> getJobTrackingEntries(BatchJobTrackingFilter filter, BatchJobTrackInfoEntity after,
+			int limit);
+
+	/**
+	 * Retrieves a page of the {@link BatchJobItemTrackInfoEntity} of the given batch job
+	 * matching the given {@link BatchJobItemTrackingFilter}, ordered by item type and
+	 * item id.
+	 * @param batchJobId the batch job id.
+	 * @param filter the {@link BatchJobItemTrackingFilter}.
+	 * @param after the {@link BatchJobItemTrackingInfoId} of the last item of the previous
+	 * page, or {@code null} for the first page.
+	 * @param limit the maximum number of items of the page.
+	 * @return a {@link List} of {@link BatchJobItemTrackInfoEntity} with the page.
+	 */
+	List<BatchJobItemTrackInfoEntity> getJobItemTrackingEntries(String batchJobId, BatchJobItemTrackingFilter filter,
+			BatchJobItemTrackingInfoId after, int limit);
+
 	/**
 	 * Retrieve the last job execution with extracted items.
 	 * @param batchJobType the batch job type
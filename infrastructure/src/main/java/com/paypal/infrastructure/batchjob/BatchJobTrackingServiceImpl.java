@@ -27,6 +27,10 @@ public class BatchJobTrackingServiceImpl implements BatchJobTrackingService {
 	protected static final Set<BatchJobStatus> JOB_NOT_FINISHED_STATUSES = new HashSet<>(
 			Arrays.asList(BatchJobStatus.RUNNING, BatchJobStatus.NOT_STARTED));
 
+	protected static final int ITEM_IDS_BATCH_SIZE = 500;
+
+	protected static final int ITEM_COUNTERS_BATCH_SIZE = 100;
+
 	private final BatchJobTrackingRepository batchJobTrackingRepository;
 
 	private final BatchJobItemTrackingRepository batchJobItemTrackingRepository;
@@ -43,7 +47,8 @@ public class BatchJobTrackingServiceImpl implements BatchJobTrackingService {
 	@Override
 	public void trackJobStart(String batchJobId, String batchJobType) {
 		BatchJobTrackInfoEntity batchJobTrackInfoEntity = BatchJobTrackInfoEntity.builder().batchJobId(batchJobId)
-				.batchJobType(batchJobType).startTime(TimeMachine.now()).status(BatchJobStatus.RUNNING).build();
+				.batchJobType(batchJobType).startTime(TimeMachine.now()).status(BatchJobStatus.RUNNING)
+				.extractedItems(0).successfulItems(0).failedItems(0).build();
 
 		batchJobTrackingRepository.save(batchJobTrackInfoEntity);
 	}
@@ -79,7 +84,7 @@ public class BatchJobTrackingServiceImpl implements BatchJobTrackingService {
 	private void createFailedJob(String batchJobId, String batchJobType) {
 		BatchJobTrackInfoEntity batchJobTrackInfo = BatchJobTrackInfoEntity.builder().batchJobId(batchJobId)
 				.batchJobType(batchJobType).status(BatchJobStatus.FAILED).startTime(TimeMachine.now())
-				.finishTime(TimeMachine.now()).build();
+				.finishTime(TimeMachine.now()).extractedItems(0).successfulItems(0).failedItems(0).build();
 
 		batchJobTrackingRepository.save(batchJobTrackInfo);
 	}
@@ -103,6 +108,64 @@ public class BatchJobTrackingServiceImpl implements BatchJobTrackingService {
 		batchJobTrackInfoEntities.forEach(this::markJobAsAborted);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void computeMissingItemCounters() {
+		List<BatchJobTrackInfoEntity> batchJobTrackInfoEntities;
+		do {
+			batchJobTrackInfoEntities = batchJobTrackingRepository
+					.findByExtractedItemsIsNull(Pageable.ofSize(ITEM_COUNTERS_BATCH_SIZE));
+			batchJobTrackInfoEntities.forEach(this::computeItemCounters);
+
+			batchJobTrackingRepository.saveAll(batchJobTrackInfoEntities);
+		}
+		while (batchJobTrackInfoEntities.size() == ITEM_COUNTERS_BATCH_SIZE);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int deleteJobItemTrackingEntries(LocalDateTime before, int limit) {
+		List<BatchJobTrackInfoEntity> batchJobTrackInfoEntities = batchJobTrackingRepository
+				.findWithItemsByStartTimeBefore(before, Pageable.ofSize(limit));
+
+		// The items of a job are deleted together, taking as many jobs as fit in the limit
+		List<String> batchJobIds = new ArrayList<>();
+		long items = 0;
+		for (BatchJobTrackInfoEntity batchJobTrackInfoEntity : batchJobTrackInfoEntities) {
+			items += Optional.ofNullable(batchJobTrackInfoEntity.getExtractedItems()).orElse(0);
+			if (!batchJobIds.isEmpty() && items > limit) {
+				break;
+			}
+			batchJobIds.add(batchJobTrackInfoEntity.getBatchJobId());
+		}
+
+		return batchJobIds.isEmpty() ? 0 : batchJobItemTrackingRepository.deleteByBatchJobIdIn(batchJobIds);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int deleteJobTrackingEntries(LocalDateTime before, int limit) {
+		List<String> batchJobIds = batchJobTrackingRepository.findBatchJobIdsByStartTimeBefore(before,
+				Pageable.ofSize(limit));
+
+		return batchJobIds.isEmpty() ? 0 : batchJobTrackingRepository.deleteByBatchJobIdIn(batchJobIds);
+	}
+
+	private void computeItemCounters(final BatchJobTrackInfoEntity batchJobTrackInfoEntity) {
+		final String batchJobId = batchJobTrackInfoEntity.getBatchJobId();
+		batchJobTrackInfoEntity.setExtractedItems((int) batchJobItemTrackingRepository.countByBatchJobId(batchJobId));
+		batchJobTrackInfoEntity.setSuccessfulItems((int) batchJobItemTrackingRepository
+				.countByBatchJobIdAndStatus(batchJobId, BatchJobItemStatus.SUCCESSFUL));
+		batchJobTrackInfoEntity.setFailedItems(
+				(int) batchJobItemTrackingRepository.countByBatchJobIdAndStatus(batchJobId, BatchJobItemStatus.FAILED));
+	}
+
 	private void markJobAsAborted(final BatchJobTrackInfoEntity batchJobTrackInfoEntity) {
 		batchJobTrackInfoEntity.setStatus(BatchJobStatus.ABORTED);
 
@@ -132,6 +195,7 @@ public class BatchJobTrackingServiceImpl implements BatchJobTrackingService {
 				.map(it -> createJobItemTracking(batchJobId, it)).collect(Collectors.toList());
 
 		batchJobItemTrackingRepository.saveAll(batchJobItemTrackInfoEntities);
+		batchJobTrackingRepository.addExtractedItems(batchJobId, batchJobItemTrackInfoEntities.size());
 	}
 
 	private <T extends BatchJobItem<?>> BatchJobItemTrackInfoEntity createJobItemTracking(String batchJobId, T item) {
@@ -154,6 +218,16 @@ public class BatchJobTrackingServiceImpl implements BatchJobTrackingService {
 	public <T extends BatchJobItem<?>> void trackJobItemProcessingFinished(String batchJobId, T item,
 			boolean successful) {
 		updatedJobItemStatus(batchJobId, item, successful ? BatchJobItemStatus.SUCCESSFUL : BatchJobItemStatus.FAILED);
+		batchJobTrackingRepository.addProcessedItems(batchJobId, successful ? 1 : 0, successful ? 0 : 1);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public <T extends BatchJobItem<?>> void trackProcessedJobItemAsFailed(String batchJobId, T item) {
+		updatedJobItemStatus(batchJobId, item, BatchJobItemStatus.FAILED);
+		batchJobTrackingRepository.addProcessedItems(batchJobId, -1, 1);
 	}
 
 	private <T extends BatchJobItem<?>> void updatedJobItemStatus(String batchJobId, T item,
@@ -189,6 +263,25 @@ public class BatchJobTrackingServiceImpl implements BatchJobTrackingService {
 		return batchJobItemTrackingRepository.findByItemTypeAndStatusIn(itemType, ITEM_NOT_FINISHED_STATUSES);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Set<String> getItemIdsBeingProcessedOrEnquedToProcess(String itemType, Collection<String> itemIds) {
+		final List<String> distinctItemIds = itemIds.stream().distinct().collect(Collectors.toList());
+		final Set<String> itemIdsBeingProcessed = new HashSet<>();
+		// Ids are looked up in batches so the IN clause of the query stays bounded
+		for (int i = 0; i < distinctItemIds.size(); i += ITEM_IDS_BATCH_SIZE) {
+			final List<String> batch = distinctItemIds.subList(i,
+					Math.min(i + ITEM_IDS_BATCH_SIZE, distinctItemIds.size()));
+			batchJobItemTrackingRepository.findByItemTypeAndItemIdInAndStatusIn(itemType, batch,
+					ITEM_NOT_FINISHED_STATUSES).stream().map(BatchJobItemTrackInfoEntity::getItemId)
+					.forEach(itemIdsBeingProcessed::add);
+		}
+
+		return itemIdsBeingProcessed;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -205,6 +298,33 @@ public class BatchJobTrackingServiceImpl implements BatchJobTrackingService {
 		return batchJobItemTrackingRepository.findByBatchJobId(batchJobId);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<BatchJobTrackInfoEntity> getJobTrackingEntries(BatchJobTrackingFilter filter,
+			BatchJobTrackInfoEntity after, int limit) {
+		final Optional<BatchJobTrackInfoEntity> lastJob = Optional.ofNullable(after);
+
+		return batchJobTrackingRepository.findPage(filter.getBatchJobType(), filter.getStatus(), filter.getFrom(),
+				filter.getTo(), lastJob.map(BatchJobTrackInfoEntity::getStartTime).orElse(null),
+				lastJob.map(BatchJobTrackInfoEntity::getBatchJobId).orElse(null), Pageable.ofSize(limit));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<BatchJobItemTrackInfoEntity> getJobItemTrackingEntries(String batchJobId,
+			BatchJobItemTrackingFilter filter, BatchJobItemTrackingInfoId after, int limit) {
+		final Optional<BatchJobItemTrackingInfoId> lastItem = Optional.ofNullable(after);
+
+		return batchJobItemTrackingRepository.findPageByBatchJobId(batchJobId, filter.getItemType(),
+				filter.getStatus(), filter.getFrom(), filter.getTo(),
+				lastItem.map(BatchJobItemTrackingInfoId::getItemType).orElse(null),
+				lastItem.map(BatchJobItemTrackingInfoId::getItemId).orElse(null), Pageable.ofSize(limit));
+	}
+
 	@Override
 	public Optional<BatchJobTrackInfoEntity> findLastJobExecutionWithNonEmptyExtraction(String batchJobType,
 			LocalDateTime from) {
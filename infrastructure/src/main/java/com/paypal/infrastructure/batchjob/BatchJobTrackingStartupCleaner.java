@@ -21,4 +21,13 @@ public class BatchJobTrackingStartupCleaner {
 		batchJobTrackingService.markNonFinishedJobsAsAborted();
 	}
 
+	/**
+	 * Compute the item counters of the jobs tracked by previous versions when application
+	 * start up.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void computeMissingItemCounters() {
+		batchJobTrackingService.computeMissingItemCounters();
+	}
+
 }
@@ -0,0 +1,28 @@
+package com.paypal.infrastructure.batchjob.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * {@link Cache} of failed batch job items that can read and write several items at once,
+ * so the items of a retry batch job don't need a round trip to the cache storage each.
+ */
+public interface BatchJobFailedItemBulkCache extends Cache {
+
+	/**
+	 * Returns the cached values of the given keys. Keys without a cached value aren't
+	 * present in the returned {@link Map}.
+	 * @param keys the keys of the values to be retrieved.
+	 * @return a {@link Map} with the cached values by key.
+	 */
+	Map<Object, Object> getAll(Collection<?> keys);
+
+	/**
+	 * Stores all the given values in the cache.
+	 * @param values a {@link Map} with the values to be cached by key.
+	 */
+	void putAll(Map<?, ?> values);
+
+}
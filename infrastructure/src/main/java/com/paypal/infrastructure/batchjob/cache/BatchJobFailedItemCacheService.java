@@ -25,6 +25,13 @@ public interface BatchJobFailedItemCacheService {
 	 */
 	<T extends BatchJobItem<?>> void storeItem(T batchJobItem);
 
+	/**
+	 * Stores a collection of items in the cache, with a single write per item type when
+	 * the cache supports bulk operations.
+	 * @param batchJobItems The items to be cached
+	 */
+	<T extends BatchJobItem<?>> void storeItems(Collection<T> batchJobItems);
+
 	/**
 	 * Retrieves an item from the cache.
 	 * @param batchJobItemType Type of the cached item.
@@ -44,6 +51,18 @@ public interface BatchJobFailedItemCacheService {
 	<T extends BatchJobItem<?>> Optional<T> retrieveItem(Class<T> batchJobItemClass,
 			BatchJobFailedItem batchJobFailedItem);
 
+	/**
+	 * Retrieves a collection of items of the same type from the cache, with a single read
+	 * when the cache supports bulk operations.
+	 * @param batchJobItemType Type of the cached items.
+	 * @param batchJobItemIds Ids of the cached items.
+	 * @param <T> Type of the wrapped object in the item.
+	 * @return A map containing the cached items by id. Items not found in the cache aren't
+	 * present in the map.
+	 */
+	<T extends BatchJobItem<?>> Map<String, T> retrieveItems(Class<T> batchJobItemClass, String batchJobItemType,
+			Collection<String> batchJobItemIds);
+
 	/**
 	 * Removes an item from the cache.
 	 * @param batchJobItemType Type of the cached item.
@@ -80,7 +99,8 @@ public interface BatchJobFailedItemCacheService {
 	/**
 	 * Retrieves all requested items from the cache. The items that are not found will be
 	 * tried to be obtained and loaded into the cache using the provided
-	 * {@link BatchJobFailedItemCacheFailureResolver}.
+	 * {@link BatchJobFailedItemCacheFailureResolver}, which receives all the cache
+	 * failures at once so it can load them with as few requests as possible.
 	 * @param batchJobFailedItems List of information about the failed items that should
 	 * be retrieved from the cache.
 	 * @param cacheFailureResolver Resolver to obtain the {@link BatchJobItem} from the
@@ -25,6 +25,19 @@ public class BatchJobFailedItemCacheServiceImpl implements BatchJobFailedItemCac
 		getCache(batchJobItem.getItemType()).put(batchJobItem.getItemId(), batchJobItem);
 	}
 
+	@Override
+	public <T extends BatchJobItem<?>> void storeItems(Collection<T> batchJobItems) {
+		groupByItemType(batchJobItems).forEach((batchJobItemType, items) -> {
+			final Cache cache = getCache(batchJobItemType);
+			if (cache instanceof BatchJobFailedItemBulkCache) {
+				((BatchJobFailedItemBulkCache) cache).putAll(indexByItemId(items));
+			}
+			else {
+				items.forEach(item -> cache.put(item.getItemId(), item));
+			}
+		});
+	}
+
 	@Override
 	public <T extends BatchJobItem<?>> Optional<T> retrieveItem(Class<T> batchJobItemClass, String batchJobItemType,
 			String batchJobItemId) {
@@ -38,6 +51,17 @@ public class BatchJobFailedItemCacheServiceImpl implements BatchJobFailedItemCac
 				.ofNullable(getCache(batchJobFailedItem.getType()).get(batchJobFailedItem.getId(), batchJobItemClass));
 	}
 
+	@Override
+	public <T extends BatchJobItem<?>> Map<String, T> retrieveItems(Class<T> batchJobItemClass,
+			String batchJobItemType, Collection<String> batchJobItemIds) {
+		//@formatter:off
+		return getAll(getCache(batchJobItemType), batchJobItemIds).entrySet().stream()
+				.filter(entry -> batchJobItemClass.isInstance(entry.getValue()))
+				.collect(Collectors.toMap(Map.Entry::getKey, entry -> batchJobItemClass.cast(entry.getValue()),
+						(first, last) -> last, LinkedHashMap::new));
+		//@formatter:on
+	}
+
 	@Override
 	public void removeItem(String batchJobItemType, String batchJobItemId) {
 		getCache(batchJobItemType).evictIfPresent(batchJobItemId);
@@ -45,7 +69,12 @@ public class BatchJobFailedItemCacheServiceImpl implements BatchJobFailedItemCac
 
 	@Override
 	public <T extends BatchJobItem<?>> void refreshCachedItems(Collection<T> extractedItems) {
-		extractedItems.forEach(this::refreshCachedItem);
+		groupByItemType(extractedItems).forEach((batchJobItemType, items) -> {
+			final Set<String> cachedItemIds = getAll(getCache(batchJobItemType),
+					items.stream().map(BatchJobItem::getItemId).collect(Collectors.toList())).keySet();
+			storeItems(items.stream().filter(item -> cachedItemIds.contains(item.getItemId()))
+					.collect(Collectors.toList()));
+		});
 	}
 
 	@SuppressWarnings("unchecked")
@@ -58,8 +87,16 @@ public class BatchJobFailedItemCacheServiceImpl implements BatchJobFailedItemCac
 	@Override
 	public <T extends BatchJobItem<?>> Map<BatchJobFailedItem, Optional<T>> retrieveAllItems(Class<T> batchJobItemClass,
 			List<BatchJobFailedItem> batchJobFailedItems) {
-		return batchJobFailedItems.stream().collect(Collectors.toMap(Function.identity(),
-				batchJobFailedItem -> retrieveItem(batchJobItemClass, batchJobFailedItem)));
+		final Map<BatchJobFailedItem, Optional<T>> cachedItems = new HashMap<>();
+		batchJobFailedItems.stream().collect(Collectors.groupingBy(BatchJobFailedItem::getType))
+				.forEach((batchJobItemType, failedItems) -> {
+					final Map<String, T> items = retrieveItems(batchJobItemClass, batchJobItemType,
+							failedItems.stream().map(BatchJobFailedItem::getId).collect(Collectors.toList()));
+					failedItems.forEach(failedItem -> cachedItems.put(failedItem,
+							Optional.ofNullable(items.get(failedItem.getId()))));
+				});
+
+		return cachedItems;
 	}
 
 	@Override
@@ -80,23 +117,26 @@ public class BatchJobFailedItemCacheServiceImpl implements BatchJobFailedItemCac
 
 		List<BatchJobFailedItem> cacheFailures = getCacheFailures(cachedItems);
 		if (!cacheFailures.isEmpty()) {
-			cachedItems = resolveCacheFailures(batchJobItemClass, batchJobFailedItems, cacheFailures,
-					cacheFailureResolver, resolvePolicy);
+			resolveCacheFailures(cachedItems, cacheFailures, cacheFailureResolver, resolvePolicy);
 		}
 		return cachedItems;
 	}
 
-	private <T extends BatchJobItem<?>> Map<BatchJobFailedItem, Optional<T>> resolveCacheFailures(
-			Class<T> batchJobItemClass, List<BatchJobFailedItem> requestedItems, List<BatchJobFailedItem> cacheFailures,
-			BatchJobFailedItemCacheFailureResolver<T> cacheFailureResolver,
+	private <T extends BatchJobItem<?>> void resolveCacheFailures(Map<BatchJobFailedItem, Optional<T>> cachedItems,
+			List<BatchJobFailedItem> cacheFailures, BatchJobFailedItemCacheFailureResolver<T> cacheFailureResolver,
 			BatchJobFailedItemCacheFailureResolvePolicy resolvePolicy) {
 
 		List<BatchJobFailedItem> itemsToReload = resolvePolicy.itemsToReloadOnCacheFailure(cacheFailures);
 
+		// All the items are loaded at once, and the cache isn't read again afterwards
 		Collection<T> resolvedItems = cacheFailureResolver.itemsToBeCached(itemsToReload);
-		resolvedItems.forEach(this::storeItem);
+		storeItems(resolvedItems);
 
-		return retrieveAllItems(batchJobItemClass, requestedItems);
+		final Map<String, T> resolvedItemsById = indexByItemId(resolvedItems);
+		cachedItems.replaceAll((batchJobFailedItem, cachedItem) -> Optional
+				.ofNullable(resolvedItemsById.get(batchJobFailedItem.getId()))
+				.filter(resolvedItem -> batchJobFailedItem.getType().equals(resolvedItem.getItemType()))
+				.or(() -> cachedItem));
 	}
 
 	private <T extends BatchJobItem<?>> List<BatchJobFailedItem> getCacheFailures(
@@ -105,6 +145,32 @@ public class BatchJobFailedItemCacheServiceImpl implements BatchJobFailedItemCac
 				.collect(Collectors.toList());
 	}
 
+	private Map<String, Object> getAll(Cache cache, Collection<String> keys) {
+		final Map<String, Object> values = new LinkedHashMap<>();
+		if (cache instanceof BatchJobFailedItemBulkCache) {
+			((BatchJobFailedItemBulkCache) cache).getAll(keys).forEach((key, value) -> values.put((String) key, value));
+			return values;
+		}
+
+		for (final String key : keys) {
+			final Cache.ValueWrapper cachedValue = cache.get(key);
+			if (cachedValue != null && cachedValue.get() != null) {
+				values.put(key, cachedValue.get());
+			}
+		}
+		return values;
+	}
+
+	private static <T extends BatchJobItem<?>> Map<String, List<T>> groupByItemType(Collection<T> batchJobItems) {
+		return batchJobItems.stream()
+				.collect(Collectors.groupingBy(BatchJobItem::getItemType, LinkedHashMap::new, Collectors.toList()));
+	}
+
+	private static <T extends BatchJobItem<?>> Map<String, T> indexByItemId(Collection<T> batchJobItems) {
+		return batchJobItems.stream().collect(Collectors.toMap(BatchJobItem::getItemId, Function.identity(),
+				(first, last) -> last, LinkedHashMap::new));
+	}
+
 	private @NonNull Cache getCache(String batchJobItemType) {
 		return Objects.requireNonNull(cacheManager.getCache(batchJobItemType));
 	}
@@ -0,0 +1,320 @@
+package com.paypal.infrastructure.batchjob.cache;
+
+import com.paypal.infrastructure.batchjob.entities.BatchJobFailedItemCacheEntryEntity;
+import com.paypal.infrastructure.batchjob.entities.BatchJobFailedItemCacheEntryId;
+import com.paypal.infrastructure.batchjob.repository.BatchJobFailedItemCacheEntryRepository;
+import com.paypal.infrastructure.util.TimeMachine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.dao.DataAccessException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.SerializationUtils;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+/**
+ * Two tier {@link Cache} of failed batch job items. The heap tier is the given cache,
+ * bounded in size, and the persistent tier stores the serialized items in the
+ * infrastructure database, so they survive restarts and heap evictions. Items are
+ * promoted to the heap tier when they are found in the persistent tier only.
+ * <p>
+ * Only {@link Serializable} items are persisted, the rest of them are only kept in the
+ * heap tier. Persistent entries older than the given time to live, or which can't be
+ * deserialized anymore, are treated as missing.
+ * <p>
+ * Bulk reads and writes hit the persistent tier with a query per
+ * {@value #ITEM_IDS_BATCH_SIZE} items instead of a query per item. Bulk writes delete the
+ * stored versions of the items and insert the new ones, so the inserts are batched when
+ * {@code hibernate.jdbc.batch_size} is set.
+ */
+@Slf4j
+public class BatchJobFailedItemPersistentCache implements BatchJobFailedItemBulkCache {
+
+	protected static final int ITEM_IDS_BATCH_SIZE = 500;
+
+	private final Cache heapCache;
+
+	private final BatchJobFailedItemCacheEntryRepository batchJobFailedItemCacheEntryRepository;
+
+	private final Duration timeToLive;
+
+	public BatchJobFailedItemPersistentCache(final Cache heapCache,
+			final BatchJobFailedItemCacheEntryRepository batchJobFailedItemCacheEntryRepository,
+			final Duration timeToLive) {
+		this.heapCache = heapCache;
+		this.batchJobFailedItemCacheEntryRepository = batchJobFailedItemCacheEntryRepository;
+		this.timeToLive = timeToLive;
+	}
+
+	@Override
+	public String getName() {
+		return heapCache.getName();
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return heapCache.getNativeCache();
+	}
+
+	@Override
+	@Nullable
+	public ValueWrapper get(final Object key) {
+		final ValueWrapper cachedValue = heapCache.get(key);
+		if (cachedValue != null) {
+			return cachedValue;
+		}
+
+		final Optional<Object> storedValue = loadFromPersistentTier(key);
+		storedValue.ifPresent(value -> heapCache.put(key, value));
+
+		return storedValue.map(SimpleValueWrapper::new).orElse(null);
+	}
+
+	@Override
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public <T> T get(final Object key, @Nullable final Class<T> type) {
+		final ValueWrapper cachedValue = get(key);
+		final Object value = cachedValue != null ? cachedValue.get() : null;
+		if (value != null && type != null && !type.isInstance(value)) {
+			throw new IllegalStateException(
+					String.format("Cached value is not of required type [%s]: %s", type.getName(), value));
+		}
+
+		return (T) value;
+	}
+
+	@Override
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public <T> T get(final Object key, final Callable<T> valueLoader) {
+		final ValueWrapper cachedValue = get(key);
+		if (cachedValue != null) {
+			return (T) cachedValue.get();
+		}
+
+		try {
+			final T value = valueLoader.call();
+			put(key, value);
+			return value;
+		}
+		catch (final Exception e) {
+			throw new ValueRetrievalException(key, valueLoader, e);
+		}
+	}
+
+	@Override
+	public void put(final Object key, @Nullable final Object value) {
+		heapCache.put(key, value);
+		if (value instanceof Serializable) {
+			storeInPersistentTier(key, value);
+		}
+	}
+
+	@Override
+	public Map<Object, Object> getAll(final Collection<?> keys) {
+		final Map<Object, Object> values = new LinkedHashMap<>();
+		final Map<String, Object> missingKeysByItemId = new LinkedHashMap<>();
+		for (final Object key : keys) {
+			final ValueWrapper cachedValue = heapCache.get(key);
+			if (cachedValue != null) {
+				values.put(key, cachedValue.get());
+			}
+			else {
+				missingKeysByItemId.put(String.valueOf(key), key);
+			}
+		}
+
+		if (!missingKeysByItemId.isEmpty()) {
+			final Map<Object, Object> storedValues = loadAllFromPersistentTier(missingKeysByItemId);
+			storedValues.forEach(heapCache::put);
+			values.putAll(storedValues);
+		}
+
+		return values;
+	}
+
+	@Override
+	public void putAll(final Map<?, ?> values) {
+		final List<BatchJobFailedItemCacheEntryEntity> entries = new ArrayList<>();
+		final List<String> storedItemIds = new ArrayList<>();
+		values.forEach((key, value) -> {
+			heapCache.put(key, value);
+			if (value instanceof Serializable) {
+				serialize(key, value).ifPresent(payload -> entries.add(buildEntry(key, payload)));
+				storedItemIds.add(String.valueOf(key));
+			}
+		});
+
+		// Previous versions of the items are deleted in bulk, so the new ones are inserted
+		// in batches instead of merged one by one, and a previous version of the items
+		// that can't be serialized anymore isn't found after a heap eviction. The new
+		// versions can't be inserted while the previous ones are still stored
+		if (!evictAllFromPersistentTier(storedItemIds) || entries.isEmpty()) {
+			return;
+		}
+		try {
+			batchJobFailedItemCacheEntryRepository.saveAll(entries);
+		}
+		catch (final DataAccessException e) {
+			log.warn("{} cached items of type [{}] couldn't be persisted, they're only kept in memory",
+					entries.size(), getName(), e);
+		}
+	}
+
+	@Override
+	public void evict(final Object key) {
+		heapCache.evict(key);
+		evictFromPersistentTier(key);
+	}
+
+	@Override
+	public void clear() {
+		heapCache.clear();
+		try {
+			batchJobFailedItemCacheEntryRepository.deleteByItemType(getName());
+		}
+		catch (final DataAccessException e) {
+			log.warn("Cached items of type [{}] couldn't be deleted, they'll expire after their time to live", getName(),
+					e);
+		}
+	}
+
+	private Optional<Object> loadFromPersistentTier(final Object key) {
+		final Optional<BatchJobFailedItemCacheEntryEntity> entry = batchJobFailedItemCacheEntryRepository
+				.findById(getEntryId(key));
+		if (entry.isEmpty()) {
+			return Optional.empty();
+		}
+
+		final Optional<Object> value = isExpired(entry.get()) ? Optional.empty() : deserialize(entry.get());
+		if (value.isEmpty()) {
+			evictFromPersistentTier(key);
+		}
+
+		return value;
+	}
+
+	private Map<Object, Object> loadAllFromPersistentTier(final Map<String, Object> keysByItemId) {
+		final List<String> itemIds = new ArrayList<>(keysByItemId.keySet());
+		final Map<Object, Object> values = new HashMap<>();
+		final List<String> invalidItemIds = new ArrayList<>();
+		for (int i = 0; i < itemIds.size(); i += ITEM_IDS_BATCH_SIZE) {
+			final List<String> batch = itemIds.subList(i, Math.min(i + ITEM_IDS_BATCH_SIZE, itemIds.size()));
+			for (final BatchJobFailedItemCacheEntryEntity entry : batchJobFailedItemCacheEntryRepository
+					.findByItemTypeAndItemIdIn(getName(), batch)) {
+				final Optional<Object> value = isExpired(entry) ? Optional.empty() : deserialize(entry);
+				value.ifPresentOrElse(it -> values.put(keysByItemId.get(entry.getItemId()), it),
+						() -> invalidItemIds.add(entry.getItemId()));
+			}
+		}
+		evictAllFromPersistentTier(invalidItemIds);
+
+		return values;
+	}
+
+	private Optional<Object> deserialize(final BatchJobFailedItemCacheEntryEntity entry) {
+		try {
+			return Optional.ofNullable(SerializationUtils.deserialize(entry.getPayload()));
+		}
+		catch (final IllegalArgumentException | IllegalStateException e) {
+			// The item class changed since it was stored
+			log.warn("Cached item [{}] of type [{}] couldn't be deserialized, it will be reloaded", entry.getItemId(),
+					getName(), e);
+			return Optional.empty();
+		}
+	}
+
+	private void storeInPersistentTier(final Object key, final Object value) {
+		final Optional<byte[]> payload = serialize(key, value);
+		if (payload.isEmpty()) {
+			// A previous version of the item mustn't be found after a heap eviction
+			evictFromPersistentTier(key);
+			return;
+		}
+
+		try {
+			final BatchJobFailedItemCacheEntryEntity entry = buildEntry(key, payload.get());
+			// The entry may be stored already, so it's merged
+			entry.setNewEntry(false);
+			batchJobFailedItemCacheEntryRepository.save(entry);
+		}
+		catch (final DataAccessException e) {
+			log.warn("Cached item [{}] of type [{}] couldn't be persisted, it's only kept in memory", key, getName(),
+					e);
+		}
+	}
+
+	private Optional<byte[]> serialize(final Object key, final Object value) {
+		try {
+			return Optional.ofNullable(SerializationUtils.serialize(value));
+		}
+		catch (final IllegalArgumentException e) {
+			log.debug("Cached item [{}] of type [{}] can't be serialized, it's only kept in memory", key, getName(), e);
+			return Optional.empty();
+		}
+	}
+
+	private BatchJobFailedItemCacheEntryEntity buildEntry(final Object key, final byte[] payload) {
+		//@formatter:off
+		return BatchJobFailedItemCacheEntryEntity.builder()
+				.itemType(getName())
+				.itemId(String.valueOf(key))
+				.payload(payload)
+				.storedTime(TimeMachine.now())
+				.build();
+		//@formatter:on
+	}
+
+	private void evictFromPersistentTier(final Object key) {
+		try {
+			batchJobFailedItemCacheEntryRepository.deleteByItemTypeAndItemId(getName(), String.valueOf(key));
+		}
+		catch (final DataAccessException e) {
+			log.warn("Cached item [{}] of type [{}] couldn't be deleted, it'll expire after its time to live", key,
+					getName(), e);
+		}
+	}
+
+	/**
+	 * Deletes the stored entries of the given items in batches.
+	 * @param itemIds the ids of the items.
+	 * @return whether the entries could be deleted.
+	 */
+	private boolean evictAllFromPersistentTier(final List<String> itemIds) {
+		try {
+			for (int i = 0; i < itemIds.size(); i += ITEM_IDS_BATCH_SIZE) {
+				batchJobFailedItemCacheEntryRepository.deleteByItemTypeAndItemIdIn(getName(),
+						itemIds.subList(i, Math.min(i + ITEM_IDS_BATCH_SIZE, itemIds.size())));
+			}
+			return true;
+		}
+		catch (final DataAccessException e) {
+			log.warn("{} cached items of type [{}] couldn't be deleted, they'll expire after their time to live",
+					itemIds.size(), getName(), e);
+			return false;
+		}
+	}
+
+	private boolean isExpired(final BatchJobFailedItemCacheEntryEntity entry) {
+		final LocalDateTime expirationTime = TimeMachine.now().minus(timeToLive);
+
+		return entry.getStoredTime() == null || entry.getStoredTime().isBefore(expirationTime);
+	}
+
+	private BatchJobFailedItemCacheEntryId getEntryId(final Object key) {
+		return BatchJobFailedItemCacheEntryId.builder().itemType(getName()).itemId(String.valueOf(key)).build();
+	}
+
+}
@@ -0,0 +1,52 @@
+package com.paypal.infrastructure.batchjob.cache;
+
+import com.paypal.infrastructure.batchjob.repository.BatchJobFailedItemCacheEntryRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.lang.Nullable;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link CacheManager} that backs every cache of the given heap {@link CacheManager} with
+ * a persistent tier, see {@link BatchJobFailedItemPersistentCache}.
+ */
+public class BatchJobFailedItemPersistentCacheManager implements CacheManager {
+
+	private final CacheManager heapCacheManager;
+
+	private final BatchJobFailedItemCacheEntryRepository batchJobFailedItemCacheEntryRepository;
+
+	private final Duration timeToLive;
+
+	private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+	public BatchJobFailedItemPersistentCacheManager(final CacheManager heapCacheManager,
+			final BatchJobFailedItemCacheEntryRepository batchJobFailedItemCacheEntryRepository,
+			final Duration timeToLive) {
+		this.heapCacheManager = heapCacheManager;
+		this.batchJobFailedItemCacheEntryRepository = batchJobFailedItemCacheEntryRepository;
+		this.timeToLive = timeToLive;
+	}
+
+	@Override
+	@Nullable
+	public Cache getCache(final String name) {
+		final Cache heapCache = heapCacheManager.getCache(name);
+		if (heapCache == null) {
+			return null;
+		}
+
+		return caches.computeIfAbsent(name, cacheName -> new BatchJobFailedItemPersistentCache(heapCache,
+				batchJobFailedItemCacheEntryRepository, timeToLive));
+	}
+
+	@Override
+	public Collection<String> getCacheNames() {
+		return heapCacheManager.getCacheNames();
+	}
+
+}
@@ -0,0 +1,77 @@
+package com.paypal.infrastructure.batchjob.controller;
+
+import com.paypal.infrastructure.batchjob.entities.BatchJobItemTrackInfoEntity;
+import com.paypal.infrastructure.batchjob.entities.BatchJobItemTrackingInfoId;
+import com.paypal.infrastructure.batchjob.entities.BatchJobTrackInfoEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque cursors of the pages of the batch job audit endpoints. A cursor holds the key of
+ * the last element of a page, so the next page is retrieved with a keyset query instead
+ * of an offset.
+ */
+final class BatchJobAuditCursors {
+
+	private static final String SEPARATOR = "\n";
+
+	private static final String INVALID_CURSOR = "Invalid cursor [%s]";
+
+	private BatchJobAuditCursors() {
+	}
+
+	static String of(final BatchJobTrackInfoEntity batchJobTrackInfoEntity) {
+		return encode(batchJobTrackInfoEntity.getStartTime().toString(), batchJobTrackInfoEntity.getBatchJobId());
+	}
+
+	static String of(final BatchJobItemTrackInfoEntity batchJobItemTrackInfoEntity) {
+		return encode(batchJobItemTrackInfoEntity.getItemType(), batchJobItemTrackInfoEntity.getItemId());
+	}
+
+	static BatchJobTrackInfoEntity toBatchJobTrackInfoEntity(final String cursor) {
+		if (cursor == null) {
+			return null;
+		}
+		final String[] key = decode(cursor);
+		try {
+			return BatchJobTrackInfoEntity.builder().startTime(LocalDateTime.parse(key[0])).batchJobId(key[1])
+					.build();
+		}
+		catch (final DateTimeParseException e) {
+			throw new InvalidBatchJobAuditCursorException(String.format(INVALID_CURSOR, cursor), e);
+		}
+	}
+
+	static BatchJobItemTrackingInfoId toBatchJobItemTrackingInfoId(final String cursor) {
+		if (cursor == null) {
+			return null;
+		}
+		final String[] key = decode(cursor);
+
+		return BatchJobItemTrackingInfoId.builder().itemType(key[0]).itemId(key[1]).build();
+	}
+
+	private static String encode(final String first, final String second) {
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString((first + SEPARATOR + second).getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String[] decode(final String cursor) {
+		try {
+			final String[] key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+					.split(SEPARATOR, -1);
+			if (key.length != 2) {
+				throw new InvalidBatchJobAuditCursorException(String.format(INVALID_CURSOR, cursor));
+			}
+
+			return key;
+		}
+		catch (final IllegalArgumentException e) {
+			throw new InvalidBatchJobAuditCursorException(String.format(INVALID_CURSOR, cursor), e);
+		}
+	}
+
+}
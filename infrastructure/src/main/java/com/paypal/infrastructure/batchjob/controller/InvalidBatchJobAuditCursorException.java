@@ -0,0 +1,17 @@
+package com.paypal.infrastructure.batchjob.controller;
+
+/**
+ * Thrown when the cursor sent to the batch job audit endpoints can't be decoded. It's a
+ * client error, so it's answered with a bad request status.
+ */
+public class InvalidBatchJobAuditCursorException extends RuntimeException {
+
+	public InvalidBatchJobAuditCursorException(final String message) {
+		super(message);
+	}
+
+	public InvalidBatchJobAuditCursorException(final String message, final Throwable cause) {
+		super(message, cause);
+	}
+
+}
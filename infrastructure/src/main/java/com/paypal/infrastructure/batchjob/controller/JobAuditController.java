@@ -1,21 +1,47 @@
 package com.paypal.infrastructure.batchjob.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paypal.infrastructure.batchjob.BatchJobItemStatus;
+import com.paypal.infrastructure.batchjob.BatchJobItemTrackingFilter;
+import com.paypal.infrastructure.batchjob.BatchJobStatus;
+import com.paypal.infrastructure.batchjob.BatchJobTrackingFilter;
 import com.paypal.infrastructure.batchjob.BatchJobTrackingService;
 import com.paypal.infrastructure.batchjob.converters.BatchJobItemTrackInfoEntityConverter;
 import com.paypal.infrastructure.batchjob.converters.BatchJobTrackInfoEntityConverter;
+import com.paypal.infrastructure.batchjob.dto.BatchJobAuditPageResponse;
 import com.paypal.infrastructure.batchjob.dto.BatchJobItemTrackInfoResponse;
 import com.paypal.infrastructure.batchjob.dto.BatchJobTrackInfoResponse;
+import com.paypal.infrastructure.batchjob.entities.BatchJobItemTrackInfoEntity;
+import com.paypal.infrastructure.batchjob.entities.BatchJobItemTrackingInfoId;
+import com.paypal.infrastructure.batchjob.entities.BatchJobTrackInfoEntity;
+import com.paypal.infrastructure.exceptions.HMCErrorResponse;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 
+@Slf4j
 @RestController
 @RequestMapping("/batchjob-audit")
 public class JobAuditController {
 
+	protected static final String DEFAULT_PAGE_SIZE = "100";
+
+	protected static final int MAX_PAGE_SIZE = 1000;
+
+	protected static final int EXPORT_PAGE_SIZE = 1000;
+
+	private static final byte[] NEW_LINE = "\n".getBytes(StandardCharsets.UTF_8);
+
 	@Autowired
 	private BatchJobItemTrackInfoEntityConverter batchJobItemTrackInfoEntityConverter;
 
@@ -25,6 +51,14 @@ public class JobAuditController {
 	@Autowired
 	private BatchJobTrackingService batchJobTrackingService;
 
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	/**
+	 * Returns all the jobs started in the given time range.
+	 * @deprecated the response isn't bounded, use {@link #getJobs} instead.
+	 */
+	@Deprecated
 	@GetMapping("/")
 	public List<BatchJobTrackInfoResponse> getAllJobs(
 			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
@@ -33,10 +67,153 @@ public class JobAuditController {
 		return batchJobTrackInfoEntityConverter.toResponse(batchJobTrackInfoEntities);
 	}
 
+	/**
+	 * Returns all the items of a job.
+	 * @deprecated the response isn't bounded, use {@link #getJobItemsPage} or
+	 * {@link #exportJobItems} instead.
+	 */
+	@Deprecated
 	@GetMapping("/{id}/items")
 	public List<BatchJobItemTrackInfoResponse> getJobItems(@PathVariable String id) {
 		var batchJobItemTrackInfoEntities = batchJobTrackingService.getJobItemTrackingEntries(id);
 		return batchJobItemTrackInfoEntityConverter.toResponse(batchJobItemTrackInfoEntities);
 	}
 
+	/**
+	 * Returns a page of the jobs matching the given filters, from the newest to the
+	 * oldest.
+	 * @param type the batch job type.
+	 * @param status the {@link BatchJobStatus}.
+	 * @param from the minimum start time of the jobs, inclusive.
+	 * @param to the maximum start time of the jobs, exclusive.
+	 * @param after the cursor of the page, as returned by the previous page.
+	 * @param limit the maximum number of jobs of the page.
+	 * @return a {@link BatchJobAuditPageResponse} of {@link BatchJobTrackInfoResponse}.
+	 */
+	@GetMapping("/jobs")
+	public BatchJobAuditPageResponse<BatchJobTrackInfoResponse> getJobs(@RequestParam(required = false) String type,
+			@RequestParam(required = false) BatchJobStatus status,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+			@RequestParam(required = false) String after,
+			@RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit) {
+		final BatchJobTrackingFilter filter = BatchJobTrackingFilter.builder().batchJobType(type).status(status)
+				.from(from).to(to).build();
+		final int pageSize = getPageSize(limit);
+
+		// One more job is retrieved to know whether there's a next page
+		final List<BatchJobTrackInfoEntity> batchJobTrackInfoEntities = batchJobTrackingService
+				.getJobTrackingEntries(filter, BatchJobAuditCursors.toBatchJobTrackInfoEntity(after), pageSize + 1);
+		if (batchJobTrackInfoEntities.size() <= pageSize) {
+			return new BatchJobAuditPageResponse<>(
+					batchJobTrackInfoEntityConverter.toResponse(batchJobTrackInfoEntities), null);
+		}
+		final List<BatchJobTrackInfoEntity> page = batchJobTrackInfoEntities.subList(0, pageSize);
+
+		return new BatchJobAuditPageResponse<>(batchJobTrackInfoEntityConverter.toResponse(page),
+				BatchJobAuditCursors.of(page.get(pageSize - 1)));
+	}
+
+	/**
+	 * Returns a page of the items of a job matching the given filters, ordered by item
+	 * type and item id.
+	 * @param id the batch job id.
+	 * @param itemType the item type.
+	 * @param status the {@link BatchJobItemStatus}.
+	 * @param from the minimum start time of the items, inclusive.
+	 * @param to the maximum start time of the items, exclusive.
+	 * @param after the cursor of the page, as returned by the previous page.
+	 * @param limit the maximum number of items of the page.
+	 * @return a {@link BatchJobAuditPageResponse} of {@link BatchJobItemTrackInfoResponse}.
+	 */
+	@GetMapping("/jobs/{id}/items")
+	public BatchJobAuditPageResponse<BatchJobItemTrackInfoResponse> getJobItemsPage(@PathVariable String id,
+			@RequestParam(required = false) String itemType,
+			@RequestParam(required = false) BatchJobItemStatus status,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+			@RequestParam(required = false) String after,
+			@RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit) {
+		final BatchJobItemTrackingFilter filter = BatchJobItemTrackingFilter.builder().itemType(itemType)
+				.status(status).from(from).to(to).build();
+		final int pageSize = getPageSize(limit);
+
+		// One more item is retrieved to know whether there's a next page
+		final List<BatchJobItemTrackInfoEntity> batchJobItemTrackInfoEntities = batchJobTrackingService
+				.getJobItemTrackingEntries(id, filter, BatchJobAuditCursors.toBatchJobItemTrackingInfoId(after),
+						pageSize + 1);
+		if (batchJobItemTrackInfoEntities.size() <= pageSize) {
+			return new BatchJobAuditPageResponse<>(
+					batchJobItemTrackInfoEntityConverter.toResponse(batchJobItemTrackInfoEntities), null);
+		}
+		final List<BatchJobItemTrackInfoEntity> page = batchJobItemTrackInfoEntities.subList(0, pageSize);
+
+		return new BatchJobAuditPageResponse<>(batchJobItemTrackInfoEntityConverter.toResponse(page),
+				BatchJobAuditCursors.of(page.get(pageSize - 1)));
+	}
+
+	/**
+	 * Streams all the items of a job matching the given filters as newline delimited
+	 * JSON, ordered by item type and item id. Items are read and written in pages, so the
+	 * memory used doesn't depend on the number of items of the job.
+	 * @param id the batch job id.
+	 * @param itemType the item type.
+	 * @param status the {@link BatchJobItemStatus}.
+	 * @param from the minimum start time of the items, inclusive.
+	 * @param to the maximum start time of the items, exclusive.
+	 * @return a {@link StreamingResponseBody} writing a {@link BatchJobItemTrackInfoResponse}
+	 * per line.
+	 */
+	@GetMapping(value = "/jobs/{id}/items/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public StreamingResponseBody exportJobItems(@PathVariable String id,
+			@RequestParam(required = false) String itemType,
+			@RequestParam(required = false) BatchJobItemStatus status,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+		final BatchJobItemTrackingFilter filter = BatchJobItemTrackingFilter.builder().itemType(itemType)
+				.status(status).from(from).to(to).build();
+
+		return outputStream -> writeJobItems(outputStream, id, filter);
+	}
+
+	/**
+	 * Handles {@link InvalidBatchJobAuditCursorException} exceptions.
+	 * @param exception a {@link InvalidBatchJobAuditCursorException} exception.
+	 * @return a {@link HMCErrorResponse} with http bad request status and the exception
+	 * error message.
+	 */
+	@ExceptionHandler(InvalidBatchJobAuditCursorException.class)
+	@ResponseStatus(HttpStatus.BAD_REQUEST)
+	public HMCErrorResponse handleInvalidCursor(final InvalidBatchJobAuditCursorException exception) {
+		log.warn(exception.getMessage(), exception);
+
+		return new HMCErrorResponse(exception.getMessage());
+	}
+
+	private void writeJobItems(final OutputStream outputStream, final String batchJobId,
+			final BatchJobItemTrackingFilter filter) throws IOException {
+		BatchJobItemTrackingInfoId after = null;
+		List<BatchJobItemTrackInfoEntity> page;
+		do {
+			page = batchJobTrackingService.getJobItemTrackingEntries(batchJobId, filter, after, EXPORT_PAGE_SIZE);
+			for (final BatchJobItemTrackInfoEntity batchJobItemTrackInfoEntity : page) {
+				final BatchJobItemTrackInfoResponse batchJobItemTrackInfoResponse = batchJobItemTrackInfoEntityConverter
+						.toResponse(batchJobItemTrackInfoEntity);
+				outputStream.write(objectMapper.writeValueAsBytes(batchJobItemTrackInfoResponse));
+				outputStream.write(NEW_LINE);
+			}
+			outputStream.flush();
+			if (!page.isEmpty()) {
+				final BatchJobItemTrackInfoEntity last = page.get(page.size() - 1);
+				after = BatchJobItemTrackingInfoId.builder().itemType(last.getItemType()).itemId(last.getItemId())
+						.build();
+			}
+		}
+		while (page.size() == EXPORT_PAGE_SIZE);
+	}
+
+	private static int getPageSize(final int limit) {
+		return Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+	}
+
 }
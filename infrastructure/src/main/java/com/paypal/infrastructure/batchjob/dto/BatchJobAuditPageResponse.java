@@ -0,0 +1,17 @@
+package com.paypal.infrastructure.batchjob.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public final class BatchJobAuditPageResponse<T> {
+
+	private final List<T> items;
+
+	/**
+	 * Cursor to retrieve the next page, or {@code null} when this is the last page.
+	 */
+	private final String next;
+
+}
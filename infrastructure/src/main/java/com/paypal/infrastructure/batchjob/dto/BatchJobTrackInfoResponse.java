@@ -17,4 +17,10 @@ public class BatchJobTrackInfoResponse {
 
 	private String status;
 
+	private Integer extractedItems;
+
+	private Integer successfulItems;
+
+	private Integer failedItems;
+
 }
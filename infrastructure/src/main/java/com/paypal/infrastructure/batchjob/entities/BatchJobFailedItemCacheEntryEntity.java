@@ -0,0 +1,68 @@
+package com.paypal.infrastructure.batchjob.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Index;
+import javax.persistence.Lob;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.Table;
+import javax.persistence.Transient;
+import java.time.LocalDateTime;
+
+/**
+ * Serialized failed batch job item stored in the persistent tier of the failed items
+ * cache.
+ * <p>
+ * Built entries are new unless stated otherwise, so saving them inserts them straight
+ * away instead of looking them up first to merge them, and the inserts of a bulk save
+ * are batched.
+ */
+@Data
+@Entity
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(BatchJobFailedItemCacheEntryId.class)
+@Table(indexes = { @Index(columnList = "storedTime") })
+public class BatchJobFailedItemCacheEntryEntity implements Persistable<BatchJobFailedItemCacheEntryId> {
+
+	@Id
+	private String itemType;
+
+	@Id
+	private String itemId;
+
+	@Lob
+	private byte[] payload;
+
+	private LocalDateTime storedTime;
+
+	@Transient
+	@Builder.Default
+	private boolean newEntry = true;
+
+	@Override
+	public BatchJobFailedItemCacheEntryId getId() {
+		return BatchJobFailedItemCacheEntryId.builder().itemType(itemType).itemId(itemId).build();
+	}
+
+	@Override
+	public boolean isNew() {
+		return newEntry;
+	}
+
+	@PostLoad
+	@PostPersist
+	void markNotNew() {
+		newEntry = false;
+	}
+
+}
@@ -0,0 +1,20 @@
+package com.paypal.infrastructure.batchjob.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchJobFailedItemCacheEntryId implements Serializable {
+
+	private String itemType;
+
+	private String itemId;
+
+}
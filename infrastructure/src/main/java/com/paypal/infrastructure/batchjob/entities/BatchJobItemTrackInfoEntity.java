@@ -9,6 +9,8 @@ import lombok.NoArgsConstructor;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.IdClass;
+import javax.persistence.Index;
+import javax.persistence.Table;
 import javax.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 
@@ -18,6 +20,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @IdClass(BatchJobItemTrackingInfoId.class)
+@Table(indexes = { @Index(columnList = "batchJobId,itemType,itemId"), @Index(columnList = "itemType,status"),
+		@Index(columnList = "itemType,itemId") })
 public class BatchJobItemTrackInfoEntity {
 
 	@Id
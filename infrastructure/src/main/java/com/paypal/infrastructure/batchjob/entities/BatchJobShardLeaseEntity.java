@@ -0,0 +1,35 @@
+package com.paypal.infrastructure.batchjob.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Version;
+import java.time.LocalDateTime;
+
+/**
+ * Lease of a shard of the batch job items by a connector node. A node processes the
+ * items of the shards it holds a lease for before the ones of other shards, until the
+ * lease expires.
+ */
+@Data
+@Entity
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchJobShardLeaseEntity {
+
+	@Id
+	private Integer shard;
+
+	private String nodeId;
+
+	private LocalDateTime expirationTime;
+
+	@Version
+	private Long version;
+
+}
@@ -0,0 +1,29 @@
+package com.paypal.infrastructure.batchjob.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.time.LocalDateTime;
+
+/**
+ * Connector node taking part in the sharded execution of the batch jobs. Nodes renew
+ * their registration periodically, and the ones whose registration expires are no longer
+ * taken into account when the shards are balanced.
+ */
+@Data
+@Entity
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchJobShardNodeEntity {
+
+	@Id
+	private String nodeId;
+
+	private LocalDateTime expirationTime;
+
+}
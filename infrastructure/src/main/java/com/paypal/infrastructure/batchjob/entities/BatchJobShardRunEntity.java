@@ -0,0 +1,39 @@
+package com.paypal.infrastructure.batchjob.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Version;
+import java.time.LocalDateTime;
+
+/**
+ * Last run of a shard of the items of a batch job. A node claims the run of a shard
+ * before processing its items, so the shard is only processed by one node for every
+ * firing of the job.
+ */
+@Data
+@Entity
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchJobShardRunEntity {
+
+	@Id
+	private String runId;
+
+	private String jobName;
+
+	private Integer shard;
+
+	private String nodeId;
+
+	private LocalDateTime scheduledFireTime;
+
+	@Version
+	private Long version;
+
+}
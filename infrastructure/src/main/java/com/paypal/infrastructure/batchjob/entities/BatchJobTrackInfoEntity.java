@@ -8,8 +8,10 @@ import lombok.NoArgsConstructor;
 
 import javax.persistence.Entity;
 import javax.persistence.Id;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.OneToMany;
+import javax.persistence.Table;
 import javax.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -19,6 +21,8 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(indexes = { @Index(columnList = "startTime,batchJobId"), @Index(columnList = "batchJobType,startTime"),
+		@Index(columnList = "status,batchJobType") })
 public class BatchJobTrackInfoEntity {
 
 	@Id
@@ -35,6 +39,17 @@ public class BatchJobTrackInfoEntity {
 	@NotNull
 	private BatchJobStatus status;
 
+	/**
+	 * Number of items extracted by the job, maintained as items are added so the last
+	 * non-empty extraction can be found without counting the items of every job. It's
+	 * {@code null} for jobs tracked before it existed until their counters are computed.
+	 */
+	private Integer extractedItems;
+
+	private Integer successfulItems;
+
+	private Integer failedItems;
+
 	@OneToMany
 	@JoinColumn(name = "batchJobId")
 	private List<BatchJobItemTrackInfoEntity> items;
@@ -44,6 +44,23 @@ public class AbstractBatchJobProcessingListenerSupport implements BatchJobProces
 		// empty method
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onItemEnrichmentFinished(BatchJobContext ctx, BatchJobItem<?> item) {
+		// empty method
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onItemValidationFinished(BatchJobContext ctx, BatchJobItem<?> item,
+			BatchJobItemValidationResult validationResult) {
+		// empty method
+	}
+
 	@Override
 	public void onItemProcessingValidationFailure(BatchJobContext ctx, BatchJobItem<?> item,
 			BatchJobItemValidationResult validationResult) {
@@ -82,6 +99,14 @@ public class AbstractBatchJobProcessingListenerSupport implements BatchJobProces
 		// empty method
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onItemsProcessingFinished(BatchJobContext ctx) {
+		// empty method
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -9,7 +9,7 @@ import org.springframework.stereotype.Component;
 import java.util.Collection;
 
 /**
- * Failure batch job processing listener.
+ * Failure batch job processing listener. Item events are handled asynchronously.
  */
 @Component
 public class FailureBatchJobItemProcessingListener extends AbstractBatchJobProcessingListenerSupport {
@@ -20,6 +20,14 @@ public class FailureBatchJobItemProcessingListener extends AbstractBatchJobProce
 		this.batchJobFailedItemService = batchJobFailedItemService;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isAsynchronous() {
+		return true;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -0,0 +1,315 @@
+package com.paypal.infrastructure.batchjob.listeners;
+
+import com.paypal.infrastructure.batchjob.BatchJobContext;
+import com.paypal.infrastructure.batchjob.BatchJobItem;
+import com.paypal.infrastructure.batchjob.BatchJobItemValidationResult;
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batch job processing listener that records the duration of the jobs and of each of their
+ * phases, and the number of items extracted and processed, tagged by job and item type.
+ * <p>
+ * The phase timers publish percentile histograms so the phase that bounds the duration of
+ * each job can be found comparing the timers of the same job. Job level phases
+ * (extraction and preparation) are tagged only by job, while item level phases
+ * (enrichment, validation and processing) are also tagged by item type.
+ * <p>
+ * Every processed item is counted once with one of the {@code success}, {@code failure}
+ * or {@code invalid} results. Items with validation warnings are processed, so they are
+ * counted by the result of their processing. Meters are registered once for each set of
+ * tags and reused afterwards.
+ */
+@Component
+public class MetricsBatchJobItemProcessingListener extends AbstractBatchJobProcessingListenerSupport {
+
+	public static final String METRIC_JOB_DURATION = "hmc.batchjob.duration";
+
+	public static final String METRIC_JOB_PHASE_DURATION = "hmc.batchjob.phase.duration";
+
+	public static final String METRIC_ITEM_PHASE_DURATION = "hmc.batchjob.item.phase.duration";
+
+	public static final String METRIC_ITEMS_EXTRACTED = "hmc.batchjob.items.extracted";
+
+	public static final String METRIC_ITEMS_PROCESSED = "hmc.batchjob.items.processed";
+
+	public static final String TAG_JOB = "job";
+
+	public static final String TAG_ITEM_TYPE = "itemType";
+
+	public static final String TAG_PHASE = "phase";
+
+	public static final String TAG_STATUS = "status";
+
+	public static final String TAG_RESULT = "result";
+
+	public static final String PHASE_EXTRACTION = "extraction";
+
+	public static final String PHASE_PREPARATION = "preparation";
+
+	public static final String PHASE_ENRICHMENT = "enrichment";
+
+	public static final String PHASE_VALIDATION = "validation";
+
+	public static final String PHASE_PROCESSING = "processing";
+
+	public static final String RESULT_SUCCESS = "success";
+
+	public static final String RESULT_FAILURE = "failure";
+
+	public static final String RESULT_INVALID = "invalid";
+
+	private final MeterRegistry meterRegistry;
+
+	private final Clock clock;
+
+	private final Map<String, JobTimings> runningJobs = new ConcurrentHashMap<>();
+
+	private final Map<List<String>, Counter> counters = new ConcurrentHashMap<>();
+
+	private final Map<List<String>, Timer> timers = new ConcurrentHashMap<>();
+
+	public MetricsBatchJobItemProcessingListener(final MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+		this.clock = meterRegistry.config().clock();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onBatchJobStarted(final BatchJobContext ctx) {
+		final long now = clock.monotonicTime();
+		runningJobs.put(ctx.getJobUuid(), new JobTimings(now));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void beforeItemExtraction(final BatchJobContext ctx) {
+		startPhase(ctx);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onItemExtractionSuccessful(final BatchJobContext ctx,
+			final Collection<BatchJobItem<?>> extractedItems) {
+		recordJobPhase(ctx, PHASE_EXTRACTION);
+		extractedItems.forEach(item -> itemsExtractedCounter(ctx, item).increment());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onItemExtractionFailure(final BatchJobContext ctx, final Exception e) {
+		recordJobPhase(ctx, PHASE_EXTRACTION);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onPreparationForProcessingStarted(final BatchJobContext ctx) {
+		startPhase(ctx);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onPreparationForProcessingFinished(final BatchJobContext ctx) {
+		recordJobPhase(ctx, PHASE_PREPARATION);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onPreparationForProcessingFailure(final BatchJobContext ctx, final RuntimeException e) {
+		recordJobPhase(ctx, PHASE_PREPARATION);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void beforeProcessingItem(final BatchJobContext ctx, final BatchJobItem<?> item) {
+		startPhase(ctx);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onItemEnrichmentFinished(final BatchJobContext ctx, final BatchJobItem<?> item) {
+		recordItemPhase(ctx, item, PHASE_ENRICHMENT);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onItemValidationFinished(final BatchJobContext ctx, final BatchJobItem<?> item,
+			final BatchJobItemValidationResult validationResult) {
+		recordItemPhase(ctx, item, PHASE_VALIDATION);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onItemProcessingSuccess(final BatchJobContext ctx, final BatchJobItem<?> item) {
+		recordItemPhase(ctx, item, PHASE_PROCESSING);
+		itemsProcessedCounter(ctx, item, RESULT_SUCCESS).increment();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onItemProcessingFailure(final BatchJobContext ctx, final BatchJobItem<?> item, final Exception e) {
+		// Invalid items are reported as failed without an exception and without having been
+		// processed
+		if (e != null) {
+			recordItemPhase(ctx, item, PHASE_PROCESSING);
+			itemsProcessedCounter(ctx, item, RESULT_FAILURE).increment();
+		}
+		else {
+			itemsProcessedCounter(ctx, item, RESULT_INVALID).increment();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onBatchJobFinished(final BatchJobContext ctx) {
+		recordJob(ctx);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onBatchJobFailure(final BatchJobContext ctx, final Exception e) {
+		recordJob(ctx);
+	}
+
+	private void startPhase(final BatchJobContext ctx) {
+		final JobTimings jobTimings = runningJobs.get(ctx.getJobUuid());
+		if (jobTimings != null) {
+			jobTimings.phaseStart = clock.monotonicTime();
+		}
+	}
+
+	private void recordJobPhase(final BatchJobContext ctx, final String phase) {
+		final JobTimings jobTimings = runningJobs.get(ctx.getJobUuid());
+		if (jobTimings != null) {
+			//@formatter:off
+			timers.computeIfAbsent(List.of(METRIC_JOB_PHASE_DURATION, ctx.getJobName(), phase),
+					key -> Timer.builder(METRIC_JOB_PHASE_DURATION)
+							.description("Duration of the job level phases of the batch jobs")
+							.tag(TAG_JOB, ctx.getJobName())
+							.tag(TAG_PHASE, phase)
+							.publishPercentileHistogram()
+							.register(meterRegistry))
+					.record(jobTimings.restartPhase(clock.monotonicTime()), TimeUnit.NANOSECONDS);
+			//@formatter:on
+		}
+	}
+
+	private void recordItemPhase(final BatchJobContext ctx, final BatchJobItem<?> item, final String phase) {
+		final JobTimings jobTimings = runningJobs.get(ctx.getJobUuid());
+		if (jobTimings != null) {
+			//@formatter:off
+			timers.computeIfAbsent(List.of(METRIC_ITEM_PHASE_DURATION, ctx.getJobName(), item.getItemType(), phase),
+					key -> Timer.builder(METRIC_ITEM_PHASE_DURATION)
+							.description("Duration of the item level phases of the batch jobs")
+							.tag(TAG_JOB, ctx.getJobName())
+							.tag(TAG_ITEM_TYPE, item.getItemType())
+							.tag(TAG_PHASE, phase)
+							.publishPercentileHistogram()
+							.register(meterRegistry))
+					.record(jobTimings.restartPhase(clock.monotonicTime()), TimeUnit.NANOSECONDS);
+			//@formatter:on
+		}
+	}
+
+	private void recordJob(final BatchJobContext ctx) {
+		final JobTimings jobTimings = runningJobs.remove(ctx.getJobUuid());
+		if (jobTimings != null) {
+			final String status = String.valueOf(ctx.getStatus());
+			//@formatter:off
+			timers.computeIfAbsent(List.of(METRIC_JOB_DURATION, ctx.getJobName(), status),
+					key -> Timer.builder(METRIC_JOB_DURATION)
+							.description("Duration of the batch jobs")
+							.tag(TAG_JOB, ctx.getJobName())
+							.tag(TAG_STATUS, status)
+							.publishPercentileHistogram()
+							.register(meterRegistry))
+					.record(clock.monotonicTime() - jobTimings.jobStart, TimeUnit.NANOSECONDS);
+			//@formatter:on
+		}
+	}
+
+	private Counter itemsExtractedCounter(final BatchJobContext ctx, final BatchJobItem<?> item) {
+		//@formatter:off
+		return counters.computeIfAbsent(List.of(METRIC_ITEMS_EXTRACTED, ctx.getJobName(), item.getItemType()),
+				key -> Counter.builder(METRIC_ITEMS_EXTRACTED)
+						.description("Number of items extracted by the batch jobs")
+						.tag(TAG_JOB, ctx.getJobName())
+						.tag(TAG_ITEM_TYPE, item.getItemType())
+						.register(meterRegistry));
+		//@formatter:on
+	}
+
+	private Counter itemsProcessedCounter(final BatchJobContext ctx, final BatchJobItem<?> item, final String result) {
+		//@formatter:off
+		return counters.computeIfAbsent(List.of(METRIC_ITEMS_PROCESSED, ctx.getJobName(), item.getItemType(), result),
+				key -> Counter.builder(METRIC_ITEMS_PROCESSED)
+						.description("Number of items processed by the batch jobs by result")
+						.tag(TAG_JOB, ctx.getJobName())
+						.tag(TAG_ITEM_TYPE, item.getItemType())
+						.tag(TAG_RESULT, result)
+						.register(meterRegistry));
+		//@formatter:on
+	}
+
+	/**
+	 * Start times of a running job and of its current phase. The phases of a job are
+	 * executed sequentially so only one of them needs to be tracked.
+	 */
+	private static class JobTimings {
+
+		private final long jobStart;
+
+		private volatile long phaseStart;
+
+		private JobTimings(final long jobStart) {
+			this.jobStart = jobStart;
+			this.phaseStart = jobStart;
+		}
+
+		private long restartPhase(final long now) {
+			final long elapsed = now - phaseStart;
+			phaseStart = now;
+
+			return elapsed;
+		}
+
+	}
+
+}
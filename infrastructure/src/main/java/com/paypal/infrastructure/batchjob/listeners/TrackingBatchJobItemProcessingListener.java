@@ -8,7 +8,7 @@ import org.springframework.stereotype.Component;
 import java.util.Collection;
 
 /**
- * Tracking batch job processing listener.
+ * Tracking batch job processing listener. Item events are tracked asynchronously.
  */
 @Component
 public class TrackingBatchJobItemProcessingListener extends AbstractBatchJobProcessingListenerSupport {
@@ -19,6 +19,14 @@ public class TrackingBatchJobItemProcessingListener extends AbstractBatchJobProc
 		this.batchJobTrackingService = batchJobTrackingService;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isAsynchronous() {
+		return true;
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
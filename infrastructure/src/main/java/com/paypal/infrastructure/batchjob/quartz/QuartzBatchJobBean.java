@@ -6,31 +6,55 @@ import com.paypal.infrastructure.batchjob.BatchJobItem;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
 import org.springframework.scheduling.quartz.QuartzJobBean;
+import org.springframework.util.ClassUtils;
 
+/**
+ * Quartz job that executes a {@link BatchJob} bean. The job data only holds the class
+ * name of the batch job, so it can be stored in a persistent job store, and the bean is
+ * retrieved from the application context on every execution.
+ */
 public class QuartzBatchJobBean extends QuartzJobBean {
 
-	public static final String KEY_BATCH_JOB_BEAN = "batchJob";
+	public static final String KEY_BATCH_JOB_CLASS = "batchJobClass";
 
 	@Autowired
 	private QuartzBatchJobAdapterFactory quartzBatchJobAdapterFactory;
 
-	private BatchJob<? extends BatchJobContext, ? extends BatchJobItem<?>> batchJob;
+	@Autowired
+	private ApplicationContext applicationContext;
+
+	private String batchJobClass;
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public void executeInternal(JobExecutionContext context) throws JobExecutionException {
-		quartzBatchJobAdapterFactory.getQuartzJob(batchJob).execute(context);
+		quartzBatchJobAdapterFactory.getQuartzJob(getBatchJob()).execute(context);
+	}
+
+	public void setBatchJobClass(String batchJobClass) {
+		this.batchJobClass = batchJobClass;
+	}
+
+	public static String getBatchJobClassName(BatchJob<?, ?> batchJob) {
+		return ClassUtils.getUserClass(batchJob).getName();
 	}
 
-	public void setBatchJob(BatchJob<BatchJobContext, BatchJobItem<?>> batchJob) {
-		this.batchJob = batchJob;
+	public static String getBatchJobClassName(JobExecutionContext context) {
+		return context.getJobDetail().getJobDataMap().getString(KEY_BATCH_JOB_CLASS);
 	}
 
-	public static Class<?> getBatchJobClass(JobExecutionContext context) {
-		return context.getJobDetail().getJobDataMap().get(KEY_BATCH_JOB_BEAN).getClass();
+	@SuppressWarnings("unchecked")
+	private BatchJob<BatchJobContext, BatchJobItem<?>> getBatchJob() {
+		//@formatter:off
+		return applicationContext.getBeansOfType(BatchJob.class).values().stream()
+				.filter(batchJob -> getBatchJobClassName(batchJob).equals(batchJobClass))
+				.findFirst()
+				.orElseThrow(() -> new IllegalStateException("No batch job bean found of class " + batchJobClass));
+		//@formatter:on
 	}
 
 }
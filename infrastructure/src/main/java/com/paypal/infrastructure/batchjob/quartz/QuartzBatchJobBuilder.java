@@ -13,7 +13,7 @@ public class QuartzBatchJobBuilder extends JobBuilder {
 	public static <B extends BatchJob> QuartzBatchJobBuilder newJob(B batchJob) {
 		QuartzBatchJobBuilder builder = new QuartzBatchJobBuilder();
 		JobDataMap jobDataMap = new JobDataMap();
-		jobDataMap.put(QuartzBatchJobBean.KEY_BATCH_JOB_BEAN, batchJob);
+		jobDataMap.put(QuartzBatchJobBean.KEY_BATCH_JOB_CLASS, QuartzBatchJobBean.getBatchJobClassName(batchJob));
 		builder.ofType(QuartzBatchJobBean.class).usingJobData(jobDataMap);
 
 		return builder;
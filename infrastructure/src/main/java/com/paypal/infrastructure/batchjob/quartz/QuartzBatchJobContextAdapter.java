@@ -2,13 +2,27 @@ package com.paypal.infrastructure.batchjob.quartz;
 
 import com.paypal.infrastructure.batchjob.BatchJob;
 import com.paypal.infrastructure.batchjob.BatchJobContext;
+import com.paypal.infrastructure.batchjob.BatchJobContextSnapshot;
 import com.paypal.infrastructure.batchjob.BatchJobItem;
 import com.paypal.infrastructure.batchjob.BatchJobStatus;
 import org.quartz.JobExecutionContext;
 
 import java.util.Optional;
 import java.util.UUID;
-
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link BatchJobContext} stored in the {@link org.quartz.JobDataMap} of the Quartz job.
+ * <p>
+ * Item counters are kept in memory, so they can be incremented without locks from any
+ * number of threads. The processed and failed items are packed in a single
+ * {@link AtomicLong}, so both of them are always read at once and the
+ * {@link BatchJobContextSnapshot snapshots} are consistent. Counters are written back to
+ * the job data map at most every {@link #COUNTERS_WRITE_BACK_INTERVAL_NANOS} while items
+ * are being processed, and always when the job status changes or counters are reset.
+ */
 public class QuartzBatchJobContextAdapter implements BatchJobContext {
 
 	protected static final String KEY_BATCH_JOB = "batchJob";
@@ -29,10 +43,42 @@ public class QuartzBatchJobContextAdapter implements BatchJobContext {
 
 	public static final String KEY_NUMBER_OF_ITEMS_NOT_SUCCESFULLY_EXTRACTED = "numberOfItemsNotSuccesfullyExtracted";
 
+	protected static final long COUNTERS_WRITE_BACK_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+	private static final int FAILED_ITEMS_BITS = 32;
+
+	private static final long FAILED_ITEMS_MASK = 0xFFFFFFFFL;
+
+	private static final long ONE_PROCESSED_ITEM = 1L << FAILED_ITEMS_BITS;
+
+	private static final long ONE_FAILED_ITEM = 1L;
+
 	private final JobExecutionContext jobExecutionContext;
 
+	private final long countersWriteBackIntervalNanos;
+
+	/**
+	 * Number of processed items in the high 32 bits and number of failed items in the low
+	 * 32 bits.
+	 */
+	private final AtomicLong itemCounters;
+
+	private final AtomicInteger numberOfItemsToBeProcessed;
+
+	private final AtomicLong lastCountersWriteBackTime;
+
 	public QuartzBatchJobContextAdapter(final JobExecutionContext jobExecutionContext) {
+		this(jobExecutionContext, COUNTERS_WRITE_BACK_INTERVAL_NANOS);
+	}
+
+	QuartzBatchJobContextAdapter(final JobExecutionContext jobExecutionContext,
+			final long countersWriteBackIntervalNanos) {
 		this.jobExecutionContext = jobExecutionContext;
+		this.countersWriteBackIntervalNanos = countersWriteBackIntervalNanos;
+		this.itemCounters = new AtomicLong(
+				packItemCounters(getIntValue(KEY_NUMBER_OF_ITEMS_PROCESSED), getIntValue(KEY_NUMBER_OF_ITEMS_FAILED)));
+		this.numberOfItemsToBeProcessed = new AtomicInteger(getIntValue(KEY_NUMBER_OF_ITEMS_TO_BE_PROCESSED));
+		this.lastCountersWriteBackTime = new AtomicLong(System.nanoTime());
 	}
 
 	/**
@@ -83,7 +129,8 @@ public class QuartzBatchJobContextAdapter implements BatchJobContext {
 	 */
 	@Override
 	public void setNumberOfItemsToBeProcessed(final int numberOfItemsToBeProcessed) {
-		setIntValue(KEY_NUMBER_OF_ITEMS_TO_BE_PROCESSED, numberOfItemsToBeProcessed);
+		this.numberOfItemsToBeProcessed.set(numberOfItemsToBeProcessed);
+		writeCountersBack();
 	}
 
 	/**
@@ -91,7 +138,7 @@ public class QuartzBatchJobContextAdapter implements BatchJobContext {
 	 */
 	@Override
 	public int getNumberOfItemsToBeProcessed() {
-		return getIntValue(KEY_NUMBER_OF_ITEMS_TO_BE_PROCESSED);
+		return numberOfItemsToBeProcessed.get();
 	}
 
 	/**
@@ -99,7 +146,7 @@ public class QuartzBatchJobContextAdapter implements BatchJobContext {
 	 */
 	@Override
 	public int getNumberOfItemsFailed() {
-		return getIntValue(KEY_NUMBER_OF_ITEMS_FAILED);
+		return unpackFailedItems(itemCounters.get());
 	}
 
 	/**
@@ -107,7 +154,26 @@ public class QuartzBatchJobContextAdapter implements BatchJobContext {
 	 */
 	@Override
 	public void incrementFailedItems() {
-		increment(KEY_NUMBER_OF_ITEMS_FAILED);
+		itemCounters.addAndGet(ONE_FAILED_ITEM);
+		writeCountersBackIfDue();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void markProcessedItemAsFailed() {
+		long counters;
+		long updatedCounters;
+		do {
+			counters = itemCounters.get();
+			// The processed items are only decremented when there is any, so they never
+			// borrow from the failed items packed below them
+			updatedCounters = unpackProcessedItems(counters) > 0 ? counters + ONE_FAILED_ITEM - ONE_PROCESSED_ITEM
+					: counters + ONE_FAILED_ITEM;
+		}
+		while (!itemCounters.compareAndSet(counters, updatedCounters));
+		writeCountersBackIfDue();
 	}
 
 	/**
@@ -115,9 +181,9 @@ public class QuartzBatchJobContextAdapter implements BatchJobContext {
 	 */
 	@Override
 	public void resetCounters() {
-		setIntValue(KEY_NUMBER_OF_ITEMS_PROCESSED, 0);
-		setIntValue(KEY_NUMBER_OF_ITEMS_FAILED, 0);
-		setIntValue(KEY_NUMBER_OF_ITEMS_TO_BE_PROCESSED, 0);
+		itemCounters.set(0);
+		numberOfItemsToBeProcessed.set(0);
+		writeCountersBack();
 	}
 
 	/**
@@ -125,7 +191,7 @@ public class QuartzBatchJobContextAdapter implements BatchJobContext {
 	 */
 	@Override
 	public int getNumberOfItemsProcessed() {
-		return getIntValue(KEY_NUMBER_OF_ITEMS_PROCESSED);
+		return unpackProcessedItems(itemCounters.get());
 	}
 
 	/**
@@ -133,7 +199,9 @@ public class QuartzBatchJobContextAdapter implements BatchJobContext {
 	 */
 	@Override
 	public int getNumberOfItemsRemaining() {
-		return getNumberOfItemsToBeProcessed() - getNumberOfItemsProcessed() - getNumberOfItemsFailed();
+		final long counters = itemCounters.get();
+
+		return getNumberOfItemsToBeProcessed() - unpackProcessedItems(counters) - unpackFailedItems(counters);
 	}
 
 	/**
@@ -141,7 +209,8 @@ public class QuartzBatchJobContextAdapter implements BatchJobContext {
 	 */
 	@Override
 	public void incrementProcessedItems() {
-		increment(KEY_NUMBER_OF_ITEMS_PROCESSED);
+		itemCounters.addAndGet(ONE_PROCESSED_ITEM);
+		writeCountersBackIfDue();
 	}
 
 	/**
@@ -178,22 +247,28 @@ public class QuartzBatchJobContextAdapter implements BatchJobContext {
 	 */
 	@Override
 	public BatchJobStatus getStatus() {
-		final var currentStatus = getStatusValue();
-		if (BatchJobStatus.RUNNING.equals(currentStatus) && getNumberOfItemsFailed() == 0) {
-			return BatchJobStatus.RUNNING;
-		}
-		else if (BatchJobStatus.RUNNING.equals(currentStatus) && getNumberOfItemsFailed() > 0) {
-			return BatchJobStatus.RUNNING_WITH_FAILURES;
-		}
-		if (BatchJobStatus.FINISHED.equals(currentStatus) && getNumberOfItemsFailed() == 0) {
-			return BatchJobStatus.FINISHED;
-		}
-		else if (BatchJobStatus.FINISHED.equals(currentStatus) && getNumberOfItemsFailed() > 0) {
-			return BatchJobStatus.FINISHED_WITH_FAILURES;
-		}
-		else {
-			return currentStatus;
-		}
+		return getStatus(getStatusValue(), getNumberOfItemsFailed());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public BatchJobContextSnapshot getSnapshot() {
+		final long counters = itemCounters.get();
+		final int numberOfItemsProcessed = unpackProcessedItems(counters);
+		final int numberOfItemsFailed = unpackFailedItems(counters);
+		final int toBeProcessed = numberOfItemsToBeProcessed.get();
+
+		//@formatter:off
+		return BatchJobContextSnapshot.builder()
+				.status(getStatus(getStatusValue(), numberOfItemsFailed))
+				.numberOfItemsToBeProcessed(toBeProcessed)
+				.numberOfItemsProcessed(numberOfItemsProcessed)
+				.numberOfItemsFailed(numberOfItemsFailed)
+				.numberOfItemsRemaining(toBeProcessed - numberOfItemsProcessed - numberOfItemsFailed)
+				.build();
+		//@formatter:on
 	}
 
 	/**
@@ -230,12 +305,30 @@ public class QuartzBatchJobContextAdapter implements BatchJobContext {
 		return Optional.ofNullable((Integer) jobExecutionContext.getJobDetail().getJobDataMap().get(key));
 	}
 
-	private void increment(final String key) {
-		final int value = getIntValue(key);
-		setIntValue(key, value + 1);
+	private void writeCountersBackIfDue() {
+		final long lastWriteBackTime = lastCountersWriteBackTime.get();
+		final long now = System.nanoTime();
+		// Only the thread winning the race writes the counters back
+		if (now - lastWriteBackTime >= countersWriteBackIntervalNanos
+				&& lastCountersWriteBackTime.compareAndSet(lastWriteBackTime, now)) {
+			writeCountersBack();
+		}
+	}
+
+	/**
+	 * Writes the item counters to the job data map. Counters are read inside the lock, so
+	 * a write-back never overwrites the values of a later one.
+	 */
+	private synchronized void writeCountersBack() {
+		final long counters = itemCounters.get();
+		setIntValue(KEY_NUMBER_OF_ITEMS_PROCESSED, unpackProcessedItems(counters));
+		setIntValue(KEY_NUMBER_OF_ITEMS_FAILED, unpackFailedItems(counters));
+		setIntValue(KEY_NUMBER_OF_ITEMS_TO_BE_PROCESSED, numberOfItemsToBeProcessed.get());
+		lastCountersWriteBackTime.set(System.nanoTime());
 	}
 
-	private void setStatusValue(final BatchJobStatus value) {
+	private synchronized void setStatusValue(final BatchJobStatus value) {
+		writeCountersBack();
 		jobExecutionContext.getJobDetail().getJobDataMap().put(KEY_BATCH_JOB_STATUS, value);
 	}
 
@@ -262,4 +355,34 @@ public class QuartzBatchJobContextAdapter implements BatchJobContext {
 		jobExecutionContext.getJobDetail().getJobDataMap().put(key, value);
 	}
 
+	private static BatchJobStatus getStatus(final BatchJobStatus currentStatus, final int numberOfItemsFailed) {
+		if (BatchJobStatus.RUNNING.equals(currentStatus) && numberOfItemsFailed == 0) {
+			return BatchJobStatus.RUNNING;
+		}
+		else if (BatchJobStatus.RUNNING.equals(currentStatus) && numberOfItemsFailed > 0) {
+			return BatchJobStatus.RUNNING_WITH_FAILURES;
+		}
+		if (BatchJobStatus.FINISHED.equals(currentStatus) && numberOfItemsFailed == 0) {
+			return BatchJobStatus.FINISHED;
+		}
+		else if (BatchJobStatus.FINISHED.equals(currentStatus) && numberOfItemsFailed > 0) {
+			return BatchJobStatus.FINISHED_WITH_FAILURES;
+		}
+		else {
+			return currentStatus;
+		}
+	}
+
+	private static long packItemCounters(final int numberOfItemsProcessed, final int numberOfItemsFailed) {
+		return ((long) numberOfItemsProcessed << FAILED_ITEMS_BITS) | (numberOfItemsFailed & FAILED_ITEMS_MASK);
+	}
+
+	private static int unpackProcessedItems(final long itemCounters) {
+		return (int) (itemCounters >>> FAILED_ITEMS_BITS);
+	}
+
+	private static int unpackFailedItems(final long itemCounters) {
+		return (int) (itemCounters & FAILED_ITEMS_MASK);
+	}
+
 }
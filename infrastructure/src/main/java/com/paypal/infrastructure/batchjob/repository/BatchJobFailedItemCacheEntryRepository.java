@@ -0,0 +1,70 @@
+package com.paypal.infrastructure.batchjob.repository;
+
+import com.paypal.infrastructure.batchjob.entities.BatchJobFailedItemCacheEntryEntity;
+import com.paypal.infrastructure.batchjob.entities.BatchJobFailedItemCacheEntryId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BatchJobFailedItemCacheEntryRepository
+		extends JpaRepository<BatchJobFailedItemCacheEntryEntity, BatchJobFailedItemCacheEntryId> {
+
+	/**
+	 * Deletes all the cached items of the given type.
+	 * @param itemType the item type.
+	 * @return the number of deleted items.
+	 */
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM BatchJobFailedItemCacheEntryEntity e WHERE e.itemType = :itemType")
+	int deleteByItemType(@Param("itemType") String itemType);
+
+	/**
+	 * Deletes the cached item with the given type and id, if any.
+	 * @param itemType the item type.
+	 * @param itemId the item id.
+	 * @return the number of deleted items.
+	 */
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM BatchJobFailedItemCacheEntryEntity e WHERE e.itemType = :itemType AND e.itemId = :itemId")
+	int deleteByItemTypeAndItemId(@Param("itemType") String itemType, @Param("itemId") String itemId);
+
+	/**
+	 * Returns the cached items with the given type and ids.
+	 * @param itemType the item type.
+	 * @param itemIds the item ids.
+	 * @return the cached items found.
+	 */
+	List<BatchJobFailedItemCacheEntryEntity> findByItemTypeAndItemIdIn(String itemType, Collection<String> itemIds);
+
+	/**
+	 * Deletes the cached items with the given type and ids, if any.
+	 * @param itemType the item type.
+	 * @param itemIds the item ids.
+	 * @return the number of deleted items.
+	 */
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM BatchJobFailedItemCacheEntryEntity e WHERE e.itemType = :itemType AND e.itemId IN :itemIds")
+	int deleteByItemTypeAndItemIdIn(@Param("itemType") String itemType, @Param("itemIds") Collection<String> itemIds);
+
+	/**
+	 * Deletes the cached items stored before the given {@link LocalDateTime}.
+	 * @param before the {@link LocalDateTime} the cached items were stored before.
+	 * @return the number of deleted items.
+	 */
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM BatchJobFailedItemCacheEntryEntity e WHERE e.storedTime < :before")
+	int deleteByStoredTimeBefore(@Param("before") LocalDateTime before);
+
+}
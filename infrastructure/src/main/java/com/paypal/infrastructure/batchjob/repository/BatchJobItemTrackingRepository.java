@@ -4,14 +4,19 @@ import com.paypal.infrastructure.batchjob.BatchJobItemStatus;
 import com.paypal.infrastructure.batchjob.entities.BatchJobItemTrackInfoEntity;
 import com.paypal.infrastructure.batchjob.entities.BatchJobItemTrackingInfoId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
 @Repository
 public interface BatchJobItemTrackingRepository
-		extends JpaRepository<BatchJobItemTrackInfoEntity, BatchJobItemTrackingInfoId> {
+		extends JpaRepository<BatchJobItemTrackInfoEntity, BatchJobItemTrackingInfoId>,
+		BatchJobItemTrackingRepositoryCustom {
 
 	/**
 	 * Retrieves a {@link List} of {@link BatchJobItemTrackInfoEntity} by the given batch
@@ -32,4 +37,41 @@ public interface BatchJobItemTrackingRepository
 	 */
 	List<BatchJobItemTrackInfoEntity> findByItemTypeAndStatusIn(String batchJobType, Set<BatchJobItemStatus> statuses);
 
+	/**
+	 * Counts the {@link BatchJobItemTrackInfoEntity} of the given batch job.
+	 * @param batchJobId the batch job id.
+	 * @return the number of items of the batch job.
+	 */
+	long countByBatchJobId(String batchJobId);
+
+	/**
+	 * Counts the {@link BatchJobItemTrackInfoEntity} of the given batch job with the given
+	 * status.
+	 * @param batchJobId the batch job id.
+	 * @param status the {@link BatchJobItemStatus}.
+	 * @return the number of items of the batch job with the given status.
+	 */
+	long countByBatchJobIdAndStatus(String batchJobId, BatchJobItemStatus status);
+
+	/**
+	 * Retrieves a {@link List} of {@link BatchJobItemTrackInfoEntity} by the given item
+	 * type, {@link Collection} of item ids and {@link Set} of statuses.
+	 * @param itemType the item type what to search for.
+	 * @param itemIds the {@link Collection} of item ids what to search for.
+	 * @param statuses the {@link Set} of statuses what to search for.
+	 * @return a {@link List} of {@link BatchJobItemTrackInfoEntity} by the given item
+	 * type, item ids and statuses.
+	 */
+	List<BatchJobItemTrackInfoEntity> findByItemTypeAndItemIdInAndStatusIn(String itemType, Collection<String> itemIds,
+			Set<BatchJobItemStatus> statuses);
+
+	/**
+	 * Deletes the {@link BatchJobItemTrackInfoEntity} of the given batch jobs.
+	 * @param batchJobIds the batch job ids.
+	 * @return the number of deleted items.
+	 */
+	@Modifying
+	@Query("DELETE FROM BatchJobItemTrackInfoEntity ji WHERE ji.batchJobId IN :batchJobIds")
+	int deleteByBatchJobIdIn(@Param("batchJobIds") Collection<String> batchJobIds);
+
 }
@@ -0,0 +1,35 @@
+package com.paypal.infrastructure.batchjob.repository;
+
+import com.paypal.infrastructure.batchjob.BatchJobItemStatus;
+import com.paypal.infrastructure.batchjob.entities.BatchJobItemTrackInfoEntity;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Queries of {@link BatchJobItemTrackingRepository} built dynamically from the given
+ * filters.
+ */
+public interface BatchJobItemTrackingRepositoryCustom {
+
+	/**
+	 * Retrieves a page of the {@link BatchJobItemTrackInfoEntity} of the given batch job,
+	 * ordered by item type and item id, that come after the given item. Null filters
+	 * aren't added to the query, and the first page is retrieved when
+	 * {@code afterItemType} is null.
+	 * @param batchJobId the batch job id.
+	 * @param itemType the item type to filter by.
+	 * @param status the {@link BatchJobItemStatus} to filter by.
+	 * @param from the minimum start time of the items, inclusive.
+	 * @param to the maximum start time of the items, exclusive.
+	 * @param afterItemType the item type of the last item of the previous page.
+	 * @param afterItemId the item id of the last item of the previous page.
+	 * @param pageable a {@link Pageable} with the size of the page.
+	 * @return a {@link List} of {@link BatchJobItemTrackInfoEntity} with the page.
+	 */
+	List<BatchJobItemTrackInfoEntity> findPageByBatchJobId(String batchJobId, String itemType,
+			BatchJobItemStatus status, LocalDateTime from, LocalDateTime to, String afterItemType, String afterItemId,
+			Pageable pageable);
+
+}
@@ -0,0 +1,69 @@
+package com.paypal.infrastructure.batchjob.repository;
+
+import com.paypal.infrastructure.batchjob.BatchJobItemStatus;
+import com.paypal.infrastructure.batchjob.entities.BatchJobItemTrackInfoEntity;
+import org.springframework.data.domain.Pageable;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria implementation of {@link BatchJobItemTrackingRepositoryCustom}. Only the
+ * filters that are set are added to the query, so the database can use the indexes of
+ * the filtered columns.
+ */
+public class BatchJobItemTrackingRepositoryImpl implements BatchJobItemTrackingRepositoryCustom {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<BatchJobItemTrackInfoEntity> findPageByBatchJobId(final String batchJobId, final String itemType,
+			final BatchJobItemStatus status, final LocalDateTime from, final LocalDateTime to,
+			final String afterItemType, final String afterItemId, final Pageable pageable) {
+		final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+		final CriteriaQuery<BatchJobItemTrackInfoEntity> query = criteriaBuilder
+				.createQuery(BatchJobItemTrackInfoEntity.class);
+		final Root<BatchJobItemTrackInfoEntity> item = query.from(BatchJobItemTrackInfoEntity.class);
+		final Path<String> itemTypePath = item.get("itemType");
+		final Path<String> itemIdPath = item.get("itemId");
+		final Path<LocalDateTime> startTime = item.get("startTime");
+
+		final List<Predicate> predicates = new ArrayList<>();
+		predicates.add(criteriaBuilder.equal(item.get("batchJobId"), batchJobId));
+		if (itemType != null) {
+			predicates.add(criteriaBuilder.equal(itemTypePath, itemType));
+		}
+		if (status != null) {
+			predicates.add(criteriaBuilder.equal(item.get("status"), status));
+		}
+		if (from != null) {
+			predicates.add(criteriaBuilder.greaterThanOrEqualTo(startTime, from));
+		}
+		if (to != null) {
+			predicates.add(criteriaBuilder.lessThan(startTime, to));
+		}
+		if (afterItemType != null) {
+			predicates.add(criteriaBuilder.or(criteriaBuilder.greaterThan(itemTypePath, afterItemType),
+					criteriaBuilder.and(criteriaBuilder.equal(itemTypePath, afterItemType),
+							criteriaBuilder.greaterThan(itemIdPath, afterItemId))));
+		}
+		query.where(predicates.toArray(Predicate[]::new)).orderBy(criteriaBuilder.asc(itemTypePath),
+				criteriaBuilder.asc(itemIdPath));
+
+		return entityManager.createQuery(query).setFirstResult((int) pageable.getOffset())
+				.setMaxResults(pageable.getPageSize()).getResultList();
+	}
+
+}
@@ -0,0 +1,10 @@
+package com.paypal.infrastructure.batchjob.repository;
+
+import com.paypal.infrastructure.batchjob.entities.BatchJobShardLeaseEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BatchJobShardLeaseRepository extends JpaRepository<BatchJobShardLeaseEntity, Integer> {
+
+}
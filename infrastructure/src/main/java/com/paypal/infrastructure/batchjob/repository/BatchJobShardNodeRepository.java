@@ -0,0 +1,28 @@
+package com.paypal.infrastructure.batchjob.repository;
+
+import com.paypal.infrastructure.batchjob.entities.BatchJobShardNodeEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface BatchJobShardNodeRepository extends JpaRepository<BatchJobShardNodeEntity, String> {
+
+	/**
+	 * Counts the nodes whose registration expires after the given {@link LocalDateTime}.
+	 * @param now the current {@link LocalDateTime}.
+	 * @return the number of live nodes.
+	 */
+	long countByExpirationTimeAfter(LocalDateTime now);
+
+	/**
+	 * Retrieves the nodes whose registration expired before the given
+	 * {@link LocalDateTime}.
+	 * @param now the current {@link LocalDateTime}.
+	 * @return a {@link List} of {@link BatchJobShardNodeEntity} with the expired nodes.
+	 */
+	List<BatchJobShardNodeEntity> findByExpirationTimeBefore(LocalDateTime now);
+
+}
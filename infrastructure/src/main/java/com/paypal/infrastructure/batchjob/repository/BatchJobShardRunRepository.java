@@ -0,0 +1,10 @@
+package com.paypal.infrastructure.batchjob.repository;
+
+import com.paypal.infrastructure.batchjob.entities.BatchJobShardRunEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BatchJobShardRunRepository extends JpaRepository<BatchJobShardRunEntity, String> {
+
+}
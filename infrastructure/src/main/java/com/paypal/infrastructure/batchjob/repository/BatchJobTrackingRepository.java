@@ -5,16 +5,19 @@ import com.paypal.infrastructure.batchjob.entities.BatchJobItemTrackInfoEntity;
 import com.paypal.infrastructure.batchjob.entities.BatchJobTrackInfoEntity;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
 @Repository
-public interface BatchJobTrackingRepository extends JpaRepository<BatchJobTrackInfoEntity, String> {
+public interface BatchJobTrackingRepository
+		extends JpaRepository<BatchJobTrackInfoEntity, String>, BatchJobTrackingRepositoryCustom {
 
 	/**
 	 * Retrieves a {@link List} of {@link BatchJobTrackInfoEntity} by the given batch job
@@ -46,25 +49,98 @@ public interface BatchJobTrackingRepository extends JpaRepository<BatchJobTrackI
 	List<BatchJobTrackInfoEntity> findByStartTimeIsBetween(LocalDateTime from, LocalDateTime to);
 
 	/**
-	 * Returns all the {@link BatchJobTrackInfoEntity} which more than 0
-	 * {@link BatchJobItemTrackInfoEntity} associated to its execution.
+	 * Retrieves a page of the ids of the {@link BatchJobTrackInfoEntity} started before
+	 * the given {@link LocalDateTime}.
+	 * @param before the {@link LocalDateTime} the batch jobs started before.
+	 * @param pageable a {@link Pageable} with the size of the page.
+	 * @return a {@link List} with the batch job ids of the page.
+	 */
+	@Query("SELECT j.batchJobId FROM BatchJobTrackInfoEntity j WHERE j.startTime < :before")
+	List<String> findBatchJobIdsByStartTimeBefore(@Param("before") LocalDateTime before, Pageable pageable);
+
+	/**
+	 * Retrieves a page of the {@link BatchJobTrackInfoEntity} started before the given
+	 * {@link LocalDateTime} that still have tracked items, from the oldest to the newest.
+	 * @param before the {@link LocalDateTime} the batch jobs started before.
+	 * @param pageable a {@link Pageable} with the size of the page.
+	 * @return a {@link List} of {@link BatchJobTrackInfoEntity} with the page.
+	 */
+	@Query("""
+			SELECT j FROM BatchJobTrackInfoEntity j
+				WHERE j.startTime < :before
+					AND EXISTS (SELECT ji.batchJobId FROM BatchJobItemTrackInfoEntity ji
+						WHERE ji.batchJobId = j.batchJobId)
+				ORDER BY j.startTime
+			""")
+	List<BatchJobTrackInfoEntity> findWithItemsByStartTimeBefore(@Param("before") LocalDateTime before,
+			Pageable pageable);
+
+	/**
+	 * Deletes the {@link BatchJobTrackInfoEntity} with the given ids.
+	 * @param batchJobIds the batch job ids.
+	 * @return the number of deleted jobs.
+	 */
+	@Modifying
+	@Query("DELETE FROM BatchJobTrackInfoEntity j WHERE j.batchJobId IN :batchJobIds")
+	int deleteByBatchJobIdIn(@Param("batchJobIds") Collection<String> batchJobIds);
+
+	/**
+	 * Returns all the {@link BatchJobTrackInfoEntity} with more than 0 extracted items,
+	 * from the newest to the oldest. It relies on the extracted items counter of the
+	 * jobs, so it doesn't need to count the items of every job.
 	 * @param batchJobType The batch job type.
 	 * @param from The mimimun {@link LocalDateTime} of the jobs to find.
 	 * @param pageable a {@link Pageable} to control de paging of the query.
 	 * @return a {@link List} of {@link BatchJobTrackInfoEntity} with more than 0 items
 	 * extracted
 	 */
-	@SuppressWarnings("java:S2479")
 	@Query("""
 			SELECT j FROM BatchJobTrackInfoEntity j
-				LEFT JOIN BatchJobItemTrackInfoEntity ji ON j.batchJobId = ji.batchJobId
 				WHERE j.batchJobType = :batchJobType
 					AND j.startTime >= :from
-				GROUP BY j.batchJobId, j.batchJobType, j.startTime, j.finishTime, j.status
-				HAVING COUNT(ji.itemId) > 0
+					AND j.extractedItems > 0
 				ORDER BY j.startTime DESC
 			""")
 	List<BatchJobTrackInfoEntity> findLastJobExecutionsWithItems(@Param("batchJobType") String batchJobType,
 			@Param("from") LocalDateTime from, Pageable pageable);
 
+	/**
+	 * Adds the given number of items to the extracted items counter of a job.
+	 * @param batchJobId the batch job id.
+	 * @param items the number of extracted items to add.
+	 * @return the number of updated jobs.
+	 */
+	@Modifying
+	@Query("""
+			UPDATE BatchJobTrackInfoEntity j
+				SET j.extractedItems = COALESCE(j.extractedItems, 0) + :items
+				WHERE j.batchJobId = :batchJobId
+			""")
+	int addExtractedItems(@Param("batchJobId") String batchJobId, @Param("items") int items);
+
+	/**
+	 * Adds the given number of items to the processed items counters of a job.
+	 * @param batchJobId the batch job id.
+	 * @param successfulItems the number of successfully processed items to add.
+	 * @param failedItems the number of failed items to add.
+	 * @return the number of updated jobs.
+	 */
+	@Modifying
+	@Query("""
+			UPDATE BatchJobTrackInfoEntity j
+				SET j.successfulItems = COALESCE(j.successfulItems, 0) + :successfulItems,
+					j.failedItems = COALESCE(j.failedItems, 0) + :failedItems
+				WHERE j.batchJobId = :batchJobId
+			""")
+	int addProcessedItems(@Param("batchJobId") String batchJobId, @Param("successfulItems") int successfulItems,
+			@Param("failedItems") int failedItems);
+
+	/**
+	 * Retrieves a page of the {@link BatchJobTrackInfoEntity} tracked before the item
+	 * counters existed.
+	 * @param pageable a {@link Pageable} with the size of the page.
+	 * @return a {@link List} of {@link BatchJobTrackInfoEntity} without item counters.
+	 */
+	List<BatchJobTrackInfoEntity> findByExtractedItemsIsNull(Pageable pageable);
+
 }
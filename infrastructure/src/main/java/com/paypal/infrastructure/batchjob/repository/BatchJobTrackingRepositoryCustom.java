@@ -0,0 +1,32 @@
+package com.paypal.infrastructure.batchjob.repository;
+
+import com.paypal.infrastructure.batchjob.BatchJobStatus;
+import com.paypal.infrastructure.batchjob.entities.BatchJobTrackInfoEntity;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Queries of {@link BatchJobTrackingRepository} built dynamically from the given
+ * filters.
+ */
+public interface BatchJobTrackingRepositoryCustom {
+
+	/**
+	 * Retrieves a page of the {@link BatchJobTrackInfoEntity}, from the newest to the
+	 * oldest, that come after the given job. Null filters aren't added to the query, and
+	 * the first page is retrieved when {@code afterStartTime} is null.
+	 * @param batchJobType the batch job type to filter by.
+	 * @param status the {@link BatchJobStatus} to filter by.
+	 * @param from the minimum start time of the jobs, inclusive.
+	 * @param to the maximum start time of the jobs, exclusive.
+	 * @param afterStartTime the start time of the last job of the previous page.
+	 * @param afterBatchJobId the batch job id of the last job of the previous page.
+	 * @param pageable a {@link Pageable} with the size of the page.
+	 * @return a {@link List} of {@link BatchJobTrackInfoEntity} with the page.
+	 */
+	List<BatchJobTrackInfoEntity> findPage(String batchJobType, BatchJobStatus status, LocalDateTime from,
+			LocalDateTime to, LocalDateTime afterStartTime, String afterBatchJobId, Pageable pageable);
+
+}
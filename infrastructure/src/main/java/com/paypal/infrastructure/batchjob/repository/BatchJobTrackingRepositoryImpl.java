@@ -0,0 +1,67 @@
+package com.paypal.infrastructure.batchjob.repository;
+
+import com.paypal.infrastructure.batchjob.BatchJobStatus;
+import com.paypal.infrastructure.batchjob.entities.BatchJobTrackInfoEntity;
+import org.springframework.data.domain.Pageable;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria implementation of {@link BatchJobTrackingRepositoryCustom}. Only the filters
+ * that are set are added to the query, so the database can use the indexes of the
+ * filtered columns.
+ */
+public class BatchJobTrackingRepositoryImpl implements BatchJobTrackingRepositoryCustom {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<BatchJobTrackInfoEntity> findPage(final String batchJobType, final BatchJobStatus status,
+			final LocalDateTime from, final LocalDateTime to, final LocalDateTime afterStartTime,
+			final String afterBatchJobId, final Pageable pageable) {
+		final CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+		final CriteriaQuery<BatchJobTrackInfoEntity> query = criteriaBuilder
+				.createQuery(BatchJobTrackInfoEntity.class);
+		final Root<BatchJobTrackInfoEntity> job = query.from(BatchJobTrackInfoEntity.class);
+		final Path<LocalDateTime> startTime = job.get("startTime");
+		final Path<String> batchJobId = job.get("batchJobId");
+
+		final List<Predicate> predicates = new ArrayList<>();
+		if (batchJobType != null) {
+			predicates.add(criteriaBuilder.equal(job.get("batchJobType"), batchJobType));
+		}
+		if (status != null) {
+			predicates.add(criteriaBuilder.equal(job.get("status"), status));
+		}
+		if (from != null) {
+			predicates.add(criteriaBuilder.greaterThanOrEqualTo(startTime, from));
+		}
+		if (to != null) {
+			predicates.add(criteriaBuilder.lessThan(startTime, to));
+		}
+		if (afterStartTime != null) {
+			predicates.add(criteriaBuilder.or(criteriaBuilder.lessThan(startTime, afterStartTime),
+					criteriaBuilder.and(criteriaBuilder.equal(startTime, afterStartTime),
+							criteriaBuilder.lessThan(batchJobId, afterBatchJobId))));
+		}
+		query.where(predicates.toArray(Predicate[]::new)).orderBy(criteriaBuilder.desc(startTime),
+				criteriaBuilder.desc(batchJobId));
+
+		return entityManager.createQuery(query).setFirstResult((int) pageable.getOffset())
+				.setMaxResults(pageable.getPageSize()).getResultList();
+	}
+
+}
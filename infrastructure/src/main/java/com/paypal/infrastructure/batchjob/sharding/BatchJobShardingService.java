@@ -0,0 +1,27 @@
+package com.paypal.infrastructure.batchjob.sharding;
+
+import com.paypal.infrastructure.batchjob.BatchJobContext;
+import com.paypal.infrastructure.batchjob.BatchJobItem;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Decides which of the items extracted by a batch job are processed by this node when
+ * the batch jobs are executed by several connector nodes.
+ */
+public interface BatchJobShardingService {
+
+	/**
+	 * Processes the extracted items that are not processed by other nodes for the same
+	 * firing of the job.
+	 * @param ctx the batch job context.
+	 * @param items the extracted items.
+	 * @param itemProcessor the processor of a single item.
+	 * @param <T> the job item type.
+	 * @return the number of items left to other nodes.
+	 */
+	<T extends BatchJobItem<?>> int processItemsOfThisNode(BatchJobContext ctx, Collection<T> items,
+			Consumer<T> itemProcessor);
+
+}
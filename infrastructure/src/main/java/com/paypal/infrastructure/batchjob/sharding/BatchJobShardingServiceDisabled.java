@@ -0,0 +1,30 @@
+package com.paypal.infrastructure.batchjob.sharding;
+
+import com.paypal.infrastructure.batchjob.BatchJobContext;
+import com.paypal.infrastructure.batchjob.BatchJobItem;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Implementation of {@link BatchJobShardingService} used when the batch jobs are not
+ * sharded, so every node processes all the extracted items.
+ */
+@ConditionalOnProperty(prefix = "jobs.sharding", name = "enabled", havingValue = "false", matchIfMissing = true)
+@Service
+public class BatchJobShardingServiceDisabled implements BatchJobShardingService {
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public <T extends BatchJobItem<?>> int processItemsOfThisNode(final BatchJobContext ctx, final Collection<T> items,
+			final Consumer<T> itemProcessor) {
+		items.forEach(itemProcessor);
+
+		return 0;
+	}
+
+}
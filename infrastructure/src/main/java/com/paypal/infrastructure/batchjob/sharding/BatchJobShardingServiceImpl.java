@@ -0,0 +1,297 @@
+package com.paypal.infrastructure.batchjob.sharding;
+
+import com.paypal.infrastructure.batchjob.BatchJobContext;
+import com.paypal.infrastructure.batchjob.BatchJobItem;
+import com.paypal.infrastructure.batchjob.entities.BatchJobShardLeaseEntity;
+import com.paypal.infrastructure.batchjob.entities.BatchJobShardNodeEntity;
+import com.paypal.infrastructure.batchjob.entities.BatchJobShardRunEntity;
+import com.paypal.infrastructure.batchjob.repository.BatchJobShardLeaseRepository;
+import com.paypal.infrastructure.batchjob.repository.BatchJobShardNodeRepository;
+import com.paypal.infrastructure.batchjob.repository.BatchJobShardRunRepository;
+import com.paypal.infrastructure.util.TimeMachine;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.JobExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of {@link BatchJobShardingService} that splits the extracted items of
+ * the batch jobs among the connector nodes sharing the infrastructure database.
+ * <p>
+ * Items are assigned to one of {@code jobs.sharding.shards} shards by a stable hash of
+ * their id. Nodes register themselves and renew their leases every third of
+ * {@code jobs.sharding.leaseSeconds}, and each of them holds at most its fair share of
+ * shards, so leases are rebalanced when nodes join or leave.
+ * <p>
+ * Every shard of a firing is run by a single node, which claims the run of the shard
+ * before processing its items. The node that fires a job claims the shards it holds a
+ * lease for first, and then every other shard that no node has run for the same or a
+ * later firing, so the items of the nodes that don't fire the job, as with a clustered
+ * job store, or that are rebalancing their leases are never skipped.
+ */
+@ConditionalOnProperty(prefix = "jobs.sharding", name = "enabled", havingValue = "true")
+@Slf4j
+@Service
+public class BatchJobShardingServiceImpl implements BatchJobShardingService {
+
+	private final BatchJobShardLeaseRepository batchJobShardLeaseRepository;
+
+	private final BatchJobShardNodeRepository batchJobShardNodeRepository;
+
+	private final BatchJobShardRunRepository batchJobShardRunRepository;
+
+	private final int numberOfShards;
+
+	private final long leaseSeconds;
+
+	private final String nodeId;
+
+	private volatile Set<Integer> shardsOfThisNode = Set.of();
+
+	private ScheduledExecutorService leaseRenewalExecutor;
+
+	public BatchJobShardingServiceImpl(final BatchJobShardLeaseRepository batchJobShardLeaseRepository,
+			final BatchJobShardNodeRepository batchJobShardNodeRepository,
+			final BatchJobShardRunRepository batchJobShardRunRepository,
+			@Value("${jobs.sharding.shards}") final int numberOfShards,
+			@Value("${jobs.sharding.leaseSeconds}") final long leaseSeconds,
+			@Value("${jobs.sharding.nodeId}") final String nodeId) {
+		this.batchJobShardLeaseRepository = batchJobShardLeaseRepository;
+		this.batchJobShardNodeRepository = batchJobShardNodeRepository;
+		this.batchJobShardRunRepository = batchJobShardRunRepository;
+		this.numberOfShards = Math.max(1, numberOfShards);
+		this.leaseSeconds = Math.max(3, leaseSeconds);
+		this.nodeId = nodeId == null || nodeId.isBlank() ? generateNodeId() : nodeId;
+	}
+
+	@PostConstruct
+	public void startLeaseRenewal() {
+		leaseRenewalExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			final Thread thread = new Thread(runnable, "batch-job-shard-leases");
+			thread.setDaemon(true);
+			return thread;
+		});
+		leaseRenewalExecutor.scheduleWithFixedDelay(this::renewLeasesSafely, 0, leaseSeconds / 3, TimeUnit.SECONDS);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (leaseRenewalExecutor != null) {
+			leaseRenewalExecutor.shutdownNow();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public <T extends BatchJobItem<?>> int processItemsOfThisNode(final BatchJobContext ctx, final Collection<T> items,
+			final Consumer<T> itemProcessor) {
+		renewLeasesSafely();
+
+		final LocalDateTime scheduledFireTime = getScheduledFireTime(ctx);
+		//@formatter:off
+		final Map<Integer, List<T>> itemsByShard = items.stream()
+				.collect(Collectors.groupingBy(item -> getShard(item.getItemId()), TreeMap::new, Collectors.toList()));
+		//@formatter:on
+		// Leased shards are claimed before processing any item, so the other nodes firing
+		// the job at the same time leave them to this node
+		final Set<Integer> shards = shardsOfThisNode;
+		final List<Integer> claimedShards = itemsByShard.keySet().stream().filter(shards::contains)
+				.filter(shard -> claimRun(ctx.getJobName(), shard, scheduledFireTime))
+				.collect(Collectors.toCollection(ArrayList::new));
+		claimedShards.forEach(shard -> itemsByShard.remove(shard).forEach(itemProcessor));
+
+		int itemsOfOtherNodes = 0;
+		for (final Map.Entry<Integer, List<T>> shardItems : itemsByShard.entrySet()) {
+			if (claimRun(ctx.getJobName(), shardItems.getKey(), scheduledFireTime)) {
+				claimedShards.add(shardItems.getKey());
+				shardItems.getValue().forEach(itemProcessor);
+			}
+			else {
+				itemsOfOtherNodes += shardItems.getValue().size();
+			}
+		}
+		log.info("Node [{}] processed {} of {} items extracted by job [{}], shards {}", nodeId,
+				items.size() - itemsOfOtherNodes, items.size(), ctx.getJobName(), claimedShards);
+
+		return itemsOfOtherNodes;
+	}
+
+	/**
+	 * Registers this node as alive, and renews, releases or claims leases so this node
+	 * holds its fair share of the shards among the live nodes.
+	 */
+	public synchronized void renewLeases() {
+		final LocalDateTime now = TimeMachine.now();
+		final LocalDateTime expirationTime = now.plusSeconds(leaseSeconds);
+
+		batchJobShardNodeRepository
+				.save(BatchJobShardNodeEntity.builder().nodeId(nodeId).expirationTime(expirationTime).build());
+		batchJobShardNodeRepository.deleteAll(batchJobShardNodeRepository.findByExpirationTimeBefore(now));
+		final long liveNodes = Math.max(1, batchJobShardNodeRepository.countByExpirationTimeAfter(now));
+		final long fairShare = (numberOfShards + liveNodes - 1) / liveNodes;
+
+		//@formatter:off
+		final Map<Integer, BatchJobShardLeaseEntity> leases = batchJobShardLeaseRepository.findAll().stream()
+				.collect(Collectors.toMap(BatchJobShardLeaseEntity::getShard, Function.identity()));
+		//@formatter:on
+		final Set<Integer> leasedShards = new TreeSet<>();
+		final Set<Integer> shardsWithoutLease = new TreeSet<>();
+		for (int shard = 0; shard < numberOfShards; shard++) {
+			final BatchJobShardLeaseEntity lease = leases.get(shard);
+			if (isLeasedBy(lease, nodeId, now)) {
+				if (leasedShards.size() < fairShare) {
+					saveLease(lease.toBuilder().expirationTime(expirationTime).build()).ifPresent(leasedShards::add);
+				}
+				else {
+					// Extra shards are released so new nodes can claim them
+					saveLease(lease.toBuilder().nodeId(null).expirationTime(now).build());
+				}
+			}
+			else if (isExpired(lease, now)) {
+				shardsWithoutLease.add(shard);
+			}
+		}
+
+		for (final Integer shard : shardsWithoutLease) {
+			if (leasedShards.size() >= fairShare) {
+				break;
+			}
+			final BatchJobShardLeaseEntity lease = Optional.ofNullable(leases.get(shard))
+					.orElseGet(() -> BatchJobShardLeaseEntity.builder().shard(shard).build());
+			saveLease(lease.toBuilder().nodeId(nodeId).expirationTime(expirationTime).build())
+					.ifPresent(leasedShards::add);
+		}
+
+		shardsOfThisNode = leasedShards;
+	}
+
+	/**
+	 * Returns the shard the item with the given id belongs to.
+	 * @param itemId the item id.
+	 * @return the shard of the item.
+	 */
+	public int getShard(final String itemId) {
+		return Math.floorMod(Objects.hashCode(itemId), numberOfShards);
+	}
+
+	public String getNodeId() {
+		return nodeId;
+	}
+
+	private void renewLeasesSafely() {
+		try {
+			renewLeases();
+		}
+		catch (final RuntimeException e) {
+			log.error("Batch job shard leases of node [{}] could not be renewed. Reason: ", nodeId, e);
+		}
+	}
+
+	/**
+	 * Claims the run of a shard of a job for the given firing, unless another node already
+	 * claimed it for the same or a later firing.
+	 * @param jobName the name of the job.
+	 * @param shard the shard.
+	 * @param scheduledFireTime the scheduled fire time of the firing.
+	 * @return whether this node has to process the items of the shard.
+	 */
+	private boolean claimRun(final String jobName, final int shard, final LocalDateTime scheduledFireTime) {
+		final String runId = jobName + "#" + shard;
+		try {
+			final Optional<BatchJobShardRunEntity> run = batchJobShardRunRepository.findById(runId);
+			if (run.filter(previousRun -> !nodeId.equals(previousRun.getNodeId()))
+					.filter(previousRun -> !previousRun.getScheduledFireTime().isBefore(scheduledFireTime))
+					.isPresent()) {
+				return false;
+			}
+			final BatchJobShardRunEntity newRun = BatchJobShardRunEntity.builder().runId(runId).jobName(jobName)
+					.shard(shard).build();
+			batchJobShardRunRepository
+					.save(run.orElse(newRun).toBuilder().nodeId(nodeId).scheduledFireTime(scheduledFireTime).build());
+
+			return true;
+		}
+		catch (final OptimisticLockingFailureException | DataIntegrityViolationException e) {
+			// Another node claimed the run first
+			log.debug("Run of shard [{}] of job [{}] claimed by another node", shard, jobName, e);
+			return false;
+		}
+		catch (final DataAccessException e) {
+			// The items are processed anyway, so they aren't skipped while the database is
+			// unavailable
+			log.warn("Run of shard [{}] of job [{}] could not be claimed by node [{}]", shard, jobName, nodeId, e);
+			return true;
+		}
+	}
+
+	private static LocalDateTime getScheduledFireTime(final BatchJobContext ctx) {
+		//@formatter:off
+		return Optional.ofNullable(ctx.getJobExecutionContext())
+				.map(JobExecutionContext::getScheduledFireTime)
+				.map(fireTime -> LocalDateTime.ofInstant(fireTime.toInstant(), ZoneId.systemDefault()))
+				.orElseGet(TimeMachine::now);
+		//@formatter:on
+	}
+
+	private Optional<Integer> saveLease(final BatchJobShardLeaseEntity lease) {
+		try {
+			return Optional.of(batchJobShardLeaseRepository.save(lease).getShard());
+		}
+		catch (final DataAccessException e) {
+			// Another node updated the lease first
+			log.debug("Lease of shard [{}] could not be updated by node [{}]", lease.getShard(), nodeId, e);
+			return Optional.empty();
+		}
+	}
+
+	private static boolean isLeasedBy(final BatchJobShardLeaseEntity lease, final String nodeId,
+			final LocalDateTime now) {
+		return lease != null && nodeId.equals(lease.getNodeId()) && !isExpired(lease, now);
+	}
+
+	private static boolean isExpired(final BatchJobShardLeaseEntity lease, final LocalDateTime now) {
+		return lease == null || lease.getExpirationTime() == null || !lease.getExpirationTime().isAfter(now);
+	}
+
+	private static String generateNodeId() {
+		String hostName;
+		try {
+			hostName = InetAddress.getLocalHost().getHostName();
+		}
+		catch (final UnknownHostException e) {
+			hostName = "node";
+		}
+
+		return hostName + "-" + UUID.randomUUID();
+	}
+
+}
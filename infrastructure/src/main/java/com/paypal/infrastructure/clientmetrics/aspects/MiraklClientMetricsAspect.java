@@ -0,0 +1,28 @@
+package com.paypal.infrastructure.clientmetrics.aspects;
+
+import com.paypal.infrastructure.clientmetrics.services.ClientMetricsService;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records the metrics of every operation invoked on the Mirakl operator API client.
+ */
+@Aspect
+@Component
+public class MiraklClientMetricsAspect {
+
+	private final ClientMetricsService clientMetricsService;
+
+	public MiraklClientMetricsAspect(final ClientMetricsService clientMetricsService) {
+		this.clientMetricsService = clientMetricsService;
+	}
+
+	@Around("execution(public * com.paypal.infrastructure.sdk.mirakl.MiraklMarketplacePlatformOperatorApiWrapper+.*(..))")
+	public Object aroundMiraklOperation(final ProceedingJoinPoint pjp) throws Throwable {
+		return clientMetricsService.recordInvocation(ClientMetricsService.CLIENT_MIRAKL, pjp.getSignature().getName(),
+				pjp::proceed);
+	}
+
+}
@@ -0,0 +1,42 @@
+package com.paypal.infrastructure.clientmetrics.services;
+
+/**
+ * Records the latency, response size and errors of the operations invoked on the clients
+ * of the remote services used by the connector.
+ */
+public interface ClientMetricsService {
+
+	String CLIENT_MIRAKL = "mirakl";
+
+	String CLIENT_HYPERWALLET = "hyperwallet";
+
+	String CLIENT_BRAINTREE = "braintree";
+
+	/**
+	 * Returns a proxy of the received client that records every operation invoked on it.
+	 * When client metrics are disabled the received client is returned as is.
+	 * @param client the client to be instrumented.
+	 * @param clientName the name of the remote service.
+	 * @param <T> the type of the client.
+	 * @return the instrumented client.
+	 */
+	<T> T instrument(T client, String clientName);
+
+	/**
+	 * Executes and records an operation invoked on a client.
+	 * @param clientName the name of the remote service.
+	 * @param operation the name of the operation.
+	 * @param invocation the invocation of the operation.
+	 * @return the response of the operation.
+	 * @throws Throwable the error thrown by the operation.
+	 */
+	Object recordInvocation(String clientName, String operation, ClientInvocation invocation) throws Throwable;
+
+	@FunctionalInterface
+	interface ClientInvocation {
+
+		Object proceed() throws Throwable;
+
+	}
+
+}
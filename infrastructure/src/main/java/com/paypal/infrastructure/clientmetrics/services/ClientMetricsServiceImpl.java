@@ -0,0 +1,171 @@
+package com.paypal.infrastructure.clientmetrics.services;
+
+import com.hyperwallet.clientsdk.HyperwalletException;
+import com.hyperwallet.clientsdk.model.HyperwalletList;
+import com.mirakl.client.core.exception.MiraklApiException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link ClientMetricsService} that publishes the client metrics in the Micrometer
+ * registry exposed through the actuator:
+ * <ul>
+ * <li>{@code hmc.client.requests}: latency histogram tagged by client, operation,
+ * outcome and error code.</li>
+ * <li>{@code hmc.client.response.items}: number of items returned by the operations
+ * whose response is a collection, an array or a Hyperwallet list.</li>
+ * </ul>
+ * When {@code infrastructure.clientMetrics.enabled} is false, or there isn't any meter
+ * registry, clients aren't proxied and invocations are executed directly. Meters are
+ * registered once for each set of tags and reused afterwards.
+ */
+@Service
+public class ClientMetricsServiceImpl implements ClientMetricsService {
+
+	public static final String METRIC_CLIENT_REQUESTS = "hmc.client.requests";
+
+	public static final String METRIC_CLIENT_RESPONSE_ITEMS = "hmc.client.response.items";
+
+	public static final String TAG_CLIENT = "client";
+
+	public static final String TAG_OPERATION = "operation";
+
+	public static final String TAG_OUTCOME = "outcome";
+
+	public static final String TAG_ERROR_CODE = "errorCode";
+
+	public static final String OUTCOME_SUCCESS = "success";
+
+	public static final String OUTCOME_ERROR = "error";
+
+	public static final String NO_ERROR_CODE = "none";
+
+	private final MeterRegistry meterRegistry;
+
+	private final boolean enabled;
+
+	private final Map<List<String>, Timer> timers = new ConcurrentHashMap<>();
+
+	private final Map<List<String>, DistributionSummary> distributionSummaries = new ConcurrentHashMap<>();
+
+	public ClientMetricsServiceImpl(@Nullable final MeterRegistry meterRegistry,
+			@Value("${infrastructure.clientMetrics.enabled}") final boolean enabled) {
+		this.meterRegistry = meterRegistry;
+		this.enabled = enabled && meterRegistry != null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> T instrument(final T client, final String clientName) {
+		if (!enabled || client == null) {
+			return client;
+		}
+
+		final ProxyFactory proxyFactory = new ProxyFactory(client);
+		proxyFactory.setProxyTargetClass(true);
+		proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+			if (invocation.getMethod().getDeclaringClass().equals(Object.class)) {
+				return invocation.proceed();
+			}
+			return recordInvocation(clientName, invocation.getMethod().getName(), invocation::proceed);
+		});
+
+		return (T) proxyFactory.getProxy(client.getClass().getClassLoader());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object recordInvocation(final String clientName, final String operation,
+			final ClientInvocation invocation) throws Throwable {
+		if (!enabled) {
+			return invocation.proceed();
+		}
+
+		final Timer.Sample sample = Timer.start(meterRegistry);
+		try {
+			final Object response = invocation.proceed();
+			sample.stop(requestsTimer(clientName, operation, OUTCOME_SUCCESS, NO_ERROR_CODE));
+			recordResponseItems(clientName, operation, response);
+
+			return response;
+		}
+		catch (final Throwable e) {
+			sample.stop(requestsTimer(clientName, operation, OUTCOME_ERROR, getErrorCode(e)));
+			throw e;
+		}
+	}
+
+	private void recordResponseItems(final String clientName, final String operation, final Object response) {
+		final int responseItems = getResponseItems(response);
+		if (responseItems >= 0) {
+			//@formatter:off
+			distributionSummaries.computeIfAbsent(List.of(clientName, operation),
+					key -> DistributionSummary.builder(METRIC_CLIENT_RESPONSE_ITEMS)
+							.description("Number of items returned by the remote services")
+							.tag(TAG_CLIENT, clientName)
+							.tag(TAG_OPERATION, operation)
+							.register(meterRegistry))
+					.record(responseItems);
+			//@formatter:on
+		}
+	}
+
+	private Timer requestsTimer(final String clientName, final String operation, final String outcome,
+			final String errorCode) {
+		//@formatter:off
+		return timers.computeIfAbsent(List.of(clientName, operation, outcome, errorCode),
+				key -> Timer.builder(METRIC_CLIENT_REQUESTS)
+						.description("Latency of the operations invoked on the remote services")
+						.tag(TAG_CLIENT, clientName)
+						.tag(TAG_OPERATION, operation)
+						.tag(TAG_OUTCOME, outcome)
+						.tag(TAG_ERROR_CODE, errorCode)
+						.publishPercentileHistogram()
+						.register(meterRegistry));
+		//@formatter:on
+	}
+
+	private int getResponseItems(final Object response) {
+		if (response instanceof Collection) {
+			return ((Collection<?>) response).size();
+		}
+		else if (response instanceof HyperwalletList) {
+			final Collection<?> data = ((HyperwalletList<?>) response).getData();
+			return data != null ? data.size() : 0;
+		}
+		else if (response != null && response.getClass().isArray()) {
+			return Array.getLength(response);
+		}
+
+		return -1;
+	}
+
+	private String getErrorCode(final Throwable e) {
+		if (e instanceof HyperwalletException && ((HyperwalletException) e).getErrorCode() != null) {
+			return ((HyperwalletException) e).getErrorCode();
+		}
+		else if (e instanceof MiraklApiException && ((MiraklApiException) e).getError() != null) {
+			return String.valueOf(((MiraklApiException) e).getError().getStatus());
+		}
+
+		return e.getClass().getSimpleName();
+	}
+
+}
@@ -0,0 +1,56 @@
+package com.paypal.infrastructure.configuration;
+
+import com.paypal.infrastructure.job.BatchJobTrackingRetentionJob;
+import com.paypal.infrastructure.job.JobSchedules;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class BatchJobTrackingRetentionJobConfig {
+
+	private static final String TRIGGER_SUFFIX = "Trigger";
+
+	private static final String JOB_NAME = "BatchJobTrackingRetentionJob";
+
+	/**
+	 * Creates a recurring job {@link BatchJobTrackingRetentionJob}
+	 * @return the {@link JobDetail}
+	 */
+	@Bean
+	public JobDetail batchJobTrackingRetentionJob() {
+		//@formatter:off
+		return JobBuilder.newJob(BatchJobTrackingRetentionJob.class)
+				.withIdentity(JOB_NAME)
+				.storeDurably()
+				.build();
+		//@formatter:on
+	}
+
+	/**
+	 * Schedules the recurring job {@link BatchJobTrackingRetentionJob} with the
+	 * {@code jobDetails} set on
+	 * {@link BatchJobTrackingRetentionJobConfig#batchJobTrackingRetentionJob()}
+	 * @param jobDetails the {@link JobDetail}
+	 * @param cronExpression the cron expression of the job
+	 * @return the {@link Trigger}
+	 */
+	@Bean
+	public Trigger batchJobTrackingRetentionTrigger(
+			@Qualifier("batchJobTrackingRetentionJob") final JobDetail jobDetails,
+			@Value("${jobs.tracking.retention.scheduling.cronexpression}") final String cronExpression) {
+		//@formatter:off
+		return TriggerBuilder.newTrigger()
+				.forJob(jobDetails)
+				.withIdentity(TRIGGER_SUFFIX + JOB_NAME)
+				.withSchedule(JobSchedules.maintenanceJobSchedule(cronExpression))
+				.build();
+		//@formatter:on
+	}
+
+}
@@ -1,26 +1,54 @@
 package com.paypal.infrastructure.configuration;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.paypal.infrastructure.batchjob.cache.BatchJobFailedItemPersistentCacheManager;
+import com.paypal.infrastructure.batchjob.repository.BatchJobFailedItemCacheEntryRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class CacheConfig {
 
+	@Value("${jobs.failedItemsCache.maxSize}")
+	private long maxSize;
+
+	@Value("${jobs.failedItemsCache.ttlDays}")
+	private long ttlDays;
+
+	@Value("${jobs.failedItemsCache.persistent.enabled}")
+	private boolean persistentEnabled;
+
 	@Bean
 	public Caffeine<Object, Object> caffeineConfig() {
-		return Caffeine.newBuilder().maximumSize(5000).expireAfterWrite(15, TimeUnit.DAYS);
+		return Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttlDays, TimeUnit.DAYS);
 	}
 
+	/**
+	 * Creates the {@link CacheManager} of the failed items cache. Its heap tier is bounded
+	 * by {@code jobs.failedItemsCache.maxSize}, and unless
+	 * {@code jobs.failedItemsCache.persistent.enabled} is false it's backed by a
+	 * persistent tier in the infrastructure database, so evicted items and items cached
+	 * before a restart don't need to be reloaded.
+	 * @param caffeine the heap tier configuration.
+	 * @param batchJobFailedItemCacheEntryRepository the persistent tier repository.
+	 * @return the {@link CacheManager}.
+	 */
 	@Bean
-	public CacheManager cacheManager(Caffeine<Object, Object> caffeine) {
+	public CacheManager cacheManager(Caffeine<Object, Object> caffeine,
+			BatchJobFailedItemCacheEntryRepository batchJobFailedItemCacheEntryRepository) {
 		CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
 		caffeineCacheManager.setCaffeine(caffeine);
-		return caffeineCacheManager;
+		if (!persistentEnabled) {
+			return caffeineCacheManager;
+		}
+		return new BatchJobFailedItemPersistentCacheManager(caffeineCacheManager,
+				batchJobFailedItemCacheEntryRepository, Duration.ofDays(ttlDays));
 	}
 
 }
@@ -21,7 +21,9 @@ import javax.sql.DataSource;
  */
 @Configuration
 @PropertySource({ "classpath:infrastructure_db.properties" })
-@EnableJpaRepositories(basePackages = { "com.paypal.infrastructure.repository", "com.paypal.infrastructure.batchjob" },
+@EnableJpaRepositories(
+		basePackages = { "com.paypal.infrastructure.repository", "com.paypal.infrastructure.batchjob",
+				"com.paypal.infrastructure.mail" },
 		entityManagerFactoryRef = "applicationEntityManagerFactory",
 		transactionManagerRef = "applicationTransactionManager")
 public class InfrastructureDatasourceConfig {
@@ -4,7 +4,6 @@ import com.paypal.infrastructure.job.listener.JobExecutionInformationListener;
 import com.paypal.infrastructure.job.listener.SameJobVetoingListener;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
-import org.quartz.TriggerListener;
 import org.springframework.context.annotation.Configuration;
 
 import javax.annotation.PostConstruct;
@@ -23,7 +22,7 @@ public class JobListenerConfig {
 	private JobExecutionInformationListener jobExecutionInformationListener;
 
 	@Resource
-	private TriggerListener sameJobVetoingListener;
+	private SameJobVetoingListener sameJobVetoingListener;
 
 	/**
 	 * Adds {@link JobExecutionInformationListener} to all jobs in the system
@@ -35,12 +34,14 @@ public class JobListenerConfig {
 	}
 
 	/**
-	 * Adds {@link SameJobVetoingListener} to all jobs in the system
+	 * Adds {@link SameJobVetoingListener} to all jobs in the system, as trigger listener
+	 * to veto jobs and as job listener to know when they finish
 	 * @throws SchedulerException if Quartz fails
 	 */
 	@PostConstruct
 	public void triggerSameJobVetoingListener() throws SchedulerException {
 		scheduler.getListenerManager().addTriggerListener(sameJobVetoingListener);
+		scheduler.getListenerManager().addJobListener(sameJobVetoingListener);
 	}
 
 }
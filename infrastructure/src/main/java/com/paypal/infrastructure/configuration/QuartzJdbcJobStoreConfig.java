@@ -0,0 +1,59 @@
+package com.paypal.infrastructure.configuration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.quartz.QuartzProperties;
+import org.springframework.boot.autoconfigure.quartz.SchedulerFactoryBeanCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Properties;
+
+/**
+ * Clustered setup of the Quartz scheduler when the jobs are stored in the database
+ * ({@code spring.quartz.job-store-type=jdbc}). All the nodes sharing the database form a
+ * cluster, so every trigger is fired by only one of them, and the jobs of a node that
+ * stops are recovered by the others.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.quartz", name = "job-store-type", havingValue = "jdbc")
+public class QuartzJdbcJobStoreConfig {
+
+	protected static final String PROPERTY_INSTANCE_ID = "org.quartz.scheduler.instanceId";
+
+	protected static final String PROPERTY_IS_CLUSTERED = "org.quartz.jobStore.isClustered";
+
+	protected static final String PROPERTY_CLUSTER_CHECKIN_INTERVAL = "org.quartz.jobStore.clusterCheckinInterval";
+
+	protected static final String PROPERTY_MISFIRE_THRESHOLD = "org.quartz.jobStore.misfireThreshold";
+
+	protected static final String PROPERTY_DRIVER_DELEGATE_CLASS = "org.quartz.jobStore.driverDelegateClass";
+
+	/**
+	 * Adds the clustering properties to the Quartz scheduler. The ones set explicitly in
+	 * {@code spring.quartz.properties} take precedence.
+	 * @param quartzProperties the {@link QuartzProperties}.
+	 * @param clusterCheckinIntervalMillis how often each node reports it's alive.
+	 * @param misfireThresholdMillis how late a trigger can be fired before it's
+	 * considered misfired.
+	 * @param driverDelegateClass the Quartz delegate for the database in use.
+	 * @return the {@link SchedulerFactoryBeanCustomizer}.
+	 */
+	@Bean
+	public SchedulerFactoryBeanCustomizer clusteredJobStoreCustomizer(final QuartzProperties quartzProperties,
+			@Value("${jobs.store.clusterCheckinIntervalMillis}") final long clusterCheckinIntervalMillis,
+			@Value("${jobs.store.misfireThresholdMillis}") final long misfireThresholdMillis,
+			@Value("${jobs.store.driverDelegateClass}") final String driverDelegateClass) {
+		return schedulerFactoryBean -> {
+			final Properties properties = new Properties();
+			properties.setProperty(PROPERTY_INSTANCE_ID, "AUTO");
+			properties.setProperty(PROPERTY_IS_CLUSTERED, Boolean.TRUE.toString());
+			properties.setProperty(PROPERTY_CLUSTER_CHECKIN_INTERVAL, String.valueOf(clusterCheckinIntervalMillis));
+			properties.setProperty(PROPERTY_MISFIRE_THRESHOLD, String.valueOf(misfireThresholdMillis));
+			properties.setProperty(PROPERTY_DRIVER_DELEGATE_CLASS, driverDelegateClass);
+			properties.putAll(quartzProperties.getProperties());
+			schedulerFactoryBean.setQuartzProperties(properties);
+		};
+	}
+
+}
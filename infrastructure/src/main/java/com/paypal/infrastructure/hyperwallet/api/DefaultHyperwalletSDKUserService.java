@@ -3,10 +3,13 @@ package com.paypal.infrastructure.hyperwallet.api;
 import com.hyperwallet.clientsdk.Hyperwallet;
 import com.hyperwallet.clientsdk.model.HyperwalletProgram;
 import com.hyperwallet.clientsdk.util.HyperwalletEncryption;
+import com.paypal.infrastructure.clientmetrics.services.ClientMetricsService;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class DefaultHyperwalletSDKUserService implements HyperwalletSDKUserService {
@@ -15,10 +18,15 @@ public class DefaultHyperwalletSDKUserService implements HyperwalletSDKUserServi
 
 	private final HyperwalletEncryption encryption;
 
+	private final ClientMetricsService clientMetricsService;
+
+	private final Map<Optional<String>, Hyperwallet> hyperwalletInstances = new ConcurrentHashMap<>();
+
 	public DefaultHyperwalletSDKUserService(final UserHyperwalletApiConfig userHyperwalletApiConfig,
-			@Nullable final HyperwalletEncryption encryption) {
+			@Nullable final HyperwalletEncryption encryption, final ClientMetricsService clientMetricsService) {
 		this.userHyperwalletApiConfig = userHyperwalletApiConfig;
 		this.encryption = encryption;
+		this.clientMetricsService = clientMetricsService;
 	}
 
 	/**
@@ -31,8 +39,7 @@ public class DefaultHyperwalletSDKUserService implements HyperwalletSDKUserServi
 				.map(tokens -> tokens.get(hyperwalletProgram))
 				.orElse(null);
 		//@formatter:on
-		return new Hyperwallet(this.userHyperwalletApiConfig.getUsername(), this.userHyperwalletApiConfig.getPassword(),
-				programUserToken, this.userHyperwalletApiConfig.getServer(), encryption);
+		return getHyperwalletInstance(programUserToken);
 	}
 
 	@Override
@@ -46,9 +53,22 @@ public class DefaultHyperwalletSDKUserService implements HyperwalletSDKUserServi
 				.getProgram(userHyperwalletApiConfig.getRootProgramToken());
 	}
 
+	/**
+	 * Hyperwallet clients only hold the credentials and the program token, so one
+	 * instrumented client is created per program token and reused afterwards, instead of
+	 * creating a new proxy on every call.
+	 * @param programToken the program token, or null.
+	 * @return the {@link Hyperwallet} client of the program token.
+	 */
 	protected Hyperwallet getHyperwalletInstance(final String programToken) {
-		return new Hyperwallet(userHyperwalletApiConfig.getUsername(), userHyperwalletApiConfig.getPassword(),
-				programToken, userHyperwalletApiConfig.getServer(), encryption);
+		return hyperwalletInstances.computeIfAbsent(Optional.ofNullable(programToken),
+				token -> createHyperwalletInstance(programToken));
+	}
+
+	private Hyperwallet createHyperwalletInstance(final String programToken) {
+		return clientMetricsService.instrument(new Hyperwallet(userHyperwalletApiConfig.getUsername(),
+				userHyperwalletApiConfig.getPassword(), programToken, userHyperwalletApiConfig.getServer(), encryption),
+				ClientMetricsService.CLIENT_HYPERWALLET);
 	}
 
 }
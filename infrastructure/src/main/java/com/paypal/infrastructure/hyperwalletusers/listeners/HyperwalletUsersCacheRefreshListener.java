@@ -0,0 +1,60 @@
+package com.paypal.infrastructure.hyperwalletusers.listeners;
+
+import com.hyperwallet.clientsdk.model.HyperwalletWebhookNotification;
+import com.paypal.infrastructure.events.HMCEvent;
+import com.paypal.infrastructure.events.KycBusinessStakeholderEvent;
+import com.paypal.infrastructure.events.KycUserEvent;
+import com.paypal.infrastructure.hyperwalletusers.services.HyperwalletUsersCacheService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Listener that removes a Hyperwallet user from the users cache when a notification
+ * about an update of that user or of any of its business stakeholders is received, so
+ * the notification strategies don't work with outdated data.
+ * <p>
+ * It runs before any other listener so the user is already removed from the cache when
+ * the notification is processed.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class HyperwalletUsersCacheRefreshListener implements ApplicationListener<HMCEvent> {
+
+	private static final String USER_TOKEN_FIELD = "token";
+
+	private static final String BUSINESS_STAKEHOLDER_USER_TOKEN_FIELD = "userToken";
+
+	private final HyperwalletUsersCacheService hyperwalletUsersCacheService;
+
+	public HyperwalletUsersCacheRefreshListener(final HyperwalletUsersCacheService hyperwalletUsersCacheService) {
+		this.hyperwalletUsersCacheService = hyperwalletUsersCacheService;
+	}
+
+	@Override
+	public void onApplicationEvent(final HMCEvent event) {
+		if (event instanceof KycUserEvent) {
+			invalidate(event.getNotification(), USER_TOKEN_FIELD);
+		}
+		else if (event instanceof KycBusinessStakeholderEvent) {
+			invalidate(event.getNotification(), BUSINESS_STAKEHOLDER_USER_TOKEN_FIELD);
+		}
+	}
+
+	private void invalidate(final HyperwalletWebhookNotification notification, final String userTokenField) {
+		if (notification != null && notification.getObject() instanceof Map) {
+			final Object userToken = ((Map<?, ?>) notification.getObject()).get(userTokenField);
+			if (userToken instanceof String) {
+				log.debug("Removing Hyperwallet user [{}] from cache after notification [{}]", userToken,
+						notification.getToken());
+				hyperwalletUsersCacheService.invalidate((String) userToken);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,31 @@
+package com.paypal.infrastructure.hyperwalletusers.services;
+
+import com.hyperwallet.clientsdk.model.HyperwalletUser;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Cache of Hyperwallet users shared by the notification strategies, so repeated
+ * notifications about the same user don't need a call to Hyperwallet every time.
+ */
+public interface HyperwalletUsersCacheService {
+
+	/**
+	 * Returns the user with the given token, loading it with the given loader if it's not
+	 * cached. Users that can't be loaded are not cached.
+	 * @param userToken the Hyperwallet user token.
+	 * @param loader function that retrieves the user from Hyperwallet, it can return
+	 * {@code null} if the user is not found.
+	 * @return the user, if it's cached or it could be loaded.
+	 */
+	Optional<HyperwalletUser> getUser(String userToken, Function<String, HyperwalletUser> loader);
+
+	/**
+	 * Removes the user with the given token from the cache, so the next request loads it
+	 * again from Hyperwallet.
+	 * @param userToken the Hyperwallet user token.
+	 */
+	void invalidate(String userToken);
+
+}
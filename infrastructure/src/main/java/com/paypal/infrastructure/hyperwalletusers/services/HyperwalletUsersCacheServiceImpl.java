@@ -0,0 +1,66 @@
+package com.paypal.infrastructure.hyperwalletusers.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hyperwallet.clientsdk.model.HyperwalletUser;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Default implementation of {@link HyperwalletUsersCacheService}. Entries expire after
+ * {@code infrastructure.hyperwallet.users.cache.ttlSeconds} and the cache hits, misses
+ * and evictions are published as {@code cache.*} metrics with the {@code cache} tag set
+ * to {@value CACHE_NAME}.
+ */
+@Service
+public class HyperwalletUsersCacheServiceImpl implements HyperwalletUsersCacheService {
+
+	public static final String CACHE_NAME = "hyperwalletUsers";
+
+	private final Cache<String, HyperwalletUser> cache;
+
+	public HyperwalletUsersCacheServiceImpl(@Nullable final MeterRegistry meterRegistry,
+			@Value("${infrastructure.hyperwallet.users.cache.maxSize}") final long maxSize,
+			@Value("${infrastructure.hyperwallet.users.cache.ttlSeconds}") final long ttlSeconds) {
+		//@formatter:off
+		cache = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+				.recordStats()
+				.build();
+		//@formatter:on
+		if (meterRegistry != null) {
+			CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Optional<HyperwalletUser> getUser(final String userToken,
+			final Function<String, HyperwalletUser> loader) {
+		if (userToken == null) {
+			return Optional.empty();
+		}
+		return Optional.ofNullable(cache.get(userToken, loader));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void invalidate(final String userToken) {
+		if (userToken != null) {
+			cache.invalidate(userToken);
+		}
+	}
+
+}
@@ -1,24 +1,23 @@
 package com.paypal.infrastructure.job;
 
 import com.paypal.infrastructure.model.entity.JobExecutionInformationEntity;
-import com.paypal.infrastructure.repository.JobExecutionInformationRepository;
+import com.paypal.infrastructure.service.JobExecutionInformationService;
 import org.quartz.Job;
 import org.quartz.JobDataMap;
 import org.quartz.JobExecutionContext;
 
 import javax.annotation.Resource;
 import java.util.Date;
-import java.util.Optional;
 
 /**
- * Abstract class that holds {@link JobExecutionInformationRepository} job
+ * Abstract class that holds {@link JobExecutionInformationService} job
  */
 public abstract class AbstractDeltaInfoJob implements Job {
 
 	private static final String DELTA = "delta";
 
 	@Resource
-	private JobExecutionInformationRepository jobExecutionInformationRepository;
+	private JobExecutionInformationService jobExecutionInformationService;
 
 	/**
 	 * Creates the delta time for mirakl data retrieval query
@@ -40,9 +39,8 @@ public abstract class AbstractDeltaInfoJob implements Job {
 	public Date getDelta(final JobExecutionContext context) {
 		final Date delta = (Date) context.getJobDetail().getJobDataMap().get(DELTA);
 
-		return delta == null ? Optional
-				.ofNullable(jobExecutionInformationRepository.findTopByTypeAndEndTimeIsNotNullOrderByIdDesc(
-						context.getJobDetail().getJobClass().getSimpleName()))
+		return delta == null ? jobExecutionInformationService
+				.getLastCompletedExecution(context.getJobDetail().getJobClass().getSimpleName())
 				.map(JobExecutionInformationEntity::getStartTime).orElse(null) : delta;
 	}
 
@@ -0,0 +1,24 @@
+package com.paypal.infrastructure.job;
+
+import com.paypal.infrastructure.batchjob.BatchJobTrackingRetentionService;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+
+import javax.annotation.Resource;
+
+/**
+ * Deletes the batch job tracking data older than the configured retention periods.
+ */
+@DisallowConcurrentExecution
+public class BatchJobTrackingRetentionJob implements Job {
+
+	@Resource
+	protected BatchJobTrackingRetentionService batchJobTrackingRetentionService;
+
+	@Override
+	public void execute(final JobExecutionContext context) {
+		batchJobTrackingRetentionService.applyRetentionPolicies();
+	}
+
+}
@@ -0,0 +1,47 @@
+package com.paypal.infrastructure.job;
+
+import org.quartz.CronScheduleBuilder;
+
+/**
+ * Cron schedules of the connector jobs, each one with the misfire policy that suits its
+ * type of job. A misfire happens when a job was due while no node of the connector was
+ * running, or all of them were busy.
+ */
+public final class JobSchedules {
+
+	private JobSchedules() {
+	}
+
+	/**
+	 * Creates the schedule of an extract job. Extract jobs retrieve the changes since
+	 * their last execution, so missed executions are replaced by a single execution as
+	 * soon as possible.
+	 * @param cronExpression the cron expression of the job.
+	 * @return the {@link CronScheduleBuilder}.
+	 */
+	public static CronScheduleBuilder extractJobSchedule(final String cronExpression) {
+		return CronScheduleBuilder.cronSchedule(cronExpression).withMisfireHandlingInstructionFireAndProceed();
+	}
+
+	/**
+	 * Creates the schedule of a retry job. Retry jobs are executed frequently, so missed
+	 * executions are skipped and the next scheduled execution processes the pending
+	 * items.
+	 * @param cronExpression the cron expression of the job.
+	 * @return the {@link CronScheduleBuilder}.
+	 */
+	public static CronScheduleBuilder retryJobSchedule(final String cronExpression) {
+		return CronScheduleBuilder.cronSchedule(cronExpression).withMisfireHandlingInstructionDoNothing();
+	}
+
+	/**
+	 * Creates the schedule of a maintenance job. Maintenance jobs are executed rarely, so
+	 * missed executions are replaced by a single execution as soon as possible.
+	 * @param cronExpression the cron expression of the job.
+	 * @return the {@link CronScheduleBuilder}.
+	 */
+	public static CronScheduleBuilder maintenanceJobSchedule(final String cronExpression) {
+		return CronScheduleBuilder.cronSchedule(cronExpression).withMisfireHandlingInstructionFireAndProceed();
+	}
+
+}
@@ -0,0 +1,66 @@
+package com.paypal.infrastructure.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.CronTrigger;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Updates the triggers stored in the clustered job store whose schedule has been changed
+ * in the configuration.
+ * <p>
+ * Stored triggers aren't overwritten on startup, so the missed fire times of the jobs are
+ * handled with their misfire policies when the scheduler starts, and restarting a node
+ * doesn't reset the triggers of the whole cluster. Only the triggers whose cron
+ * expression, time zone or misfire policy differs from the configured one are replaced,
+ * before the scheduler is started.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "spring.quartz", name = "job-store-type", havingValue = "jdbc")
+public class JobTriggersRescheduler implements SmartInitializingSingleton {
+
+	private final Scheduler scheduler;
+
+	private final List<Trigger> triggers;
+
+	public JobTriggersRescheduler(final Scheduler scheduler, final List<Trigger> triggers) {
+		this.scheduler = scheduler;
+		this.triggers = triggers;
+	}
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		triggers.stream().filter(CronTrigger.class::isInstance).map(CronTrigger.class::cast)
+				.forEach(this::rescheduleIfChanged);
+	}
+
+	private void rescheduleIfChanged(final CronTrigger trigger) {
+		try {
+			final Trigger storedTrigger = scheduler.getTrigger(trigger.getKey());
+			if (storedTrigger instanceof CronTrigger && hasChanged((CronTrigger) storedTrigger, trigger)) {
+				log.info("Rescheduling job [{}] from [{}] to [{}]", trigger.getJobKey(),
+						((CronTrigger) storedTrigger).getCronExpression(), trigger.getCronExpression());
+				scheduler.rescheduleJob(trigger.getKey(), trigger);
+			}
+		}
+		catch (final SchedulerException e) {
+			log.error("Trigger [{}] could not be rescheduled, the stored schedule is kept. Reason: ",
+					trigger.getKey(), e);
+		}
+	}
+
+	private static boolean hasChanged(final CronTrigger storedTrigger, final CronTrigger trigger) {
+		return !Objects.equals(storedTrigger.getCronExpression(), trigger.getCronExpression())
+				|| !Objects.equals(storedTrigger.getTimeZone(), trigger.getTimeZone())
+				|| storedTrigger.getMisfireInstruction() != trigger.getMisfireInstruction();
+	}
+
+}
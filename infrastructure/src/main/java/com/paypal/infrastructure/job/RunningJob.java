@@ -0,0 +1,27 @@
+package com.paypal.infrastructure.job;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Job execution currently holding the running slot of its job type in the
+ * {@link RunningJobRegistry}.
+ */
+@Value
+@Builder
+public class RunningJob {
+
+	/**
+	 * Class name of the job, or of the batch job for Quartz batch job beans.
+	 */
+	String jobType;
+
+	String jobName;
+
+	String fireInstanceId;
+
+	LocalDateTime startTime;
+
+}
@@ -0,0 +1,75 @@
+package com.paypal.infrastructure.job;
+
+import com.paypal.infrastructure.util.TimeMachine;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of the job executions running in this node, keyed by job type, so at most
+ * one execution of every job type runs at the same time.
+ * <p>
+ * Acquiring and releasing the running slot of a job type are single atomic operations
+ * on a concurrent map, so checking whether a job type is already running doesn't depend
+ * on the number of jobs being executed.
+ */
+@Component
+public class RunningJobRegistry {
+
+	private final ConcurrentMap<String, RunningJob> runningJobsByType = new ConcurrentHashMap<>();
+
+	/**
+	 * Acquires the running slot of the job type of the given execution.
+	 * @param jobType the job type.
+	 * @param jobName the name of the job being executed.
+	 * @param fireInstanceId the fire instance id of the execution.
+	 * @return true if the slot was acquired, or was already held by the same execution,
+	 * false if another execution of the same job type is running.
+	 */
+	public boolean tryAcquire(final String jobType, final String jobName, final String fireInstanceId) {
+		//@formatter:off
+		final RunningJob runningJob = RunningJob.builder()
+				.jobType(jobType)
+				.jobName(jobName)
+				.fireInstanceId(fireInstanceId)
+				.startTime(TimeMachine.now())
+				.build();
+		//@formatter:on
+		final RunningJob current = runningJobsByType.putIfAbsent(jobType, runningJob);
+
+		return current == null || current.getFireInstanceId().equals(fireInstanceId);
+	}
+
+	/**
+	 * Releases the running slot of the job type if it is held by the given execution.
+	 * Releasing a slot not held by the execution does nothing, so it's safe to release it
+	 * more than once.
+	 * @param jobType the job type.
+	 * @param fireInstanceId the fire instance id of the execution.
+	 */
+	public void release(final String jobType, final String fireInstanceId) {
+		runningJobsByType.computeIfPresent(jobType,
+				(type, current) -> current.getFireInstanceId().equals(fireInstanceId) ? null : current);
+	}
+
+	/**
+	 * Returns the execution currently running for the given job type.
+	 * @param jobType the job type.
+	 * @return the {@link RunningJob}, if any.
+	 */
+	public Optional<RunningJob> getRunningJob(final String jobType) {
+		return Optional.ofNullable(runningJobsByType.get(jobType));
+	}
+
+	/**
+	 * Returns the executions currently running, by job type.
+	 * @return a snapshot of the running jobs.
+	 */
+	public Map<String, RunningJob> getRunningJobs() {
+		return Map.copyOf(runningJobsByType);
+	}
+
+}
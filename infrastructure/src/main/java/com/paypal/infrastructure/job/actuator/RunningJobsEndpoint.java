@@ -0,0 +1,36 @@
+package com.paypal.infrastructure.job.actuator;
+
+import com.paypal.infrastructure.job.RunningJob;
+import com.paypal.infrastructure.job.RunningJobRegistry;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Actuator endpoint exposing the jobs currently running in this node, by job type, as
+ * tracked by the {@link RunningJobRegistry}.
+ */
+@Component
+@Endpoint(id = "runningjobs")
+public class RunningJobsEndpoint {
+
+	private final RunningJobRegistry runningJobRegistry;
+
+	public RunningJobsEndpoint(final RunningJobRegistry runningJobRegistry) {
+		this.runningJobRegistry = runningJobRegistry;
+	}
+
+	@ReadOperation
+	public Map<String, RunningJob> runningJobs() {
+		return runningJobRegistry.getRunningJobs();
+	}
+
+	@ReadOperation
+	public RunningJob runningJob(@Selector final String jobType) {
+		return runningJobRegistry.getRunningJob(jobType).orElse(null);
+	}
+
+}
@@ -2,17 +2,16 @@ package com.paypal.infrastructure.job.listener;
 
 import com.paypal.infrastructure.batchjob.quartz.QuartzBatchJobBean;
 import com.paypal.infrastructure.model.entity.JobExecutionInformationEntity;
-import com.paypal.infrastructure.model.job.JobStatus;
-import com.paypal.infrastructure.repository.JobExecutionInformationRepository;
-import com.paypal.infrastructure.util.DateUtil;
+import com.paypal.infrastructure.service.JobExecutionInformationService;
 import com.paypal.infrastructure.util.TimeMachine;
-import org.quartz.*;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
 import org.quartz.listeners.JobListenerSupport;
 import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
 
 import javax.annotation.Resource;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
 
 /**
  * Listener that populates information data in executed jobs
@@ -23,10 +22,7 @@ public class JobExecutionInformationListener extends JobListenerSupport {
 	public static final String RUNNING_JOB_ENTITY = "runningInstanceId";
 
 	@Resource
-	protected JobExecutionInformationRepository jobExecutionInformationRepository;
-
-	@Resource
-	private Scheduler scheduler;
+	protected JobExecutionInformationService jobExecutionInformationService;
 
 	@Override
 	public String getName() {
@@ -52,36 +48,22 @@ public class JobExecutionInformationListener extends JobListenerSupport {
 	}
 
 	/**
-	 * Stores the {@link JobExecutionInformationEntity} with {@code lastExecutionTime} as
-	 * {@link TimeMachine#now()} and {@code job} as the simple name of the job running
+	 * Records the start of the execution with {@link TimeMachine#now()} as start time and
+	 * the simple name of the job running as type, and keeps its
+	 * {@link JobExecutionInformationEntity} in the {@link JobExecutionContext} until it
+	 * finishes. Job definitions aren't modified.
 	 * @param context the {@link JobExecutionContext}
 	 */
 	protected void saveStartJobExecutionInformation(final JobExecutionContext context) {
-		final JobExecutionInformationEntity jobExecutionInformationEntity = new JobExecutionInformationEntity();
-		jobExecutionInformationEntity.setType(getJobClass(context));
-		jobExecutionInformationEntity.setName(context.getJobDetail().getKey().getName());
-		jobExecutionInformationEntity.setStartTime(DateUtil.convertToDate(TimeMachine.now(), ZoneId.systemDefault()));
-		jobExecutionInformationEntity.setStatus(JobStatus.RUNNING);
-
-		final JobExecutionInformationEntity savedInformation = jobExecutionInformationRepository
-				.save(jobExecutionInformationEntity);
-
-		final JobDataMap jobDataMap = context.getJobDetail().getJobDataMap();
-		jobDataMap.put(RUNNING_JOB_ENTITY, savedInformation);
+		final JobExecutionInformationEntity savedInformation = jobExecutionInformationService
+				.jobStarted(getJobClass(context), context.getJobDetail().getKey().getName());
 
-		final JobDetail jobDetail = context.getJobDetail().getJobBuilder().usingJobData(jobDataMap).build();
-		//@formatter:on
-		try {
-			scheduler.addJob(jobDetail, true);
-		}
-		catch (final SchedulerException e) {
-			getLog().error(e.getMessage(), e);
-		}
+		context.put(RUNNING_JOB_ENTITY, savedInformation);
 	}
 
 	private String getJobClass(JobExecutionContext context) {
 		if (QuartzBatchJobBean.class.equals(context.getJobDetail().getJobClass())) {
-			return QuartzBatchJobBean.getBatchJobClass(context).getSimpleName();
+			return ClassUtils.getShortName(QuartzBatchJobBean.getBatchJobClassName(context));
 		}
 		else {
 			return context.getJobDetail().getJobClass().getSimpleName();
@@ -89,11 +71,11 @@ public class JobExecutionInformationListener extends JobListenerSupport {
 	}
 
 	protected void saveExecutedJobExecutionInformation(final JobExecutionContext context) {
-		final JobExecutionInformationEntity savedInformation = (JobExecutionInformationEntity) context.getJobDetail()
-				.getJobDataMap().get(RUNNING_JOB_ENTITY);
-		savedInformation.setEndTime(DateUtil.convertToDate(TimeMachine.now(), ZoneId.systemDefault()));
-		savedInformation.setStatus(JobStatus.COMPLETED);
-		jobExecutionInformationRepository.save(savedInformation);
+		final JobExecutionInformationEntity savedInformation = (JobExecutionInformationEntity) context
+				.get(RUNNING_JOB_ENTITY);
+		if (savedInformation != null) {
+			jobExecutionInformationService.jobFinished(savedInformation);
+		}
 	}
 
 }
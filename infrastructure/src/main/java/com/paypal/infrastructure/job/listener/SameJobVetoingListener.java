@@ -1,22 +1,24 @@
 package com.paypal.infrastructure.job.listener;
 
 import com.paypal.infrastructure.batchjob.quartz.QuartzBatchJobBean;
+import com.paypal.infrastructure.job.RunningJobRegistry;
 import org.quartz.*;
 import org.quartz.listeners.TriggerListenerSupport;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.Resource;
-import java.util.List;
-import java.util.function.Predicate;
 
 /**
- * Listener that avoids running un parallel jobs of same type
+ * Listener that avoids running un parallel jobs of same type. Running jobs are tracked in
+ * the {@link RunningJobRegistry}: the running slot of the job type is acquired when the
+ * trigger fires and released when the job finishes or is vetoed by any other trigger
+ * listener, so it must be registered both as trigger and job listener.
  */
 @Service
-public class SameJobVetoingListener extends TriggerListenerSupport {
+public class SameJobVetoingListener extends TriggerListenerSupport implements JobListener {
 
 	@Resource
-	private Scheduler scheduler;
+	private RunningJobRegistry runningJobRegistry;
 
 	@Override
 	public String getName() {
@@ -28,35 +30,51 @@ public class SameJobVetoingListener extends TriggerListenerSupport {
 	 */
 	@Override
 	public boolean vetoJobExecution(final Trigger trigger, final JobExecutionContext jecToBeExecuted) {
-		try {
-			final List<JobExecutionContext> currentlyExecutingJobs = scheduler.getCurrentlyExecutingJobs();
-			// @formatter:off
-			final boolean isVetoed = currentlyExecutingJobs.stream()
-					.anyMatch(isSameType(jecToBeExecuted));
-			// @formatter:on
-			if (isVetoed) {
-				getLog().warn("Vetoing job with key [{}] because job of same type {} was already running",
-						jecToBeExecuted.getJobDetail().getKey(), jecToBeExecuted.getJobInstance().getClass());
-				return true;
-			}
-
-		}
-		catch (final SchedulerException e) {
-			getLog().error(e.getMessage(), e);
+		final boolean isVetoed = !runningJobRegistry.tryAcquire(getJobClassName(jecToBeExecuted),
+				jecToBeExecuted.getJobDetail().getKey().getName(), jecToBeExecuted.getFireInstanceId());
+		if (isVetoed) {
+			getLog().warn("Vetoing job with key [{}] because job of same type {} was already running",
+					jecToBeExecuted.getJobDetail().getKey(), jecToBeExecuted.getJobInstance().getClass());
 		}
-		return false;
+
+		return isVetoed;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void jobToBeExecuted(final JobExecutionContext context) {
+		// The running slot is acquired when the trigger fires
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void jobExecutionVetoed(final JobExecutionContext context) {
+		releaseRunningSlot(context);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void jobWasExecuted(final JobExecutionContext context, final JobExecutionException jobException) {
+		releaseRunningSlot(context);
 	}
 
-	private static Predicate<JobExecutionContext> isSameType(final JobExecutionContext jecToBeExecuted) {
-		return context -> getJobClass(context).equals(getJobClass(jecToBeExecuted));
+	private void releaseRunningSlot(final JobExecutionContext context) {
+		// Only releases the slot if it's held by this execution
+		runningJobRegistry.release(getJobClassName(context), context.getFireInstanceId());
 	}
 
-	private static Class<?> getJobClass(JobExecutionContext jec) {
+	private static String getJobClassName(JobExecutionContext jec) {
 		if (jec.getJobInstance() instanceof QuartzBatchJobBean) {
-			return QuartzBatchJobBean.getBatchJobClass(jec);
+			return QuartzBatchJobBean.getBatchJobClassName(jec);
 		}
 		else {
-			return jec.getJobInstance().getClass();
+			return jec.getJobInstance().getClass().getName();
 		}
 	}
 
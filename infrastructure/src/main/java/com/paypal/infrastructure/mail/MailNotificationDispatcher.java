@@ -0,0 +1,15 @@
+package com.paypal.infrastructure.mail;
+
+/**
+ * Sends the email notifications queued in the mail outbox.
+ */
+public interface MailNotificationDispatcher {
+
+	/**
+	 * Sends the pending email notifications of the outbox, grouping similar ones into a
+	 * single digest when digesting is enabled. Notifications that couldn't be sent are
+	 * kept in the outbox to be retried in the next execution.
+	 */
+	void dispatchPendingEmails();
+
+}
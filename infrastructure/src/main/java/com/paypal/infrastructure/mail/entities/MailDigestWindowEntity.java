@@ -0,0 +1,34 @@
+package com.paypal.infrastructure.mail.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Moment an email with a given digest subject was last sent. Emails with the same digest
+ * subject are held until its digest window elapses, whichever connector node sent it.
+ */
+@Data
+@Entity
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class MailDigestWindowEntity implements Serializable {
+
+	/**
+	 * Hash of the digest subject, so subjects of any length can be used as key.
+	 */
+	@Id
+	@Column(length = 32)
+	private String subjectKey;
+
+	private LocalDateTime lastSentTime;
+
+}
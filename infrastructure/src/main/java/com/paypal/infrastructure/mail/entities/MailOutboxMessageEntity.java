@@ -0,0 +1,42 @@
+package com.paypal.infrastructure.mail.entities;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Email notification waiting in the outbox to be sent to the configured recipients. While
+ * a connector node is sending it, the email is claimed by that node until the claim
+ * expires, so the nodes sharing the database never send the same email.
+ */
+@Data
+@Entity
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class MailOutboxMessageEntity implements Serializable {
+
+	@Id
+	@GeneratedValue
+	private Long id;
+
+	@Column(length = 1000)
+	private String subject;
+
+	@Lob
+	private String body;
+
+	private LocalDateTime creationDate;
+
+	private int attempts;
+
+	private String claimOwner;
+
+	private LocalDateTime claimExpirationTime;
+
+}
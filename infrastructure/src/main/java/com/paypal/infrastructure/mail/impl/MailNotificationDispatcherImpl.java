@@ -0,0 +1,320 @@
+package com.paypal.infrastructure.mail.impl;
+
+import com.paypal.infrastructure.configuration.MailConfiguration;
+import com.paypal.infrastructure.mail.MailNotificationDispatcher;
+import com.paypal.infrastructure.mail.entities.MailDigestWindowEntity;
+import com.paypal.infrastructure.mail.entities.MailOutboxMessageEntity;
+import com.paypal.infrastructure.mail.repository.MailDigestWindowRepository;
+import com.paypal.infrastructure.mail.repository.MailOutboxMessageRepository;
+import com.paypal.infrastructure.util.TimeMachine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Default implementation of {@link MailNotificationDispatcher}. The outbox is checked
+ * every {@code mail.notifications.dispatcher.intervalSeconds} by a background thread, so
+ * the SMTP server is never called from the threads that raise the notifications.
+ * <p>
+ * When digesting is enabled, notifications with similar subjects (the same subject once
+ * the identifiers between brackets and the words containing digits are removed) are sent
+ * at most once every {@code mail.notifications.digest.windowSeconds}. The first one is sent
+ * as it is, and the ones raised during the following window are sent together in a single
+ * summary email.
+ * <p>
+ * Several connector nodes can share the outbox: every node claims the emails it's going
+ * to send for {@link #CLAIM_SECONDS}, so the other nodes skip them, and the digest windows
+ * are stored in the database, so they are shared by all the nodes.
+ * <p>
+ * The background thread runs with the logging context set up by the {@link TaskDecorator}
+ * bean, when there is one.
+ */
+@ConditionalOnProperty(prefix = "mail.notifications", name = "enabled", havingValue = "true")
+@Slf4j
+@Service
+public class MailNotificationDispatcherImpl implements MailNotificationDispatcher {
+
+	protected static final int MAX_EMAILS_PER_DISPATCH = 500;
+
+	protected static final int MAX_EMAILS_PER_DIGEST = 20;
+
+	protected static final long CLAIM_SECONDS = 300;
+
+	private static final Pattern DIGEST_IGNORED_SUBJECT_PARTS = Pattern.compile("\\[[^\\]]*\\]|\\S*\\d\\S*");
+
+	private final MailOutboxMessageRepository mailOutboxMessageRepository;
+
+	private final MailDigestWindowRepository mailDigestWindowRepository;
+
+	private final JavaMailSender emailSender;
+
+	private final MailConfiguration mailConfiguration;
+
+	private final long intervalSeconds;
+
+	private final int maxAttempts;
+
+	private final boolean digestEnabled;
+
+	private final long digestWindowSeconds;
+
+	private final TaskDecorator taskDecorator;
+
+	private final String nodeId = UUID.randomUUID().toString();
+
+	private ScheduledExecutorService dispatcherExecutor;
+
+	public MailNotificationDispatcherImpl(final MailOutboxMessageRepository mailOutboxMessageRepository,
+			final MailDigestWindowRepository mailDigestWindowRepository, final JavaMailSender emailSender,
+			final MailConfiguration mailConfiguration,
+			@Value("${mail.notifications.dispatcher.intervalSeconds}") final long intervalSeconds,
+			@Value("${mail.notifications.dispatcher.maxAttempts}") final int maxAttempts,
+			@Value("${mail.notifications.digest.enabled}") final boolean digestEnabled,
+			@Value("${mail.notifications.digest.windowSeconds}") final long digestWindowSeconds,
+			final Optional<TaskDecorator> taskDecorator) {
+		this.mailOutboxMessageRepository = mailOutboxMessageRepository;
+		this.mailDigestWindowRepository = mailDigestWindowRepository;
+		this.emailSender = emailSender;
+		this.mailConfiguration = mailConfiguration;
+		this.intervalSeconds = intervalSeconds;
+		this.maxAttempts = Math.max(1, maxAttempts);
+		this.digestEnabled = digestEnabled;
+		this.digestWindowSeconds = digestWindowSeconds;
+		this.taskDecorator = taskDecorator.orElse(runnable -> runnable);
+	}
+
+	@PostConstruct
+	public void startDispatcher() {
+		if (intervalSeconds > 0) {
+			dispatcherExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				final Thread thread = new Thread(runnable, "mail-notifications-dispatcher");
+				thread.setDaemon(true);
+				return thread;
+			});
+			dispatcherExecutor.scheduleWithFixedDelay(taskDecorator.decorate(this::dispatchPendingEmailsSafely),
+					intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (dispatcherExecutor != null) {
+			dispatcherExecutor.shutdownNow();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public synchronized void dispatchPendingEmails() {
+		final LocalDateTime now = TimeMachine.now();
+		final Map<String, List<MailOutboxMessageEntity>> emailsBySubject = claim(
+				findSendableEmailsBySubject(findThrottledSubjectKeys(now), now), now);
+
+		final Set<Long> unsentEmailIds = emailsBySubject.values().stream().flatMap(List::stream)
+				.map(MailOutboxMessageEntity::getId).collect(Collectors.toCollection(HashSet::new));
+		for (final Map.Entry<String, List<MailOutboxMessageEntity>> subjectEmails : emailsBySubject.entrySet()) {
+			// If the SMTP server is not available the rest of the emails will fail too
+			if (!send(subjectEmails.getValue())) {
+				break;
+			}
+			if (digestEnabled) {
+				mailDigestWindowRepository.save(MailDigestWindowEntity.builder()
+						.subjectKey(getSubjectKey(subjectEmails.getKey())).lastSentTime(now).build());
+			}
+			subjectEmails.getValue().forEach(email -> unsentEmailIds.remove(email.getId()));
+		}
+		if (!unsentEmailIds.isEmpty()) {
+			mailOutboxMessageRepository.releaseClaims(unsentEmailIds, nodeId);
+		}
+	}
+
+	private void dispatchPendingEmailsSafely() {
+		try {
+			dispatchPendingEmails();
+		}
+		catch (final RuntimeException e) {
+			log.error("Pending emails could not be dispatched. Reason: ", e);
+		}
+	}
+
+	/**
+	 * Returns the keys of the digest subjects whose window hasn't elapsed yet, removing
+	 * the elapsed ones.
+	 * @param now the current {@link LocalDateTime}.
+	 * @return the keys of the throttled digest subjects.
+	 */
+	private Set<String> findThrottledSubjectKeys(final LocalDateTime now) {
+		if (!digestEnabled) {
+			return Set.of();
+		}
+		mailDigestWindowRepository.deleteByLastSentTimeAtOrBefore(now.minusSeconds(digestWindowSeconds));
+
+		return mailDigestWindowRepository.findAll().stream().map(MailDigestWindowEntity::getSubjectKey)
+				.collect(Collectors.toCollection(HashSet::new));
+	}
+
+	/**
+	 * Reads the unclaimed emails of the outbox page by page, skipping the emails whose
+	 * subject is still within its digest window, until {@link #MAX_EMAILS_PER_DISPATCH}
+	 * emails that can be sent are found, so the throttled emails never hold back the rest.
+	 * @param throttledSubjectKeys the keys of the throttled digest subjects.
+	 * @param now the current {@link LocalDateTime}.
+	 * @return the emails that can be sent, grouped by subject in the order they were
+	 * queued.
+	 */
+	private Map<String, List<MailOutboxMessageEntity>> findSendableEmailsBySubject(
+			final Set<String> throttledSubjectKeys, final LocalDateTime now) {
+		final Map<String, List<MailOutboxMessageEntity>> emailsBySubject = new LinkedHashMap<>();
+		int sendableEmails = 0;
+		int pageNumber = 0;
+		List<MailOutboxMessageEntity> pendingEmails;
+		do {
+			pendingEmails = mailOutboxMessageRepository.findUnclaimedOrderByIdAsc(now,
+					PageRequest.of(pageNumber++, MAX_EMAILS_PER_DISPATCH));
+			for (final MailOutboxMessageEntity email : pendingEmails) {
+				final String subject = getGroupingSubject(email);
+				if (!digestEnabled || !throttledSubjectKeys.contains(getSubjectKey(subject))) {
+					emailsBySubject.computeIfAbsent(subject, key -> new ArrayList<>()).add(email);
+					if (++sendableEmails >= MAX_EMAILS_PER_DISPATCH) {
+						break;
+					}
+				}
+			}
+		}
+		while (sendableEmails < MAX_EMAILS_PER_DISPATCH && pendingEmails.size() == MAX_EMAILS_PER_DISPATCH);
+
+		return emailsBySubject;
+	}
+
+	/**
+	 * Claims the given emails for this node, so the other nodes don't send them.
+	 * @param emailsBySubject the emails to claim, grouped by subject.
+	 * @param now the current {@link LocalDateTime}.
+	 * @return the emails claimed by this node, grouped by subject.
+	 */
+	private Map<String, List<MailOutboxMessageEntity>> claim(
+			final Map<String, List<MailOutboxMessageEntity>> emailsBySubject, final LocalDateTime now) {
+		final List<Long> emailIds = emailsBySubject.values().stream().flatMap(List::stream)
+				.map(MailOutboxMessageEntity::getId).collect(Collectors.toList());
+		if (emailIds.isEmpty()) {
+			return emailsBySubject;
+		}
+		mailOutboxMessageRepository.claim(emailIds, nodeId, now.plusSeconds(CLAIM_SECONDS), now);
+		final Set<Long> claimedEmailIds = new HashSet<>(mailOutboxMessageRepository.findIdsClaimedBy(emailIds, nodeId));
+
+		final Map<String, List<MailOutboxMessageEntity>> claimedEmailsBySubject = new LinkedHashMap<>();
+		emailsBySubject.forEach((subject, emails) -> {
+			final List<MailOutboxMessageEntity> claimedEmails = emails.stream()
+					.filter(email -> claimedEmailIds.contains(email.getId())).collect(Collectors.toList());
+			if (!claimedEmails.isEmpty()) {
+				claimedEmailsBySubject.put(subject, claimedEmails);
+			}
+		});
+
+		return claimedEmailsBySubject;
+	}
+
+	private String getSubjectKey(final String subject) {
+		return DigestUtils.md5DigestAsHex(subject.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private String getGroupingSubject(final MailOutboxMessageEntity email) {
+		return digestEnabled ? getDigestSubject(email.getSubject()) : String.valueOf(email.getId());
+	}
+
+	private String getDigestSubject(final String subject) {
+		return DIGEST_IGNORED_SUBJECT_PARTS.matcher(String.valueOf(subject)).replaceAll("").replaceAll("\\s+", " ")
+				.trim();
+	}
+
+	private boolean send(final List<MailOutboxMessageEntity> emails) {
+		try {
+			emailSender.send(emails.size() == 1 ? createEmail(emails.get(0)) : createDigestEmail(emails));
+		}
+		catch (final MailException e) {
+			log.error("Email could not be sent. Reason: ", e);
+			recordFailedAttempt(emails);
+			return false;
+		}
+		mailOutboxMessageRepository.deleteAll(emails);
+
+		return true;
+	}
+
+	private void recordFailedAttempt(final List<MailOutboxMessageEntity> emails) {
+		emails.forEach(email -> {
+			email.setAttempts(email.getAttempts() + 1);
+			email.setClaimOwner(null);
+			email.setClaimExpirationTime(null);
+		});
+
+		final Map<Boolean, List<MailOutboxMessageEntity>> emailsByDiscarded = emails.stream()
+				.collect(Collectors.partitioningBy(email -> email.getAttempts() >= maxAttempts));
+		emailsByDiscarded.get(true).forEach(email -> log.error(
+				"Email [{}] could not be sent after [{}] attempts, it won't be retried again. Body:\n{}",
+				email.getSubject(), email.getAttempts(), email.getBody()));
+		mailOutboxMessageRepository.deleteAll(emailsByDiscarded.get(true));
+		mailOutboxMessageRepository.saveAll(emailsByDiscarded.get(false));
+	}
+
+	private SimpleMailMessage createEmail(final MailOutboxMessageEntity email) {
+		return createEmail(email.getSubject(), email.getBody());
+	}
+
+	private SimpleMailMessage createDigestEmail(final List<MailOutboxMessageEntity> emails) {
+		final MailOutboxMessageEntity firstEmail = emails.get(0);
+		final StringBuilder body = new StringBuilder(String.format(
+				"%d notifications with similar subjects were raised between %s and %s:%n%n", emails.size(),
+				firstEmail.getCreationDate(), emails.get(emails.size() - 1).getCreationDate()));
+		emails.stream().limit(MAX_EMAILS_PER_DIGEST)
+				.forEach(email -> body.append(String.format("[%s] %s%n%s%n%n", email.getCreationDate(),
+						email.getSubject(), email.getBody())));
+		if (emails.size() > MAX_EMAILS_PER_DIGEST) {
+			body.append(String.format(
+					"%d more notifications were omitted, please check the logs for further information.%n",
+					emails.size() - MAX_EMAILS_PER_DIGEST));
+		}
+
+		return createEmail(
+				String.format("%s (and %d similar notifications)", firstEmail.getSubject(), emails.size() - 1),
+				body.toString());
+	}
+
+	private SimpleMailMessage createEmail(final String subject, final String body) {
+		final SimpleMailMessage message = new SimpleMailMessage();
+		message.setFrom(mailConfiguration.getFromNotificationEmail());
+		message.setTo(mailConfiguration.getNotificationRecipients());
+		message.setSubject(subject);
+		message.setText(body);
+
+		return message;
+	}
+
+}
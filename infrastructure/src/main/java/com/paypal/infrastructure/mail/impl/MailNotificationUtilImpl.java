@@ -1,17 +1,20 @@
 package com.paypal.infrastructure.mail.impl;
 
-import com.paypal.infrastructure.configuration.MailConfiguration;
+import com.paypal.infrastructure.mail.MailNotificationDispatcher;
 import com.paypal.infrastructure.mail.MailNotificationUtil;
+import com.paypal.infrastructure.mail.entities.MailOutboxMessageEntity;
+import com.paypal.infrastructure.mail.repository.MailOutboxMessageRepository;
+import com.paypal.infrastructure.util.TimeMachine;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
 import javax.annotation.Resource;
 
 /**
- * Default implementation of {@link MailNotificationUtil}
+ * Default implementation of {@link MailNotificationUtil}. Emails are queued in the mail
+ * outbox and sent in background by the {@link MailNotificationDispatcher}, so the callers
+ * are not blocked by the SMTP server.
  */
 @ConditionalOnProperty(prefix = "mail.notifications", name = "enabled", havingValue = "true")
 @Slf4j
@@ -19,26 +22,25 @@ import javax.annotation.Resource;
 public class MailNotificationUtilImpl implements MailNotificationUtil {
 
 	@Resource
-	private JavaMailSender emailSender;
-
-	@Resource
-	private MailConfiguration mailConfiguration;
+	private MailOutboxMessageRepository mailOutboxMessageRepository;
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
 	public void sendPlainTextEmail(final String subject, final String body) {
-		final SimpleMailMessage message = new SimpleMailMessage();
-		message.setFrom(mailConfiguration.getFromNotificationEmail());
-		message.setTo(mailConfiguration.getNotificationRecipients());
-		message.setSubject(subject);
-		message.setText(body);
+		//@formatter:off
+		final MailOutboxMessageEntity email = MailOutboxMessageEntity.builder()
+				.subject(subject)
+				.body(body)
+				.creationDate(TimeMachine.now())
+				.build();
+		//@formatter:on
 		try {
-			emailSender.send(message);
+			mailOutboxMessageRepository.save(email);
 		}
 		catch (final RuntimeException e) {
-			log.error("Email could not be sent. Reason: ", e);
+			log.error("Email could not be queued to be sent. Reason: ", e);
 		}
 	}
 
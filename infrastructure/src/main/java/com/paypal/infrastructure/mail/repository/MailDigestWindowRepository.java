@@ -0,0 +1,31 @@
+package com.paypal.infrastructure.mail.repository;
+
+import com.paypal.infrastructure.mail.entities.MailDigestWindowEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Mail digest windows repository.
+ */
+@Repository
+public interface MailDigestWindowRepository extends JpaRepository<MailDigestWindowEntity, String> {
+
+	/**
+	 * Deletes the digest windows of the emails sent at or before the given
+	 * {@link LocalDateTime}.
+	 * @param lastSentTime the {@link LocalDateTime} the windows to delete were last sent at
+	 * or before.
+	 * @return the number of deleted windows.
+	 */
+	@Transactional
+	@Modifying
+	@Query("DELETE FROM MailDigestWindowEntity w WHERE w.lastSentTime <= :lastSentTime")
+	int deleteByLastSentTimeAtOrBefore(@Param("lastSentTime") LocalDateTime lastSentTime);
+
+}
@@ -0,0 +1,80 @@
+package com.paypal.infrastructure.mail.repository;
+
+import com.paypal.infrastructure.mail.entities.MailOutboxMessageEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Mail outbox repository.
+ */
+@Repository
+public interface MailOutboxMessageRepository extends JpaRepository<MailOutboxMessageEntity, Long> {
+
+	/**
+	 * Retrieves a {@link List} of {@link MailOutboxMessageEntity} not claimed by any node,
+	 * or whose claim has expired, ordered by the moment they were queued.
+	 * @param now the current {@link LocalDateTime}.
+	 * @param pageable the {@link Pageable} pageable data.
+	 * @return a {@link List} of {@link MailOutboxMessageEntity} ordered by id asc.
+	 */
+	@Query("""
+			SELECT m FROM MailOutboxMessageEntity m
+				WHERE m.claimExpirationTime IS NULL OR m.claimExpirationTime <= :now
+				ORDER BY m.id ASC
+			""")
+	List<MailOutboxMessageEntity> findUnclaimedOrderByIdAsc(@Param("now") LocalDateTime now, Pageable pageable);
+
+	/**
+	 * Claims the {@link MailOutboxMessageEntity} with the given ids that aren't claimed by
+	 * any node, or whose claim has expired.
+	 * @param ids the ids of the emails to claim.
+	 * @param claimOwner the node claiming the emails.
+	 * @param claimExpirationTime the {@link LocalDateTime} the claim expires at.
+	 * @param now the current {@link LocalDateTime}.
+	 * @return the number of claimed emails.
+	 */
+	@Transactional
+	@Modifying
+	@Query("""
+			UPDATE MailOutboxMessageEntity m
+				SET m.claimOwner = :claimOwner, m.claimExpirationTime = :claimExpirationTime
+				WHERE m.id IN :ids AND (m.claimExpirationTime IS NULL OR m.claimExpirationTime <= :now)
+			""")
+	int claim(@Param("ids") Collection<Long> ids, @Param("claimOwner") String claimOwner,
+			@Param("claimExpirationTime") LocalDateTime claimExpirationTime, @Param("now") LocalDateTime now);
+
+	/**
+	 * Returns the ids of the given {@link MailOutboxMessageEntity} claimed by a node.
+	 * @param ids the ids of the emails.
+	 * @param claimOwner the node.
+	 * @return the ids of the emails claimed by the node.
+	 */
+	@Query("SELECT m.id FROM MailOutboxMessageEntity m WHERE m.id IN :ids AND m.claimOwner = :claimOwner")
+	List<Long> findIdsClaimedBy(@Param("ids") Collection<Long> ids, @Param("claimOwner") String claimOwner);
+
+	/**
+	 * Releases the claims of a node over the {@link MailOutboxMessageEntity} with the given
+	 * ids.
+	 * @param ids the ids of the emails.
+	 * @param claimOwner the node.
+	 * @return the number of released emails.
+	 */
+	@Transactional
+	@Modifying
+	@Query("""
+			UPDATE MailOutboxMessageEntity m
+				SET m.claimOwner = NULL, m.claimExpirationTime = NULL
+				WHERE m.id IN :ids AND m.claimOwner = :claimOwner
+			""")
+	int releaseClaims(@Param("ids") Collection<Long> ids, @Param("claimOwner") String claimOwner);
+
+}
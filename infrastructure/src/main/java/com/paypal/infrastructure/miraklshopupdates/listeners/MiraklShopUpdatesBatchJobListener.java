@@ -0,0 +1,119 @@
+package com.paypal.infrastructure.miraklshopupdates.listeners;
+
+import com.paypal.infrastructure.batchjob.BatchJobContext;
+import com.paypal.infrastructure.batchjob.BatchJobFailedItemService;
+import com.paypal.infrastructure.batchjob.BatchJobItem;
+import com.paypal.infrastructure.batchjob.BatchJobTrackingService;
+import com.paypal.infrastructure.batchjob.listeners.AbstractBatchJobProcessingListenerSupport;
+import com.paypal.infrastructure.miraklshopupdates.services.MiraklShopUpdatesAggregator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Batch job processing listener that relates the shop updates requested while processing
+ * an item with that item and sends the queued updates to Mirakl when all the items have
+ * been processed. Items whose updates are rejected by Mirakl are moved from the processed
+ * to the failed items so they are retried.
+ * <p>
+ * Updates are sent before the job status is calculated and the job finished event is
+ * sent, so the rest of listeners see the final status and counters of the job.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MiraklShopUpdatesBatchJobListener extends AbstractBatchJobProcessingListenerSupport {
+
+	private final MiraklShopUpdatesAggregator miraklShopUpdatesAggregator;
+
+	private final BatchJobFailedItemService batchJobFailedItemService;
+
+	private final BatchJobTrackingService batchJobTrackingService;
+
+	/**
+	 * Items already counted as failed by every running job, by job uuid.
+	 */
+	private final Map<String, Set<List<String>>> failedItems = new ConcurrentHashMap<>();
+
+	public MiraklShopUpdatesBatchJobListener(final MiraklShopUpdatesAggregator miraklShopUpdatesAggregator,
+			final BatchJobFailedItemService batchJobFailedItemService,
+			final BatchJobTrackingService batchJobTrackingService) {
+		this.miraklShopUpdatesAggregator = miraklShopUpdatesAggregator;
+		this.batchJobFailedItemService = batchJobFailedItemService;
+		this.batchJobTrackingService = batchJobTrackingService;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void beforeProcessingItem(final BatchJobContext ctx, final BatchJobItem<?> item) {
+		miraklShopUpdatesAggregator.bindItem(ctx, item);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onItemProcessingFailure(final BatchJobContext ctx, final BatchJobItem<?> item, final Exception e) {
+		miraklShopUpdatesAggregator.unbindItem();
+		getFailedItems(ctx).add(getItemKey(item));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onItemProcessingSuccess(final BatchJobContext ctx, final BatchJobItem<?> item) {
+		miraklShopUpdatesAggregator.unbindItem();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onItemsProcessingFinished(final BatchJobContext ctx) {
+		flush(ctx);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void onBatchJobFailure(final BatchJobContext ctx, final Exception e) {
+		flush(ctx);
+	}
+
+	private void flush(final BatchJobContext ctx) {
+		final Collection<BatchJobItem<?>> itemsWithFailedUpdates = miraklShopUpdatesAggregator.flush(ctx);
+		final Set<List<String>> failedItemsOfJob = getFailedItems(ctx);
+		itemsWithFailedUpdates.stream().filter(item -> failedItemsOfJob.add(getItemKey(item)))
+				.forEach(item -> markItemAsFailed(ctx, item));
+		failedItems.remove(ctx.getJobUuid());
+	}
+
+	private void markItemAsFailed(final BatchJobContext ctx, final BatchJobItem<?> item) {
+		log.warn("Shop updates of item of type {} with id: {} couldn't be applied in Mirakl, marking it as failed",
+				item.getItemType(), item.getItemId());
+		ctx.markProcessedItemAsFailed();
+		batchJobTrackingService.trackProcessedJobItemAsFailed(ctx.getJobUuid(), item);
+		batchJobFailedItemService.saveItemFailed(item);
+	}
+
+	private Set<List<String>> getFailedItems(final BatchJobContext ctx) {
+		return failedItems.computeIfAbsent(ctx.getJobUuid(), jobUuid -> ConcurrentHashMap.newKeySet());
+	}
+
+	private static List<String> getItemKey(final BatchJobItem<?> item) {
+		return Arrays.asList(item.getItemType(), item.getItemId());
+	}
+
+}
@@ -0,0 +1,69 @@
+package com.paypal.infrastructure.miraklshopupdates.model;
+
+import com.mirakl.client.mmp.operator.domain.shop.update.MiraklUpdateShop;
+import com.mirakl.client.mmp.request.additionalfield.MiraklRequestAdditionalFieldValue;
+import com.paypal.infrastructure.batchjob.BatchJobItem;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Shop update waiting to be sent to Mirakl. It holds the result of merging all the
+ * updates requested for the same shop and the batch job items that requested them.
+ * <p>
+ * The connector only updates the additional fields of the shops, so they are the only
+ * fields merged, and the {@link MiraklUpdateShop} sent to Mirakl is built from them
+ * without modifying the updates requested by the callers.
+ */
+@Getter
+public class PendingMiraklShopUpdate {
+
+	private final Long shopId;
+
+	private final Map<String, MiraklRequestAdditionalFieldValue> additionalFieldValues = new LinkedHashMap<>();
+
+	private final List<BatchJobItem<?>> originatingItems = new ArrayList<>();
+
+	public PendingMiraklShopUpdate(final Long shopId) {
+		this.shopId = shopId;
+	}
+
+	/**
+	 * Merges the additional field values of the given update into this pending update.
+	 * They are merged by code and the last requested value wins, even when it's empty.
+	 * @param update the update to merge.
+	 * @param originatingItem the item that requested the update, can be {@code null}.
+	 */
+	public void merge(final MiraklUpdateShop update, final BatchJobItem<?> originatingItem) {
+		if (update.getAdditionalFieldValues() != null) {
+			update.getAdditionalFieldValues().forEach(field -> additionalFieldValues.put(field.getCode(), field));
+		}
+
+		if (originatingItem != null && originatingItems.stream().noneMatch(item -> isSameItem(item, originatingItem))) {
+			originatingItems.add(originatingItem);
+		}
+	}
+
+	/**
+	 * Returns the merged {@link MiraklUpdateShop} to be sent to Mirakl.
+	 * @return the merged {@link MiraklUpdateShop}.
+	 */
+	public MiraklUpdateShop toMiraklUpdateShop() {
+		final MiraklUpdateShop miraklUpdateShop = new MiraklUpdateShop();
+		miraklUpdateShop.setShopId(shopId);
+		if (!additionalFieldValues.isEmpty()) {
+			miraklUpdateShop.setAdditionalFieldValues(new ArrayList<>(additionalFieldValues.values()));
+		}
+		return miraklUpdateShop;
+	}
+
+	private boolean isSameItem(final BatchJobItem<?> item, final BatchJobItem<?> other) {
+		return Objects.equals(item.getItemType(), other.getItemType())
+				&& Objects.equals(item.getItemId(), other.getItemId());
+	}
+
+}
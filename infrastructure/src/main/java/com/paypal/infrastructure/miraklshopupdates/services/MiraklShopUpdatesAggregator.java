@@ -0,0 +1,49 @@
+package com.paypal.infrastructure.miraklshopupdates.services;
+
+import com.mirakl.client.mmp.operator.domain.shop.update.MiraklUpdateShop;
+import com.mirakl.client.mmp.operator.domain.shop.update.MiraklUpdatedShops;
+import com.paypal.infrastructure.batchjob.BatchJobContext;
+import com.paypal.infrastructure.batchjob.BatchJobItem;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Collects the shop updates (tokens, flags, KYC status...) that are written back to
+ * Mirakl while the items of a batch job are processed, merging the updates targeting the
+ * same shop and sending them to Mirakl in bulk requests.
+ */
+public interface MiraklShopUpdatesAggregator {
+
+	/**
+	 * Binds the given batch job item to the current thread, so shop updates requested
+	 * while it's being processed are queued and related to it.
+	 * @param ctx the batch job context.
+	 * @param item the item being processed.
+	 */
+	void bindItem(BatchJobContext ctx, BatchJobItem<?> item);
+
+	/**
+	 * Unbinds the item bound to the current thread, flushing the queued updates of its
+	 * job if they have been waiting longer than the configured delay.
+	 */
+	void unbindItem();
+
+	/**
+	 * Requests a shop update. If there is a batch job item bound to the current thread
+	 * the update is queued and an empty {@link Optional} is returned, otherwise the
+	 * update is sent to Mirakl immediately.
+	 * @param miraklUpdateShop the shop update.
+	 * @return the Mirakl response when the update has been sent immediately.
+	 */
+	Optional<MiraklUpdatedShops> updateShop(MiraklUpdateShop miraklUpdateShop);
+
+	/**
+	 * Sends all the queued updates of the given job to Mirakl.
+	 * @param ctx the batch job context.
+	 * @return the items whose shop updates couldn't be applied in Mirakl during the job
+	 * execution.
+	 */
+	Collection<BatchJobItem<?>> flush(BatchJobContext ctx);
+
+}
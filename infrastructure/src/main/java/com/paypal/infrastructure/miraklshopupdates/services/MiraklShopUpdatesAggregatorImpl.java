@@ -0,0 +1,248 @@
+package com.paypal.infrastructure.miraklshopupdates.services;
+
+import com.mirakl.client.core.exception.MiraklException;
+import com.mirakl.client.domain.common.error.ErrorBean;
+import com.mirakl.client.mmp.operator.domain.shop.update.MiraklUpdateShop;
+import com.mirakl.client.mmp.operator.domain.shop.update.MiraklUpdateShopWithErrors;
+import com.mirakl.client.mmp.operator.domain.shop.update.MiraklUpdatedShopReturn;
+import com.mirakl.client.mmp.operator.domain.shop.update.MiraklUpdatedShops;
+import com.mirakl.client.mmp.operator.request.shop.MiraklUpdateShopsRequest;
+import com.paypal.infrastructure.batchjob.BatchJobContext;
+import com.paypal.infrastructure.batchjob.BatchJobItem;
+import com.paypal.infrastructure.mail.MailNotificationUtil;
+import com.paypal.infrastructure.miraklshopupdates.model.PendingMiraklShopUpdate;
+import com.paypal.infrastructure.sdk.mirakl.MiraklMarketplacePlatformOperatorApiWrapper;
+import com.paypal.infrastructure.util.LoggingConstantsUtil;
+import com.paypal.infrastructure.util.MiraklLoggingErrorsUtil;
+import com.paypal.infrastructure.util.TimeMachine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Default implementation of {@link MiraklShopUpdatesAggregator}. Updates are queued per
+ * batch job execution and sent in chunks of at most
+ * {@code mirakl.shopupdates.maxShopsPerRequest} shops, either when the queue is full,
+ * when the oldest queued update has waited more than
+ * {@code mirakl.shopupdates.maxDelaySeconds} or when the job ends.
+ */
+@Slf4j
+@Service
+public class MiraklShopUpdatesAggregatorImpl implements MiraklShopUpdatesAggregator {
+
+	private static final String EMAIL_SUBJECT_MESSAGE = "Issue detected updating shop information in Mirakl";
+
+	private static final String ERROR_MESSAGE_PREFIX = "There was an error, please check the logs for further "
+			+ "information:\n";
+
+	private final MiraklMarketplacePlatformOperatorApiWrapper miraklOperatorClient;
+
+	private final MailNotificationUtil mailNotificationUtil;
+
+	private final boolean aggregationEnabled;
+
+	private final int maxShopsPerRequest;
+
+	private final long maxDelaySeconds;
+
+	private final ThreadLocal<BoundItem> boundItem = new ThreadLocal<>();
+
+	private final Map<String, JobShopUpdates> jobShopUpdates = new ConcurrentHashMap<>();
+
+	public MiraklShopUpdatesAggregatorImpl(final MiraklMarketplacePlatformOperatorApiWrapper miraklOperatorClient,
+			final MailNotificationUtil mailNotificationUtil,
+			@Value("${mirakl.shopupdates.enabled}") final boolean aggregationEnabled,
+			@Value("${mirakl.shopupdates.maxShopsPerRequest}") final int maxShopsPerRequest,
+			@Value("${mirakl.shopupdates.maxDelaySeconds}") final long maxDelaySeconds) {
+		this.miraklOperatorClient = miraklOperatorClient;
+		this.mailNotificationUtil = mailNotificationUtil;
+		this.aggregationEnabled = aggregationEnabled;
+		this.maxShopsPerRequest = Math.max(1, maxShopsPerRequest);
+		this.maxDelaySeconds = maxDelaySeconds;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void bindItem(final BatchJobContext ctx, final BatchJobItem<?> item) {
+		if (aggregationEnabled) {
+			boundItem.set(new BoundItem(ctx.getJobUuid(), item));
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void unbindItem() {
+		final BoundItem current = boundItem.get();
+		boundItem.remove();
+		if (current != null) {
+			Optional.ofNullable(jobShopUpdates.get(current.getJobUuid())).ifPresent(this::flushIfExpired);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Optional<MiraklUpdatedShops> updateShop(final MiraklUpdateShop miraklUpdateShop) {
+		final BoundItem current = boundItem.get();
+		if (current == null) {
+			return Optional.ofNullable(
+					miraklOperatorClient.updateShops(new MiraklUpdateShopsRequest(List.of(miraklUpdateShop))));
+		}
+
+		final JobShopUpdates updates = jobShopUpdates.computeIfAbsent(current.getJobUuid(),
+				jobUuid -> new JobShopUpdates());
+		synchronized (updates) {
+			updates.add(miraklUpdateShop, current.getItem());
+			log.debug("Queued update for shop [{}], [{}] shops pending to be updated", miraklUpdateShop.getShopId(),
+					updates.pending.size());
+			if (updates.pending.size() >= maxShopsPerRequest) {
+				sendPendingUpdates(updates);
+			}
+		}
+		flushIfExpired(updates);
+
+		return Optional.empty();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Collection<BatchJobItem<?>> flush(final BatchJobContext ctx) {
+		final JobShopUpdates updates = jobShopUpdates.remove(ctx.getJobUuid());
+		if (updates == null) {
+			return List.of();
+		}
+
+		synchronized (updates) {
+			sendPendingUpdates(updates);
+			return new ArrayList<>(updates.failedItems);
+		}
+	}
+
+	private void flushIfExpired(final JobShopUpdates updates) {
+		synchronized (updates) {
+			if (updates.oldestUpdate != null
+					&& updates.oldestUpdate.plusSeconds(maxDelaySeconds).isBefore(TimeMachine.now())) {
+				sendPendingUpdates(updates);
+			}
+		}
+	}
+
+	private void sendPendingUpdates(final JobShopUpdates updates) {
+		final List<PendingMiraklShopUpdate> pendingUpdates = new ArrayList<>(updates.pending.values());
+		updates.pending.clear();
+		updates.oldestUpdate = null;
+
+		for (int i = 0; i < pendingUpdates.size(); i += maxShopsPerRequest) {
+			final List<PendingMiraklShopUpdate> chunk = pendingUpdates.subList(i,
+					Math.min(i + maxShopsPerRequest, pendingUpdates.size()));
+			updates.failedItems.addAll(sendChunk(chunk));
+		}
+	}
+
+	private List<BatchJobItem<?>> sendChunk(final List<PendingMiraklShopUpdate> chunk) {
+		final Map<Long, PendingMiraklShopUpdate> chunkByShopId = chunk.stream()
+				.collect(Collectors.toMap(PendingMiraklShopUpdate::getShopId, pendingUpdate -> pendingUpdate,
+						(first, second) -> first, LinkedHashMap::new));
+		final String shopIds = chunkByShopId.keySet().stream().map(String::valueOf)
+				.collect(Collectors.joining(LoggingConstantsUtil.LIST_LOGGING_SEPARATOR));
+		final MiraklUpdateShopsRequest request = new MiraklUpdateShopsRequest(
+				chunk.stream().map(PendingMiraklShopUpdate::toMiraklUpdateShop).collect(Collectors.toList()));
+
+		log.info("Updating shops [{}] in Mirakl", shopIds);
+		try {
+			final MiraklUpdatedShops response = miraklOperatorClient.updateShops(request);
+			if (response == null) {
+				log.error("No response was received for update request for shops [{}]", shopIds);
+				return List.of();
+			}
+
+			//@formatter:off
+			return response.getShopReturns().stream()
+					.map(MiraklUpdatedShopReturn::getShopError)
+					.filter(Objects::nonNull)
+					.map(shopError -> reportShopError(shopError, chunkByShopId.get(shopError.getInput().getShopId())))
+					.flatMap(Collection::stream)
+					.collect(Collectors.toList());
+			//@formatter:on
+		}
+		catch (final MiraklException ex) {
+			log.error(String.format("Something went wrong updating information of shops [%s]", shopIds), ex);
+			mailNotificationUtil.sendPlainTextEmail(EMAIL_SUBJECT_MESSAGE,
+					String.format(ERROR_MESSAGE_PREFIX + "Something went wrong updating information of shops [%s]%n%s",
+							shopIds, MiraklLoggingErrorsUtil.stringify(ex)));
+
+			return chunk.stream().map(PendingMiraklShopUpdate::getOriginatingItems).flatMap(Collection::stream)
+					.collect(Collectors.toList());
+		}
+	}
+
+	private List<BatchJobItem<?>> reportShopError(final MiraklUpdateShopWithErrors shopError,
+			final PendingMiraklShopUpdate pendingUpdate) {
+		final String errors = shopError.getErrors().stream().map(ErrorBean::toString)
+				.collect(Collectors.joining(","));
+		final String errorMessage = String.format("Something went wrong updating information of shop [%s]%n%s",
+				shopError.getInput().getShopId(), errors);
+		log.error(errorMessage);
+		mailNotificationUtil.sendPlainTextEmail(EMAIL_SUBJECT_MESSAGE, ERROR_MESSAGE_PREFIX + errorMessage);
+
+		return pendingUpdate != null ? pendingUpdate.getOriginatingItems() : List.of();
+	}
+
+	private static class BoundItem {
+
+		private final String jobUuid;
+
+		private final BatchJobItem<?> item;
+
+		BoundItem(final String jobUuid, final BatchJobItem<?> item) {
+			this.jobUuid = jobUuid;
+			this.item = item;
+		}
+
+		String getJobUuid() {
+			return jobUuid;
+		}
+
+		BatchJobItem<?> getItem() {
+			return item;
+		}
+
+	}
+
+	private static class JobShopUpdates {
+
+		private final Map<Long, PendingMiraklShopUpdate> pending = new LinkedHashMap<>();
+
+		private final List<BatchJobItem<?>> failedItems = new ArrayList<>();
+
+		private LocalDateTime oldestUpdate;
+
+		void add(final MiraklUpdateShop miraklUpdateShop, final BatchJobItem<?> item) {
+			pending.computeIfAbsent(miraklUpdateShop.getShopId(), PendingMiraklShopUpdate::new)
+					.merge(miraklUpdateShop, item);
+			if (oldestUpdate == null) {
+				oldestUpdate = TimeMachine.now();
+			}
+		}
+
+	}
+
+}
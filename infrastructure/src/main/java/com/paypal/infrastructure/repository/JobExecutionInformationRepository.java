@@ -12,6 +12,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public interface JobExecutionInformationRepository extends CrudRepository<JobExecutionInformationEntity, Long> {
 
+	/**
+	 * Retrieves the last finished {@link JobExecutionInformationEntity} of the given job
+	 * type, using the index on the job type and the id.
+	 * @param jobType the type of the job.
+	 * @return the last finished {@link JobExecutionInformationEntity}, or {@code null}
+	 * when the job type was never finished.
+	 */
 	JobExecutionInformationEntity findTopByTypeAndEndTimeIsNotNullOrderByIdDesc(String jobType);
 
 }
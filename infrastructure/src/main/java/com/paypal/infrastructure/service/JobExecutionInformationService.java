@@ -0,0 +1,43 @@
+package com.paypal.infrastructure.service;
+
+import com.paypal.infrastructure.model.entity.JobExecutionInformationEntity;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Keeps the state of the executions of the jobs, so the scheduler job definitions don't
+ * have to be rewritten on every execution.
+ */
+public interface JobExecutionInformationService {
+
+	/**
+	 * Records the start of an execution of a job.
+	 * @param type the type of the job, the simple name of its class.
+	 * @param name the name of the job.
+	 * @return the {@link JobExecutionInformationEntity} of the execution.
+	 */
+	JobExecutionInformationEntity jobStarted(String type, String name);
+
+	/**
+	 * Records the end of an execution of a job.
+	 * @param jobExecutionInformationEntity the {@link JobExecutionInformationEntity}
+	 * returned when the execution started.
+	 */
+	void jobFinished(JobExecutionInformationEntity jobExecutionInformationEntity);
+
+	/**
+	 * Returns the last execution of every job executed since the connector started.
+	 * @return a {@link List} of {@link JobExecutionInformationEntity}.
+	 */
+	List<JobExecutionInformationEntity> getLastExecutions();
+
+	/**
+	 * Returns the last completed execution of the jobs of the given type.
+	 * @param type the type of the job, the simple name of its class.
+	 * @return the {@link JobExecutionInformationEntity} of the last completed execution,
+	 * if any.
+	 */
+	Optional<JobExecutionInformationEntity> getLastCompletedExecution(String type);
+
+}
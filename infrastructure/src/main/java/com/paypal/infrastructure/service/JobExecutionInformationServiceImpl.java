@@ -0,0 +1,93 @@
+package com.paypal.infrastructure.service;
+
+import com.paypal.infrastructure.model.entity.JobExecutionInformationEntity;
+import com.paypal.infrastructure.model.job.JobStatus;
+import com.paypal.infrastructure.repository.JobExecutionInformationRepository;
+import com.paypal.infrastructure.util.DateUtil;
+import com.paypal.infrastructure.util.TimeMachine;
+import org.springframework.stereotype.Service;
+
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Default implementation of {@link JobExecutionInformationService}. Executions are kept
+ * in memory and written through to the database, so the last completed execution of a
+ * job type is only read from the database the first time it's needed.
+ * <p>
+ * When several nodes share the infrastructure database, the executions completed by
+ * other nodes aren't seen until restart, so the deltas may be older than needed, which
+ * only makes the extractions retrieve some items again.
+ */
+@Service
+public class JobExecutionInformationServiceImpl implements JobExecutionInformationService {
+
+	private final JobExecutionInformationRepository jobExecutionInformationRepository;
+
+	private final Map<String, JobExecutionInformationEntity> lastExecutionsByName = new ConcurrentHashMap<>();
+
+	private final Map<String, Optional<JobExecutionInformationEntity>> lastCompletedByType = new ConcurrentHashMap<>();
+
+	public JobExecutionInformationServiceImpl(
+			final JobExecutionInformationRepository jobExecutionInformationRepository) {
+		this.jobExecutionInformationRepository = jobExecutionInformationRepository;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public JobExecutionInformationEntity jobStarted(final String type, final String name) {
+		final JobExecutionInformationEntity jobExecutionInformationEntity = new JobExecutionInformationEntity();
+		jobExecutionInformationEntity.setType(type);
+		jobExecutionInformationEntity.setName(name);
+		jobExecutionInformationEntity.setStartTime(now());
+		jobExecutionInformationEntity.setStatus(JobStatus.RUNNING);
+
+		final JobExecutionInformationEntity savedInformation = jobExecutionInformationRepository
+				.save(jobExecutionInformationEntity);
+		lastExecutionsByName.put(name, savedInformation);
+
+		return savedInformation;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void jobFinished(final JobExecutionInformationEntity jobExecutionInformationEntity) {
+		jobExecutionInformationEntity.setEndTime(now());
+		jobExecutionInformationEntity.setStatus(JobStatus.COMPLETED);
+
+		final JobExecutionInformationEntity savedInformation = jobExecutionInformationRepository
+				.save(jobExecutionInformationEntity);
+		lastExecutionsByName.put(savedInformation.getName(), savedInformation);
+		lastCompletedByType.put(savedInformation.getType(), Optional.of(savedInformation));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<JobExecutionInformationEntity> getLastExecutions() {
+		return List.copyOf(lastExecutionsByName.values());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Optional<JobExecutionInformationEntity> getLastCompletedExecution(final String type) {
+		return lastCompletedByType.computeIfAbsent(type, jobType -> Optional.ofNullable(
+				jobExecutionInformationRepository.findTopByTypeAndEndTimeIsNotNullOrderByIdDesc(jobType)));
+	}
+
+	private static Date now() {
+		return DateUtil.convertToDate(TimeMachine.now(), ZoneId.systemDefault());
+	}
+
+}
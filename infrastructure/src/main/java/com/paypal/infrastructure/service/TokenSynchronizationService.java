@@ -1,5 +1,8 @@
 package com.paypal.infrastructure.service;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * Service for ensure the tokens in hypewallet and mirakl ar in sync
  *
@@ -14,4 +17,15 @@ public interface TokenSynchronizationService<T> {
 	 */
 	T synchronizeToken(T model);
 
+	/**
+	 * Synchronize the tokens in hypewallet and mirakl for a list of items. By default
+	 * each item is synchronized individually, implementations can override it to share
+	 * the calls to hyperwallet and mirakl between items.
+	 * @param models that contains the items to synchronize
+	 * @return the updated model items, in the same order they were received
+	 */
+	default List<T> synchronizeTokens(final List<T> models) {
+		return models.stream().map(this::synchronizeToken).collect(Collectors.toList());
+	}
+
 }
@@ -0,0 +1,23 @@
+package com.paypal.infrastructure.strategy;
+
+import java.util.Set;
+
+/**
+ * Strategy that declares the discriminators of the sources it's applicable to, so the
+ * strategy executors can select it with a map lookup instead of calling
+ * {@link #isApplicable(Object)} on every registered strategy.
+ * <p>
+ * A keyed strategy must only be applicable to sources whose discriminator, as returned by
+ * the {@code getStrategyKey} method of the executor, is one of its keys.
+ * {@link #isApplicable(Object)} is still called on the strategies selected by key.
+ */
+public interface KeyedStrategy<S, T> extends Strategy<S, T> {
+
+	/**
+	 * Returns the discriminators of the sources this strategy is applicable to. When the
+	 * set is empty the strategy is handled as a strategy without key.
+	 * @return the set of discriminators.
+	 */
+	Set<Object> getStrategyKeys();
+
+}
@@ -7,19 +7,31 @@ import java.util.Set;
 
 /**
  * Abstract strategy executor that ensures that multiple strategies run for an specific
- * source and target
+ * source and target.
+ * <p>
+ * When the executor provides the discriminator of the sources through
+ * {@link #getStrategyKey(Object)}, the {@link KeyedStrategy} registered for it are looked
+ * up in a dispatch table and only the strategies without key are scanned. Sources without
+ * discriminator or with a discriminator no strategy is registered for are checked against
+ * all the strategies.
  */
 public abstract class MultipleAbstractStrategyExecutor<S, T> implements StrategyExecutor<S, List<T>> {
 
+	private volatile StrategyDispatchTable<S, T> dispatchTable;
+
 	@Override
 	public List<T> execute(final S source) {
 		final ArrayList<T> appendedExecution = new ArrayList<>();
-		final Set<Strategy<S, T>> strategies = getStrategies();
-		if (Objects.nonNull(strategies)) {
-			for (final Strategy<S, T> strategy : strategies) {
-				if (strategy.isApplicable(source)) {
-					appendedExecution.add(strategy.execute(source));
-				}
+		final StrategyDispatchTable<S, T> table = getDispatchTable();
+		if (Objects.nonNull(table)) {
+			final List<Strategy<S, T>> keyedStrategies = table.hasKeyedStrategies()
+					? table.getKeyedStrategies(getStrategyKey(source)) : null;
+			if (Objects.isNull(keyedStrategies)) {
+				executeApplicable(table.getAllStrategies(), source, appendedExecution);
+			}
+			else {
+				executeApplicable(keyedStrategies, source, appendedExecution);
+				executeApplicable(table.getUnkeyedStrategies(), source, appendedExecution);
 			}
 		}
 		return appendedExecution;
@@ -27,4 +39,38 @@ public abstract class MultipleAbstractStrategyExecutor<S, T> implements Strategy
 
 	protected abstract Set<Strategy<S, T>> getStrategies();
 
+	/**
+	 * Returns the discriminator used to look up the {@link KeyedStrategy} applicable to the
+	 * {@code source}. By default sources have no discriminator, so all the strategies are
+	 * checked.
+	 * @param source the source object.
+	 * @return the discriminator of the source or {@code null} if it hasn't any.
+	 */
+	protected Object getStrategyKey(final S source) {
+		return null;
+	}
+
+	private void executeApplicable(final List<Strategy<S, T>> strategies, final S source,
+			final List<T> appendedExecution) {
+		for (final Strategy<S, T> strategy : strategies) {
+			if (strategy.isApplicable(source)) {
+				appendedExecution.add(strategy.execute(source));
+			}
+		}
+	}
+
+	private StrategyDispatchTable<S, T> getDispatchTable() {
+		final Set<Strategy<S, T>> strategies = getStrategies();
+		if (Objects.isNull(strategies) || strategies.isEmpty()) {
+			return null;
+		}
+
+		StrategyDispatchTable<S, T> table = dispatchTable;
+		if (Objects.isNull(table) || !table.isBuiltFrom(strategies)) {
+			table = new StrategyDispatchTable<>(strategies);
+			dispatchTable = table;
+		}
+		return table;
+	}
+
 }
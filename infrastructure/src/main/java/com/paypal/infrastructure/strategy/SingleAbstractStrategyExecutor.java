@@ -1,26 +1,79 @@
 package com.paypal.infrastructure.strategy;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
 /**
  * Abstract strategy executor that ensures that only one strategy is run for an specific
- * source and target
+ * source and target.
+ * <p>
+ * When the executor provides the discriminator of the sources through
+ * {@link #getStrategyKey(Object)}, the {@link KeyedStrategy} registered for it are looked
+ * up in a dispatch table and only the strategies without key are scanned. Sources without
+ * discriminator or with a discriminator no strategy is registered for are checked against
+ * all the strategies.
  */
 public abstract class SingleAbstractStrategyExecutor<S, T> implements StrategyExecutor<S, T> {
 
+	private volatile StrategyDispatchTable<S, T> dispatchTable;
+
 	@Override
 	public T execute(final S source) {
-		if (Objects.nonNull(getStrategies()) && !getStrategies().isEmpty()) {
-			for (final Strategy<S, T> strategy : getStrategies()) {
-				if (strategy.isApplicable(source)) {
-					return strategy.execute(source);
-				}
+		final StrategyDispatchTable<S, T> table = getDispatchTable();
+		if (Objects.isNull(table)) {
+			return null;
+		}
+
+		final List<Strategy<S, T>> keyedStrategies = table.hasKeyedStrategies()
+				? table.getKeyedStrategies(getStrategyKey(source)) : null;
+		Strategy<S, T> strategy;
+		if (Objects.isNull(keyedStrategies)) {
+			strategy = findFirstApplicable(table.getAllStrategies(), source);
+		}
+		else {
+			strategy = findFirstApplicable(keyedStrategies, source);
+			if (Objects.isNull(strategy)) {
+				strategy = findFirstApplicable(table.getUnkeyedStrategies(), source);
 			}
 		}
-		return null;
+		return Objects.nonNull(strategy) ? strategy.execute(source) : null;
 	}
 
 	protected abstract Set<Strategy<S, T>> getStrategies();
 
+	/**
+	 * Returns the discriminator used to look up the {@link KeyedStrategy} applicable to the
+	 * {@code source}. By default sources have no discriminator, so all the strategies are
+	 * checked.
+	 * @param source the source object.
+	 * @return the discriminator of the source or {@code null} if it hasn't any.
+	 */
+	protected Object getStrategyKey(final S source) {
+		return null;
+	}
+
+	private Strategy<S, T> findFirstApplicable(final List<Strategy<S, T>> strategies, final S source) {
+		for (final Strategy<S, T> strategy : strategies) {
+			if (strategy.isApplicable(source)) {
+				return strategy;
+			}
+		}
+		return null;
+	}
+
+	private StrategyDispatchTable<S, T> getDispatchTable() {
+		final Set<Strategy<S, T>> strategies = getStrategies();
+		if (Objects.isNull(strategies) || strategies.isEmpty()) {
+			return null;
+		}
+
+		StrategyDispatchTable<S, T> table = dispatchTable;
+		if (Objects.isNull(table) || !table.isBuiltFrom(strategies)) {
+			table = new StrategyDispatchTable<>(strategies);
+			dispatchTable = table;
+		}
+		return table;
+	}
+
 }
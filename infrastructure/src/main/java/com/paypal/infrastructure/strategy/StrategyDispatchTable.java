@@ -0,0 +1,67 @@
+package com.paypal.infrastructure.strategy;
+
+import java.util.*;
+
+/**
+ * Immutable index of the strategies of an executor by the keys declared by the
+ * {@link KeyedStrategy} ones.
+ */
+final class StrategyDispatchTable<S, T> {
+
+	private final Set<Strategy<S, T>> strategies;
+
+	private final List<Strategy<S, T>> allStrategies;
+
+	private final List<Strategy<S, T>> unkeyedStrategies;
+
+	private final Map<Object, List<Strategy<S, T>>> strategiesByKey;
+
+	StrategyDispatchTable(final Set<Strategy<S, T>> strategies) {
+		this.strategies = strategies;
+		this.allStrategies = List.copyOf(strategies);
+
+		final List<Strategy<S, T>> unkeyed = new ArrayList<>();
+		final Map<Object, List<Strategy<S, T>>> keyed = new HashMap<>();
+		for (final Strategy<S, T> strategy : allStrategies) {
+			final Set<Object> keys = strategy instanceof KeyedStrategy
+					? ((KeyedStrategy<S, T>) strategy).getStrategyKeys() : null;
+			if (keys == null || keys.isEmpty()) {
+				unkeyed.add(strategy);
+			}
+			else {
+				keys.forEach(key -> keyed.computeIfAbsent(key, k -> new ArrayList<>()).add(strategy));
+			}
+		}
+		this.unkeyedStrategies = List.copyOf(unkeyed);
+		final Map<Object, List<Strategy<S, T>>> immutableKeyed = new HashMap<>();
+		keyed.forEach((key, keyStrategies) -> immutableKeyed.put(key, List.copyOf(keyStrategies)));
+		this.strategiesByKey = Map.copyOf(immutableKeyed);
+	}
+
+	boolean isBuiltFrom(final Set<Strategy<S, T>> strategies) {
+		return this.strategies == strategies;
+	}
+
+	boolean hasKeyedStrategies() {
+		return !strategiesByKey.isEmpty();
+	}
+
+	List<Strategy<S, T>> getAllStrategies() {
+		return allStrategies;
+	}
+
+	List<Strategy<S, T>> getUnkeyedStrategies() {
+		return unkeyedStrategies;
+	}
+
+	/**
+	 * Returns the keyed strategies registered for the given key.
+	 * @param key the discriminator of the source.
+	 * @return the strategies registered for the key or {@code null} if there are none, in
+	 * which case all the strategies must be checked.
+	 */
+	List<Strategy<S, T>> getKeyedStrategies(final Object key) {
+		return key != null ? strategiesByKey.get(key) : null;
+	}
+
+}
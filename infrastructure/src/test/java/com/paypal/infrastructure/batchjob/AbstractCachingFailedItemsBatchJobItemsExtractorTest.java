@@ -81,6 +81,31 @@ class AbstractCachingFailedItemsBatchJobItemsExtractorTest {
 				cacheFailureResolverCaptor.capture(), eq(batchJobFailedItemCacheFailureResolvePolicyMock));
 	}
 
+	@Test
+	void getBatchJobFailedItemsInternal_shouldGetItemsInChunksOfMaxItemsPerRequest() {
+		testObj.maxItemsPerRequest = 2;
+
+		testObj.getBatchJobFailedItemsInternal(
+				List.of(failedItem("id1"), failedItem("id2"), failedItem("id3"), failedItem("id1")));
+
+		verify(testObj).getItems(List.of("id1", "id2"));
+		verify(testObj).getItems(List.of("id3"));
+		verify(testObj, times(2)).getItems(any());
+	}
+
+	@Test
+	void getBatchJobFailedItemsInternal_shouldGetAllItemsAtOnce_byDefault() {
+		testObj.getBatchJobFailedItemsInternal(List.of(failedItem("id1"), failedItem("id2"), failedItem("id3")));
+
+		verify(testObj, times(1)).getItems(List.of("id1", "id2", "id3"));
+	}
+
+	private BatchJobFailedItem failedItem(final String id) {
+		final BatchJobFailedItem batchJobFailedItem = new BatchJobFailedItem();
+		batchJobFailedItem.setId(id);
+		return batchJobFailedItem;
+	}
+
 	private HashMap<BatchJobFailedItem, Optional<MyItem>> buildCacheResponse() {
 		HashMap<BatchJobFailedItem, Optional<MyItem>> cacheResponse = new HashMap<>();
 		cacheResponse.put(batchJobFailedItem1Mock, Optional.of(batchJobItem1Mock));
@@ -93,6 +118,8 @@ class AbstractCachingFailedItemsBatchJobItemsExtractorTest {
 
 		Optional<BatchJobFailedItemCacheFailureResolvePolicy> policy = Optional.empty();
 
+		int maxItemsPerRequest = Integer.MAX_VALUE;
+
 		protected MyCachingFailedItemsBatchJobItemsExtractorTest(String itemType,
 				BatchJobFailedItemService batchJobFailedItemService,
 				BatchJobFailedItemCacheService batchJobFailedItemCacheService) {
@@ -109,6 +136,11 @@ class AbstractCachingFailedItemsBatchJobItemsExtractorTest {
 			return policy;
 		}
 
+		@Override
+		protected int getMaxItemsPerRequest() {
+			return maxItemsPerRequest;
+		}
+
 	}
 
 	static class MyItem extends AbstractBatchJobItem<String> {
@@ -1,10 +1,13 @@
 package com.paypal.infrastructure.batchjob;
 
 import com.callibrity.logging.test.LogTrackerStub;
+import com.paypal.infrastructure.batchjob.sharding.BatchJobShardingService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -13,6 +16,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -27,6 +31,8 @@ class BatchJobExecutorTest {
 
 	public static final String MSG_ERROR_WHILE_INVOKING_BATCH_JOB_LISTENER = "Error while invoking batch job listener";
 
+	private static final String JOB_UUID = "jobUuid";
+
 	@InjectMocks
 	private BatchJobExecutor testObj;
 
@@ -39,6 +45,15 @@ class BatchJobExecutorTest {
 	@Mock
 	private BatchJobProcessingListener listenerMock1, listenerMock2;
 
+	@Mock
+	private BatchJobShardingService batchJobShardingServiceMock;
+
+	@Mock
+	private BatchJobProcessingEventBus batchJobProcessingEventBusMock;
+
+	@Captor
+	private ArgumentCaptor<Consumer<BatchJobProcessingListener>> eventCaptor;
+
 	@Mock
 	private BatchJobItem<Object> itemMock1, itemMock2;
 
@@ -50,8 +65,15 @@ class BatchJobExecutorTest {
 	@BeforeEach
 	public void setUp() {
 		testObj.batchJobProcessingListeners = List.of(listenerMock1, listenerMock2);
+		lenient().when(batchJobContextMock.getJobUuid()).thenReturn(JOB_UUID);
 		itemCollection = List.of(itemMock1, itemMock2);
 		lenient().when(batchJobMock.getItems(any(BatchJobContext.class))).thenReturn(itemCollection);
+		lenient().when(batchJobShardingServiceMock.processItemsOfThisNode(any(BatchJobContext.class), any(), any()))
+				.thenAnswer(invocation -> {
+					invocation.<Collection<BatchJobItem<Object>>>getArgument(1)
+							.forEach(invocation.<Consumer<BatchJobItem<Object>>>getArgument(2));
+					return 0;
+				});
 
 		lenient().when(batchJobMock.validateItem(any(), any()))
 				.thenReturn(BatchJobItemValidationResult.builder().status(BatchJobItemValidationStatus.VALID).build());
@@ -95,10 +117,28 @@ class BatchJobExecutorTest {
 		inOrder.verify(batchJobMock).processItem(any(BatchJobContext.class), eq(enrichedItemMock2));
 		inOrder.verify(listenerMock1).onItemProcessingSuccess(any(BatchJobContext.class), eq(itemMock2));
 		inOrder.verify(listenerMock2).onItemProcessingSuccess(any(BatchJobContext.class), eq(itemMock2));
+		inOrder.verify(listenerMock1).onItemsProcessingFinished(any(BatchJobContext.class));
+		inOrder.verify(listenerMock2).onItemsProcessingFinished(any(BatchJobContext.class));
 		inOrder.verify(listenerMock1).onBatchJobFinished(any(BatchJobContext.class));
 		inOrder.verify(listenerMock2).onBatchJobFinished(any(BatchJobContext.class));
 	}
 
+	@Test
+	void execute_ShouldReportItemEnrichmentAndValidation_BetweenItemPhases() {
+
+		testObj.execute(batchJobMock, batchJobContextMock);
+
+		final InOrder inOrder = Mockito.inOrder(listenerMock1, batchJobMock);
+
+		inOrder.verify(batchJobMock).enrichItem(any(BatchJobContext.class), eq(itemMock1));
+		inOrder.verify(listenerMock1).onItemEnrichmentFinished(any(BatchJobContext.class), eq(itemMock1));
+		inOrder.verify(batchJobMock).validateItem(any(BatchJobContext.class), eq(enrichedItemMock1));
+		inOrder.verify(listenerMock1).onItemValidationFinished(any(BatchJobContext.class), eq(itemMock1),
+				any(BatchJobItemValidationResult.class));
+		inOrder.verify(batchJobMock).processItem(any(BatchJobContext.class), eq(enrichedItemMock1));
+		inOrder.verify(listenerMock1).onItemProcessingSuccess(any(BatchJobContext.class), eq(itemMock1));
+	}
+
 	@Test
 	void execute_ShouldContinueProcessing_WhenItemValidationReturnsAWarning() {
 
@@ -245,4 +285,54 @@ class BatchJobExecutorTest {
 		verify(batchJobContextMock, times(1)).setFinishedWithFailuresStatus();
 	}
 
+	@Test
+	void execute_ShouldOnlyProcessItemsOfThisNode() {
+		when(batchJobShardingServiceMock.processItemsOfThisNode(eq(batchJobContextMock), eq(itemCollection), any()))
+				.thenAnswer(invocation -> {
+					invocation.<Consumer<BatchJobItem<Object>>>getArgument(2).accept(itemMock2);
+					return 1;
+				});
+
+		testObj.execute(batchJobMock, batchJobContextMock);
+
+		verify(batchJobContextMock).setNumberOfItemsToBeProcessed(1);
+		verify(batchJobMock, never()).enrichItem(any(BatchJobContext.class), eq(itemMock1));
+		verify(batchJobMock).processItem(any(BatchJobContext.class), eq(enrichedItemMock2));
+	}
+
+	@Test
+	void execute_ShouldPublishEventsOfAsynchronousListenersToTheEventBus() {
+		when(listenerMock2.isAsynchronous()).thenReturn(true);
+
+		testObj.execute(batchJobMock, batchJobContextMock);
+
+		verify(listenerMock1).beforeProcessingItem(batchJobContextMock, itemMock1);
+		verify(listenerMock2, never()).beforeProcessingItem(any(), any());
+		verify(listenerMock2).onBatchJobStarted(batchJobContextMock);
+		verify(listenerMock2).onBatchJobFinished(batchJobContextMock);
+
+		verify(batchJobProcessingEventBusMock, atLeastOnce()).publish(eq(JOB_UUID), eq(listenerMock2),
+				eventCaptor.capture());
+		eventCaptor.getAllValues().forEach(event -> event.accept(listenerMock2));
+		final InOrder inOrder = Mockito.inOrder(listenerMock2);
+		inOrder.verify(listenerMock2).beforeItemExtraction(batchJobContextMock);
+		inOrder.verify(listenerMock2).onItemExtractionSuccessful(eq(batchJobContextMock), any());
+		inOrder.verify(listenerMock2).beforeProcessingItem(batchJobContextMock, itemMock1);
+		inOrder.verify(listenerMock2).onItemProcessingSuccess(batchJobContextMock, itemMock1);
+		inOrder.verify(listenerMock2).beforeProcessingItem(batchJobContextMock, itemMock2);
+		inOrder.verify(listenerMock2).onItemProcessingSuccess(batchJobContextMock, itemMock2);
+	}
+
+	@Test
+	void execute_ShouldFlushTheEventBus_BeforeNotifyingJobLifecycleEvents() {
+		testObj.execute(batchJobMock, batchJobContextMock);
+
+		final InOrder inOrder = Mockito.inOrder(batchJobProcessingEventBusMock, listenerMock1, batchJobMock);
+		inOrder.verify(batchJobProcessingEventBusMock).flush(JOB_UUID);
+		inOrder.verify(listenerMock1).onBatchJobStarted(batchJobContextMock);
+		inOrder.verify(batchJobMock).processItem(any(BatchJobContext.class), eq(enrichedItemMock2));
+		inOrder.verify(batchJobProcessingEventBusMock).flush(JOB_UUID);
+		inOrder.verify(listenerMock1).onBatchJobFinished(batchJobContextMock);
+	}
+
 }
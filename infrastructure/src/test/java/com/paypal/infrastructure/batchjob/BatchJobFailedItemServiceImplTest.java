@@ -1,6 +1,5 @@
 package com.paypal.infrastructure.batchjob;
 
-import com.paypal.infrastructure.batchjob.entities.BatchJobItemTrackInfoEntity;
 import com.paypal.infrastructure.mail.MailNotificationUtil;
 import com.paypal.infrastructure.util.TimeMachine;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,6 +14,7 @@ import org.springframework.data.domain.Pageable;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -51,9 +51,6 @@ class BatchJobFailedItemServiceImplTest {
 	@Mock
 	private BatchJobFailedItem batchJobFailedItem1Mock, batchJobFailedItem2Mock, batchJobFailedItem3Mock;
 
-	@Mock
-	private BatchJobItemTrackInfoEntity batchJobItemTrackInfoEntity1Mock;
-
 	@Mock
 	private BatchJobItem<?> batchJobItem1Mock, batchJobItem2Mock, batchJobItem3Mock;
 
@@ -213,10 +210,8 @@ class BatchJobFailedItemServiceImplTest {
 				BatchJobFailedItemStatus.RETRY_PENDING, Pageable.ofSize(5)))
 						.thenReturn(List.of(batchJobFailedItem1Mock, batchJobFailedItem2Mock));
 
-		when(batchJobItemTrackInfoEntity1Mock.getItemId()).thenReturn(ID_001);
-
-		when(batchJobTrackingServiceMock.getItemsBeingProcessedOrEnquedToProcess(SELLER_TYPE))
-				.thenReturn(List.of(batchJobItemTrackInfoEntity1Mock));
+		when(batchJobTrackingServiceMock.getItemIdsBeingProcessedOrEnquedToProcess(SELLER_TYPE,
+				List.of(ID_001, ID_002))).thenReturn(Set.of(ID_001));
 
 		final List<BatchJobFailedItem> result = testObj.getFailedItemsForRetry(SELLER_TYPE);
 
@@ -0,0 +1,190 @@
+package com.paypal.infrastructure.batchjob;
+
+import com.callibrity.logging.test.LogTrackerStub;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class BatchJobProcessingEventBusTest {
+
+	@RegisterExtension
+	final LogTrackerStub logTrackerStub = LogTrackerStub.create().recordForType(BatchJobProcessingEventBus.class);
+
+	private static final String JOB_UUID = "jobUuid";
+
+	private static final String OTHER_JOB_UUID = "otherJobUuid";
+
+	private BatchJobProcessingEventBus testObj;
+
+	@Mock
+	private BatchJobProcessingListener listenerMock;
+
+	@Mock
+	private BatchJobProcessingListener otherListenerMock;
+
+	@AfterEach
+	void tearDown() {
+		testObj.shutdown();
+	}
+
+	@Test
+	void publish_shouldDeliverEventsInOrderOutOfThePublishingThread() {
+		testObj = new BatchJobProcessingEventBus(true, 10, 3, Optional.empty());
+		final List<Integer> deliveredEvents = new CopyOnWriteArrayList<>();
+		final List<Thread> deliveryThreads = new CopyOnWriteArrayList<>();
+
+		IntStream.range(0, 100).forEach(i -> testObj.publish(JOB_UUID, listenerMock, listener -> {
+			deliveredEvents.add(i);
+			deliveryThreads.add(Thread.currentThread());
+		}));
+		testObj.flush(JOB_UUID);
+
+		assertThat(deliveredEvents).containsExactlyElementsOf(IntStream.range(0, 100).boxed()
+				.collect(Collectors.toList()));
+		assertThat(deliveryThreads).doesNotContain(Thread.currentThread());
+	}
+
+	@Test
+	void publish_shouldDeliverEventsSynchronously_whenAsyncListenersAreDisabled() {
+		testObj = new BatchJobProcessingEventBus(false, 10, 3, Optional.empty());
+		final List<Thread> deliveryThreads = new CopyOnWriteArrayList<>();
+
+		testObj.publish(JOB_UUID, listenerMock, listener -> deliveryThreads.add(Thread.currentThread()));
+
+		assertThat(deliveryThreads).containsExactly(Thread.currentThread());
+	}
+
+	@Test
+	void publish_shouldBlock_whenTheQueueOfTheListenerIsFull() throws Exception {
+		testObj = new BatchJobProcessingEventBus(true, 1, 1, Optional.empty());
+		final CountDownLatch eventBeingDelivered = new CountDownLatch(1);
+		final CountDownLatch releaseEvent = new CountDownLatch(1);
+		testObj.publish(JOB_UUID, listenerMock, listener -> {
+			eventBeingDelivered.countDown();
+			awaitQuietly(releaseEvent);
+		});
+		eventBeingDelivered.await(5, TimeUnit.SECONDS);
+		testObj.publish(JOB_UUID, listenerMock, listener -> {
+		});
+
+		final CompletableFuture<Void> blockedPublish = CompletableFuture
+				.runAsync(() -> testObj.publish(JOB_UUID, listenerMock, listener -> {
+				}));
+
+		assertThat(blockedPublish).isNotCompleted();
+		Thread.sleep(200);
+		assertThat(blockedPublish).isNotCompleted();
+		releaseEvent.countDown();
+		blockedPublish.get(5, TimeUnit.SECONDS);
+		assertThat(blockedPublish).isCompleted();
+	}
+
+	@Test
+	void publish_shouldLogAnErrorAndKeepDeliveringEvents_whenListenerThrowsARuntimeException() {
+		testObj = new BatchJobProcessingEventBus(true, 10, 3, Optional.empty());
+		final List<Integer> deliveredEvents = new CopyOnWriteArrayList<>();
+
+		testObj.publish(JOB_UUID, listenerMock, listener -> {
+			throw new IllegalStateException("Something went wrong");
+		});
+		testObj.publish(JOB_UUID, listenerMock, listener -> deliveredEvents.add(1));
+		testObj.flush(JOB_UUID);
+
+		assertThat(deliveredEvents).containsExactly(1);
+		assertThat(logTrackerStub.contains(BatchJobExecutor.MSG_ERROR_WHILE_INVOKING_BATCH_JOB_LISTENER)).isTrue();
+	}
+
+	@Test
+	void flush_shouldNotWaitForTheEventsOfOtherJobs() {
+		testObj = new BatchJobProcessingEventBus(true, 10, 3, Optional.empty());
+		final CountDownLatch releaseOtherJobEvent = new CountDownLatch(1);
+		final List<Integer> deliveredEvents = new CopyOnWriteArrayList<>();
+		testObj.publish(OTHER_JOB_UUID, otherListenerMock, listener -> awaitQuietly(releaseOtherJobEvent));
+		testObj.publish(JOB_UUID, listenerMock, listener -> deliveredEvents.add(1));
+
+		final CompletableFuture<Void> flush = CompletableFuture.runAsync(() -> testObj.flush(JOB_UUID));
+
+		assertThat(flush).succeedsWithin(Duration.ofSeconds(5));
+		assertThat(deliveredEvents).containsExactly(1);
+		releaseOtherJobEvent.countDown();
+		testObj.flush(OTHER_JOB_UUID);
+	}
+
+	@Test
+	void publish_shouldDeliverEventsWithTheMdcOfThePublishingThread() {
+		testObj = new BatchJobProcessingEventBus(true, 10, 3, Optional.empty());
+		final List<String> deliveryMdcValues = new CopyOnWriteArrayList<>();
+		MDC.put("businessTransaction.id", JOB_UUID);
+		try {
+			testObj.publish(JOB_UUID, listenerMock,
+					listener -> deliveryMdcValues.add(MDC.get("businessTransaction.id")));
+		}
+		finally {
+			MDC.clear();
+		}
+		testObj.publish(JOB_UUID, listenerMock, listener -> deliveryMdcValues.add(MDC.get("businessTransaction.id")));
+		testObj.flush(JOB_UUID);
+
+		assertThat(deliveryMdcValues).containsExactly(JOB_UUID, null);
+	}
+
+	@Test
+	void publish_shouldDeliverEventsDecoratedByTheTaskDecoratorOnThePublishingThread() {
+		final List<Thread> decoratingThreads = new CopyOnWriteArrayList<>();
+		final List<String> deliveryValues = new CopyOnWriteArrayList<>();
+		final ThreadLocal<String> context = new ThreadLocal<>();
+		final TaskDecorator taskDecorator = runnable -> {
+			decoratingThreads.add(Thread.currentThread());
+			final String publisherValue = context.get();
+			return () -> {
+				context.set(publisherValue);
+				try {
+					runnable.run();
+				}
+				finally {
+					context.remove();
+				}
+			};
+		};
+		testObj = new BatchJobProcessingEventBus(true, 10, 3, Optional.of(taskDecorator));
+		context.set(JOB_UUID);
+		try {
+			testObj.publish(JOB_UUID, listenerMock, listener -> deliveryValues.add(context.get()));
+		}
+		finally {
+			context.remove();
+		}
+		testObj.flush(JOB_UUID);
+
+		assertThat(decoratingThreads).containsExactly(Thread.currentThread());
+		assertThat(deliveryValues).containsExactly(JOB_UUID);
+	}
+
+	private static void awaitQuietly(final CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		}
+		catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,91 @@
+package com.paypal.infrastructure.batchjob;
+
+import com.paypal.infrastructure.batchjob.repository.BatchJobFailedItemCacheEntryRepository;
+import com.paypal.infrastructure.util.TimeMachine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BatchJobTrackingRetentionServiceImplTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2023, 3, 1, 3, 0);
+
+	private static final int ITEMS_DAYS = 30;
+
+	private static final int JOBS_DAYS = 365;
+
+	private static final int CHUNK_SIZE = 2;
+
+	private static final int FAILED_ITEMS_CACHE_DAYS = 15;
+
+	private BatchJobTrackingRetentionServiceImpl testObj;
+
+	@Mock
+	private BatchJobTrackingService batchJobTrackingServiceMock;
+
+	@Mock
+	private BatchJobFailedItemCacheEntryRepository batchJobFailedItemCacheEntryRepositoryMock;
+
+	@BeforeEach
+	void setUp() {
+		TimeMachine.useFixedClockAt(NOW);
+		testObj = new BatchJobTrackingRetentionServiceImpl(batchJobTrackingServiceMock,
+				batchJobFailedItemCacheEntryRepositoryMock, ITEMS_DAYS, JOBS_DAYS, CHUNK_SIZE, 0,
+				FAILED_ITEMS_CACHE_DAYS);
+	}
+
+	@AfterEach
+	void tearDown() {
+		TimeMachine.useSystemDefaultZoneClock();
+	}
+
+	@Test
+	void applyRetentionPolicies_shouldComputeTheCountersAndDeleteOldItemsAndThenOldJobsInChunks() {
+		when(batchJobTrackingServiceMock.deleteJobItemTrackingEntries(NOW.minusDays(ITEMS_DAYS), CHUNK_SIZE))
+				.thenReturn(CHUNK_SIZE, 1, 0);
+		when(batchJobTrackingServiceMock.deleteJobTrackingEntries(NOW.minusDays(JOBS_DAYS), CHUNK_SIZE))
+				.thenReturn(0);
+
+		testObj.applyRetentionPolicies();
+
+		final InOrder inOrder = inOrder(batchJobTrackingServiceMock);
+		inOrder.verify(batchJobTrackingServiceMock).computeMissingItemCounters();
+		inOrder.verify(batchJobTrackingServiceMock, times(3))
+				.deleteJobItemTrackingEntries(NOW.minusDays(ITEMS_DAYS), CHUNK_SIZE);
+		inOrder.verify(batchJobTrackingServiceMock).deleteJobTrackingEntries(NOW.minusDays(JOBS_DAYS), CHUNK_SIZE);
+	}
+
+	@Test
+	void applyRetentionPolicies_shouldDeleteExpiredFailedItemsCacheEntries() {
+		testObj.applyRetentionPolicies();
+
+		verify(batchJobFailedItemCacheEntryRepositoryMock)
+				.deleteByStoredTimeBefore(NOW.minusDays(FAILED_ITEMS_CACHE_DAYS));
+	}
+
+	@Test
+	void applyRetentionPolicies_shouldNotDeleteJobsBeforeTheirItems_whenJobsRetentionIsShorter() {
+		testObj = new BatchJobTrackingRetentionServiceImpl(batchJobTrackingServiceMock,
+				batchJobFailedItemCacheEntryRepositoryMock, ITEMS_DAYS, 1, CHUNK_SIZE, 0, FAILED_ITEMS_CACHE_DAYS);
+
+		testObj.applyRetentionPolicies();
+
+		final InOrder inOrder = inOrder(batchJobTrackingServiceMock);
+		inOrder.verify(batchJobTrackingServiceMock).deleteJobItemTrackingEntries(NOW.minusDays(ITEMS_DAYS),
+				CHUNK_SIZE);
+		inOrder.verify(batchJobTrackingServiceMock).deleteJobTrackingEntries(NOW.minusDays(ITEMS_DAYS), CHUNK_SIZE);
+	}
+
+}
@@ -18,10 +18,17 @@ import org.springframework.data.domain.Pageable;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import static com.paypal.infrastructure.batchjob.BatchJobTrackingServiceImpl.ITEM_COUNTERS_BATCH_SIZE;
+import static com.paypal.infrastructure.batchjob.BatchJobTrackingServiceImpl.ITEM_IDS_BATCH_SIZE;
 import static com.paypal.infrastructure.batchjob.BatchJobTrackingServiceImpl.ITEM_NOT_FINISHED_STATUSES;
 import static com.paypal.infrastructure.batchjob.BatchJobTrackingServiceImpl.JOB_NOT_FINISHED_STATUSES;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -78,7 +85,8 @@ class BatchJobTrackingServiceImplTest {
 		verify(batchJobTrackingRepositoryMock).save(batchJobTrackInfoEntityArgumentCaptor.capture());
 
 		assertThat(batchJobTrackInfoEntityArgumentCaptor.getValue()).isEqualTo(BatchJobTrackInfoEntity.builder()
-				.batchJobId(JOB_ID).batchJobType(JOB_TYPE).startTime(now).status(BatchJobStatus.RUNNING).build());
+				.batchJobId(JOB_ID).batchJobType(JOB_TYPE).startTime(now).status(BatchJobStatus.RUNNING)
+				.extractedItems(0).successfulItems(0).failedItems(0).build());
 	}
 
 	@Test
@@ -149,7 +157,8 @@ class BatchJobTrackingServiceImplTest {
 
 		assertThat(batchJobTrackInfoEntityArgumentCaptor.getValue())
 				.isEqualTo(BatchJobTrackInfoEntity.builder().batchJobId(JOB_ID).batchJobType(JOB_TYPE)
-						.status(BatchJobStatus.FAILED).startTime(now).finishTime(now).build());
+						.status(BatchJobStatus.FAILED).startTime(now).finishTime(now).extractedItems(0)
+						.successfulItems(0).failedItems(0).build());
 	}
 
 	@Test
@@ -256,6 +265,7 @@ class BatchJobTrackingServiceImplTest {
 		assertThat(batchJobItemTrackInfoEntitiesArgumentCaptor.getValue())
 				.containsExactly(BatchJobItemTrackInfoEntity.builder().batchJobId(JOB_ID).itemId(BATCH_JOB_ITEM_ID)
 						.itemType(JOB_TYPE).status(BatchJobItemStatus.PENDING).build());
+		verify(batchJobTrackingRepositoryMock).addExtractedItems(JOB_ID, 1);
 	}
 
 	@Test
@@ -300,6 +310,7 @@ class BatchJobTrackingServiceImplTest {
 				.batchJobId(JOB_ID).itemType(JOB_TYPE).itemId(BATCH_JOB_ITEM_ID).build());
 
 		verify(batchJobItemTrackingRepositoryMock).save(batchJobItemTrackInfoEntityMock);
+		verify(batchJobTrackingRepositoryMock).addProcessedItems(JOB_ID, 1, 0);
 	}
 
 	@Test
@@ -322,6 +333,27 @@ class BatchJobTrackingServiceImplTest {
 				.batchJobId(JOB_ID).itemType(JOB_TYPE).itemId(BATCH_JOB_ITEM_ID).build());
 
 		verify(batchJobItemTrackingRepositoryMock).save(batchJobItemTrackInfoEntityMock);
+		verify(batchJobTrackingRepositoryMock).addProcessedItems(JOB_ID, 0, 1);
+	}
+
+	@Test
+	void trackProcessedJobItemAsFailed_ShouldSetItemStatusAsFailedAndMoveItFromProcessedToFailedItems() {
+
+		when(batchJobItemMock.getItemId()).thenReturn(BATCH_JOB_ITEM_ID);
+		when(batchJobItemMock.getItemType()).thenReturn(JOB_TYPE);
+
+		when(batchJobItemTrackingRepositoryMock.getById(batchJobItemTrackingInfoIdArgumentCaptor.capture()))
+				.thenReturn(batchJobItemTrackInfoEntityMock);
+
+		when(batchJobItemTrackInfoEntityMock.toBuilder()).thenReturn(batchJobItemTrackInfoEntityBuilderMock);
+		when(batchJobItemTrackInfoEntityBuilderMock.status(BatchJobItemStatus.FAILED))
+				.thenReturn(batchJobItemTrackInfoEntityBuilderMock);
+		when(batchJobItemTrackInfoEntityBuilderMock.build()).thenReturn(batchJobItemTrackInfoEntityMock);
+
+		testObj.trackProcessedJobItemAsFailed(JOB_ID, batchJobItemMock);
+
+		verify(batchJobItemTrackingRepositoryMock).save(batchJobItemTrackInfoEntityMock);
+		verify(batchJobTrackingRepositoryMock).addProcessedItems(JOB_ID, -1, 1);
 	}
 
 	@Test
@@ -335,6 +367,100 @@ class BatchJobTrackingServiceImplTest {
 		assertThat(result).isEqualTo(List.of(batchJobItemTrackInfoEntityMock));
 	}
 
+	@Test
+	void getItemIdsBeingProcessedOrEnquedToProcess_ShouldLookUpTheGivenItemIdsInBatches() {
+		final List<String> itemIds = IntStream.range(0, ITEM_IDS_BATCH_SIZE + 1).mapToObj(String::valueOf)
+				.collect(Collectors.toList());
+		when(batchJobItemTrackInfoEntityMock.getItemId()).thenReturn("1");
+		when(batchJobItemTrackingRepositoryMock.findByItemTypeAndItemIdInAndStatusIn(JOB_TYPE,
+				itemIds.subList(0, ITEM_IDS_BATCH_SIZE), ITEM_NOT_FINISHED_STATUSES))
+						.thenReturn(List.of(batchJobItemTrackInfoEntityMock));
+		when(batchJobItemTrackingRepositoryMock.findByItemTypeAndItemIdInAndStatusIn(JOB_TYPE,
+				List.of(String.valueOf(ITEM_IDS_BATCH_SIZE)), ITEM_NOT_FINISHED_STATUSES)).thenReturn(List.of());
+
+		final Set<String> result = testObj.getItemIdsBeingProcessedOrEnquedToProcess(JOB_TYPE, itemIds);
+
+		assertThat(result).containsExactly("1");
+	}
+
+	@Test
+	void computeMissingItemCounters_ShouldCountTheItemsOfTheJobsWithoutCounters() {
+		final BatchJobTrackInfoEntity batchJobTrackInfoEntity = BatchJobTrackInfoEntity.builder().batchJobId(JOB_ID)
+				.build();
+		when(batchJobTrackingRepositoryMock.findByExtractedItemsIsNull(Pageable.ofSize(ITEM_COUNTERS_BATCH_SIZE)))
+				.thenReturn(List.of(batchJobTrackInfoEntity));
+		when(batchJobItemTrackingRepositoryMock.countByBatchJobId(JOB_ID)).thenReturn(5L);
+		when(batchJobItemTrackingRepositoryMock.countByBatchJobIdAndStatus(JOB_ID, BatchJobItemStatus.SUCCESSFUL))
+				.thenReturn(3L);
+		when(batchJobItemTrackingRepositoryMock.countByBatchJobIdAndStatus(JOB_ID, BatchJobItemStatus.FAILED))
+				.thenReturn(1L);
+
+		testObj.computeMissingItemCounters();
+
+		verify(batchJobTrackingRepositoryMock).saveAll(List.of(BatchJobTrackInfoEntity.builder().batchJobId(JOB_ID)
+				.extractedItems(5).successfulItems(3).failedItems(1).build()));
+	}
+
+	@Test
+	void deleteJobItemTrackingEntries_ShouldDeleteTheItemsOfTheOldestJobsThatFitInTheLimit() {
+		final LocalDateTime before = LocalDateTime.now();
+		when(batchJobTrackingRepositoryMock.findWithItemsByStartTimeBefore(before, Pageable.ofSize(10)))
+				.thenReturn(List.of(jobWithItems("JOB-1", 4), jobWithItems("JOB-2", 6), jobWithItems("JOB-3", 1)));
+		when(batchJobItemTrackingRepositoryMock.deleteByBatchJobIdIn(List.of("JOB-1", "JOB-2"))).thenReturn(10);
+
+		final int result = testObj.deleteJobItemTrackingEntries(before, 10);
+
+		assertThat(result).isEqualTo(10);
+	}
+
+	@Test
+	void deleteJobItemTrackingEntries_ShouldDeleteTheItemsOfTheOldestJob_WhenItHasMoreItemsThanTheLimit() {
+		final LocalDateTime before = LocalDateTime.now();
+		when(batchJobTrackingRepositoryMock.findWithItemsByStartTimeBefore(before, Pageable.ofSize(10)))
+				.thenReturn(List.of(jobWithItems("JOB-1", 25), jobWithItems("JOB-2", 1)));
+		when(batchJobItemTrackingRepositoryMock.deleteByBatchJobIdIn(List.of("JOB-1"))).thenReturn(25);
+
+		final int result = testObj.deleteJobItemTrackingEntries(before, 10);
+
+		assertThat(result).isEqualTo(25);
+	}
+
+	@Test
+	void deleteJobItemTrackingEntries_ShouldNotDeleteAnything_WhenNoOldJobHasItems() {
+		final LocalDateTime before = LocalDateTime.now();
+		when(batchJobTrackingRepositoryMock.findWithItemsByStartTimeBefore(before, Pageable.ofSize(10)))
+				.thenReturn(List.of());
+
+		final int result = testObj.deleteJobItemTrackingEntries(before, 10);
+
+		assertThat(result).isZero();
+		verify(batchJobItemTrackingRepositoryMock, never()).deleteByBatchJobIdIn(any());
+	}
+
+	@Test
+	void deleteJobTrackingEntries_ShouldDeleteTheJobsStartedBeforeTheGivenTime() {
+		final LocalDateTime before = LocalDateTime.now();
+		when(batchJobTrackingRepositoryMock.findBatchJobIdsByStartTimeBefore(before, Pageable.ofSize(10)))
+				.thenReturn(List.of(JOB_ID));
+		when(batchJobTrackingRepositoryMock.deleteByBatchJobIdIn(List.of(JOB_ID))).thenReturn(1);
+
+		final int result = testObj.deleteJobTrackingEntries(before, 10);
+
+		assertThat(result).isEqualTo(1);
+	}
+
+	@Test
+	void deleteJobTrackingEntries_ShouldNotDeleteAnything_WhenThereAreNoOldJobs() {
+		final LocalDateTime before = LocalDateTime.now();
+		when(batchJobTrackingRepositoryMock.findBatchJobIdsByStartTimeBefore(before, Pageable.ofSize(10)))
+				.thenReturn(List.of());
+
+		final int result = testObj.deleteJobTrackingEntries(before, 10);
+
+		assertThat(result).isZero();
+		verify(batchJobTrackingRepositoryMock, never()).deleteByBatchJobIdIn(any());
+	}
+
 	@Test
 	void findLastJobExecutionWithNonEmptyExtraction_ShouldReturnJobWithNonEmptyExtraction() {
 		TimeMachine.useFixedClockAt(LocalDateTime.now());
@@ -361,4 +487,36 @@ class BatchJobTrackingServiceImplTest {
 		assertThat(result).isEmpty();
 	}
 
+	@Test
+	void getJobTrackingEntries_ShouldRetrieveThePageOfJobsAfterTheGivenJob() {
+		final LocalDateTime from = LocalDateTime.now();
+		final LocalDateTime startTime = from.plusHours(1);
+		final BatchJobTrackingFilter filter = BatchJobTrackingFilter.builder().batchJobType(JOB_TYPE)
+				.status(BatchJobStatus.FAILED).from(from).build();
+		final BatchJobTrackInfoEntity after = BatchJobTrackInfoEntity.builder().batchJobId(JOB_ID)
+				.startTime(startTime).build();
+		when(batchJobTrackingRepositoryMock.findPage(JOB_TYPE, BatchJobStatus.FAILED, from, null, startTime, JOB_ID,
+				Pageable.ofSize(10))).thenReturn(List.of(batchJobTrackInfoEntityMock));
+
+		final List<BatchJobTrackInfoEntity> result = testObj.getJobTrackingEntries(filter, after, 10);
+
+		assertThat(result).containsExactly(batchJobTrackInfoEntityMock);
+	}
+
+	@Test
+	void getJobItemTrackingEntries_ShouldRetrieveTheFirstPageOfItems_WhenNoItemIsGiven() {
+		final BatchJobItemTrackingFilter filter = BatchJobItemTrackingFilter.builder()
+				.status(BatchJobItemStatus.FAILED).build();
+		when(batchJobItemTrackingRepositoryMock.findPageByBatchJobId(JOB_ID, null, BatchJobItemStatus.FAILED, null,
+				null, null, null, Pageable.ofSize(10))).thenReturn(List.of(batchJobItemTrackInfoEntityMock));
+
+		final List<BatchJobItemTrackInfoEntity> result = testObj.getJobItemTrackingEntries(JOB_ID, filter, null, 10);
+
+		assertThat(result).containsExactly(batchJobItemTrackInfoEntityMock);
+	}
+
+	private BatchJobTrackInfoEntity jobWithItems(final String batchJobId, final int extractedItems) {
+		return BatchJobTrackInfoEntity.builder().batchJobId(batchJobId).extractedItems(extractedItems).build();
+	}
+
 }
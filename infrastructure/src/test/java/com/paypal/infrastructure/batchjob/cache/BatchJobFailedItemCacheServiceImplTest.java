@@ -10,6 +10,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.SimpleValueWrapper;
 
 import java.util.List;
 import java.util.Map;
@@ -27,6 +28,8 @@ class BatchJobFailedItemCacheServiceImplTest {
 
 	public static final String ITEM_ID_2 = "itemId2";
 
+	public static final String BULK_ITEM_TYPE = "bulkItemType";
+
 	@InjectMocks
 	private BatchJobFailedItemCacheServiceImpl testObj;
 
@@ -36,13 +39,17 @@ class BatchJobFailedItemCacheServiceImplTest {
 	@Mock
 	private Cache cacheMock;
 
+	@Mock
+	private BatchJobFailedItemBulkCache bulkCacheMock;
+
 	@Mock
 	private BatchJobItem<Object> batchJobItemMock1, batchJobItemMock2;
 
 	@BeforeEach
 	void setUp() {
 
-		when(cacheManagerMock.getCache(ITEM_TYPE)).thenReturn(cacheMock);
+		lenient().when(cacheManagerMock.getCache(ITEM_TYPE)).thenReturn(cacheMock);
+		lenient().when(cacheManagerMock.getCache(BULK_ITEM_TYPE)).thenReturn(bulkCacheMock);
 	}
 
 	@Test
@@ -127,9 +134,8 @@ class BatchJobFailedItemCacheServiceImplTest {
 		when(batchJobItemMock2.getItemType()).thenReturn(ITEM_TYPE);
 		when(batchJobItemMock2.getItemId()).thenReturn(ITEM_ID_2);
 
-		when(cacheMock.get(ITEM_ID_1, (Class<BatchJobItem<Object>>) batchJobItemMock1.getClass()))
-				.thenReturn(batchJobItemMock1);
-		when(cacheMock.get(ITEM_ID_2, (Class<BatchJobItem<Object>>) batchJobItemMock1.getClass())).thenReturn(null);
+		when(cacheMock.get(ITEM_ID_1)).thenReturn(new SimpleValueWrapper(batchJobItemMock1));
+		when(cacheMock.get(ITEM_ID_2)).thenReturn(null);
 
 		testObj.refreshCachedItems(List.of(batchJobItemMock1, batchJobItemMock2));
 
@@ -175,10 +181,8 @@ class BatchJobFailedItemCacheServiceImplTest {
 		batchJobFailedItem2.setType(ITEM_TYPE);
 		batchJobFailedItem2.setId(ITEM_ID_2);
 
-		when(cacheMock.get(ITEM_ID_1, (Class<BatchJobItem<Object>>) batchJobItemMock1.getClass()))
-				.thenReturn(batchJobItemMock1);
-		when(cacheMock.get(ITEM_ID_2, (Class<BatchJobItem<Object>>) batchJobItemMock1.getClass()))
-				.thenReturn(batchJobItemMock2);
+		when(cacheMock.get(ITEM_ID_1)).thenReturn(new SimpleValueWrapper(batchJobItemMock1));
+		when(cacheMock.get(ITEM_ID_2)).thenReturn(new SimpleValueWrapper(batchJobItemMock2));
 
 		final Map<BatchJobFailedItem, Optional<BatchJobItem<Object>>> result = testObj.retrieveAllItems(
 				(Class<BatchJobItem<Object>>) batchJobItemMock1.getClass(),
@@ -199,10 +203,8 @@ class BatchJobFailedItemCacheServiceImplTest {
 		batchJobFailedItem2.setType(ITEM_TYPE);
 		batchJobFailedItem2.setId(ITEM_ID_2);
 
-		when(cacheMock.get(ITEM_ID_1, (Class<BatchJobItem<Object>>) batchJobItemMock1.getClass()))
-				.thenReturn(batchJobItemMock1);
-		when(cacheMock.get(ITEM_ID_2, (Class<BatchJobItem<Object>>) batchJobItemMock1.getClass())).thenReturn(null)
-				.thenReturn(batchJobItemMock2);
+		when(cacheMock.get(ITEM_ID_1)).thenReturn(new SimpleValueWrapper(batchJobItemMock1));
+		when(cacheMock.get(ITEM_ID_2)).thenReturn(null);
 
 		when(batchJobItemMock2.getItemType()).thenReturn(ITEM_TYPE);
 		when(batchJobItemMock2.getItemId()).thenReturn(ITEM_ID_2);
@@ -235,10 +237,8 @@ class BatchJobFailedItemCacheServiceImplTest {
 		batchJobFailedItem2.setType(ITEM_TYPE);
 		batchJobFailedItem2.setId(ITEM_ID_2);
 
-		when(cacheMock.get(ITEM_ID_1, (Class<BatchJobItem<Object>>) batchJobItemMock1.getClass()))
-				.thenReturn(batchJobItemMock1);
-		when(cacheMock.get(ITEM_ID_2, (Class<BatchJobItem<Object>>) batchJobItemMock1.getClass())).thenReturn(null)
-				.thenReturn(batchJobItemMock2);
+		when(cacheMock.get(ITEM_ID_1)).thenReturn(new SimpleValueWrapper(batchJobItemMock1));
+		when(cacheMock.get(ITEM_ID_2)).thenReturn(null);
 
 		when(batchJobItemMock2.getItemType()).thenReturn(ITEM_TYPE);
 		when(batchJobItemMock2.getItemId()).thenReturn(ITEM_ID_2);
@@ -256,4 +256,70 @@ class BatchJobFailedItemCacheServiceImplTest {
 				.containsEntry(batchJobFailedItem2, Optional.of(batchJobItemMock2));
 	}
 
+	@Test
+	void storeItems_ShouldPutAllItemsInCacheAtOnce_WhenCacheSupportsBulkOperations() {
+
+		when(batchJobItemMock1.getItemType()).thenReturn(BULK_ITEM_TYPE);
+		when(batchJobItemMock1.getItemId()).thenReturn(ITEM_ID_1);
+		when(batchJobItemMock2.getItemType()).thenReturn(BULK_ITEM_TYPE);
+		when(batchJobItemMock2.getItemId()).thenReturn(ITEM_ID_2);
+
+		testObj.storeItems(List.of(batchJobItemMock1, batchJobItemMock2));
+
+		verify(bulkCacheMock).putAll(Map.of(ITEM_ID_1, batchJobItemMock1, ITEM_ID_2, batchJobItemMock2));
+		verify(bulkCacheMock, never()).put(any(), any());
+	}
+
+	@Test
+	void storeItems_ShouldPutEveryItemInCache_WhenCacheDoesNotSupportBulkOperations() {
+
+		when(batchJobItemMock1.getItemType()).thenReturn(ITEM_TYPE);
+		when(batchJobItemMock1.getItemId()).thenReturn(ITEM_ID_1);
+		when(batchJobItemMock2.getItemType()).thenReturn(ITEM_TYPE);
+		when(batchJobItemMock2.getItemId()).thenReturn(ITEM_ID_2);
+
+		testObj.storeItems(List.of(batchJobItemMock1, batchJobItemMock2));
+
+		verify(cacheMock).put(ITEM_ID_1, batchJobItemMock1);
+		verify(cacheMock).put(ITEM_ID_2, batchJobItemMock2);
+	}
+
+	@Test
+	void retrieveItems_ShouldReturnOnlyCachedItemsOfTheGivenClass_WhenCacheSupportsBulkOperations() {
+
+		when(bulkCacheMock.getAll(List.of(ITEM_ID_1, ITEM_ID_2, "itemId3")))
+				.thenReturn(Map.of(ITEM_ID_1, batchJobItemMock1, ITEM_ID_2, "notABatchJobItem"));
+
+		final Map<String, BatchJobItem<Object>> result = testObj.retrieveItems(
+				(Class<BatchJobItem<Object>>) batchJobItemMock1.getClass(), BULK_ITEM_TYPE,
+				List.of(ITEM_ID_1, ITEM_ID_2, "itemId3"));
+
+		assertThat(result).containsExactly(Map.entry(ITEM_ID_1, batchJobItemMock1));
+	}
+
+	@Test
+	void retrieveAllItems2_ShouldReadAndWriteCacheOnce_WhenCacheSupportsBulkOperations() {
+
+		final BatchJobFailedItem batchJobFailedItem1 = new BatchJobFailedItem();
+		batchJobFailedItem1.setType(BULK_ITEM_TYPE);
+		batchJobFailedItem1.setId(ITEM_ID_1);
+
+		final BatchJobFailedItem batchJobFailedItem2 = new BatchJobFailedItem();
+		batchJobFailedItem2.setType(BULK_ITEM_TYPE);
+		batchJobFailedItem2.setId(ITEM_ID_2);
+
+		when(bulkCacheMock.getAll(List.of(ITEM_ID_1, ITEM_ID_2))).thenReturn(Map.of(ITEM_ID_1, batchJobItemMock1));
+		when(batchJobItemMock2.getItemType()).thenReturn(BULK_ITEM_TYPE);
+		when(batchJobItemMock2.getItemId()).thenReturn(ITEM_ID_2);
+
+		final Map<BatchJobFailedItem, Optional<BatchJobItem<Object>>> result = testObj.retrieveAllItems(
+				(Class<BatchJobItem<Object>>) batchJobItemMock1.getClass(),
+				List.of(batchJobFailedItem1, batchJobFailedItem2), batchJobFailedItems -> List.of(batchJobItemMock2));
+
+		verify(bulkCacheMock).putAll(Map.of(ITEM_ID_2, batchJobItemMock2));
+		verify(bulkCacheMock, times(1)).getAll(any());
+		assertThat(result).containsEntry(batchJobFailedItem1, Optional.of(batchJobItemMock1))
+				.containsEntry(batchJobFailedItem2, Optional.of(batchJobItemMock2));
+	}
+
 }
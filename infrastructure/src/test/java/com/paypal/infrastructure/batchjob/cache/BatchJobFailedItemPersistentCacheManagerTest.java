@@ -0,0 +1,63 @@
+package com.paypal.infrastructure.batchjob.cache;
+
+import com.paypal.infrastructure.batchjob.repository.BatchJobFailedItemCacheEntryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BatchJobFailedItemPersistentCacheManagerTest {
+
+	private static final String ITEM_TYPE = "itemType";
+
+	private BatchJobFailedItemPersistentCacheManager testObj;
+
+	@Mock
+	private CacheManager heapCacheManagerMock;
+
+	@Mock
+	private Cache heapCacheMock;
+
+	@Mock
+	private BatchJobFailedItemCacheEntryRepository batchJobFailedItemCacheEntryRepositoryMock;
+
+	@BeforeEach
+	void setUp() {
+		testObj = new BatchJobFailedItemPersistentCacheManager(heapCacheManagerMock,
+				batchJobFailedItemCacheEntryRepositoryMock, Duration.ofDays(15));
+	}
+
+	@Test
+	void getCache_shouldReturnTheSamePersistentCacheForTheSameName() {
+		when(heapCacheManagerMock.getCache(ITEM_TYPE)).thenReturn(heapCacheMock);
+
+		final Cache result = testObj.getCache(ITEM_TYPE);
+
+		assertThat(result).isInstanceOf(BatchJobFailedItemPersistentCache.class).isSameAs(testObj.getCache(ITEM_TYPE));
+	}
+
+	@Test
+	void getCache_shouldReturnNull_whenHeapCacheDoesNotExist() {
+		final Cache result = testObj.getCache(ITEM_TYPE);
+
+		assertThat(result).isNull();
+	}
+
+	@Test
+	void getCacheNames_shouldReturnHeapCacheNames() {
+		when(heapCacheManagerMock.getCacheNames()).thenReturn(List.of(ITEM_TYPE));
+
+		assertThat(testObj.getCacheNames()).containsExactly(ITEM_TYPE);
+	}
+
+}
@@ -0,0 +1,283 @@
+package com.paypal.infrastructure.batchjob.cache;
+
+import com.paypal.infrastructure.batchjob.entities.BatchJobFailedItemCacheEntryEntity;
+import com.paypal.infrastructure.batchjob.entities.BatchJobFailedItemCacheEntryId;
+import com.paypal.infrastructure.batchjob.repository.BatchJobFailedItemCacheEntryRepository;
+import com.paypal.infrastructure.util.TimeMachine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.util.SerializationUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchJobFailedItemPersistentCacheTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2023, 3, 1, 10, 0);
+
+	private static final String ITEM_TYPE = "itemType";
+
+	private static final String ITEM_ID = "itemId";
+
+	private static final Duration TIME_TO_LIVE = Duration.ofDays(15);
+
+	private static final BatchJobFailedItemCacheEntryId ENTRY_ID = BatchJobFailedItemCacheEntryId.builder()
+			.itemType(ITEM_TYPE).itemId(ITEM_ID).build();
+
+	private BatchJobFailedItemPersistentCache testObj;
+
+	@Mock
+	private Cache heapCacheMock;
+
+	@Mock
+	private BatchJobFailedItemCacheEntryRepository batchJobFailedItemCacheEntryRepositoryMock;
+
+	@Captor
+	private ArgumentCaptor<BatchJobFailedItemCacheEntryEntity> batchJobFailedItemCacheEntryEntityCaptor;
+
+	@Captor
+	private ArgumentCaptor<List<BatchJobFailedItemCacheEntryEntity>> batchJobFailedItemCacheEntryEntitiesCaptor;
+
+	@BeforeEach
+	void setUp() {
+		TimeMachine.useFixedClockAt(NOW);
+		lenient().when(heapCacheMock.getName()).thenReturn(ITEM_TYPE);
+		testObj = new BatchJobFailedItemPersistentCache(heapCacheMock, batchJobFailedItemCacheEntryRepositoryMock,
+				TIME_TO_LIVE);
+	}
+
+	@AfterEach
+	void tearDown() {
+		TimeMachine.useSystemDefaultZoneClock();
+	}
+
+	@Test
+	void get_shouldReturnHeapValue_whenItemIsInTheHeapTier() {
+		when(heapCacheMock.get(ITEM_ID)).thenReturn(new SimpleValueWrapper("value"));
+
+		final String result = testObj.get(ITEM_ID, String.class);
+
+		assertThat(result).isEqualTo("value");
+		verifyNoInteractions(batchJobFailedItemCacheEntryRepositoryMock);
+	}
+
+	@Test
+	void get_shouldLoadItemFromPersistentTierAndPromoteIt_whenItemIsNotInTheHeapTier() {
+		when(batchJobFailedItemCacheEntryRepositoryMock.findById(ENTRY_ID))
+				.thenReturn(Optional.of(entry("value", NOW.minusDays(1))));
+
+		final String result = testObj.get(ITEM_ID, String.class);
+
+		assertThat(result).isEqualTo("value");
+		verify(heapCacheMock).put(ITEM_ID, "value");
+	}
+
+	@Test
+	void get_shouldReturnNullAndDeleteEntry_whenPersistentEntryIsExpired() {
+		when(batchJobFailedItemCacheEntryRepositoryMock.findById(ENTRY_ID))
+				.thenReturn(Optional.of(entry("value", NOW.minusDays(16))));
+
+		final String result = testObj.get(ITEM_ID, String.class);
+
+		assertThat(result).isNull();
+		verify(batchJobFailedItemCacheEntryRepositoryMock).deleteByItemTypeAndItemId(ITEM_TYPE, ITEM_ID);
+		verify(heapCacheMock, never()).put(any(), any());
+	}
+
+	@Test
+	void get_shouldReturnNullAndDeleteEntry_whenPersistentEntryCanNotBeDeserialized() {
+		when(batchJobFailedItemCacheEntryRepositoryMock.findById(ENTRY_ID)).thenReturn(Optional.of(
+				BatchJobFailedItemCacheEntryEntity.builder().payload(new byte[] { 1, 2, 3 }).storedTime(NOW).build()));
+
+		final String result = testObj.get(ITEM_ID, String.class);
+
+		assertThat(result).isNull();
+		verify(batchJobFailedItemCacheEntryRepositoryMock).deleteByItemTypeAndItemId(ITEM_TYPE, ITEM_ID);
+	}
+
+	@Test
+	void get_shouldThrowException_whenCachedValueIsNotOfTheRequiredType() {
+		when(heapCacheMock.get(ITEM_ID)).thenReturn(new SimpleValueWrapper("value"));
+
+		assertThatThrownBy(() -> testObj.get(ITEM_ID, Integer.class)).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void put_shouldStoreItemInBothTiers_whenItemIsSerializable() {
+		testObj.put(ITEM_ID, "value");
+
+		verify(heapCacheMock).put(ITEM_ID, "value");
+		verify(batchJobFailedItemCacheEntryRepositoryMock).save(batchJobFailedItemCacheEntryEntityCaptor.capture());
+		final BatchJobFailedItemCacheEntryEntity entry = batchJobFailedItemCacheEntryEntityCaptor.getValue();
+		assertThat(entry.getItemType()).isEqualTo(ITEM_TYPE);
+		assertThat(entry.getItemId()).isEqualTo(ITEM_ID);
+		assertThat(entry.getStoredTime()).isEqualTo(NOW);
+		assertThat(entry.isNew()).isFalse();
+		assertThat(SerializationUtils.deserialize(entry.getPayload())).isEqualTo("value");
+	}
+
+	@Test
+	void put_shouldOnlyStoreItemInTheHeapTier_whenItemIsNotSerializable() {
+		final Object value = new Object();
+
+		testObj.put(ITEM_ID, value);
+
+		verify(heapCacheMock).put(ITEM_ID, value);
+		verifyNoInteractions(batchJobFailedItemCacheEntryRepositoryMock);
+	}
+
+	@Test
+	void getAll_shouldLoadHeapMissesWithASingleQueryAndPromoteThem() {
+		when(heapCacheMock.get("id1")).thenReturn(new SimpleValueWrapper("value1"));
+		when(batchJobFailedItemCacheEntryRepositoryMock.findByItemTypeAndItemIdIn(ITEM_TYPE, List.of("id2", "id3")))
+				.thenReturn(List.of(entry("id2", "value2", NOW.minusDays(1))));
+
+		final Map<Object, Object> result = testObj.getAll(List.of("id1", "id2", "id3"));
+
+		assertThat(result).containsExactly(Map.entry("id1", "value1"), Map.entry("id2", "value2"));
+		verify(heapCacheMock).put("id2", "value2");
+		verify(batchJobFailedItemCacheEntryRepositoryMock, never()).deleteByItemTypeAndItemIdIn(any(), any());
+	}
+
+	@Test
+	void getAll_shouldDeleteExpiredEntriesWithASingleQuery() {
+		when(batchJobFailedItemCacheEntryRepositoryMock.findByItemTypeAndItemIdIn(ITEM_TYPE, List.of("id1", "id2")))
+				.thenReturn(List.of(entry("id1", "value1", NOW.minusDays(16)), entry("id2", "value2", NOW)));
+
+		final Map<Object, Object> result = testObj.getAll(List.of("id1", "id2"));
+
+		assertThat(result).containsExactly(Map.entry("id2", "value2"));
+		verify(batchJobFailedItemCacheEntryRepositoryMock).deleteByItemTypeAndItemIdIn(ITEM_TYPE, List.of("id1"));
+	}
+
+	@Test
+	void getAll_shouldQueryPersistentTierInBatches_whenThereAreManyHeapMisses() {
+		final List<String> keys = IntStream.range(0, BatchJobFailedItemPersistentCache.ITEM_IDS_BATCH_SIZE + 1)
+				.mapToObj(i -> "id" + i).collect(Collectors.toList());
+
+		testObj.getAll(keys);
+
+		verify(batchJobFailedItemCacheEntryRepositoryMock, times(2)).findByItemTypeAndItemIdIn(eq(ITEM_TYPE), any());
+	}
+
+	@Test
+	void putAll_shouldReplaceSerializableItemsWithASingleDeleteAndInsertAndAllItemsInTheHeapTier() {
+		final Object notSerializableValue = new Object();
+		final Map<String, Object> values = new LinkedHashMap<>();
+		values.put("id1", "value1");
+		values.put("id2", notSerializableValue);
+		values.put("id3", "value3");
+
+		testObj.putAll(values);
+
+		verify(heapCacheMock).put("id1", "value1");
+		verify(heapCacheMock).put("id2", notSerializableValue);
+		verify(heapCacheMock).put("id3", "value3");
+		final InOrder inOrder = inOrder(batchJobFailedItemCacheEntryRepositoryMock);
+		inOrder.verify(batchJobFailedItemCacheEntryRepositoryMock).deleteByItemTypeAndItemIdIn(ITEM_TYPE,
+				List.of("id1", "id3"));
+		inOrder.verify(batchJobFailedItemCacheEntryRepositoryMock)
+				.saveAll(batchJobFailedItemCacheEntryEntitiesCaptor.capture());
+		assertThat(batchJobFailedItemCacheEntryEntitiesCaptor.getValue())
+				.extracting(BatchJobFailedItemCacheEntryEntity::getItemId).containsExactly("id1", "id3");
+		assertThat(batchJobFailedItemCacheEntryEntitiesCaptor.getValue())
+				.allMatch(BatchJobFailedItemCacheEntryEntity::isNew);
+	}
+
+	@Test
+	void putAll_shouldKeepTheItemsInTheHeapTier_whenTheirPreviousVersionsCanNotBeDeleted() {
+		doThrow(new DataAccessResourceFailureException("Database unavailable"))
+				.when(batchJobFailedItemCacheEntryRepositoryMock)
+				.deleteByItemTypeAndItemIdIn(ITEM_TYPE, List.of(ITEM_ID));
+
+		testObj.putAll(Map.of(ITEM_ID, "value"));
+
+		verify(heapCacheMock).put(ITEM_ID, "value");
+		verify(batchJobFailedItemCacheEntryRepositoryMock, never()).saveAll(any());
+	}
+
+	@Test
+	void evict_shouldRemoveItemFromBothTiers() {
+		testObj.evict(ITEM_ID);
+
+		verify(heapCacheMock).evict(ITEM_ID);
+		verify(batchJobFailedItemCacheEntryRepositoryMock).deleteByItemTypeAndItemId(ITEM_TYPE, ITEM_ID);
+	}
+
+	@Test
+	void clear_shouldRemoveAllItemsOfTheTypeFromBothTiers() {
+		testObj.clear();
+
+		verify(heapCacheMock).clear();
+		verify(batchJobFailedItemCacheEntryRepositoryMock).deleteByItemType(ITEM_TYPE);
+	}
+
+	@Test
+	void evict_shouldRemoveItemFromTheHeapTier_whenThePersistentTierFails() {
+		doThrow(new DataAccessResourceFailureException("Database unavailable"))
+				.when(batchJobFailedItemCacheEntryRepositoryMock).deleteByItemTypeAndItemId(ITEM_TYPE, ITEM_ID);
+
+		testObj.evict(ITEM_ID);
+
+		verify(heapCacheMock).evict(ITEM_ID);
+	}
+
+	@Test
+	void clear_shouldRemoveAllItemsFromTheHeapTier_whenThePersistentTierFails() {
+		doThrow(new DataAccessResourceFailureException("Database unavailable"))
+				.when(batchJobFailedItemCacheEntryRepositoryMock).deleteByItemType(ITEM_TYPE);
+
+		testObj.clear();
+
+		verify(heapCacheMock).clear();
+	}
+
+	@Test
+	void get_shouldReturnNull_whenExpiredPersistentEntryCanNotBeDeleted() {
+		when(batchJobFailedItemCacheEntryRepositoryMock.findById(ENTRY_ID))
+				.thenReturn(Optional.of(entry("value", NOW.minusDays(16))));
+		doThrow(new DataAccessResourceFailureException("Database unavailable"))
+				.when(batchJobFailedItemCacheEntryRepositoryMock).deleteByItemTypeAndItemId(ITEM_TYPE, ITEM_ID);
+
+		assertThat(testObj.get(ITEM_ID)).isNull();
+	}
+
+	private static BatchJobFailedItemCacheEntryEntity entry(final String value, final LocalDateTime storedTime) {
+		return entry(ITEM_ID, value, storedTime);
+	}
+
+	private static BatchJobFailedItemCacheEntryEntity entry(final String itemId, final String value,
+			final LocalDateTime storedTime) {
+		//@formatter:off
+		return BatchJobFailedItemCacheEntryEntity.builder()
+				.itemType(ITEM_TYPE)
+				.itemId(itemId)
+				.payload(SerializationUtils.serialize(value))
+				.storedTime(storedTime)
+				.build();
+		//@formatter:on
+	}
+
+}
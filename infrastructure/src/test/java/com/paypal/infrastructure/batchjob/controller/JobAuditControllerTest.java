@@ -1,22 +1,39 @@
 package com.paypal.infrastructure.batchjob.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paypal.infrastructure.batchjob.BatchJobItemStatus;
+import com.paypal.infrastructure.batchjob.BatchJobItemTrackingFilter;
+import com.paypal.infrastructure.batchjob.BatchJobStatus;
+import com.paypal.infrastructure.batchjob.BatchJobTrackingFilter;
 import com.paypal.infrastructure.batchjob.BatchJobTrackingService;
 import com.paypal.infrastructure.batchjob.converters.BatchJobItemTrackInfoEntityConverter;
 import com.paypal.infrastructure.batchjob.converters.BatchJobTrackInfoEntityConverter;
+import com.paypal.infrastructure.batchjob.dto.BatchJobAuditPageResponse;
 import com.paypal.infrastructure.batchjob.dto.BatchJobItemTrackInfoResponse;
 import com.paypal.infrastructure.batchjob.dto.BatchJobTrackInfoResponse;
 import com.paypal.infrastructure.batchjob.entities.BatchJobItemTrackInfoEntity;
+import com.paypal.infrastructure.batchjob.entities.BatchJobItemTrackingInfoId;
 import com.paypal.infrastructure.batchjob.entities.BatchJobTrackInfoEntity;
+import com.paypal.infrastructure.exceptions.HMCErrorResponse;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +51,9 @@ class JobAuditControllerTest {
 	@Mock
 	private BatchJobTrackingService batchJobTrackingServiceMock;
 
+	@Spy
+	private ObjectMapper objectMapper = new ObjectMapper();
+
 	@Mock
 	private LocalDateTime localDateTime1Mock, localDateTime2Mock;
 
@@ -82,4 +102,117 @@ class JobAuditControllerTest {
 		assertThat(result).containsAll(batchJobItemTrackInfoResponses);
 	}
 
-}
\ No newline at end of file
+	@Test
+	void getJobs_shouldReturnLastPageWithoutCursor_whenThereAreNoMoreJobs() {
+		final BatchJobTrackingFilter filter = BatchJobTrackingFilter.builder().batchJobType("sellers")
+				.status(BatchJobStatus.FINISHED).build();
+		final List<BatchJobTrackInfoEntity> batchJobTrackInfoEntities = List.of(batchJobTrackInfoEntity1Mock);
+		final List<BatchJobTrackInfoResponse> batchJobTrackInfoResponses = List.of(batchJobTrackInfoResponse1Mock);
+		when(batchJobTrackingServiceMock.getJobTrackingEntries(filter, null, 3)).thenReturn(batchJobTrackInfoEntities);
+		when(batchJobTrackInfoEntityConverterMock.toResponse(batchJobTrackInfoEntities))
+				.thenReturn(batchJobTrackInfoResponses);
+
+		final BatchJobAuditPageResponse<BatchJobTrackInfoResponse> result = testObj.getJobs("sellers",
+				BatchJobStatus.FINISHED, null, null, null, 2);
+
+		assertThat(result.getItems()).containsExactly(batchJobTrackInfoResponse1Mock);
+		assertThat(result.getNext()).isNull();
+	}
+
+	@Test
+	void getJobs_shouldReturnCursorOfLastJob_whenThereAreMoreJobs() {
+		final LocalDateTime startTime = LocalDateTime.of(2023, 3, 1, 10, 0);
+		final BatchJobTrackInfoEntity lastJob = BatchJobTrackInfoEntity.builder().batchJobId("job2")
+				.startTime(startTime).build();
+		final BatchJobTrackingFilter filter = BatchJobTrackingFilter.builder().build();
+		when(batchJobTrackingServiceMock.getJobTrackingEntries(filter, null, 3))
+				.thenReturn(List.of(batchJobTrackInfoEntity1Mock, lastJob, batchJobTrackInfoEntity2Mock));
+		when(batchJobTrackInfoEntityConverterMock.toResponse(List.of(batchJobTrackInfoEntity1Mock, lastJob)))
+				.thenReturn(List.of(batchJobTrackInfoResponse1Mock, batchJobTrackInfoResponse2Mock));
+
+		final BatchJobAuditPageResponse<BatchJobTrackInfoResponse> result = testObj.getJobs(null, null, null, null,
+				null, 2);
+
+		assertThat(result.getItems()).containsExactly(batchJobTrackInfoResponse1Mock, batchJobTrackInfoResponse2Mock);
+		assertThat(BatchJobAuditCursors.toBatchJobTrackInfoEntity(result.getNext()))
+				.isEqualTo(BatchJobTrackInfoEntity.builder().batchJobId("job2").startTime(startTime).build());
+	}
+
+	@Test
+	void getJobItemsPage_shouldRetrieveItemsAfterCursor() {
+		final BatchJobItemTrackInfoEntity lastItem = BatchJobItemTrackInfoEntity.builder().batchJobId("job1")
+				.itemType("seller").itemId("0002").build();
+		final BatchJobItemTrackingFilter filter = BatchJobItemTrackingFilter.builder()
+				.status(BatchJobItemStatus.FAILED).build();
+		final String after = BatchJobAuditCursors.of(BatchJobItemTrackInfoEntity.builder().itemType("seller")
+				.itemId("0001").build());
+		when(batchJobTrackingServiceMock.getJobItemTrackingEntries("job1", filter,
+				BatchJobItemTrackingInfoId.builder().itemType("seller").itemId("0001").build(), 2))
+						.thenReturn(List.of(lastItem, batchJobItemTrackInfoEntity1Mock));
+		when(batchJobItemTrackInfoEntityConverterMock.toResponse(List.of(lastItem)))
+				.thenReturn(List.of(batchJobItemTrackInfoResponse1Mock));
+
+		final BatchJobAuditPageResponse<BatchJobItemTrackInfoResponse> result = testObj.getJobItemsPage("job1", null,
+				BatchJobItemStatus.FAILED, null, null, after, 1);
+
+		assertThat(result.getItems()).containsExactly(batchJobItemTrackInfoResponse1Mock);
+		assertThat(BatchJobAuditCursors.toBatchJobItemTrackingInfoId(result.getNext()))
+				.isEqualTo(BatchJobItemTrackingInfoId.builder().itemType("seller").itemId("0002").build());
+	}
+
+	@Test
+	void getJobs_shouldThrowInvalidBatchJobAuditCursorException_whenCursorIsMalformed() {
+		assertThatThrownBy(() -> testObj.getJobs(null, null, null, null, "not a cursor", 2))
+				.isInstanceOf(InvalidBatchJobAuditCursorException.class).hasMessage("Invalid cursor [not a cursor]");
+	}
+
+	@Test
+	void handleInvalidCursor_shouldReturnTheErrorMessage() {
+		final HMCErrorResponse result = testObj
+				.handleInvalidCursor(new InvalidBatchJobAuditCursorException("Invalid cursor [abc]"));
+
+		assertThat(result.getErrorMessage()).isEqualTo("Invalid cursor [abc]");
+	}
+
+	@Test
+	void exportJobItems_shouldWriteAllItemsAsNewlineDelimitedJsonReadingThemInPages() throws IOException {
+		final BatchJobItemTrackingFilter filter = BatchJobItemTrackingFilter.builder().itemType("seller").build();
+		final List<BatchJobItemTrackInfoEntity> firstPage = items(0, JobAuditController.EXPORT_PAGE_SIZE);
+		final List<BatchJobItemTrackInfoEntity> lastPage = items(JobAuditController.EXPORT_PAGE_SIZE, 1);
+		when(batchJobTrackingServiceMock.getJobItemTrackingEntries("job1", filter, null,
+				JobAuditController.EXPORT_PAGE_SIZE)).thenReturn(firstPage);
+		when(batchJobTrackingServiceMock.getJobItemTrackingEntries(eq("job1"), eq(filter),
+				eq(BatchJobItemTrackingInfoId.builder().itemType("seller")
+						.itemId(String.valueOf(JobAuditController.EXPORT_PAGE_SIZE - 1)).build()),
+				eq(JobAuditController.EXPORT_PAGE_SIZE))).thenReturn(lastPage);
+		when(batchJobItemTrackInfoEntityConverterMock.toResponse(any(BatchJobItemTrackInfoEntity.class)))
+				.thenAnswer(invocation -> {
+					final BatchJobItemTrackInfoEntity entity = invocation.getArgument(0);
+					return new BatchJobItemTrackInfoResponse(entity.getBatchJobId(), entity.getItemType(),
+							entity.getItemId(), null, null, entity.getStatus());
+				});
+		final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		testObj.exportJobItems("job1", "seller", null, null, null).writeTo(outputStream);
+
+		final String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+		assertThat(lines).hasSize(JobAuditController.EXPORT_PAGE_SIZE + 1);
+		assertThat(lines[JobAuditController.EXPORT_PAGE_SIZE]).isEqualTo(
+				"{\"batchJobId\":\"job1\",\"itemType\":\"seller\",\"itemId\":\"1000\",\"startTime\":null,"
+						+ "\"finishTime\":null,\"status\":\"SUCCESSFUL\"}");
+	}
+
+	private static List<BatchJobItemTrackInfoEntity> items(final int first, final int count) {
+		//@formatter:off
+		return IntStream.range(first, first + count)
+				.mapToObj(i -> BatchJobItemTrackInfoEntity.builder()
+						.batchJobId("job1")
+						.itemType("seller")
+						.itemId(String.valueOf(i))
+						.status(BatchJobItemStatus.SUCCESSFUL)
+						.build())
+				.collect(Collectors.toList());
+		//@formatter:on
+	}
+
+}
@@ -0,0 +1,128 @@
+package com.paypal.infrastructure.batchjob.integrationtests;
+
+import com.paypal.infrastructure.batchjob.BatchJobItemStatus;
+import com.paypal.infrastructure.batchjob.BatchJobStatus;
+import com.paypal.infrastructure.batchjob.entities.BatchJobItemTrackInfoEntity;
+import com.paypal.infrastructure.batchjob.entities.BatchJobTrackInfoEntity;
+import com.paypal.infrastructure.batchjob.repository.BatchJobItemTrackingRepository;
+import com.paypal.infrastructure.batchjob.repository.BatchJobTrackingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the pages of jobs and items retrieved by the batch job audit queries with and
+ * without filters.
+ */
+@Tag("IntegrationTest")
+@SpringBootTest(classes = BatchJobTestContext.class)
+@TestPropertySource(
+		locations = { "classpath:infrastructure-test.properties", "classpath:infrastructure-test-db.properties" })
+@ExtendWith(SpringExtension.class)
+class BatchJobAuditPagingITTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2023, 3, 1, 3, 0);
+
+	private static final String JOB_ID = "JOB-1";
+
+	@Autowired
+	private BatchJobTrackingRepository batchJobTrackingRepository;
+
+	@Autowired
+	private BatchJobItemTrackingRepository batchJobItemTrackingRepository;
+
+	@BeforeEach
+	void setUp() {
+		deleteTrackingData();
+		//@formatter:off
+		batchJobTrackingRepository.saveAll(List.of(
+				buildJob("JOB-1", "sellers", NOW.minusHours(3), BatchJobStatus.FINISHED),
+				buildJob("JOB-2", "sellers", NOW.minusHours(2), BatchJobStatus.FAILED),
+				buildJob("JOB-3", "invoices", NOW.minusHours(2), BatchJobStatus.FINISHED),
+				buildJob("JOB-4", "sellers", NOW.minusHours(1), BatchJobStatus.FINISHED)));
+		batchJobItemTrackingRepository.saveAll(List.of(
+				buildItem("seller", "1", NOW.minusHours(3), BatchJobItemStatus.SUCCESSFUL),
+				buildItem("seller", "2", NOW.minusHours(3), BatchJobItemStatus.FAILED),
+				buildItem("seller", "3", NOW.minusHours(2), BatchJobItemStatus.SUCCESSFUL),
+				buildItem("stakeholder", "1", NOW.minusHours(2), BatchJobItemStatus.FAILED)));
+		//@formatter:on
+	}
+
+	@AfterEach
+	void tearDown() {
+		deleteTrackingData();
+	}
+
+	@Test
+	void findPage_shouldReturnAllJobsFromTheNewest_whenThereAreNoFilters() {
+		final List<BatchJobTrackInfoEntity> result = batchJobTrackingRepository.findPage(null, null, null, null, null,
+				null, Pageable.ofSize(10));
+
+		assertThat(result).extracting(BatchJobTrackInfoEntity::getBatchJobId).containsExactly("JOB-4", "JOB-3",
+				"JOB-2", "JOB-1");
+	}
+
+	@Test
+	void findPage_shouldReturnJobsMatchingTheFilters() {
+		final List<BatchJobTrackInfoEntity> result = batchJobTrackingRepository.findPage("sellers",
+				BatchJobStatus.FINISHED, NOW.minusHours(3), NOW.minusHours(1), null, null, Pageable.ofSize(10));
+
+		assertThat(result).extracting(BatchJobTrackInfoEntity::getBatchJobId).containsExactly("JOB-1");
+	}
+
+	@Test
+	void findPage_shouldReturnJobsAfterTheGivenJob() {
+		final List<BatchJobTrackInfoEntity> result = batchJobTrackingRepository.findPage(null, null, null, null,
+				NOW.minusHours(2), "JOB-3", Pageable.ofSize(10));
+
+		assertThat(result).extracting(BatchJobTrackInfoEntity::getBatchJobId).containsExactly("JOB-2", "JOB-1");
+	}
+
+	@Test
+	void findPageByBatchJobId_shouldReturnItemsMatchingTheFiltersAfterTheGivenItem() {
+		final List<BatchJobItemTrackInfoEntity> all = batchJobItemTrackingRepository.findPageByBatchJobId(JOB_ID,
+				null, null, null, null, null, null, Pageable.ofSize(10));
+		final List<BatchJobItemTrackInfoEntity> failed = batchJobItemTrackingRepository.findPageByBatchJobId(JOB_ID,
+				null, BatchJobItemStatus.FAILED, null, null, null, null, Pageable.ofSize(10));
+		final List<BatchJobItemTrackInfoEntity> sellersFrom = batchJobItemTrackingRepository.findPageByBatchJobId(
+				JOB_ID, "seller", null, NOW.minusHours(2), null, null, null, Pageable.ofSize(10));
+		final List<BatchJobItemTrackInfoEntity> after = batchJobItemTrackingRepository.findPageByBatchJobId(JOB_ID,
+				null, null, null, null, "seller", "2", Pageable.ofSize(1));
+
+		assertThat(all).extracting(BatchJobItemTrackInfoEntity::getItemId).containsExactly("1", "2", "3", "1");
+		assertThat(failed).extracting(BatchJobItemTrackInfoEntity::getItemType).containsExactly("seller",
+				"stakeholder");
+		assertThat(sellersFrom).extracting(BatchJobItemTrackInfoEntity::getItemId).containsExactly("3");
+		assertThat(after).extracting(BatchJobItemTrackInfoEntity::getItemId).containsExactly("3");
+	}
+
+	private BatchJobTrackInfoEntity buildJob(final String batchJobId, final String batchJobType,
+			final LocalDateTime startTime, final BatchJobStatus status) {
+		return BatchJobTrackInfoEntity.builder().batchJobId(batchJobId).batchJobType(batchJobType)
+				.startTime(startTime).status(status).build();
+	}
+
+	private BatchJobItemTrackInfoEntity buildItem(final String itemType, final String itemId,
+			final LocalDateTime startTime, final BatchJobItemStatus status) {
+		return BatchJobItemTrackInfoEntity.builder().batchJobId(JOB_ID).itemType(itemType).itemId(itemId)
+				.startTime(startTime).status(status).build();
+	}
+
+	private void deleteTrackingData() {
+		batchJobItemTrackingRepository.deleteAllInBatch();
+		batchJobTrackingRepository.deleteAllInBatch();
+	}
+
+}
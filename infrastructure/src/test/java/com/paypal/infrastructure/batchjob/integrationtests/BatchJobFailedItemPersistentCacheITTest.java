@@ -0,0 +1,128 @@
+package com.paypal.infrastructure.batchjob.integrationtests;
+
+import com.paypal.infrastructure.batchjob.AbstractBatchJobItem;
+import com.paypal.infrastructure.batchjob.BatchJobFailedItemService;
+import com.paypal.infrastructure.batchjob.cache.BatchJobFailedItemBulkCache;
+import com.paypal.infrastructure.batchjob.cache.BatchJobFailedItemCacheService;
+import com.paypal.infrastructure.batchjob.repository.BatchJobFailedItemCacheEntryRepository;
+import com.paypal.infrastructure.batchjob.BatchJobFailedItemRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("IntegrationTest")
+@SpringBootTest(classes = BatchJobTestContext.class)
+@TestPropertySource(
+		locations = { "classpath:infrastructure-test.properties", "classpath:infrastructure-test-db.properties" },
+		properties = { "jobs.failedItemsCache.maxSize=10" })
+@ExtendWith(SpringExtension.class)
+class BatchJobFailedItemPersistentCacheITTest {
+
+	private static final int ITEMS = 100;
+
+	@Autowired
+	private BatchJobFailedItemService batchJobFailedItemService;
+
+	@Autowired
+	private BatchJobFailedItemCacheService batchJobFailedItemCacheService;
+
+	@Autowired
+	private BatchJobFailedItemRepository batchJobFailedItemRepository;
+
+	@Autowired
+	private BatchJobFailedItemCacheEntryRepository batchJobFailedItemCacheEntryRepository;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@BeforeEach
+	@AfterEach
+	void cleanUp() {
+		Objects.requireNonNull(cacheManager.getCache(SerializableTestBatchJobItem.ITEM_TYPE)).clear();
+		batchJobFailedItemRepository.deleteAll();
+	}
+
+	@Test
+	void shouldRetrieveFailedItems_whenTheyAreEvictedFromTheHeapTier() {
+		IntStream.range(0, ITEMS).mapToObj(i -> new SerializableTestBatchJobItem("id" + i, "val" + i))
+				.forEach(batchJobFailedItemService::saveItemFailed);
+
+		assertThat(batchJobFailedItemCacheEntryRepository.count()).isEqualTo(ITEMS);
+		IntStream.range(0, ITEMS).forEach(i -> assertThat(batchJobFailedItemCacheService
+				.retrieveItem(SerializableTestBatchJobItem.class, SerializableTestBatchJobItem.ITEM_TYPE, "id" + i))
+						.hasValueSatisfying(item -> assertThat(item.getItem()).isEqualTo("val" + i)));
+	}
+
+	@Test
+	void shouldRetrieveFailedItems_whenTheHeapTierIsEmptied() {
+		batchJobFailedItemService.saveItemFailed(new SerializableTestBatchJobItem("id1", "val1"));
+		((com.github.benmanes.caffeine.cache.Cache<?, ?>) Objects
+				.requireNonNull(cacheManager.getCache(SerializableTestBatchJobItem.ITEM_TYPE)).getNativeCache())
+						.invalidateAll();
+
+		assertThat(batchJobFailedItemCacheService.retrieveItem(SerializableTestBatchJobItem.class,
+				SerializableTestBatchJobItem.ITEM_TYPE, "id1")).isPresent();
+	}
+
+	@Test
+	void shouldReplaceStoredItems_whenTheyAreStoredInBulkAgain() {
+		final BatchJobFailedItemBulkCache cache = (BatchJobFailedItemBulkCache) Objects
+				.requireNonNull(cacheManager.getCache(SerializableTestBatchJobItem.ITEM_TYPE));
+		cache.putAll(Map.of("id1", new SerializableTestBatchJobItem("id1", "val1")));
+		cache.putAll(Map.of("id1", new SerializableTestBatchJobItem("id1", "val2")));
+		((com.github.benmanes.caffeine.cache.Cache<?, ?>) cache.getNativeCache()).invalidateAll();
+
+		assertThat(batchJobFailedItemCacheEntryRepository.count()).isEqualTo(1);
+		assertThat(batchJobFailedItemCacheService.retrieveItem(SerializableTestBatchJobItem.class,
+				SerializableTestBatchJobItem.ITEM_TYPE, "id1"))
+						.hasValueSatisfying(item -> assertThat(item.getItem()).isEqualTo("val2"));
+	}
+
+	@Test
+	void shouldRemoveSuccessfulItemsFromBothTiers() {
+		final SerializableTestBatchJobItem item = new SerializableTestBatchJobItem("id1", "val1");
+		batchJobFailedItemService.saveItemFailed(item);
+		batchJobFailedItemService.removeItemProcessed(item);
+
+		assertThat(batchJobFailedItemCacheEntryRepository.count()).isZero();
+		assertThat(batchJobFailedItemCacheService.retrieveItem(SerializableTestBatchJobItem.class,
+				SerializableTestBatchJobItem.ITEM_TYPE, "id1")).isEmpty();
+	}
+
+	static class SerializableTestBatchJobItem extends AbstractBatchJobItem<String> {
+
+		static final String ITEM_TYPE = "serializableTestItem";
+
+		private final String id;
+
+		SerializableTestBatchJobItem(final String id, final String value) {
+			super(value);
+			this.id = id;
+		}
+
+		@Override
+		public String getItemId() {
+			return id;
+		}
+
+		@Override
+		public String getItemType() {
+			return ITEM_TYPE;
+		}
+
+	}
+
+}
@@ -0,0 +1,190 @@
+package com.paypal.infrastructure.batchjob.integrationtests;
+
+import com.paypal.infrastructure.batchjob.BatchJobItemStatus;
+import com.paypal.infrastructure.batchjob.BatchJobStatus;
+import com.paypal.infrastructure.batchjob.BatchJobTrackingFilter;
+import com.paypal.infrastructure.batchjob.BatchJobTrackingRetentionService;
+import com.paypal.infrastructure.batchjob.BatchJobTrackingService;
+import com.paypal.infrastructure.batchjob.entities.BatchJobItemTrackInfoEntity;
+import com.paypal.infrastructure.batchjob.entities.BatchJobTrackInfoEntity;
+import com.paypal.infrastructure.batchjob.repository.BatchJobItemTrackingRepository;
+import com.paypal.infrastructure.batchjob.repository.BatchJobTrackingRepository;
+import com.paypal.infrastructure.util.TimeMachine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the batch job tracking rows kept after a year of simulated job executions once
+ * the retention policies are applied.
+ */
+@Tag("IntegrationTest")
+@SpringBootTest(classes = BatchJobTestContext.class)
+@TestPropertySource(
+		locations = { "classpath:infrastructure-test.properties", "classpath:infrastructure-test-db.properties" },
+		properties = { "jobs.tracking.retention.itemsDays=30", "jobs.tracking.retention.jobsDays=365" })
+@ExtendWith(SpringExtension.class)
+class BatchJobTrackingRetentionITTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2023, 3, 1, 3, 0);
+
+	private static final String JOB_TYPE = "JOB_TYPE";
+
+	private static final String ITEM_TYPE = "ITEM_TYPE";
+
+	private static final int ITEMS_DAYS = 30;
+
+	private static final int SIMULATED_DAYS = 365;
+
+	private static final int RUNS_PER_DAY = 4;
+
+	private static final int ITEMS_PER_RUN = 20;
+
+	private static final int REPETITIONS = 50;
+
+	@Autowired
+	private BatchJobTrackingRepository batchJobTrackingRepository;
+
+	@Autowired
+	private BatchJobItemTrackingRepository batchJobItemTrackingRepository;
+
+	@Autowired
+	private BatchJobTrackingService batchJobTrackingService;
+
+	@Autowired
+	private BatchJobTrackingRetentionService batchJobTrackingRetentionService;
+
+	@BeforeEach
+	void setUp() {
+		TimeMachine.useFixedClockAt(NOW);
+		deleteTrackingData();
+	}
+
+	@AfterEach
+	void tearDown() {
+		deleteTrackingData();
+		TimeMachine.useSystemDefaultZoneClock();
+	}
+
+	@Test
+	void applyRetentionPolicies_shouldDeleteOldItemsAndJobs_afterAYearOfHistory() {
+		simulateHistory(0, SIMULATED_DAYS + 10);
+
+		batchJobTrackingRetentionService.applyRetentionPolicies();
+
+		assertThat(batchJobItemTrackingRepository.count()).isEqualTo((long) ITEMS_DAYS * RUNS_PER_DAY * ITEMS_PER_RUN);
+		assertThat(batchJobItemTrackingRepository.findAll()).extracting(BatchJobItemTrackInfoEntity::getStartTime)
+				.allMatch(startTime -> !startTime.isBefore(NOW.minusDays(ITEMS_DAYS)));
+		assertThat(batchJobTrackingRepository.count()).isEqualTo((long) SIMULATED_DAYS * RUNS_PER_DAY);
+		assertThat(batchJobTrackingRepository.findAll()).extracting(BatchJobTrackInfoEntity::getStartTime)
+				.allMatch(startTime -> !startTime.isBefore(NOW.minusDays(SIMULATED_DAYS)));
+		assertThat(batchJobTrackingService.findLastJobExecutionWithNonEmptyExtraction(JOB_TYPE,
+				NOW.minusDays(SIMULATED_DAYS))).isPresent();
+	}
+
+	/**
+	 * Timing dependent, so it only runs with the load tests.
+	 */
+	@Tag("LoadTest")
+	@Test
+	void applyRetentionPolicies_shouldKeepQueryLatencyFlat_afterAYearOfHistory() {
+		simulateHistory(0, ITEMS_DAYS);
+		final Duration baselineLatency = queryLatency();
+
+		simulateHistory(ITEMS_DAYS, SIMULATED_DAYS);
+		batchJobTrackingRetentionService.applyRetentionPolicies();
+		final Duration latencyAfterAYear = queryLatency();
+
+		assertThat(latencyAfterAYear).isLessThanOrEqualTo(baselineLatency.multipliedBy(3).plusMillis(20));
+	}
+
+	private Duration queryLatency() {
+		final List<String> itemIds = IntStream.range(0, ITEMS_PER_RUN).mapToObj(this::itemId)
+				.collect(Collectors.toList());
+		final BatchJobTrackingFilter filter = BatchJobTrackingFilter.builder().batchJobType(JOB_TYPE).build();
+
+		//@formatter:off
+		final List<Long> latencies = IntStream.range(0, REPETITIONS)
+				.mapToObj(i -> {
+					final long start = System.nanoTime();
+					batchJobTrackingService.findLastJobExecutionWithNonEmptyExtraction(JOB_TYPE,
+							NOW.minusDays(ITEMS_DAYS));
+					batchJobTrackingService.getItemIdsBeingProcessedOrEnquedToProcess(ITEM_TYPE, itemIds);
+					batchJobTrackingService.getJobTrackingEntries(filter, null, 100);
+					return System.nanoTime() - start;
+				})
+				.sorted()
+				.collect(Collectors.toList());
+		//@formatter:on
+
+		return Duration.ofNanos(latencies.get(REPETITIONS / 2));
+	}
+
+	private void simulateHistory(final int fromDaysAgo, final int toDaysAgo) {
+		for (int day = fromDaysAgo; day < toDaysAgo; day++) {
+			final List<BatchJobTrackInfoEntity> jobs = new ArrayList<>();
+			final List<BatchJobItemTrackInfoEntity> items = new ArrayList<>();
+			for (int run = 0; run < RUNS_PER_DAY; run++) {
+				final BatchJobTrackInfoEntity job = buildJob(day, run);
+				jobs.add(job);
+				IntStream.range(0, ITEMS_PER_RUN).mapToObj(i -> buildItem(job, i)).forEach(items::add);
+			}
+			batchJobTrackingRepository.saveAll(jobs);
+			batchJobItemTrackingRepository.saveAll(items);
+		}
+	}
+
+	private BatchJobTrackInfoEntity buildJob(final int day, final int run) {
+		final LocalDateTime startTime = NOW.minusDays(day).minusHours(run * 6L + 1);
+		// @formatter:off
+		return BatchJobTrackInfoEntity.builder()
+				.batchJobId(String.format("JOB-%d-%d", day, run))
+				.batchJobType(JOB_TYPE)
+				.startTime(startTime)
+				.finishTime(startTime.plusMinutes(5))
+				.status(BatchJobStatus.FINISHED_WITH_FAILURES)
+				.extractedItems(ITEMS_PER_RUN)
+				.successfulItems(ITEMS_PER_RUN - 1)
+				.failedItems(1)
+				.build();
+		// @formatter:on
+	}
+
+	private BatchJobItemTrackInfoEntity buildItem(final BatchJobTrackInfoEntity job, final int i) {
+		// @formatter:off
+		return BatchJobItemTrackInfoEntity.builder()
+				.batchJobId(job.getBatchJobId())
+				.itemType(ITEM_TYPE)
+				.itemId(itemId(i))
+				.startTime(job.getStartTime())
+				.finishTime(job.getFinishTime())
+				.status(i == 0 ? BatchJobItemStatus.FAILED : BatchJobItemStatus.SUCCESSFUL)
+				.build();
+		// @formatter:on
+	}
+
+	private String itemId(final int i) {
+		return "ITEM-" + i;
+	}
+
+	private void deleteTrackingData() {
+		batchJobItemTrackingRepository.deleteAllInBatch();
+		batchJobTrackingRepository.deleteAllInBatch();
+	}
+
+}
@@ -73,6 +73,7 @@ class ExtractionDeltaCalculationITTest {
 		batchJobItemTrackingRepository.saveAll(batchJobItemTrackInfoEntities1);
 		batchJobItemTrackingRepository.saveAll(batchJobItemTrackInfoEntities3);
 		batchJobItemTrackingRepository.saveAll(batchJobItemTrackInfoEntities4);
+		batchJobTrackingService.computeMissingItemCounters();
 
 		List<BatchJobTrackInfoEntity> jobsWithItems = batchJobTrackingRepository.findLastJobExecutionsWithItems(
 				batchJobTrackInfoEntity1.getBatchJobType(), TimeMachine.now().minusDays(11).minusSeconds(1),
@@ -101,6 +102,7 @@ class ExtractionDeltaCalculationITTest {
 		batchJobItemTrackingRepository.saveAll(batchJobItemTrackInfoEntities1);
 		batchJobItemTrackingRepository.saveAll(batchJobItemTrackInfoEntities2);
 		batchJobItemTrackingRepository.saveAll(batchJobItemTrackInfoEntities4);
+		batchJobTrackingService.computeMissingItemCounters();
 
 		List<BatchJobTrackInfoEntity> jobsWithItems = batchJobTrackingRepository.findLastJobExecutionsWithItems(
 				batchJobTrackInfoEntity1.getBatchJobType(), TimeMachine.now().minusDays(2), Pageable.unpaged());
@@ -130,6 +132,7 @@ class ExtractionDeltaCalculationITTest {
 		batchJobItemTrackingRepository.saveAll(batchJobItemTrackInfoEntities1);
 		batchJobItemTrackingRepository.saveAll(batchJobItemTrackInfoEntities2);
 		batchJobItemTrackingRepository.saveAll(batchJobItemTrackInfoEntities4);
+		batchJobTrackingService.computeMissingItemCounters();
 
 		Optional<BatchJobTrackInfoEntity> result = batchJobTrackingService.findLastJobExecutionWithNonEmptyExtraction(
 				batchJobTrackInfoEntity1.getBatchJobType(), TimeMachine.now().minusDays(2).minusSeconds(1));
@@ -9,6 +9,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
@@ -71,4 +72,9 @@ class FailureBatchJobItemProcessingListenerTest {
 		verify(batchJobFailedItemServiceMock, times(0)).checkUpdatedFailedItems(any());
 	}
 
+	@Test
+	void isAsynchronous_shouldReturnTrue() {
+		assertThat(testObj.isAsynchronous()).isTrue();
+	}
+
 }
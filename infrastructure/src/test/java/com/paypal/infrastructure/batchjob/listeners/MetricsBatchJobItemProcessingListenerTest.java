@@ -0,0 +1,168 @@
+package com.paypal.infrastructure.batchjob.listeners;
+
+import com.paypal.infrastructure.batchjob.BatchJobContext;
+import com.paypal.infrastructure.batchjob.BatchJobItem;
+import com.paypal.infrastructure.batchjob.BatchJobItemValidationResult;
+import com.paypal.infrastructure.batchjob.BatchJobItemValidationStatus;
+import com.paypal.infrastructure.batchjob.BatchJobStatus;
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.paypal.infrastructure.batchjob.listeners.MetricsBatchJobItemProcessingListener.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MetricsBatchJobItemProcessingListenerTest {
+
+	private static final String JOB_ID = "1234";
+
+	private static final String JOB_NAME = "jobName";
+
+	private static final String ITEM_TYPE = "itemType";
+
+	private MetricsBatchJobItemProcessingListener testObj;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private MockClock clock;
+
+	@Mock
+	private BatchJobContext batchJobContextMock;
+
+	@Mock
+	private BatchJobItem<?> batchJobItemMock;
+
+	@BeforeEach
+	void setUp() {
+		clock = new MockClock();
+		meterRegistry = new SimpleMeterRegistry(SimpleConfig.DEFAULT, clock);
+		testObj = new MetricsBatchJobItemProcessingListener(meterRegistry);
+
+		lenient().when(batchJobContextMock.getJobUuid()).thenReturn(JOB_ID);
+		lenient().when(batchJobContextMock.getJobName()).thenReturn(JOB_NAME);
+		lenient().when(batchJobItemMock.getItemType()).thenReturn(ITEM_TYPE);
+	}
+
+	@Test
+	void listener_shouldRecordDurationOfEachPhase_whenJobIsExecuted() {
+		when(batchJobContextMock.getStatus()).thenReturn(BatchJobStatus.FINISHED);
+		final BatchJobItemValidationResult validationResult = BatchJobItemValidationResult.builder()
+				.status(BatchJobItemValidationStatus.VALID).build();
+
+		testObj.onBatchJobStarted(batchJobContextMock);
+		testObj.beforeItemExtraction(batchJobContextMock);
+		clock.add(Duration.ofSeconds(3));
+		testObj.onItemExtractionSuccessful(batchJobContextMock, List.of(batchJobItemMock));
+		testObj.onPreparationForProcessingStarted(batchJobContextMock);
+		clock.add(Duration.ofSeconds(2));
+		testObj.onPreparationForProcessingFinished(batchJobContextMock);
+		testObj.beforeProcessingItem(batchJobContextMock, batchJobItemMock);
+		clock.add(Duration.ofMillis(300));
+		testObj.onItemEnrichmentFinished(batchJobContextMock, batchJobItemMock);
+		clock.add(Duration.ofMillis(20));
+		testObj.onItemValidationFinished(batchJobContextMock, batchJobItemMock, validationResult);
+		clock.add(Duration.ofMillis(500));
+		testObj.onItemProcessingSuccess(batchJobContextMock, batchJobItemMock);
+		testObj.onBatchJobFinished(batchJobContextMock);
+
+		assertThat(jobPhaseTimer(PHASE_EXTRACTION).totalTime(TimeUnit.MILLISECONDS)).isEqualTo(3000);
+		assertThat(jobPhaseTimer(PHASE_PREPARATION).totalTime(TimeUnit.MILLISECONDS)).isEqualTo(2000);
+		assertThat(itemPhaseTimer(PHASE_ENRICHMENT).totalTime(TimeUnit.MILLISECONDS)).isEqualTo(300);
+		assertThat(itemPhaseTimer(PHASE_VALIDATION).totalTime(TimeUnit.MILLISECONDS)).isEqualTo(20);
+		assertThat(itemPhaseTimer(PHASE_PROCESSING).totalTime(TimeUnit.MILLISECONDS)).isEqualTo(500);
+		assertThat(meterRegistry.get(METRIC_JOB_DURATION).tag(TAG_JOB, JOB_NAME)
+				.tag(TAG_STATUS, BatchJobStatus.FINISHED.name()).timer().totalTime(TimeUnit.MILLISECONDS))
+						.isEqualTo(5820);
+		assertThat(meterRegistry.get(METRIC_ITEMS_EXTRACTED).tag(TAG_ITEM_TYPE, ITEM_TYPE).counter().count())
+				.isEqualTo(1);
+		assertThat(itemsProcessed(RESULT_SUCCESS)).isEqualTo(1);
+	}
+
+	@Test
+	void onItemProcessingFailure_shouldCountItemOnlyAsInvalid_andNotRecordProcessingPhase_whenItemIsInvalid() {
+		testObj.onBatchJobStarted(batchJobContextMock);
+		testObj.beforeProcessingItem(batchJobContextMock, batchJobItemMock);
+
+		testObj.onItemProcessingValidationFailure(batchJobContextMock, batchJobItemMock,
+				BatchJobItemValidationResult.builder().status(BatchJobItemValidationStatus.INVALID).build());
+		testObj.onItemProcessingFailure(batchJobContextMock, batchJobItemMock, null);
+
+		assertThat(itemsProcessed(RESULT_INVALID)).isEqualTo(1);
+		assertThat(meterRegistry.find(METRIC_ITEMS_PROCESSED).tag(TAG_RESULT, RESULT_FAILURE).counter()).isNull();
+		assertThat(meterRegistry.find(METRIC_ITEM_PHASE_DURATION).tag(TAG_PHASE, PHASE_PROCESSING).timer()).isNull();
+	}
+
+	@Test
+	void onItemProcessingSuccess_shouldCountItemOnlyAsSuccessful_whenItemHasValidationWarnings() {
+		testObj.onBatchJobStarted(batchJobContextMock);
+		testObj.beforeProcessingItem(batchJobContextMock, batchJobItemMock);
+
+		testObj.onItemProcessingValidationFailure(batchJobContextMock, batchJobItemMock,
+				BatchJobItemValidationResult.builder().status(BatchJobItemValidationStatus.WARNING).build());
+		testObj.onItemProcessingSuccess(batchJobContextMock, batchJobItemMock);
+		testObj.onItemProcessingSuccess(batchJobContextMock, batchJobItemMock);
+
+		assertThat(itemsProcessed(RESULT_SUCCESS)).isEqualTo(2);
+		assertThat(meterRegistry.find(METRIC_ITEMS_PROCESSED).tag(TAG_RESULT, RESULT_INVALID).counter()).isNull();
+		assertThat(meterRegistry.find(METRIC_ITEMS_PROCESSED).counters()).hasSize(1);
+	}
+
+	@Test
+	void onItemProcessingFailure_shouldRecordProcessingPhase_whenItemProcessingThrowsAnException() {
+		testObj.onBatchJobStarted(batchJobContextMock);
+		testObj.beforeProcessingItem(batchJobContextMock, batchJobItemMock);
+		clock.add(Duration.ofMillis(100));
+
+		testObj.onItemProcessingFailure(batchJobContextMock, batchJobItemMock, new RuntimeException());
+
+		assertThat(itemPhaseTimer(PHASE_PROCESSING).totalTime(TimeUnit.MILLISECONDS)).isEqualTo(100);
+		assertThat(itemsProcessed(RESULT_FAILURE)).isEqualTo(1);
+	}
+
+	@Test
+	void onBatchJobFailure_shouldRecordJobDurationWithFailedStatus() {
+		when(batchJobContextMock.getStatus()).thenReturn(BatchJobStatus.FAILED);
+
+		testObj.onBatchJobStarted(batchJobContextMock);
+		clock.add(Duration.ofSeconds(1));
+		testObj.onBatchJobFailure(batchJobContextMock, new RuntimeException());
+
+		assertThat(meterRegistry.get(METRIC_JOB_DURATION).tag(TAG_STATUS, BatchJobStatus.FAILED.name()).timer()
+				.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(1000);
+	}
+
+	@Test
+	void onBatchJobFinished_shouldNotRecordJobDuration_whenJobStartWasNotReceived() {
+		testObj.onBatchJobFinished(batchJobContextMock);
+
+		assertThat(meterRegistry.find(METRIC_JOB_DURATION).timer()).isNull();
+	}
+
+	private Timer jobPhaseTimer(final String phase) {
+		return meterRegistry.get(METRIC_JOB_PHASE_DURATION).tag(TAG_JOB, JOB_NAME).tag(TAG_PHASE, phase).timer();
+	}
+
+	private Timer itemPhaseTimer(final String phase) {
+		return meterRegistry.get(METRIC_ITEM_PHASE_DURATION).tag(TAG_JOB, JOB_NAME).tag(TAG_ITEM_TYPE, ITEM_TYPE)
+				.tag(TAG_PHASE, phase).timer();
+	}
+
+	private double itemsProcessed(final String result) {
+		return meterRegistry.get(METRIC_ITEMS_PROCESSED).tag(TAG_ITEM_TYPE, ITEM_TYPE).tag(TAG_RESULT, result)
+				.counter().count();
+	}
+
+}
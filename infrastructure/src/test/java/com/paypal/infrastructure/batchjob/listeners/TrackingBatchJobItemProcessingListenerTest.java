@@ -12,6 +12,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -153,4 +154,9 @@ class TrackingBatchJobItemProcessingListenerTest {
 		verify(batchJobTrackingServiceMock).trackJobFailure(JOB_ID, JOB_NAME);
 	}
 
+	@Test
+	void isAsynchronous_shouldReturnTrue() {
+		assertThat(testObj.isAsynchronous()).isTrue();
+	}
+
 }
@@ -1,5 +1,6 @@
 package com.paypal.infrastructure.batchjob.quartz;
 
+import com.paypal.infrastructure.batchjob.AbstractBatchJob;
 import com.paypal.infrastructure.batchjob.BatchJob;
 import com.paypal.infrastructure.batchjob.BatchJobContext;
 import com.paypal.infrastructure.batchjob.BatchJobItem;
@@ -12,6 +13,9 @@ import org.quartz.JobDataMap;
 import org.quartz.JobDetail;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobExecutionException;
+import org.springframework.context.ApplicationContext;
+
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
@@ -41,9 +45,18 @@ class QuartzBatchJobBeanTest {
 	@Mock
 	private JobDataMap jobDataMapMock;
 
+	@Mock
+	private ApplicationContext applicationContextMock;
+
+	@Mock
+	private AbstractBatchJob<BatchJobContext, BatchJobItem<?>> otherBatchJobMock;
+
 	@Test
-	void executeInternal_shouldExecuteBatchJob() throws JobExecutionException {
+	void executeInternal_shouldExecuteBatchJobBeanOfBatchJobClass() throws JobExecutionException {
+		when(applicationContextMock.getBeansOfType(BatchJob.class))
+				.thenReturn(Map.of("otherBatchJob", otherBatchJobMock, "batchJob", batchJobMock));
 		when(quartzBatchJobAdapterFactory.getQuartzJob(batchJobMock)).thenReturn(quartzBatchJobAdapterMock);
+		testObj.setBatchJobClass(batchJobMock.getClass().getName());
 
 		testObj.executeInternal(jobExecutionContextMock);
 
@@ -51,11 +64,14 @@ class QuartzBatchJobBeanTest {
 	}
 
 	@Test
-	void getBatchJobClass_shouldReturnJobDataMapBatchJobBeanClass() {
+	void getBatchJobClassName_shouldReturnJobDataMapBatchJobClass() {
 		when(jobExecutionContextMock.getJobDetail()).thenReturn(jobDetailMock);
 		when(jobDetailMock.getJobDataMap()).thenReturn(jobDataMapMock);
-		when(jobDataMapMock.get(QuartzBatchJobBean.KEY_BATCH_JOB_BEAN)).thenReturn(batchJobMock);
-		assertThat(QuartzBatchJobBean.getBatchJobClass(jobExecutionContextMock)).isEqualTo(batchJobMock.getClass());
+		when(jobDataMapMock.getString(QuartzBatchJobBean.KEY_BATCH_JOB_CLASS))
+				.thenReturn(batchJobMock.getClass().getName());
+
+		assertThat(QuartzBatchJobBean.getBatchJobClassName(jobExecutionContextMock))
+				.isEqualTo(batchJobMock.getClass().getName());
 	}
 
 }
\ No newline at end of file
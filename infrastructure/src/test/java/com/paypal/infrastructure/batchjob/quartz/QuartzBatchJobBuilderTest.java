@@ -22,7 +22,8 @@ class QuartzBatchJobBuilderTest {
 		JobDetail result = QuartzBatchJobBuilder.newJob(batchJobMock).build();
 
 		assertThat(result.getJobClass()).isEqualTo(QuartzBatchJobBean.class);
-		assertThat(result.getJobDataMap()).containsEntry(QuartzBatchJobBean.KEY_BATCH_JOB_BEAN, batchJobMock);
+		assertThat(result.getJobDataMap()).containsEntry(QuartzBatchJobBean.KEY_BATCH_JOB_CLASS,
+				batchJobMock.getClass().getName());
 	}
 
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.paypal.infrastructure.batchjob.quartz;
 
 import com.paypal.infrastructure.batchjob.BatchJobContext;
+import com.paypal.infrastructure.batchjob.BatchJobContextSnapshot;
 import com.paypal.infrastructure.batchjob.BatchJobStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,10 +10,20 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.quartz.JobDataMap;
 import org.quartz.JobDetail;
+import org.quartz.Job;
+import org.quartz.JobBuilder;
 import org.quartz.JobExecutionContext;
 import org.quartz.JobKey;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.paypal.infrastructure.batchjob.quartz.QuartzBatchJobContextAdapter.KEY_BATCH_JOB_EXECUTION_UUID;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -39,6 +50,10 @@ class QuartzBatchJobContextAdapterTest {
 
 	public static final int NUMBER_OF_ITEMS_TO_BE_PROCESSED = 24;
 
+	private static final int THREADS = 8;
+
+	private static final int INCREMENTS_PER_THREAD = 20000;
+
 	private QuartzBatchJobContextAdapter testObj;
 
 	@Mock
@@ -110,11 +125,46 @@ class QuartzBatchJobContextAdapterTest {
 	}
 
 	@Test
-	void incrementFailedItems_ShouldIncrementFailedItems() {
+	void incrementFailedItems_ShouldIncrementFailedItemsWithoutWritingThemBack_WhenWriteBackIsNotDue() {
 
 		testObj.incrementFailedItems();
 
+		assertThat(testObj.getNumberOfItemsFailed()).isEqualTo(NUMBER_OF_ITEMS_FAILED + 1);
+		verify(jobDataMapMock, never()).put(eq(KEY_NUMBER_OF_ITEMS_FAILED), any());
+	}
+
+	@Test
+	void incrementFailedItems_ShouldWriteFailedItemsBack_WhenWriteBackIsDue() {
+		testObj = new QuartzBatchJobContextAdapter(jobExecutionContextMock, 0);
+
+		testObj.incrementFailedItems();
+
+		verify(jobDataMapMock).put(KEY_NUMBER_OF_ITEMS_FAILED, Integer.valueOf(NUMBER_OF_ITEMS_FAILED + 1));
+		verify(jobDataMapMock).put(KEY_NUMBER_OF_ITEMS_PROCESSED, Integer.valueOf(NUMBER_OF_ITEMS_PROCESSED));
+	}
+
+	@Test
+	void markProcessedItemAsFailed_ShouldMoveOneProcessedItemToTheFailedItems() {
+		testObj = new QuartzBatchJobContextAdapter(jobExecutionContextMock, 0);
+
+		testObj.markProcessedItemAsFailed();
+
+		assertThat(testObj.getNumberOfItemsProcessed()).isEqualTo(NUMBER_OF_ITEMS_PROCESSED - 1);
+		assertThat(testObj.getNumberOfItemsFailed()).isEqualTo(NUMBER_OF_ITEMS_FAILED + 1);
 		verify(jobDataMapMock).put(KEY_NUMBER_OF_ITEMS_FAILED, Integer.valueOf(NUMBER_OF_ITEMS_FAILED + 1));
+		verify(jobDataMapMock).put(KEY_NUMBER_OF_ITEMS_PROCESSED, Integer.valueOf(NUMBER_OF_ITEMS_PROCESSED - 1));
+	}
+
+	@Test
+	void markProcessedItemAsFailed_ShouldOnlyIncrementTheFailedItems_WhenThereAreNoProcessedItems() {
+		when(jobDataMapMock.get(KEY_NUMBER_OF_ITEMS_PROCESSED)).thenReturn(0);
+		testObj = new QuartzBatchJobContextAdapter(jobExecutionContextMock, 0);
+
+		testObj.markProcessedItemAsFailed();
+
+		assertThat(testObj.getNumberOfItemsProcessed()).isZero();
+		assertThat(testObj.getNumberOfItemsFailed()).isEqualTo(NUMBER_OF_ITEMS_FAILED + 1);
+		verify(jobDataMapMock).put(KEY_NUMBER_OF_ITEMS_PROCESSED, Integer.valueOf(0));
 	}
 
 	@Test
@@ -134,11 +184,22 @@ class QuartzBatchJobContextAdapterTest {
 	}
 
 	@Test
-	void incrementProcessedItems_ShouldIncrementProcessedItems() {
+	void incrementProcessedItems_ShouldIncrementProcessedItemsWithoutWritingThemBack_WhenWriteBackIsNotDue() {
 
 		testObj.incrementProcessedItems();
 
+		assertThat(testObj.getNumberOfItemsProcessed()).isEqualTo(NUMBER_OF_ITEMS_PROCESSED + 1);
+		verify(jobDataMapMock, never()).put(eq(KEY_NUMBER_OF_ITEMS_PROCESSED), any());
+	}
+
+	@Test
+	void incrementProcessedItems_ShouldWriteProcessedItemsBack_WhenStatusChanges() {
+
+		testObj.incrementProcessedItems();
+		testObj.setFinishedStatus();
+
 		verify(jobDataMapMock).put(KEY_NUMBER_OF_ITEMS_PROCESSED, Integer.valueOf(NUMBER_OF_ITEMS_PROCESSED + 1));
+		verify(jobDataMapMock).put(KEY_NUMBER_OF_ITEMS_FAILED, Integer.valueOf(NUMBER_OF_ITEMS_FAILED));
 	}
 
 	@Test
@@ -178,6 +239,7 @@ class QuartzBatchJobContextAdapterTest {
 
 		when(jobDataMapMock.get(KEY_NUMBER_OF_ITEMS_FAILED)).thenReturn(0);
 		when(jobDataMapMock.get(KEY_BATCH_JOB_STATUS)).thenReturn(BatchJobStatus.RUNNING);
+		testObj = new QuartzBatchJobContextAdapter(jobExecutionContextMock);
 
 		final BatchJobStatus result = testObj.getStatus();
 
@@ -187,7 +249,6 @@ class QuartzBatchJobContextAdapterTest {
 	@Test
 	void getStatus_ShouldReturnRunningWithFailures_WhenCurrentStatusIsRunningAndNumberOfItemsFailedIsGreaterThanZero() {
 
-		when(jobDataMapMock.get(KEY_NUMBER_OF_ITEMS_FAILED)).thenReturn(NUMBER_OF_ITEMS_FAILED);
 		when(jobDataMapMock.get(KEY_BATCH_JOB_STATUS)).thenReturn(BatchJobStatus.RUNNING);
 
 		final BatchJobStatus result = testObj.getStatus();
@@ -200,6 +261,7 @@ class QuartzBatchJobContextAdapterTest {
 
 		when(jobDataMapMock.get(KEY_NUMBER_OF_ITEMS_FAILED)).thenReturn(0);
 		when(jobDataMapMock.get(KEY_BATCH_JOB_STATUS)).thenReturn(BatchJobStatus.FINISHED);
+		testObj = new QuartzBatchJobContextAdapter(jobExecutionContextMock);
 
 		final BatchJobStatus result = testObj.getStatus();
 
@@ -209,7 +271,6 @@ class QuartzBatchJobContextAdapterTest {
 	@Test
 	void getStatus_ShouldReturnFinishedWithFailures_WhenCurrentStatusIsFinishedAndNumberOfItemsFailedIsGreaterThanZero() {
 
-		when(jobDataMapMock.get(KEY_NUMBER_OF_ITEMS_FAILED)).thenReturn(NUMBER_OF_ITEMS_FAILED);
 		when(jobDataMapMock.get(KEY_BATCH_JOB_STATUS)).thenReturn(BatchJobStatus.FINISHED);
 
 		final BatchJobStatus result = testObj.getStatus();
@@ -243,7 +304,84 @@ class QuartzBatchJobContextAdapterTest {
 		verify(jobDataMapMock).put(KEY_NUMBER_OF_ITEMS_PROCESSED, Integer.valueOf(0));
 		verify(jobDataMapMock).put(KEY_NUMBER_OF_ITEMS_FAILED, Integer.valueOf(0));
 		verify(jobDataMapMock).put(KEY_NUMBER_OF_ITEMS_TO_BE_PROCESSED, Integer.valueOf(0));
+		assertThat(testObj.getNumberOfItemsProcessed()).isZero();
+		assertThat(testObj.getNumberOfItemsFailed()).isZero();
+	}
+
+	@Test
+	void getSnapshot_ShouldReturnStatusAndCounters() {
 
+		final BatchJobContextSnapshot result = testObj.getSnapshot();
+
+		assertThat(result).isEqualTo(BatchJobContextSnapshot.builder().status(BatchJobStatus.FINISHED_WITH_FAILURES)
+				.numberOfItemsToBeProcessed(NUMBER_OF_ITEMS_TO_BE_PROCESSED)
+				.numberOfItemsProcessed(NUMBER_OF_ITEMS_PROCESSED).numberOfItemsFailed(NUMBER_OF_ITEMS_FAILED)
+				.numberOfItemsRemaining(0).build());
+	}
+
+	@Test
+	void incrementItems_ShouldKeepCountersExactAndSnapshotsConsistent_WhenItemsAreProcessedConcurrently()
+			throws Exception {
+		final JobExecutionContext jobExecutionContext = mock(JobExecutionContext.class);
+		when(jobExecutionContext.getJobDetail()).thenReturn(JobBuilder.newJob(Job.class).build());
+		final QuartzBatchJobContextAdapter concurrentTestObj = new QuartzBatchJobContextAdapter(jobExecutionContext,
+				0);
+		final int numberOfItems = THREADS * INCREMENTS_PER_THREAD;
+		concurrentTestObj.setNumberOfItemsToBeProcessed(numberOfItems);
+		concurrentTestObj.setRunningStatus();
+
+		final ExecutorService executorService = Executors.newFixedThreadPool(THREADS + 1);
+		final CountDownLatch start = new CountDownLatch(1);
+		final AtomicBoolean processing = new AtomicBoolean(true);
+		final List<Future<?>> workers = new ArrayList<>();
+		for (int thread = 0; thread < THREADS; thread++) {
+			workers.add(executorService.submit(() -> {
+				start.await();
+				for (int i = 0; i < INCREMENTS_PER_THREAD; i++) {
+					if (i % 4 == 0) {
+						concurrentTestObj.incrementFailedItems();
+					}
+					else {
+						concurrentTestObj.incrementProcessedItems();
+					}
+				}
+				return null;
+			}));
+		}
+		final Future<List<BatchJobContextSnapshot>> reader = executorService.submit(() -> {
+			final List<BatchJobContextSnapshot> snapshots = new ArrayList<>();
+			start.await();
+			while (processing.get()) {
+				snapshots.add(concurrentTestObj.getSnapshot());
+			}
+			return snapshots;
+		});
+
+		start.countDown();
+		for (final Future<?> worker : workers) {
+			worker.get(1, TimeUnit.MINUTES);
+		}
+		processing.set(false);
+		final List<BatchJobContextSnapshot> snapshots = reader.get(1, TimeUnit.MINUTES);
+		executorService.shutdown();
+		concurrentTestObj.setFinishedStatus();
+
+		assertThat(snapshots).isNotEmpty().allSatisfy(snapshot -> assertThat(snapshot.getNumberOfItemsProcessed()
+				+ snapshot.getNumberOfItemsFailed() + snapshot.getNumberOfItemsRemaining()).isEqualTo(numberOfItems));
+		for (int i = 1; i < snapshots.size(); i++) {
+			assertThat(snapshots.get(i).getNumberOfItemsProcessed())
+					.isGreaterThanOrEqualTo(snapshots.get(i - 1).getNumberOfItemsProcessed());
+			assertThat(snapshots.get(i).getNumberOfItemsFailed())
+					.isGreaterThanOrEqualTo(snapshots.get(i - 1).getNumberOfItemsFailed());
+		}
+		assertThat(concurrentTestObj.getNumberOfItemsFailed()).isEqualTo(numberOfItems / 4);
+		assertThat(concurrentTestObj.getNumberOfItemsProcessed()).isEqualTo(numberOfItems - numberOfItems / 4);
+		assertThat(concurrentTestObj.getNumberOfItemsRemaining()).isZero();
+		assertThat(concurrentTestObj.getStatus()).isEqualTo(BatchJobStatus.FINISHED_WITH_FAILURES);
+		final JobDataMap jobDataMap = jobExecutionContext.getJobDetail().getJobDataMap();
+		assertThat(jobDataMap.get(KEY_NUMBER_OF_ITEMS_FAILED)).isEqualTo(numberOfItems / 4);
+		assertThat(jobDataMap.get(KEY_NUMBER_OF_ITEMS_PROCESSED)).isEqualTo(numberOfItems - numberOfItems / 4);
+		assertThat(jobDataMap.get(KEY_NUMBER_OF_ITEMS_TO_BE_PROCESSED)).isEqualTo(numberOfItems);
 	}
 
 }
@@ -0,0 +1,241 @@
+package com.paypal.infrastructure.batchjob.sharding;
+
+import com.paypal.infrastructure.batchjob.BatchJobContext;
+import com.paypal.infrastructure.batchjob.BatchJobItem;
+import com.paypal.infrastructure.batchjob.entities.BatchJobShardLeaseEntity;
+import com.paypal.infrastructure.batchjob.entities.BatchJobShardNodeEntity;
+import com.paypal.infrastructure.batchjob.entities.BatchJobShardRunEntity;
+import com.paypal.infrastructure.batchjob.repository.BatchJobShardLeaseRepository;
+import com.paypal.infrastructure.batchjob.repository.BatchJobShardNodeRepository;
+import com.paypal.infrastructure.batchjob.repository.BatchJobShardRunRepository;
+import com.paypal.infrastructure.util.TimeMachine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.JobExecutionContext;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchJobShardingServiceImplTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2023, 3, 1, 10, 0);
+
+	private static final int SHARDS = 4;
+
+	private static final long LEASE_SECONDS = 60;
+
+	private static final String NODE_ID = "node-1";
+
+	private static final String OTHER_NODE_ID = "node-2";
+
+	private BatchJobShardingServiceImpl testObj;
+
+	@Mock
+	private BatchJobShardLeaseRepository batchJobShardLeaseRepositoryMock;
+
+	@Mock
+	private BatchJobShardNodeRepository batchJobShardNodeRepositoryMock;
+
+	@Mock
+	private BatchJobShardRunRepository batchJobShardRunRepositoryMock;
+
+	@Mock
+	private BatchJobContext batchJobContextMock;
+
+	private final Map<String, BatchJobShardRunEntity> runs = new HashMap<>();
+
+	@Captor
+	private ArgumentCaptor<BatchJobShardLeaseEntity> batchJobShardLeaseEntityCaptor;
+
+	@BeforeEach
+	void setUp() {
+		TimeMachine.useFixedClockAt(NOW);
+		testObj = new BatchJobShardingServiceImpl(batchJobShardLeaseRepositoryMock, batchJobShardNodeRepositoryMock,
+				batchJobShardRunRepositoryMock, SHARDS, LEASE_SECONDS, NODE_ID);
+		lenient().when(batchJobShardLeaseRepositoryMock.save(any(BatchJobShardLeaseEntity.class)))
+				.thenAnswer(invocation -> invocation.getArgument(0));
+		lenient().when(batchJobContextMock.getJobName()).thenReturn("job");
+		lenient().when(batchJobShardRunRepositoryMock.findById(anyString()))
+				.thenAnswer(invocation -> Optional.ofNullable(runs.get(invocation.<String>getArgument(0))));
+		lenient().when(batchJobShardRunRepositoryMock.save(any(BatchJobShardRunEntity.class)))
+				.thenAnswer(invocation -> {
+					final BatchJobShardRunEntity run = invocation.getArgument(0);
+					runs.put(run.getRunId(), run);
+					return run;
+				});
+	}
+
+	@AfterEach
+	void tearDown() {
+		TimeMachine.useSystemDefaultZoneClock();
+	}
+
+	@Test
+	void renewLeases_shouldRegisterTheNodeAndClaimItsFairShareOfFreeShards() {
+		when(batchJobShardNodeRepositoryMock.countByExpirationTimeAfter(NOW)).thenReturn(2L);
+		when(batchJobShardLeaseRepositoryMock.findAll()).thenReturn(List.of());
+
+		testObj.renewLeases();
+
+		verify(batchJobShardNodeRepositoryMock).save(BatchJobShardNodeEntity.builder().nodeId(NODE_ID)
+				.expirationTime(NOW.plusSeconds(LEASE_SECONDS)).build());
+		verify(batchJobShardLeaseRepositoryMock, times(2)).save(batchJobShardLeaseEntityCaptor.capture());
+		assertThat(batchJobShardLeaseEntityCaptor.getAllValues())
+				.containsExactly(lease(0, NODE_ID, NOW.plusSeconds(LEASE_SECONDS)),
+						lease(1, NODE_ID, NOW.plusSeconds(LEASE_SECONDS)));
+	}
+
+	@Test
+	void renewLeases_shouldReleaseExtraShards_whenMoreNodesAreAlive() {
+		when(batchJobShardNodeRepositoryMock.countByExpirationTimeAfter(NOW)).thenReturn(2L);
+		when(batchJobShardLeaseRepositoryMock.findAll())
+				.thenReturn(IntStream.range(0, SHARDS).mapToObj(shard -> lease(shard, NODE_ID, NOW.plusSeconds(10)))
+						.collect(Collectors.toList()));
+
+		testObj.renewLeases();
+
+		verify(batchJobShardLeaseRepositoryMock, times(SHARDS)).save(batchJobShardLeaseEntityCaptor.capture());
+		assertThat(batchJobShardLeaseEntityCaptor.getAllValues()).containsExactly(
+				lease(0, NODE_ID, NOW.plusSeconds(LEASE_SECONDS)), lease(1, NODE_ID, NOW.plusSeconds(LEASE_SECONDS)),
+				lease(2, null, NOW), lease(3, null, NOW));
+	}
+
+	@Test
+	void processItemsOfThisNode_shouldProcessTheItemsOfAllShards_whenTheOtherNodeHoldingLeasesDoesNotFireTheJob() {
+		when(batchJobShardNodeRepositoryMock.countByExpirationTimeAfter(NOW)).thenReturn(2L);
+		when(batchJobShardLeaseRepositoryMock.findAll()).thenReturn(leasesOfTwoNodes());
+		final List<BatchJobItem<?>> items = itemsOfAllShards();
+		final List<BatchJobItem<?>> processedItems = new ArrayList<>();
+
+		final int result = testObj.processItemsOfThisNode(batchJobContextMock, items, processedItems::add);
+
+		assertThat(result).isZero();
+		assertThat(processedItems).containsExactlyInAnyOrderElementsOf(items);
+		assertThat(runs.values()).extracting(BatchJobShardRunEntity::getNodeId).containsOnly(NODE_ID).hasSize(SHARDS);
+	}
+
+	@Test
+	void processItemsOfThisNode_shouldOnlyProcessTheItemsOfLeasedShards_whenTheOtherNodeFiresTheJobAtTheSameTime() {
+		final BatchJobShardingServiceImpl otherNode = new BatchJobShardingServiceImpl(batchJobShardLeaseRepositoryMock,
+				batchJobShardNodeRepositoryMock, batchJobShardRunRepositoryMock, SHARDS, LEASE_SECONDS, OTHER_NODE_ID);
+		when(batchJobShardNodeRepositoryMock.countByExpirationTimeAfter(NOW)).thenReturn(2L);
+		when(batchJobShardLeaseRepositoryMock.findAll()).thenReturn(leasesOfTwoNodes());
+		final List<BatchJobItem<?>> items = itemsOfAllShards();
+		final List<BatchJobItem<?>> itemsOfThisNode = new ArrayList<>();
+		final List<BatchJobItem<?>> itemsOfOtherNode = new ArrayList<>();
+
+		// This node fires the job while the other node is processing its first item
+		final int otherNodeResult = otherNode.processItemsOfThisNode(batchJobContextMock, items, item -> {
+			if (itemsOfOtherNode.isEmpty()) {
+				assertThat(testObj.processItemsOfThisNode(batchJobContextMock, items, itemsOfThisNode::add))
+						.isEqualTo(2);
+			}
+			itemsOfOtherNode.add(item);
+		});
+
+		assertThat(otherNodeResult).isEqualTo(2);
+		assertThat(itemsOfThisNode).containsExactly(items.get(0), items.get(1));
+		assertThat(itemsOfOtherNode).containsExactly(items.get(2), items.get(3));
+	}
+
+	@Test
+	void processItemsOfThisNode_shouldProcessTheItemsOfAShard_whenAnotherNodeRanItForAnEarlierFiring() {
+		when(batchJobShardNodeRepositoryMock.countByExpirationTimeAfter(NOW)).thenReturn(2L);
+		when(batchJobShardLeaseRepositoryMock.findAll()).thenReturn(leasesOfTwoNodes());
+		runs.put("job#2", BatchJobShardRunEntity.builder().runId("job#2").jobName("job").shard(2).nodeId(OTHER_NODE_ID)
+				.scheduledFireTime(NOW.minusMinutes(5)).build());
+		final List<BatchJobItem<?>> items = itemsOfAllShards();
+		final List<BatchJobItem<?>> processedItems = new ArrayList<>();
+
+		final int result = testObj.processItemsOfThisNode(batchJobContextMock, items, processedItems::add);
+
+		assertThat(result).isZero();
+		assertThat(processedItems).containsExactlyInAnyOrderElementsOf(items);
+		assertThat(runs.get("job#2").getNodeId()).isEqualTo(NODE_ID);
+	}
+
+	@Test
+	void processItemsOfThisNode_shouldNotProcessTheItemsOfAShard_whenAnotherNodeClaimedItsRunFirst() {
+		when(batchJobShardNodeRepositoryMock.countByExpirationTimeAfter(NOW)).thenReturn(1L);
+		when(batchJobShardLeaseRepositoryMock.findAll()).thenReturn(List.of());
+		when(batchJobShardRunRepositoryMock.save(argThat(run -> run.getShard() == 1)))
+				.thenThrow(new OptimisticLockingFailureException("Run already claimed"));
+		final List<BatchJobItem<?>> items = itemsOfAllShards();
+		final List<BatchJobItem<?>> processedItems = new ArrayList<>();
+
+		final int result = testObj.processItemsOfThisNode(batchJobContextMock, items, processedItems::add);
+
+		assertThat(result).isEqualTo(1);
+		assertThat(processedItems).containsExactly(items.get(0), items.get(2), items.get(3));
+	}
+
+	@Test
+	void processItemsOfThisNode_shouldUseTheScheduledFireTimeOfTheJob() {
+		when(batchJobShardNodeRepositoryMock.countByExpirationTimeAfter(NOW)).thenReturn(1L);
+		when(batchJobShardLeaseRepositoryMock.findAll()).thenReturn(List.of());
+		final JobExecutionContext jobExecutionContextMock = mock(JobExecutionContext.class);
+		when(batchJobContextMock.getJobExecutionContext()).thenReturn(jobExecutionContextMock);
+		final LocalDateTime scheduledFireTime = NOW.minusSeconds(30);
+		when(jobExecutionContextMock.getScheduledFireTime())
+				.thenReturn(Date.from(scheduledFireTime.atZone(ZoneId.systemDefault()).toInstant()));
+
+		testObj.processItemsOfThisNode(batchJobContextMock, List.of(itemOfShard(0)), item -> {
+		});
+
+		assertThat(runs.get("job#0").getScheduledFireTime()).isEqualTo(scheduledFireTime);
+	}
+
+	@Test
+	void getShard_shouldAssignTheSameShardToTheSameItemId() {
+		final BatchJobShardingServiceImpl otherNode = new BatchJobShardingServiceImpl(batchJobShardLeaseRepositoryMock,
+				batchJobShardNodeRepositoryMock, batchJobShardRunRepositoryMock, SHARDS, LEASE_SECONDS, OTHER_NODE_ID);
+
+		assertThat(testObj.getShard("2000")).isEqualTo(otherNode.getShard("2000")).isBetween(0, SHARDS - 1);
+	}
+
+	private List<BatchJobItem<?>> itemsOfAllShards() {
+		return IntStream.range(0, SHARDS).mapToObj(this::itemOfShard).collect(Collectors.toList());
+	}
+
+	private BatchJobItem<?> itemOfShard(final int shard) {
+		final String itemId = IntStream.iterate(0, i -> i + 1).mapToObj(i -> "item-" + i)
+				.filter(id -> testObj.getShard(id) == shard).findFirst().orElseThrow();
+		final BatchJobItem<?> item = mock(BatchJobItem.class);
+		when(item.getItemId()).thenReturn(itemId);
+
+		return item;
+	}
+
+	private static List<BatchJobShardLeaseEntity> leasesOfTwoNodes() {
+		return List.of(lease(0, NODE_ID, NOW.plusSeconds(10)), lease(1, NODE_ID, NOW.plusSeconds(10)),
+				lease(2, OTHER_NODE_ID, NOW.plusSeconds(10)), lease(3, OTHER_NODE_ID, NOW.plusSeconds(10)));
+	}
+
+	private static BatchJobShardLeaseEntity lease(final int shard, final String nodeId,
+			final LocalDateTime expirationTime) {
+		return BatchJobShardLeaseEntity.builder().shard(shard).nodeId(nodeId).expirationTime(expirationTime).build();
+	}
+
+}
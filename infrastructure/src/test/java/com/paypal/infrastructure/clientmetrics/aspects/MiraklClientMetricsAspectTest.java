@@ -0,0 +1,46 @@
+package com.paypal.infrastructure.clientmetrics.aspects;
+
+import com.paypal.infrastructure.clientmetrics.services.ClientMetricsService;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MiraklClientMetricsAspectTest {
+
+	@InjectMocks
+	private MiraklClientMetricsAspect testObj;
+
+	@Mock
+	private ClientMetricsService clientMetricsServiceMock;
+
+	@Mock
+	private ProceedingJoinPoint proceedingJoinPointMock;
+
+	@Mock
+	private Signature signatureMock;
+
+	@Test
+	void aroundMiraklOperation_shouldRecordInvocationWithOperationName() throws Throwable {
+		when(proceedingJoinPointMock.getSignature()).thenReturn(signatureMock);
+		when(signatureMock.getName()).thenReturn("getShops");
+		when(proceedingJoinPointMock.proceed()).thenReturn("shops");
+		when(clientMetricsServiceMock.recordInvocation(eq(ClientMetricsService.CLIENT_MIRAKL), eq("getShops"), any()))
+				.thenAnswer(invocation -> invocation.getArgument(2, ClientMetricsService.ClientInvocation.class)
+						.proceed());
+
+		final Object result = testObj.aroundMiraklOperation(proceedingJoinPointMock);
+
+		assertThat(result).isEqualTo("shops");
+	}
+
+}
@@ -0,0 +1,90 @@
+package com.paypal.infrastructure.clientmetrics.services;
+
+import com.mirakl.client.core.error.MiraklErrorResponseBean;
+import com.mirakl.client.core.exception.MiraklApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.paypal.infrastructure.clientmetrics.services.ClientMetricsServiceImpl.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ClientMetricsServiceImplTest {
+
+	private static final String CLIENT = "client";
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private ClientMetricsServiceImpl testObj;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		testObj = new ClientMetricsServiceImpl(meterRegistry, true);
+	}
+
+	@Test
+	void instrument_shouldRecordLatencyAndResponseItems_whenOperationSucceeds() {
+		final TestClient result = testObj.instrument(new TestClient(), CLIENT);
+
+		assertThat(result.getItems()).containsExactly("item1", "item2");
+		assertThat(meterRegistry.get(METRIC_CLIENT_REQUESTS).tag(TAG_CLIENT, CLIENT).tag(TAG_OPERATION, "getItems")
+				.tag(TAG_OUTCOME, OUTCOME_SUCCESS).tag(TAG_ERROR_CODE, NO_ERROR_CODE).timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.get(METRIC_CLIENT_RESPONSE_ITEMS).tag(TAG_OPERATION, "getItems").summary()
+				.totalAmount()).isEqualTo(2);
+	}
+
+	@Test
+	void instrument_shouldRecordErrorCode_whenOperationFails() {
+		final TestClient result = testObj.instrument(new TestClient(), CLIENT);
+
+		assertThatThrownBy(result::fail).isInstanceOf(MiraklApiException.class);
+		assertThat(meterRegistry.get(METRIC_CLIENT_REQUESTS).tag(TAG_OPERATION, "fail").tag(TAG_OUTCOME, OUTCOME_ERROR)
+				.tag(TAG_ERROR_CODE, "400").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	void instrument_shouldNotRecordObjectMethods() {
+		final TestClient result = testObj.instrument(new TestClient(), CLIENT);
+
+		result.toString();
+
+		assertThat(meterRegistry.find(METRIC_CLIENT_REQUESTS).timer()).isNull();
+	}
+
+	@Test
+	void instrument_shouldReturnSameClient_whenClientMetricsAreDisabled() {
+		testObj = new ClientMetricsServiceImpl(meterRegistry, false);
+		final TestClient client = new TestClient();
+
+		final TestClient result = testObj.instrument(client, CLIENT);
+
+		assertThat(result).isSameAs(client);
+	}
+
+	@Test
+	void recordInvocation_shouldNotRecordAnything_whenThereIsNoMeterRegistry() throws Throwable {
+		testObj = new ClientMetricsServiceImpl(null, true);
+
+		final Object result = testObj.recordInvocation(CLIENT, "operation", () -> "response");
+
+		assertThat(result).isEqualTo("response");
+		assertThat(meterRegistry.getMeters()).isEmpty();
+	}
+
+	public static class TestClient {
+
+		public List<String> getItems() {
+			return List.of("item1", "item2");
+		}
+
+		public void fail() {
+			throw new MiraklApiException(new MiraklErrorResponseBean(400, "Error", "correlation-id"));
+		}
+
+	}
+
+}
@@ -0,0 +1,51 @@
+package com.paypal.infrastructure.configuration;
+
+import com.paypal.infrastructure.job.BatchJobTrackingRetentionJob;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.CronTrigger;
+import org.quartz.JobBuilder;
+import org.quartz.JobDetail;
+import org.quartz.Trigger;
+import org.quartz.TriggerKey;
+import org.quartz.impl.triggers.CronTriggerImpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class BatchJobTrackingRetentionJobConfigTest {
+
+	private static final String CRON_EXPRESSION = "0 0 3 * * ? *";
+
+	private static final String TRIGGER_PREFIX = "Trigger";
+
+	private static final String JOB_NAME = "BatchJobTrackingRetentionJob";
+
+	@InjectMocks
+	private BatchJobTrackingRetentionJobConfig testObj;
+
+	@Test
+	void batchJobTrackingRetentionJob_shouldCreateJobDetailWithNameAndTypeBatchJobTrackingRetentionJob() {
+		final JobDetail result = testObj.batchJobTrackingRetentionJob();
+
+		assertThat(result.getJobClass()).hasSameClassAs(BatchJobTrackingRetentionJob.class);
+		assertThat(result.getKey().getName()).isEqualTo(JOB_NAME);
+	}
+
+	@Test
+	void batchJobTrackingRetentionTrigger_shouldReturnATriggerCreatedWithTheCronExpressionPassedAsArgumentAndJob() {
+		final JobDetail jobDetail = JobBuilder.newJob(BatchJobTrackingRetentionJob.class).withIdentity(JOB_NAME)
+				.build();
+
+		final Trigger result = testObj.batchJobTrackingRetentionTrigger(jobDetail, CRON_EXPRESSION);
+
+		assertThat(result.getJobKey()).isEqualTo(jobDetail.getKey());
+		assertThat(result.getKey()).isEqualTo(TriggerKey.triggerKey(TRIGGER_PREFIX + JOB_NAME));
+		assertThat(result).isInstanceOf(CronTriggerImpl.class);
+		assertThat(((CronTriggerImpl) result).getCronExpression()).isEqualTo(CRON_EXPRESSION);
+		assertThat(result.getMisfireInstruction()).isEqualTo(CronTrigger.MISFIRE_INSTRUCTION_FIRE_ONCE_NOW);
+	}
+
+}
@@ -64,6 +64,7 @@ class JobListenerConfigTest {
 		verify(listenerManagerMock).addTriggerListener(SameJobVetoingListenerArgumentCapture.capture());
 
 		assertThat(SameJobVetoingListenerArgumentCapture.getValue()).isEqualTo(sameJobVetoingListener);
+		verify(listenerManagerMock).addJobListener(sameJobVetoingListener);
 	}
 
 }
@@ -0,0 +1,51 @@
+package com.paypal.infrastructure.configuration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.quartz.QuartzProperties;
+import org.springframework.scheduling.quartz.SchedulerFactoryBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuartzJdbcJobStoreConfigTest {
+
+	private static final String DRIVER_DELEGATE_CLASS = "org.quartz.impl.jdbcjobstore.StdJDBCDelegate";
+
+	private final QuartzJdbcJobStoreConfig testObj = new QuartzJdbcJobStoreConfig();
+
+	@Test
+	void clusteredJobStoreCustomizer_shouldSetClusteringProperties() {
+		final SchedulerFactoryBean schedulerFactoryBean = new SchedulerFactoryBean();
+
+		testObj.clusteredJobStoreCustomizer(new QuartzProperties(), 20000L, 60000L, DRIVER_DELEGATE_CLASS)
+				.customize(schedulerFactoryBean);
+
+		assertThat(getQuartzProperties(schedulerFactoryBean))
+				.containsEntry("org.quartz.scheduler.instanceId", "AUTO")
+				.containsEntry("org.quartz.jobStore.isClustered", "true")
+				.containsEntry("org.quartz.jobStore.clusterCheckinInterval", "20000")
+				.containsEntry("org.quartz.jobStore.misfireThreshold", "60000")
+				.containsEntry("org.quartz.jobStore.driverDelegateClass", DRIVER_DELEGATE_CLASS);
+	}
+
+	@Test
+	void clusteredJobStoreCustomizer_shouldKeepExplicitQuartzProperties() {
+		final SchedulerFactoryBean schedulerFactoryBean = new SchedulerFactoryBean();
+		final QuartzProperties quartzProperties = new QuartzProperties();
+		quartzProperties.getProperties().put("org.quartz.jobStore.driverDelegateClass",
+				"org.quartz.impl.jdbcjobstore.PostgreSQLDelegate");
+
+		testObj.clusteredJobStoreCustomizer(quartzProperties, 20000L, 60000L, DRIVER_DELEGATE_CLASS)
+				.customize(schedulerFactoryBean);
+
+		assertThat(getQuartzProperties(schedulerFactoryBean)).containsEntry(
+				"org.quartz.jobStore.driverDelegateClass", "org.quartz.impl.jdbcjobstore.PostgreSQLDelegate");
+	}
+
+	private static Properties getQuartzProperties(final SchedulerFactoryBean schedulerFactoryBean) {
+		return (Properties) ReflectionTestUtils.getField(schedulerFactoryBean, "quartzProperties");
+	}
+
+}
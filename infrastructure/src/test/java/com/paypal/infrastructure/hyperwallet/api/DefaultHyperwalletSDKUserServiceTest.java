@@ -1,6 +1,8 @@
 package com.paypal.infrastructure.hyperwallet.api;
 
 import com.hyperwallet.clientsdk.Hyperwallet;
+import com.paypal.infrastructure.clientmetrics.services.ClientMetricsService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -10,6 +12,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +38,15 @@ class DefaultHyperwalletSDKUserServiceTest {
 	@Mock
 	private UserHyperwalletApiConfig notificationsHyperwalletApiConfigMock;
 
+	@Mock
+	private ClientMetricsService clientMetricsServiceMock;
+
+	@BeforeEach
+	void setUp() {
+		lenient().when(clientMetricsServiceMock.instrument(any(Hyperwallet.class),
+				eq(ClientMetricsService.CLIENT_HYPERWALLET))).thenAnswer(invocation -> invocation.getArgument(0));
+	}
+
 	@Test
 	void getHyperwalletInstance_shouldReturnAnHyperwalletInstance() {
 		when(notificationsHyperwalletApiConfigMock.getTokens()).thenReturn(Map.of(HYPERWALLET_PROGRAM, PROGRAM_TOKEN));
@@ -56,4 +72,19 @@ class DefaultHyperwalletSDKUserServiceTest {
 		assertThat(result).hasFieldOrPropertyWithValue("apiClient.hyperwalletEncryption", null);
 	}
 
+	@Test
+	void getHyperwalletInstance_shouldReuseTheInstrumentedInstanceOfTheSameProgramToken() {
+		when(notificationsHyperwalletApiConfigMock.getTokens()).thenReturn(Map.of(HYPERWALLET_PROGRAM, PROGRAM_TOKEN));
+		when(notificationsHyperwalletApiConfigMock.getUsername()).thenReturn(USER_NAME);
+		when(notificationsHyperwalletApiConfigMock.getPassword()).thenReturn(PASSWORD);
+		when(notificationsHyperwalletApiConfigMock.getServer()).thenReturn(SERVER);
+
+		final Hyperwallet byProgram = testObj.getHyperwalletInstanceByHyperwalletProgram(HYPERWALLET_PROGRAM);
+		final Hyperwallet byProgramToken = testObj.getHyperwalletInstanceByProgramToken(PROGRAM_TOKEN);
+
+		assertThat(byProgramToken).isSameAs(byProgram);
+		verify(clientMetricsServiceMock, times(1)).instrument(any(Hyperwallet.class),
+				eq(ClientMetricsService.CLIENT_HYPERWALLET));
+	}
+
 }
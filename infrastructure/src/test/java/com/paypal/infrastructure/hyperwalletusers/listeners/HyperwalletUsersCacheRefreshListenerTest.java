@@ -0,0 +1,68 @@
+package com.paypal.infrastructure.hyperwalletusers.listeners;
+
+import com.hyperwallet.clientsdk.model.HyperwalletWebhookNotification;
+import com.paypal.infrastructure.events.KycBusinessStakeholderEvent;
+import com.paypal.infrastructure.events.KycUserEvent;
+import com.paypal.infrastructure.events.PaymentEvent;
+import com.paypal.infrastructure.hyperwalletusers.services.HyperwalletUsersCacheService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HyperwalletUsersCacheRefreshListenerTest {
+
+	private static final String USER_TOKEN = "usr-1";
+
+	@InjectMocks
+	private HyperwalletUsersCacheRefreshListener testObj;
+
+	@Mock
+	private HyperwalletUsersCacheService hyperwalletUsersCacheServiceMock;
+
+	@Mock
+	private HyperwalletWebhookNotification hyperwalletWebhookNotificationMock;
+
+	@Test
+	void onApplicationEvent_shouldInvalidateCachedUser_whenNotificationContainsUserToken() {
+		when(hyperwalletWebhookNotificationMock.getObject()).thenReturn(Map.of("token", USER_TOKEN));
+
+		testObj.onApplicationEvent(new KycUserEvent(this, hyperwalletWebhookNotificationMock));
+
+		verify(hyperwalletUsersCacheServiceMock).invalidate(USER_TOKEN);
+	}
+
+	@Test
+	void onApplicationEvent_shouldDoNothing_whenNotificationDoesNotContainUserToken() {
+		when(hyperwalletWebhookNotificationMock.getObject()).thenReturn(Map.of("clientUserId", "2001"));
+
+		testObj.onApplicationEvent(new KycUserEvent(this, hyperwalletWebhookNotificationMock));
+
+		verifyNoInteractions(hyperwalletUsersCacheServiceMock);
+	}
+
+	@Test
+	void onApplicationEvent_shouldInvalidateCachedUser_whenBusinessStakeholderNotificationIsReceived() {
+		when(hyperwalletWebhookNotificationMock.getObject())
+				.thenReturn(Map.of("token", "stk-1", "userToken", USER_TOKEN));
+
+		testObj.onApplicationEvent(new KycBusinessStakeholderEvent(this, hyperwalletWebhookNotificationMock));
+
+		verify(hyperwalletUsersCacheServiceMock).invalidate(USER_TOKEN);
+		verifyNoMoreInteractions(hyperwalletUsersCacheServiceMock);
+	}
+
+	@Test
+	void onApplicationEvent_shouldDoNothing_whenNotificationIsNotAboutUsers() {
+		testObj.onApplicationEvent(new PaymentEvent(this, hyperwalletWebhookNotificationMock));
+
+		verifyNoInteractions(hyperwalletUsersCacheServiceMock);
+	}
+
+}
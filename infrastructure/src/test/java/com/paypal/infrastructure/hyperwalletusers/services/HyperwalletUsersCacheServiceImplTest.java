@@ -0,0 +1,94 @@
+package com.paypal.infrastructure.hyperwalletusers.services;
+
+import com.hyperwallet.clientsdk.model.HyperwalletUser;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HyperwalletUsersCacheServiceImplTest {
+
+	private static final String USER_TOKEN = "usr-1";
+
+	private HyperwalletUsersCacheServiceImpl testObj;
+
+	private MeterRegistry meterRegistry;
+
+	@Mock
+	private Function<String, HyperwalletUser> loaderMock;
+
+	@Mock
+	private HyperwalletUser hyperwalletUserMock;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		testObj = new HyperwalletUsersCacheServiceImpl(meterRegistry, 100, 60);
+	}
+
+	@Test
+	void getUser_shouldLoadUserOnlyOnce_whenUserIsRequestedTwice() {
+		when(loaderMock.apply(USER_TOKEN)).thenReturn(hyperwalletUserMock);
+
+		testObj.getUser(USER_TOKEN, loaderMock);
+		final Optional<HyperwalletUser> result = testObj.getUser(USER_TOKEN, loaderMock);
+
+		assertThat(result).contains(hyperwalletUserMock);
+		verify(loaderMock, times(1)).apply(USER_TOKEN);
+	}
+
+	@Test
+	void getUser_shouldNotCacheUser_whenUserIsNotFound() {
+		when(loaderMock.apply(USER_TOKEN)).thenReturn(null);
+
+		final Optional<HyperwalletUser> result = testObj.getUser(USER_TOKEN, loaderMock);
+		testObj.getUser(USER_TOKEN, loaderMock);
+
+		assertThat(result).isEmpty();
+		verify(loaderMock, times(2)).apply(USER_TOKEN);
+	}
+
+	@Test
+	void getUser_shouldReturnEmptyWithoutCallingLoader_whenUserTokenIsNull() {
+		final Optional<HyperwalletUser> result = testObj.getUser(null, loaderMock);
+
+		assertThat(result).isEmpty();
+		verifyNoInteractions(loaderMock);
+	}
+
+	@Test
+	void invalidate_shouldLoadUserAgain_whenUserIsRequestedAfterInvalidation() {
+		when(loaderMock.apply(USER_TOKEN)).thenReturn(hyperwalletUserMock);
+
+		testObj.getUser(USER_TOKEN, loaderMock);
+		testObj.invalidate(USER_TOKEN);
+		testObj.getUser(USER_TOKEN, loaderMock);
+
+		verify(loaderMock, times(2)).apply(USER_TOKEN);
+	}
+
+	@Test
+	void getUser_shouldPublishHitAndMissMetrics() {
+		when(loaderMock.apply(USER_TOKEN)).thenReturn(hyperwalletUserMock);
+
+		testObj.getUser(USER_TOKEN, loaderMock);
+		testObj.getUser(USER_TOKEN, loaderMock);
+		testObj.getUser(USER_TOKEN, loaderMock);
+
+		assertThat(meterRegistry.get("cache.gets").tag("cache", HyperwalletUsersCacheServiceImpl.CACHE_NAME)
+				.tag("result", "hit").functionCounter().count()).isEqualTo(2);
+		assertThat(meterRegistry.get("cache.gets").tag("cache", HyperwalletUsersCacheServiceImpl.CACHE_NAME)
+				.tag("result", "miss").functionCounter().count()).isEqualTo(1);
+	}
+
+}
@@ -1,7 +1,7 @@
 package com.paypal.infrastructure.job;
 
 import com.paypal.infrastructure.model.entity.JobExecutionInformationEntity;
-import com.paypal.infrastructure.repository.JobExecutionInformationRepository;
+import com.paypal.infrastructure.service.JobExecutionInformationService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -14,9 +14,9 @@ import org.quartz.JobExecutionContext;
 
 import java.util.Date;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.when;
 
@@ -33,7 +33,7 @@ class AbstractDeltaInfoJobTest {
 	private JobDetail jobDetailMock;
 
 	@Mock
-	private JobExecutionInformationRepository jobExecutionInformationRepository;
+	private JobExecutionInformationService jobExecutionInformationServiceMock;
 
 	@Mock
 	private JobExecutionInformationEntity jobExecutionInformationEntityMock;
@@ -67,8 +67,8 @@ class AbstractDeltaInfoJobTest {
 		final JobDataMap jobDataMap = new JobDataMap();
 		when(jobDetailMock.getJobDataMap()).thenReturn(jobDataMap);
 		doReturn(MyJob.class).when(jobDetailMock).getJobClass();
-		when(jobExecutionInformationRepository.findTopByTypeAndEndTimeIsNotNullOrderByIdDesc(any()))
-				.thenReturn(jobExecutionInformationEntityMock);
+		when(jobExecutionInformationServiceMock.getLastCompletedExecution("MyJob"))
+				.thenReturn(Optional.of(jobExecutionInformationEntityMock));
 		when(jobExecutionInformationEntityMock.getStartTime()).thenReturn(now);
 
 		final Date result = testObj.getDelta(jobExecutionContextMock);
@@ -82,8 +82,8 @@ class AbstractDeltaInfoJobTest {
 		final JobDataMap jobDataMap = new JobDataMap();
 		when(jobDetailMock.getJobDataMap()).thenReturn(jobDataMap);
 		doReturn(MyJob.class).when(jobDetailMock).getJobClass();
-		when(jobExecutionInformationRepository.findTopByTypeAndEndTimeIsNotNullOrderByIdDesc(any()))
-				.thenReturn(jobExecutionInformationEntityMock);
+		when(jobExecutionInformationServiceMock.getLastCompletedExecution("MyJob"))
+				.thenReturn(Optional.of(jobExecutionInformationEntityMock));
 		when(jobExecutionInformationEntityMock.getStartTime()).thenReturn(null);
 
 		final Date result = testObj.getDelta(jobExecutionContextMock);
@@ -91,6 +91,18 @@ class AbstractDeltaInfoJobTest {
 		assertThat(result).isNull();
 	}
 
+	@Test
+	void getDelta_shouldReturnNullWhenJobExecutionContextWithDeltaIsNotPassedAndJobWasNeverCompleted() {
+		when(jobExecutionContextMock.getJobDetail()).thenReturn(jobDetailMock);
+		when(jobDetailMock.getJobDataMap()).thenReturn(new JobDataMap());
+		doReturn(MyJob.class).when(jobDetailMock).getJobClass();
+		when(jobExecutionInformationServiceMock.getLastCompletedExecution("MyJob")).thenReturn(Optional.empty());
+
+		final Date result = testObj.getDelta(jobExecutionContextMock);
+
+		assertThat(result).isNull();
+	}
+
 	private static class MyAbstractDeltaInfoJob extends AbstractDeltaInfoJob {
 
 		@Override
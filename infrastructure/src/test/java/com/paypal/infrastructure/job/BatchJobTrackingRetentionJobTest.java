@@ -0,0 +1,32 @@
+package com.paypal.infrastructure.job;
+
+import com.paypal.infrastructure.batchjob.BatchJobTrackingRetentionService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.JobExecutionContext;
+
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BatchJobTrackingRetentionJobTest {
+
+	@InjectMocks
+	private BatchJobTrackingRetentionJob testObj;
+
+	@Mock
+	private BatchJobTrackingRetentionService batchJobTrackingRetentionServiceMock;
+
+	@Mock
+	private JobExecutionContext jobExecutionContextMock;
+
+	@Test
+	void execute_shouldApplyTheRetentionPolicies() {
+		testObj.execute(jobExecutionContextMock);
+
+		verify(batchJobTrackingRetentionServiceMock).applyRetentionPolicies();
+	}
+
+}
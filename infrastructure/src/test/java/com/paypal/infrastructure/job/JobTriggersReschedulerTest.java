@@ -0,0 +1,75 @@
+package com.paypal.infrastructure.job;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.CronScheduleBuilder;
+import org.quartz.CronTrigger;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobTriggersReschedulerTest {
+
+	private static final String TRIGGER_NAME = "TriggerJob";
+
+	private static final String CRON_EXPRESSION = "0 0 0/1 * * ? *";
+
+	@Mock
+	private Scheduler schedulerMock;
+
+	@Test
+	void afterSingletonsInstantiated_shouldRescheduleTrigger_whenCronExpressionChanged() throws SchedulerException {
+		final CronTrigger trigger = trigger(JobSchedules.extractJobSchedule(CRON_EXPRESSION));
+		when(schedulerMock.getTrigger(trigger.getKey()))
+				.thenReturn(trigger(JobSchedules.extractJobSchedule("0 0 0/2 * * ? *")));
+
+		new JobTriggersRescheduler(schedulerMock, List.<Trigger>of(trigger)).afterSingletonsInstantiated();
+
+		verify(schedulerMock).rescheduleJob(trigger.getKey(), trigger);
+	}
+
+	@Test
+	void afterSingletonsInstantiated_shouldRescheduleTrigger_whenMisfirePolicyChanged() throws SchedulerException {
+		final CronTrigger trigger = trigger(JobSchedules.extractJobSchedule(CRON_EXPRESSION));
+		when(schedulerMock.getTrigger(trigger.getKey()))
+				.thenReturn(trigger(JobSchedules.retryJobSchedule(CRON_EXPRESSION)));
+
+		new JobTriggersRescheduler(schedulerMock, List.<Trigger>of(trigger)).afterSingletonsInstantiated();
+
+		verify(schedulerMock).rescheduleJob(trigger.getKey(), trigger);
+	}
+
+	@Test
+	void afterSingletonsInstantiated_shouldKeepStoredTrigger_whenScheduleIsTheSame() throws SchedulerException {
+		final CronTrigger trigger = trigger(JobSchedules.extractJobSchedule(CRON_EXPRESSION));
+		when(schedulerMock.getTrigger(trigger.getKey()))
+				.thenReturn(trigger(JobSchedules.extractJobSchedule(CRON_EXPRESSION)));
+
+		new JobTriggersRescheduler(schedulerMock, List.<Trigger>of(trigger)).afterSingletonsInstantiated();
+
+		verify(schedulerMock, never()).rescheduleJob(any(), any());
+	}
+
+	@Test
+	void afterSingletonsInstantiated_shouldNotRescheduleTrigger_whenItIsNotStored() throws SchedulerException {
+		final CronTrigger trigger = trigger(JobSchedules.extractJobSchedule(CRON_EXPRESSION));
+
+		new JobTriggersRescheduler(schedulerMock, List.<Trigger>of(trigger)).afterSingletonsInstantiated();
+
+		verify(schedulerMock, never()).rescheduleJob(any(), any());
+	}
+
+	private static CronTrigger trigger(final CronScheduleBuilder schedule) {
+		return TriggerBuilder.newTrigger().withIdentity(TRIGGER_NAME).forJob("Job").withSchedule(schedule).build();
+	}
+
+}
@@ -0,0 +1,97 @@
+package com.paypal.infrastructure.job;
+
+import com.paypal.infrastructure.util.TimeMachine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RunningJobRegistryTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2023, 3, 1, 10, 0);
+
+	private static final String JOB_TYPE = "JOB_TYPE";
+
+	private static final String OTHER_JOB_TYPE = "OTHER_JOB_TYPE";
+
+	private RunningJobRegistry testObj;
+
+	@BeforeEach
+	void setUp() {
+		TimeMachine.useFixedClockAt(NOW);
+		testObj = new RunningJobRegistry();
+	}
+
+	@AfterEach
+	void tearDown() {
+		TimeMachine.useSystemDefaultZoneClock();
+	}
+
+	@Test
+	void tryAcquire_shouldRegisterRunningJob_whenJobTypeIsNotRunning() {
+		final boolean result = testObj.tryAcquire(JOB_TYPE, "jobName", "fire-1");
+
+		assertThat(result).isTrue();
+		assertThat(testObj.getRunningJobs()).containsEntry(JOB_TYPE, RunningJob.builder().jobType(JOB_TYPE)
+				.jobName("jobName").fireInstanceId("fire-1").startTime(NOW).build());
+	}
+
+	@Test
+	void tryAcquire_shouldReturnFalse_whenAnotherExecutionOfSameJobTypeIsRunning() {
+		testObj.tryAcquire(JOB_TYPE, "jobName", "fire-1");
+
+		assertThat(testObj.tryAcquire(JOB_TYPE, "otherJobName", "fire-2")).isFalse();
+		assertThat(testObj.tryAcquire(OTHER_JOB_TYPE, "otherJobName", "fire-2")).isTrue();
+		assertThat(testObj.tryAcquire(JOB_TYPE, "jobName", "fire-1")).isTrue();
+	}
+
+	@Test
+	void release_shouldOnlyReleaseRunningSlotHeldByTheExecution() {
+		testObj.tryAcquire(JOB_TYPE, "jobName", "fire-1");
+
+		testObj.release(JOB_TYPE, "fire-2");
+		assertThat(testObj.getRunningJob(JOB_TYPE)).isPresent();
+
+		testObj.release(JOB_TYPE, "fire-1");
+		assertThat(testObj.getRunningJob(JOB_TYPE)).isEmpty();
+		assertThat(testObj.tryAcquire(JOB_TYPE, "jobName", "fire-2")).isTrue();
+	}
+
+	@Test
+	void tryAcquire_shouldLetOnlyOneExecutionAcquireTheJobType_whenCalledConcurrently() throws Exception {
+		final int threads = 16;
+		final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+		final CountDownLatch start = new CountDownLatch(1);
+		try {
+			//@formatter:off
+			final var results = IntStream.range(0, threads)
+					.mapToObj(i -> executorService.submit(() -> {
+						start.await();
+						return testObj.tryAcquire(JOB_TYPE, "jobName", "fire-" + i);
+					}))
+					.collect(Collectors.toList());
+			//@formatter:on
+			start.countDown();
+
+			int acquired = 0;
+			for (final Future<Boolean> result : results) {
+				acquired += Boolean.TRUE.equals(result.get(5, TimeUnit.SECONDS)) ? 1 : 0;
+			}
+			assertThat(acquired).isEqualTo(1);
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+}
@@ -0,0 +1,47 @@
+package com.paypal.infrastructure.job.actuator;
+
+import com.paypal.infrastructure.job.RunningJob;
+import com.paypal.infrastructure.job.RunningJobRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RunningJobsEndpointTest {
+
+	private static final String JOB_TYPE = "JOB_TYPE";
+
+	@InjectMocks
+	private RunningJobsEndpoint testObj;
+
+	@Mock
+	private RunningJobRegistry runningJobRegistryMock;
+
+	@Test
+	void runningJobs_shouldReturnRunningJobsOfTheRegistry() {
+		final RunningJob runningJob = RunningJob.builder().jobType(JOB_TYPE).fireInstanceId("fire-1").build();
+		when(runningJobRegistryMock.getRunningJobs()).thenReturn(Map.of(JOB_TYPE, runningJob));
+
+		final Map<String, RunningJob> result = testObj.runningJobs();
+
+		assertThat(result).containsExactly(Map.entry(JOB_TYPE, runningJob));
+	}
+
+	@Test
+	void runningJob_shouldReturnNull_whenJobTypeIsNotRunning() {
+		when(runningJobRegistryMock.getRunningJob(JOB_TYPE)).thenReturn(Optional.empty());
+
+		final RunningJob result = testObj.runningJob(JOB_TYPE);
+
+		assertThat(result).isNull();
+	}
+
+}
@@ -1,24 +1,16 @@
 package com.paypal.infrastructure.job.listener;
 
 import com.paypal.infrastructure.model.entity.JobExecutionInformationEntity;
-import com.paypal.infrastructure.model.job.JobStatus;
-import com.paypal.infrastructure.repository.JobExecutionInformationRepository;
-import com.paypal.infrastructure.util.DateUtil;
-import com.paypal.infrastructure.util.TimeMachine;
+import com.paypal.infrastructure.service.JobExecutionInformationService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.quartz.*;
 
-import java.time.LocalDateTime;
-import java.time.ZoneId;
-
-import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,14 +22,11 @@ class JobExecutionInformationEntityListenerTest {
 	@InjectMocks
 	private JobExecutionInformationListener testObj;
 
-	@Mock
-	private Scheduler schedulerMock;
-
 	@Mock
 	private JobExecutionContext contextMock;
 
 	@Mock
-	private JobExecutionInformationRepository jobExecutionInformationRepositoryMock;
+	private JobExecutionInformationService jobExecutionInformationServiceMock;
 
 	@Mock
 	private JobExecutionInformationEntity savedJobExecutionInformationEntityMock;
@@ -45,42 +34,37 @@ class JobExecutionInformationEntityListenerTest {
 	@Mock
 	private JobExecutionException jobExceptionMock;
 
-	@Captor
-	private ArgumentCaptor<JobExecutionInformationEntity> jobExecutionInformationEntityArgumentCaptor;
-
 	@Test
-	void jobToBeExecuted_shouldSaveTheJobExecutionInformationOfLastExecution() {
-		final LocalDateTime now = LocalDateTime.of(2020, 11, 15, 22, 20);
-		TimeMachine.useFixedClockAt(now);
+	void jobToBeExecuted_shouldRecordTheStartOfTheExecutionAndKeepItInTheContext() {
 		final JobDetail jobDetail = JobBuilder.newJob(MyJob.class).withIdentity(MY_JOB_NAME_EXECUTION).build();
 		when(contextMock.getJobDetail()).thenReturn(jobDetail);
-		when(jobExecutionInformationRepositoryMock.save(any(JobExecutionInformationEntity.class)))
+		when(jobExecutionInformationServiceMock.jobStarted("MyJob", MY_JOB_NAME_EXECUTION))
 				.thenReturn(savedJobExecutionInformationEntityMock);
 
 		testObj.jobToBeExecuted(contextMock);
 
-		verify(jobExecutionInformationRepositoryMock).save(jobExecutionInformationEntityArgumentCaptor.capture());
-		//@formatter:off
-		assertThat(jobExecutionInformationEntityArgumentCaptor.getValue()).hasFieldOrPropertyWithValue("type", "MyJob")
-				.hasFieldOrPropertyWithValue("name", MY_JOB_NAME_EXECUTION)
-				.hasFieldOrPropertyWithValue("startTime", DateUtil.convertToDate(now, ZoneId.systemDefault()))
-				.hasFieldOrPropertyWithValue("status", JobStatus.RUNNING);
-		//@formatter:on
+		verify(contextMock).put("runningInstanceId", savedJobExecutionInformationEntityMock);
+	}
+
+	@Test
+	void jobWasExecuted_shouldRecordTheEndOfTheExecutionKeptInTheContext() {
+		final JobDetail jobDetail = JobBuilder.newJob(MyJob.class).withIdentity(MY_JOB_NAME_EXECUTION).build();
+		when(contextMock.getJobDetail()).thenReturn(jobDetail);
+		when(contextMock.get("runningInstanceId")).thenReturn(savedJobExecutionInformationEntityMock);
+
+		testObj.jobWasExecuted(contextMock, jobExceptionMock);
+
+		verify(jobExecutionInformationServiceMock).jobFinished(savedJobExecutionInformationEntityMock);
 	}
 
 	@Test
-	void jobWasExecuted_shouldSaveTheJobExecutionInformationOfFinalisedLastExecution() {
-		final LocalDateTime now = LocalDateTime.of(2020, 11, 15, 22, 20);
-		TimeMachine.useFixedClockAt(now);
+	void jobWasExecuted_shouldNotRecordTheEndOfTheExecution_whenItsStartWasNotRecorded() {
 		final JobDetail jobDetail = JobBuilder.newJob(MyJob.class).withIdentity(MY_JOB_NAME_EXECUTION).build();
-		jobDetail.getJobDataMap().put("runningInstanceId", savedJobExecutionInformationEntityMock);
 		when(contextMock.getJobDetail()).thenReturn(jobDetail);
 
 		testObj.jobWasExecuted(contextMock, jobExceptionMock);
 
-		verify(savedJobExecutionInformationEntityMock).setStatus(JobStatus.COMPLETED);
-		verify(savedJobExecutionInformationEntityMock).setEndTime(DateUtil.convertToDate(now, ZoneId.systemDefault()));
-		verify(jobExecutionInformationRepositoryMock).save(savedJobExecutionInformationEntityMock);
+		verify(jobExecutionInformationServiceMock, never()).jobFinished(any());
 	}
 
 	private static class MyJob implements Job {
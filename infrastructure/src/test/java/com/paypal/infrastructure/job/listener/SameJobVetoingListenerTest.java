@@ -1,14 +1,14 @@
 package com.paypal.infrastructure.job.listener;
 
+import com.paypal.infrastructure.job.RunningJobRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.quartz.*;
 
-import java.util.List;
-
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
@@ -18,11 +18,11 @@ class SameJobVetoingListenerTest {
 	@InjectMocks
 	private SameJobVetoingListener testObj;
 
-	@Mock
-	private Trigger triggerMock;
+	@Spy
+	private RunningJobRegistry runningJobRegistry;
 
 	@Mock
-	private Scheduler schedulerMock;
+	private Trigger triggerMock;
 
 	@Mock
 	private JobExecutionContext jobToBeTriggeredContextMock;
@@ -38,33 +38,62 @@ class SameJobVetoingListenerTest {
 	}
 
 	@Test
-	void vetoJobExecution_shouldReturnFalseWhenNoOtherJobOfSameClassIsRunning() throws SchedulerException {
-		final BarJobClass jobToBeTriggered = new BarJobClass();
-		when(jobToBeTriggeredContextMock.getJobInstance()).thenReturn(jobToBeTriggered);
-		final FooJobClass jobBeingExecuted = new FooJobClass();
-		when(jobAlreadyExecutingContextMock.getJobInstance()).thenReturn(jobBeingExecuted);
-
-		when(schedulerMock.getCurrentlyExecutingJobs()).thenReturn(List.of(jobAlreadyExecutingContextMock));
+	void vetoJobExecution_shouldReturnFalseWhenNoOtherJobOfSameClassIsRunning() {
+		mockJobContext(jobAlreadyExecutingContextMock, new FooJobClass(), "fooJob", "fire-1");
+		mockJobContext(jobToBeTriggeredContextMock, new BarJobClass(), "barJob", "fire-2");
+		testObj.vetoJobExecution(triggerMock, jobAlreadyExecutingContextMock);
 
 		final boolean result = testObj.vetoJobExecution(triggerMock, jobToBeTriggeredContextMock);
 
 		assertThat(result).isFalse();
+		assertThat(runningJobRegistry.getRunningJobs()).containsOnlyKeys(FooJobClass.class.getName(),
+				BarJobClass.class.getName());
 	}
 
 	@Test
-	void vetoJobExecution_shouldReturnTrueWhenOtherJobOfSameClassIsRunning() throws SchedulerException {
-		final FooJobClass jobToBeTriggered = new FooJobClass();
-		when(jobToBeTriggeredContextMock.getJobInstance()).thenReturn(jobToBeTriggered);
-		when(jobToBeTriggeredContextMock.getJobDetail())
-				.thenReturn(JobBuilder.newJob(FooJobClass.class).withIdentity("jobName").build());
-		final FooJobClass jobBeingExecuted = new FooJobClass();
-		when(jobAlreadyExecutingContextMock.getJobInstance()).thenReturn(jobBeingExecuted);
-
-		when(schedulerMock.getCurrentlyExecutingJobs()).thenReturn(List.of(jobAlreadyExecutingContextMock));
+	void vetoJobExecution_shouldReturnTrueWhenOtherJobOfSameClassIsRunning() {
+		mockJobContext(jobAlreadyExecutingContextMock, new FooJobClass(), "fooJob", "fire-1");
+		mockJobContext(jobToBeTriggeredContextMock, new FooJobClass(), "otherFooJob", "fire-2");
+		testObj.vetoJobExecution(triggerMock, jobAlreadyExecutingContextMock);
 
 		final boolean result = testObj.vetoJobExecution(triggerMock, jobToBeTriggeredContextMock);
 
 		assertThat(result).isTrue();
+		assertThat(runningJobRegistry.getRunningJob(FooJobClass.class.getName())).hasValueSatisfying(
+				runningJob -> assertThat(runningJob.getFireInstanceId()).isEqualTo("fire-1"));
+	}
+
+	@Test
+	void vetoJobExecution_shouldReturnFalse_whenJobOfSameClassWasExecuted() {
+		mockJobContext(jobAlreadyExecutingContextMock, new FooJobClass(), "fooJob", "fire-1");
+		mockJobContext(jobToBeTriggeredContextMock, new FooJobClass(), "otherFooJob", "fire-2");
+		testObj.vetoJobExecution(triggerMock, jobAlreadyExecutingContextMock);
+		testObj.jobWasExecuted(jobAlreadyExecutingContextMock, null);
+
+		final boolean result = testObj.vetoJobExecution(triggerMock, jobToBeTriggeredContextMock);
+
+		assertThat(result).isFalse();
+	}
+
+	@Test
+	void jobExecutionVetoed_shouldNotReleaseRunningSlot_whenItIsHeldByAnotherExecution() {
+		mockJobContext(jobAlreadyExecutingContextMock, new FooJobClass(), "fooJob", "fire-1");
+		mockJobContext(jobToBeTriggeredContextMock, new FooJobClass(), "otherFooJob", "fire-2");
+		testObj.vetoJobExecution(triggerMock, jobAlreadyExecutingContextMock);
+		testObj.vetoJobExecution(triggerMock, jobToBeTriggeredContextMock);
+
+		testObj.jobExecutionVetoed(jobToBeTriggeredContextMock);
+
+		assertThat(runningJobRegistry.getRunningJob(FooJobClass.class.getName())).hasValueSatisfying(
+				runningJob -> assertThat(runningJob.getFireInstanceId()).isEqualTo("fire-1"));
+	}
+
+	private static void mockJobContext(final JobExecutionContext jobExecutionContextMock, final Job job,
+			final String jobName, final String fireInstanceId) {
+		when(jobExecutionContextMock.getJobInstance()).thenReturn(job);
+		when(jobExecutionContextMock.getJobDetail())
+				.thenReturn(JobBuilder.newJob(job.getClass()).withIdentity(jobName).build());
+		when(jobExecutionContextMock.getFireInstanceId()).thenReturn(fireInstanceId);
 	}
 
 	private static class FooJobClass implements Job {
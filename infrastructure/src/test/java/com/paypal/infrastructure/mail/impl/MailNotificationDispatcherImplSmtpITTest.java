@@ -0,0 +1,126 @@
+package com.paypal.infrastructure.mail.impl;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.paypal.infrastructure.configuration.MailConfiguration;
+import com.paypal.infrastructure.mail.entities.MailOutboxMessageEntity;
+import com.paypal.infrastructure.mail.repository.MailDigestWindowRepository;
+import com.paypal.infrastructure.mail.repository.MailOutboxMessageRepository;
+import com.paypal.infrastructure.util.TimeMachine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Sends the queued emails to an in-process SMTP server.
+ */
+@ExtendWith(MockitoExtension.class)
+class MailNotificationDispatcherImplSmtpITTest {
+
+	@RegisterExtension
+	static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+	private static final String FROM_EMAIL = "from@mail.com";
+
+	private static final String RECIPIENTS_EMAILS = "recipient1@mail.com";
+
+	@Mock
+	private MailOutboxMessageRepository mailOutboxMessageRepositoryMock;
+
+	@Mock
+	private MailDigestWindowRepository mailDigestWindowRepositoryMock;
+
+	@Mock
+	private MailConfiguration mailConfigurationMock;
+
+	private JavaMailSenderImpl javaMailSender;
+
+	@BeforeEach
+	void setUp() {
+		lenient().when(mailConfigurationMock.getFromNotificationEmail()).thenReturn(FROM_EMAIL);
+		lenient().when(mailConfigurationMock.getNotificationRecipients()).thenReturn(RECIPIENTS_EMAILS);
+		lenient().when(mailOutboxMessageRepositoryMock.findIdsClaimedBy(anyCollection(), anyString()))
+				.thenAnswer(invocation -> new ArrayList<>(invocation.<Collection<Long>>getArgument(0)));
+
+		javaMailSender = new JavaMailSenderImpl();
+		javaMailSender.setHost("localhost");
+		javaMailSender.setPort(greenMail.getSmtp().getPort());
+	}
+
+	@Test
+	void dispatchPendingEmails_shouldDeliverQueuedEmailsAndDigestsToSmtpServer() throws MessagingException {
+		final MailOutboxMessageEntity firstPayment = email(1L, "Problem while processing payment [1]");
+		final MailOutboxMessageEntity secondPayment = email(2L, "Problem while processing payment [2]");
+		final MailOutboxMessageEntity otherIssue = email(3L, "Issue detected getting documents from Mirakl");
+		when(mailOutboxMessageRepositoryMock.findUnclaimedOrderByIdAsc(any(LocalDateTime.class), any(Pageable.class)))
+				.thenReturn(List.of(firstPayment, secondPayment, otherIssue));
+
+		createTestObj().dispatchPendingEmails();
+
+		assertThat(greenMail.waitForIncomingEmail(5000, 2)).isTrue();
+		final MimeMessage[] receivedMessages = greenMail.getReceivedMessages();
+		assertThat(receivedMessages).hasSize(2);
+		assertThat(receivedMessages[0].getSubject())
+				.isEqualTo("Problem while processing payment [1] (and 1 similar notifications)");
+		assertThat(GreenMailUtil.getBody(receivedMessages[0])).contains("Body of Problem while processing payment [2]");
+		assertThat(receivedMessages[0].getFrom()[0]).hasToString(FROM_EMAIL);
+		assertThat(receivedMessages[0].getAllRecipients()[0]).hasToString(RECIPIENTS_EMAILS);
+		assertThat(receivedMessages[1].getSubject()).isEqualTo("Issue detected getting documents from Mirakl");
+		assertThat(GreenMailUtil.getBody(receivedMessages[1]))
+				.contains("Body of Issue detected getting documents from Mirakl");
+		verify(mailOutboxMessageRepositoryMock).deleteAll(List.of(firstPayment, secondPayment));
+		verify(mailOutboxMessageRepositoryMock).deleteAll(List.of(otherIssue));
+	}
+
+	@Test
+	void dispatchPendingEmails_shouldKeepEmailsInOutbox_whenSmtpServerIsNotAvailable() throws IOException {
+		final MailOutboxMessageEntity email = email(1L, "Issue detected getting documents from Mirakl");
+		when(mailOutboxMessageRepositoryMock.findUnclaimedOrderByIdAsc(any(LocalDateTime.class), any(Pageable.class)))
+				.thenReturn(List.of(email));
+		javaMailSender.setPort(getUnusedPort());
+
+		createTestObj().dispatchPendingEmails();
+
+		assertThat(email.getAttempts()).isEqualTo(1);
+		verify(mailOutboxMessageRepositoryMock).saveAll(List.of(email));
+	}
+
+	private MailNotificationDispatcherImpl createTestObj() {
+		return new MailNotificationDispatcherImpl(mailOutboxMessageRepositoryMock, mailDigestWindowRepositoryMock,
+				javaMailSender, mailConfigurationMock, 0, 3, true, 600, Optional.empty());
+	}
+
+	private int getUnusedPort() throws IOException {
+		try (ServerSocket serverSocket = new ServerSocket(0)) {
+			return serverSocket.getLocalPort();
+		}
+	}
+
+	private MailOutboxMessageEntity email(final Long id, final String subject) {
+		return MailOutboxMessageEntity.builder().id(id).subject(subject).body("Body of " + subject)
+				.creationDate(TimeMachine.now()).build();
+	}
+
+}
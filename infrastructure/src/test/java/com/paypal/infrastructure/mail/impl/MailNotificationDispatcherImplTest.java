@@ -0,0 +1,345 @@
+package com.paypal.infrastructure.mail.impl;
+
+import com.paypal.infrastructure.configuration.MailConfiguration;
+import com.paypal.infrastructure.mail.entities.MailDigestWindowEntity;
+import com.paypal.infrastructure.mail.entities.MailOutboxMessageEntity;
+import com.paypal.infrastructure.mail.repository.MailDigestWindowRepository;
+import com.paypal.infrastructure.mail.repository.MailOutboxMessageRepository;
+import com.paypal.infrastructure.util.TimeMachine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MailNotificationDispatcherImplTest {
+
+	private static final String FROM_EMAIL = "from@mail.com";
+
+	private static final String RECIPIENTS_EMAILS = "recipient1@mail.com";
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2023, 3, 1, 10, 0);
+
+	private static final long DIGEST_WINDOW_SECONDS = 600;
+
+	private static final int MAX_ATTEMPTS = 3;
+
+	private MailNotificationDispatcherImpl testObj;
+
+	@Mock
+	private MailOutboxMessageRepository mailOutboxMessageRepositoryMock;
+
+	@Mock
+	private MailDigestWindowRepository mailDigestWindowRepositoryMock;
+
+	@Mock
+	private JavaMailSender javaMailSenderMock;
+
+	@Mock
+	private MailConfiguration mailConfigurationMock;
+
+	@Captor
+	private ArgumentCaptor<SimpleMailMessage> simpleMailMessageCaptor;
+
+	@Captor
+	private ArgumentCaptor<Iterable<MailOutboxMessageEntity>> mailOutboxMessageEntitiesCaptor;
+
+	@Captor
+	private ArgumentCaptor<Collection<Long>> emailIdsCaptor;
+
+	private final Map<String, MailDigestWindowEntity> digestWindows = new HashMap<>();
+
+	@BeforeEach
+	void setUp() {
+		TimeMachine.useFixedClockAt(NOW);
+		lenient().when(mailConfigurationMock.getFromNotificationEmail()).thenReturn(FROM_EMAIL);
+		lenient().when(mailConfigurationMock.getNotificationRecipients()).thenReturn(RECIPIENTS_EMAILS);
+		lenient().when(mailOutboxMessageRepositoryMock.findIdsClaimedBy(anyCollection(), anyString()))
+				.thenAnswer(invocation -> new ArrayList<>(invocation.<Collection<Long>>getArgument(0)));
+		lenient().when(mailDigestWindowRepositoryMock.save(any(MailDigestWindowEntity.class)))
+				.thenAnswer(invocation -> {
+					final MailDigestWindowEntity digestWindow = invocation.getArgument(0);
+					digestWindows.put(digestWindow.getSubjectKey(), digestWindow);
+					return digestWindow;
+				});
+		lenient().when(mailDigestWindowRepositoryMock.findAll())
+				.thenAnswer(invocation -> new ArrayList<>(digestWindows.values()));
+		lenient().when(mailDigestWindowRepositoryMock.deleteByLastSentTimeAtOrBefore(any(LocalDateTime.class)))
+				.thenAnswer(invocation -> {
+					final LocalDateTime lastSentTime = invocation.getArgument(0);
+					digestWindows.values()
+							.removeIf(digestWindow -> !digestWindow.getLastSentTime().isAfter(lastSentTime));
+					return 0;
+				});
+	}
+
+	@AfterEach
+	void tearDown() {
+		TimeMachine.useSystemDefaultZoneClock();
+	}
+
+	@Test
+	void dispatchPendingEmails_shouldSendEachEmailAndRemoveItFromOutbox_whenDigestIsDisabled() {
+		testObj = createTestObj(false);
+		final List<MailOutboxMessageEntity> emails = List.of(email(1L, "Problem while processing payment [1]"),
+				email(2L, "Problem while processing payment [2]"));
+		when(mailOutboxMessageRepositoryMock.findUnclaimedOrderByIdAsc(any(LocalDateTime.class), any(Pageable.class)))
+				.thenReturn(emails);
+
+		testObj.dispatchPendingEmails();
+
+		verify(javaMailSenderMock, times(2)).send(simpleMailMessageCaptor.capture());
+		assertThat(simpleMailMessageCaptor.getAllValues()).extracting(SimpleMailMessage::getSubject)
+				.containsExactly("Problem while processing payment [1]", "Problem while processing payment [2]");
+		assertThat(simpleMailMessageCaptor.getAllValues().get(0).getFrom()).isEqualTo(FROM_EMAIL);
+		assertThat(simpleMailMessageCaptor.getAllValues().get(0).getTo()).containsExactly(RECIPIENTS_EMAILS);
+		verify(mailOutboxMessageRepositoryMock).deleteAll(List.of(emails.get(0)));
+		verify(mailOutboxMessageRepositoryMock).deleteAll(List.of(emails.get(1)));
+	}
+
+	@Test
+	void dispatchPendingEmails_shouldGroupEmailsWithSimilarSubjectsIntoADigest_whenDigestIsEnabled() {
+		testObj = createTestObj(true);
+		final MailOutboxMessageEntity firstPayment = email(1L, "Problem while processing payment [1]");
+		final MailOutboxMessageEntity otherIssue = email(2L, "Issue detected getting documents from Mirakl");
+		final MailOutboxMessageEntity secondPayment = email(3L, "Problem while processing payment [2]");
+		when(mailOutboxMessageRepositoryMock.findUnclaimedOrderByIdAsc(any(LocalDateTime.class), any(Pageable.class)))
+				.thenReturn(List.of(firstPayment, otherIssue, secondPayment));
+
+		testObj.dispatchPendingEmails();
+
+		verify(javaMailSenderMock, times(2)).send(simpleMailMessageCaptor.capture());
+		final SimpleMailMessage digest = simpleMailMessageCaptor.getAllValues().get(0);
+		assertThat(digest.getSubject()).isEqualTo("Problem while processing payment [1] (and 1 similar notifications)");
+		assertThat(digest.getText()).startsWith("2 notifications with similar subjects were raised")
+				.contains("Problem while processing payment [1]", "Problem while processing payment [2]");
+		assertThat(simpleMailMessageCaptor.getAllValues().get(1).getSubject())
+				.isEqualTo("Issue detected getting documents from Mirakl");
+		verify(mailOutboxMessageRepositoryMock).deleteAll(List.of(firstPayment, secondPayment));
+		verify(mailOutboxMessageRepositoryMock).deleteAll(List.of(otherIssue));
+	}
+
+	@Test
+	void dispatchPendingEmails_shouldHoldSimilarEmailsUntilDigestWindowHasElapsed() {
+		testObj = createTestObj(true);
+		final MailOutboxMessageEntity firstPayment = email(1L, "Problem while processing payment [1]");
+		final MailOutboxMessageEntity secondPayment = email(2L, "Problem while processing payment [2]");
+		when(mailOutboxMessageRepositoryMock.findUnclaimedOrderByIdAsc(any(LocalDateTime.class), any(Pageable.class)))
+				.thenReturn(List.of(firstPayment), List.of(secondPayment), List.of(secondPayment));
+
+		testObj.dispatchPendingEmails();
+		TimeMachine.useFixedClockAt(NOW.plusSeconds(DIGEST_WINDOW_SECONDS - 1));
+		testObj.dispatchPendingEmails();
+
+		verify(javaMailSenderMock, times(1)).send(any(SimpleMailMessage.class));
+
+		TimeMachine.useFixedClockAt(NOW.plusSeconds(DIGEST_WINDOW_SECONDS));
+		testObj.dispatchPendingEmails();
+
+		verify(javaMailSenderMock, times(2)).send(any(SimpleMailMessage.class));
+		verify(mailOutboxMessageRepositoryMock).deleteAll(List.of(secondPayment));
+	}
+
+	@Test
+	void dispatchPendingEmails_shouldSendEmailsQueuedAfterAFullPageOfThrottledEmails() {
+		testObj = createTestObj(true);
+		final MailOutboxMessageEntity firstPayment = email(1L, "Problem while processing payment [1]");
+		final List<MailOutboxMessageEntity> throttledPayments = IntStream
+				.rangeClosed(2, MailNotificationDispatcherImpl.MAX_EMAILS_PER_DISPATCH + 1)
+				.mapToObj(i -> email((long) i, String.format("Problem while processing payment [%d]", i)))
+				.collect(Collectors.toList());
+		final MailOutboxMessageEntity otherIssue = email(1000L, "Issue detected getting documents from Mirakl");
+		when(mailOutboxMessageRepositoryMock
+				.findUnclaimedOrderByIdAsc(any(LocalDateTime.class),
+						eq(PageRequest.of(0, MailNotificationDispatcherImpl.MAX_EMAILS_PER_DISPATCH))))
+						.thenReturn(List.of(firstPayment), throttledPayments);
+		when(mailOutboxMessageRepositoryMock
+				.findUnclaimedOrderByIdAsc(any(LocalDateTime.class),
+						eq(PageRequest.of(1, MailNotificationDispatcherImpl.MAX_EMAILS_PER_DISPATCH))))
+						.thenReturn(List.of(otherIssue));
+
+		testObj.dispatchPendingEmails();
+		testObj.dispatchPendingEmails();
+
+		verify(javaMailSenderMock, times(2)).send(simpleMailMessageCaptor.capture());
+		assertThat(simpleMailMessageCaptor.getAllValues()).extracting(SimpleMailMessage::getSubject).containsExactly(
+				"Problem while processing payment [1]", "Issue detected getting documents from Mirakl");
+		verify(mailOutboxMessageRepositoryMock).deleteAll(List.of(otherIssue));
+	}
+
+	@Test
+	void dispatchPendingEmails_shouldLimitTheEmailsIncludedInADigest() {
+		testObj = createTestObj(true);
+		final List<MailOutboxMessageEntity> emails = IntStream
+				.rangeClosed(1, MailNotificationDispatcherImpl.MAX_EMAILS_PER_DIGEST + 5)
+				.mapToObj(i -> email((long) i, String.format("Problem while processing payment [%d]", i)))
+				.collect(Collectors.toList());
+		when(mailOutboxMessageRepositoryMock.findUnclaimedOrderByIdAsc(any(LocalDateTime.class), any(Pageable.class)))
+				.thenReturn(emails);
+
+		testObj.dispatchPendingEmails();
+
+		verify(javaMailSenderMock).send(simpleMailMessageCaptor.capture());
+		assertThat(simpleMailMessageCaptor.getValue().getText())
+				.contains("Problem while processing payment [20]").doesNotContain("Problem while processing payment [21]")
+				.contains("5 more notifications were omitted");
+	}
+
+	@Test
+	void dispatchPendingEmails_shouldKeepEmailsInOutboxAndStop_whenSendingFails() {
+		testObj = createTestObj(false);
+		final List<MailOutboxMessageEntity> emails = List.of(email(1L, "Subject 1"), email(2L, "Subject 2"));
+		when(mailOutboxMessageRepositoryMock.findUnclaimedOrderByIdAsc(any(LocalDateTime.class), any(Pageable.class)))
+				.thenReturn(emails);
+		doThrow(new MailSendException("Something went wrong")).when(javaMailSenderMock)
+				.send(any(SimpleMailMessage.class));
+
+		testObj.dispatchPendingEmails();
+
+		verify(javaMailSenderMock, times(1)).send(any(SimpleMailMessage.class));
+		verify(mailOutboxMessageRepositoryMock).saveAll(mailOutboxMessageEntitiesCaptor.capture());
+		assertThat(mailOutboxMessageEntitiesCaptor.getValue()).containsExactly(emails.get(0));
+		assertThat(emails.get(0).getAttempts()).isEqualTo(1);
+		assertThat(emails.get(1).getAttempts()).isZero();
+	}
+
+	@Test
+	void dispatchPendingEmails_shouldDiscardEmails_whenMaxAttemptsAreReached() {
+		testObj = createTestObj(false);
+		final MailOutboxMessageEntity email = email(1L, "Subject");
+		email.setAttempts(MAX_ATTEMPTS - 1);
+		when(mailOutboxMessageRepositoryMock.findUnclaimedOrderByIdAsc(any(LocalDateTime.class), any(Pageable.class)))
+				.thenReturn(List.of(email));
+		doThrow(new MailSendException("Something went wrong")).when(javaMailSenderMock)
+				.send(any(SimpleMailMessage.class));
+
+		testObj.dispatchPendingEmails();
+
+		verify(mailOutboxMessageRepositoryMock).deleteAll(List.of(email));
+		verify(mailOutboxMessageRepositoryMock).saveAll(List.of());
+	}
+
+	@Test
+	void dispatchPendingEmails_shouldDoNothing_whenOutboxIsEmpty() {
+		testObj = createTestObj(true);
+		when(mailOutboxMessageRepositoryMock.findUnclaimedOrderByIdAsc(any(LocalDateTime.class), any(Pageable.class)))
+				.thenReturn(new ArrayList<>());
+
+		testObj.dispatchPendingEmails();
+
+		verifyNoInteractions(javaMailSenderMock);
+	}
+
+	@Test
+	void dispatchPendingEmails_shouldOnlySendTheEmailsClaimedByThisNode() {
+		testObj = createTestObj(false);
+		final List<MailOutboxMessageEntity> emails = List.of(email(1L, "Subject 1"), email(2L, "Subject 2"));
+		when(mailOutboxMessageRepositoryMock.findUnclaimedOrderByIdAsc(any(LocalDateTime.class), any(Pageable.class)))
+				.thenReturn(emails);
+		when(mailOutboxMessageRepositoryMock.findIdsClaimedBy(anyCollection(), anyString())).thenReturn(List.of(2L));
+
+		testObj.dispatchPendingEmails();
+
+		verify(mailOutboxMessageRepositoryMock).claim(emailIdsCaptor.capture(), anyString(),
+				eq(NOW.plusSeconds(MailNotificationDispatcherImpl.CLAIM_SECONDS)), eq(NOW));
+		assertThat(emailIdsCaptor.getValue()).containsExactly(1L, 2L);
+		verify(javaMailSenderMock).send(simpleMailMessageCaptor.capture());
+		assertThat(simpleMailMessageCaptor.getValue().getSubject()).isEqualTo("Subject 2");
+		verify(mailOutboxMessageRepositoryMock).deleteAll(List.of(emails.get(1)));
+		verify(mailOutboxMessageRepositoryMock, never()).releaseClaims(anyCollection(), anyString());
+	}
+
+	@Test
+	void dispatchPendingEmails_shouldReleaseTheClaimsOfTheUnsentEmails_whenSendingFails() {
+		testObj = createTestObj(false);
+		final List<MailOutboxMessageEntity> emails = List.of(email(1L, "Subject 1"), email(2L, "Subject 2"));
+		when(mailOutboxMessageRepositoryMock.findUnclaimedOrderByIdAsc(any(LocalDateTime.class), any(Pageable.class)))
+				.thenReturn(emails);
+		doThrow(new MailSendException("Something went wrong")).when(javaMailSenderMock)
+				.send(any(SimpleMailMessage.class));
+
+		testObj.dispatchPendingEmails();
+
+		verify(mailOutboxMessageRepositoryMock).releaseClaims(emailIdsCaptor.capture(), anyString());
+		assertThat(emailIdsCaptor.getValue()).containsExactlyInAnyOrder(1L, 2L);
+		assertThat(emails.get(0).getClaimOwner()).isNull();
+	}
+
+	@Test
+	void dispatchPendingEmails_shouldHoldSimilarEmails_whenTheDigestWindowWasStartedByAnotherNode() {
+		testObj = createTestObj(true);
+		final String subjectKey = DigestUtils
+				.md5DigestAsHex("Problem while processing payment".getBytes(StandardCharsets.UTF_8));
+		digestWindows.put(subjectKey,
+				MailDigestWindowEntity.builder().subjectKey(subjectKey).lastSentTime(NOW.minusSeconds(1)).build());
+		final MailOutboxMessageEntity payment = email(1L, "Problem while processing payment [1]");
+		final MailOutboxMessageEntity otherIssue = email(2L, "Issue detected getting documents from Mirakl");
+		when(mailOutboxMessageRepositoryMock.findUnclaimedOrderByIdAsc(any(LocalDateTime.class), any(Pageable.class)))
+				.thenReturn(List.of(payment, otherIssue));
+
+		testObj.dispatchPendingEmails();
+
+		verify(javaMailSenderMock).send(simpleMailMessageCaptor.capture());
+		assertThat(simpleMailMessageCaptor.getValue().getSubject())
+				.isEqualTo("Issue detected getting documents from Mirakl");
+		verify(mailOutboxMessageRepositoryMock).deleteAll(List.of(otherIssue));
+	}
+
+	@Test
+	void startDispatcher_shouldScheduleTheDispatchDecoratedByTheTaskDecorator() {
+		final List<Runnable> decoratedTasks = new ArrayList<>();
+		final TaskDecorator taskDecorator = runnable -> {
+			decoratedTasks.add(runnable);
+			return runnable;
+		};
+		testObj = new MailNotificationDispatcherImpl(mailOutboxMessageRepositoryMock, mailDigestWindowRepositoryMock,
+				javaMailSenderMock,
+				mailConfigurationMock, 60, MAX_ATTEMPTS, false, DIGEST_WINDOW_SECONDS, Optional.of(taskDecorator));
+
+		testObj.startDispatcher();
+		testObj.shutdown();
+
+		assertThat(decoratedTasks).hasSize(1);
+	}
+
+	private MailNotificationDispatcherImpl createTestObj(final boolean digestEnabled) {
+		return new MailNotificationDispatcherImpl(mailOutboxMessageRepositoryMock, mailDigestWindowRepositoryMock,
+				javaMailSenderMock,
+				mailConfigurationMock, 0, MAX_ATTEMPTS, digestEnabled, DIGEST_WINDOW_SECONDS, Optional.empty());
+	}
+
+	private MailOutboxMessageEntity email(final Long id, final String subject) {
+		return MailOutboxMessageEntity.builder().id(id).subject(subject).body("Body of " + subject)
+				.creationDate(TimeMachine.now()).build();
+	}
+
+}
@@ -2,7 +2,10 @@ package com.paypal.infrastructure.mail.impl;
 
 import com.callibrity.logging.test.LogTracker;
 import com.callibrity.logging.test.LogTrackerStub;
-import com.paypal.infrastructure.configuration.MailConfiguration;
+import com.paypal.infrastructure.mail.entities.MailOutboxMessageEntity;
+import com.paypal.infrastructure.mail.repository.MailOutboxMessageRepository;
+import com.paypal.infrastructure.util.TimeMachine;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.RegisterExtension;
@@ -11,8 +14,8 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
+
+import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -29,47 +32,45 @@ class MailNotificationUtilImplTest {
 
 	private static final String BODY = "Body";
 
-	private static final String FROM_EMAIL = "from@mail.com";
-
-	private static final String RECIPIENTS_EMAILS = "recipient1@mail.com";
+	private static final LocalDateTime NOW = LocalDateTime.of(2023, 3, 1, 10, 0);
 
 	@InjectMocks
 	private MailNotificationUtilImpl testObj;
 
 	@Captor
-	private ArgumentCaptor<SimpleMailMessage> simpleMailMessageCaptor;
+	private ArgumentCaptor<MailOutboxMessageEntity> mailOutboxMessageEntityCaptor;
 
 	@Mock
-	private MailConfiguration sellersMailConfigurationMock;
+	private MailOutboxMessageRepository mailOutboxMessageRepositoryMock;
 
-	@Mock
-	private JavaMailSender javaMailSenderMock;
+	@AfterEach
+	void tearDown() {
+		TimeMachine.useSystemDefaultZoneClock();
+	}
 
 	@Test
-	void sendPlainTextEmailWithMessagePrefix_shouldSendAnEmailWithInformationProvided() {
-		when(sellersMailConfigurationMock.getFromNotificationEmail()).thenReturn(FROM_EMAIL);
-		when(sellersMailConfigurationMock.getNotificationRecipients()).thenReturn(RECIPIENTS_EMAILS);
+	void sendPlainTextEmail_shouldQueueAnEmailWithInformationProvided() {
+		TimeMachine.useFixedClockAt(NOW);
 
 		testObj.sendPlainTextEmail(SUBJECT, BODY);
 
-		verify(javaMailSenderMock).send(simpleMailMessageCaptor.capture());
+		verify(mailOutboxMessageRepositoryMock).save(mailOutboxMessageEntityCaptor.capture());
 
-		final SimpleMailMessage emailContent = simpleMailMessageCaptor.getValue();
-		assertThat(emailContent.getSubject()).isEqualTo(SUBJECT);
-		assertThat(emailContent.getText()).isEqualTo(BODY);
-		assertThat(emailContent.getFrom()).isEqualTo(FROM_EMAIL);
-		assertThat(emailContent.getTo()).containsExactlyInAnyOrder(RECIPIENTS_EMAILS);
+		final MailOutboxMessageEntity email = mailOutboxMessageEntityCaptor.getValue();
+		assertThat(email.getSubject()).isEqualTo(SUBJECT);
+		assertThat(email.getBody()).isEqualTo(BODY);
+		assertThat(email.getCreationDate()).isEqualTo(NOW);
+		assertThat(email.getAttempts()).isZero();
 	}
 
 	@Test
-	void sendPlainTextEmailWithMessagePrefix_shouldNotRethrowAnExceptionWhenSendingEmailFails() {
-		logTrackerStub.recordForLevel(LogTracker.LogLevel.ERROR);
-		doThrow(new RuntimeException("Something went wrong")).when(javaMailSenderMock)
-				.send(any(SimpleMailMessage.class));
+	void sendPlainTextEmail_shouldNotRethrowAnExceptionWhenQueueingEmailFails() {
+		doThrow(new RuntimeException("Something went wrong")).when(mailOutboxMessageRepositoryMock)
+				.save(any(MailOutboxMessageEntity.class));
 
 		testObj.sendPlainTextEmail(SUBJECT, BODY);
 
-		assertThat(logTrackerStub.contains("Email could not be sent.")).isTrue();
+		assertThat(logTrackerStub.contains("Email could not be queued to be sent.")).isTrue();
 	}
 
 }
@@ -0,0 +1,121 @@
+package com.paypal.infrastructure.miraklshopupdates.listeners;
+
+import com.paypal.infrastructure.batchjob.BatchJobContext;
+import com.paypal.infrastructure.batchjob.BatchJobFailedItemService;
+import com.paypal.infrastructure.batchjob.BatchJobItem;
+import com.paypal.infrastructure.batchjob.BatchJobTrackingService;
+import com.paypal.infrastructure.miraklshopupdates.services.MiraklShopUpdatesAggregator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MiraklShopUpdatesBatchJobListenerTest {
+
+	private static final String JOB_UUID = "jobUuid";
+
+	@InjectMocks
+	private MiraklShopUpdatesBatchJobListener testObj;
+
+	@Mock
+	private MiraklShopUpdatesAggregator miraklShopUpdatesAggregatorMock;
+
+	@Mock
+	private BatchJobFailedItemService batchJobFailedItemServiceMock;
+
+	@Mock
+	private BatchJobTrackingService batchJobTrackingServiceMock;
+
+	@Mock
+	private BatchJobContext batchJobContextMock;
+
+	@Mock
+	private BatchJobItem<Object> batchJobItemMock;
+
+	@Mock
+	private Exception exceptionMock;
+
+	@Test
+	void beforeProcessingItem_shouldBindItem() {
+		testObj.beforeProcessingItem(batchJobContextMock, batchJobItemMock);
+
+		verify(miraklShopUpdatesAggregatorMock).bindItem(batchJobContextMock, batchJobItemMock);
+	}
+
+	@Test
+	void onItemProcessingSuccess_shouldUnbindItem() {
+		testObj.onItemProcessingSuccess(batchJobContextMock, batchJobItemMock);
+
+		verify(miraklShopUpdatesAggregatorMock).unbindItem();
+	}
+
+	@Test
+	void onItemProcessingFailure_shouldUnbindItem() {
+		testObj.onItemProcessingFailure(batchJobContextMock, batchJobItemMock, exceptionMock);
+
+		verify(miraklShopUpdatesAggregatorMock).unbindItem();
+	}
+
+	@Test
+	void onItemsProcessingFinished_shouldMoveItemsFromProcessedToFailed_whenShopUpdatesFailed() {
+		when(batchJobContextMock.getJobUuid()).thenReturn(JOB_UUID);
+		when(miraklShopUpdatesAggregatorMock.flush(batchJobContextMock)).thenReturn(List.of(batchJobItemMock));
+
+		testObj.onItemsProcessingFinished(batchJobContextMock);
+
+		verify(batchJobContextMock).markProcessedItemAsFailed();
+		verify(batchJobTrackingServiceMock).trackProcessedJobItemAsFailed(JOB_UUID, batchJobItemMock);
+		verify(batchJobFailedItemServiceMock).saveItemFailed(batchJobItemMock);
+		verify(batchJobContextMock, never()).incrementFailedItems();
+		verify(batchJobContextMock, never()).setFinishedWithFailuresStatus();
+	}
+
+	@Test
+	void onItemsProcessingFinished_shouldNotMoveItems_whenTheyHadAlreadyFailed() {
+		when(batchJobContextMock.getJobUuid()).thenReturn(JOB_UUID);
+		when(batchJobItemMock.getItemType()).thenReturn("itemType");
+		when(batchJobItemMock.getItemId()).thenReturn("itemId");
+		when(miraklShopUpdatesAggregatorMock.flush(batchJobContextMock)).thenReturn(List.of(batchJobItemMock));
+
+		testObj.onItemProcessingFailure(batchJobContextMock, batchJobItemMock, exceptionMock);
+		testObj.onItemsProcessingFinished(batchJobContextMock);
+
+		verify(batchJobContextMock, never()).markProcessedItemAsFailed();
+		verify(batchJobTrackingServiceMock, never()).trackProcessedJobItemAsFailed(any(), any());
+		verify(batchJobFailedItemServiceMock, never()).saveItemFailed(any());
+	}
+
+	@Test
+	void onItemsProcessingFinished_shouldNotMoveItems_whenAllShopUpdatesSucceeded() {
+		when(miraklShopUpdatesAggregatorMock.flush(batchJobContextMock)).thenReturn(List.of());
+
+		testObj.onItemsProcessingFinished(batchJobContextMock);
+
+		verify(batchJobContextMock, never()).markProcessedItemAsFailed();
+		verify(batchJobFailedItemServiceMock, never()).saveItemFailed(any());
+	}
+
+	@Test
+	void onBatchJobFinished_shouldNotFlushQueuedUpdates() {
+		testObj.onBatchJobFinished(batchJobContextMock);
+
+		verify(miraklShopUpdatesAggregatorMock, never()).flush(any());
+	}
+
+	@Test
+	void onBatchJobFailure_shouldFlushQueuedUpdates() {
+		when(miraklShopUpdatesAggregatorMock.flush(batchJobContextMock)).thenReturn(List.of());
+
+		testObj.onBatchJobFailure(batchJobContextMock, exceptionMock);
+
+		verify(miraklShopUpdatesAggregatorMock).flush(batchJobContextMock);
+	}
+
+}
@@ -0,0 +1,94 @@
+package com.paypal.infrastructure.miraklshopupdates.model;
+
+import com.mirakl.client.mmp.operator.domain.shop.update.MiraklUpdateShop;
+import com.mirakl.client.mmp.request.additionalfield.MiraklRequestAdditionalFieldValue.MiraklSimpleRequestAdditionalFieldValue;
+import com.paypal.infrastructure.batchjob.BatchJobItem;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PendingMiraklShopUpdateTest {
+
+	private static final Long SHOP_ID = 2000L;
+
+	private final PendingMiraklShopUpdate testObj = new PendingMiraklShopUpdate(SHOP_ID);
+
+	@Mock
+	private BatchJobItem<?> batchJobItemMock1;
+
+	@Mock
+	private BatchJobItem<?> batchJobItemMock2;
+
+	@Test
+	void merge_shouldKeepFieldsOfEveryUpdate_andLastRequestedValues() {
+		final MiraklUpdateShop firstUpdate = shopUpdate("field1", "value1");
+		final MiraklUpdateShop secondUpdate = shopUpdate("field2", "value2");
+		final MiraklUpdateShop thirdUpdate = shopUpdate("field1", "newValue1");
+
+		testObj.merge(firstUpdate, batchJobItemMock1);
+		testObj.merge(secondUpdate, batchJobItemMock1);
+		testObj.merge(thirdUpdate, null);
+
+		final MiraklUpdateShop result = testObj.toMiraklUpdateShop();
+		assertThat(result).isNotSameAs(firstUpdate);
+		assertThat(result.getShopId()).isEqualTo(SHOP_ID);
+		assertThat(result.getAdditionalFieldValues())
+				.extracting(field -> ((MiraklSimpleRequestAdditionalFieldValue) field).getValue())
+				.containsExactly("newValue1", "value2");
+		assertThat(testObj.getOriginatingItems()).containsExactly(batchJobItemMock1);
+	}
+
+	@Test
+	void merge_shouldKeepTheLastRequestedValue_whenALaterUpdateResetsAField() {
+		testObj.merge(shopUpdate("field1", "value1"), batchJobItemMock1);
+		testObj.merge(shopUpdate("field1", null), batchJobItemMock1);
+
+		final MiraklUpdateShop result = testObj.toMiraklUpdateShop();
+		assertThat(result.getAdditionalFieldValues())
+				.extracting(field -> ((MiraklSimpleRequestAdditionalFieldValue) field).getValue()).containsOnlyNulls();
+	}
+
+	@Test
+	void merge_shouldNotModifyTheRequestedUpdates() {
+		final MiraklUpdateShop firstUpdate = shopUpdate("field1", "value1");
+
+		testObj.merge(firstUpdate, batchJobItemMock1);
+		testObj.merge(shopUpdate("field1", "value2"), batchJobItemMock1);
+		testObj.toMiraklUpdateShop();
+
+		assertThat(firstUpdate.getAdditionalFieldValues())
+				.extracting(field -> ((MiraklSimpleRequestAdditionalFieldValue) field).getValue())
+				.containsExactly("value1");
+	}
+
+	@Test
+	void merge_shouldAddEveryOriginatingItemOnce() {
+		when(batchJobItemMock1.getItemType()).thenReturn("type");
+		when(batchJobItemMock1.getItemId()).thenReturn("1");
+		when(batchJobItemMock2.getItemType()).thenReturn("type");
+		when(batchJobItemMock2.getItemId()).thenReturn("2");
+
+		testObj.merge(shopUpdate("field1", "value1"), batchJobItemMock1);
+		testObj.merge(shopUpdate("field2", "value2"), batchJobItemMock2);
+		testObj.merge(shopUpdate("field3", "value3"), batchJobItemMock1);
+
+		assertThat(testObj.getOriginatingItems()).containsExactly(batchJobItemMock1, batchJobItemMock2);
+	}
+
+	private static MiraklUpdateShop shopUpdate(final String fieldCode, final String fieldValue) {
+		final MiraklUpdateShop miraklUpdateShop = new MiraklUpdateShop();
+		miraklUpdateShop.setShopId(SHOP_ID);
+		miraklUpdateShop.setAdditionalFieldValues(
+				List.of(new MiraklSimpleRequestAdditionalFieldValue(fieldCode, fieldValue)));
+
+		return miraklUpdateShop;
+	}
+
+}
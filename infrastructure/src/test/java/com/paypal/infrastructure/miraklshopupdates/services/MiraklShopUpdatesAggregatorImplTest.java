@@ -0,0 +1,234 @@
+package com.paypal.infrastructure.miraklshopupdates.services;
+
+import com.mirakl.client.core.exception.MiraklException;
+import com.mirakl.client.mmp.operator.domain.shop.update.MiraklUpdateShop;
+import com.mirakl.client.mmp.operator.domain.shop.update.MiraklUpdateShopWithErrors;
+import com.mirakl.client.mmp.operator.domain.shop.update.MiraklUpdatedShopReturn;
+import com.mirakl.client.mmp.operator.domain.shop.update.MiraklUpdatedShops;
+import com.mirakl.client.mmp.operator.request.shop.MiraklUpdateShopsRequest;
+import com.mirakl.client.mmp.request.additionalfield.MiraklRequestAdditionalFieldValue.MiraklSimpleRequestAdditionalFieldValue;
+import com.paypal.infrastructure.batchjob.BatchJobContext;
+import com.paypal.infrastructure.batchjob.BatchJobItem;
+import com.paypal.infrastructure.mail.MailNotificationUtil;
+import com.paypal.infrastructure.sdk.mirakl.MiraklMarketplacePlatformOperatorApiWrapper;
+import com.paypal.infrastructure.util.TimeMachine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MiraklShopUpdatesAggregatorImplTest {
+
+	private static final String JOB_UUID = "jobUuid";
+
+	private static final int MAX_SHOPS_PER_REQUEST = 2;
+
+	private static final long MAX_DELAY_SECONDS = 60;
+
+	private MiraklShopUpdatesAggregatorImpl testObj;
+
+	@Mock
+	private MiraklMarketplacePlatformOperatorApiWrapper miraklOperatorClientMock;
+
+	@Mock
+	private MailNotificationUtil mailNotificationUtilMock;
+
+	@Mock
+	private BatchJobContext batchJobContextMock;
+
+	@Mock
+	private BatchJobItem<Object> batchJobItemMock1, batchJobItemMock2, batchJobItemMock3;
+
+	@Mock
+	private MiraklUpdatedShops miraklUpdatedShopsMock;
+
+	@Mock
+	private MiraklUpdatedShopReturn miraklUpdatedShopReturnMock;
+
+	@Mock
+	private MiraklUpdateShopWithErrors miraklUpdateShopWithErrorsMock;
+
+	@Captor
+	private ArgumentCaptor<MiraklUpdateShopsRequest> miraklUpdateShopsRequestCaptor;
+
+	@BeforeEach
+	void setUp() {
+		TimeMachine.useFixedClockAt(LocalDateTime.of(2023, 1, 1, 10, 0));
+		testObj = new MiraklShopUpdatesAggregatorImpl(miraklOperatorClientMock, mailNotificationUtilMock, true,
+				MAX_SHOPS_PER_REQUEST, MAX_DELAY_SECONDS);
+	}
+
+	@AfterEach
+	void tearDown() {
+		testObj.unbindItem();
+		TimeMachine.useSystemDefaultZoneClock();
+	}
+
+	@Test
+	void updateShop_shouldSendUpdateImmediately_whenNoItemIsBound() {
+		when(miraklOperatorClientMock.updateShops(any(MiraklUpdateShopsRequest.class)))
+				.thenReturn(miraklUpdatedShopsMock);
+
+		final Optional<MiraklUpdatedShops> result = testObj.updateShop(shopUpdate(1L, "field", "value"));
+
+		assertThat(result).contains(miraklUpdatedShopsMock);
+		verify(miraklOperatorClientMock).updateShops(miraklUpdateShopsRequestCaptor.capture());
+		assertThat(miraklUpdateShopsRequestCaptor.getValue().getShops()).hasSize(1);
+	}
+
+	@Test
+	void updateShop_shouldSendUpdateImmediately_whenAggregationIsDisabled() {
+		testObj = new MiraklShopUpdatesAggregatorImpl(miraklOperatorClientMock, mailNotificationUtilMock, false,
+				MAX_SHOPS_PER_REQUEST, MAX_DELAY_SECONDS);
+		when(miraklOperatorClientMock.updateShops(any(MiraklUpdateShopsRequest.class)))
+				.thenReturn(miraklUpdatedShopsMock);
+
+		testObj.bindItem(batchJobContextMock, batchJobItemMock1);
+		final Optional<MiraklUpdatedShops> result = testObj.updateShop(shopUpdate(1L, "field", "value"));
+
+		assertThat(result).contains(miraklUpdatedShopsMock);
+	}
+
+	@Test
+	void updateShop_shouldQueueUpdate_whenItemIsBound() {
+		when(batchJobContextMock.getJobUuid()).thenReturn(JOB_UUID);
+
+		testObj.bindItem(batchJobContextMock, batchJobItemMock1);
+		final Optional<MiraklUpdatedShops> result = testObj.updateShop(shopUpdate(1L, "field", "value"));
+
+		assertThat(result).isEmpty();
+		verifyNoInteractions(miraklOperatorClientMock);
+	}
+
+	@Test
+	void flush_shouldMergeUpdatesForTheSameShopInASingleRequest() {
+		when(batchJobContextMock.getJobUuid()).thenReturn(JOB_UUID);
+		when(miraklOperatorClientMock.updateShops(any(MiraklUpdateShopsRequest.class)))
+				.thenReturn(miraklUpdatedShopsMock);
+
+		testObj.bindItem(batchJobContextMock, batchJobItemMock1);
+		testObj.updateShop(shopUpdate(1L, "field1", "value1"));
+		testObj.bindItem(batchJobContextMock, batchJobItemMock2);
+		testObj.updateShop(shopUpdate(1L, "field2", "value2"));
+		testObj.updateShop(shopUpdate(1L, "field1", "newValue1"));
+		testObj.unbindItem();
+
+		final Collection<BatchJobItem<?>> result = testObj.flush(batchJobContextMock);
+
+		assertThat(result).isEmpty();
+		verify(miraklOperatorClientMock).updateShops(miraklUpdateShopsRequestCaptor.capture());
+		final List<MiraklUpdateShop> shops = miraklUpdateShopsRequestCaptor.getValue().getShops();
+		assertThat(shops).hasSize(1);
+		assertThat(shops.get(0).getAdditionalFieldValues()).hasSize(2)
+				.extracting(field -> ((MiraklSimpleRequestAdditionalFieldValue) field).getValue())
+				.containsExactly("newValue1", "value2");
+	}
+
+	@Test
+	void updateShop_shouldSendQueuedUpdates_whenMaxShopsPerRequestIsReached() {
+		when(batchJobContextMock.getJobUuid()).thenReturn(JOB_UUID);
+		when(miraklOperatorClientMock.updateShops(any(MiraklUpdateShopsRequest.class)))
+				.thenReturn(miraklUpdatedShopsMock);
+
+		testObj.bindItem(batchJobContextMock, batchJobItemMock1);
+		testObj.updateShop(shopUpdate(1L, "field", "value"));
+		testObj.updateShop(shopUpdate(2L, "field", "value"));
+		testObj.updateShop(shopUpdate(3L, "field", "value"));
+
+		verify(miraklOperatorClientMock).updateShops(miraklUpdateShopsRequestCaptor.capture());
+		assertThat(miraklUpdateShopsRequestCaptor.getValue().getShops()).extracting(MiraklUpdateShop::getShopId)
+				.containsExactly(1L, 2L);
+	}
+
+	@Test
+	void unbindItem_shouldSendQueuedUpdates_whenMaxDelayIsExceeded() {
+		when(batchJobContextMock.getJobUuid()).thenReturn(JOB_UUID);
+		when(miraklOperatorClientMock.updateShops(any(MiraklUpdateShopsRequest.class)))
+				.thenReturn(miraklUpdatedShopsMock);
+
+		testObj.bindItem(batchJobContextMock, batchJobItemMock1);
+		testObj.updateShop(shopUpdate(1L, "field", "value"));
+		TimeMachine.useFixedClockAt(LocalDateTime.of(2023, 1, 1, 10, 1, 1));
+		testObj.unbindItem();
+
+		verify(miraklOperatorClientMock).updateShops(any(MiraklUpdateShopsRequest.class));
+	}
+
+	@Test
+	void flush_shouldReturnOriginatingItems_whenMiraklRejectsTheShopUpdate() {
+		when(batchJobContextMock.getJobUuid()).thenReturn(JOB_UUID);
+		when(miraklOperatorClientMock.updateShops(any(MiraklUpdateShopsRequest.class)))
+				.thenReturn(miraklUpdatedShopsMock);
+		final MiraklUpdateShop rejectedShopUpdate = shopUpdate(2L, "field", "value");
+		when(miraklUpdatedShopsMock.getShopReturns()).thenReturn(List.of(miraklUpdatedShopReturnMock));
+		when(miraklUpdatedShopReturnMock.getShopError()).thenReturn(miraklUpdateShopWithErrorsMock);
+		when(miraklUpdateShopWithErrorsMock.getInput()).thenReturn(rejectedShopUpdate);
+
+		testObj.bindItem(batchJobContextMock, batchJobItemMock1);
+		testObj.updateShop(shopUpdate(1L, "field", "value"));
+		testObj.bindItem(batchJobContextMock, batchJobItemMock2);
+		testObj.updateShop(rejectedShopUpdate);
+		testObj.unbindItem();
+
+		final Collection<BatchJobItem<?>> result = testObj.flush(batchJobContextMock);
+
+		assertThat(result).containsExactly(batchJobItemMock2);
+		verify(mailNotificationUtilMock).sendPlainTextEmail(anyString(), anyString());
+	}
+
+	@Test
+	void flush_shouldReturnAllItemsOfTheRequest_whenMiraklRequestFails() {
+		when(batchJobContextMock.getJobUuid()).thenReturn(JOB_UUID);
+		when(miraklOperatorClientMock.updateShops(any(MiraklUpdateShopsRequest.class)))
+				.thenThrow(new MiraklException("Something went wrong"));
+
+		testObj.bindItem(batchJobContextMock, batchJobItemMock1);
+		testObj.updateShop(shopUpdate(1L, "field", "value"));
+		testObj.bindItem(batchJobContextMock, batchJobItemMock2);
+		testObj.updateShop(shopUpdate(2L, "field", "value"));
+		testObj.bindItem(batchJobContextMock, batchJobItemMock3);
+		testObj.updateShop(shopUpdate(3L, "field", "value"));
+		testObj.unbindItem();
+
+		final Collection<BatchJobItem<?>> result = testObj.flush(batchJobContextMock);
+
+		assertThat(result).containsExactlyInAnyOrder(batchJobItemMock1, batchJobItemMock2, batchJobItemMock3);
+		verify(miraklOperatorClientMock, times(2)).updateShops(any(MiraklUpdateShopsRequest.class));
+	}
+
+	@Test
+	void flush_shouldDoNothing_whenThereAreNoQueuedUpdates() {
+		when(batchJobContextMock.getJobUuid()).thenReturn(JOB_UUID);
+
+		final Collection<BatchJobItem<?>> result = testObj.flush(batchJobContextMock);
+
+		assertThat(result).isEmpty();
+		verifyNoInteractions(miraklOperatorClientMock);
+	}
+
+	private MiraklUpdateShop shopUpdate(final Long shopId, final String code, final String value) {
+		final MiraklSimpleRequestAdditionalFieldValue additionalFieldValue = new MiraklSimpleRequestAdditionalFieldValue();
+		additionalFieldValue.setCode(code);
+		additionalFieldValue.setValue(value);
+		final MiraklUpdateShop miraklUpdateShop = new MiraklUpdateShop();
+		miraklUpdateShop.setShopId(shopId);
+		miraklUpdateShop.setAdditionalFieldValues(List.of(additionalFieldValue));
+		return miraklUpdateShop;
+	}
+
+}
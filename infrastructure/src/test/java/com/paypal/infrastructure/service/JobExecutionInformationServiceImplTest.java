@@ -0,0 +1,110 @@
+package com.paypal.infrastructure.service;
+
+import com.paypal.infrastructure.model.entity.JobExecutionInformationEntity;
+import com.paypal.infrastructure.model.job.JobStatus;
+import com.paypal.infrastructure.repository.JobExecutionInformationRepository;
+import com.paypal.infrastructure.util.DateUtil;
+import com.paypal.infrastructure.util.TimeMachine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JobExecutionInformationServiceImplTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2020, 11, 15, 22, 20);
+
+	private static final String JOB_TYPE = "MyJob";
+
+	private static final String JOB_NAME = "myJobName";
+
+	private JobExecutionInformationServiceImpl testObj;
+
+	@Mock
+	private JobExecutionInformationRepository jobExecutionInformationRepositoryMock;
+
+	@Mock
+	private JobExecutionInformationEntity jobExecutionInformationEntityMock;
+
+	@BeforeEach
+	void setUp() {
+		TimeMachine.useFixedClockAt(NOW);
+		testObj = new JobExecutionInformationServiceImpl(jobExecutionInformationRepositoryMock);
+	}
+
+	@AfterEach
+	void tearDown() {
+		TimeMachine.useSystemDefaultZoneClock();
+	}
+
+	@Test
+	void jobStarted_shouldSaveARunningExecutionAndKeepItAsTheLastExecutionOfTheJob() {
+		when(jobExecutionInformationRepositoryMock.save(any(JobExecutionInformationEntity.class)))
+				.thenAnswer(invocation -> invocation.getArgument(0));
+
+		final JobExecutionInformationEntity result = testObj.jobStarted(JOB_TYPE, JOB_NAME);
+
+		//@formatter:off
+		assertThat(result).hasFieldOrPropertyWithValue("type", JOB_TYPE)
+				.hasFieldOrPropertyWithValue("name", JOB_NAME)
+				.hasFieldOrPropertyWithValue("startTime", now())
+				.hasFieldOrPropertyWithValue("status", JobStatus.RUNNING);
+		//@formatter:on
+		assertThat(testObj.getLastExecutions()).containsExactly(result);
+	}
+
+	@Test
+	void jobFinished_shouldSaveTheCompletedExecutionAndKeepItAsTheLastCompletedExecutionOfItsType() {
+		when(jobExecutionInformationRepositoryMock.save(any(JobExecutionInformationEntity.class)))
+				.thenAnswer(invocation -> invocation.getArgument(0));
+		final JobExecutionInformationEntity started = testObj.jobStarted(JOB_TYPE, JOB_NAME);
+
+		testObj.jobFinished(started);
+
+		assertThat(started).hasFieldOrPropertyWithValue("endTime", now()).hasFieldOrPropertyWithValue("status",
+				JobStatus.COMPLETED);
+		verify(jobExecutionInformationRepositoryMock, times(2)).save(started);
+		assertThat(testObj.getLastExecutions()).containsExactly(started);
+		assertThat(testObj.getLastCompletedExecution(JOB_TYPE)).contains(started);
+		verify(jobExecutionInformationRepositoryMock, never()).findTopByTypeAndEndTimeIsNotNullOrderByIdDesc(any());
+	}
+
+	@Test
+	void getLastCompletedExecution_shouldReadTheLastCompletedExecutionFromTheDatabaseOnlyOnce() {
+		when(jobExecutionInformationRepositoryMock.findTopByTypeAndEndTimeIsNotNullOrderByIdDesc(JOB_TYPE))
+				.thenReturn(jobExecutionInformationEntityMock);
+
+		testObj.getLastCompletedExecution(JOB_TYPE);
+		final Optional<JobExecutionInformationEntity> result = testObj.getLastCompletedExecution(JOB_TYPE);
+
+		assertThat(result).contains(jobExecutionInformationEntityMock);
+		verify(jobExecutionInformationRepositoryMock).findTopByTypeAndEndTimeIsNotNullOrderByIdDesc(JOB_TYPE);
+	}
+
+	@Test
+	void getLastCompletedExecution_shouldReturnEmpty_whenTheJobTypeWasNeverCompleted() {
+		final Optional<JobExecutionInformationEntity> result = testObj.getLastCompletedExecution(JOB_TYPE);
+
+		assertThat(result).isEmpty();
+	}
+
+	private static Date now() {
+		return DateUtil.convertToDate(NOW, ZoneId.systemDefault());
+	}
+
+}
@@ -27,6 +27,9 @@ class MultipleAbstractStrategyExecutorTest {
 	@Mock
 	private Strategy<Object, Object> strategyOneMock, strategyTwoMock;
 
+	@Mock
+	private KeyedStrategy<Object, Object> keyedStrategyOneMock, keyedStrategyTwoMock;
+
 	@Test
 	void execute_whenStrategyIsApplicable_shouldCallToStrategyConvertMethod() {
 		when(strategyOneMock.isApplicable(sourceMock)).thenReturn(Boolean.TRUE);
@@ -79,6 +82,50 @@ class MultipleAbstractStrategyExecutorTest {
 		verify(strategyTwoMock, never()).execute(sourceMock);
 	}
 
+	@Test
+	void execute_whenKeyedStrategiesAreRegisteredForTheKey_shouldOnlyCheckThemAndStrategiesWithoutKey() {
+		when(keyedStrategyOneMock.getStrategyKeys()).thenReturn(Set.of("KEY_1"));
+		when(keyedStrategyTwoMock.getStrategyKeys()).thenReturn(Set.of("KEY_2"));
+		when(keyedStrategyOneMock.isApplicable(sourceMock)).thenReturn(true);
+		when(strategyOneMock.isApplicable(sourceMock)).thenReturn(true);
+		doReturn(Set.of(keyedStrategyOneMock, keyedStrategyTwoMock, strategyOneMock)).when(testObj).getStrategies();
+		doReturn("KEY_1").when(testObj).getStrategyKey(sourceMock);
+
+		testObj.execute(sourceMock);
+
+		verify(keyedStrategyOneMock).execute(sourceMock);
+		verify(strategyOneMock).execute(sourceMock);
+		verify(keyedStrategyTwoMock, never()).isApplicable(sourceMock);
+	}
+
+	@Test
+	void execute_whenNoKeyedStrategyIsRegisteredForTheKey_shouldCheckAllStrategies() {
+		when(keyedStrategyOneMock.getStrategyKeys()).thenReturn(Set.of("KEY_1"));
+		when(keyedStrategyOneMock.isApplicable(sourceMock)).thenReturn(true);
+		doReturn(Set.of(keyedStrategyOneMock, strategyOneMock)).when(testObj).getStrategies();
+		doReturn("UNKNOWN_KEY").when(testObj).getStrategyKey(sourceMock);
+
+		testObj.execute(sourceMock);
+
+		verify(keyedStrategyOneMock).execute(sourceMock);
+		verify(strategyOneMock).isApplicable(sourceMock);
+	}
+
+	@Test
+	void execute_whenSetOfStrategiesChanges_shouldRebuildDispatchTable() {
+		when(keyedStrategyOneMock.getStrategyKeys()).thenReturn(Set.of("KEY_1"));
+		when(keyedStrategyTwoMock.getStrategyKeys()).thenReturn(Set.of("KEY_1"));
+		when(keyedStrategyTwoMock.isApplicable(sourceMock)).thenReturn(true);
+		doReturn("KEY_1").when(testObj).getStrategyKey(sourceMock);
+		doReturn(Set.of(keyedStrategyOneMock)).when(testObj).getStrategies();
+		testObj.execute(sourceMock);
+
+		doReturn(Set.of(keyedStrategyTwoMock)).when(testObj).getStrategies();
+		testObj.execute(sourceMock);
+
+		verify(keyedStrategyTwoMock).execute(sourceMock);
+	}
+
 	private static class MyMultipleAbstractStrategyExecutor extends MultipleAbstractStrategyExecutor<Object, String> {
 
 		@Override
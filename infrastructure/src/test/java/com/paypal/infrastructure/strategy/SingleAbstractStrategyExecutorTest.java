@@ -0,0 +1,141 @@
+package com.paypal.infrastructure.strategy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SingleAbstractStrategyExecutorTest {
+
+	private static final String RESULT = "result";
+
+	@Spy
+	@InjectMocks
+	private MySingleAbstractStrategyExecutor testObj;
+
+	@Mock
+	private Object sourceMock;
+
+	@Mock
+	private Strategy<Object, String> strategyOneMock, strategyTwoMock;
+
+	@Mock
+	private KeyedStrategy<Object, String> keyedStrategyOneMock, keyedStrategyTwoMock;
+
+	@Test
+	void execute_whenStrategyIsApplicable_shouldReturnResultOfStrategy() {
+		when(strategyOneMock.isApplicable(sourceMock)).thenReturn(true);
+		when(strategyOneMock.execute(sourceMock)).thenReturn(RESULT);
+		doReturn(Set.of(strategyOneMock)).when(testObj).getStrategies();
+
+		final String result = testObj.execute(sourceMock);
+
+		assertThat(result).isEqualTo(RESULT);
+	}
+
+	@Test
+	void execute_whenNullSetIsReceived_shouldReturnNull() {
+		doReturn(null).when(testObj).getStrategies();
+
+		final String result = testObj.execute(sourceMock);
+
+		assertThat(result).isNull();
+	}
+
+	@Test
+	void execute_whenEmptySetOfStrategies_shouldReturnNull() {
+		doReturn(Collections.emptySet()).when(testObj).getStrategies();
+
+		final String result = testObj.execute(sourceMock);
+
+		assertThat(result).isNull();
+	}
+
+	@Test
+	void execute_whenNoStrategiesAreApplicable_shouldReturnNull() {
+		doReturn(Set.of(strategyOneMock, strategyTwoMock)).when(testObj).getStrategies();
+
+		final String result = testObj.execute(sourceMock);
+
+		assertThat(result).isNull();
+		verify(strategyOneMock, never()).execute(sourceMock);
+		verify(strategyTwoMock, never()).execute(sourceMock);
+	}
+
+	@Test
+	void execute_whenKeyedStrategyIsRegisteredForTheKey_shouldOnlyCheckStrategiesOfTheKey() {
+		when(keyedStrategyOneMock.getStrategyKeys()).thenReturn(Set.of("KEY_1"));
+		when(keyedStrategyTwoMock.getStrategyKeys()).thenReturn(Set.of("KEY_2"));
+		when(keyedStrategyOneMock.isApplicable(sourceMock)).thenReturn(true);
+		when(keyedStrategyOneMock.execute(sourceMock)).thenReturn(RESULT);
+		doReturn(Set.of(keyedStrategyOneMock, keyedStrategyTwoMock, strategyOneMock)).when(testObj).getStrategies();
+		doReturn("KEY_1").when(testObj).getStrategyKey(sourceMock);
+
+		final String result = testObj.execute(sourceMock);
+
+		assertThat(result).isEqualTo(RESULT);
+		verify(keyedStrategyTwoMock, never()).isApplicable(sourceMock);
+		verify(strategyOneMock, never()).isApplicable(sourceMock);
+	}
+
+	@Test
+	void execute_whenNoKeyedStrategyOfTheKeyIsApplicable_shouldCheckStrategiesWithoutKey() {
+		when(keyedStrategyOneMock.getStrategyKeys()).thenReturn(Set.of("KEY_1"));
+		when(keyedStrategyTwoMock.getStrategyKeys()).thenReturn(Set.of("KEY_2"));
+		when(strategyOneMock.isApplicable(sourceMock)).thenReturn(true);
+		when(strategyOneMock.execute(sourceMock)).thenReturn(RESULT);
+		doReturn(Set.of(keyedStrategyOneMock, keyedStrategyTwoMock, strategyOneMock)).when(testObj).getStrategies();
+		doReturn("KEY_1").when(testObj).getStrategyKey(sourceMock);
+
+		final String result = testObj.execute(sourceMock);
+
+		assertThat(result).isEqualTo(RESULT);
+		verify(keyedStrategyOneMock).isApplicable(sourceMock);
+		verify(keyedStrategyTwoMock, never()).isApplicable(sourceMock);
+	}
+
+	@Test
+	void execute_whenSourceHasNoKey_shouldCheckAllStrategies() {
+		when(keyedStrategyOneMock.getStrategyKeys()).thenReturn(Set.of("KEY_1"));
+		when(keyedStrategyOneMock.isApplicable(sourceMock)).thenReturn(true);
+		when(keyedStrategyOneMock.execute(sourceMock)).thenReturn(RESULT);
+		doReturn(Set.of(keyedStrategyOneMock)).when(testObj).getStrategies();
+
+		final String result = testObj.execute(sourceMock);
+
+		assertThat(result).isEqualTo(RESULT);
+	}
+
+	@Test
+	void execute_whenKeyedStrategyHasNoKeys_shouldHandleItAsAStrategyWithoutKey() {
+		when(keyedStrategyOneMock.getStrategyKeys()).thenReturn(Set.of("KEY_1"));
+		when(keyedStrategyTwoMock.getStrategyKeys()).thenReturn(Set.of());
+		when(keyedStrategyTwoMock.isApplicable(sourceMock)).thenReturn(true);
+		when(keyedStrategyTwoMock.execute(sourceMock)).thenReturn(RESULT);
+		doReturn(Set.of(keyedStrategyOneMock, keyedStrategyTwoMock)).when(testObj).getStrategies();
+		doReturn("KEY_1").when(testObj).getStrategyKey(sourceMock);
+
+		final String result = testObj.execute(sourceMock);
+
+		assertThat(result).isEqualTo(RESULT);
+	}
+
+	private static class MySingleAbstractStrategyExecutor extends SingleAbstractStrategyExecutor<Object, String> {
+
+		@Override
+		protected Set<Strategy<Object, String>> getStrategies() {
+			return null;
+		}
+
+	}
+
+}
@@ -1,8 +1,8 @@
 package com.paypal.invoices.infraestructure.configuration;
 
 import com.paypal.infrastructure.batchjob.quartz.QuartzBatchJobBuilder;
+import com.paypal.infrastructure.job.JobSchedules;
 import com.paypal.invoices.batchjobs.creditnotes.CreditNotesRetryBatchJob;
-import org.quartz.CronScheduleBuilder;
 import org.quartz.JobDetail;
 import org.quartz.Trigger;
 import org.quartz.TriggerBuilder;
@@ -37,7 +37,7 @@ public class CreditNotesExtractJobConfig {
 		return TriggerBuilder.newTrigger()
 				.forJob(jobDetails)
 				.withIdentity(TRIGGER_SUFFIX + RETRY_JOB_NAME)
-				.withSchedule(CronScheduleBuilder.cronSchedule(cronExpression))
+				.withSchedule(JobSchedules.retryJobSchedule(cronExpression))
 				.build();
 		//@formatter:on
 	}
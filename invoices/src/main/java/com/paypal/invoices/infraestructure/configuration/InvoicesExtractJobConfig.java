@@ -1,6 +1,7 @@
 package com.paypal.invoices.infraestructure.configuration;
 
 import com.paypal.infrastructure.batchjob.quartz.QuartzBatchJobBuilder;
+import com.paypal.infrastructure.job.JobSchedules;
 import com.paypal.invoices.batchjobs.invoices.InvoicesRetryBatchJob;
 import com.paypal.invoices.jobs.InvoicesExtractJob;
 import lombok.extern.slf4j.Slf4j;
@@ -52,7 +53,7 @@ public class InvoicesExtractJobConfig {
 		return TriggerBuilder.newTrigger()
 				.forJob(jobDetails)
 				.withIdentity(TRIGGER_SUFFIX + JOB_NAME)
-				.withSchedule(CronScheduleBuilder.cronSchedule(cronExpression))
+				.withSchedule(JobSchedules.extractJobSchedule(cronExpression))
 				.build();
 		//@formatter:on
 	}
@@ -74,7 +75,7 @@ public class InvoicesExtractJobConfig {
 		return TriggerBuilder.newTrigger()
 				.forJob(jobDetails)
 				.withIdentity(TRIGGER_SUFFIX + RETRY_JOB_NAME)
-				.withSchedule(CronScheduleBuilder.cronSchedule(cronExpression))
+				.withSchedule(JobSchedules.retryJobSchedule(cronExpression))
 				.build();
 		//@formatter:on
 	}
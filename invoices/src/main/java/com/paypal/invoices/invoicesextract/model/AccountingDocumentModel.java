@@ -3,6 +3,7 @@ package com.paypal.invoices.invoicesextract.model;
 import com.mirakl.client.mmp.domain.common.MiraklAdditionalFieldValue;
 import lombok.Getter;
 
+import java.io.Serializable;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
@@ -11,7 +12,7 @@ import static com.paypal.invoices.invoicesextract.model.InvoiceModelConstants.HY
 import static com.paypal.invoices.invoicesextract.model.InvoiceModelConstants.HYPERWALLET_PROGRAM;
 
 @Getter
-public class AccountingDocumentModel {
+public class AccountingDocumentModel implements Serializable {
 
 	protected final String shopId;
 
@@ -2,12 +2,15 @@ package com.paypal.invoices.invoicesextract.service.hyperwallet.impl;
 
 import com.hyperwallet.clientsdk.Hyperwallet;
 import com.hyperwallet.clientsdk.util.HyperwalletEncryption;
+import com.paypal.infrastructure.clientmetrics.services.ClientMetricsService;
 import com.paypal.infrastructure.hyperwallet.api.PaymentsHyperwalletApiConfig;
 import com.paypal.invoices.invoicesextract.service.hyperwallet.HyperwalletSDKService;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Implementation of {@link HyperwalletSDKService}
@@ -19,10 +22,15 @@ public class PaymentsHyperwalletSDKServiceImpl implements HyperwalletSDKService
 
 	private final HyperwalletEncryption encryption;
 
+	private final ClientMetricsService clientMetricsService;
+
+	private final Map<Optional<String>, Hyperwallet> hyperwalletInstances = new ConcurrentHashMap<>();
+
 	public PaymentsHyperwalletSDKServiceImpl(final PaymentsHyperwalletApiConfig paymentsHyperwalletApiConfig,
-			@Nullable final HyperwalletEncryption encryption) {
+			@Nullable final HyperwalletEncryption encryption, final ClientMetricsService clientMetricsService) {
 		this.paymentsHyperwalletApiConfig = paymentsHyperwalletApiConfig;
 		this.encryption = encryption;
+		this.clientMetricsService = clientMetricsService;
 	}
 
 	/**
@@ -30,8 +38,8 @@ public class PaymentsHyperwalletSDKServiceImpl implements HyperwalletSDKService
 	 */
 	@Override
 	public Hyperwallet getHyperwalletInstanceWithProgramToken(final String programToken) {
-		return new Hyperwallet(paymentsHyperwalletApiConfig.getUsername(), paymentsHyperwalletApiConfig.getPassword(),
-				programToken, paymentsHyperwalletApiConfig.getServer(), encryption);
+		return hyperwalletInstances.computeIfAbsent(Optional.ofNullable(programToken),
+				token -> createHyperwalletInstance(programToken));
 	}
 
 	/**
@@ -41,8 +49,7 @@ public class PaymentsHyperwalletSDKServiceImpl implements HyperwalletSDKService
 	public Hyperwallet getHyperwalletInstanceByHyperwalletProgram(final String hyperwalletProgram) {
 		final String programUserToken = getProgramTokenByHyperwalletProgram(hyperwalletProgram);
 
-		return new Hyperwallet(paymentsHyperwalletApiConfig.getUsername(), paymentsHyperwalletApiConfig.getPassword(),
-				programUserToken, paymentsHyperwalletApiConfig.getServer(), encryption);
+		return getHyperwalletInstanceWithProgramToken(programUserToken);
 	}
 
 	/**
@@ -58,4 +65,14 @@ public class PaymentsHyperwalletSDKServiceImpl implements HyperwalletSDKService
 		//@formatter:on
 	}
 
+	/**
+	 * Creates the instrumented client of a program token. Clients are cached by program
+	 * token, so the metrics proxy is only built once per program.
+	 */
+	private Hyperwallet createHyperwalletInstance(final String programToken) {
+		return clientMetricsService.instrument(new Hyperwallet(paymentsHyperwalletApiConfig.getUsername(),
+				paymentsHyperwalletApiConfig.getPassword(), programToken, paymentsHyperwalletApiConfig.getServer(),
+				encryption), ClientMetricsService.CLIENT_HYPERWALLET);
+	}
+
 }
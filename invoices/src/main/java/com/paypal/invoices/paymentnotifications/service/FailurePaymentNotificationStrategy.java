@@ -1,9 +1,9 @@
 package com.paypal.invoices.paymentnotifications.service;
 
-import com.hyperwallet.clientsdk.Hyperwallet;
 import com.hyperwallet.clientsdk.HyperwalletException;
 import com.hyperwallet.clientsdk.model.HyperwalletUser;
 import com.paypal.infrastructure.hyperwallet.api.HyperwalletSDKUserService;
+import com.paypal.infrastructure.hyperwalletusers.services.HyperwalletUsersCacheService;
 import com.paypal.infrastructure.mail.MailNotificationUtil;
 import com.paypal.infrastructure.strategy.Strategy;
 import com.paypal.infrastructure.util.HyperwalletLoggingErrorsUtil;
@@ -44,6 +44,9 @@ public class FailurePaymentNotificationStrategy implements Strategy<PaymentNotif
 	@Resource
 	private HyperwalletSDKUserService hyperwalletSDKUserService;
 
+	@Resource
+	private HyperwalletUsersCacheService hyperwalletUsersCacheService;
+
 	/**
 	 * Executes the business logic based on the content of
 	 * {@code paymentNotificationBodyModel} and returns a {@link Void} class based on a
@@ -101,11 +104,12 @@ public class FailurePaymentNotificationStrategy implements Strategy<PaymentNotif
 	}
 
 	HyperwalletUser getHyperwalletUserInfo(final PaymentNotificationBodyModel paymentNotificationBodyModel) {
-		Hyperwallet hyperwallet = hyperwalletSDKUserService
-				.getHyperwalletInstanceByProgramToken(paymentNotificationBodyModel.getProgramToken());
-
 		try {
-			return hyperwallet.getUser(paymentNotificationBodyModel.getDestinationToken());
+			return hyperwalletUsersCacheService.getUser(paymentNotificationBodyModel.getDestinationToken(),
+					userToken -> hyperwalletSDKUserService
+							.getHyperwalletInstanceByProgramToken(paymentNotificationBodyModel.getProgramToken())
+							.getUser(userToken))
+					.orElse(null);
 		}
 		catch (final HyperwalletException e) {
 			log.warn(String.format("Error while retrieving Hyperwallet User info for destination token[%s].%n%s",
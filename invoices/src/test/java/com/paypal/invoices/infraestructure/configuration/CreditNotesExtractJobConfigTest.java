@@ -35,7 +35,8 @@ class CreditNotesExtractJobConfigTest {
 
 		assertThat(result.getJobClass()).hasSameClassAs(QuartzBatchJobBean.class);
 		assertThat(result.getKey().getName()).isEqualTo(RETRY_JOB_NAME);
-		assertThat(result.getJobDataMap()).containsEntry("batchJob", creditNotesRetryBatchJob);
+		assertThat(result.getJobDataMap()).containsEntry("batchJobClass",
+				creditNotesRetryBatchJob.getClass().getName());
 	}
 
 	@Test
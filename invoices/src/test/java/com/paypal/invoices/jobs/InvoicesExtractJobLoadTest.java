@@ -0,0 +1,55 @@
+package com.paypal.invoices.jobs;
+
+import com.mirakl.client.mmp.domain.shop.MiraklShop;
+import com.paypal.infrastructure.test.load.LoadTestConfig;
+import com.paypal.infrastructure.test.load.LoadTestReport;
+import com.paypal.infrastructure.test.load.LoadTestRunner;
+import com.paypal.infrastructure.test.load.SyntheticLoadTestData;
+import com.paypal.infrastructure.test.mocks.hyperwallet.HyperwalletLoadEndpointsMock;
+import com.paypal.infrastructure.test.mocks.mirakl.MiraklLoadEndpointsMock;
+import com.paypal.invoices.InvoicesIntegrationTests;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.quartz.JobDetail;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("LoadTest")
+@Import(LoadTestConfig.class)
+class InvoicesExtractJobLoadTest extends InvoicesIntegrationTests {
+
+	private static final int INVOICES_PER_SHOP = 5;
+
+	@Autowired
+	private LoadTestRunner loadTestRunner;
+
+	@Autowired
+	private LoadTestConfig loadTestConfig;
+
+	@Autowired
+	@Qualifier("invoicesExtractJob")
+	private JobDetail invoicesExtractJob;
+
+	@Test
+	void invoicesExtractJob_shouldPayAllTheInvoices() throws Exception {
+		final SyntheticLoadTestData syntheticLoadTestData = new SyntheticLoadTestData(loadTestConfig.getSeed());
+		final List<MiraklShop> miraklShops = syntheticLoadTestData
+				.shops(Math.max(1, loadTestConfig.getItems() / INVOICES_PER_SHOP));
+
+		final MiraklLoadEndpointsMock miraklLoadEndpointsMock = new MiraklLoadEndpointsMock(mockServerClient,
+				loadTestConfig.endpointFaults());
+		miraklLoadEndpointsMock.getShops(miraklShops);
+		miraklLoadEndpointsMock.getInvoices(syntheticLoadTestData.invoices(miraklShops, loadTestConfig.getItems()));
+		new HyperwalletLoadEndpointsMock(mockServerClient, loadTestConfig.endpointFaults()).acceptAllRequests();
+
+		final LoadTestReport result = loadTestRunner.runJob(invoicesExtractJob.getKey(), loadTestConfig.getTimeout());
+
+		assertThat(result.getItems()).isPositive();
+	}
+
+}
@@ -4,20 +4,27 @@ import com.hyperwallet.clientsdk.Hyperwallet;
 import com.hyperwallet.clientsdk.HyperwalletException;
 import com.hyperwallet.clientsdk.model.HyperwalletUser;
 import com.paypal.infrastructure.hyperwallet.api.HyperwalletSDKUserService;
+import com.paypal.infrastructure.hyperwalletusers.services.HyperwalletUsersCacheService;
 import com.paypal.infrastructure.mail.MailNotificationUtil;
 import com.paypal.invoices.infraestructure.configuration.PaymentNotificationConfig;
 import com.paypal.invoices.paymentnotifications.model.PaymentNotificationBodyModel;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +37,9 @@ class FailurePaymentNotificationStrategyTest {
 	@InjectMocks
 	private FailurePaymentNotificationStrategy testObj;
 
+	@Mock
+	private HyperwalletUsersCacheService hyperwalletUsersCacheServiceMock;
+
 	@Mock
 	private PaymentNotificationBodyModel paymentNotificationBodyModelMock;
 
@@ -48,6 +58,14 @@ class FailurePaymentNotificationStrategyTest {
 	@Mock
 	private HyperwalletUser hyperwalletUserMock;
 
+	@SuppressWarnings("unchecked")
+	@BeforeEach
+	void setUp() {
+		lenient().when(hyperwalletUsersCacheServiceMock.getUser(any(), any()))
+				.thenAnswer(invocation -> Optional.ofNullable(((Function<String, HyperwalletUser>) invocation
+						.getArgument(1)).apply(invocation.getArgument(0))));
+	}
+
 	@Test
 	void executeProcessPaymentNotification_shouldSendEmailNotification_WhenPaymentNotificationIsInAFailureStatus_AndThereIsBusinessShopInfo() {
 		when(paymentNotificationBodyModelMock.getStatus()).thenReturn("FAILED");
@@ -109,6 +127,24 @@ class FailurePaymentNotificationStrategyTest {
 						+ "For more information please consult your Hyperwallet dashboard.");
 	}
 
+	@Test
+	void executeProcessPaymentNotification_shouldNotCallHyperwallet_WhenHyperwalletUserIsCached() {
+		when(paymentNotificationBodyModelMock.getStatus()).thenReturn("FAILED");
+		when(paymentNotificationBodyModelMock.getClientPaymentId()).thenReturn("ClientPaymentID");
+		when(paymentNotificationBodyModelMock.getDestinationToken()).thenReturn("destinationToken");
+		when(hyperwalletUsersCacheServiceMock.getUser(eq("destinationToken"), any()))
+				.thenReturn(Optional.of(hyperwalletUserMock));
+		when(hyperwalletUserMock.getBusinessName()).thenReturn("BUSINESS_SHOP");
+		when(hyperwalletUserMock.getClientUserId()).thenReturn("ClientUserId");
+
+		testObj.execute(paymentNotificationBodyModelMock);
+
+		verifyNoInteractions(hyperwalletSDKUserServiceMock);
+		verify(mailNotificationUtilMock).sendPlainTextEmail(
+				eq("Problem while processing payment [ClientPaymentID] of shop BUSINESS_SHOP with id [ClientUserId]"),
+				any());
+	}
+
 	@Test
 	void isApplicable_shouldReturnTrue_whenPaymentNotificationBodyModelHasFailed() {
 		when(paymentNotificationConfigMock.getFailureStatuses()).thenReturn(Set.of(FAILED));
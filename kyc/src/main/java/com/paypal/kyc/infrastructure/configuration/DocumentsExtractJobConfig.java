@@ -1,5 +1,6 @@
 package com.paypal.kyc.infrastructure.configuration;
 
+import com.paypal.infrastructure.job.JobSchedules;
 import com.paypal.kyc.jobs.DocumentsExtractJob;
 import org.quartz.*;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -46,7 +47,7 @@ public class DocumentsExtractJobConfig {
 		return TriggerBuilder.newTrigger()
 				.forJob(jobDetails)
 				.withIdentity(TRIGGER_SUFFIX + JOB_NAME)
-				.withSchedule(CronScheduleBuilder.cronSchedule(cronExpression))
+				.withSchedule(JobSchedules.extractJobSchedule(cronExpression))
 				.build();
 		//@formatter:on
 	}
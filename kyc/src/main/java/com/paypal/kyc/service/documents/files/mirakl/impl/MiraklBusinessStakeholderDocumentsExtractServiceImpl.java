@@ -8,12 +8,12 @@ import com.mirakl.client.mmp.domain.shop.MiraklShops;
 import com.mirakl.client.mmp.operator.domain.shop.update.MiraklUpdateShop;
 import com.mirakl.client.mmp.operator.domain.shop.update.MiraklUpdatedShopReturn;
 import com.mirakl.client.mmp.operator.domain.shop.update.MiraklUpdatedShops;
-import com.mirakl.client.mmp.operator.request.shop.MiraklUpdateShopsRequest;
 import com.mirakl.client.mmp.request.additionalfield.MiraklRequestAdditionalFieldValue;
 import com.mirakl.client.mmp.request.shop.MiraklGetShopsRequest;
 import com.paypal.infrastructure.converter.Converter;
 import com.paypal.infrastructure.exceptions.HMCMiraklAPIException;
 import com.paypal.infrastructure.mail.MailNotificationUtil;
+import com.paypal.infrastructure.miraklshopupdates.services.MiraklShopUpdatesAggregator;
 import com.paypal.infrastructure.sdk.mirakl.MiraklMarketplacePlatformOperatorApiWrapper;
 import com.paypal.infrastructure.util.LoggingConstantsUtil;
 import com.paypal.kyc.converter.KYCBusinessStakeHolderConverter;
@@ -51,17 +51,21 @@ public class MiraklBusinessStakeholderDocumentsExtractServiceImpl extends Abstra
 
 	private final MiraklMarketplacePlatformOperatorApiWrapper miraklOperatorClient;
 
+	private final MiraklShopUpdatesAggregator miraklShopUpdatesAggregator;
+
 	public MiraklBusinessStakeholderDocumentsExtractServiceImpl(
 			final MiraklBusinessStakeholderDocumentDownloadExtractService miraklBusinessStakeholderDocumentDownloadExtractService,
 			final Converter<Date, MiraklGetShopsRequest> miraklGetShopsRequestConverter,
 			final KYCBusinessStakeHolderConverter kycBusinessStakeHolderConverter,
 			final MiraklMarketplacePlatformOperatorApiWrapper miraklOperatorClient,
-			final MailNotificationUtil kycMailNotificationUtil) {
+			final MailNotificationUtil kycMailNotificationUtil,
+			final MiraklShopUpdatesAggregator miraklShopUpdatesAggregator) {
 		super(miraklOperatorClient, kycMailNotificationUtil);
 		this.miraklBusinessStakeholderDocumentDownloadExtractService = miraklBusinessStakeholderDocumentDownloadExtractService;
 		this.miraklGetShopsRequestConverter = miraklGetShopsRequestConverter;
 		this.kycBusinessStakeHolderConverter = kycBusinessStakeHolderConverter;
 		this.miraklOperatorClient = miraklOperatorClient;
+		this.miraklShopUpdatesAggregator = miraklShopUpdatesAggregator;
 	}
 
 	/**
@@ -203,14 +207,9 @@ public class MiraklBusinessStakeholderDocumentsExtractServiceImpl extends Abstra
 	private void miraklUpdateKYCShopCall(final KYCDocumentBusinessStakeHolderInfoModel shopToUpdate) {
 
 		final MiraklUpdateShop miraklShopToUpdate = getMiraklUpdateShopWithProofOfDocumentFields(shopToUpdate);
-		final MiraklUpdateShopsRequest miraklUpdateShopRequest = new MiraklUpdateShopsRequest(
-				List.of(miraklShopToUpdate));
 
 		try {
-
-			final MiraklUpdatedShops miraklUpdatedShops = miraklOperatorClient.updateShops(miraklUpdateShopRequest);
-			logUpdatedShops(miraklUpdatedShops);
-
+			miraklShopUpdatesAggregator.updateShop(miraklShopToUpdate).ifPresent(this::logUpdatedShops);
 		}
 		catch (final MiraklException e) {
 
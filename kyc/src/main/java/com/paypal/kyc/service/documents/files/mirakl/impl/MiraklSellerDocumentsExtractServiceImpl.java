@@ -6,12 +6,12 @@ import com.mirakl.client.mmp.domain.shop.MiraklShops;
 import com.mirakl.client.mmp.operator.domain.shop.update.MiraklUpdateShop;
 import com.mirakl.client.mmp.operator.domain.shop.update.MiraklUpdatedShopReturn;
 import com.mirakl.client.mmp.operator.domain.shop.update.MiraklUpdatedShops;
-import com.mirakl.client.mmp.operator.request.shop.MiraklUpdateShopsRequest;
 import com.mirakl.client.mmp.request.additionalfield.MiraklRequestAdditionalFieldValue;
 import com.mirakl.client.mmp.request.shop.MiraklGetShopsRequest;
 import com.paypal.infrastructure.converter.Converter;
 import com.paypal.infrastructure.exceptions.HMCMiraklAPIException;
 import com.paypal.infrastructure.mail.MailNotificationUtil;
+import com.paypal.infrastructure.miraklshopupdates.services.MiraklShopUpdatesAggregator;
 import com.paypal.infrastructure.sdk.mirakl.MiraklMarketplacePlatformOperatorApiWrapper;
 import com.paypal.infrastructure.util.LoggingConstantsUtil;
 import com.paypal.kyc.model.KYCConstants;
@@ -46,17 +46,21 @@ public class MiraklSellerDocumentsExtractServiceImpl extends AbstractMiraklDocum
 
 	private final MiraklMarketplacePlatformOperatorApiWrapper miraklOperatorClient;
 
+	private final MiraklShopUpdatesAggregator miraklShopUpdatesAggregator;
+
 	public MiraklSellerDocumentsExtractServiceImpl(
 			final MiraklSellerDocumentDownloadExtractService miraklSellerDocumentDownloadExtractService,
 			final Converter<Date, MiraklGetShopsRequest> miraklGetShopsRequestConverter,
 			final Converter<MiraklShop, KYCDocumentSellerInfoModel> miraklShopKYCDocumentInfoModelConverter,
 			final MiraklMarketplacePlatformOperatorApiWrapper miraklOperatorClient,
-			final MailNotificationUtil kycMailNotificationUtil) {
+			final MailNotificationUtil kycMailNotificationUtil,
+			final MiraklShopUpdatesAggregator miraklShopUpdatesAggregator) {
 		super(miraklOperatorClient, kycMailNotificationUtil);
 		this.miraklSellerDocumentDownloadExtractService = miraklSellerDocumentDownloadExtractService;
 		this.miraklGetShopsRequestConverter = miraklGetShopsRequestConverter;
 		this.miraklShopKYCDocumentInfoModelConverter = miraklShopKYCDocumentInfoModelConverter;
 		this.miraklOperatorClient = miraklOperatorClient;
+		this.miraklShopUpdatesAggregator = miraklShopUpdatesAggregator;
 	}
 
 	/**
@@ -187,14 +191,8 @@ public class MiraklSellerDocumentsExtractServiceImpl extends AbstractMiraklDocum
 						KYCConstants.HYPERWALLET_KYC_REQUIRED_PROOF_IDENTITY_BUSINESS_FIELD,
 						Boolean.FALSE.toString().toLowerCase())));
 
-		final MiraklUpdateShopsRequest miraklUpdateShopRequest = new MiraklUpdateShopsRequest(
-				List.of(miraklUpdateShop));
-
 		try {
-			final MiraklUpdatedShops miraklUpdatedShops = miraklOperatorClient.updateShops(miraklUpdateShopRequest);
-
-			logUpdatedShops(miraklUpdatedShops);
-
+			miraklShopUpdatesAggregator.updateShop(miraklUpdateShop).ifPresent(this::logUpdatedShops);
 		}
 		catch (final MiraklException e) {
 
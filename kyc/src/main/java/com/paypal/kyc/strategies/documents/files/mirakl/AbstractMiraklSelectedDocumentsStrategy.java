@@ -7,7 +7,7 @@ import com.mirakl.client.mmp.domain.shop.document.MiraklShopDocument;
 import com.mirakl.client.mmp.request.shop.document.MiraklDownloadShopsDocumentsRequest;
 import com.paypal.infrastructure.exceptions.HMCMiraklAPIException;
 import com.paypal.infrastructure.sdk.mirakl.MiraklMarketplacePlatformOperatorApiWrapper;
-import com.paypal.infrastructure.strategy.Strategy;
+import com.paypal.infrastructure.strategy.KeyedStrategy;
 import com.paypal.infrastructure.util.MiraklLoggingErrorsUtil;
 import com.paypal.kyc.model.KYCDocumentInfoModel;
 import com.paypal.kyc.model.KYCDocumentModel;
@@ -22,7 +22,7 @@ import java.util.stream.Collectors;
 
 @Slf4j
 public abstract class AbstractMiraklSelectedDocumentsStrategy
-		implements Strategy<KYCDocumentInfoModel, List<KYCDocumentModel>> {
+		implements KeyedStrategy<KYCDocumentInfoModel, List<KYCDocumentModel>> {
 
 	private final MiraklMarketplacePlatformOperatorApiWrapper miraklApiClient;
 
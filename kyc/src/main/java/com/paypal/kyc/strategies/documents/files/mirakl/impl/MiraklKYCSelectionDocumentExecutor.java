@@ -25,4 +25,12 @@ public class MiraklKYCSelectionDocumentExecutor
 		return this.strategies;
 	}
 
+	/**
+	 * Dispatches the documents by their category, seller or business stakeholder.
+	 */
+	@Override
+	protected Object getStrategyKey(final KYCDocumentInfoModel source) {
+		return source.getClass();
+	}
+
 }
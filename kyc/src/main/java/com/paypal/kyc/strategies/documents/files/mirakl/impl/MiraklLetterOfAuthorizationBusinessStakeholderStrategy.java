@@ -7,6 +7,7 @@ import com.paypal.kyc.strategies.documents.files.mirakl.AbstractMiraklSelectedDo
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Set;
 
 import static com.paypal.kyc.model.KYCConstants.HwDocuments.PROOF_OF_AUTHORIZATION;
 
@@ -23,6 +24,11 @@ public class MiraklLetterOfAuthorizationBusinessStakeholderStrategy extends Abst
 		return List.of(PROOF_OF_AUTHORIZATION);
 	}
 
+	@Override
+	public Set<Object> getStrategyKeys() {
+		return Set.of(KYCDocumentBusinessStakeHolderInfoModel.class);
+	}
+
 	/**
 	 * Checks whether the strategy must be executed based on the {@code source}
 	 * @param source the source object
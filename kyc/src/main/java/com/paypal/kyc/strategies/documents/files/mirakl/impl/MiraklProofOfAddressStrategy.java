@@ -10,6 +10,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -19,6 +20,11 @@ public class MiraklProofOfAddressStrategy extends AbstractMiraklSelectedDocument
 		super(miraklApiClient);
 	}
 
+	@Override
+	public Set<Object> getStrategyKeys() {
+		return Set.of(KYCDocumentSellerInfoModel.class);
+	}
+
 	@Override
 	public boolean isApplicable(final KYCDocumentInfoModel source) {
 		if (!(source instanceof KYCDocumentSellerInfoModel)) {
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 @Service
 public class MiraklProofOfBusinessStrategy extends AbstractMiraklSelectedDocumentsStrategy {
@@ -22,6 +23,11 @@ public class MiraklProofOfBusinessStrategy extends AbstractMiraklSelectedDocumen
 		return KYCProofOfBusinessEnum.getMiraklFields();
 	}
 
+	@Override
+	public Set<Object> getStrategyKeys() {
+		return Set.of(KYCDocumentSellerInfoModel.class);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 @Service
 public class MiraklProofOfIdentityBusinessStakeholderStrategy extends AbstractMiraklSelectedDocumentsStrategy {
@@ -26,6 +27,11 @@ public class MiraklProofOfIdentityBusinessStakeholderStrategy extends AbstractMi
 				kycDocumentBusinessStakeHolderInfoModel.getBusinessStakeholderMiraklNumber());
 	}
 
+	@Override
+	public Set<Object> getStrategyKeys() {
+		return Set.of(KYCDocumentBusinessStakeHolderInfoModel.class);
+	}
+
 	/**
 	 * Checks whether the strategy must be executed based on the {@code source}
 	 * @param source the source object
@@ -10,6 +10,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -24,6 +25,11 @@ public class MiraklProofOfIdentityStrategy extends AbstractMiraklSelectedDocumen
 		return KYCProofOfIdentityEnum.getMiraklFields(source.getProofOfIdentity());
 	}
 
+	@Override
+	public Set<Object> getStrategyKeys() {
+		return Set.of(KYCDocumentSellerInfoModel.class);
+	}
+
 	/**
 	 * Executes the strategy if the {@code source} is of type
 	 * {@link KYCDocumentSellerInfoModel} and it's not a professional
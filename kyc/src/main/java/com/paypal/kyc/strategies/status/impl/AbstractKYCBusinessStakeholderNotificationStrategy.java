@@ -5,6 +5,7 @@ import com.hyperwallet.clientsdk.model.HyperwalletUser;
 import com.paypal.infrastructure.exceptions.HMCException;
 import com.paypal.infrastructure.hyperwallet.api.HyperwalletSDKUserService;
 import com.paypal.infrastructure.hyperwallet.api.UserHyperwalletApiConfig;
+import com.paypal.infrastructure.hyperwalletusers.services.HyperwalletUsersCacheService;
 import com.paypal.infrastructure.strategy.Strategy;
 import com.paypal.kyc.model.KYCBusinessStakeholderStatusNotificationBodyModel;
 import lombok.extern.slf4j.Slf4j;
@@ -12,6 +13,7 @@ import org.apache.commons.collections4.CollectionUtils;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -22,27 +24,36 @@ public abstract class AbstractKYCBusinessStakeholderNotificationStrategy
 
 	protected final UserHyperwalletApiConfig kycHyperwalletApiConfig;
 
+	protected final HyperwalletUsersCacheService hyperwalletUsersCacheService;
+
 	protected AbstractKYCBusinessStakeholderNotificationStrategy(
 			final HyperwalletSDKUserService hyperwalletSDKUserService,
-			final UserHyperwalletApiConfig kycHyperwalletApiConfig) {
+			final UserHyperwalletApiConfig kycHyperwalletApiConfig,
+			final HyperwalletUsersCacheService hyperwalletUsersCacheService) {
 		this.hyperwalletSDKUserService = hyperwalletSDKUserService;
 		this.kycHyperwalletApiConfig = kycHyperwalletApiConfig;
+		this.hyperwalletUsersCacheService = hyperwalletUsersCacheService;
 	}
 
 	protected HyperwalletUser getHyperWalletUser(
 			final KYCBusinessStakeholderStatusNotificationBodyModel kycBusinessStakeholderStatusNotificationBodyModel) {
+		return findHyperWalletUser(kycBusinessStakeholderStatusNotificationBodyModel.getUserToken())
+				.orElseThrow(() -> new HMCException(
+						String.format("No Hyperwallet users were found for user token %s in the system instance(s)",
+								kycBusinessStakeholderStatusNotificationBodyModel.getUserToken())));
+	}
+
+	protected Optional<HyperwalletUser> findHyperWalletUser(final String userToken) {
+		return hyperwalletUsersCacheService.getUser(userToken, this::getHyperWalletUserFromAnyProgram);
+	}
+
+	protected HyperwalletUser getHyperWalletUserFromAnyProgram(final String userToken) {
 		final List<HyperwalletUser> hyperWalletUser = kycHyperwalletApiConfig.getTokens().keySet().stream()
 				.map(hyperwalletSDKUserService::getHyperwalletInstanceByHyperwalletProgram)
-				.map(hyperwallet -> callHyperwalletSDKCatchingException(hyperwallet,
-						kycBusinessStakeholderStatusNotificationBodyModel.getUserToken()))
+				.map(hyperwallet -> callHyperwalletSDKCatchingException(hyperwallet, userToken))
 				.filter(Objects::nonNull).collect(Collectors.toList());
 
-		if (CollectionUtils.isEmpty(hyperWalletUser)) {
-			throw new HMCException(
-					String.format("No Hyperwallet users were found for user token %s in the system instance(s)",
-							kycBusinessStakeholderStatusNotificationBodyModel.getUserToken()));
-		}
-		return hyperWalletUser.get(0);
+		return CollectionUtils.isNotEmpty(hyperWalletUser) ? hyperWalletUser.get(0) : null;
 	}
 
 	protected HyperwalletUser callHyperwalletSDKCatchingException(final Hyperwallet hyperwallet,
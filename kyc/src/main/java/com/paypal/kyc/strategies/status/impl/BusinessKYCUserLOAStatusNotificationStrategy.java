@@ -9,6 +9,7 @@ import com.mirakl.client.mmp.request.additionalfield.MiraklRequestAdditionalFiel
 import com.paypal.infrastructure.sdk.mirakl.MiraklMarketplacePlatformOperatorApiWrapper;
 import com.paypal.infrastructure.hyperwallet.api.HyperwalletSDKUserService;
 import com.paypal.infrastructure.hyperwallet.api.UserHyperwalletApiConfig;
+import com.paypal.infrastructure.hyperwalletusers.services.HyperwalletUsersCacheService;
 import com.paypal.kyc.model.KYCBusinessStakeholderStatusNotificationBodyModel;
 import com.paypal.kyc.model.KYCConstants;
 import lombok.extern.slf4j.Slf4j;
@@ -25,8 +26,9 @@ public class BusinessKYCUserLOAStatusNotificationStrategy extends AbstractKYCBus
 
 	public BusinessKYCUserLOAStatusNotificationStrategy(final HyperwalletSDKUserService hyperwalletSDKUserService,
 			final UserHyperwalletApiConfig kycHyperwalletApiConfig,
-			final MiraklMarketplacePlatformOperatorApiWrapper miraklMarketplacePlatformOperatorApiClient) {
-		super(hyperwalletSDKUserService, kycHyperwalletApiConfig);
+			final MiraklMarketplacePlatformOperatorApiWrapper miraklMarketplacePlatformOperatorApiClient,
+			final HyperwalletUsersCacheService hyperwalletUsersCacheService) {
+		super(hyperwalletSDKUserService, kycHyperwalletApiConfig, hyperwalletUsersCacheService);
 		this.miraklMarketplacePlatformOperatorApiClient = miraklMarketplacePlatformOperatorApiClient;
 	}
 
@@ -39,6 +41,15 @@ public class BusinessKYCUserLOAStatusNotificationStrategy extends AbstractKYCBus
 		return null;
 	}
 
+	/**
+	 * The letter of authorization status changes when business stakeholders are created,
+	 * so the user is always retrieved from Hyperwallet instead of the users cache.
+	 */
+	@Override
+	protected Optional<HyperwalletUser> findHyperWalletUser(final String userToken) {
+		return Optional.ofNullable(getHyperWalletUserFromAnyProgram(userToken));
+	}
+
 	@Override
 	public boolean isApplicable(
 			final KYCBusinessStakeholderStatusNotificationBodyModel kycBusinessStakeholderStatusNotificationBodyModel) {
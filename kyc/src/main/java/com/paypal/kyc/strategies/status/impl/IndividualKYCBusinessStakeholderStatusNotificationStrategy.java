@@ -9,6 +9,7 @@ import com.mirakl.client.mmp.request.additionalfield.MiraklRequestAdditionalFiel
 import com.paypal.infrastructure.sdk.mirakl.MiraklMarketplacePlatformOperatorApiWrapper;
 import com.paypal.infrastructure.hyperwallet.api.HyperwalletSDKUserService;
 import com.paypal.infrastructure.hyperwallet.api.UserHyperwalletApiConfig;
+import com.paypal.infrastructure.hyperwalletusers.services.HyperwalletUsersCacheService;
 import com.paypal.kyc.model.KYCBusinessStakeholderStatusNotificationBodyModel;
 import com.paypal.kyc.model.KYCConstants;
 import com.paypal.kyc.service.documents.files.mirakl.MiraklBusinessStakeholderDocumentsExtractService;
@@ -34,8 +35,9 @@ public class IndividualKYCBusinessStakeholderStatusNotificationStrategy
 			final HyperwalletSDKUserService hyperwalletSDKUserService,
 			final UserHyperwalletApiConfig kycHyperwalletApiConfig,
 			final MiraklBusinessStakeholderDocumentsExtractService miraklBusinessStakeholderDocumentsExtractService,
-			final MiraklMarketplacePlatformOperatorApiWrapper miraklMarketplacePlatformOperatorApiClient) {
-		super(hyperwalletSDKUserService, kycHyperwalletApiConfig);
+			final MiraklMarketplacePlatformOperatorApiWrapper miraklMarketplacePlatformOperatorApiClient,
+			final HyperwalletUsersCacheService hyperwalletUsersCacheService) {
+		super(hyperwalletSDKUserService, kycHyperwalletApiConfig, hyperwalletUsersCacheService);
 		this.miraklBusinessStakeholderDocumentsExtractService = miraklBusinessStakeholderDocumentsExtractService;
 		this.miraklMarketplacePlatformOperatorApiClient = miraklMarketplacePlatformOperatorApiClient;
 	}
@@ -0,0 +1,61 @@
+package com.paypal.kyc.jobs;
+
+import com.mirakl.client.mmp.domain.shop.MiraklShop;
+import com.paypal.infrastructure.test.load.LoadTestConfig;
+import com.paypal.infrastructure.test.load.LoadTestReport;
+import com.paypal.infrastructure.test.load.LoadTestRunner;
+import com.paypal.infrastructure.test.load.SyntheticLoadTestData;
+import com.paypal.infrastructure.test.mocks.hyperwallet.HyperwalletLoadEndpointsMock;
+import com.paypal.infrastructure.test.mocks.mirakl.MiraklLoadEndpointsMock;
+import com.paypal.kyc.KycIntegrationTests;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.quartz.JobDetail;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("LoadTest")
+@Import(LoadTestConfig.class)
+class DocumentsExtractJobLoadTest extends KycIntegrationTests {
+
+	private static final int DOCUMENT_SIZE = 64 * 1024;
+
+	@Autowired
+	private LoadTestRunner loadTestRunner;
+
+	@Autowired
+	private LoadTestConfig loadTestConfig;
+
+	@Autowired
+	@Qualifier("documentsExtractJob")
+	private JobDetail documentsExtractJob;
+
+	@Test
+	void documentsExtractJob_shouldExtractTheDocumentsOfAllTheShops() throws Exception {
+		final SyntheticLoadTestData syntheticLoadTestData = new SyntheticLoadTestData(loadTestConfig.getSeed());
+		final List<MiraklShop> miraklShops = syntheticLoadTestData.shops(loadTestConfig.getItems());
+		final Map<String, List<Map<String, Object>>> documentsByShop = miraklShops.stream()
+				.collect(Collectors.toMap(MiraklShop::getId, syntheticLoadTestData::shopDocuments));
+
+		final MiraklLoadEndpointsMock miraklLoadEndpointsMock = new MiraklLoadEndpointsMock(mockServerClient,
+				loadTestConfig.endpointFaults());
+		miraklLoadEndpointsMock.getShops(miraklShops);
+		miraklLoadEndpointsMock.updateShops();
+		miraklLoadEndpointsMock.getShopDocuments(documentsByShop);
+		miraklLoadEndpointsMock.getShopDocument(syntheticLoadTestData.documentContent(DOCUMENT_SIZE));
+		miraklLoadEndpointsMock.deleteShopDocuments();
+		new HyperwalletLoadEndpointsMock(mockServerClient, loadTestConfig.endpointFaults()).acceptAllRequests();
+
+		final LoadTestReport result = loadTestRunner.runJob(documentsExtractJob.getKey(), loadTestConfig.getTimeout());
+
+		assertThat(result.getItems()).isPositive();
+	}
+
+}
@@ -12,6 +12,7 @@ import com.mirakl.client.mmp.request.shop.MiraklGetShopsRequest;
 import com.paypal.infrastructure.converter.Converter;
 import com.paypal.infrastructure.exceptions.HMCMiraklAPIException;
 import com.paypal.infrastructure.mail.MailNotificationUtil;
+import com.paypal.infrastructure.miraklshopupdates.services.MiraklShopUpdatesAggregator;
 import com.paypal.infrastructure.sdk.mirakl.MiraklMarketplacePlatformOperatorApiWrapper;
 import com.paypal.infrastructure.util.MiraklLoggingErrorsUtil;
 import com.paypal.kyc.converter.KYCBusinessStakeHolderConverter;
@@ -100,8 +101,11 @@ class MiraklBusinessStakeholderDocumentsExtractServiceImplTest {
 	@Mock
 	private MailNotificationUtil kycMailNotificationUtilMock;
 
+	@Mock
+	private MiraklShopUpdatesAggregator miraklShopUpdatesAggregatorMock;
+
 	@Captor
-	private ArgumentCaptor<MiraklUpdateShopsRequest> miraklUpdateShopArgumentCaptor;
+	private ArgumentCaptor<MiraklUpdateShop> miraklUpdateShopArgumentCaptor;
 
 	@Test
 	void getKYCCustomValuesRequiredVerificationBusinessStakeholders_shouldReturnListOfCode() {
@@ -278,15 +282,16 @@ class MiraklBusinessStakeholderDocumentsExtractServiceImplTest {
                 .build();
         //@formatter:on
 
-		when(miraklMarketplacePlatformOperatorApiClientMock.updateShops(any(MiraklUpdateShopsRequest.class)))
-				.thenReturn(miraklUpdateShopsMock);
+		when(miraklShopUpdatesAggregatorMock.updateShop(any(MiraklUpdateShop.class)))
+				.thenReturn(Optional.of(miraklUpdateShopsMock));
 
 		testObj.setBusinessStakeholderFlagKYCToPushBusinessStakeholderDocumentsToFalse(
 				kycDocumentBusinessStakeHolderInfoModel);
 
-		verify(miraklMarketplacePlatformOperatorApiClientMock).updateShops(miraklUpdateShopArgumentCaptor.capture());
+		verify(miraklShopUpdatesAggregatorMock).updateShop(miraklUpdateShopArgumentCaptor.capture());
 
-		final MiraklUpdateShopsRequest miraklUpdateShopRequest = miraklUpdateShopArgumentCaptor.getValue();
+		final MiraklUpdateShopsRequest miraklUpdateShopRequest = new MiraklUpdateShopsRequest(
+				List.of(miraklUpdateShopArgumentCaptor.getValue()));
 		final List<Long> updatedSellerIdList = miraklUpdateShopRequest.getShops().stream()
 				.map(MiraklUpdateShop::getShopId).collect(Collectors.toList());
 
@@ -307,8 +312,7 @@ class MiraklBusinessStakeholderDocumentsExtractServiceImplTest {
 
 		final MiraklException miraklException = new MiraklException("Something went wrong");
 
-		doThrow(miraklException).when(miraklMarketplacePlatformOperatorApiClientMock)
-				.updateShops(any(MiraklUpdateShopsRequest.class));
+		doThrow(miraklException).when(miraklShopUpdatesAggregatorMock).updateShop(any(MiraklUpdateShop.class));
 
 		assertThatThrownBy(
 				() -> testObj.setBusinessStakeholderFlagKYCToPushBusinessStakeholderDocumentsToFalse(kycDocumentOne))
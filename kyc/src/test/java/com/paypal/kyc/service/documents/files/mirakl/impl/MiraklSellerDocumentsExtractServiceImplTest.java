@@ -5,12 +5,12 @@ import com.mirakl.client.mmp.domain.shop.MiraklShop;
 import com.mirakl.client.mmp.domain.shop.MiraklShops;
 import com.mirakl.client.mmp.operator.domain.shop.update.MiraklUpdateShop;
 import com.mirakl.client.mmp.operator.domain.shop.update.MiraklUpdatedShops;
-import com.mirakl.client.mmp.operator.request.shop.MiraklUpdateShopsRequest;
 import com.mirakl.client.mmp.request.additionalfield.MiraklRequestAdditionalFieldValue;
 import com.mirakl.client.mmp.request.shop.MiraklGetShopsRequest;
 import com.paypal.infrastructure.converter.Converter;
 import com.paypal.infrastructure.exceptions.HMCMiraklAPIException;
 import com.paypal.infrastructure.mail.MailNotificationUtil;
+import com.paypal.infrastructure.miraklshopupdates.services.MiraklShopUpdatesAggregator;
 import com.paypal.infrastructure.sdk.mirakl.MiraklMarketplacePlatformOperatorApiWrapper;
 import com.paypal.infrastructure.util.MiraklLoggingErrorsUtil;
 import com.paypal.kyc.model.KYCDocumentInfoModel;
@@ -80,8 +80,11 @@ class MiraklSellerDocumentsExtractServiceImplTest {
 	@Mock
 	private MiraklUpdatedShops miraklUpdateShopsMock;
 
+	@Mock
+	private MiraklShopUpdatesAggregator miraklShopUpdatesAggregatorMock;
+
 	@Captor
-	private ArgumentCaptor<MiraklUpdateShopsRequest> miraklUpdateShopArgumentCaptor;
+	private ArgumentCaptor<MiraklUpdateShop> miraklUpdateShopArgumentCaptor;
 
 	@Mock
 	private MailNotificationUtil kycMailNotificationUtilMock;
@@ -93,7 +96,8 @@ class MiraklSellerDocumentsExtractServiceImplTest {
 	void setUp() {
 		testObj = new MiraklSellerDocumentsExtractServiceImpl(miraklSellerDocumentDownloadExtractServiceMock,
 				miraklGetShopsRequestConverterMock, miraklShopKyCDocumentInfoModelConverterMock,
-				miraklMarketplacePlatformOperatorApiClientMock, kycMailNotificationUtilMock);
+				miraklMarketplacePlatformOperatorApiClientMock, kycMailNotificationUtilMock,
+				miraklShopUpdatesAggregatorMock);
 	}
 
 	@Test
@@ -158,25 +162,25 @@ class MiraklSellerDocumentsExtractServiceImplTest {
 		final KYCDocumentSellerInfoModel kycDocumentOne = KYCDocumentSellerInfoModel.builder().clientUserId("2000")
 				.build();
 
-		when(miraklMarketplacePlatformOperatorApiClientMock.updateShops(any(MiraklUpdateShopsRequest.class)))
-				.thenReturn(miraklUpdateShopsMock);
+		when(miraklShopUpdatesAggregatorMock.updateShop(any(MiraklUpdateShop.class)))
+				.thenReturn(Optional.of(miraklUpdateShopsMock));
 
 		testObj.setFlagToPushProofOfIdentityAndBusinessSellerDocumentsToFalse(kycDocumentOne);
 
-		verify(miraklMarketplacePlatformOperatorApiClientMock).updateShops(miraklUpdateShopArgumentCaptor.capture());
+		verify(miraklShopUpdatesAggregatorMock).updateShop(miraklUpdateShopArgumentCaptor.capture());
 
-		final MiraklUpdateShopsRequest miraklUpdateShopRequest = miraklUpdateShopArgumentCaptor.getValue();
-		final List<Long> updatedSellerIdList = miraklUpdateShopRequest.getShops().stream()
-				.map(MiraklUpdateShop::getShopId).collect(Collectors.toList());
+		final List<MiraklUpdateShop> updatedShops = miraklUpdateShopArgumentCaptor.getAllValues();
+		final List<Long> updatedSellerIdList = updatedShops.stream().map(MiraklUpdateShop::getShopId)
+				.collect(Collectors.toList());
 
-		final List<String> updatedFlagValueList = miraklUpdateShopRequest.getShops().stream()
+		final List<String> updatedFlagValueList = updatedShops.stream()
 				.map(MiraklUpdateShop::getAdditionalFieldValues).flatMap(Collection::stream)
 				.filter(MiraklRequestAdditionalFieldValue.MiraklSimpleRequestAdditionalFieldValue.class::isInstance)
 				.map(MiraklRequestAdditionalFieldValue.MiraklSimpleRequestAdditionalFieldValue.class::cast)
 				.map(MiraklRequestAdditionalFieldValue.MiraklSimpleRequestAdditionalFieldValue::getValue)
 				.collect(Collectors.toList());
 
-		final List<String> updatedFlagCodeList = miraklUpdateShopRequest.getShops().stream()
+		final List<String> updatedFlagCodeList = updatedShops.stream()
 				.map(MiraklUpdateShop::getAdditionalFieldValues).flatMap(Collection::stream)
 				.filter(MiraklRequestAdditionalFieldValue.MiraklSimpleRequestAdditionalFieldValue.class::isInstance)
 				.map(MiraklRequestAdditionalFieldValue.MiraklSimpleRequestAdditionalFieldValue.class::cast)
@@ -195,8 +199,7 @@ class MiraklSellerDocumentsExtractServiceImplTest {
 
 		final MiraklException miraklException = new MiraklException("Something went wrong");
 
-		doThrow(miraklException).when(miraklMarketplacePlatformOperatorApiClientMock)
-				.updateShops(any(MiraklUpdateShopsRequest.class));
+		doThrow(miraklException).when(miraklShopUpdatesAggregatorMock).updateShop(any(MiraklUpdateShop.class));
 
 		assertThatThrownBy(() -> testObj.setFlagToPushProofOfIdentityAndBusinessSellerDocumentsToFalse(kycDocumentOne))
 				.isInstanceOf(HMCMiraklAPIException.class);
@@ -15,6 +15,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.File;
 import java.util.List;
+import java.util.Set;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 import static org.mockito.Mockito.verify;
@@ -89,6 +90,11 @@ class AbstractMiraklSelectedDocumentsStrategyTest {
 			return List.of("field1", "field2", "field3");
 		}
 
+		@Override
+		public Set<Object> getStrategyKeys() {
+			return Set.of();
+		}
+
 		@Override
 		public boolean isApplicable(final KYCDocumentInfoModel source) {
 			return true;
@@ -1,8 +1,10 @@
 package com.paypal.kyc.strategies.documents.files.mirakl.impl;
 
 import com.paypal.infrastructure.strategy.Strategy;
+import com.paypal.kyc.model.KYCDocumentBusinessStakeHolderInfoModel;
 import com.paypal.kyc.model.KYCDocumentInfoModel;
 import com.paypal.kyc.model.KYCDocumentModel;
+import com.paypal.kyc.model.KYCDocumentSellerInfoModel;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -37,4 +39,12 @@ class MiraklKYCSelectionDocumentExecutorTest {
 		assertThat(result).containsExactly(strategyMock);
 	}
 
+	@Test
+	void getStrategyKey_shouldReturnTheDocumentCategory() {
+		assertThat(testObj.getStrategyKey(KYCDocumentSellerInfoModel.builder().build()))
+				.isEqualTo(KYCDocumentSellerInfoModel.class);
+		assertThat(testObj.getStrategyKey(KYCDocumentBusinessStakeHolderInfoModel.builder().build()))
+				.isEqualTo(KYCDocumentBusinessStakeHolderInfoModel.class);
+	}
+
 }
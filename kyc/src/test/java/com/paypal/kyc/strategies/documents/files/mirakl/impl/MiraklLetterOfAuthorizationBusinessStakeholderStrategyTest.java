@@ -27,6 +27,11 @@ class MiraklLetterOfAuthorizationBusinessStakeholderStrategyTest {
 	@Mock
 	private KYCDocumentSellerInfoModel kycDocumentSellerInfoModelMock;
 
+	@Test
+	void getStrategyKeys_shouldReturnKYCDocumentBusinessStakeHolderInfoModel() {
+		assertThat(testObj.getStrategyKeys()).containsExactly(KYCDocumentBusinessStakeHolderInfoModel.class);
+	}
+
 	@Test
 	void isApplicable_shouldReturnTrueWhenSourceIsInstanceOfKYCDocumentBusinessStakeHolderInfoModelAndIsContactIsTrueAndRequiresLetterOfAuthorizationIsTrue() {
 		when(kycDocumentBusinessStakeHolderInfoModelMock.isContact()).thenReturn(Boolean.TRUE);
@@ -40,6 +40,11 @@ class MiraklProofOfAddressStrategyTest {
 		//@formatter:on
 	}
 
+	@Test
+	void getStrategyKeys_shouldReturnKYCDocumentSellerInfoModel() {
+		assertThat(testObj.getStrategyKeys()).containsExactly(KYCDocumentSellerInfoModel.class);
+	}
+
 	@Test
 	void isApplicable_shouldReturnTrueWhenIsProofOfAddressAndObjectReceivedAsParameterIsKYCDocumentSellerInfoModel() {
 		final boolean result = testObj.isApplicable(kycDocumentSellerInfoModel);
@@ -7,6 +7,7 @@ import com.mirakl.client.mmp.operator.request.shop.MiraklUpdateShopsRequest;
 import com.mirakl.client.mmp.request.additionalfield.MiraklRequestAdditionalFieldValue;
 import com.paypal.infrastructure.exceptions.HMCException;
 import com.paypal.infrastructure.hyperwallet.api.HyperwalletSDKUserService;
+import com.paypal.infrastructure.hyperwalletusers.services.HyperwalletUsersCacheService;
 import com.paypal.infrastructure.hyperwallet.api.UserHyperwalletApiConfig;
 import com.paypal.infrastructure.sdk.mirakl.MiraklMarketplacePlatformOperatorApiWrapper;
 import com.paypal.kyc.model.KYCBusinessStakeholderStatusNotificationBodyModel;
@@ -47,6 +48,9 @@ class BusinessKYCUserLOAStatusNotificationStrategyTest {
 	@InjectMocks
 	private BusinessKYCUserLOAStatusNotificationStrategy testObj;
 
+	@Mock
+	private HyperwalletUsersCacheService hyperwalletUsersCacheServiceMock;
+
 	@Mock
 	private HyperwalletSDKUserService hyperwalletSDKUserServiceMock;
 
@@ -94,6 +98,7 @@ class BusinessKYCUserLOAStatusNotificationStrategyTest {
 		assertThat(result.getCode())
 				.isEqualTo(KYCConstants.HYPERWALLET_KYC_REQUIRED_PROOF_AUTHORIZATION_BUSINESS_FIELD);
 		assertThat(result.getValue()).isEqualTo(Boolean.TRUE.toString());
+		verifyNoInteractions(hyperwalletUsersCacheServiceMock);
 	}
 
 	@Test
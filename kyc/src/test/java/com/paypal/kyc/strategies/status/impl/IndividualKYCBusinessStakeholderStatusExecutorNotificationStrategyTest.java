@@ -9,11 +9,13 @@ import com.mirakl.client.mmp.operator.request.shop.MiraklUpdateShopsRequest;
 import com.mirakl.client.mmp.request.additionalfield.MiraklRequestAdditionalFieldValue;
 import com.paypal.infrastructure.exceptions.HMCException;
 import com.paypal.infrastructure.hyperwallet.api.HyperwalletSDKUserService;
+import com.paypal.infrastructure.hyperwalletusers.services.HyperwalletUsersCacheService;
 import com.paypal.infrastructure.hyperwallet.api.UserHyperwalletApiConfig;
 import com.paypal.infrastructure.sdk.mirakl.MiraklMarketplacePlatformOperatorApiWrapper;
 import com.paypal.kyc.model.KYCBusinessStakeholderStatusNotificationBodyModel;
 import com.paypal.kyc.model.KYCConstants;
 import com.paypal.kyc.service.documents.files.mirakl.MiraklBusinessStakeholderDocumentsExtractService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -24,6 +26,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
@@ -58,6 +62,9 @@ class IndividualKYCBusinessStakeholderStatusExecutorNotificationStrategyTest {
 	@InjectMocks
 	private IndividualKYCBusinessStakeholderStatusNotificationStrategy testObj;
 
+	@Mock
+	private HyperwalletUsersCacheService hyperwalletUsersCacheServiceMock;
+
 	@Mock
 	private HyperwalletSDKUserService hyperwalletSDKUserService;
 
@@ -85,6 +92,14 @@ class IndividualKYCBusinessStakeholderStatusExecutorNotificationStrategyTest {
 	@Captor
 	private ArgumentCaptor<MiraklUpdateShopsRequest> miraklUpdateShopsRequestArgumentCaptor;
 
+	@SuppressWarnings("unchecked")
+	@BeforeEach
+	void setUp() {
+		lenient().when(hyperwalletUsersCacheServiceMock.getUser(any(), any()))
+				.thenAnswer(invocation -> Optional.ofNullable(((Function<String, HyperwalletUser>) invocation
+						.getArgument(1)).apply(invocation.getArgument(0))));
+	}
+
 	@Test
 	void isApplicable_whenBusinessStakeholderTypeIsNull_shouldReturnFalse() {
 		final boolean result = testObj.isApplicable(kycBusinessStakeholderStatusNotificationBodyModelMock);
@@ -160,6 +175,19 @@ class IndividualKYCBusinessStakeholderStatusExecutorNotificationStrategyTest {
 		assertThat(result).isEqualTo(hyperwalletUserMock);
 	}
 
+	@Test
+	void getHyperWalletUser_shouldNotCallHyperwallet_whenTheUserIsCached() {
+		when(kycBusinessStakeholderStatusNotificationBodyModelMock.getUserToken()).thenReturn(USER_TOKEN);
+		when(hyperwalletUsersCacheServiceMock.getUser(eq(USER_TOKEN), any()))
+				.thenReturn(Optional.of(hyperwalletUserMock));
+
+		final HyperwalletUser result = testObj
+				.getHyperWalletUser(kycBusinessStakeholderStatusNotificationBodyModelMock);
+
+		verifyNoInteractions(hyperwalletSDKUserService);
+		assertThat(result).isEqualTo(hyperwalletUserMock);
+	}
+
 	@Test
 	void getHyperWalletUser_whenTheUserDoesNotExitInHyperWallet_shouldThrowHMCException() {
 		when(kycHyperwalletApiConfigMock.getTokens()).thenReturn(USER_STORE_TOKENS);
@@ -1,12 +1,22 @@
 package com.paypal.notifications.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paypal.notifications.dto.NotificationsPageDTO;
 import com.paypal.notifications.exceptions.DateIntervalException;
 import com.paypal.notifications.model.entity.NotificationEntity;
+import com.paypal.notifications.model.entity.NotificationsDeletionEntity;
 import com.paypal.notifications.service.hmc.NotificationEntityService;
+import com.paypal.notifications.service.hmc.NotificationsDeletionService;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.annotation.Resource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.List;
 
@@ -19,9 +29,23 @@ import static org.springframework.http.HttpStatus.OK;
 @RequestMapping("/webhooks")
 public class NotificationsController {
 
+	protected static final String DEFAULT_PAGE_SIZE = "100";
+
+	protected static final int MAX_PAGE_SIZE = 1000;
+
+	protected static final int EXPORT_PAGE_SIZE = 1000;
+
+	private static final byte[] NEW_LINE = "\n".getBytes(StandardCharsets.UTF_8);
+
 	@Resource
 	private NotificationEntityService notificationEntityService;
 
+	@Resource
+	private NotificationsDeletionService notificationsDeletionService;
+
+	@Resource
+	private ObjectMapper objectMapper;
+
 	/**
 	 * Retrieves all the {@link NotificationEntity} whose date are between the given
 	 * dates.
@@ -32,7 +56,10 @@ public class NotificationsController {
 	 * @param to to {@link Date}.
 	 * @return a {@link List} of {@link NotificationEntity} whose reception date are
 	 * between the given from and to dates.
+	 * @deprecated the response isn't bounded, use {@link #getNotificationsPage} or
+	 * {@link #exportNotifications} instead.
 	 */
+	@Deprecated
 	@GetMapping("/notifications")
 	@ResponseStatus(OK)
 	public List<NotificationEntity> getAllNotifications(
@@ -45,22 +72,108 @@ public class NotificationsController {
 	}
 
 	/**
-	 * Deletes all the {@link NotificationEntity} whose date are between the given dates.
+	 * Retrieves a page of the {@link NotificationEntity} whose date are between the given
+	 * dates, ordered by id.
 	 * <p>
 	 * A {@link DateIntervalException} will be thrown if {@code from} date is after thant
 	 * {@code to} date.
 	 * @param from from {@link Date}.
 	 * @param to to {@link Date}.
+	 * @param after the cursor of the page, as returned by the previous page.
+	 * @param limit the maximum number of notifications of the page.
+	 * @return a {@link NotificationsPageDTO} with the page.
 	 */
-	@DeleteMapping("/notifications")
+	@GetMapping("/notifications/page")
 	@ResponseStatus(OK)
-	public void deleteNotificationsBetween(
+	public NotificationsPageDTO getNotificationsPage(
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final Date from,
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final Date to,
+			@RequestParam(required = false) final Long after,
+			@RequestParam(defaultValue = DEFAULT_PAGE_SIZE) final int limit) {
+
+		checkDateIntervals(from, to);
+
+		final int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+		// One more notification is retrieved to know whether there's a next page
+		final List<NotificationEntity> notifications = notificationEntityService.getNotificationsBetween(from, to,
+				after, pageSize + 1);
+		if (notifications.size() <= pageSize) {
+			return new NotificationsPageDTO(notifications, null);
+		}
+		final List<NotificationEntity> page = notifications.subList(0, pageSize);
+
+		return new NotificationsPageDTO(page, page.get(pageSize - 1).getId());
+	}
+
+	/**
+	 * Streams all the {@link NotificationEntity} whose date are between the given dates
+	 * as newline delimited JSON, ordered by id. Notifications are read and written in
+	 * pages, so the memory used doesn't depend on the number of notifications.
+	 * <p>
+	 * A {@link DateIntervalException} will be thrown if {@code from} date is after thant
+	 * {@code to} date.
+	 * @param from from {@link Date}.
+	 * @param to to {@link Date}.
+	 * @return a {@link StreamingResponseBody} writing a {@link NotificationEntity} per
+	 * line.
+	 */
+	@GetMapping(value = "/notifications/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public StreamingResponseBody exportNotifications(
 			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final Date from,
 			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final Date to) {
 
 		checkDateIntervals(from, to);
 
-		notificationEntityService.deleteNotificationsBetween(from, to);
+		return outputStream -> writeNotifications(outputStream, from, to);
+	}
+
+	/**
+	 * Starts the deletion in the background of all the {@link NotificationEntity} whose
+	 * date are between the given dates.
+	 * <p>
+	 * A {@link DateIntervalException} will be thrown if {@code from} date is after thant
+	 * {@code to} date.
+	 * @param from from {@link Date}.
+	 * @param to to {@link Date}.
+	 * @return the {@link NotificationsDeletionEntity} to follow the progress of the
+	 * deletion.
+	 */
+	@DeleteMapping("/notifications")
+	public ResponseEntity<NotificationsDeletionEntity> deleteNotificationsBetween(
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final Date from,
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final Date to) {
+
+		checkDateIntervals(from, to);
+
+		return ResponseEntity.accepted().body(notificationsDeletionService.startDeletion(from, to));
+	}
+
+	/**
+	 * Retrieves the progress of a deletion of notifications.
+	 * @param id the id of the deletion.
+	 * @return the {@link NotificationsDeletionEntity}, or not found if it doesn't exist.
+	 */
+	@GetMapping("/notifications/deletions/{id}")
+	public ResponseEntity<NotificationsDeletionEntity> getDeletion(@PathVariable final String id) {
+		return ResponseEntity.of(notificationsDeletionService.getDeletion(id));
+	}
+
+	private void writeNotifications(final OutputStream outputStream, final Date from, final Date to)
+			throws IOException {
+		Long after = null;
+		List<NotificationEntity> page;
+		do {
+			page = notificationEntityService.getNotificationsBetween(from, to, after, EXPORT_PAGE_SIZE);
+			for (final NotificationEntity notificationEntity : page) {
+				outputStream.write(objectMapper.writeValueAsBytes(notificationEntity));
+				outputStream.write(NEW_LINE);
+			}
+			outputStream.flush();
+			if (!page.isEmpty()) {
+				after = page.get(page.size() - 1).getId();
+			}
+		}
+		while (page.size() == EXPORT_PAGE_SIZE);
 	}
 
 	/**
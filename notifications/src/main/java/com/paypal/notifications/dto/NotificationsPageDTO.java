@@ -0,0 +1,18 @@
+package com.paypal.notifications.dto;
+
+import com.paypal.notifications.model.entity.NotificationEntity;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class NotificationsPageDTO {
+
+	protected final List<NotificationEntity> items;
+
+	/**
+	 * Cursor to retrieve the next page, or {@code null} when this is the last page.
+	 */
+	protected final Long next;
+
+}
@@ -1,5 +1,6 @@
 package com.paypal.notifications.infrastructure.configuration;
 
+import com.paypal.infrastructure.job.JobSchedules;
 import com.paypal.notifications.jobs.NotificationProcessJob;
 import org.quartz.*;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -44,7 +45,7 @@ public class NotificationProcessJobConfig {
 		return TriggerBuilder.newTrigger()
 				.forJob(jobDetails)
 				.withIdentity(TRIGGER_SUFFIX + JOB_NAME)
-				.withSchedule(CronScheduleBuilder.cronSchedule(cronExpression))
+				.withSchedule(JobSchedules.retryJobSchedule(cronExpression))
 				.build();
 		//@formatter:on
 	}
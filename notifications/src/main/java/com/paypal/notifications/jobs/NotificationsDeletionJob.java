@@ -0,0 +1,23 @@
+package com.paypal.notifications.jobs;
+
+import com.paypal.notifications.service.hmc.NotificationsDeletionService;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+
+import javax.annotation.Resource;
+
+/**
+ * Deletes in the background the notifications of the deletion whose id is the name of
+ * the job.
+ */
+public class NotificationsDeletionJob implements Job {
+
+	@Resource
+	protected NotificationsDeletionService notificationsDeletionService;
+
+	@Override
+	public void execute(final JobExecutionContext context) {
+		notificationsDeletionService.runDeletion(context.getJobDetail().getKey().getName());
+	}
+
+}
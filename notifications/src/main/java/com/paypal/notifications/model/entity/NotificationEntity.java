@@ -7,6 +7,8 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
 import java.io.Serializable;
 import java.util.Date;
 
@@ -15,6 +17,7 @@ import java.util.Date;
  */
 @Entity
 @Data
+@Table(indexes = { @Index(columnList = "receptionDate,id") })
 public class NotificationEntity implements Serializable {
 
 	@Id
@@ -0,0 +1,37 @@
+package com.paypal.notifications.model.entity;
+
+import com.paypal.notifications.model.notification.NotificationsDeletionStatus;
+import lombok.Data;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import java.io.Serializable;
+import java.util.Date;
+
+/**
+ * Entity class for the progress of a background deletion of {@link NotificationEntity}.
+ */
+@Entity
+@Data
+public class NotificationsDeletionEntity implements Serializable {
+
+	@Id
+	private String id;
+
+	private Date fromDate;
+
+	private Date toDate;
+
+	private NotificationsDeletionStatus status;
+
+	private long deletedNotifications;
+
+	private Date creationDate;
+
+	private Date startDate;
+
+	private Date lastUpdateDate;
+
+	private Date finishDate;
+
+}
@@ -0,0 +1,12 @@
+package com.paypal.notifications.model.notification;
+
+import com.paypal.notifications.model.entity.NotificationsDeletionEntity;
+
+/**
+ * Status of a {@link NotificationsDeletionEntity}.
+ */
+public enum NotificationsDeletionStatus {
+
+	PENDING, RUNNING, FINISHED, FAILED
+
+}
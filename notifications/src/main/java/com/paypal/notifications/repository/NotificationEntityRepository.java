@@ -1,8 +1,8 @@
 package com.paypal.notifications.repository;
 
 import com.paypal.notifications.model.entity.NotificationEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -30,14 +30,38 @@ public interface NotificationEntityRepository extends JpaRepository<Notification
 	List<NotificationEntity> findNotificationsBetween(@Param("from") Date from, @Param("to") Date to);
 
 	/**
-	 * Deletes all the {@link NotificationEntity} whose reception date are between the
-	 * given dates.
+	 * Retrieves a page of the {@link NotificationEntity} whose reception date are between
+	 * the given dates, ordered by id, whose id is greater than the given one.
+	 * @param from from {@link Date}.
+	 * @param to to {@link Date}.
+	 * @param afterId the id of the last notification of the previous page, or
+	 * {@code null} for the first page.
+	 * @param pageable a {@link Pageable} with the size of the page.
+	 * @return a {@link List} of {@link NotificationEntity} with the page.
+	 */
+	@Query("""
+			Select n from NotificationEntity n
+				where n.receptionDate >= :from and n.receptionDate <= :to
+					and (:afterId is null or n.id > :afterId)
+				order by n.id
+			""")
+	List<NotificationEntity> findNotificationsPageBetween(@Param("from") Date from, @Param("to") Date to,
+			@Param("afterId") Long afterId, Pageable pageable);
+
+	/**
+	 * Retrieves the ids of the oldest {@link NotificationEntity} whose reception date are
+	 * between the given dates.
 	 * @param from from {@link Date}.
 	 * @param to to {@link Date}.
+	 * @param pageable a {@link Pageable} with the maximum number of ids.
+	 * @return a {@link List} of ids of {@link NotificationEntity}.
 	 */
-	@Modifying
-	@Query("Delete from NotificationEntity n where n.receptionDate >= :from and n.receptionDate <= :to")
-	void deleteNotificationsBetween(@Param("from") Date from, @Param("to") Date to);
+	@Query("""
+			Select n.id from NotificationEntity n
+				where n.receptionDate >= :from and n.receptionDate <= :to
+				order by n.id
+			""")
+	List<Long> findNotificationIdsBetween(@Param("from") Date from, @Param("to") Date to, Pageable pageable);
 
 	/**
 	 * Retrieves all the {@link NotificationEntity} whose webHookToken is equals to the
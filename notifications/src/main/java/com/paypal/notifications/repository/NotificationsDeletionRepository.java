@@ -0,0 +1,13 @@
+package com.paypal.notifications.repository;
+
+import com.paypal.notifications.model.entity.NotificationsDeletionEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for the progress of the background deletions of notifications.
+ */
+@Repository
+public interface NotificationsDeletionRepository extends JpaRepository<NotificationsDeletionEntity, String> {
+
+}
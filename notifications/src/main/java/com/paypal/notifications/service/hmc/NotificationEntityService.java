@@ -28,12 +28,27 @@ public interface NotificationEntityService {
 	List<NotificationEntity> getNotificationsBetween(final Date from, final Date to);
 
 	/**
-	 * Deletes all the {@link NotificationEntity} whose reception date are between the
-	 * given dates.
+	 * Retrieves a page of the {@link NotificationEntity} whose date are between the given
+	 * dates, ordered by id.
 	 * @param from from {@link Date}.
 	 * @param to to {@link Date}.
+	 * @param afterId the id of the last notification of the previous page, or
+	 * {@code null} for the first page.
+	 * @param limit the maximum number of notifications of the page.
+	 * @return a {@link List} of {@link NotificationEntity} with the page.
 	 */
-	void deleteNotificationsBetween(final Date from, final Date to);
+	List<NotificationEntity> getNotificationsBetween(final Date from, final Date to, final Long afterId,
+			final int limit);
+
+	/**
+	 * Deletes the oldest {@link NotificationEntity} whose reception date are between the
+	 * given dates, up to the given limit, in a single short transaction.
+	 * @param from from {@link Date}.
+	 * @param to to {@link Date}.
+	 * @param limit the maximum number of notifications to delete.
+	 * @return the number of deleted notifications.
+	 */
+	int deleteNotificationsBetween(final Date from, final Date to, final int limit);
 
 	/**
 	 * Retrieves all the {@link NotificationEntity} whose webHookToken is equals to the
@@ -0,0 +1,39 @@
+package com.paypal.notifications.service.hmc;
+
+import com.paypal.notifications.model.entity.NotificationEntity;
+import com.paypal.notifications.model.entity.NotificationsDeletionEntity;
+
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * Service for deleting {@link NotificationEntity} in the background, in small chunks, so
+ * the notifications database isn't locked while the webhooks keep being received.
+ */
+public interface NotificationsDeletionService {
+
+	/**
+	 * Schedules the deletion of all the {@link NotificationEntity} whose reception date
+	 * are between the given dates.
+	 * @param from from {@link Date}.
+	 * @param to to {@link Date}.
+	 * @return the {@link NotificationsDeletionEntity} to follow the progress of the
+	 * deletion.
+	 */
+	NotificationsDeletionEntity startDeletion(final Date from, final Date to);
+
+	/**
+	 * Deletes the notifications of the given deletion chunk by chunk, updating its
+	 * progress after every chunk.
+	 * @param deletionId the id of the {@link NotificationsDeletionEntity}.
+	 */
+	void runDeletion(final String deletionId);
+
+	/**
+	 * Retrieves the progress of the given deletion.
+	 * @param deletionId the id of the {@link NotificationsDeletionEntity}.
+	 * @return the {@link NotificationsDeletionEntity}, if exists.
+	 */
+	Optional<NotificationsDeletionEntity> getDeletion(final String deletionId);
+
+}
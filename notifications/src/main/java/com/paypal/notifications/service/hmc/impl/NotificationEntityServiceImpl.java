@@ -4,6 +4,7 @@ import com.paypal.notifications.model.entity.NotificationEntity;
 import com.paypal.notifications.repository.NotificationEntityRepository;
 import com.paypal.notifications.service.hmc.NotificationEntityService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import java.util.Date;
@@ -43,8 +44,23 @@ public class NotificationEntityServiceImpl implements NotificationEntityService
 	 * {@inheritDoc}
 	 */
 	@Override
-	public void deleteNotificationsBetween(final Date from, final Date to) {
-		notificationEntityRepository.deleteNotificationsBetween(from, to);
+	public List<NotificationEntity> getNotificationsBetween(final Date from, final Date to, final Long afterId,
+			final int limit) {
+		return notificationEntityRepository.findNotificationsPageBetween(from, to, afterId, Pageable.ofSize(limit));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int deleteNotificationsBetween(final Date from, final Date to, final int limit) {
+		final List<Long> ids = notificationEntityRepository.findNotificationIdsBetween(from, to,
+				Pageable.ofSize(limit));
+		if (!ids.isEmpty()) {
+			notificationEntityRepository.deleteAllByIdInBatch(ids);
+		}
+
+		return ids.size();
 	}
 
 	/**
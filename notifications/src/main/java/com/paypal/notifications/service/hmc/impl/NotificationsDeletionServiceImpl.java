@@ -0,0 +1,147 @@
+package com.paypal.notifications.service.hmc.impl;
+
+import com.paypal.infrastructure.exceptions.HMCException;
+import com.paypal.infrastructure.service.JobService;
+import com.paypal.infrastructure.util.DateUtil;
+import com.paypal.infrastructure.util.TimeMachine;
+import com.paypal.notifications.jobs.NotificationsDeletionJob;
+import com.paypal.notifications.model.entity.NotificationsDeletionEntity;
+import com.paypal.notifications.model.notification.NotificationsDeletionStatus;
+import com.paypal.notifications.repository.NotificationsDeletionRepository;
+import com.paypal.notifications.service.hmc.NotificationEntityService;
+import com.paypal.notifications.service.hmc.NotificationsDeletionService;
+import lombok.extern.slf4j.Slf4j;
+import org.quartz.JobDataMap;
+import org.quartz.SchedulerException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Default implementation of {@link NotificationsDeletionService}. Every chunk of
+ * {@code notifications.deletion.chunkSize} notifications is deleted in its own
+ * transaction, pausing {@code notifications.deletion.pauseMillis} between chunks so the
+ * incoming webhooks get access to the database.
+ */
+@Slf4j
+@Service
+public class NotificationsDeletionServiceImpl implements NotificationsDeletionService {
+
+	protected static final String DELETION_JOB_NAME_PREFIX = "NotificationsDeletion-";
+
+	private final NotificationsDeletionRepository notificationsDeletionRepository;
+
+	private final NotificationEntityService notificationEntityService;
+
+	private final JobService jobService;
+
+	private final int chunkSize;
+
+	private final long pauseMillis;
+
+	public NotificationsDeletionServiceImpl(final NotificationsDeletionRepository notificationsDeletionRepository,
+			final NotificationEntityService notificationEntityService, final JobService jobService,
+			@Value("${notifications.deletion.chunkSize}") final int chunkSize,
+			@Value("${notifications.deletion.pauseMillis}") final long pauseMillis) {
+		this.notificationsDeletionRepository = notificationsDeletionRepository;
+		this.notificationEntityService = notificationEntityService;
+		this.jobService = jobService;
+		this.chunkSize = Math.max(1, chunkSize);
+		this.pauseMillis = Math.max(0, pauseMillis);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public NotificationsDeletionEntity startDeletion(final Date from, final Date to) {
+		final NotificationsDeletionEntity notificationsDeletionEntity = new NotificationsDeletionEntity();
+		notificationsDeletionEntity.setId(DELETION_JOB_NAME_PREFIX + UUID.randomUUID());
+		notificationsDeletionEntity.setFromDate(from);
+		notificationsDeletionEntity.setToDate(to);
+		notificationsDeletionEntity.setStatus(NotificationsDeletionStatus.PENDING);
+		notificationsDeletionEntity.setCreationDate(now());
+		final NotificationsDeletionEntity savedDeletion = notificationsDeletionRepository
+				.save(notificationsDeletionEntity);
+
+		try {
+			jobService.createAndRunSingleExecutionJob(savedDeletion.getId(), NotificationsDeletionJob.class,
+					new JobDataMap(), null);
+		}
+		catch (final SchedulerException e) {
+			savedDeletion.setStatus(NotificationsDeletionStatus.FAILED);
+			savedDeletion.setFinishDate(now());
+			notificationsDeletionRepository.save(savedDeletion);
+			throw new HMCException("Deletion of notifications could not be scheduled", e);
+		}
+
+		return savedDeletion;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void runDeletion(final String deletionId) {
+		final Optional<NotificationsDeletionEntity> deletion = notificationsDeletionRepository.findById(deletionId);
+		if (deletion.isEmpty()) {
+			log.warn("Deletion of notifications [{}] not found", deletionId);
+			return;
+		}
+
+		final NotificationsDeletionEntity notificationsDeletionEntity = deletion.get();
+		notificationsDeletionEntity.setStatus(NotificationsDeletionStatus.RUNNING);
+		notificationsDeletionEntity.setStartDate(now());
+		notificationsDeletionRepository.save(notificationsDeletionEntity);
+		try {
+			deleteInChunks(notificationsDeletionEntity);
+			notificationsDeletionEntity.setStatus(NotificationsDeletionStatus.FINISHED);
+		}
+		catch (final RuntimeException | InterruptedException e) {
+			log.error("Deletion of notifications [{}] failed after deleting {} notifications", deletionId,
+					notificationsDeletionEntity.getDeletedNotifications(), e);
+			notificationsDeletionEntity.setStatus(NotificationsDeletionStatus.FAILED);
+			if (e instanceof InterruptedException) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		notificationsDeletionEntity.setFinishDate(now());
+		notificationsDeletionRepository.save(notificationsDeletionEntity);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Optional<NotificationsDeletionEntity> getDeletion(final String deletionId) {
+		return notificationsDeletionRepository.findById(deletionId);
+	}
+
+	private void deleteInChunks(final NotificationsDeletionEntity notificationsDeletionEntity)
+			throws InterruptedException {
+		int deleted;
+		do {
+			deleted = notificationEntityService.deleteNotificationsBetween(notificationsDeletionEntity.getFromDate(),
+					notificationsDeletionEntity.getToDate(), chunkSize);
+			notificationsDeletionEntity
+					.setDeletedNotifications(notificationsDeletionEntity.getDeletedNotifications() + deleted);
+			notificationsDeletionEntity.setLastUpdateDate(now());
+			notificationsDeletionRepository.save(notificationsDeletionEntity);
+			if (deleted == chunkSize && pauseMillis > 0) {
+				Thread.sleep(pauseMillis);
+			}
+		}
+		while (deleted == chunkSize);
+		log.info("Deletion of notifications [{}] finished, {} notifications deleted",
+				notificationsDeletionEntity.getId(), notificationsDeletionEntity.getDeletedNotifications());
+	}
+
+	private static Date now() {
+		return DateUtil.convertToDate(TimeMachine.now(), ZoneId.systemDefault());
+	}
+
+}
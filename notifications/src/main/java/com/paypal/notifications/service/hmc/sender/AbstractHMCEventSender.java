@@ -6,9 +6,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 
 import javax.annotation.Resource;
+import java.util.Set;
 
 /**
- * Abstract class that defines the publication of events
+ * Abstract class that defines the publication of events.
+ * <p>
+ * Senders are dispatched by the first segment of the notification type, so the routing
+ * key of a sender must start with a whole segment of the types it handles (e.g.
+ * {@code USERS.BUSINESS_STAKEHOLDERS} for {@code USERS.BUSINESS_STAKEHOLDERS.CREATED}).
  */
 @Slf4j
 public abstract class AbstractHMCEventSender {
@@ -24,6 +29,27 @@ public abstract class AbstractHMCEventSender {
 		return null;
 	}
 
+	public Set<Object> getStrategyKeys() {
+		final String routingSegment = getRoutingSegment(getNotificationType());
+		return routingSegment != null ? Set.of(routingSegment) : Set.of();
+	}
+
+	/**
+	 * Returns the first segment of a notification type, which is used as the key to
+	 * dispatch the notifications to the senders.
+	 * @param notificationType the notification type or the routing key of a sender.
+	 * @return the first segment of the notification type.
+	 */
+	public static String getRoutingSegment(final String notificationType) {
+		if (notificationType == null) {
+			return null;
+		}
+		final int separatorIndex = notificationType.indexOf('.');
+		return separatorIndex >= 0 ? notificationType.substring(0, separatorIndex) : notificationType;
+	}
+
+	public abstract String getNotificationType();
+
 	abstract HMCEvent getEvent(final HyperwalletWebhookNotification notification);
 
 }
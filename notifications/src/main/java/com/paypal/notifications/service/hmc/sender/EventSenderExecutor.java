@@ -21,4 +21,9 @@ public class EventSenderExecutor extends SingleAbstractStrategyExecutor<Hyperwal
 		return strategies;
 	}
 
+	@Override
+	protected Object getStrategyKey(final HyperwalletWebhookNotification source) {
+		return AbstractHMCEventSender.getRoutingSegment(source.getType());
+	}
+
 }
@@ -3,7 +3,7 @@ package com.paypal.notifications.service.hmc.sender;
 import com.hyperwallet.clientsdk.model.HyperwalletWebhookNotification;
 import com.paypal.infrastructure.events.HMCEvent;
 import com.paypal.infrastructure.events.KycUserEvent;
-import com.paypal.infrastructure.strategy.Strategy;
+import com.paypal.infrastructure.strategy.KeyedStrategy;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -16,7 +16,7 @@ import org.springframework.stereotype.Service;
 @Getter
 @Service
 public class KycUserEventSender extends AbstractHMCEventSender
-		implements Strategy<HyperwalletWebhookNotification, Void> {
+		implements KeyedStrategy<HyperwalletWebhookNotification, Void> {
 
 	@Value("${notifications.users.kyc.routingKey}")
 	private String notificationType;
@@ -3,7 +3,7 @@ package com.paypal.notifications.service.hmc.sender;
 import com.hyperwallet.clientsdk.model.HyperwalletWebhookNotification;
 import com.paypal.infrastructure.events.HMCEvent;
 import com.paypal.infrastructure.events.PaymentEvent;
-import com.paypal.infrastructure.strategy.Strategy;
+import com.paypal.infrastructure.strategy.KeyedStrategy;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -15,7 +15,8 @@ import org.springframework.stereotype.Service;
 @Slf4j
 @Getter
 @Service
-public class PaymentSender extends AbstractHMCEventSender implements Strategy<HyperwalletWebhookNotification, Void> {
+public class PaymentSender extends AbstractHMCEventSender
+		implements KeyedStrategy<HyperwalletWebhookNotification, Void> {
 
 	@Value("${notifications.payments.routingKey}")
 	private String notificationType;
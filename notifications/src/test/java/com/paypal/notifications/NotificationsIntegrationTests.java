@@ -0,0 +1,13 @@
+package com.paypal.notifications;
+
+import com.paypal.infrastructure.test.InfrastructureIntegrationTest;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.test.context.TestPropertySource;
+
+@EnableAutoConfiguration
+@ComponentScan
+@TestPropertySource(properties = { "notifications.db.datasource.url=jdbc:h2:mem:notifications" })
+public class NotificationsIntegrationTests extends InfrastructureIntegrationTest {
+
+}
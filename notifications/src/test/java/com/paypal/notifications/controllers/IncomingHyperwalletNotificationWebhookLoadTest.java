@@ -0,0 +1,75 @@
+package com.paypal.notifications.controllers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mirakl.client.mmp.domain.shop.MiraklShop;
+import com.paypal.infrastructure.test.load.LoadTestConfig;
+import com.paypal.infrastructure.test.load.LoadTestReport;
+import com.paypal.infrastructure.test.load.LoadTestRunner;
+import com.paypal.infrastructure.test.load.SyntheticLoadTestData;
+import com.paypal.notifications.NotificationsIntegrationTests;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@Tag("LoadTest")
+@AutoConfigureMockMvc
+@Import(LoadTestConfig.class)
+class IncomingHyperwalletNotificationWebhookLoadTest extends NotificationsIntegrationTests {
+
+	private static final String WEBHOOK_URL = "/webhooks/notifications";
+
+	private static final int NOTIFICATIONS_PER_SHOP = 5;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private LoadTestRunner loadTestRunner;
+
+	@Autowired
+	private LoadTestConfig loadTestConfig;
+
+	@Test
+	void receiveIncomingNotification_shouldAcceptAllTheNotifications() throws Exception {
+		final SyntheticLoadTestData syntheticLoadTestData = new SyntheticLoadTestData(loadTestConfig.getSeed());
+		final List<MiraklShop> miraklShops = syntheticLoadTestData
+				.shops(Math.max(1, loadTestConfig.getItems() / NOTIFICATIONS_PER_SHOP));
+		// Notifications are serialized in advance so only the webhook is measured
+		final List<String> notifications = new ArrayList<>();
+		for (final Map<String, Object> notification : syntheticLoadTestData.webhookNotifications(miraklShops,
+				loadTestConfig.getItems())) {
+			notifications.add(objectMapper.writeValueAsString(notification));
+		}
+
+		final LoadTestReport result = loadTestRunner.runRequests("IncomingHyperwalletNotificationWebhook",
+				notifications, loadTestConfig.getConcurrency(), loadTestConfig.getTimeout(), notification -> {
+					//@formatter:off
+					final int status = mockMvc.perform(post(WEBHOOK_URL)
+									.contentType(MediaType.APPLICATION_JSON)
+									.content(notification))
+							.andReturn().getResponse().getStatus();
+					//@formatter:on
+					if (status != HttpStatus.OK.value()) {
+						throw new IllegalStateException("Notification rejected with status " + status);
+					}
+				});
+
+		assertThat(result.getFailedItems()).isZero();
+	}
+
+}
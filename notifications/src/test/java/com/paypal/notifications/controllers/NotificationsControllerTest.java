@@ -1,18 +1,31 @@
 package com.paypal.notifications.controllers;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.paypal.notifications.dto.NotificationsPageDTO;
 import com.paypal.notifications.exceptions.DateIntervalException;
 import com.paypal.notifications.model.entity.NotificationEntity;
+import com.paypal.notifications.model.entity.NotificationsDeletionEntity;
 import com.paypal.notifications.service.hmc.NotificationEntityService;
+import com.paypal.notifications.service.hmc.NotificationsDeletionService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -34,9 +47,18 @@ class NotificationsControllerTest {
 	@Mock
 	private NotificationEntityService notificationEntityServiceMock;
 
+	@Mock
+	private NotificationsDeletionService notificationsDeletionServiceMock;
+
+	@Spy
+	private ObjectMapper objectMapper = new ObjectMapper();
+
 	@Mock
 	private NotificationEntity notificationEntity1Mock, notificationEntity2Mock;
 
+	@Mock
+	private NotificationsDeletionEntity notificationsDeletionEntityMock;
+
 	@Test
 	void getAllNotifications_ShouldThrowADateIntervalException_WhenFromDateIsLaterThanToDate() {
 
@@ -67,11 +89,75 @@ class NotificationsControllerTest {
 	}
 
 	@Test
-	void deleteNotificationsBetween_ShouldRemoveAllNotificationsBetween() {
+	void deleteNotificationsBetween_ShouldStartTheDeletionOfAllNotificationsBetweenInTheBackground() {
+		when(notificationsDeletionServiceMock.startDeletion(FROM_DATE, TO_DATE))
+				.thenReturn(notificationsDeletionEntityMock);
+
+		final ResponseEntity<NotificationsDeletionEntity> result = testObj.deleteNotificationsBetween(FROM_DATE,
+				TO_DATE);
+
+		assertThat(result.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+		assertThat(result.getBody()).isEqualTo(notificationsDeletionEntityMock);
+	}
+
+	@Test
+	void getDeletion_ShouldReturnNotFound_WhenDeletionDoesNotExist() {
+		when(notificationsDeletionServiceMock.getDeletion("deletion")).thenReturn(Optional.empty());
+
+		final ResponseEntity<NotificationsDeletionEntity> result = testObj.getDeletion("deletion");
 
-		testObj.deleteNotificationsBetween(FROM_DATE, TO_DATE);
+		assertThat(result.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+	}
+
+	@Test
+	void getNotificationsPage_ShouldReturnThePageAndTheIdOfItsLastNotification_WhenThereAreMoreNotifications() {
+		when(notificationEntity1Mock.getId()).thenReturn(11L);
+		when(notificationEntityServiceMock.getNotificationsBetween(FROM_DATE, TO_DATE, 10L, 2))
+				.thenReturn(List.of(notificationEntity1Mock, notificationEntity2Mock));
+
+		final NotificationsPageDTO result = testObj.getNotificationsPage(FROM_DATE, TO_DATE, 10L, 1);
+
+		assertThat(result.getItems()).containsExactly(notificationEntity1Mock);
+		assertThat(result.getNext()).isEqualTo(11L);
+	}
+
+	@Test
+	void getNotificationsPage_ShouldReturnTheLastPageWithoutCursor_WhenThereAreNoMoreNotifications() {
+		when(notificationEntityServiceMock.getNotificationsBetween(FROM_DATE, TO_DATE, null, 3))
+				.thenReturn(List.of(notificationEntity1Mock, notificationEntity2Mock));
+
+		final NotificationsPageDTO result = testObj.getNotificationsPage(FROM_DATE, TO_DATE, null, 2);
+
+		assertThat(result.getItems()).containsExactly(notificationEntity1Mock, notificationEntity2Mock);
+		assertThat(result.getNext()).isNull();
+	}
+
+	@Test
+	void exportNotifications_ShouldWriteAllNotificationsAsNewlineDelimitedJsonReadingThemInPages()
+			throws IOException {
+		final List<NotificationEntity> firstPage = notifications(1, NotificationsController.EXPORT_PAGE_SIZE);
+		final List<NotificationEntity> lastPage = notifications(NotificationsController.EXPORT_PAGE_SIZE + 1, 1);
+		when(notificationEntityServiceMock.getNotificationsBetween(FROM_DATE, TO_DATE, null,
+				NotificationsController.EXPORT_PAGE_SIZE)).thenReturn(firstPage);
+		when(notificationEntityServiceMock.getNotificationsBetween(FROM_DATE, TO_DATE,
+				(long) NotificationsController.EXPORT_PAGE_SIZE, NotificationsController.EXPORT_PAGE_SIZE))
+						.thenReturn(lastPage);
+		final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		testObj.exportNotifications(FROM_DATE, TO_DATE).writeTo(outputStream);
+
+		final String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\\n");
+		assertThat(lines).hasSize(NotificationsController.EXPORT_PAGE_SIZE + 1);
+		assertThat(lines[NotificationsController.EXPORT_PAGE_SIZE]).contains("\"webHookToken\":\"token-1001\"");
+	}
 
-		verify(notificationEntityServiceMock).deleteNotificationsBetween(FROM_DATE, TO_DATE);
+	private static List<NotificationEntity> notifications(final long firstId, final int count) {
+		return LongStream.range(firstId, firstId + count).mapToObj(id -> {
+			final NotificationEntity notificationEntity = new NotificationEntity();
+			notificationEntity.setId(id);
+			notificationEntity.setWebHookToken("token-" + id);
+			return notificationEntity;
+		}).collect(Collectors.toList());
 	}
 
 }
@@ -0,0 +1,41 @@
+package com.paypal.notifications.jobs;
+
+import com.paypal.notifications.service.hmc.NotificationsDeletionService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.JobDetail;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobKey;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationsDeletionJobTest {
+
+	@InjectMocks
+	private NotificationsDeletionJob testObj;
+
+	@Mock
+	private NotificationsDeletionService notificationsDeletionServiceMock;
+
+	@Mock
+	private JobExecutionContext jobExecutionContextMock;
+
+	@Mock
+	private JobDetail jobDetailMock;
+
+	@Test
+	void execute_shouldRunTheDeletionNamedAsTheJob() {
+		when(jobExecutionContextMock.getJobDetail()).thenReturn(jobDetailMock);
+		when(jobDetailMock.getKey()).thenReturn(JobKey.jobKey("NotificationsDeletion-1"));
+
+		testObj.execute(jobExecutionContextMock);
+
+		verify(notificationsDeletionServiceMock).runDeletion("NotificationsDeletion-1");
+	}
+
+}
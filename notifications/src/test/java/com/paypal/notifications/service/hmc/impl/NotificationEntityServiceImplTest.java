@@ -7,12 +7,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class NotificationEntityServiceImplTest {
@@ -52,11 +58,34 @@ class NotificationEntityServiceImplTest {
 	}
 
 	@Test
-	void deleteNotificationsBetween_ShouldRemoveNotificationsBetweenTheGivenDates() {
+	void getNotificationsBetween_ShouldGetThePageOfNotificationsAfterTheGivenId() {
 
-		testObj.deleteNotificationsBetween(fromDateMock, toDateMock);
+		testObj.getNotificationsBetween(fromDateMock, toDateMock, 10L, 100);
 
-		verify(notificationEntityRepositoryMock).deleteNotificationsBetween(fromDateMock, toDateMock);
+		verify(notificationEntityRepositoryMock).findNotificationsPageBetween(fromDateMock, toDateMock, 10L,
+				Pageable.ofSize(100));
+	}
+
+	@Test
+	void deleteNotificationsBetween_ShouldRemoveTheOldestNotificationsBetweenTheGivenDatesUpToTheLimit() {
+		when(notificationEntityRepositoryMock.findNotificationIdsBetween(fromDateMock, toDateMock,
+				Pageable.ofSize(2))).thenReturn(List.of(1L, 2L));
+
+		final int result = testObj.deleteNotificationsBetween(fromDateMock, toDateMock, 2);
+
+		verify(notificationEntityRepositoryMock).deleteAllByIdInBatch(List.of(1L, 2L));
+		assertThat(result).isEqualTo(2);
+	}
+
+	@Test
+	void deleteNotificationsBetween_ShouldNotRemoveAnything_WhenThereAreNoNotificationsBetweenTheGivenDates() {
+		when(notificationEntityRepositoryMock.findNotificationIdsBetween(fromDateMock, toDateMock,
+				Pageable.ofSize(2))).thenReturn(List.of());
+
+		final int result = testObj.deleteNotificationsBetween(fromDateMock, toDateMock, 2);
+
+		verify(notificationEntityRepositoryMock, never()).deleteAllByIdInBatch(any());
+		assertThat(result).isZero();
 	}
 
 	@Test
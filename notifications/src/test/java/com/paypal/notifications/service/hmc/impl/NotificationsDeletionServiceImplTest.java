@@ -0,0 +1,157 @@
+package com.paypal.notifications.service.hmc.impl;
+
+import com.paypal.infrastructure.exceptions.HMCException;
+import com.paypal.infrastructure.service.JobService;
+import com.paypal.infrastructure.util.TimeMachine;
+import com.paypal.notifications.jobs.NotificationsDeletionJob;
+import com.paypal.notifications.model.entity.NotificationsDeletionEntity;
+import com.paypal.notifications.model.notification.NotificationsDeletionStatus;
+import com.paypal.notifications.repository.NotificationsDeletionRepository;
+import com.paypal.notifications.service.hmc.NotificationEntityService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.quartz.JobDataMap;
+import org.quartz.SchedulerException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.GregorianCalendar;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationsDeletionServiceImplTest {
+
+	private static final Date FROM_DATE = new GregorianCalendar(2014, Calendar.FEBRUARY, 11).getTime();
+
+	private static final Date TO_DATE = new GregorianCalendar(2015, Calendar.FEBRUARY, 11).getTime();
+
+	private static final String DELETION_ID = "NotificationsDeletion-1";
+
+	private static final int CHUNK_SIZE = 2;
+
+	private NotificationsDeletionServiceImpl testObj;
+
+	@Mock
+	private NotificationsDeletionRepository notificationsDeletionRepositoryMock;
+
+	@Mock
+	private NotificationEntityService notificationEntityServiceMock;
+
+	@Mock
+	private JobService jobServiceMock;
+
+	@Captor
+	private ArgumentCaptor<NotificationsDeletionEntity> notificationsDeletionEntityCaptor;
+
+	private final List<NotificationsDeletionStatus> savedStatuses = new ArrayList<>();
+
+	private final List<Long> savedDeletedNotifications = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		TimeMachine.useFixedClockAt(LocalDateTime.of(2023, 3, 1, 10, 0));
+		testObj = new NotificationsDeletionServiceImpl(notificationsDeletionRepositoryMock,
+				notificationEntityServiceMock, jobServiceMock, CHUNK_SIZE, 0);
+		lenient().when(notificationsDeletionRepositoryMock.save(any(NotificationsDeletionEntity.class)))
+				.thenAnswer(invocation -> {
+					final NotificationsDeletionEntity deletion = invocation.getArgument(0);
+					savedStatuses.add(deletion.getStatus());
+					savedDeletedNotifications.add(deletion.getDeletedNotifications());
+					return deletion;
+				});
+	}
+
+	@AfterEach
+	void tearDown() {
+		TimeMachine.useSystemDefaultZoneClock();
+	}
+
+	@Test
+	void startDeletion_shouldSavePendingDeletionAndScheduleItsJob() throws SchedulerException {
+		final NotificationsDeletionEntity result = testObj.startDeletion(FROM_DATE, TO_DATE);
+
+		assertThat(result.getId()).startsWith(NotificationsDeletionServiceImpl.DELETION_JOB_NAME_PREFIX);
+		assertThat(result.getFromDate()).isEqualTo(FROM_DATE);
+		assertThat(result.getToDate()).isEqualTo(TO_DATE);
+		assertThat(result.getStatus()).isEqualTo(NotificationsDeletionStatus.PENDING);
+		verify(jobServiceMock).createAndRunSingleExecutionJob(eq(result.getId()), eq(NotificationsDeletionJob.class),
+				any(JobDataMap.class), isNull());
+	}
+
+	@Test
+	void startDeletion_shouldMarkDeletionAsFailedAndThrowException_whenJobCanNotBeScheduled()
+			throws SchedulerException {
+		doThrow(new SchedulerException()).when(jobServiceMock).createAndRunSingleExecutionJob(any(),
+				eq(NotificationsDeletionJob.class), any(JobDataMap.class), isNull());
+
+		assertThatThrownBy(() -> testObj.startDeletion(FROM_DATE, TO_DATE)).isInstanceOf(HMCException.class);
+
+		assertThat(savedStatuses).containsExactly(NotificationsDeletionStatus.PENDING,
+				NotificationsDeletionStatus.FAILED);
+	}
+
+	@Test
+	void runDeletion_shouldDeleteNotificationsInChunksReportingProgressAfterEveryChunk() {
+		when(notificationsDeletionRepositoryMock.findById(DELETION_ID)).thenReturn(Optional.of(pendingDeletion()));
+		when(notificationEntityServiceMock.deleteNotificationsBetween(FROM_DATE, TO_DATE, CHUNK_SIZE))
+				.thenReturn(CHUNK_SIZE, CHUNK_SIZE, 1);
+
+		testObj.runDeletion(DELETION_ID);
+
+		verify(notificationEntityServiceMock, times(3)).deleteNotificationsBetween(FROM_DATE, TO_DATE, CHUNK_SIZE);
+		assertThat(savedDeletedNotifications).containsExactly(0L, 2L, 4L, 5L, 5L);
+		assertThat(savedStatuses).containsExactly(NotificationsDeletionStatus.RUNNING,
+				NotificationsDeletionStatus.RUNNING, NotificationsDeletionStatus.RUNNING,
+				NotificationsDeletionStatus.RUNNING, NotificationsDeletionStatus.FINISHED);
+	}
+
+	@Test
+	void runDeletion_shouldMarkDeletionAsFailedKeepingItsProgress_whenAChunkCanNotBeDeleted() {
+		when(notificationsDeletionRepositoryMock.findById(DELETION_ID)).thenReturn(Optional.of(pendingDeletion()));
+		when(notificationEntityServiceMock.deleteNotificationsBetween(FROM_DATE, TO_DATE, CHUNK_SIZE))
+				.thenReturn(CHUNK_SIZE).thenThrow(new IllegalStateException("Database locked"));
+
+		testObj.runDeletion(DELETION_ID);
+
+		verify(notificationsDeletionRepositoryMock, times(3)).save(notificationsDeletionEntityCaptor.capture());
+		final NotificationsDeletionEntity result = notificationsDeletionEntityCaptor.getValue();
+		assertThat(result.getStatus()).isEqualTo(NotificationsDeletionStatus.FAILED);
+		assertThat(result.getDeletedNotifications()).isEqualTo(CHUNK_SIZE);
+		assertThat(result.getFinishDate()).isNotNull();
+	}
+
+	@Test
+	void runDeletion_shouldDoNothing_whenDeletionDoesNotExist() {
+		when(notificationsDeletionRepositoryMock.findById(DELETION_ID)).thenReturn(Optional.empty());
+
+		testObj.runDeletion(DELETION_ID);
+
+		verifyNoInteractions(notificationEntityServiceMock);
+	}
+
+	private static NotificationsDeletionEntity pendingDeletion() {
+		final NotificationsDeletionEntity notificationsDeletionEntity = new NotificationsDeletionEntity();
+		notificationsDeletionEntity.setId(DELETION_ID);
+		notificationsDeletionEntity.setFromDate(FROM_DATE);
+		notificationsDeletionEntity.setToDate(TO_DATE);
+		notificationsDeletionEntity.setStatus(NotificationsDeletionStatus.PENDING);
+
+		return notificationsDeletionEntity;
+	}
+
+}
@@ -38,8 +38,25 @@ class AbstractHMCEventSenderTest {
 		assertThat(event.getNotification()).isEqualTo(notificationMock);
 	}
 
+	@Test
+	void getStrategyKeys_shouldReturnFirstSegmentOfNotificationType() {
+		assertThat(testObj.getStrategyKeys()).containsExactly("USERS");
+	}
+
+	@Test
+	void getRoutingSegment_shouldReturnFirstSegmentOfNotificationType() {
+		assertThat(AbstractHMCEventSender.getRoutingSegment("PAYMENTS.UPDATED.STATUS.COMPLETED")).isEqualTo("PAYMENTS");
+		assertThat(AbstractHMCEventSender.getRoutingSegment("PAYMENTS")).isEqualTo("PAYMENTS");
+		assertThat(AbstractHMCEventSender.getRoutingSegment(null)).isNull();
+	}
+
 	private static class MyHMCEventSender extends AbstractHMCEventSender {
 
+		@Override
+		public String getNotificationType() {
+			return "USERS.BUSINESS_STAKEHOLDERS";
+		}
+
 		@Override
 		HMCEvent getEvent(final HyperwalletWebhookNotification notification) {
 			return new MyEvent(this, notification);
@@ -1,6 +1,7 @@
 package com.paypal.notifications.service.hmc.sender;
 
 import com.hyperwallet.clientsdk.model.HyperwalletWebhookNotification;
+import com.paypal.infrastructure.strategy.KeyedStrategy;
 import com.paypal.infrastructure.strategy.Strategy;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,6 +12,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class EventSenderExecutorTest {
@@ -20,6 +22,15 @@ class EventSenderExecutorTest {
 	@Mock
 	private Strategy<HyperwalletWebhookNotification, Void> strategy1, strategy2;
 
+	@Mock
+	private KeyedStrategy<HyperwalletWebhookNotification, Void> paymentsStrategyMock, usersStrategyMock;
+
+	@Mock
+	private Strategy<HyperwalletWebhookNotification, Void> unknownStrategyMock;
+
+	@Mock
+	private HyperwalletWebhookNotification notificationMock;
+
 	@BeforeEach
 	void setUp() {
 		testObj = new EventSenderExecutor(Set.of(strategy1, strategy2));
@@ -32,4 +43,34 @@ class EventSenderExecutorTest {
 		assertThat(result).containsExactlyInAnyOrder(strategy1, strategy2);
 	}
 
+	@Test
+	void execute_shouldOnlyCheckSendersOfTheNotificationTypeAndSendersWithoutKey() {
+		testObj = new EventSenderExecutor(Set.of(paymentsStrategyMock, usersStrategyMock, unknownStrategyMock));
+		when(paymentsStrategyMock.getStrategyKeys()).thenReturn(Set.of("PAYMENTS"));
+		when(usersStrategyMock.getStrategyKeys()).thenReturn(Set.of("USERS"));
+		when(notificationMock.getType()).thenReturn("PAYMENTS.UPDATED.STATUS.COMPLETED");
+		when(paymentsStrategyMock.isApplicable(notificationMock)).thenReturn(true);
+
+		testObj.execute(notificationMock);
+
+		verify(paymentsStrategyMock).execute(notificationMock);
+		verify(usersStrategyMock, never()).isApplicable(notificationMock);
+		verifyNoInteractions(unknownStrategyMock);
+	}
+
+	@Test
+	void execute_shouldCheckAllSenders_whenNoSenderIsRegisteredForTheNotificationType() {
+		testObj = new EventSenderExecutor(Set.of(paymentsStrategyMock, usersStrategyMock, unknownStrategyMock));
+		when(paymentsStrategyMock.getStrategyKeys()).thenReturn(Set.of("PAYMENTS"));
+		when(usersStrategyMock.getStrategyKeys()).thenReturn(Set.of("USERS"));
+		when(notificationMock.getType()).thenReturn("TRANSFERS.CREATED");
+		when(unknownStrategyMock.isApplicable(notificationMock)).thenReturn(true);
+
+		testObj.execute(notificationMock);
+
+		verify(unknownStrategyMock).execute(notificationMock);
+		verify(paymentsStrategyMock, never()).execute(notificationMock);
+		verify(usersStrategyMock, never()).execute(notificationMock);
+	}
+
 }
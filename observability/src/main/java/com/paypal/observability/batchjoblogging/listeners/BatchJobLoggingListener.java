@@ -1,6 +1,7 @@
 package com.paypal.observability.batchjoblogging.listeners;
 
 import com.paypal.infrastructure.batchjob.BatchJobContext;
+import com.paypal.infrastructure.batchjob.BatchJobContextSnapshot;
 import com.paypal.infrastructure.batchjob.BatchJobItem;
 import com.paypal.infrastructure.batchjob.BatchJobItemValidationResult;
 import com.paypal.infrastructure.batchjob.listeners.AbstractBatchJobProcessingListenerSupport;
@@ -126,14 +127,16 @@ public class BatchJobLoggingListener extends AbstractBatchJobProcessingListenerS
 
 	@SuppressWarnings("java:S3655")
 	private void logBatchProgress(final BatchJobContext ctx) {
+		final BatchJobContextSnapshot snapshot = ctx.getSnapshot();
 		log.info("{} items processed successfully. {} items failed. {} items remaining",
-				ctx.getNumberOfItemsProcessed(), ctx.getNumberOfItemsFailed(), ctx.getNumberOfItemsRemaining());
-		if (ctx.getNumberOfItemsRemaining() == 0 && ctx.isPartialItemExtraction()
+				snapshot.getNumberOfItemsProcessed(), snapshot.getNumberOfItemsFailed(),
+				snapshot.getNumberOfItemsRemaining());
+		if (snapshot.getNumberOfItemsRemaining() == 0 && ctx.isPartialItemExtraction()
 				&& !ctx.getNumberOfItemsNotSuccessfullyExtracted().isPresent()) {
 			log.warn("Not all items were able to be retrieved during the extraction phase,"
 					+ " so there are additional items that couldn't be processed since they weren't retrieved.");
 		}
-		else if (ctx.getNumberOfItemsRemaining() == 0 && ctx.isPartialItemExtraction()
+		else if (snapshot.getNumberOfItemsRemaining() == 0 && ctx.isPartialItemExtraction()
 				&& ctx.getNumberOfItemsNotSuccessfullyExtracted().isPresent()) {
 			log.warn("Additionally there were {} items that couldn't be retrieved during the extraction phase,"
 					+ " so they were not processed.", ctx.getNumberOfItemsNotSuccessfullyExtracted().get());
@@ -7,6 +7,8 @@ import com.paypal.observability.loggingcontext.model.LoggingTransaction;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.function.BiConsumer;
+
 @Data
 @NoArgsConstructor
 public class BatchJobLoggingTransaction implements LoggingTransaction {
@@ -38,4 +40,11 @@ public class BatchJobLoggingTransaction implements LoggingTransaction {
 		return objectMapper.valueToTree(this);
 	}
 
+	@Override
+	public void writeFields(final BiConsumer<String, String> fieldWriter) {
+		LoggingTransaction.super.writeFields(fieldWriter);
+		fieldWriter.accept("itemType", itemType);
+		fieldWriter.accept("itemId", itemId);
+	}
+
 }
@@ -0,0 +1,49 @@
+package com.paypal.observability.loggingcontext.logging;
+
+import ch.qos.logback.classic.pattern.ClassicConverter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+
+import java.util.Map;
+
+import static com.paypal.observability.loggingcontext.service.LoggingContextServiceImpl.KEY_BUSINESS_TRANSACTION_FIELD_PREFIX;
+
+/**
+ * Logback converter that renders the fields of the current logging transaction, stored in
+ * the MDC by {@link com.paypal.observability.loggingcontext.service.LoggingContextServiceImpl},
+ * as a JSON object. The transaction is only serialized when a log event is written, and
+ * since the fields are read from the MDC copy of the event it also works with asynchronous
+ * appenders.
+ * <p>
+ * It's registered in the logback configuration with:
+ *
+ * <pre>
+ * &lt;conversionRule conversionWord="businessTransaction"
+ *     converterClass="com.paypal.observability.loggingcontext.logging.BusinessTransactionConverter"/&gt;
+ * </pre>
+ */
+public class BusinessTransactionConverter extends ClassicConverter {
+
+	@Override
+	public String convert(final ILoggingEvent event) {
+		final Map<String, String> mdc = event.getMDCPropertyMap();
+		if (mdc == null || mdc.isEmpty()) {
+			return "";
+		}
+
+		StringBuilder json = null;
+		for (final Map.Entry<String, String> entry : mdc.entrySet()) {
+			final String key = entry.getKey();
+			if (key.startsWith(KEY_BUSINESS_TRANSACTION_FIELD_PREFIX)) {
+				json = json == null ? new StringBuilder("{") : json.append(',');
+				json.append('"').append(key, KEY_BUSINESS_TRANSACTION_FIELD_PREFIX.length(), key.length())
+						.append("\":\"");
+				JsonStringEncoder.getInstance().quoteAsString(entry.getValue(), json);
+				json.append('"');
+			}
+		}
+
+		return json != null ? json.append('}').toString() : "";
+	}
+
+}
@@ -2,8 +2,16 @@ package com.paypal.observability.loggingcontext.model;
 
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import java.util.function.BiConsumer;
+
 public interface LoggingTransaction {
 
+	String FIELD_ID = "id";
+
+	String FIELD_TYPE = "type";
+
+	String FIELD_SUBTYPE = "subtype";
+
 	String getId();
 
 	String getType();
@@ -12,4 +20,16 @@ public interface LoggingTransaction {
 
 	ObjectNode toJson();
 
+	/**
+	 * Writes every field of the transaction into the received writer without serializing
+	 * it. Fields without value are written too with a {@code null} value, so they can be
+	 * removed from the logging context.
+	 * @param fieldWriter the consumer of the field names and values.
+	 */
+	default void writeFields(final BiConsumer<String, String> fieldWriter) {
+		fieldWriter.accept(FIELD_ID, getId());
+		fieldWriter.accept(FIELD_TYPE, getType());
+		fieldWriter.accept(FIELD_SUBTYPE, getSubtype());
+	}
+
 }
@@ -1,25 +1,33 @@
 package com.paypal.observability.loggingcontext.service;
 
 import com.paypal.observability.loggingcontext.model.LoggingTransaction;
-import com.paypal.observability.loggingcontext.service.serializer.LoggingTransactionSerializer;
 import org.slf4j.MDC;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Default implementation of {@link LoggingContextService}. The fields of the logging
+ * transaction are stored as plain values in the MDC, one entry per field prefixed with
+ * {@link #KEY_BUSINESS_TRANSACTION}, so updating the transaction doesn't serialize it.
+ * They are rendered as a single JSON object only when a log event is written, by
+ * {@link com.paypal.observability.loggingcontext.logging.BusinessTransactionConverter}.
+ */
 @Component
 public class LoggingContextServiceImpl implements LoggingContextService {
 
 	public static final String KEY_BUSINESS_TRANSACTION = "businessTransaction";
 
-	private final LoggingContextHolder loggingTransactionContext;
+	public static final String KEY_BUSINESS_TRANSACTION_FIELD_PREFIX = KEY_BUSINESS_TRANSACTION + ".";
+
+	private static final Map<String, String> MDC_KEYS = new ConcurrentHashMap<>();
 
-	private final LoggingTransactionSerializer loggingTransactionSerializer;
+	private final LoggingContextHolder loggingTransactionContext;
 
-	public LoggingContextServiceImpl(final LoggingContextHolder loggingTransactionContext,
-			final LoggingTransactionSerializer loggingTransactionSerializer) {
+	public LoggingContextServiceImpl(final LoggingContextHolder loggingTransactionContext) {
 		this.loggingTransactionContext = loggingTransactionContext;
-		this.loggingTransactionSerializer = loggingTransactionSerializer;
 	}
 
 	@Override
@@ -30,7 +38,7 @@ public class LoggingContextServiceImpl implements LoggingContextService {
 	@Override
 	public void updateLoggingTransaction(final LoggingTransaction loggingTransaction) {
 		loggingTransactionContext.refreshBusinessTransaction(loggingTransaction);
-		MDC.put(KEY_BUSINESS_TRANSACTION, loggingTransactionSerializer.serialize(loggingTransaction));
+		loggingTransaction.writeFields(LoggingContextServiceImpl::putField);
 	}
 
 	@Override
@@ -49,4 +57,17 @@ public class LoggingContextServiceImpl implements LoggingContextService {
 		closeLoggingTransaction();
 	}
 
+	private static void putField(final String field, final String value) {
+		final String key = MDC_KEYS.computeIfAbsent(field, KEY_BUSINESS_TRANSACTION_FIELD_PREFIX::concat);
+		// Unchanged fields are skipped, as any change may copy the whole MDC map of the
+		// thread
+		final String currentValue = MDC.get(key);
+		if (value == null && currentValue != null) {
+			MDC.remove(key);
+		}
+		else if (value != null && !value.equals(currentValue)) {
+			MDC.put(key, value);
+		}
+	}
+
 }
@@ -0,0 +1,63 @@
+package com.paypal.observability.loggingcontext.service;
+
+import com.paypal.observability.loggingcontext.model.LoggingTransaction;
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Propagates the logging context of the thread submitting a task to the worker thread
+ * that executes it. Both the MDC and the current {@link LoggingTransaction} are captured
+ * when the task is submitted, and the previous context of the worker thread is restored
+ * when the task finishes.
+ * <p>
+ * Spring Boot applies it to the auto-configured task executor, other executors can use it
+ * through {@link #decorate(Runnable)}.
+ */
+@Component
+public class LoggingContextTaskDecorator implements TaskDecorator {
+
+	private final LoggingContextHolder loggingContextHolder;
+
+	public LoggingContextTaskDecorator(final LoggingContextHolder loggingContextHolder) {
+		this.loggingContextHolder = loggingContextHolder;
+	}
+
+	@Override
+	public Runnable decorate(final Runnable runnable) {
+		final Map<String, String> submitterMdc = MDC.getCopyOfContextMap();
+		final LoggingTransaction submitterTransaction = loggingContextHolder.getCurrentBusinessTransaction()
+				.orElse(null);
+
+		return () -> {
+			final Map<String, String> workerMdc = MDC.getCopyOfContextMap();
+			final LoggingTransaction workerTransaction = loggingContextHolder.getCurrentBusinessTransaction()
+					.orElse(null);
+			setLoggingContext(submitterMdc, submitterTransaction);
+			try {
+				runnable.run();
+			}
+			finally {
+				setLoggingContext(workerMdc, workerTransaction);
+			}
+		};
+	}
+
+	private void setLoggingContext(final Map<String, String> mdc, final LoggingTransaction loggingTransaction) {
+		if (mdc != null) {
+			MDC.setContextMap(mdc);
+		}
+		else {
+			MDC.clear();
+		}
+		if (loggingTransaction != null) {
+			loggingContextHolder.refreshBusinessTransaction(loggingTransaction);
+		}
+		else {
+			loggingContextHolder.closeBusinessTransaction();
+		}
+	}
+
+}
@@ -54,16 +54,19 @@ public class MiraklDocSchemaCheckerServiceImpl implements MiraklDocSchemaChecker
 	}
 
 	private MiraklSchemaDiffReport getMiraklDocSchemaDiffReport() {
-		final List<MiraklDocumentsConfiguration> documents = miraklDocSchemaConnector.getShopDocumentConfigurations();
-		final MiraklSchema remoteDocSchema = miraklDocSchemaConnectorConverter.from(documents);
-
 		final MiraklDocSchemaYaml miraklDocSchemaYaml = miraklDocSchemaRepository.loadCustomFieldsSchema();
 		final MiraklSchema expectedDocSchema = miraklDocSchemaRepositoryConverter.from(miraklDocSchemaYaml);
 
 		final MiraklSchemaDiff miraklDocSchemaDiff = miraklSchemaComparator.compareSchemas(expectedDocSchema,
-				remoteDocSchema);
+				this::getRemoteDocSchema);
 
 		return miraklSchemaDiffReportBuilder.getSchemaReport(miraklDocSchemaDiff);
 	}
 
+	private MiraklSchema getRemoteDocSchema() {
+		final List<MiraklDocumentsConfiguration> documents = miraklDocSchemaConnector.getShopDocumentConfigurations();
+
+		return miraklDocSchemaConnectorConverter.from(documents);
+	}
+
 }
@@ -50,17 +50,20 @@ public class MiraklFieldSchemaCheckerServiceImpl implements MiraklFieldSchemaChe
 
 	@Override
 	public MiraklSchemaDiffReport checkMiraklSchema() {
-		final List<MiraklFrontOperatorAdditionalField> miraklFields = miraklFieldSchemaConnector.getShopCustomFields();
-		final MiraklSchema remoteSchema = miraklFieldSchemaConnectorConverter.from(miraklFields);
-
 		final MiraklFieldSchemaYaml miraklFieldSchemaYaml = miraklFieldSchemaRepository
 				.loadCustomFieldsSchema(isKycAutomated);
 		final MiraklSchema expectedSchema = miraklFieldSchemaRepositoryConverter.from(miraklFieldSchemaYaml);
 
 		final MiraklSchemaDiff miraklFieldSchemaDiff = miraklFieldSchemaComparator.compareSchemas(expectedSchema,
-				remoteSchema);
+				this::getRemoteSchema);
 
 		return miraklFieldSchemaDiffReportBuilder.getSchemaReport(miraklFieldSchemaDiff);
 	}
 
+	private MiraklSchema getRemoteSchema() {
+		final List<MiraklFrontOperatorAdditionalField> miraklFields = miraklFieldSchemaConnector.getShopCustomFields();
+
+		return miraklFieldSchemaConnectorConverter.from(miraklFields);
+	}
+
 }
@@ -7,14 +7,23 @@ import org.springframework.stereotype.Component;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 public class MiraklSchemaDiffEvaluatorRegistry {
 
+	/**
+	 * Must be increased whenever the rules applied by any evaluator change, so the
+	 * comparisons cached with the previous rules aren't reused.
+	 */
+	protected static final int EVALUATORS_VERSION = 1;
+
 	private final Map<Class<? extends MiraklSchemaItem>, List<MiraklSchemaItemDiffEvaluator>> itemDiffEvaluatorsRegistry;
 
 	private final Map<Class<? extends MiraklSchemaItem>, List<MiraklSchemaSetDiffEvaluator>> setDiffEvaluatorsRegistry;
 
+	private final String version;
+
 	public MiraklSchemaDiffEvaluatorRegistry(final List<MiraklSchemaItemDiffEvaluator> miraklSchemaItemDiffEvaluators,
 			final List<MiraklSchemaSetDiffEvaluator> miraklSchemaSetDiffEvaluators) {
 
@@ -22,6 +31,21 @@ public class MiraklSchemaDiffEvaluatorRegistry {
 				.collect(Collectors.groupingBy(MiraklSchemaItemDiffEvaluator::targetClass));
 		setDiffEvaluatorsRegistry = miraklSchemaSetDiffEvaluators.stream()
 				.collect(Collectors.groupingBy(MiraklSchemaSetDiffEvaluator::targetClass));
+		//@formatter:off
+		version = Stream.concat(miraklSchemaItemDiffEvaluators.stream(), miraklSchemaSetDiffEvaluators.stream())
+				.map(evaluator -> evaluator.getClass().getName())
+				.sorted()
+				.collect(Collectors.joining(",", EVALUATORS_VERSION + ":", ""));
+		//@formatter:on
+	}
+
+	/**
+	 * Returns the version of the registered evaluators, which changes when
+	 * {@link #EVALUATORS_VERSION} is increased or evaluators are added or removed.
+	 * @return the version of the evaluators.
+	 */
+	public String getVersion() {
+		return version;
 	}
 
 	public List<MiraklSchemaItemDiffEvaluator> getItemDiffEvaluators(final MiraklSchemaItem item) {
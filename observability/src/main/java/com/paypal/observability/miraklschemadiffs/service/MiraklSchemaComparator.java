@@ -3,8 +3,19 @@ package com.paypal.observability.miraklschemadiffs.service;
 import com.paypal.observability.miraklschemadiffs.model.MiraklSchema;
 import com.paypal.observability.miraklschemadiffs.model.diff.MiraklSchemaDiff;
 
+import java.util.function.Supplier;
+
 public interface MiraklSchemaComparator {
 
 	MiraklSchemaDiff compareSchemas(MiraklSchema customFieldsSchema1, MiraklSchema customFieldsSchema2);
 
+	/**
+	 * Compares the expected schema with the remote one. The remote schema is only
+	 * retrieved when the expected schema hasn't been recently found equal to it.
+	 * @param expected the schema expected by the connector.
+	 * @param actualSupplier retrieves the schema from Mirakl.
+	 * @return the {@link MiraklSchemaDiff} between both schemas.
+	 */
+	MiraklSchemaDiff compareSchemas(MiraklSchema expected, Supplier<MiraklSchema> actualSupplier);
+
 }
@@ -5,14 +5,17 @@ import com.paypal.observability.miraklschemadiffs.model.MiraklSchemaItem;
 import com.paypal.observability.miraklschemadiffs.model.diff.MiraklSchemaDiff;
 import com.paypal.observability.miraklschemadiffs.model.diff.MiraklSchemaDiffEntry;
 import com.paypal.observability.miraklschemadiffs.model.diffevaluators.MiraklSchemaDiffEvaluatorRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 public class MiraklSchemaComparatorImpl implements MiraklSchemaComparator {
 
@@ -20,12 +23,39 @@ public class MiraklSchemaComparatorImpl implements MiraklSchemaComparator {
 
 	private final MiraklSchemaDiffEvaluatorRegistry miraklSchemaDiffEvaluatorRegistry;
 
-	public MiraklSchemaComparatorImpl(MiraklSchemaDiffEvaluatorRegistry miraklSchemaDiffEvaluatorRegistry) {
+	private final MiraklSchemaComparisonCache miraklSchemaComparisonCache;
+
+	public MiraklSchemaComparatorImpl(MiraklSchemaDiffEvaluatorRegistry miraklSchemaDiffEvaluatorRegistry,
+			MiraklSchemaComparisonCache miraklSchemaComparisonCache) {
 		this.miraklSchemaDiffEvaluatorRegistry = miraklSchemaDiffEvaluatorRegistry;
+		this.miraklSchemaComparisonCache = miraklSchemaComparisonCache;
 	}
 
 	@Override
 	public MiraklSchemaDiff compareSchemas(MiraklSchema expected, MiraklSchema actual) {
+		return doCompareSchemas(expected, actual);
+	}
+
+	@Override
+	public MiraklSchemaDiff compareSchemas(MiraklSchema expected, Supplier<MiraklSchema> actualSupplier) {
+		if (miraklSchemaComparisonCache.isKnownMatch(expected)) {
+			log.debug("Mirakl schema of type [{}] was recently found equal to the remote one",
+					expected.getType().getSimpleName());
+			return new MiraklSchemaDiff(expected.getType());
+		}
+
+		MiraklSchemaDiff miraklSchemaDiff = doCompareSchemas(expected, actualSupplier.get());
+		if (miraklSchemaDiff.getDifferences().isEmpty()) {
+			miraklSchemaComparisonCache.storeMatch(expected);
+		}
+		else {
+			miraklSchemaComparisonCache.evict(expected);
+		}
+
+		return miraklSchemaDiff;
+	}
+
+	private MiraklSchemaDiff doCompareSchemas(MiraklSchema expected, MiraklSchema actual) {
 		MiraklSchema filteredExpected = filterNonHwFields(expected);
 		MiraklSchema filteredActual = filterNonHwFields(actual);
 
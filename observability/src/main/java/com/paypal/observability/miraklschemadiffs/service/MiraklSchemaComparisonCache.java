@@ -0,0 +1,33 @@
+package com.paypal.observability.miraklschemadiffs.service;
+
+import com.paypal.observability.miraklschemadiffs.model.MiraklSchema;
+
+/**
+ * Remembers across restarts that the expected schema was recently found equal to the
+ * remote one, so neither the remote schema needs to be retrieved nor the schemas need to
+ * be compared again.
+ */
+public interface MiraklSchemaComparisonCache {
+
+	/**
+	 * Checks if the received schema was found equal to the remote one by a recent
+	 * comparison done with the current diff evaluators.
+	 * @param expected the schema expected by the connector.
+	 * @return true if the remote schema doesn't need to be retrieved and compared.
+	 */
+	boolean isKnownMatch(MiraklSchema expected);
+
+	/**
+	 * Stores that the received schema has been found equal to the remote one.
+	 * @param expected the schema expected by the connector.
+	 */
+	void storeMatch(MiraklSchema expected);
+
+	/**
+	 * Forgets the last successful comparison of the schemas of the same type than the
+	 * received one.
+	 * @param expected the schema expected by the connector.
+	 */
+	void evict(MiraklSchema expected);
+
+}
@@ -0,0 +1,117 @@
+package com.paypal.observability.miraklschemadiffs.service;
+
+import com.paypal.observability.miraklschemadiffs.model.MiraklSchema;
+import com.paypal.observability.miraklschemadiffs.model.diffevaluators.MiraklSchemaDiffEvaluatorRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * {@link MiraklSchemaComparisonCache} that keeps a fingerprint of the expected schema and
+ * the version of the diff evaluators in a file per schema type inside
+ * {@code hmc.startupChecks.schemaCacheDir}. The Mirakl APIs don't return any ETag or last
+ * modification date of the schemas, so a stored match is trusted until the file is older
+ * than {@code hmc.startupChecks.schemaCacheMaxAgeMinutes}, and the remote schema isn't
+ * retrieved until then. When no directory is configured nothing is cached and every
+ * comparison is done.
+ * <p>
+ * Any error reading or writing the cache files is logged and treated as a cache miss, so
+ * the cache can never make a check pass that wouldn't have passed without it.
+ */
+@Slf4j
+@Service
+public class MiraklSchemaComparisonCacheImpl implements MiraklSchemaComparisonCache {
+
+	private static final String CACHE_FILE_EXTENSION = ".md5";
+
+	private final Optional<Path> cacheDir;
+
+	private final Duration maxAge;
+
+	private final MiraklSchemaDiffEvaluatorRegistry miraklSchemaDiffEvaluatorRegistry;
+
+	public MiraklSchemaComparisonCacheImpl(@Value("${hmc.startupChecks.schemaCacheDir}") final String cacheDir,
+			@Value("${hmc.startupChecks.schemaCacheMaxAgeMinutes}") final long maxAgeMinutes,
+			final MiraklSchemaDiffEvaluatorRegistry miraklSchemaDiffEvaluatorRegistry) {
+		this.cacheDir = StringUtils.isBlank(cacheDir) ? Optional.empty() : Optional.of(Path.of(cacheDir));
+		this.maxAge = Duration.ofMinutes(maxAgeMinutes);
+		this.miraklSchemaDiffEvaluatorRegistry = miraklSchemaDiffEvaluatorRegistry;
+	}
+
+	@Override
+	public boolean isKnownMatch(final MiraklSchema expected) {
+		return cacheDir.map(dir -> readFingerprint(getCacheFile(dir, expected)))
+				.map(fingerprint -> fingerprint.equals(getFingerprint(expected))).orElse(false);
+	}
+
+	@Override
+	public void storeMatch(final MiraklSchema expected) {
+		cacheDir.ifPresent(dir -> writeFingerprint(dir, getCacheFile(dir, expected), getFingerprint(expected)));
+	}
+
+	@Override
+	public void evict(final MiraklSchema expected) {
+		cacheDir.ifPresent(dir -> deleteFingerprint(getCacheFile(dir, expected)));
+	}
+
+	private String readFingerprint(final Path cacheFile) {
+		if (!Files.isRegularFile(cacheFile)) {
+			return null;
+		}
+		try {
+			final Instant lastModified = Files.getLastModifiedTime(cacheFile).toInstant();
+			if (lastModified.plus(maxAge).isBefore(Instant.now())) {
+				return null;
+			}
+
+			return Files.readString(cacheFile, StandardCharsets.UTF_8).trim();
+		}
+		catch (final IOException e) {
+			log.warn("Mirakl schema comparison cache file [{}] couldn't be read", cacheFile, e);
+			return null;
+		}
+	}
+
+	private void writeFingerprint(final Path dir, final Path cacheFile, final String fingerprint) {
+		try {
+			Files.createDirectories(dir);
+			Files.writeString(cacheFile, fingerprint, StandardCharsets.UTF_8);
+		}
+		catch (final IOException e) {
+			log.warn("Mirakl schema comparison cache file [{}] couldn't be written", cacheFile, e);
+		}
+	}
+
+	private void deleteFingerprint(final Path cacheFile) {
+		try {
+			Files.deleteIfExists(cacheFile);
+		}
+		catch (final IOException e) {
+			log.warn("Mirakl schema comparison cache file [{}] couldn't be deleted", cacheFile, e);
+		}
+	}
+
+	private Path getCacheFile(final Path dir, final MiraklSchema expected) {
+		return dir.resolve(expected.getType().getSimpleName() + CACHE_FILE_EXTENSION);
+	}
+
+	/**
+	 * The string representation of the schema only contains the values of its items, so
+	 * unlike its hash code it's stable between different executions.
+	 */
+	private String getFingerprint(final MiraklSchema expected) {
+		return DigestUtils.md5DigestAsHex((miraklSchemaDiffEvaluatorRegistry.getVersion() + "\n" + expected)
+				.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
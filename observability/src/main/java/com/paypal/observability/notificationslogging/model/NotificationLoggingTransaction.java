@@ -7,6 +7,8 @@ import com.paypal.observability.loggingcontext.model.LoggingTransaction;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.function.BiConsumer;
+
 @Data
 @NoArgsConstructor
 public class NotificationLoggingTransaction implements LoggingTransaction {
@@ -41,4 +43,12 @@ public class NotificationLoggingTransaction implements LoggingTransaction {
 		return objectMapper.valueToTree(this);
 	}
 
+	@Override
+	public void writeFields(final BiConsumer<String, String> fieldWriter) {
+		LoggingTransaction.super.writeFields(fieldWriter);
+		fieldWriter.accept("targetToken", targetToken);
+		fieldWriter.accept("miraklShopId", miraklShopId);
+		fieldWriter.accept("clientPaymentId", clientPaymentId);
+	}
+
 }
@@ -1,17 +1,17 @@
 package com.paypal.observability.startupchecks.service;
 
+import com.paypal.observability.loggingcontext.service.LoggingContextTaskDecorator;
 import com.paypal.observability.startupchecks.model.*;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 
-import java.util.Collection;
-import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.*;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -26,6 +26,8 @@ public class StartupCheckerService {
 
 	public static final String LOGMSG_STATUS_READY = "All system startup checks has not passed.";
 
+	public static final String TIMEOUT_KEY = "timeoutSeconds";
+
 	public static final String LOGMSG_SYSTEM_SHUTDOWN = "Some of the errors found during startup checks will cause the system to not work properly. System will shutdown.";
 
 	@Value("${hmc.startupChecks.enabled}")
@@ -34,18 +36,27 @@ public class StartupCheckerService {
 	@Value("${hmc.startupChecks.exitOnFail}")
 	protected boolean startupChecksExitOnFail;
 
+	@Value("${hmc.startupChecks.parallelism}")
+	protected int startupChecksParallelism;
+
+	@Value("${hmc.startupChecks.timeoutSeconds}")
+	protected long startupChecksTimeoutSeconds;
+
 	private final List<StartupCheckProvider> startupCheckProviders;
 
 	private final StartupCheckPrinterRegistry startupCheckPrinterRegistry;
 
 	private final ConfigurableApplicationContext applicationContext;
 
+	private final LoggingContextTaskDecorator loggingContextTaskDecorator;
+
 	public StartupCheckerService(List<StartupCheckProvider> startupCheckProviders,
-			StartupCheckPrinterRegistry startupCheckPrinterRegistry,
-			ConfigurableApplicationContext applicationContext) {
+			StartupCheckPrinterRegistry startupCheckPrinterRegistry, ConfigurableApplicationContext applicationContext,
+			LoggingContextTaskDecorator loggingContextTaskDecorator) {
 		this.startupCheckProviders = startupCheckProviders;
 		this.startupCheckPrinterRegistry = startupCheckPrinterRegistry;
 		this.applicationContext = applicationContext;
+		this.loggingContextTaskDecorator = loggingContextTaskDecorator;
 	}
 
 	@EventListener(ContextRefreshedEvent.class)
@@ -58,7 +69,8 @@ public class StartupCheckerService {
 	protected void doStartupChecks() {
 		Map<String, StartupCheck> startupChecks = analyzeStartupChecks();
 		StartupCheckStatus finalStatus = getStatus(startupChecks.values());
-		StartupCheckReport startupCheckReport = buildStartupCheckReport(startupChecks, finalStatus);
+		StartupCheckReport startupCheckReport = buildStartupCheckReport(startupChecks, finalStatus,
+				getTimedOutStartupChecks(startupChecks));
 		logStartupCheckReport(startupCheckReport);
 		shutdownIfNotReady(finalStatus);
 	}
@@ -80,6 +92,8 @@ public class StartupCheckerService {
 		String logMessage = String.format("Startup Check Report -> Status: <%s>. Dumping individual checks:",
 				startupCheckReport.getStatus());
 		logStartupCheckMessage(startupCheckReport.getStatus(), logMessage);
+		startupCheckReport.getStatusMessage()
+				.ifPresent(statusMessage -> logStartupCheckMessage(startupCheckReport.getStatus(), statusMessage));
 		startupCheckReport.getChecks().forEach(this::logStartupCheck);
 		logStartupCheckFinalStatusMessage(startupCheckReport);
 	}
@@ -120,13 +134,97 @@ public class StartupCheckerService {
 	}
 
 	private StartupCheckReport buildStartupCheckReport(Map<String, StartupCheck> startupChecks,
-			StartupCheckStatus status) {
-		return new StartupCheckReport(status, startupChecks);
+			StartupCheckStatus status, List<String> timedOutStartupChecks) {
+		if (timedOutStartupChecks.isEmpty()) {
+			return new StartupCheckReport(status, startupChecks);
+		}
+
+		return new StartupCheckReport(status, startupChecks,
+				String.format("Only %d of %d startup checks finished in time, checks %s timed out.",
+						startupChecks.size() - timedOutStartupChecks.size(), startupChecks.size(),
+						timedOutStartupChecks));
+	}
+
+	private List<String> getTimedOutStartupChecks(Map<String, StartupCheck> startupChecks) {
+		//@formatter:off
+		return startupChecks.entrySet().stream()
+				.filter(entry -> entry.getValue().getDetails() != null)
+				.filter(entry -> entry.getValue().getDetails().containsKey(TIMEOUT_KEY))
+				.map(Map.Entry::getKey)
+				.collect(Collectors.toList());
+		//@formatter:on
 	}
 
+	/**
+	 * Executes all the startup checks concurrently. Each check is given
+	 * {@code hmc.startupChecks.timeoutSeconds} to finish, counted from the moment all of
+	 * them are launched, so a slow remote service delays the report at most that time.
+	 * The checks that don't finish in time are reported as {@link StartupCheckStatus#UNKNOWN}
+	 * while the rest of the results are kept.
+	 * @return the result of each startup check by its name.
+	 */
 	private Map<String, StartupCheck> analyzeStartupChecks() {
-		return startupCheckProviders.stream()
-				.collect(Collectors.toMap(StartupCheckProvider::getName, this::executeStartupCheck));
+		if (startupCheckProviders.isEmpty()) {
+			return Map.of();
+		}
+
+		final ExecutorService executorService = createExecutorService();
+		try {
+			final Map<String, Future<StartupCheck>> runningStartupChecks = new LinkedHashMap<>();
+			startupCheckProviders.forEach(startupCheckProvider -> runningStartupChecks.put(
+					startupCheckProvider.getName(),
+					submitStartupCheck(executorService, startupCheckProvider)));
+
+			final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(startupChecksTimeoutSeconds);
+			final Map<String, StartupCheck> startupChecks = new LinkedHashMap<>();
+			runningStartupChecks.forEach((name, runningStartupCheck) -> startupChecks.put(name,
+					waitForStartupCheck(name, runningStartupCheck, deadline)));
+
+			return startupChecks;
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private Future<StartupCheck> submitStartupCheck(ExecutorService executorService,
+			StartupCheckProvider startupCheckProvider) {
+		final FutureTask<StartupCheck> startupCheck = new FutureTask<>(() -> executeStartupCheck(startupCheckProvider));
+		executorService.execute(loggingContextTaskDecorator.decorate(startupCheck));
+		return startupCheck;
+	}
+
+	private StartupCheck waitForStartupCheck(String startupCheckName, Future<StartupCheck> runningStartupCheck,
+			long deadline) {
+		try {
+			return runningStartupCheck.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+		}
+		catch (TimeoutException e) {
+			log.error("Startup check <{}> didn't finish after {} seconds", startupCheckName,
+					startupChecksTimeoutSeconds);
+			runningStartupCheck.cancel(true);
+			return new StartupCheck(StartupCheckStatus.UNKNOWN,
+					Optional.of(String.format("Check timed out after %d seconds.", startupChecksTimeoutSeconds)),
+					Map.of(TIMEOUT_KEY, startupChecksTimeoutSeconds));
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			runningStartupCheck.cancel(true);
+			return new StartupCheck(StartupCheckStatus.UNKNOWN, Optional.of("Check interrupted."), Map.of());
+		}
+		catch (ExecutionException e) {
+			log.error("Startup check failed", e.getCause());
+			return new StartupCheck(StartupCheckStatus.UNKNOWN, Optional.of("Check failed."), Map.of());
+		}
+	}
+
+	private ExecutorService createExecutorService() {
+		final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("startup-check-");
+		threadFactory.setDaemon(true);
+
+		final int poolSize = Math.max(1, Math.min(startupChecksParallelism, startupCheckProviders.size()));
+
+		return Executors.newFixedThreadPool(poolSize, threadFactory);
 	}
 
 	private StartupCheck executeStartupCheck(StartupCheckProvider startupCheckProvider) {
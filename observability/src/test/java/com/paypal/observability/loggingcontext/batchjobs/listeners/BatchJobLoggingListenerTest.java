@@ -3,6 +3,7 @@ package com.paypal.observability.loggingcontext.batchjobs.listeners;
 import com.callibrity.logging.test.LogTracker;
 import com.callibrity.logging.test.LogTrackerStub;
 import com.paypal.infrastructure.batchjob.BatchJobContext;
+import com.paypal.infrastructure.batchjob.BatchJobContextSnapshot;
 import com.paypal.infrastructure.batchjob.BatchJobItem;
 import com.paypal.infrastructure.batchjob.BatchJobItemValidationResult;
 import com.paypal.observability.batchjoblogging.listeners.BatchJobLoggingListener;
@@ -76,6 +77,7 @@ class BatchJobLoggingListenerTest {
 		lenient().when(batchJobItemMock.getItemType()).thenReturn(ITEM_TYPE);
 		lenient().when(batchJobItemMock.getItemId()).thenReturn(ITEM_ID);
 		lenient().when(batchJobContextMock.isPartialItemExtraction()).thenReturn(false);
+		lenient().when(batchJobContextMock.getSnapshot()).thenAnswer(invocation -> snapshotOf(batchJobContextMock));
 
 	}
 
@@ -277,4 +279,15 @@ class BatchJobLoggingListenerTest {
 				.contains("Validation of item of type " + ITEM_TYPE + " with id: " + ITEM_ID + " has failed")).isTrue();
 	}
 
+	private static BatchJobContextSnapshot snapshotOf(final BatchJobContext batchJobContext) {
+		//@formatter:off
+		return BatchJobContextSnapshot.builder()
+				.numberOfItemsToBeProcessed(batchJobContext.getNumberOfItemsToBeProcessed())
+				.numberOfItemsProcessed(batchJobContext.getNumberOfItemsProcessed())
+				.numberOfItemsFailed(batchJobContext.getNumberOfItemsFailed())
+				.numberOfItemsRemaining(batchJobContext.getNumberOfItemsRemaining())
+				.build();
+		//@formatter:on
+	}
+
 }
@@ -4,7 +4,11 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.paypal.observability.batchjoblogging.model.BatchJobLoggingTransaction;
 import org.junit.jupiter.api.Test;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
 
 class BatchJobLoggingTransactionTest {
 
@@ -31,4 +35,16 @@ class BatchJobLoggingTransactionTest {
 		assertThat(result).isNotNull();
 	}
 
-}
\ No newline at end of file
+	@Test
+	void writeFields_shouldWriteAllFields_includingTheOnesWithoutValue() {
+		BatchJobLoggingTransaction testObj = new BatchJobLoggingTransaction("ID", "ITEM_TYPE");
+		testObj.setSubtype("SUBTYPE");
+
+		Map<String, String> result = new HashMap<>();
+		testObj.writeFields(result::put);
+
+		assertThat(result).containsOnly(entry("id", "ID"), entry("type", BatchJobLoggingTransaction.TRANSACTION_TYPE),
+				entry("subtype", "SUBTYPE"), entry("itemType", "ITEM_TYPE"), entry("itemId", null));
+	}
+
+}
@@ -0,0 +1,58 @@
+package com.paypal.observability.loggingcontext.logging;
+
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BusinessTransactionConverterTest {
+
+	private BusinessTransactionConverter testObj;
+
+	private LoggingEvent loggingEvent;
+
+	@BeforeEach
+	void setUp() {
+		testObj = new BusinessTransactionConverter();
+		loggingEvent = new LoggingEvent();
+	}
+
+	@Test
+	void convert_shouldRenderBusinessTransactionFieldsAsJson() throws IOException {
+		loggingEvent.setMDCPropertyMap(Map.of("businessTransaction.id", "1234", "businessTransaction.type", "BatchJob",
+				"businessTransaction.itemId", "item \"1\"", "otherKey", "otherValue"));
+
+		final String result = testObj.convert(loggingEvent);
+
+		final JsonNode json = new ObjectMapper().readTree(result);
+		assertThat(json.size()).isEqualTo(3);
+		assertThat(json.get("id").asText()).isEqualTo("1234");
+		assertThat(json.get("type").asText()).isEqualTo("BatchJob");
+		assertThat(json.get("itemId").asText()).isEqualTo("item \"1\"");
+	}
+
+	@Test
+	void convert_shouldReturnEmptyString_whenThereIsNoBusinessTransaction() {
+		loggingEvent.setMDCPropertyMap(Map.of("otherKey", "otherValue"));
+
+		final String result = testObj.convert(loggingEvent);
+
+		assertThat(result).isEmpty();
+	}
+
+	@Test
+	void convert_shouldReturnEmptyString_whenMDCIsEmpty() {
+		loggingEvent.setMDCPropertyMap(Map.of());
+
+		final String result = testObj.convert(loggingEvent);
+
+		assertThat(result).isEmpty();
+	}
+
+}
@@ -1,8 +1,10 @@
 package com.paypal.observability.loggingcontext.service;
 
+import com.paypal.observability.batchjoblogging.model.BatchJobLoggingTransaction;
 import com.paypal.observability.loggingcontext.model.LoggingTransaction;
-import com.paypal.observability.loggingcontext.service.serializer.LoggingTransactionSerializer;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -15,6 +17,7 @@ import org.slf4j.MDC;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -27,9 +30,6 @@ class LoggingContextServiceImplTest {
 	@Mock
 	private LoggingContextHolder loggingContextHolderMock;
 
-	@Mock
-	private LoggingTransactionSerializer loggingTransactionSerializerMock;
-
 	@Mock
 	private LoggingTransaction businessTransactionMock;
 
@@ -40,6 +40,16 @@ class LoggingContextServiceImplTest {
 		mdcMockedStatic = Mockito.mockStatic(MDC.class);
 	}
 
+	@BeforeEach
+	void clearMDCInvocations() {
+		mdcMockedStatic.clearInvocations();
+	}
+
+	@AfterAll
+	static void tearDown() {
+		mdcMockedStatic.close();
+	}
+
 	@Test
 	void getCurrentLoggingTransaction_shouldReturnGetCurrentBusinessTransactionResult() {
 		when(loggingContextHolderMock.getCurrentBusinessTransaction()).thenReturn(Optional.of(businessTransactionMock));
@@ -50,15 +60,36 @@ class LoggingContextServiceImplTest {
 	}
 
 	@Test
-	void updateLoggingTransaction_shouldCallRefreshBusinessTransactionAndPutTheTransactionIntoTheMDCAsString() {
-		final String serializedBusinessTransaction = "{id:102230, subtype:jobName}";
-		when(loggingTransactionSerializerMock.serialize(businessTransactionMock))
-				.thenReturn(serializedBusinessTransaction);
-
-		testObj.updateLoggingTransaction(businessTransactionMock);
+	void updateLoggingTransaction_shouldCallRefreshBusinessTransactionAndPutEachTransactionFieldIntoTheMDC() {
+		final BatchJobLoggingTransaction businessTransaction = new BatchJobLoggingTransaction("102230", null);
+		businessTransaction.setSubtype("jobName");
+		businessTransaction.setItemId("itemId");
+
+		testObj.updateLoggingTransaction(businessTransaction);
+
+		verify(loggingContextHolderMock).refreshBusinessTransaction(businessTransaction);
+		mdcMockedStatic.verify(() -> MDC.put("businessTransaction.id", "102230"));
+		mdcMockedStatic.verify(() -> MDC.put("businessTransaction.type", BatchJobLoggingTransaction.TRANSACTION_TYPE));
+		mdcMockedStatic.verify(() -> MDC.put("businessTransaction.subtype", "jobName"));
+		mdcMockedStatic.verify(() -> MDC.put("businessTransaction.itemId", "itemId"));
+		mdcMockedStatic.verify(() -> MDC.put("businessTransaction.itemType", null), Mockito.never());
+	}
 
-		verify(loggingContextHolderMock).refreshBusinessTransaction(businessTransactionMock);
-		mdcMockedStatic.verify(() -> MDC.put("businessTransaction", serializedBusinessTransaction));
+	@Test
+	void updateLoggingTransaction_shouldRemoveFieldsWithoutValueFromTheMDC() {
+		mdcMockedStatic.when(() -> MDC.get(anyString())).thenReturn("value");
+		final BatchJobLoggingTransaction businessTransaction = new BatchJobLoggingTransaction("102230", null);
+
+		try {
+			testObj.updateLoggingTransaction(businessTransaction);
+
+			mdcMockedStatic.verify(() -> MDC.put("businessTransaction.id", "102230"));
+			mdcMockedStatic.verify(() -> MDC.remove("businessTransaction.itemType"));
+			mdcMockedStatic.verify(() -> MDC.remove("businessTransaction.itemId"));
+		}
+		finally {
+			mdcMockedStatic.reset();
+		}
 	}
 
 	@Test
@@ -0,0 +1,77 @@
+package com.paypal.observability.loggingcontext.service;
+
+import com.paypal.observability.batchjoblogging.model.BatchJobLoggingTransaction;
+import com.paypal.observability.loggingcontext.model.LoggingTransaction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoggingContextTaskDecoratorTest {
+
+	private LoggingContextTaskDecorator testObj;
+
+	private LoggingContextHolder loggingContextHolder;
+
+	private ExecutorService executorService;
+
+	@BeforeEach
+	void setUp() {
+		loggingContextHolder = new LoggingContextHolder();
+		testObj = new LoggingContextTaskDecorator(loggingContextHolder);
+		executorService = Executors.newSingleThreadExecutor();
+	}
+
+	@AfterEach
+	void tearDown() {
+		executorService.shutdownNow();
+		loggingContextHolder.closeBusinessTransaction();
+		MDC.clear();
+	}
+
+	@Test
+	void decorate_shouldPropagateLoggingContextToWorkerThread() throws Exception {
+		final BatchJobLoggingTransaction loggingTransaction = new BatchJobLoggingTransaction("jobId", "itemType");
+		loggingContextHolder.refreshBusinessTransaction(loggingTransaction);
+		MDC.put("businessTransaction.id", "jobId");
+		final AtomicReference<String> workerMdcValue = new AtomicReference<>();
+		final AtomicReference<Optional<LoggingTransaction>> workerTransaction = new AtomicReference<>();
+
+		executorService.submit(testObj.decorate(() -> {
+			workerMdcValue.set(MDC.get("businessTransaction.id"));
+			workerTransaction.set(loggingContextHolder.getCurrentBusinessTransaction());
+		})).get(5, TimeUnit.SECONDS);
+
+		assertThat(workerMdcValue.get()).isEqualTo("jobId");
+		assertThat(workerTransaction.get()).contains(loggingTransaction);
+	}
+
+	@Test
+	void decorate_shouldRestoreWorkerThreadLoggingContext_whenTaskFinishes() throws Exception {
+		loggingContextHolder.refreshBusinessTransaction(new BatchJobLoggingTransaction("jobId", "itemType"));
+		MDC.put("businessTransaction.id", "jobId");
+		final Runnable decoratedTask = testObj.decorate(() -> {
+			throw new IllegalStateException("Task failure");
+		});
+
+		executorService.submit(decoratedTask);
+		final AtomicReference<String> workerMdcValue = new AtomicReference<>();
+		final AtomicReference<Optional<LoggingTransaction>> workerTransaction = new AtomicReference<>();
+		executorService.submit(() -> {
+			workerMdcValue.set(MDC.get("businessTransaction.id"));
+			workerTransaction.set(loggingContextHolder.getCurrentBusinessTransaction());
+		}).get(5, TimeUnit.SECONDS);
+
+		assertThat(workerMdcValue.get()).isNull();
+		assertThat(workerTransaction.get()).isEmpty();
+	}
+
+}
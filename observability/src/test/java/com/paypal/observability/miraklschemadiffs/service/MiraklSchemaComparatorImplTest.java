@@ -0,0 +1,63 @@
+package com.paypal.observability.miraklschemadiffs.service;
+
+import com.paypal.observability.mirakldocschecks.model.MiraklDoc;
+import com.paypal.observability.miraklschemadiffs.model.MiraklSchema;
+import com.paypal.observability.miraklschemadiffs.model.diff.MiraklSchemaDiff;
+import com.paypal.observability.miraklschemadiffs.model.diffevaluators.MiraklSchemaDiffEvaluatorRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MiraklSchemaComparatorImplTest {
+
+	@InjectMocks
+	private MiraklSchemaComparatorImpl testObj;
+
+	@Mock
+	private MiraklSchemaDiffEvaluatorRegistry miraklSchemaDiffEvaluatorRegistryMock;
+
+	@Mock
+	private MiraklSchemaComparisonCache miraklSchemaComparisonCacheMock;
+
+	@Mock
+	private Supplier<MiraklSchema> actualSupplierMock;
+
+	@Test
+	void compareSchemas_shouldNotRetrieveTheRemoteSchema_whenExpectedSchemaIsAKnownMatch() {
+		final MiraklSchema expected = schema("hw-doc1");
+		when(miraklSchemaComparisonCacheMock.isKnownMatch(expected)).thenReturn(true);
+
+		final MiraklSchemaDiff result = testObj.compareSchemas(expected, actualSupplierMock);
+
+		assertThat(result.getDifferences()).isEmpty();
+		verifyNoInteractions(actualSupplierMock);
+	}
+
+	@Test
+	void compareSchemas_shouldRetrieveTheRemoteSchemaAndStoreTheMatch_whenExpectedSchemaIsNotAKnownMatch() {
+		final MiraklSchema expected = schema("hw-doc1");
+		when(actualSupplierMock.get()).thenReturn(schema("hw-doc1"));
+
+		final MiraklSchemaDiff result = testObj.compareSchemas(expected, actualSupplierMock);
+
+		assertThat(result.getDifferences()).isEmpty();
+		verify(miraklSchemaComparisonCacheMock).storeMatch(expected);
+	}
+
+	private MiraklSchema schema(final String code) {
+		return new MiraklSchema(List.of(MiraklDoc.builder().code(code).label(code).description(code).build()),
+				MiraklDoc.class);
+	}
+
+}
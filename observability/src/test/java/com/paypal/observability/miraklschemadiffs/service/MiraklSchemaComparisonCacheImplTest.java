@@ -0,0 +1,107 @@
+package com.paypal.observability.miraklschemadiffs.service;
+
+import com.paypal.observability.mirakldocschecks.model.MiraklDoc;
+import com.paypal.observability.miraklschemadiffs.model.MiraklSchema;
+import com.paypal.observability.miraklschemadiffs.model.diffevaluators.MiraklSchemaDiffEvaluatorRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MiraklSchemaComparisonCacheImplTest {
+
+	private static final long MAX_AGE_MINUTES = 60;
+
+	@TempDir
+	Path cacheDir;
+
+	@Mock
+	private MiraklSchemaDiffEvaluatorRegistry miraklSchemaDiffEvaluatorRegistryMock;
+
+	@BeforeEach
+	void setUp() {
+		lenient().when(miraklSchemaDiffEvaluatorRegistryMock.getVersion()).thenReturn("1:evaluator");
+	}
+
+	@Test
+	void isKnownMatch_shouldReturnTrue_whenSameSchemaWasStoredByAPreviousExecution() {
+		newCache(cacheDir.toString()).storeMatch(schema("doc1"));
+
+		final MiraklSchemaComparisonCacheImpl testObj = newCache(cacheDir.toString());
+
+		assertThat(testObj.isKnownMatch(schema("doc1"))).isTrue();
+		assertThat(cacheDir.resolve("MiraklDoc.md5")).exists();
+	}
+
+	@Test
+	void isKnownMatch_shouldReturnFalse_whenExpectedSchemaHasChanged() {
+		final MiraklSchemaComparisonCacheImpl testObj = newCache(cacheDir.toString());
+		testObj.storeMatch(schema("doc1"));
+
+		assertThat(testObj.isKnownMatch(schema("doc2"))).isFalse();
+	}
+
+	@Test
+	void isKnownMatch_shouldReturnFalse_whenEvaluatorsVersionHasChanged() {
+		final MiraklSchemaComparisonCacheImpl testObj = newCache(cacheDir.toString());
+		testObj.storeMatch(schema("doc1"));
+
+		when(miraklSchemaDiffEvaluatorRegistryMock.getVersion()).thenReturn("2:evaluator");
+
+		assertThat(testObj.isKnownMatch(schema("doc1"))).isFalse();
+	}
+
+	@Test
+	void isKnownMatch_shouldReturnFalse_whenStoredMatchIsOlderThanMaxAge() throws IOException {
+		final MiraklSchemaComparisonCacheImpl testObj = newCache(cacheDir.toString());
+		testObj.storeMatch(schema("doc1"));
+
+		Files.setLastModifiedTime(cacheDir.resolve("MiraklDoc.md5"),
+				FileTime.from(Instant.now().minus(Duration.ofMinutes(MAX_AGE_MINUTES + 1))));
+
+		assertThat(testObj.isKnownMatch(schema("doc1"))).isFalse();
+	}
+
+	@Test
+	void isKnownMatch_shouldReturnFalse_whenStoredMatchHasBeenEvicted() {
+		final MiraklSchemaComparisonCacheImpl testObj = newCache(cacheDir.toString());
+		testObj.storeMatch(schema("doc1"));
+
+		testObj.evict(schema("doc1"));
+
+		assertThat(testObj.isKnownMatch(schema("doc1"))).isFalse();
+	}
+
+	@Test
+	void isKnownMatch_shouldReturnFalse_whenCacheDirIsNotConfigured() {
+		final MiraklSchemaComparisonCacheImpl testObj = newCache("");
+		testObj.storeMatch(schema("doc1"));
+
+		assertThat(testObj.isKnownMatch(schema("doc1"))).isFalse();
+	}
+
+	private MiraklSchemaComparisonCacheImpl newCache(final String dir) {
+		return new MiraklSchemaComparisonCacheImpl(dir, MAX_AGE_MINUTES, miraklSchemaDiffEvaluatorRegistryMock);
+	}
+
+	private MiraklSchema schema(final String code) {
+		return new MiraklSchema(List.of(MiraklDoc.builder().code(code).label(code).description(code).build()),
+				MiraklDoc.class);
+	}
+
+}
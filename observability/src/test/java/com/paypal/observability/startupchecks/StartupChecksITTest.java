@@ -2,6 +2,7 @@ package com.paypal.observability.startupchecks;
 
 import com.callibrity.logging.test.LogTrackerStub;
 import com.paypal.observability.ObservabilityIntegrationTest;
+import com.paypal.observability.loggingcontext.service.LoggingContextTaskDecorator;
 import com.paypal.observability.startupchecks.model.StartupCheckPrinterRegistry;
 import com.paypal.observability.startupchecks.model.StartupCheckProvider;
 import com.paypal.observability.startupchecks.service.StartupCheckerService;
@@ -150,8 +151,9 @@ class StartupChecksITTest extends ObservabilityIntegrationTest {
 
 		public MyStartupCheckerService(final List<StartupCheckProvider> startupCheckProviders,
 				final StartupCheckPrinterRegistry startupCheckPrinterRegistry,
-				final ConfigurableApplicationContext applicationContext) {
-			super(startupCheckProviders, startupCheckPrinterRegistry, applicationContext);
+				final ConfigurableApplicationContext applicationContext,
+				final LoggingContextTaskDecorator loggingContextTaskDecorator) {
+			super(startupCheckProviders, startupCheckPrinterRegistry, applicationContext, loggingContextTaskDecorator);
 		}
 
 		@Override
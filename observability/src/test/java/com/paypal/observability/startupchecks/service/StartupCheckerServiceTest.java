@@ -0,0 +1,162 @@
+package com.paypal.observability.startupchecks.service;
+
+import com.callibrity.logging.test.LogTrackerStub;
+import com.paypal.observability.loggingcontext.service.LoggingContextHolder;
+import com.paypal.observability.loggingcontext.service.LoggingContextTaskDecorator;
+import com.paypal.observability.startupchecks.model.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StartupCheckerServiceTest {
+
+	private static final String CHECK_1 = "check1";
+
+	private static final String CHECK_2 = "check2";
+
+	private static final StartupCheck READY_CHECK = new StartupCheck(StartupCheckStatus.READY, Optional.empty(),
+			Map.of());
+
+	@RegisterExtension
+	final LogTrackerStub logTrackerStub = LogTrackerStub.create().recordForType(StartupCheckerService.class);
+
+	@Mock
+	private StartupCheckProvider startupCheckProvider1Mock, startupCheckProvider2Mock;
+
+	@Mock
+	private StartupCheckPrinterRegistry startupCheckPrinterRegistryMock;
+
+	@Mock
+	private StartupCheckPrinter startupCheckPrinterMock;
+
+	@Mock
+	private ConfigurableApplicationContext applicationContextMock;
+
+	@Captor
+	private ArgumentCaptor<StartupCheck> startupCheckArgumentCaptor;
+
+	private StartupCheckerService testObj;
+
+	@BeforeEach
+	void setUp() {
+		testObj = new StartupCheckerService(List.of(startupCheckProvider1Mock, startupCheckProvider2Mock),
+				startupCheckPrinterRegistryMock, applicationContextMock,
+				new LoggingContextTaskDecorator(new LoggingContextHolder()));
+		ReflectionTestUtils.setField(testObj, "startupChecksEnabled", true);
+		ReflectionTestUtils.setField(testObj, "startupChecksParallelism", 2);
+		ReflectionTestUtils.setField(testObj, "startupChecksTimeoutSeconds", 5L);
+
+		when(startupCheckProvider1Mock.getName()).thenReturn(CHECK_1);
+		when(startupCheckProvider2Mock.getName()).thenReturn(CHECK_2);
+		when(startupCheckPrinterRegistryMock.getStartupCheckPrinter(anyString())).thenReturn(startupCheckPrinterMock);
+		when(startupCheckPrinterMock.print(any())).thenReturn(new String[0]);
+	}
+
+	@Test
+	void startupChecks_shouldExecuteStartupChecksConcurrently() {
+		final CountDownLatch bothChecksStarted = new CountDownLatch(2);
+		when(startupCheckProvider1Mock.check()).thenAnswer(invocation -> awaitAndReturnReady(bothChecksStarted));
+		when(startupCheckProvider2Mock.check()).thenAnswer(invocation -> awaitAndReturnReady(bothChecksStarted));
+
+		testObj.startupChecks();
+
+		verify(startupCheckPrinterMock, times(2)).print(startupCheckArgumentCaptor.capture());
+		assertThat(startupCheckArgumentCaptor.getAllValues()).extracting(StartupCheck::getStatus)
+				.containsOnly(StartupCheckStatus.READY);
+		assertThat(logTrackerStub.contains("Startup Check Report -> Status: <READY>")).isTrue();
+	}
+
+	@Test
+	void startupChecks_shouldReportStartupCheckAsUnknown_andKeepTheOtherResults_whenStartupCheckTimesOut() {
+		ReflectionTestUtils.setField(testObj, "startupChecksTimeoutSeconds", 1L);
+		final CountDownLatch neverReleased = new CountDownLatch(1);
+		when(startupCheckProvider1Mock.check()).thenAnswer(invocation -> {
+			neverReleased.await(10, TimeUnit.SECONDS);
+			return READY_CHECK;
+		});
+		when(startupCheckProvider2Mock.check()).thenReturn(READY_CHECK);
+
+		testObj.startupChecks();
+
+		verify(startupCheckPrinterMock, times(2)).print(startupCheckArgumentCaptor.capture());
+		assertThat(startupCheckArgumentCaptor.getAllValues()).extracting(StartupCheck::getStatus)
+				.containsExactlyInAnyOrder(StartupCheckStatus.UNKNOWN, StartupCheckStatus.READY);
+		assertThat(startupCheckArgumentCaptor.getAllValues()).extracting(StartupCheck::getStatusMessage)
+				.contains(Optional.of("Check timed out after 1 seconds."));
+		assertThat(logTrackerStub.contains("Startup Check Report -> Status: <UNKNOWN>")).isTrue();
+		assertThat(logTrackerStub.contains("Only 1 of 2 startup checks finished in time, checks [check1] timed out."))
+				.isTrue();
+	}
+
+	@Test
+	void startupChecks_shouldReportStartupCheckAsUnknown_whenStartupCheckFails() {
+		when(startupCheckProvider1Mock.check()).thenThrow(new IllegalStateException("Something went wrong"));
+		when(startupCheckProvider2Mock.check()).thenReturn(READY_CHECK);
+
+		testObj.startupChecks();
+
+		verify(startupCheckPrinterMock, times(2)).print(startupCheckArgumentCaptor.capture());
+		assertThat(startupCheckArgumentCaptor.getAllValues()).extracting(StartupCheck::getStatusMessage)
+				.contains(Optional.of("Check failed."));
+		assertThat(logTrackerStub.contains("Startup Check Report -> Status: <UNKNOWN>")).isTrue();
+		assertThat(logTrackerStub.contains("startup checks finished in time")).isFalse();
+	}
+
+	@Test
+	void startupChecks_shouldCloseApplicationContext_whenAStartupCheckIsNotReady_andExitOnFailIsEnabled() {
+		ReflectionTestUtils.setField(testObj, "startupChecksExitOnFail", true);
+		when(startupCheckProvider1Mock.check())
+				.thenReturn(new StartupCheck(StartupCheckStatus.NOT_READY, Optional.empty(), Map.of()));
+		when(startupCheckProvider2Mock.check()).thenReturn(READY_CHECK);
+
+		testObj.startupChecks();
+
+		verify(applicationContextMock).close();
+	}
+
+	@Test
+	void startupChecks_shouldExecuteStartupChecksWithTheLoggingContextOfTheCallingThread() {
+		final List<String> checkMdcValues = new CopyOnWriteArrayList<>();
+		when(startupCheckProvider1Mock.check()).thenAnswer(invocation -> {
+			checkMdcValues.add(MDC.get("businessTransaction.id"));
+			return READY_CHECK;
+		});
+		when(startupCheckProvider2Mock.check()).thenReturn(READY_CHECK);
+
+		MDC.put("businessTransaction.id", "startupChecks");
+		try {
+			testObj.startupChecks();
+		}
+		finally {
+			MDC.clear();
+		}
+
+		assertThat(checkMdcValues).containsExactly("startupChecks");
+	}
+
+	private StartupCheck awaitAndReturnReady(final CountDownLatch latch) throws InterruptedException {
+		latch.countDown();
+		latch.await(10, TimeUnit.SECONDS);
+		return READY_CHECK;
+	}
+
+}
@@ -2,10 +2,12 @@ package com.paypal.reports.reportsextract.service.impl;
 
 import com.braintreegateway.BraintreeGateway;
 import com.braintreegateway.util.GraphQLClient;
+import com.paypal.infrastructure.clientmetrics.services.ClientMetricsService;
 import com.paypal.infrastructure.util.DateUtil;
 import com.paypal.reports.reportsextract.model.HmcBraintreeTransactionLine;
 import com.paypal.reports.reportsextract.model.graphql.braintree.paymentransaction.BraintreeTypeEnum;
 
+import javax.annotation.Resource;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
@@ -47,6 +49,11 @@ public abstract class AbstractReportsBraintreeExtractServiceImpl<T extends HmcBr
 
 	private final BraintreeGateway braintreeGateway;
 
+	@Resource
+	private ClientMetricsService clientMetricsService;
+
+	private volatile GraphQLClient instrumentedGraphQLClient;
+
 	protected AbstractReportsBraintreeExtractServiceImpl(final BraintreeGateway braintreeGateway) {
 		this.braintreeGateway = braintreeGateway;
 	}
@@ -99,7 +106,11 @@ public abstract class AbstractReportsBraintreeExtractServiceImpl<T extends HmcBr
 	}
 
 	protected GraphQLClient getGraphQLClient() {
-		return braintreeGateway.graphQLClient;
+		if (instrumentedGraphQLClient == null) {
+			instrumentedGraphQLClient = clientMetricsService.instrument(braintreeGateway.graphQLClient,
+					ClientMetricsService.CLIENT_BRAINTREE);
+		}
+		return instrumentedGraphQLClient;
 	}
 
 }
@@ -5,7 +5,7 @@ import com.mirakl.client.mmp.domain.shop.MiraklProfessionalInformation;
 import com.mirakl.client.mmp.domain.shop.MiraklShop;
 import com.mirakl.client.mmp.domain.shop.bank.MiraklCanadianBankAccountInformation;
 import com.mirakl.client.mmp.domain.shop.bank.MiraklPaymentInformation;
-import com.paypal.infrastructure.strategy.Strategy;
+import com.paypal.infrastructure.strategy.KeyedStrategy;
 import com.paypal.sellers.bankaccountextract.converter.impl.miraklshop.currency.HyperwalletBankAccountCurrencyResolver;
 import com.paypal.sellers.bankaccountextract.converter.impl.miraklshop.currency.HyperwalletBankAccountCurrencyInfo;
 import com.paypal.sellers.bankaccountextract.model.BankAccountModel;
@@ -18,13 +18,15 @@ import org.springframework.stereotype.Service;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Class to convert from {@link MiraklShop} to {@link CanadianBankAccountModel}
  */
 @Slf4j
 @Service
-public class MiraklShopToCanadianBankAccountModelConverterStrategy implements Strategy<MiraklShop, BankAccountModel> {
+public class MiraklShopToCanadianBankAccountModelConverterStrategy
+		implements KeyedStrategy<MiraklShop, BankAccountModel> {
 
 	private final HyperwalletBankAccountCurrencyResolver hyperwalletBankAccountCurrencyResolver;
 
@@ -73,6 +75,11 @@ public class MiraklShopToCanadianBankAccountModelConverterStrategy implements St
 		//@formatter:on
 	}
 
+	@Override
+	public Set<Object> getStrategyKeys() {
+		return Set.of(MiraklCanadianBankAccountInformation.class);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -5,7 +5,7 @@ import com.mirakl.client.mmp.domain.shop.MiraklProfessionalInformation;
 import com.mirakl.client.mmp.domain.shop.MiraklShop;
 import com.mirakl.client.mmp.domain.shop.bank.MiraklIbanBankAccountInformation;
 import com.mirakl.client.mmp.domain.shop.bank.MiraklPaymentInformation;
-import com.paypal.infrastructure.strategy.Strategy;
+import com.paypal.infrastructure.strategy.KeyedStrategy;
 import com.paypal.sellers.bankaccountextract.converter.impl.miraklshop.currency.HyperwalletBankAccountCurrencyResolver;
 import com.paypal.sellers.bankaccountextract.converter.impl.miraklshop.currency.HyperwalletBankAccountCurrencyInfo;
 import com.paypal.sellers.bankaccountextract.model.BankAccountModel;
@@ -19,13 +19,14 @@ import org.springframework.stereotype.Service;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Class to convert from {@link MiraklShop} to {@link IBANBankAccountModel}
  */
 @Slf4j
 @Service
-public class MiraklShopToIBANBankAccountModelConverterStrategy implements Strategy<MiraklShop, BankAccountModel> {
+public class MiraklShopToIBANBankAccountModelConverterStrategy implements KeyedStrategy<MiraklShop, BankAccountModel> {
 
 	private final HyperwalletBankAccountCurrencyResolver hyperwalletBankAccountCurrencyResolver;
 
@@ -83,6 +84,11 @@ public class MiraklShopToIBANBankAccountModelConverterStrategy implements Strate
 		return iban.substring(0, 2);
 	}
 
+	@Override
+	public Set<Object> getStrategyKeys() {
+		return Set.of(MiraklIbanBankAccountInformation.class);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
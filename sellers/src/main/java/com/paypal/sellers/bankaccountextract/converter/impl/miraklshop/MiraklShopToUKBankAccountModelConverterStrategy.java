@@ -5,7 +5,7 @@ import com.mirakl.client.mmp.domain.shop.MiraklProfessionalInformation;
 import com.mirakl.client.mmp.domain.shop.MiraklShop;
 import com.mirakl.client.mmp.domain.shop.bank.MiraklPaymentInformation;
 import com.mirakl.client.mmp.domain.shop.bank.MiraklUkBankAccountInformation;
-import com.paypal.infrastructure.strategy.Strategy;
+import com.paypal.infrastructure.strategy.KeyedStrategy;
 import com.paypal.sellers.bankaccountextract.converter.impl.miraklshop.currency.HyperwalletBankAccountCurrencyResolver;
 import com.paypal.sellers.bankaccountextract.converter.impl.miraklshop.currency.HyperwalletBankAccountCurrencyInfo;
 import com.paypal.sellers.bankaccountextract.model.BankAccountModel;
@@ -17,12 +17,13 @@ import org.springframework.stereotype.Service;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Class to convert from {@link MiraklShop} to {@link UKBankAccountModel}
  */
 @Service
-public class MiraklShopToUKBankAccountModelConverterStrategy implements Strategy<MiraklShop, BankAccountModel> {
+public class MiraklShopToUKBankAccountModelConverterStrategy implements KeyedStrategy<MiraklShop, BankAccountModel> {
 
 	private final HyperwalletBankAccountCurrencyResolver hyperwalletBankAccountCurrencyResolver;
 
@@ -69,6 +70,11 @@ public class MiraklShopToUKBankAccountModelConverterStrategy implements Strategy
 		//@formatter:on
 	}
 
+	@Override
+	public Set<Object> getStrategyKeys() {
+		return Set.of(MiraklUkBankAccountInformation.class);
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -41,6 +41,14 @@ public class MiraklToBankAccountModelExecutor extends SingleAbstractStrategyExec
 		return callSuperExecute(source);
 	}
 
+	/**
+	 * Dispatches the shops by the type of their bank account information.
+	 */
+	@Override
+	protected Object getStrategyKey(final MiraklShop source) {
+		return source.getPaymentInformation().getClass();
+	}
+
 	protected BankAccountModel callSuperExecute(final MiraklShop source) {
 		return super.execute(source);
 	}
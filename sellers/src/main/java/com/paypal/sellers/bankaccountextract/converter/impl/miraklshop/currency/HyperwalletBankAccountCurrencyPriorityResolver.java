@@ -11,7 +11,10 @@ public class HyperwalletBankAccountCurrencyPriorityResolver {
 
 	private final HyperwalletBankAccountCurrencyResolutionConfiguration hyperwalletBankAccountCurrencyResolutionConfiguration;
 
-	private List<TransferType> transferTypePriority = List.of(TransferType.BANK_ACCOUNT, TransferType.WIRE_ACCOUNT);
+	private final Map<TransferType, Integer> transferTypePriority = new EnumMap<>(
+			Map.of(TransferType.BANK_ACCOUNT, 0, TransferType.WIRE_ACCOUNT, 1));
+
+	private volatile CurrencyPriorityRanks currencyPriorityRanks;
 
 	public HyperwalletBankAccountCurrencyPriorityResolver(
 			HyperwalletBankAccountCurrencyResolutionConfiguration hyperwalletBankAccountCurrencyResolutionConfiguration) {
@@ -95,20 +98,24 @@ public class HyperwalletBankAccountCurrencyPriorityResolver {
 		// of currencies.
 		// The currency with the highest priority is the one with the lowest index.
 		// Per country priority has a higher priority than the global priority.
-		// If the currency is not found in the list, then the priority is -1
-		List<String> currencyPriorityPerCountry = hyperwalletBankAccountCurrencyResolutionConfiguration
-				.getPerCountryCurrencyPriority().get(currencyInfo.getCountry());
+		// If the currency is not found in the list, then the priority is
+		// Integer.MAX_VALUE
+		return getCurrencyPriorityRanks().getRank(currencyInfo.getCountry(), currencyInfo.getCurrency());
+	}
+
+	private CurrencyPriorityRanks getCurrencyPriorityRanks() {
+		// Ranks are computed once and only rebuilt if the configured priorities are
+		// replaced
 		List<String> globalCurrencyPriority = hyperwalletBankAccountCurrencyResolutionConfiguration
 				.getGlobalCurrencyPriority();
-		String currency = currencyInfo.getCurrency();
-		if (CollectionUtils.isNotEmpty(currencyPriorityPerCountry) && currencyPriorityPerCountry.contains(currency)) {
-			return currencyPriorityPerCountry.indexOf(currency);
+		Map<String, List<String>> perCountryCurrencyPriority = hyperwalletBankAccountCurrencyResolutionConfiguration
+				.getPerCountryCurrencyPriority();
+		CurrencyPriorityRanks ranks = currencyPriorityRanks;
+		if (ranks == null || !ranks.isBuiltFrom(globalCurrencyPriority, perCountryCurrencyPriority)) {
+			ranks = new CurrencyPriorityRanks(globalCurrencyPriority, perCountryCurrencyPriority);
+			currencyPriorityRanks = ranks;
 		}
-		else if (CollectionUtils.isNotEmpty(globalCurrencyPriority) && globalCurrencyPriority.contains(currency)) {
-			return globalCurrencyPriority.indexOf(currency);
-		}
-
-		return Integer.MAX_VALUE;
+		return ranks;
 	}
 
 	private int compareTransferTypePriority(HyperwalletBankAccountCurrencyInfo c1,
@@ -119,7 +126,55 @@ public class HyperwalletBankAccountCurrencyPriorityResolver {
 	}
 
 	private int getTransferTypePriority(HyperwalletBankAccountCurrencyInfo currencyInfo) {
-		return transferTypePriority.indexOf(currencyInfo.getTransferType());
+		return transferTypePriority.getOrDefault(currencyInfo.getTransferType(), -1);
+	}
+
+	private static class CurrencyPriorityRanks {
+
+		private final List<String> globalCurrencyPriority;
+
+		private final Map<String, List<String>> perCountryCurrencyPriority;
+
+		private final Map<String, Integer> globalRanks;
+
+		private final Map<String, Map<String, Integer>> perCountryRanks = new HashMap<>();
+
+		private CurrencyPriorityRanks(List<String> globalCurrencyPriority,
+				Map<String, List<String>> perCountryCurrencyPriority) {
+			this.globalCurrencyPriority = globalCurrencyPriority;
+			this.perCountryCurrencyPriority = perCountryCurrencyPriority;
+			this.globalRanks = toRanks(globalCurrencyPriority);
+			if (perCountryCurrencyPriority != null) {
+				perCountryCurrencyPriority.forEach((country, currencies) -> perCountryRanks.put(country,
+						toRanks(currencies)));
+			}
+		}
+
+		private boolean isBuiltFrom(List<String> globalCurrencyPriority,
+				Map<String, List<String>> perCountryCurrencyPriority) {
+			return this.globalCurrencyPriority == globalCurrencyPriority
+					&& this.perCountryCurrencyPriority == perCountryCurrencyPriority;
+		}
+
+		private int getRank(String country, String currency) {
+			Integer rank = perCountryRanks.getOrDefault(country, Map.of()).get(currency);
+			if (rank == null) {
+				rank = globalRanks.get(currency);
+			}
+			return rank != null ? rank : Integer.MAX_VALUE;
+		}
+
+		private static Map<String, Integer> toRanks(List<String> currencies) {
+			Map<String, Integer> ranks = new HashMap<>();
+			if (CollectionUtils.isNotEmpty(currencies)) {
+				for (int i = currencies.size() - 1; i >= 0; i--) {
+					// Iterated backwards so the first position of a repeated currency wins
+					ranks.put(currencies.get(i), i);
+				}
+			}
+			return ranks;
+		}
+
 	}
 
 }
@@ -4,49 +4,55 @@ import com.paypal.sellers.bankaccountextract.model.TransferType;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-
+import lombok.Value;
+
+import java.util.*;
+
+/**
+ * Constraints between bank account types, countries, currencies and transfer types
+ * supported by Hyperwallet.
+ * <p>
+ * The entries are compiled into lookup tables when they are received so every query is
+ * solved with a single map lookup. The tables can be replaced at runtime with
+ * {@link #reload(List)}, queries running at that moment keep using the previous ones.
+ */
 public class HyperwalletBankAccountCurrencyRestrictions {
 
-	private Map<String, CountryCurrencyEntry> countryCurrencies = new HashMap<>();
+	private volatile CompiledRestrictions compiledRestrictions;
 
 	public HyperwalletBankAccountCurrencyRestrictions(List<CountryCurrencyEntry> countryCurrencyEntries) {
-		countryCurrencyEntries.forEach(this::addCountryCurrencyEntry);
+		reload(countryCurrencyEntries);
 	}
 
 	public List<HyperwalletBankAccountCurrencyInfo> getCurrenciesFor(String bankAccountType,
 			String bankAccountCountry) {
-		CountryCurrencyEntry countryCurrencyEntry = countryCurrencies.get(getKey(bankAccountType, bankAccountCountry));
+		CountryCurrencyEntry countryCurrencyEntry = compiledRestrictions.countryCurrencies
+				.get(getKey(bankAccountType, bankAccountCountry));
 		return countryCurrencyEntry != null ? countryCurrencyEntry.getSupportedCurrencies() : List.of();
 	}
 
 	public List<CountryCurrencyEntry> getEntriesFor(String country, String currency, TransferType transferType) {
-		return countryCurrencies.values().stream()
-				.filter(countryCurrencyEntry -> countryCurrencyEntry.getCountry().equals(country))
-				.filter(countryCurrencyEntry -> countryCurrencyEntry.getSupportedCurrencies().stream()
-						.anyMatch(hyperwalletBankAccountCurrencyInfo -> hyperwalletBankAccountCurrencyInfo.getCurrency()
-								.equals(currency)
-								&& hyperwalletBankAccountCurrencyInfo.getTransferType().equals(transferType)))
-				.collect(Collectors.toList());
+		return compiledRestrictions.entriesByCurrency.getOrDefault(new CurrencyKey(country, currency, transferType),
+				List.of());
 	}
 
 	public int numEntries() {
-		return countryCurrencies.entrySet().size();
+		return compiledRestrictions.countryCurrencies.size();
 	}
 
-	private void addCountryCurrencyEntry(CountryCurrencyEntry countryCurrencyEntry) {
-		countryCurrencies.put(getKey(countryCurrencyEntry), countryCurrencyEntry);
+	/**
+	 * Replaces the current constraints with the received ones.
+	 * @param countryCurrencyEntries the new constraints.
+	 */
+	public void reload(List<CountryCurrencyEntry> countryCurrencyEntries) {
+		compiledRestrictions = new CompiledRestrictions(countryCurrencyEntries);
 	}
 
-	private String getKey(CountryCurrencyEntry countryCurrencyEntry) {
+	private static String getKey(CountryCurrencyEntry countryCurrencyEntry) {
 		return getKey(countryCurrencyEntry.bankAccountType, countryCurrencyEntry.country);
 	}
 
-	private String getKey(String bankAccountType, String country) {
+	private static String getKey(String bankAccountType, String country) {
 		return bankAccountType.toUpperCase() + "-" + country.toUpperCase();
 	}
 
@@ -63,4 +69,35 @@ public class HyperwalletBankAccountCurrencyRestrictions {
 
 	}
 
+	private static class CompiledRestrictions {
+
+		private final Map<String, CountryCurrencyEntry> countryCurrencies = new HashMap<>();
+
+		private final Map<CurrencyKey, List<CountryCurrencyEntry>> entriesByCurrency = new HashMap<>();
+
+		private CompiledRestrictions(List<CountryCurrencyEntry> countryCurrencyEntries) {
+			countryCurrencyEntries.forEach(entry -> countryCurrencies.put(getKey(entry), entry));
+			// Entries are indexed in the iteration order of the country currencies so
+			// the first entry for a currency is the same one a scan over them returns
+			for (CountryCurrencyEntry entry : countryCurrencies.values()) {
+				entry.getSupportedCurrencies().stream()
+						.map(info -> new CurrencyKey(entry.getCountry(), info.getCurrency(), info.getTransferType()))
+						.distinct()
+						.forEach(key -> entriesByCurrency.computeIfAbsent(key, k -> new ArrayList<>()).add(entry));
+			}
+		}
+
+	}
+
+	@Value
+	private static class CurrencyKey {
+
+		String country;
+
+		String currency;
+
+		TransferType transferType;
+
+	}
+
 }
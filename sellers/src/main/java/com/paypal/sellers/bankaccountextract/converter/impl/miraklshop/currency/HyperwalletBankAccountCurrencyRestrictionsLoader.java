@@ -6,36 +6,117 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.paypal.sellers.bankaccountextract.model.TransferType;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import javax.annotation.PreDestroy;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
  * This class creates an instance of {@link HyperwalletBankAccountCurrencyRestrictions} by
  * reading a json containing details about the constraints between bank account types,
  * countries and currency.
+ * <p>
+ * By default the json bundled with the connector is used. When
+ * {@code sellers.bankaccounts.constraintsFile} points to a local file that file is used
+ * instead, and it's checked every {@code sellers.bankaccounts.constraintsReloadIntervalSeconds}
+ * so the constraints are reloaded without restarting the connector when it's modified.
  */
 //@formatter:off
+@Slf4j
 @Configuration
 public class HyperwalletBankAccountCurrencyRestrictionsLoader {
 
+	private static final String DEFAULT_CONSTRAINTS_RESOURCE = "hwapi-bankaccount-constraints.json";
+
+	private final String constraintsFile;
+
+	private final long reloadIntervalSeconds;
+
+	private ScheduledExecutorService reloadExecutor;
+
+	private FileTime loadedFileLastModifiedTime;
+
+	public HyperwalletBankAccountCurrencyRestrictionsLoader(
+			@Value("${sellers.bankaccounts.constraintsFile}") final String constraintsFile,
+			@Value("${sellers.bankaccounts.constraintsReloadIntervalSeconds}") final long reloadIntervalSeconds) {
+		this.constraintsFile = constraintsFile;
+		this.reloadIntervalSeconds = reloadIntervalSeconds;
+	}
+
 	@Bean
 	public HyperwalletBankAccountCurrencyRestrictions countryCurrencyConfiguration() {
-		List<HwBankAccountConstraintsJsonEntry> hyperwalletBankAccountRestrictionsJsonEntries
-				= loadConfigurationEntriesFromJson();
+		FileTime lastModifiedTime = getConstraintsFileLastModifiedTime();
+		HyperwalletBankAccountCurrencyRestrictions hyperwalletBankAccountCurrencyRestrictions =
+				new HyperwalletBankAccountCurrencyRestrictions(loadCountryCurrencyEntries());
+		loadedFileLastModifiedTime = lastModifiedTime;
+
+		if (StringUtils.isNotBlank(constraintsFile) && reloadIntervalSeconds > 0) {
+			reloadExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				Thread thread = new Thread(runnable, "hwapi-bankaccount-constraints-reloader");
+				thread.setDaemon(true);
+				return thread;
+			});
+			reloadExecutor.scheduleWithFixedDelay(() -> reloadIfModified(hyperwalletBankAccountCurrencyRestrictions),
+					reloadIntervalSeconds, reloadIntervalSeconds, TimeUnit.SECONDS);
+		}
+
+		return hyperwalletBankAccountCurrencyRestrictions;
+	}
+
+	/**
+	 * Reloads the constraints from the configured local file if it has been modified
+	 * since it was last successfully loaded. If the new file can't be read the current
+	 * constraints are kept, and it's read again on the next check.
+	 * @param hyperwalletBankAccountCurrencyRestrictions the constraints to update.
+	 * @return true if the constraints were reloaded.
+	 */
+	public boolean reloadIfModified(HyperwalletBankAccountCurrencyRestrictions hyperwalletBankAccountCurrencyRestrictions) {
+		if (StringUtils.isBlank(constraintsFile)) {
+			return false;
+		}
+		try {
+			FileTime lastModifiedTime = Files.getLastModifiedTime(Path.of(constraintsFile));
+			if (Objects.equals(loadedFileLastModifiedTime, lastModifiedTime)) {
+				return false;
+			}
+			hyperwalletBankAccountCurrencyRestrictions.reload(loadCountryCurrencyEntries());
+			loadedFileLastModifiedTime = lastModifiedTime;
+			log.info("Hyperwallet API Country Currency constraints reloaded from [{}]", constraintsFile);
+			return true;
+		}
+		catch (IOException | IllegalArgumentException e) {
+			log.error("Hyperwallet API Country Currency constraints couldn't be reloaded from [{}], keeping the current ones",
+					constraintsFile, e);
+			return false;
+		}
+	}
 
-		List<HyperwalletBankAccountCurrencyRestrictions.CountryCurrencyEntry> countryCurrencyEntries
-				= toCountryCurrencyEntries(hyperwalletBankAccountRestrictionsJsonEntries);
+	@PreDestroy
+	public void shutdown() {
+		if (reloadExecutor != null) {
+			reloadExecutor.shutdownNow();
+		}
+	}
 
-		return new HyperwalletBankAccountCurrencyRestrictions(countryCurrencyEntries);
+	private List<HyperwalletBankAccountCurrencyRestrictions.CountryCurrencyEntry> loadCountryCurrencyEntries() {
+		return toCountryCurrencyEntries(loadConfigurationEntriesFromJson());
 	}
 
 	private List<HyperwalletBankAccountCurrencyRestrictions.CountryCurrencyEntry> toCountryCurrencyEntries(
@@ -75,9 +156,7 @@ public class HyperwalletBankAccountCurrencyRestrictionsLoader {
 
 	private List<HwBankAccountConstraintsJsonEntry> loadConfigurationEntriesFromJson() {
 		try {
-			ClassLoader classLoader = getClass().getClassLoader();
-			InputStream inputStream = classLoader.getResourceAsStream("hwapi-bankaccount-constraints.json");
-			String json = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
+			String json = readConstraintsJson();
 			ObjectMapper mapper = new ObjectMapper()
 					.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 			List<HwBankAccountConstraintsJsonEntry> hwBankAccountConstraintsJsonEntryList =
@@ -89,6 +168,28 @@ public class HyperwalletBankAccountCurrencyRestrictionsLoader {
 		}
 	}
 
+	private String readConstraintsJson() throws IOException {
+		if (StringUtils.isNotBlank(constraintsFile)) {
+			return Files.readString(Path.of(constraintsFile), StandardCharsets.UTF_8);
+		}
+		ClassLoader classLoader = getClass().getClassLoader();
+		try (InputStream inputStream = classLoader.getResourceAsStream(DEFAULT_CONSTRAINTS_RESOURCE)) {
+			return IOUtils.toString(inputStream, StandardCharsets.UTF_8);
+		}
+	}
+
+	private FileTime getConstraintsFileLastModifiedTime() {
+		if (StringUtils.isBlank(constraintsFile)) {
+			return null;
+		}
+		try {
+			return Files.getLastModifiedTime(Path.of(constraintsFile));
+		}
+		catch (IOException e) {
+			throw new IllegalArgumentException("Hyperwallet API Country Currency constraints file couldn't be read", e);
+		}
+	}
+
 	private List<HwBankAccountConstraintsJsonEntry> filterUnsupportedConfigurations(
 			List<HwBankAccountConstraintsJsonEntry> hyperwalletBankAccountRestrictionsJsonEntries) {
 		return hyperwalletBankAccountRestrictionsJsonEntries.stream()
@@ -2,7 +2,7 @@ package com.paypal.sellers.bankaccountextract.converter.impl.sellermodel;
 
 import com.hyperwallet.clientsdk.model.HyperwalletBankAccount;
 import com.hyperwallet.clientsdk.model.HyperwalletUser.ProfileType;
-import com.paypal.infrastructure.strategy.Strategy;
+import com.paypal.infrastructure.strategy.KeyedStrategy;
 import com.paypal.sellers.bankaccountextract.model.BankAccountModel;
 import com.paypal.sellers.bankaccountextract.model.IBANBankAccountModel;
 import com.paypal.sellers.sellersextract.model.SellerModel;
@@ -16,7 +16,7 @@ import java.util.Objects;
  */
 @Slf4j
 public abstract class AbstractSellerModelToHyperwalletBankAccount
-		implements Strategy<SellerModel, HyperwalletBankAccount> {
+		implements KeyedStrategy<SellerModel, HyperwalletBankAccount> {
 
 	@Override
 	public HyperwalletBankAccount execute(final SellerModel source) {
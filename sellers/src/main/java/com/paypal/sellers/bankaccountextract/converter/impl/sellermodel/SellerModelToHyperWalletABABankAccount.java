@@ -6,6 +6,7 @@ import com.paypal.sellers.sellersextract.model.SellerModel;
 import org.springframework.stereotype.Service;
 
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Class to convert from {@link ABABankAccountModel} to {@link HyperwalletBankAccount}
@@ -30,6 +31,11 @@ public class SellerModelToHyperWalletABABankAccount extends AbstractSellerModelT
 		return super.execute(source);
 	}
 
+	@Override
+	public Set<Object> getStrategyKeys() {
+		return Set.of(ABABankAccountModel.class);
+	}
+
 	/**
 	 * Returns true if bankAccountDetails of {@link SellerModel} is of type
 	 * {@link ABABankAccountModel}
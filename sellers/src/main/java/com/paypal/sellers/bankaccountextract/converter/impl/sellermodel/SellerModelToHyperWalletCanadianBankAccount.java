@@ -6,6 +6,7 @@ import com.paypal.sellers.sellersextract.model.SellerModel;
 import org.springframework.stereotype.Service;
 
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Class to convert from {@link CanadianBankAccountModel} to
@@ -29,6 +30,11 @@ public class SellerModelToHyperWalletCanadianBankAccount extends AbstractSellerM
 		return super.execute(source);
 	}
 
+	@Override
+	public Set<Object> getStrategyKeys() {
+		return Set.of(CanadianBankAccountModel.class);
+	}
+
 	/**
 	 * Returns true if bankAccountDetails of {@link SellerModel} is of type
 	 * {@link CanadianBankAccountModel}
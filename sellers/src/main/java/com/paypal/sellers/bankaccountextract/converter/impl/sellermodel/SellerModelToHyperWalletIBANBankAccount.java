@@ -6,6 +6,7 @@ import com.paypal.sellers.sellersextract.model.SellerModel;
 import org.springframework.stereotype.Service;
 
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Class to convert from {@link IBANBankAccountModel} to {@link HyperwalletBankAccount}
@@ -26,6 +27,11 @@ public class SellerModelToHyperWalletIBANBankAccount extends AbstractSellerModel
 		return super.execute(source);
 	}
 
+	@Override
+	public Set<Object> getStrategyKeys() {
+		return Set.of(IBANBankAccountModel.class);
+	}
+
 	/**
 	 * Returns true if bankAccountDetails of {@link SellerModel} is of type
 	 * {@link IBANBankAccountModel}
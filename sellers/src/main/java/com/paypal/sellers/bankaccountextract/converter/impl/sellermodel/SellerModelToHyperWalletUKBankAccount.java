@@ -6,6 +6,7 @@ import com.paypal.sellers.sellersextract.model.SellerModel;
 import org.springframework.stereotype.Service;
 
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Class to convert from {@link UKBankAccountModel} to {@link HyperwalletBankAccount}
@@ -26,6 +27,11 @@ public class SellerModelToHyperWalletUKBankAccount extends AbstractSellerModelTo
 		return super.execute(source);
 	}
 
+	@Override
+	public Set<Object> getStrategyKeys() {
+		return Set.of(UKBankAccountModel.class);
+	}
+
 	/**
 	 * Returns true if bankAccountDetails of {@link SellerModel} is of type
 	 * {@link UKBankAccountModel}
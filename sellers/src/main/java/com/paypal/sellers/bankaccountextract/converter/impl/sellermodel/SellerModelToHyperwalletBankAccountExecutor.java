@@ -6,6 +6,7 @@ import com.paypal.infrastructure.strategy.Strategy;
 import com.paypal.sellers.sellersextract.model.SellerModel;
 import org.springframework.stereotype.Service;
 
+import java.util.Objects;
 import java.util.Set;
 
 @Service
@@ -29,4 +30,12 @@ public class SellerModelToHyperwalletBankAccountExecutor
 		return strategies;
 	}
 
+	/**
+	 * Dispatches the sellers by the type of their bank account.
+	 */
+	@Override
+	protected Object getStrategyKey(final SellerModel source) {
+		return Objects.nonNull(source.getBankAccountDetails()) ? source.getBankAccountDetails().getClass() : null;
+	}
+
 }
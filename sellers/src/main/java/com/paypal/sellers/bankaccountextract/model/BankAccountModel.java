@@ -7,6 +7,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import javax.money.Monetary;
 import javax.money.UnknownCurrencyException;
+import java.io.Serializable;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
@@ -19,7 +20,7 @@ import static com.paypal.sellers.sellersextract.model.SellerModelConstants.*;
  */
 @Slf4j
 @Getter
-public class BankAccountModel {
+public class BankAccountModel implements Serializable {
 
 	protected final String transferMethodCountry;
 
@@ -0,0 +1,30 @@
+package com.paypal.sellers.bankaccountextract.service;
+
+import com.paypal.sellers.bankaccountextract.service.impl.HyperwalletBankAccountsIndex;
+
+import java.util.function.Supplier;
+
+/**
+ * Service that keeps in memory the indexed Hyperwallet bank accounts of each user, so
+ * they are not listed again from Hyperwallet every time a bank account of the user is
+ * synchronized. The cached bank accounts of a user must be invalidated every time one of
+ * them is created or updated.
+ */
+public interface HyperwalletBankAccountsCacheService {
+
+	/**
+	 * Returns the cached bank accounts of a user, loading them with the given loader if
+	 * they are not cached.
+	 * @param userToken the Hyperwallet token of the user.
+	 * @param loader the loader of the bank accounts of the user.
+	 * @return the indexed bank accounts of the user.
+	 */
+	HyperwalletBankAccountsIndex getBankAccounts(String userToken, Supplier<HyperwalletBankAccountsIndex> loader);
+
+	/**
+	 * Removes the cached bank accounts of a user.
+	 * @param userToken the Hyperwallet token of the user.
+	 */
+	void invalidate(String userToken);
+
+}
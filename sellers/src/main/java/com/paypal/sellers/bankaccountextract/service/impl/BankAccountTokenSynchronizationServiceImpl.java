@@ -11,6 +11,7 @@ import com.paypal.infrastructure.hyperwallet.api.HyperwalletSDKUserService;
 import com.paypal.infrastructure.service.TokenSynchronizationService;
 import com.paypal.infrastructure.util.HyperwalletLoggingErrorsUtil;
 import com.paypal.sellers.bankaccountextract.model.BankAccountModel;
+import com.paypal.sellers.bankaccountextract.service.HyperwalletBankAccountsCacheService;
 import com.paypal.sellers.bankaccountextract.service.MiraklBankAccountExtractService;
 import com.paypal.sellers.sellersextract.model.SellerModel;
 import lombok.extern.slf4j.Slf4j;
@@ -34,13 +35,17 @@ public class BankAccountTokenSynchronizationServiceImpl implements TokenSynchron
 
 	private final HyperwalletMiraklBankAccountMatcher hyperwalletMiraklBankAccountMatcher;
 
+	private final HyperwalletBankAccountsCacheService hyperwalletBankAccountsCacheService;
+
 	public BankAccountTokenSynchronizationServiceImpl(final HyperwalletSDKUserService hyperwalletSDKUserService,
 			final MiraklBankAccountExtractService miraklBankAccountExtractService,
-			HyperwalletMiraklBankAccountMatcher hyperwalletMiraklBankAccountMatcher) {
+			HyperwalletMiraklBankAccountMatcher hyperwalletMiraklBankAccountMatcher,
+			HyperwalletBankAccountsCacheService hyperwalletBankAccountsCacheService) {
 
 		this.hyperwalletSDKUserService = hyperwalletSDKUserService;
 		this.miraklBankAccountExtractService = miraklBankAccountExtractService;
 		this.hyperwalletMiraklBankAccountMatcher = hyperwalletMiraklBankAccountMatcher;
+		this.hyperwalletBankAccountsCacheService = hyperwalletBankAccountsCacheService;
 	}
 
 	public SellerModel synchronizeToken(final SellerModel miraklSeller) {
@@ -57,7 +62,9 @@ public class BankAccountTokenSynchronizationServiceImpl implements TokenSynchron
 		// in Mirakl will be updated with a null value, forcing the bank account to be
 		// created again
 		// in Hyperwallet
-		final List<HyperwalletBankAccount> hyperwalletBankAccounts = getHwBankAccountByClientUserId(miraklSeller);
+		final HyperwalletBankAccountsIndex hyperwalletBankAccounts = hyperwalletBankAccountsCacheService.getBankAccounts(
+				miraklSeller.getToken(),
+				() -> hyperwalletMiraklBankAccountMatcher.index(getHwBankAccountByClientUserId(miraklSeller)));
 		HyperwalletBankAccount matchedHyperwalletBankAccount = hyperwalletMiraklBankAccountMatcher
 				.findExactOrCompatibleMatch(hyperwalletBankAccounts, miraklBankAccount)
 				.orElse(new HyperwalletBankAccount());
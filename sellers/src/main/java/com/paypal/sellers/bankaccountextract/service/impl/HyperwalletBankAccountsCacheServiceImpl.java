@@ -0,0 +1,50 @@
+package com.paypal.sellers.bankaccountextract.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.paypal.sellers.bankaccountextract.service.HyperwalletBankAccountsCacheService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Default implementation of {@link HyperwalletBankAccountsCacheService}. Entries expire
+ * after {@code sellers.bankaccounts.cache.ttlSeconds}, so changes done directly in
+ * Hyperwallet are eventually seen by the connector.
+ */
+@Service
+public class HyperwalletBankAccountsCacheServiceImpl implements HyperwalletBankAccountsCacheService {
+
+	private final Cache<String, HyperwalletBankAccountsIndex> cache;
+
+	public HyperwalletBankAccountsCacheServiceImpl(
+			@Value("${sellers.bankaccounts.cache.maxSize}") final long maxSize,
+			@Value("${sellers.bankaccounts.cache.ttlSeconds}") final long ttlSeconds) {
+		cache = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(Duration.ofSeconds(ttlSeconds)).build();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public HyperwalletBankAccountsIndex getBankAccounts(final String userToken,
+			final Supplier<HyperwalletBankAccountsIndex> loader) {
+		if (userToken == null) {
+			return loader.get();
+		}
+		return cache.get(userToken, key -> loader.get());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void invalidate(final String userToken) {
+		if (userToken != null) {
+			cache.invalidate(userToken);
+		}
+	}
+
+}
@@ -0,0 +1,132 @@
+package com.paypal.sellers.bankaccountextract.service.impl;
+
+import com.hyperwallet.clientsdk.model.HyperwalletBankAccount;
+import com.paypal.sellers.bankaccountextract.model.BankAccountModel;
+import com.paypal.sellers.bankaccountextract.model.BankAccountType;
+import lombok.Value;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Index of the Hyperwallet bank accounts of a user. It allows to find the candidates for
+ * matching a Mirakl bank account with a single lookup instead of scanning all the bank
+ * accounts of the user for every kind of match.
+ * <p>
+ * The bank accounts are indexed by token, by the fields that must be equal for two bank
+ * accounts to be the same one (country, currency and last four digits of the account
+ * number) and by the fields that must be equal for two bank accounts to be compatible
+ * (type and country). When several bank accounts share the same key the order in which
+ * Hyperwallet returned them is kept.
+ */
+public class HyperwalletBankAccountsIndex {
+
+	private static final int BANK_ACCOUNT_ID_DIGITS = 4;
+
+	private final List<HyperwalletBankAccount> bankAccounts;
+
+	private final Map<String, HyperwalletBankAccount> bankAccountsByToken = new HashMap<>();
+
+	private final Map<BankAccountIdKey, List<HyperwalletBankAccount>> bankAccountsById = new HashMap<>();
+
+	private final Map<BankAccountTypeKey, HyperwalletBankAccount> bankAccountsByType = new HashMap<>();
+
+	public HyperwalletBankAccountsIndex(final List<HyperwalletBankAccount> bankAccounts,
+			final Function<HyperwalletBankAccount, Optional<BankAccountType>> bankAccountTypeResolver) {
+		this.bankAccounts = List.copyOf(bankAccounts);
+
+		for (final HyperwalletBankAccount bankAccount : this.bankAccounts) {
+			if (bankAccount.getToken() != null) {
+				bankAccountsByToken.putIfAbsent(bankAccount.getToken(), bankAccount);
+			}
+			bankAccountIdKey(bankAccount).ifPresent(
+					key -> bankAccountsById.computeIfAbsent(key, k -> new ArrayList<>()).add(bankAccount));
+			bankAccountTypeResolver.apply(bankAccount).ifPresent(type -> bankAccountsByType
+					.putIfAbsent(new BankAccountTypeKey(type, bankAccount.getTransferMethodCountry()), bankAccount));
+		}
+	}
+
+	/**
+	 * Returns all the indexed bank accounts.
+	 * @return the indexed bank accounts, in the order they were received.
+	 */
+	public List<HyperwalletBankAccount> getBankAccounts() {
+		return bankAccounts;
+	}
+
+	/**
+	 * Finds the bank account with the same token as the Mirakl bank account.
+	 * @param miraklBankAccount the Mirakl bank account.
+	 * @return the bank account with the same token, if any.
+	 */
+	public Optional<HyperwalletBankAccount> findByToken(final BankAccountModel miraklBankAccount) {
+		return Optional.ofNullable(miraklBankAccount.getToken()).map(bankAccountsByToken::get);
+	}
+
+	/**
+	 * Finds the bank accounts with the same country, currency and last four digits of the
+	 * account number as the Mirakl bank account. These are the only candidates to be the
+	 * same bank account.
+	 * @param miraklBankAccount the Mirakl bank account.
+	 * @return the candidate bank accounts, it can be empty.
+	 */
+	public List<HyperwalletBankAccount> findSameBankAccountCandidates(final BankAccountModel miraklBankAccount) {
+		//@formatter:off
+		return lastDigits(miraklBankAccount.getBankAccountNumber())
+				.map(lastDigits -> new BankAccountIdKey(miraklBankAccount.getTransferMethodCountry(),
+						miraklBankAccount.getTransferMethodCurrency(), lastDigits))
+				.map(key -> bankAccountsById.getOrDefault(key, List.of()))
+				.orElse(List.of());
+		//@formatter:on
+	}
+
+	/**
+	 * Finds the first bank account with the same type and country as the Mirakl bank
+	 * account.
+	 * @param miraklBankAccount the Mirakl bank account.
+	 * @return the compatible bank account, if any.
+	 */
+	public Optional<HyperwalletBankAccount> findCompatibleBankAccount(final BankAccountModel miraklBankAccount) {
+		return Optional.ofNullable(bankAccountsByType
+				.get(new BankAccountTypeKey(miraklBankAccount.getType(), miraklBankAccount.getTransferMethodCountry())));
+	}
+
+	private static Optional<BankAccountIdKey> bankAccountIdKey(final HyperwalletBankAccount bankAccount) {
+		return lastDigits(bankAccount.getBankAccountId())
+				.map(lastDigits -> new BankAccountIdKey(bankAccount.getTransferMethodCountry(),
+						bankAccount.getTransferMethodCurrency(), lastDigits));
+	}
+
+	private static Optional<String> lastDigits(final String bankAccountNumber) {
+		if (bankAccountNumber == null || bankAccountNumber.length() < BANK_ACCOUNT_ID_DIGITS) {
+			return Optional.empty();
+		}
+		return Optional.of(StringUtils.right(bankAccountNumber, BANK_ACCOUNT_ID_DIGITS));
+	}
+
+	@Value
+	private static class BankAccountIdKey {
+
+		String country;
+
+		String currency;
+
+		String lastDigits;
+
+	}
+
+	@Value
+	private static class BankAccountTypeKey {
+
+		BankAccountType type;
+
+		String country;
+
+	}
+
+}
@@ -1,13 +1,17 @@
 package com.paypal.sellers.bankaccountextract.service.impl;
 
 import com.hyperwallet.clientsdk.model.HyperwalletBankAccount;
+import com.paypal.infrastructure.exceptions.HMCException;
+import com.paypal.sellers.bankaccountextract.converter.impl.miraklshop.bankaccounttype.HyperwalletBankAccountTypeResolver;
 import com.paypal.sellers.bankaccountextract.model.*;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Optional;
 
 //@formatter:off
+@Slf4j
 @Component
 public class HyperwalletMiraklBankAccountMatcher {
 
@@ -15,34 +19,51 @@ public class HyperwalletMiraklBankAccountMatcher {
 
 	private final HyperwalletMiraklBankAccountEqualityChecker hyperwalletMiraklBankAccountEqualityChecker;
 
-	public HyperwalletMiraklBankAccountMatcher(HyperwalletMiraklBankAccountCompatibilityChecker hyperwalletMiraklBankAccountCompatibilityChecker, HyperwalletMiraklBankAccountEqualityChecker hyperwalletMiraklBankAccountEqualityChecker) {
+	private final HyperwalletBankAccountTypeResolver hyperwalletBankAccountTypeResolver;
+
+	public HyperwalletMiraklBankAccountMatcher(HyperwalletMiraklBankAccountCompatibilityChecker hyperwalletMiraklBankAccountCompatibilityChecker, HyperwalletMiraklBankAccountEqualityChecker hyperwalletMiraklBankAccountEqualityChecker, HyperwalletBankAccountTypeResolver hyperwalletBankAccountTypeResolver) {
 		this.hyperwalletMiraklBankAccountCompatibilityChecker = hyperwalletMiraklBankAccountCompatibilityChecker;
 		this.hyperwalletMiraklBankAccountEqualityChecker = hyperwalletMiraklBankAccountEqualityChecker;
+		this.hyperwalletBankAccountTypeResolver = hyperwalletBankAccountTypeResolver;
 	}
 
 	public Optional<HyperwalletBankAccount> findExactOrCompatibleMatch(List<HyperwalletBankAccount> hyperwalletCandidates, BankAccountModel miraklBankAccount) {
+		return findExactOrCompatibleMatch(index(hyperwalletCandidates), miraklBankAccount);
+	}
+
+	public Optional<HyperwalletBankAccount> findExactOrCompatibleMatch(HyperwalletBankAccountsIndex hyperwalletCandidates, BankAccountModel miraklBankAccount) {
 		return findSameTokenCompatibleBankAccount(hyperwalletCandidates, miraklBankAccount)
 				.or(() -> findExactBankAccount(hyperwalletCandidates, miraklBankAccount))
-				.or(() -> findCompatibleBankAccount(hyperwalletCandidates, miraklBankAccount));
+				.or(() -> hyperwalletCandidates.findCompatibleBankAccount(miraklBankAccount));
 	}
 
-	private Optional<HyperwalletBankAccount> findExactBankAccount(List<HyperwalletBankAccount> hyperwalletCandidates, BankAccountModel miraklBankAccount) {
-		return hyperwalletCandidates.stream()
+	public HyperwalletBankAccountsIndex index(List<HyperwalletBankAccount> hyperwalletCandidates) {
+		return new HyperwalletBankAccountsIndex(hyperwalletCandidates, this::getBankAccountType);
+	}
+
+	private Optional<HyperwalletBankAccount> findExactBankAccount(HyperwalletBankAccountsIndex hyperwalletCandidates, BankAccountModel miraklBankAccount) {
+		return hyperwalletCandidates.findSameBankAccountCandidates(miraklBankAccount).stream()
 				.filter(candidate -> hyperwalletMiraklBankAccountEqualityChecker.isSameBankAccount(candidate, miraklBankAccount))
 				.findFirst();
 	}
 
-	private Optional<HyperwalletBankAccount> findCompatibleBankAccount(List<HyperwalletBankAccount> hyperwalletCandidates, BankAccountModel miraklBankAccount) {
-		return hyperwalletCandidates.stream()
-				.filter(candidate -> hyperwalletMiraklBankAccountCompatibilityChecker.isBankAccountCompatible(candidate, miraklBankAccount))
-				.findFirst();
+	private Optional<HyperwalletBankAccount> findSameTokenCompatibleBankAccount(HyperwalletBankAccountsIndex hyperwalletCandidates, BankAccountModel miraklBankAccount) {
+		return hyperwalletCandidates.findByToken(miraklBankAccount)
+				.filter(candidate -> hyperwalletMiraklBankAccountCompatibilityChecker.isBankAccountCompatible(candidate, miraklBankAccount));
 	}
 
-	private Optional<HyperwalletBankAccount> findSameTokenCompatibleBankAccount(List<HyperwalletBankAccount> hyperwalletCandidates, BankAccountModel miraklBankAccount) {
-		return hyperwalletCandidates.stream()
-				.filter(candidate -> candidate.getToken().equals(miraklBankAccount.getToken()))
-				.filter(candidate -> hyperwalletMiraklBankAccountCompatibilityChecker.isBankAccountCompatible(candidate, miraklBankAccount))
-				.findFirst();
+	private Optional<BankAccountType> getBankAccountType(HyperwalletBankAccount hyperwalletBankAccount) {
+		if (hyperwalletBankAccount.getType() == null) {
+			return Optional.empty();
+		}
+		try {
+			return Optional.ofNullable(hyperwalletBankAccountTypeResolver.getBankAccountType(hyperwalletBankAccount));
+		}
+		catch (HMCException | IllegalArgumentException e) {
+			log.warn("Bank account type of Hyperwallet bank account [{}] couldn't be resolved, it won't be used as a compatible bank account: {}",
+					hyperwalletBankAccount.getToken(), e.getMessage());
+			return Optional.empty();
+		}
 	}
 
 }
@@ -3,10 +3,9 @@ package com.paypal.sellers.bankaccountextract.service.impl;
 import com.hyperwallet.clientsdk.model.HyperwalletBankAccount;
 import com.mirakl.client.core.exception.MiraklApiException;
 import com.mirakl.client.mmp.operator.domain.shop.update.MiraklUpdateShop;
-import com.mirakl.client.mmp.operator.request.shop.MiraklUpdateShopsRequest;
 import com.mirakl.client.mmp.request.additionalfield.MiraklRequestAdditionalFieldValue.MiraklSimpleRequestAdditionalFieldValue;
 import com.paypal.infrastructure.mail.MailNotificationUtil;
-import com.paypal.infrastructure.sdk.mirakl.MiraklMarketplacePlatformOperatorApiWrapper;
+import com.paypal.infrastructure.miraklshopupdates.services.MiraklShopUpdatesAggregator;
 import com.paypal.infrastructure.util.MiraklLoggingErrorsUtil;
 import com.paypal.sellers.bankaccountextract.service.MiraklBankAccountExtractService;
 import com.paypal.sellers.sellersextract.model.SellerModel;
@@ -21,16 +20,16 @@ import static com.paypal.sellers.sellersextract.model.SellerModelConstants.HYPER
 @Service
 public class MiraklBankAccountExtractServiceImpl implements MiraklBankAccountExtractService {
 
-	private final MiraklMarketplacePlatformOperatorApiWrapper miraklOperatorClient;
+	private final MiraklShopUpdatesAggregator miraklShopUpdatesAggregator;
 
 	private final MailNotificationUtil sellerMailNotificationUtil;
 
 	private static final String ERROR_MESSAGE_PREFIX = "There was an error, please check the logs for further "
 			+ "information:\n";
 
-	public MiraklBankAccountExtractServiceImpl(final MiraklMarketplacePlatformOperatorApiWrapper miraklOperatorClient,
+	public MiraklBankAccountExtractServiceImpl(final MiraklShopUpdatesAggregator miraklShopUpdatesAggregator,
 			final MailNotificationUtil sellerMailNotificationUtil) {
-		this.miraklOperatorClient = miraklOperatorClient;
+		this.miraklShopUpdatesAggregator = miraklShopUpdatesAggregator;
 		this.sellerMailNotificationUtil = sellerMailNotificationUtil;
 	}
 
@@ -47,11 +46,10 @@ public class MiraklBankAccountExtractServiceImpl implements MiraklBankAccountExt
 		userTokenCustomField.setCode(HYPERWALLET_BANK_ACCOUNT_TOKEN);
 		userTokenCustomField.setValue(hyperwalletBankAccount.getToken());
 		miraklUpdateShop.setAdditionalFieldValues(List.of(userTokenCustomField));
-		final MiraklUpdateShopsRequest request = new MiraklUpdateShopsRequest(List.of(miraklUpdateShop));
 		log.info("Updating bank account token for shop [{}]", shopId);
 		try {
-			miraklOperatorClient.updateShops(request);
-			log.info("Bank account token updated for shop [{}]", shopId);
+			miraklShopUpdatesAggregator.updateShop(miraklUpdateShop)
+					.ifPresent(updatedShops -> log.info("Bank account token updated for shop [{}]", shopId));
 		}
 		catch (final MiraklApiException ex) {
 			log.error("Something went wrong updating information of shop [{}]", shopId);
@@ -11,6 +11,7 @@ import com.paypal.infrastructure.strategy.Strategy;
 import com.paypal.infrastructure.strategy.StrategyExecutor;
 import com.paypal.infrastructure.util.HyperwalletLoggingErrorsUtil;
 import com.paypal.infrastructure.util.MiraklLoggingErrorsUtil;
+import com.paypal.sellers.bankaccountextract.service.HyperwalletBankAccountsCacheService;
 import com.paypal.sellers.sellersextract.model.SellerModel;
 import lombok.extern.slf4j.Slf4j;
 
@@ -27,16 +28,19 @@ public abstract class AbstractHyperwalletBankAccountRetryApiStrategy
 
 	protected final MailNotificationUtil mailNotificationUtil;
 
+	protected final HyperwalletBankAccountsCacheService hyperwalletBankAccountsCacheService;
+
 	protected static final String ERROR_MESSAGE_PREFIX = "There was an error, please check the logs for further "
 			+ "information:\n";
 
 	protected AbstractHyperwalletBankAccountRetryApiStrategy(
 			final StrategyExecutor<SellerModel, HyperwalletBankAccount> sellerModelToHyperwalletBankAccountStrategyExecutor,
-			final HyperwalletSDKUserService hyperwalletSDKUserService,
-			final MailNotificationUtil mailNotificationUtil) {
+			final HyperwalletSDKUserService hyperwalletSDKUserService, final MailNotificationUtil mailNotificationUtil,
+			final HyperwalletBankAccountsCacheService hyperwalletBankAccountsCacheService) {
 		this.sellerModelToHyperwalletBankAccountStrategyExecutor = sellerModelToHyperwalletBankAccountStrategyExecutor;
 		this.hyperwalletSDKUserService = hyperwalletSDKUserService;
 		this.mailNotificationUtil = mailNotificationUtil;
+		this.hyperwalletBankAccountsCacheService = hyperwalletBankAccountsCacheService;
 	}
 
 	/**
@@ -50,6 +54,7 @@ public abstract class AbstractHyperwalletBankAccountRetryApiStrategy
 		if (Objects.nonNull(hwBankAccountRequest)) {
 			try {
 				hwCreatedBankAccount = callHyperwalletAPI(seller.getHyperwalletProgram(), hwBankAccountRequest);
+				hyperwalletBankAccountsCacheService.invalidate(seller.getToken());
 				log.info("Bank account created or updated for seller with clientId [{}]", seller.getClientUserId());
 			}
 			catch (final HyperwalletException e) {
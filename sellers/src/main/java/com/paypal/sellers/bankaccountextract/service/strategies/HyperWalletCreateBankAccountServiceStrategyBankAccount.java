@@ -5,6 +5,7 @@ import com.hyperwallet.clientsdk.model.HyperwalletBankAccount;
 import com.paypal.infrastructure.hyperwallet.api.HyperwalletSDKUserService;
 import com.paypal.infrastructure.mail.MailNotificationUtil;
 import com.paypal.infrastructure.strategy.StrategyExecutor;
+import com.paypal.sellers.bankaccountextract.service.HyperwalletBankAccountsCacheService;
 import com.paypal.sellers.bankaccountextract.service.MiraklBankAccountExtractService;
 import com.paypal.sellers.sellersextract.model.SellerModel;
 import org.springframework.stereotype.Service;
@@ -25,9 +26,10 @@ public class HyperWalletCreateBankAccountServiceStrategyBankAccount
 	protected HyperWalletCreateBankAccountServiceStrategyBankAccount(
 			final StrategyExecutor<SellerModel, HyperwalletBankAccount> sellerModelToHyperwalletBankAccountStrategyExecutor,
 			final MiraklBankAccountExtractService miraklBankAccountExtractService,
-			final HyperwalletSDKUserService hyperwalletSDKUserService,
-			final MailNotificationUtil mailNotificationUtil) {
-		super(sellerModelToHyperwalletBankAccountStrategyExecutor, hyperwalletSDKUserService, mailNotificationUtil);
+			final HyperwalletSDKUserService hyperwalletSDKUserService, final MailNotificationUtil mailNotificationUtil,
+			final HyperwalletBankAccountsCacheService hyperwalletBankAccountsCacheService) {
+		super(sellerModelToHyperwalletBankAccountStrategyExecutor, hyperwalletSDKUserService, mailNotificationUtil,
+				hyperwalletBankAccountsCacheService);
 		this.miraklBankAccountExtractService = miraklBankAccountExtractService;
 	}
 
@@ -39,4 +39,9 @@ public class BankAccountRetryBatchJobItemsExtractor
 		//@formatter:on
 	}
 
+	@Override
+	protected int getMaxItemsPerRequest() {
+		return MiraklSellersExtractService.MAX_SHOP_IDS_PER_REQUEST;
+	}
+
 }
@@ -3,6 +3,7 @@ package com.paypal.sellers.batchjobs.bstk;
 import com.paypal.infrastructure.batchjob.AbstractDeltaBatchJobItemsExtractor;
 import com.paypal.infrastructure.batchjob.BatchJobContext;
 import com.paypal.infrastructure.batchjob.BatchJobTrackingService;
+import com.paypal.infrastructure.service.TokenSynchronizationService;
 import com.paypal.sellers.sellersextract.model.BusinessStakeHolderModel;
 import com.paypal.sellers.sellersextract.model.SellerModel;
 import com.paypal.sellers.sellersextract.service.BusinessStakeholderExtractService;
@@ -26,18 +27,22 @@ public class BusinessStakeholdersExtractBatchJobItemsExtractor
 
 	private final BusinessStakeholderExtractService businessStakeholderExtractService;
 
+	private final TokenSynchronizationService<BusinessStakeHolderModel> businessStakeholderTokenSynchronizationService;
+
 	public BusinessStakeholdersExtractBatchJobItemsExtractor(
 			final MiraklSellersExtractService miraklSellersExtractService,
 			final BusinessStakeholderExtractService businessStakeholderExtractService,
+			final TokenSynchronizationService<BusinessStakeHolderModel> businessStakeholderTokenSynchronizationService,
 			final BatchJobTrackingService batchJobTrackingService) {
 		super(batchJobTrackingService);
 		this.miraklSellersExtractService = miraklSellersExtractService;
 		this.businessStakeholderExtractService = businessStakeholderExtractService;
+		this.businessStakeholderTokenSynchronizationService = businessStakeholderTokenSynchronizationService;
 	}
 
 	/**
-	 * Retrieves all the stakeholders modified since the {@code delta} time and returns
-	 * them as a {@link BusinessStakeholderExtractJobItem}
+	 * Retrieves all the stakeholders modified since the {@code delta} time, synchronizes
+	 * their tokens in bulk and returns them as a {@link BusinessStakeholderExtractJobItem}
 	 * @param delta the cut-out {@link Date}
 	 * @return a {@link Collection} of {@link BusinessStakeholderExtractJobItem}
 	 */
@@ -46,7 +51,8 @@ public class BusinessStakeholdersExtractBatchJobItemsExtractor
 		final List<SellerModel> miraklProfessionalSellers = miraklSellersExtractService.extractProfessionals(delta);
 		final List<BusinessStakeHolderModel> businessStakeHolderModels = businessStakeholderExtractService
 				.extractBusinessStakeHolders(miraklProfessionalSellers);
-		return businessStakeHolderModels.stream().map(BusinessStakeholderExtractJobItem::new)
+		return businessStakeholderTokenSynchronizationService.synchronizeTokens(businessStakeHolderModels).stream()
+				.map(BusinessStakeholderExtractJobItem::new)
 				.collect(Collectors.toList());
 	}
 
@@ -4,6 +4,7 @@ import com.paypal.infrastructure.batchjob.AbstractCachingFailedItemsBatchJobItem
 import com.paypal.infrastructure.batchjob.BatchJobContext;
 import com.paypal.infrastructure.batchjob.BatchJobFailedItemService;
 import com.paypal.infrastructure.batchjob.cache.BatchJobFailedItemCacheService;
+import com.paypal.infrastructure.service.TokenSynchronizationService;
 import com.paypal.sellers.sellersextract.model.BusinessStakeHolderModel;
 import com.paypal.sellers.sellersextract.model.SellerModel;
 import com.paypal.sellers.sellersextract.service.BusinessStakeholderExtractService;
@@ -25,14 +26,18 @@ public class BusinessStakeholdersRetryBatchJobItemsExtractor
 
 	private final BusinessStakeholderExtractService businessStakeholderExtractService;
 
+	private final TokenSynchronizationService<BusinessStakeHolderModel> businessStakeholderTokenSynchronizationService;
+
 	protected BusinessStakeholdersRetryBatchJobItemsExtractor(BatchJobFailedItemService batchJobFailedItemService,
 			BatchJobFailedItemCacheService batchJobFailedItemCacheService,
 			MiraklSellersExtractService miraklSellersExtractService,
-			BusinessStakeholderExtractService businessStakeholderExtractService) {
+			BusinessStakeholderExtractService businessStakeholderExtractService,
+			TokenSynchronizationService<BusinessStakeHolderModel> businessStakeholderTokenSynchronizationService) {
 		super(BusinessStakeholderExtractJobItem.class, BusinessStakeholderExtractJobItem.ITEM_TYPE,
 				batchJobFailedItemService, batchJobFailedItemCacheService);
 		this.miraklSellersExtractService = miraklSellersExtractService;
 		this.businessStakeholderExtractService = businessStakeholderExtractService;
+		this.businessStakeholderTokenSynchronizationService = businessStakeholderTokenSynchronizationService;
 	}
 
 	@Override
@@ -42,8 +47,14 @@ public class BusinessStakeholdersRetryBatchJobItemsExtractor
 		final List<BusinessStakeHolderModel> businessStakeHolderModels = businessStakeholderExtractService
 				.extractBusinessStakeHolders(miraklProfessionalSellers);
 
-		return businessStakeHolderModels.stream().map(BusinessStakeholderExtractJobItem::new)
+		return businessStakeholderTokenSynchronizationService.synchronizeTokens(businessStakeHolderModels).stream()
+				.map(BusinessStakeholderExtractJobItem::new)
 				.collect(Collectors.toList());
 	}
 
+	@Override
+	protected int getMaxItemsPerRequest() {
+		return MiraklSellersExtractService.MAX_SHOP_IDS_PER_REQUEST;
+	}
+
 }
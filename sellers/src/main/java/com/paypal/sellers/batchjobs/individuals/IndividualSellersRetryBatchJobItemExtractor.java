@@ -31,4 +31,9 @@ public class IndividualSellersRetryBatchJobItemExtractor
 				.collect(Collectors.toList());
 	}
 
+	@Override
+	protected int getMaxItemsPerRequest() {
+		return MiraklSellersExtractService.MAX_SHOP_IDS_PER_REQUEST;
+	}
+
 }
@@ -34,4 +34,9 @@ public class ProfessionalSellersRetryBatchJobItemsExtractor
 				.collect(Collectors.toList());
 	}
 
+	@Override
+	protected int getMaxItemsPerRequest() {
+		return MiraklSellersExtractService.MAX_SHOP_IDS_PER_REQUEST;
+	}
+
 }
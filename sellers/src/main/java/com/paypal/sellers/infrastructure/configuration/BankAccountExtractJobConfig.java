@@ -1,6 +1,7 @@
 package com.paypal.sellers.infrastructure.configuration;
 
 import com.paypal.infrastructure.batchjob.quartz.QuartzBatchJobBuilder;
+import com.paypal.infrastructure.job.JobSchedules;
 import com.paypal.sellers.batchjobs.bankaccount.BankAccountRetryBatchJob;
 import com.paypal.sellers.jobs.BankAccountExtractJob;
 import org.quartz.*;
@@ -51,7 +52,7 @@ public class BankAccountExtractJobConfig {
 		return TriggerBuilder.newTrigger()
 				.forJob(jobDetails)
 				.withIdentity(TRIGGER_SUFFIX + JOB_NAME)
-				.withSchedule(CronScheduleBuilder.cronSchedule(cronExpression))
+				.withSchedule(JobSchedules.extractJobSchedule(cronExpression))
 				.build();
 		//@formatter:on
 	}
@@ -73,7 +74,7 @@ public class BankAccountExtractJobConfig {
 		return TriggerBuilder.newTrigger()
 				.forJob(jobDetails)
 				.withIdentity(TRIGGER_SUFFIX + RETRY_JOB_NAME)
-				.withSchedule(CronScheduleBuilder.cronSchedule(cronExpression))
+				.withSchedule(JobSchedules.retryJobSchedule(cronExpression))
 				.build();
 		//@formatter:on
 	}
@@ -1,9 +1,9 @@
 package com.paypal.sellers.infrastructure.configuration;
 
 import com.paypal.infrastructure.batchjob.quartz.QuartzBatchJobBuilder;
+import com.paypal.infrastructure.job.JobSchedules;
 import com.paypal.sellers.batchjobs.bstk.BusinessStakeholdersRetryBatchJob;
 import com.paypal.sellers.jobs.ProfessionalSellersExtractJob;
-import org.quartz.CronScheduleBuilder;
 import org.quartz.JobDetail;
 import org.quartz.Trigger;
 import org.quartz.TriggerBuilder;
@@ -49,7 +49,7 @@ public class BusinessStakeholdersExtractJobConfig {
 		return TriggerBuilder.newTrigger()
 				.forJob(jobDetails)
 				.withIdentity(TRIGGER_SUFFIX + RETRY_JOB_NAME)
-				.withSchedule(CronScheduleBuilder.cronSchedule(cronExpression))
+				.withSchedule(JobSchedules.retryJobSchedule(cronExpression))
 				.build();
 		//@formatter:on
 	}
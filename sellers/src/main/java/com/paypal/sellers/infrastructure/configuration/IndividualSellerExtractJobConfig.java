@@ -1,6 +1,7 @@
 package com.paypal.sellers.infrastructure.configuration;
 
 import com.paypal.infrastructure.batchjob.quartz.QuartzBatchJobBuilder;
+import com.paypal.infrastructure.job.JobSchedules;
 import com.paypal.sellers.batchjobs.individuals.IndividualSellersExtractBatchJob;
 import com.paypal.sellers.batchjobs.individuals.IndividualSellersRetryBatchJob;
 import com.paypal.sellers.jobs.IndividualSellersExtractJob;
@@ -52,7 +53,7 @@ public class IndividualSellerExtractJobConfig {
 		return TriggerBuilder.newTrigger()
 				.forJob(jobDetails)
 				.withIdentity(TRIGGER_SUFFIX + JOB_NAME)
-				.withSchedule(CronScheduleBuilder.cronSchedule(cronExpression))
+				.withSchedule(JobSchedules.extractJobSchedule(cronExpression))
 				.build();
 		//@formatter:on
 	}
@@ -86,7 +87,7 @@ public class IndividualSellerExtractJobConfig {
 		return TriggerBuilder.newTrigger()
 				.forJob(jobDetails)
 				.withIdentity(TRIGGER_SUFFIX + RETRY_JOB_NAME)
-				.withSchedule(CronScheduleBuilder.cronSchedule(cronExpression))
+				.withSchedule(JobSchedules.retryJobSchedule(cronExpression))
 				.build();
 		//@formatter:on
 	}
@@ -1,6 +1,7 @@
 package com.paypal.sellers.infrastructure.configuration;
 
 import com.paypal.infrastructure.batchjob.quartz.QuartzBatchJobBuilder;
+import com.paypal.infrastructure.job.JobSchedules;
 import com.paypal.sellers.batchjobs.professionals.ProfessionalSellersRetryBatchJob;
 import com.paypal.sellers.jobs.ProfessionalSellersExtractJob;
 import org.quartz.*;
@@ -52,7 +53,7 @@ public class ProfessionalSellerExtractJobConfig {
 		return TriggerBuilder.newTrigger()
 				.forJob(jobDetails)
 				.withIdentity(TRIGGER_SUFFIX + JOB_NAME)
-				.withSchedule(CronScheduleBuilder.cronSchedule(cronExpression))
+				.withSchedule(JobSchedules.extractJobSchedule(cronExpression))
 				.build();
 		//@formatter:on
 	}
@@ -74,7 +75,7 @@ public class ProfessionalSellerExtractJobConfig {
 		return TriggerBuilder.newTrigger()
 				.forJob(jobDetails)
 				.withIdentity(TRIGGER_SUFFIX + RETRY_JOB_NAME)
-				.withSchedule(CronScheduleBuilder.cronSchedule(cronExpression))
+				.withSchedule(JobSchedules.retryJobSchedule(cronExpression))
 				.build();
 		//@formatter:on
 	}
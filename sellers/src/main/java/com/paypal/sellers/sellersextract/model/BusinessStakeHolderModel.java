@@ -9,6 +9,7 @@ import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.Serializable;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
@@ -30,7 +31,7 @@ import static com.paypal.sellers.sellersextract.model.SellerModelConstants.HYPER
 @Slf4j
 @Getter
 @Builder
-public class BusinessStakeHolderModel {
+public class BusinessStakeHolderModel implements Serializable {
 
 	private final String timeZone;
 
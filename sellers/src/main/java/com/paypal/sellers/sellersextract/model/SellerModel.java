@@ -11,6 +11,7 @@ import org.apache.commons.lang3.EnumUtils;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 
+import java.io.Serializable;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
@@ -25,7 +26,7 @@ import static com.paypal.sellers.sellersextract.model.SellerModelConstants.*;
 @Slf4j
 @Getter
 @Builder
-public class SellerModel {
+public class SellerModel implements Serializable {
 
 	protected final String timeZone;
 
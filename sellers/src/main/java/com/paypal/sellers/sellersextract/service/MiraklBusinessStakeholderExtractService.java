@@ -14,6 +14,8 @@ public interface MiraklBusinessStakeholderExtractService {
 	 * @param clientUserId the client user ID.
 	 * @param businessStakeHolderModels a {@link List} of
 	 * {@link BusinessStakeHolderModel}s.
+	 * @throws com.mirakl.client.core.exception.MiraklApiException when the tokens couldn't
+	 * be updated in Mirakl, once the failure has been notified.
 	 */
 	void updateBusinessStakeholderToken(String clientUserId, List<BusinessStakeHolderModel> businessStakeHolderModels);
 
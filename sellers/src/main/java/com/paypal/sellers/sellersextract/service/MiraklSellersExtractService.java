@@ -12,6 +12,11 @@ import java.util.List;
  */
 public interface MiraklSellersExtractService {
 
+	/**
+	 * Maximum number of shop ids requested to Mirakl at once by the extractions by id.
+	 */
+	int MAX_SHOP_IDS_PER_REQUEST = 100;
+
 	/**
 	 * Extracts the {@link SellerModel} individuals data from Mirakl environment
 	 * @param delta Optional parameter to filter all shops that have been modified since
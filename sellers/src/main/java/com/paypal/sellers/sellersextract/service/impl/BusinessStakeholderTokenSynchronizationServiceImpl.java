@@ -12,6 +12,7 @@ import com.paypal.infrastructure.hyperwallet.api.HyperwalletSDKUserService;
 import com.paypal.infrastructure.mail.MailNotificationUtil;
 import com.paypal.infrastructure.service.TokenSynchronizationService;
 import com.paypal.infrastructure.util.HyperwalletLoggingErrorsUtil;
+import com.paypal.infrastructure.util.LoggingConstantsUtil;
 import com.paypal.sellers.sellersextract.model.BusinessStakeHolderModel;
 import com.paypal.sellers.sellersextract.service.MiraklBusinessStakeholderExtractService;
 import lombok.extern.slf4j.Slf4j;
@@ -20,8 +21,14 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -94,6 +101,103 @@ public class BusinessStakeholderTokenSynchronizationServiceImpl
 		}
 	}
 
+	/**
+	 * Ensures the tokens of a list of Business stakeholders are synchronized between
+	 * Hyperwallet and Mirakl. Stakeholders are grouped by the Hyperwallet token of their
+	 * user, so the business stakeholders of each user are only retrieved once from
+	 * Hyperwallet, and the tokens found are updated in Mirakl once per shop.
+	 * <p>
+	 * Stakeholders that can't be synchronized here (because of missing data or an error
+	 * in Hyperwallet or Mirakl) are returned as received, so they are synchronized
+	 * individually by {@link #synchronizeToken(BusinessStakeHolderModel)} when processed.
+	 * @param businessStakeHolderModels to be synchronized.
+	 * @return the businessStakeHolderModels with the tokens synchronized.
+	 */
+	@Override
+	public List<BusinessStakeHolderModel> synchronizeTokens(
+			final List<BusinessStakeHolderModel> businessStakeHolderModels) {
+
+		//@formatter:off
+		final Map<String, List<BusinessStakeHolderModel>> businessStakeHoldersByUserToken = businessStakeHolderModels.stream()
+				.filter(this::isBulkSynchronizable)
+				.collect(Collectors.groupingBy(BusinessStakeHolderModel::getUserToken, LinkedHashMap::new,
+						Collectors.toList()));
+		//@formatter:on
+
+		final Map<BusinessStakeHolderModel, BusinessStakeHolderModel> synchronizedBusinessStakeHolders = new IdentityHashMap<>();
+		businessStakeHoldersByUserToken.values().forEach(
+				userBusinessStakeHolders -> synchronizedBusinessStakeHolders.putAll(synchronizeUserTokens(userBusinessStakeHolders)));
+
+		//@formatter:off
+		return businessStakeHolderModels.stream()
+				.map(businessStakeHolderModel -> synchronizedBusinessStakeHolders.getOrDefault(businessStakeHolderModel, businessStakeHolderModel))
+				.collect(Collectors.toList());
+		//@formatter:on
+	}
+
+	private boolean isBulkSynchronizable(final BusinessStakeHolderModel businessStakeHolderModel) {
+		return StringUtils.isBlank(businessStakeHolderModel.getToken())
+				&& StringUtils.isNotBlank(businessStakeHolderModel.getEmail())
+				&& StringUtils.isNotBlank(businessStakeHolderModel.getUserToken());
+	}
+
+	private Map<BusinessStakeHolderModel, BusinessStakeHolderModel> synchronizeUserTokens(
+			final List<BusinessStakeHolderModel> userBusinessStakeHolderModels) {
+
+		final Map<String, HyperwalletBusinessStakeholder> hwBusinessStakeHoldersByEmail;
+		try {
+			hwBusinessStakeHoldersByEmail = getHwBusinessStakeHoldersByEmail(userBusinessStakeHolderModels.get(0));
+		}
+		catch (final HMCHyperwalletAPIException e) {
+			log.warn(String.format(
+					"Business stakeholders of Hyperwallet user [%s] couldn't be retrieved in bulk, they will be synchronized individually",
+					userBusinessStakeHolderModels.get(0).getUserToken()), e);
+			return Map.of();
+		}
+
+		final Map<BusinessStakeHolderModel, BusinessStakeHolderModel> synchronizedBusinessStakeHolders = new IdentityHashMap<>();
+		userBusinessStakeHolderModels.forEach(businessStakeHolderModel -> Optional
+				.ofNullable(hwBusinessStakeHoldersByEmail.get(businessStakeHolderModel.getEmail()))
+				.ifPresent(hyperwalletBusinessStakeholder -> synchronizedBusinessStakeHolders.put(
+						businessStakeHolderModel, updateBusinessStakeHolderWithHyperwalletToken(
+								businessStakeHolderModel, hyperwalletBusinessStakeholder))));
+
+		//@formatter:off
+		final Map<String, List<BusinessStakeHolderModel>> synchronizedBusinessStakeHoldersByShop = synchronizedBusinessStakeHolders.values().stream()
+				.collect(Collectors.groupingBy(BusinessStakeHolderModel::getClientUserId, LinkedHashMap::new,
+						Collectors.toList()));
+		//@formatter:on
+
+		synchronizedBusinessStakeHoldersByShop.forEach((clientUserId, shopBusinessStakeHolders) -> {
+			try {
+				updateTokensInMirakl(clientUserId, shopBusinessStakeHolders);
+			}
+			catch (final HMCMiraklAPIException e) {
+				log.warn(String.format(
+						"Business stakeholder tokens of shop [%s] couldn't be updated in bulk, they will be synchronized individually",
+						clientUserId), e);
+				synchronizedBusinessStakeHolders.values().removeIf(shopBusinessStakeHolders::contains);
+			}
+		});
+
+		return synchronizedBusinessStakeHolders;
+	}
+
+	private Map<String, HyperwalletBusinessStakeholder> getHwBusinessStakeHoldersByEmail(
+			final BusinessStakeHolderModel businessStakeHolderModel) {
+
+		final HyperwalletList<HyperwalletBusinessStakeholder> hwBusinessStakeHolders = getHwBusinessStakeHoldersByUserToken(
+				businessStakeHolderModel);
+
+		//@formatter:off
+		return Stream.ofNullable(hwBusinessStakeHolders.getData())
+				.flatMap(Collection::stream)
+				.filter(hwstk -> Objects.nonNull(hwstk.getEmail()))
+				.collect(Collectors.toMap(HyperwalletBusinessStakeholder::getEmail, Function.identity(),
+						(first, second) -> first));
+		//@formatter:on
+	}
+
 	private void checkBusinessStakeHolderEmail(final BusinessStakeHolderModel businessStakeHolderModel) {
 
 		if (isStkEmailMandatory() && StringUtils.isBlank(businessStakeHolderModel.getEmail())
@@ -115,17 +219,24 @@ public class BusinessStakeholderTokenSynchronizationServiceImpl
 
 	private void updateTokenInMirakl(final BusinessStakeHolderModel synchronizedBusinessStakeHolderModel) {
 
+		updateTokensInMirakl(synchronizedBusinessStakeHolderModel.getClientUserId(),
+				List.of(synchronizedBusinessStakeHolderModel));
+	}
+
+	private void updateTokensInMirakl(final String clientUserId,
+			final List<BusinessStakeHolderModel> synchronizedBusinessStakeHolderModels) {
+
 		try {
 
-			miraklBusinessStakeholderExtractService.updateBusinessStakeholderToken(
-					synchronizedBusinessStakeHolderModel.getClientUserId(),
-					List.of(synchronizedBusinessStakeHolderModel));
+			miraklBusinessStakeholderExtractService.updateBusinessStakeholderToken(clientUserId,
+					synchronizedBusinessStakeHolderModels);
 		}
 		catch (final MiraklException e) {
 
 			log.error(String.format("Error while updating Mirakl business stakeholder [%s] for shop [%s]",
-					synchronizedBusinessStakeHolderModel.getToken(),
-					synchronizedBusinessStakeHolderModel.getClientUserId()), e);
+					synchronizedBusinessStakeHolderModels.stream().map(BusinessStakeHolderModel::getToken)
+							.collect(Collectors.joining(LoggingConstantsUtil.LIST_LOGGING_SEPARATOR)),
+					clientUserId), e);
 			throw new HMCMiraklAPIException(e);
 		}
 	}
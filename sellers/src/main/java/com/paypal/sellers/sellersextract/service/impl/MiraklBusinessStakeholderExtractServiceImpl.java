@@ -2,10 +2,9 @@ package com.paypal.sellers.sellersextract.service.impl;
 
 import com.mirakl.client.core.exception.MiraklApiException;
 import com.mirakl.client.mmp.operator.domain.shop.update.MiraklUpdateShop;
-import com.mirakl.client.mmp.operator.request.shop.MiraklUpdateShopsRequest;
 import com.mirakl.client.mmp.request.additionalfield.MiraklRequestAdditionalFieldValue;
 import com.paypal.infrastructure.mail.MailNotificationUtil;
-import com.paypal.infrastructure.sdk.mirakl.MiraklMarketplacePlatformOperatorApiWrapper;
+import com.paypal.infrastructure.miraklshopupdates.services.MiraklShopUpdatesAggregator;
 import com.paypal.infrastructure.util.MiraklLoggingErrorsUtil;
 import com.paypal.sellers.sellersextract.model.BusinessStakeHolderConstants;
 import com.paypal.sellers.sellersextract.model.BusinessStakeHolderModel;
@@ -32,17 +31,20 @@ public class MiraklBusinessStakeholderExtractServiceImpl implements MiraklBusine
 
 	private static final String HYPHEN = "-";
 
-	private final MiraklMarketplacePlatformOperatorApiWrapper miraklOperatorClient;
+	private final MiraklShopUpdatesAggregator miraklShopUpdatesAggregator;
 
 	private final MailNotificationUtil sellerMailNotificationUtil;
 
 	public MiraklBusinessStakeholderExtractServiceImpl(
-			final MiraklMarketplacePlatformOperatorApiWrapper miraklOperatorClient,
+			final MiraklShopUpdatesAggregator miraklShopUpdatesAggregator,
 			final MailNotificationUtil sellerMailNotificationUtil) {
-		this.miraklOperatorClient = miraklOperatorClient;
+		this.miraklShopUpdatesAggregator = miraklShopUpdatesAggregator;
 		this.sellerMailNotificationUtil = sellerMailNotificationUtil;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
 	@Override
 	public void updateBusinessStakeholderToken(final String clientUserId,
 			final List<BusinessStakeHolderModel> businessStakeHolderModels) {
@@ -53,15 +55,15 @@ public class MiraklBusinessStakeholderExtractServiceImpl implements MiraklBusine
 
 		final MiraklUpdateShop miraklUpdateShop = createMiraklUpdateFieldRequestForStakeholders(clientUserId,
 				businessStakeHolderModels);
-		final MiraklUpdateShopsRequest request = new MiraklUpdateShopsRequest(List.of(miraklUpdateShop));
 		try {
-			miraklOperatorClient.updateShops(request);
+			miraklShopUpdatesAggregator.updateShop(miraklUpdateShop);
 		}
 		catch (final MiraklApiException ex) {
 			log.error("Something went wrong getting information of shop [{}]", clientUserId);
 			sellerMailNotificationUtil.sendPlainTextEmail(EMAIL_SUBJECT_MESSAGE,
 					String.format(ERROR_MESSAGE_PREFIX + "Something went wrong getting information of shop [%s]%n%s",
 							clientUserId, MiraklLoggingErrorsUtil.stringify(ex)));
+			throw ex;
 		}
 	}
 
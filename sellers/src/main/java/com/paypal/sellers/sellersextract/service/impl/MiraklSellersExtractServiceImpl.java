@@ -5,9 +5,9 @@ import com.mirakl.client.core.exception.MiraklApiException;
 import com.mirakl.client.mmp.domain.shop.MiraklShop;
 import com.mirakl.client.mmp.domain.shop.MiraklShops;
 import com.mirakl.client.mmp.operator.domain.shop.update.MiraklUpdateShop;
-import com.mirakl.client.mmp.operator.request.shop.MiraklUpdateShopsRequest;
 import com.mirakl.client.mmp.request.shop.MiraklGetShopsRequest;
 import com.paypal.infrastructure.mail.MailNotificationUtil;
+import com.paypal.infrastructure.miraklshopupdates.services.MiraklShopUpdatesAggregator;
 import com.paypal.infrastructure.sdk.mirakl.MiraklMarketplacePlatformOperatorApiWrapper;
 import com.paypal.infrastructure.strategy.StrategyExecutor;
 import com.paypal.infrastructure.util.LoggingConstantsUtil;
@@ -50,15 +50,19 @@ public class MiraklSellersExtractServiceImpl implements MiraklSellersExtractServ
 
 	private final MailNotificationUtil sellerMailNotificationUtil;
 
+	private final MiraklShopUpdatesAggregator miraklShopUpdatesAggregator;
+
 	private static final String ERROR_MESSAGE_PREFIX = "There was an error, please check the logs for further "
 			+ "information:\n";
 
 	public MiraklSellersExtractServiceImpl(final MiraklMarketplacePlatformOperatorApiWrapper miraklOperatorClient,
 			final StrategyExecutor<MiraklShop, SellerModel> miraklShopSellerModelStrategyExecutor,
-			final MailNotificationUtil sellerMailNotificationUtil) {
+			final MailNotificationUtil sellerMailNotificationUtil,
+			final MiraklShopUpdatesAggregator miraklShopUpdatesAggregator) {
 		this.miraklOperatorClient = miraklOperatorClient;
 		this.miraklShopSellerModelStrategyExecutor = miraklShopSellerModelStrategyExecutor;
 		this.sellerMailNotificationUtil = sellerMailNotificationUtil;
+		this.miraklShopUpdatesAggregator = miraklShopUpdatesAggregator;
 	}
 
 	/**
@@ -145,10 +149,9 @@ public class MiraklSellersExtractServiceImpl implements MiraklSellersExtractServ
 		userTokenCustomField.setCode(HYPERWALLET_USER_TOKEN);
 		userTokenCustomField.setValue(hyperwalletUser.getToken());
 		miraklUpdateShop.setAdditionalFieldValues(List.of(userTokenCustomField));
-		final MiraklUpdateShopsRequest request = new MiraklUpdateShopsRequest(List.of(miraklUpdateShop));
 		log.info("Updating token for shop [{}] to [{}]", hyperwalletUser.getClientUserId(), hyperwalletUser.getToken());
 		try {
-			miraklOperatorClient.updateShops(request);
+			miraklShopUpdatesAggregator.updateShop(miraklUpdateShop);
 		}
 		catch (final MiraklApiException ex) {
 			log.error("Something went wrong getting information of shop [{}]", hyperwalletUser.getClientUserId());
@@ -2,6 +2,7 @@ package com.paypal.sellers.sellersextract.service.impl;
 
 import com.mirakl.client.mmp.domain.shop.MiraklShop;
 import com.paypal.infrastructure.mail.MailNotificationUtil;
+import com.paypal.infrastructure.miraklshopupdates.services.MiraklShopUpdatesAggregator;
 import com.paypal.infrastructure.sdk.mirakl.MiraklMarketplacePlatformOperatorApiWrapper;
 import com.paypal.infrastructure.strategy.StrategyExecutor;
 import com.paypal.sellers.infrastructure.configuration.SellersMiraklApiConfig;
@@ -29,8 +30,10 @@ public class TestingMiraklSellersExtractServiceImpl extends MiraklSellersExtract
 	public TestingMiraklSellersExtractServiceImpl(
 			final MiraklMarketplacePlatformOperatorApiWrapper miraklOperatorClient,
 			final StrategyExecutor<MiraklShop, SellerModel> miraklShopSellerModelStrategyExecutor,
-			final SellersMiraklApiConfig sellersMiraklApiConfig, final MailNotificationUtil mailNotificationUtil) {
-		super(miraklOperatorClient, miraklShopSellerModelStrategyExecutor, mailNotificationUtil);
+			final SellersMiraklApiConfig sellersMiraklApiConfig, final MailNotificationUtil mailNotificationUtil,
+			final MiraklShopUpdatesAggregator miraklShopUpdatesAggregator) {
+		super(miraklOperatorClient, miraklShopSellerModelStrategyExecutor, mailNotificationUtil,
+				miraklShopUpdatesAggregator);
 		this.sellersMiraklApiConfig = sellersMiraklApiConfig;
 	}
 
@@ -3,6 +3,7 @@ package com.paypal.sellers.sellersextract.service.strategies;
 import com.hyperwallet.clientsdk.Hyperwallet;
 import com.hyperwallet.clientsdk.HyperwalletException;
 import com.hyperwallet.clientsdk.model.HyperwalletBusinessStakeholder;
+import com.mirakl.client.core.exception.MiraklApiException;
 import com.paypal.infrastructure.converter.Converter;
 import com.paypal.infrastructure.hyperwallet.api.HyperwalletSDKUserService;
 import com.paypal.infrastructure.mail.MailNotificationUtil;
@@ -67,8 +68,7 @@ public class HyperWalletCreateBusinessStakeHolderServiceStrategy
 			final BusinessStakeHolderModel createdBusinessStakeHolderModel = businessStakeHolderModel.toBuilder()
 					.token(hyperWalletBusinessStakeHolderResponse.getToken()).justCreated(true).build();
 
-			miraklBusinessStakeholderExtractService.updateBusinessStakeholderToken(
-					createdBusinessStakeHolderModel.getClientUserId(), List.of(createdBusinessStakeHolderModel));
+			updateTokenInMirakl(createdBusinessStakeHolderModel);
 
 			return createdBusinessStakeHolderModel;
 		}
@@ -82,6 +82,19 @@ public class HyperWalletCreateBusinessStakeHolderServiceStrategy
 		return null;
 	}
 
+	private void updateTokenInMirakl(final BusinessStakeHolderModel createdBusinessStakeHolderModel) {
+		try {
+			miraklBusinessStakeholderExtractService.updateBusinessStakeholderToken(
+					createdBusinessStakeHolderModel.getClientUserId(), List.of(createdBusinessStakeHolderModel));
+		}
+		catch (final MiraklApiException e) {
+			// The failure has already been notified, the token is synchronized from
+			// Hyperwallet the next time the business stakeholder is processed
+			log.warn("Token of business stakeholder [{}] not stored in Mirakl for shop [{}]",
+					createdBusinessStakeHolderModel.getToken(), createdBusinessStakeHolderModel.getClientUserId());
+		}
+	}
+
 	/**
 	 * Checks whether the strategy must be executed based on the {@code source}
 	 * @param source the source object
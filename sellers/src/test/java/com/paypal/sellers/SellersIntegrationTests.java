@@ -0,0 +1,11 @@
+package com.paypal.sellers;
+
+import com.paypal.infrastructure.test.InfrastructureIntegrationTest;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.context.annotation.ComponentScan;
+
+@EnableAutoConfiguration
+@ComponentScan
+public class SellersIntegrationTests extends InfrastructureIntegrationTest {
+
+}
@@ -13,6 +13,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Set;
+
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.Mockito.when;
 
@@ -143,6 +145,11 @@ class AbstractSellerModelToHyperwalletBankAccountConverterTest {
 			return true;
 		}
 
+		@Override
+		public Set<Object> getStrategyKeys() {
+			return Set.of();
+		}
+
 	}
 
 }
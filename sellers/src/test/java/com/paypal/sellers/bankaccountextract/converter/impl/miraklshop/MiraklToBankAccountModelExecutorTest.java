@@ -58,4 +58,13 @@ class MiraklToBankAccountModelExecutorTest {
 		verify(testObj).callSuperExecute(miraklShopMock);
 	}
 
+	@Test
+	void getStrategyKey_shouldReturnTheTypeOfThePaymentInformation() {
+		when(miraklShopMock.getPaymentInformation()).thenReturn(miraklPaymentInformationMock);
+
+		final Object result = testObj.getStrategyKey(miraklShopMock);
+
+		assertThat(result).isEqualTo(miraklPaymentInformationMock.getClass());
+	}
+
 }
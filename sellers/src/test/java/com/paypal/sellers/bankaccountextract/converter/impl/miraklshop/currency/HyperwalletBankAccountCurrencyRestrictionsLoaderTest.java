@@ -3,8 +3,16 @@ package com.paypal.sellers.bankaccountextract.converter.impl.miraklshop.currency
 import com.paypal.sellers.bankaccountextract.model.TransferType;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @ExtendWith(MockitoExtension.class)
@@ -14,7 +22,19 @@ class HyperwalletBankAccountCurrencyRestrictionsLoaderTest {
 
 	private static final String ENV_PREFIX = "PAYMENT_HYPERWALLET_COUNTRY-CURRENCIES_";
 
-	private HyperwalletBankAccountCurrencyRestrictionsLoader testObj = new HyperwalletBankAccountCurrencyRestrictionsLoader();
+	private static final String GB_CONSTRAINTS = "[{\"country\": \"GB\", \"currency\": \"GBP\", "
+			+ "\"transferType\": \"BANK_ACCOUNT\", \"bankAccountType\": \"UK\"}]";
+
+	private static final String GB_AND_ES_CONSTRAINTS = "[{\"country\": \"GB\", \"currency\": \"GBP\", "
+			+ "\"transferType\": \"BANK_ACCOUNT\", \"bankAccountType\": \"UK\"}, "
+			+ "{\"country\": \"ES\", \"currency\": \"EUR\", "
+			+ "\"transferType\": \"BANK_ACCOUNT\", \"bankAccountType\": \"IBAN\"}]";
+
+	private HyperwalletBankAccountCurrencyRestrictionsLoader testObj = new HyperwalletBankAccountCurrencyRestrictionsLoader(
+			"", 0);
+
+	@TempDir
+	Path tempDir;
 
 	@Test
 	void countryCurrencyConfiguration_shouldReturnCountryCurrencyConfiguration() {
@@ -38,4 +58,77 @@ class HyperwalletBankAccountCurrencyRestrictionsLoaderTest {
 		assertThat(result.getCurrenciesFor("IBAN", "GB").get(1).getTransferType()).isEqualTo(TransferType.WIRE_ACCOUNT);
 	}
 
+	@Test
+	void countryCurrencyConfiguration_shouldReadConstraintsFromLocalFile_whenConstraintsFileIsConfigured()
+			throws IOException {
+		final Path constraintsFile = Files.writeString(tempDir.resolve("constraints.json"), GB_CONSTRAINTS);
+		testObj = new HyperwalletBankAccountCurrencyRestrictionsLoader(constraintsFile.toString(), 0);
+
+		final HyperwalletBankAccountCurrencyRestrictions result = testObj.countryCurrencyConfiguration();
+
+		assertThat(result.numEntries()).isEqualTo(1);
+		assertThat(result.getCurrenciesFor("UK", "GB").get(0).getCurrency()).isEqualTo("GBP");
+	}
+
+	@Test
+	void reloadIfModified_shouldReloadConstraints_whenLocalFileHasBeenModified() throws IOException {
+		final Path constraintsFile = Files.writeString(tempDir.resolve("constraints.json"), GB_CONSTRAINTS);
+		testObj = new HyperwalletBankAccountCurrencyRestrictionsLoader(constraintsFile.toString(), 0);
+		final HyperwalletBankAccountCurrencyRestrictions restrictions = testObj.countryCurrencyConfiguration();
+
+		Files.writeString(constraintsFile, GB_AND_ES_CONSTRAINTS, StandardCharsets.UTF_8);
+		Files.setLastModifiedTime(constraintsFile, FileTime.from(Instant.now().plusSeconds(60)));
+		final boolean result = testObj.reloadIfModified(restrictions);
+
+		assertThat(result).isTrue();
+		assertThat(restrictions.numEntries()).isEqualTo(2);
+		assertThat(restrictions.getCurrenciesFor("IBAN", "ES").get(0).getCurrency()).isEqualTo("EUR");
+	}
+
+	@Test
+	void reloadIfModified_shouldNotReloadConstraints_whenLocalFileHasNotBeenModified() throws IOException {
+		final Path constraintsFile = Files.writeString(tempDir.resolve("constraints.json"), GB_CONSTRAINTS);
+		testObj = new HyperwalletBankAccountCurrencyRestrictionsLoader(constraintsFile.toString(), 0);
+		final HyperwalletBankAccountCurrencyRestrictions restrictions = testObj.countryCurrencyConfiguration();
+
+		final boolean result = testObj.reloadIfModified(restrictions);
+
+		assertThat(result).isFalse();
+		assertThat(restrictions.numEntries()).isEqualTo(1);
+	}
+
+	@Test
+	void reloadIfModified_shouldKeepCurrentConstraints_whenLocalFileCannotBeRead() throws IOException {
+		final Path constraintsFile = Files.writeString(tempDir.resolve("constraints.json"), GB_CONSTRAINTS);
+		testObj = new HyperwalletBankAccountCurrencyRestrictionsLoader(constraintsFile.toString(), 0);
+		final HyperwalletBankAccountCurrencyRestrictions restrictions = testObj.countryCurrencyConfiguration();
+
+		Files.writeString(constraintsFile, "not a json", StandardCharsets.UTF_8);
+		Files.setLastModifiedTime(constraintsFile, FileTime.from(Instant.now().plusSeconds(60)));
+		final boolean result = testObj.reloadIfModified(restrictions);
+
+		assertThat(result).isFalse();
+		assertThat(restrictions.numEntries()).isEqualTo(1);
+	}
+
+	@Test
+	void reloadIfModified_shouldReloadConstraintsOnTheNextCheck_whenLocalFileCouldNotBeReadWithTheSameModificationTime()
+			throws IOException {
+		final Path constraintsFile = Files.writeString(tempDir.resolve("constraints.json"), GB_CONSTRAINTS);
+		testObj = new HyperwalletBankAccountCurrencyRestrictionsLoader(constraintsFile.toString(), 0);
+		final HyperwalletBankAccountCurrencyRestrictions restrictions = testObj.countryCurrencyConfiguration();
+		final FileTime modificationTime = FileTime.from(Instant.now().plusSeconds(60));
+
+		Files.writeString(constraintsFile, GB_AND_ES_CONSTRAINTS.substring(0, 40), StandardCharsets.UTF_8);
+		Files.setLastModifiedTime(constraintsFile, modificationTime);
+		final boolean failedReload = testObj.reloadIfModified(restrictions);
+		Files.writeString(constraintsFile, GB_AND_ES_CONSTRAINTS, StandardCharsets.UTF_8);
+		Files.setLastModifiedTime(constraintsFile, modificationTime);
+		final boolean result = testObj.reloadIfModified(restrictions);
+
+		assertThat(failedReload).isFalse();
+		assertThat(result).isTrue();
+		assertThat(restrictions.numEntries()).isEqualTo(2);
+	}
+
 }
@@ -130,4 +130,48 @@ class HyperwalletBankAccountCurrencyRestrictionsTest {
 				.isEqualTo(TransferType.BANK_ACCOUNT);
 	}
 
+	@Test
+	void getEntriesFor_shouldReturnEntriesOfEveryBankAccountTypeSupportingTheCurrency() {
+		// given
+		List<HyperwalletBankAccountCurrencyRestrictions.CountryCurrencyEntry> countryCurrencyEntries = List.of(
+				new HyperwalletBankAccountCurrencyRestrictions.CountryCurrencyEntry("bankAccountType", "country",
+						List.of(new HyperwalletBankAccountCurrencyInfo("country", "currency",
+								TransferType.BANK_ACCOUNT))),
+				new HyperwalletBankAccountCurrencyRestrictions.CountryCurrencyEntry("bankAccountType2", "country",
+						List.of(new HyperwalletBankAccountCurrencyInfo("country", "currency",
+								TransferType.BANK_ACCOUNT))),
+				new HyperwalletBankAccountCurrencyRestrictions.CountryCurrencyEntry("bankAccountType3", "country",
+						List.of(new HyperwalletBankAccountCurrencyInfo("country", "currency",
+								TransferType.WIRE_ACCOUNT))));
+		testObj = new HyperwalletBankAccountCurrencyRestrictions(countryCurrencyEntries);
+
+		// when
+		List<HyperwalletBankAccountCurrencyRestrictions.CountryCurrencyEntry> result = testObj.getEntriesFor("country",
+				"currency", TransferType.BANK_ACCOUNT);
+
+		// then
+		assertThat(result).extracting(HyperwalletBankAccountCurrencyRestrictions.CountryCurrencyEntry::getBankAccountType)
+				.containsExactlyInAnyOrder("bankAccountType", "bankAccountType2");
+	}
+
+	@Test
+	void reload_shouldReplaceCurrentEntries() {
+		// given
+		testObj = new HyperwalletBankAccountCurrencyRestrictions(
+				List.of(new HyperwalletBankAccountCurrencyRestrictions.CountryCurrencyEntry("bankAccountType", "country",
+						List.of(new HyperwalletBankAccountCurrencyInfo("country", "currency",
+								TransferType.BANK_ACCOUNT)))));
+
+		// when
+		testObj.reload(List.of(new HyperwalletBankAccountCurrencyRestrictions.CountryCurrencyEntry("bankAccountType",
+				"country2",
+				List.of(new HyperwalletBankAccountCurrencyInfo("country2", "currency2", TransferType.WIRE_ACCOUNT)))));
+
+		// then
+		assertThat(testObj.numEntries()).isEqualTo(1);
+		assertThat(testObj.getCurrenciesFor("bankAccountType", "country")).isEmpty();
+		assertThat(testObj.getEntriesFor("country", "currency", TransferType.BANK_ACCOUNT)).isEmpty();
+		assertThat(testObj.getEntriesFor("country2", "currency2", TransferType.WIRE_ACCOUNT)).hasSize(1);
+	}
+
 }
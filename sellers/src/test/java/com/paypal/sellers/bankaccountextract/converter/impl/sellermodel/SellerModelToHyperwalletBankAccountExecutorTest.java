@@ -1,7 +1,10 @@
 package com.paypal.sellers.bankaccountextract.converter.impl.sellermodel;
 
 import com.hyperwallet.clientsdk.model.HyperwalletBankAccount;
+import com.paypal.infrastructure.strategy.KeyedStrategy;
 import com.paypal.infrastructure.strategy.Strategy;
+import com.paypal.sellers.bankaccountextract.model.ABABankAccountModel;
+import com.paypal.sellers.bankaccountextract.model.IBANBankAccountModel;
 import com.paypal.sellers.sellersextract.model.SellerModel;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,6 +16,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class SellerModelToHyperwalletBankAccountExecutorTest {
@@ -23,6 +27,12 @@ class SellerModelToHyperwalletBankAccountExecutorTest {
 	@Mock
 	private Strategy<SellerModel, HyperwalletBankAccount> strategy1, strategy2;
 
+	@Mock
+	private KeyedStrategy<SellerModel, HyperwalletBankAccount> abaStrategyMock, ibanStrategyMock;
+
+	@Mock
+	private HyperwalletBankAccount hyperwalletBankAccountMock;
+
 	@BeforeEach
 	void setUp() {
 		testObj = new SellerModelToHyperwalletBankAccountExecutor(Set.of(strategy1, strategy2));
@@ -35,4 +45,29 @@ class SellerModelToHyperwalletBankAccountExecutorTest {
 		assertThat(result).containsExactlyInAnyOrder(strategy1, strategy2);
 	}
 
+	@Test
+	void getStrategyKey_shouldReturnTheBankAccountType() {
+		final SellerModel sellerModel = SellerModel.builder().bankAccountDetails(IBANBankAccountModel.builder().build())
+				.build();
+
+		assertThat(testObj.getStrategyKey(sellerModel)).isEqualTo(IBANBankAccountModel.class);
+		assertThat(testObj.getStrategyKey(SellerModel.builder().build())).isNull();
+	}
+
+	@Test
+	void execute_shouldOnlyCheckStrategiesOfTheBankAccountType() {
+		testObj = new SellerModelToHyperwalletBankAccountExecutor(Set.of(abaStrategyMock, ibanStrategyMock));
+		when(abaStrategyMock.getStrategyKeys()).thenReturn(Set.of(ABABankAccountModel.class));
+		when(ibanStrategyMock.getStrategyKeys()).thenReturn(Set.of(IBANBankAccountModel.class));
+		final SellerModel sellerModel = SellerModel.builder().bankAccountDetails(IBANBankAccountModel.builder().build())
+				.build();
+		when(ibanStrategyMock.isApplicable(sellerModel)).thenReturn(true);
+		when(ibanStrategyMock.execute(sellerModel)).thenReturn(hyperwalletBankAccountMock);
+
+		final HyperwalletBankAccount result = testObj.execute(sellerModel);
+
+		assertThat(result).isEqualTo(hyperwalletBankAccountMock);
+		verify(abaStrategyMock, never()).isApplicable(sellerModel);
+	}
+
 }
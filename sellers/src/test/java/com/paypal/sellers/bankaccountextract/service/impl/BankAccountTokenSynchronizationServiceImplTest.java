@@ -11,9 +11,9 @@ import com.paypal.infrastructure.hyperwallet.api.HyperwalletSDKUserService;
 import com.paypal.sellers.bankaccountextract.model.BankAccountModel;
 import com.paypal.sellers.bankaccountextract.service.MiraklBankAccountExtractService;
 import com.paypal.sellers.sellersextract.model.SellerModel;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -37,7 +37,6 @@ class BankAccountTokenSynchronizationServiceImplTest {
 
 	private static final String PROGRAM_TOKEN = "programToken";
 
-	@InjectMocks
 	private BankAccountTokenSynchronizationServiceImpl testObj;
 
 	@Mock
@@ -52,6 +51,16 @@ class BankAccountTokenSynchronizationServiceImplTest {
 	@Mock
 	private Hyperwallet hyperwalletSDKMock;
 
+	@Mock
+	private HyperwalletBankAccountsIndex hyperwalletBankAccountsIndexMock;
+
+	@BeforeEach
+	void setUp() {
+		testObj = new BankAccountTokenSynchronizationServiceImpl(hyperwalletSDKUserServiceMock,
+				miraklBankAccountExtractServiceMock, miraklBankAccountMatcherMock,
+				new HyperwalletBankAccountsCacheServiceImpl(100, 60));
+	}
+
 	@Test
 	void synchronizeToken_ShouldReturnCurrentSellerModel_WhenSellerBankAccountDetailsAreNull() {
 
@@ -90,7 +99,8 @@ class BankAccountTokenSynchronizationServiceImplTest {
 		when(hyperwalletSDKUserServiceMock.getHyperwalletInstanceByProgramToken(PROGRAM_TOKEN))
 				.thenReturn(hyperwalletSDKMock);
 		when(hyperwalletSDKMock.listBankAccounts(SELLER_TOKEN_VALUE)).thenReturn(hyperwalletBankAccountList);
-		when(miraklBankAccountMatcherMock.findExactOrCompatibleMatch(hyperwalletBankAccountList.getData(),
+		when(miraklBankAccountMatcherMock.index(hyperwalletBankAccountList.getData())).thenReturn(hyperwalletBankAccountsIndexMock);
+		when(miraklBankAccountMatcherMock.findExactOrCompatibleMatch(hyperwalletBankAccountsIndexMock,
 				originalSellerModel.getBankAccountDetails())).thenReturn(Optional.of(hyperwalletBankAccount2));
 
 		final SellerModel result = testObj.synchronizeToken(originalSellerModel);
@@ -118,7 +128,8 @@ class BankAccountTokenSynchronizationServiceImplTest {
 		when(hyperwalletSDKUserServiceMock.getHyperwalletInstanceByProgramToken(PROGRAM_TOKEN))
 				.thenReturn(hyperwalletSDKMock);
 		when(hyperwalletSDKMock.listBankAccounts(SELLER_TOKEN_VALUE)).thenReturn(hyperwalletBankAccountList);
-		when(miraklBankAccountMatcherMock.findExactOrCompatibleMatch(hyperwalletBankAccountList.getData(),
+		when(miraklBankAccountMatcherMock.index(hyperwalletBankAccountList.getData())).thenReturn(hyperwalletBankAccountsIndexMock);
+		when(miraklBankAccountMatcherMock.findExactOrCompatibleMatch(hyperwalletBankAccountsIndexMock,
 				originalSellerModel.getBankAccountDetails())).thenReturn(Optional.of(hyperwalletBankAccount2));
 
 		final SellerModel result = testObj.synchronizeToken(originalSellerModel);
@@ -146,7 +157,8 @@ class BankAccountTokenSynchronizationServiceImplTest {
 		when(hyperwalletSDKUserServiceMock.getHyperwalletInstanceByProgramToken(PROGRAM_TOKEN))
 				.thenReturn(hyperwalletSDKMock);
 		when(hyperwalletSDKMock.listBankAccounts(SELLER_TOKEN_VALUE)).thenReturn(hyperwalletBankAccountList);
-		when(miraklBankAccountMatcherMock.findExactOrCompatibleMatch(List.of(),
+		when(miraklBankAccountMatcherMock.index(List.of())).thenReturn(hyperwalletBankAccountsIndexMock);
+		when(miraklBankAccountMatcherMock.findExactOrCompatibleMatch(hyperwalletBankAccountsIndexMock,
 				originalSellerModel.getBankAccountDetails())).thenReturn(Optional.empty());
 
 		final SellerModel result = testObj.synchronizeToken(originalSellerModel);
@@ -174,7 +186,8 @@ class BankAccountTokenSynchronizationServiceImplTest {
 		when(hyperwalletSDKUserServiceMock.getHyperwalletInstanceByProgramToken(PROGRAM_TOKEN))
 				.thenReturn(hyperwalletSDKMock);
 		when(hyperwalletSDKMock.listBankAccounts(SELLER_TOKEN_VALUE)).thenReturn(hyperwalletBankAccountList);
-		when(miraklBankAccountMatcherMock.findExactOrCompatibleMatch(hyperwalletBankAccountList.getData(),
+		when(miraklBankAccountMatcherMock.index(hyperwalletBankAccountList.getData())).thenReturn(hyperwalletBankAccountsIndexMock);
+		when(miraklBankAccountMatcherMock.findExactOrCompatibleMatch(hyperwalletBankAccountsIndexMock,
 				originalSellerModel.getBankAccountDetails())).thenReturn(Optional.empty());
 
 		final SellerModel result = testObj.synchronizeToken(originalSellerModel);
@@ -201,7 +214,8 @@ class BankAccountTokenSynchronizationServiceImplTest {
 		when(hyperwalletSDKUserServiceMock.getHyperwalletInstanceByProgramToken(PROGRAM_TOKEN))
 				.thenReturn(hyperwalletSDKMock);
 		when(hyperwalletSDKMock.listBankAccounts(SELLER_TOKEN_VALUE)).thenReturn(hyperwalletBankAccountList);
-		when(miraklBankAccountMatcherMock.findExactOrCompatibleMatch(hyperwalletBankAccountList.getData(),
+		when(miraklBankAccountMatcherMock.index(hyperwalletBankAccountList.getData())).thenReturn(hyperwalletBankAccountsIndexMock);
+		when(miraklBankAccountMatcherMock.findExactOrCompatibleMatch(hyperwalletBankAccountsIndexMock,
 				originalSellerModel.getBankAccountDetails())).thenReturn(Optional.empty());
 
 		final SellerModel result = testObj.synchronizeToken(originalSellerModel);
@@ -241,7 +255,8 @@ class BankAccountTokenSynchronizationServiceImplTest {
 		when(hyperwalletSDKUserServiceMock.getHyperwalletInstanceByProgramToken(PROGRAM_TOKEN))
 				.thenReturn(hyperwalletSDKMock);
 		when(hyperwalletSDKMock.listBankAccounts(SELLER_TOKEN_VALUE)).thenReturn(hyperwalletBankAccountList);
-		when(miraklBankAccountMatcherMock.findExactOrCompatibleMatch(hyperwalletBankAccountList.getData(),
+		when(miraklBankAccountMatcherMock.index(hyperwalletBankAccountList.getData())).thenReturn(hyperwalletBankAccountsIndexMock);
+		when(miraklBankAccountMatcherMock.findExactOrCompatibleMatch(hyperwalletBankAccountsIndexMock,
 				originalSellerModel.getBankAccountDetails())).thenReturn(Optional.of(hyperwalletBankAccount));
 
 		doThrow(MiraklApiException.class).when(miraklBankAccountExtractServiceMock)
@@ -252,4 +267,29 @@ class BankAccountTokenSynchronizationServiceImplTest {
 				.hasMessageContaining("An error has occurred while invoking Mirakl API");
 	}
 
+	@Test
+	void synchronizeToken_ShouldListHyperwalletBankAccountsOnlyOnce_WhenSameSellerIsSynchronizedTwice() {
+		final SellerModel originalSellerModel = SellerModel.builder().token(SELLER_TOKEN_VALUE)
+				.programToken(PROGRAM_TOKEN)
+				.bankAccountDetails(BankAccountModel.builder().bankAccountNumber(BANK_ACCOUNT_NUMBER).build()).build();
+
+		final HyperwalletBankAccount hyperwalletBankAccount = new HyperwalletBankAccount();
+		hyperwalletBankAccount.setToken(BANK_ACCOUNT_TOKEN_VALUE);
+		final HyperwalletList<HyperwalletBankAccount> hyperwalletBankAccountList = new HyperwalletList<>();
+		hyperwalletBankAccountList.setData(List.of(hyperwalletBankAccount));
+
+		when(hyperwalletSDKUserServiceMock.getHyperwalletInstanceByProgramToken(PROGRAM_TOKEN))
+				.thenReturn(hyperwalletSDKMock);
+		when(hyperwalletSDKMock.listBankAccounts(SELLER_TOKEN_VALUE)).thenReturn(hyperwalletBankAccountList);
+		when(miraklBankAccountMatcherMock.index(hyperwalletBankAccountList.getData()))
+				.thenReturn(hyperwalletBankAccountsIndexMock);
+		when(miraklBankAccountMatcherMock.findExactOrCompatibleMatch(hyperwalletBankAccountsIndexMock,
+				originalSellerModel.getBankAccountDetails())).thenReturn(Optional.empty());
+
+		testObj.synchronizeToken(originalSellerModel);
+		testObj.synchronizeToken(originalSellerModel);
+
+		verify(hyperwalletSDKMock, times(1)).listBankAccounts(SELLER_TOKEN_VALUE);
+	}
+
 }
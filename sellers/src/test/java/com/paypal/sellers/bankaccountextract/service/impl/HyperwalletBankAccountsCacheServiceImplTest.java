@@ -0,0 +1,64 @@
+package com.paypal.sellers.bankaccountextract.service.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HyperwalletBankAccountsCacheServiceImplTest {
+
+	private static final String USER_TOKEN = "userToken";
+
+	private HyperwalletBankAccountsCacheServiceImpl testObj;
+
+	@Mock
+	private Supplier<HyperwalletBankAccountsIndex> loaderMock;
+
+	@Mock
+	private HyperwalletBankAccountsIndex hyperwalletBankAccountsIndexMock;
+
+	@BeforeEach
+	void setUp() {
+		testObj = new HyperwalletBankAccountsCacheServiceImpl(100, 60);
+	}
+
+	@Test
+	void getBankAccounts_shouldLoadBankAccountsOnlyOnce_whenUserTokenIsRequestedTwice() {
+		when(loaderMock.get()).thenReturn(hyperwalletBankAccountsIndexMock);
+
+		testObj.getBankAccounts(USER_TOKEN, loaderMock);
+		final HyperwalletBankAccountsIndex result = testObj.getBankAccounts(USER_TOKEN, loaderMock);
+
+		assertThat(result).isEqualTo(hyperwalletBankAccountsIndexMock);
+		verify(loaderMock, times(1)).get();
+	}
+
+	@Test
+	void getBankAccounts_shouldLoadBankAccountsAgain_whenUserTokenIsInvalidated() {
+		when(loaderMock.get()).thenReturn(hyperwalletBankAccountsIndexMock);
+
+		testObj.getBankAccounts(USER_TOKEN, loaderMock);
+		testObj.invalidate(USER_TOKEN);
+		testObj.getBankAccounts(USER_TOKEN, loaderMock);
+
+		verify(loaderMock, times(2)).get();
+	}
+
+	@Test
+	void getBankAccounts_shouldNotCacheBankAccounts_whenUserTokenIsNull() {
+		when(loaderMock.get()).thenReturn(hyperwalletBankAccountsIndexMock);
+
+		testObj.getBankAccounts(null, loaderMock);
+		testObj.getBankAccounts(null, loaderMock);
+
+		verify(loaderMock, times(2)).get();
+	}
+
+}
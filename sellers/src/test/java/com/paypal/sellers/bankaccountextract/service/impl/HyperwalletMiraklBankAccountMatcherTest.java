@@ -1,6 +1,9 @@
 package com.paypal.sellers.bankaccountextract.service.impl;
 
 import com.hyperwallet.clientsdk.model.HyperwalletBankAccount;
+import com.paypal.infrastructure.exceptions.HMCException;
+import com.paypal.sellers.bankaccountextract.converter.impl.miraklshop.bankaccounttype.HyperwalletBankAccountTypeResolver;
+import com.paypal.sellers.bankaccountextract.model.BankAccountType;
 import com.paypal.sellers.bankaccountextract.model.IBANBankAccountModel;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,11 +15,18 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class HyperwalletMiraklBankAccountMatcherTest {
 
+	private static final String COUNTRY = "ES";
+
+	private static final String OTHER_COUNTRY = "FR";
+
+	private static final String CURRENCY = "EUR";
+
 	@InjectMocks
 	private HyperwalletMiraklBankAccountMatcher testObj;
 
@@ -26,149 +36,142 @@ class HyperwalletMiraklBankAccountMatcherTest {
 	@Mock
 	private HyperwalletMiraklBankAccountEqualityChecker hyperwalletMiraklBankAccountEqualityCheckerMock;
 
-	@Test
-	void findExactOrCompatibleMatch_shouldReturnBankAccountWithSameToken_whenBankAccountWithSameTokenExists_andIsTheSameBankAccount() {
-		List<HyperwalletBankAccount> hyperwalletBankAccounts = List.of(hyperwalletBankAccount(1),
-				hyperwalletBankAccount(2));
-
-		IBANBankAccountModel miraklBankAccount = ibanBankAccountModel(1);
-
-		when(hyperwalletMiraklBankAccountEqualityCheckerMock.isSameBankAccount(hyperwalletBankAccounts.get(0),
-				miraklBankAccount)).thenReturn(true);
-
-		Optional<HyperwalletBankAccount> result = testObj.findExactOrCompatibleMatch(hyperwalletBankAccounts,
-				miraklBankAccount);
-
-		assertThat(result).isPresent();
-		assertThat(result).contains(hyperwalletBankAccounts.get(0));
-	}
+	@Mock
+	private HyperwalletBankAccountTypeResolver hyperwalletBankAccountTypeResolverMock;
 
 	@Test
 	void findExactOrCompatibleMatch_shouldReturnBankAccountWithSameToken_whenBankAccountWithSameTokenExists_andIsACompatibleBankAccount() {
-		List<HyperwalletBankAccount> hyperwalletBankAccounts = List.of(hyperwalletBankAccount(1),
-				hyperwalletBankAccount(2));
-
-		IBANBankAccountModel miraklBankAccount = ibanBankAccountModel(2);
+		final List<HyperwalletBankAccount> hyperwalletBankAccounts = List.of(hyperwalletBankAccount(1, COUNTRY),
+				hyperwalletBankAccount(2, COUNTRY));
+		final IBANBankAccountModel miraklBankAccount = ibanBankAccountModel("token2", "0000");
 
 		when(hyperwalletMiraklBankAccountCompatibilityCheckerMock
 				.isBankAccountCompatible(hyperwalletBankAccounts.get(1), miraklBankAccount)).thenReturn(true);
 
-		Optional<HyperwalletBankAccount> result = testObj.findExactOrCompatibleMatch(hyperwalletBankAccounts,
+		final Optional<HyperwalletBankAccount> result = testObj.findExactOrCompatibleMatch(hyperwalletBankAccounts,
 				miraklBankAccount);
 
-		assertThat(result).isPresent();
 		assertThat(result).contains(hyperwalletBankAccounts.get(1));
 	}
 
 	@Test
-	void findExactOrCompatibleMatch_shouldReturnBankAccountWithExactMatch_whenBankAccountWithExactMatchExists() {
-		List<HyperwalletBankAccount> hyperwalletBankAccounts = List.of(hyperwalletBankAccount(1),
-				hyperwalletBankAccount(2));
-
-		IBANBankAccountModel miraklBankAccount = ibanBankAccountModel();
+	void findExactOrCompatibleMatch_shouldReturnBankAccountWithExactMatch_whenBankAccountWithSameTokenIsNotCompatible() {
+		final List<HyperwalletBankAccount> hyperwalletBankAccounts = List.of(hyperwalletBankAccount(1, COUNTRY),
+				hyperwalletBankAccount(2, COUNTRY));
+		final IBANBankAccountModel miraklBankAccount = ibanBankAccountModel("token1", "0002");
 
-		when(hyperwalletMiraklBankAccountEqualityCheckerMock.isSameBankAccount(hyperwalletBankAccounts.get(0),
-				miraklBankAccount)).thenReturn(false);
+		when(hyperwalletMiraklBankAccountCompatibilityCheckerMock
+				.isBankAccountCompatible(hyperwalletBankAccounts.get(0), miraklBankAccount)).thenReturn(false);
 		when(hyperwalletMiraklBankAccountEqualityCheckerMock.isSameBankAccount(hyperwalletBankAccounts.get(1),
 				miraklBankAccount)).thenReturn(true);
 
-		Optional<HyperwalletBankAccount> result = testObj.findExactOrCompatibleMatch(hyperwalletBankAccounts,
+		final Optional<HyperwalletBankAccount> result = testObj.findExactOrCompatibleMatch(hyperwalletBankAccounts,
 				miraklBankAccount);
 
-		assertThat(result).isPresent();
 		assertThat(result).contains(hyperwalletBankAccounts.get(1));
 	}
 
 	@Test
-	void findExactOrCompatibleMatch_shouldReturnBankAccountWithOtherToken_whenBankAccountWithSameTokenIsNotCompatible_andIsCompatibleWithOtherBankAccount() {
-		List<HyperwalletBankAccount> hyperwalletBankAccounts = List.of(hyperwalletBankAccount(1),
-				hyperwalletBankAccount(2));
+	void findExactOrCompatibleMatch_shouldOnlyCheckEqualityOfBankAccountsWithSameCountryCurrencyAndLastDigits() {
+		final List<HyperwalletBankAccount> hyperwalletBankAccounts = List.of(hyperwalletBankAccount(1, COUNTRY),
+				hyperwalletBankAccount(2, COUNTRY), hyperwalletBankAccount(3, OTHER_COUNTRY));
+		final IBANBankAccountModel miraklBankAccount = ibanBankAccountModel(null, "0002");
 
-		IBANBankAccountModel miraklBankAccount = ibanBankAccountModel(1);
-
-		when(hyperwalletMiraklBankAccountCompatibilityCheckerMock
-				.isBankAccountCompatible(hyperwalletBankAccounts.get(0), miraklBankAccount)).thenReturn(false);
-		when(hyperwalletMiraklBankAccountCompatibilityCheckerMock
-				.isBankAccountCompatible(hyperwalletBankAccounts.get(1), miraklBankAccount)).thenReturn(true);
+		when(hyperwalletMiraklBankAccountEqualityCheckerMock.isSameBankAccount(hyperwalletBankAccounts.get(1),
+				miraklBankAccount)).thenReturn(true);
 
-		Optional<HyperwalletBankAccount> result = testObj.findExactOrCompatibleMatch(hyperwalletBankAccounts,
+		final Optional<HyperwalletBankAccount> result = testObj.findExactOrCompatibleMatch(hyperwalletBankAccounts,
 				miraklBankAccount);
 
-		assertThat(result).isPresent();
 		assertThat(result).contains(hyperwalletBankAccounts.get(1));
+		verify(hyperwalletMiraklBankAccountEqualityCheckerMock, times(1)).isSameBankAccount(any(), any());
 	}
 
 	@Test
-	void findExactOrCompatibleMatch_shouldReturnCompatibleBankAccount_whenBankAccountDoesNotHaveToken_andThereIsACompatibleBankAccount() {
-		List<HyperwalletBankAccount> hyperwalletBankAccounts = List.of(hyperwalletBankAccount(1),
-				hyperwalletBankAccount(2));
-
-		IBANBankAccountModel miraklBankAccount = ibanBankAccountModel();
+	void findExactOrCompatibleMatch_shouldReturnFirstCompatibleBankAccount_whenThereIsNotSameBankAccount() {
+		final List<HyperwalletBankAccount> hyperwalletBankAccounts = List.of(hyperwalletBankAccount(1, OTHER_COUNTRY),
+				hyperwalletBankAccount(2, COUNTRY), hyperwalletBankAccount(3, COUNTRY));
+		final IBANBankAccountModel miraklBankAccount = ibanBankAccountModel(null, "9999");
 
-		when(hyperwalletMiraklBankAccountCompatibilityCheckerMock
-				.isBankAccountCompatible(hyperwalletBankAccounts.get(0), miraklBankAccount)).thenReturn(false);
-		when(hyperwalletMiraklBankAccountCompatibilityCheckerMock
-				.isBankAccountCompatible(hyperwalletBankAccounts.get(1), miraklBankAccount)).thenReturn(true);
+		when(hyperwalletBankAccountTypeResolverMock.getBankAccountType(any())).thenReturn(BankAccountType.IBAN);
 
-		Optional<HyperwalletBankAccount> result = testObj.findExactOrCompatibleMatch(hyperwalletBankAccounts,
+		final Optional<HyperwalletBankAccount> result = testObj.findExactOrCompatibleMatch(hyperwalletBankAccounts,
 				miraklBankAccount);
 
-		assertThat(result).isPresent();
 		assertThat(result).contains(hyperwalletBankAccounts.get(1));
 	}
 
 	@Test
-	void findExactOrCompatibleMatch_shouldReturnEmptyOptional_whenBankAccountWithSameTokenDoesNotExist_andIsNotACompatibleBankAccount() {
-		List<HyperwalletBankAccount> hyperwalletBankAccounts = List.of(hyperwalletBankAccount(1),
-				hyperwalletBankAccount(2));
+	void findExactOrCompatibleMatch_shouldIgnoreBankAccountsWhoseTypeCannotBeResolved() {
+		final List<HyperwalletBankAccount> hyperwalletBankAccounts = List.of(hyperwalletBankAccount(1, COUNTRY),
+				hyperwalletBankAccount(2, COUNTRY));
+		final IBANBankAccountModel miraklBankAccount = ibanBankAccountModel(null, "9999");
 
-		IBANBankAccountModel miraklBankAccount = ibanBankAccountModel(3);
+		when(hyperwalletBankAccountTypeResolverMock.getBankAccountType(hyperwalletBankAccounts.get(0)))
+				.thenThrow(new HMCException("No bank account type found"));
+		when(hyperwalletBankAccountTypeResolverMock.getBankAccountType(hyperwalletBankAccounts.get(1)))
+				.thenReturn(BankAccountType.IBAN);
 
-		Optional<HyperwalletBankAccount> result = testObj.findExactOrCompatibleMatch(hyperwalletBankAccounts,
+		final Optional<HyperwalletBankAccount> result = testObj.findExactOrCompatibleMatch(hyperwalletBankAccounts,
 				miraklBankAccount);
 
-		assertThat(result).isEmpty();
+		assertThat(result).contains(hyperwalletBankAccounts.get(1));
 	}
 
 	@Test
 	void findExactOrCompatibleMatch_shouldReturnEmptyOptional_whenThereIsNotACompatibleBankAccount_andThereIsNotSameBankAccount() {
-		List<HyperwalletBankAccount> hyperwalletBankAccounts = List.of(hyperwalletBankAccount(1),
-				hyperwalletBankAccount(2));
-
-		IBANBankAccountModel miraklBankAccount = ibanBankAccountModel();
+		final List<HyperwalletBankAccount> hyperwalletBankAccounts = List.of(hyperwalletBankAccount(1, COUNTRY),
+				hyperwalletBankAccount(2, COUNTRY));
+		final IBANBankAccountModel miraklBankAccount = ibanBankAccountModel("token3", "0001");
 
 		when(hyperwalletMiraklBankAccountEqualityCheckerMock.isSameBankAccount(hyperwalletBankAccounts.get(0),
 				miraklBankAccount)).thenReturn(false);
-		when(hyperwalletMiraklBankAccountEqualityCheckerMock.isSameBankAccount(hyperwalletBankAccounts.get(1),
-				miraklBankAccount)).thenReturn(false);
-		when(hyperwalletMiraklBankAccountCompatibilityCheckerMock
-				.isBankAccountCompatible(hyperwalletBankAccounts.get(0), miraklBankAccount)).thenReturn(false);
-		when(hyperwalletMiraklBankAccountCompatibilityCheckerMock
-				.isBankAccountCompatible(hyperwalletBankAccounts.get(1), miraklBankAccount)).thenReturn(false);
+		when(hyperwalletBankAccountTypeResolverMock.getBankAccountType(any())).thenReturn(BankAccountType.ABA);
 
-		Optional<HyperwalletBankAccount> result = testObj.findExactOrCompatibleMatch(hyperwalletBankAccounts,
+		final Optional<HyperwalletBankAccount> result = testObj.findExactOrCompatibleMatch(hyperwalletBankAccounts,
 				miraklBankAccount);
 
 		assertThat(result).isEmpty();
 	}
 
-	private HyperwalletBankAccount hyperwalletBankAccount(int idx) {
-		HyperwalletBankAccount hyperwalletBankAccount = new HyperwalletBankAccount();
-		hyperwalletBankAccount.setToken("token" + idx);
+	@Test
+	void findExactOrCompatibleMatch_shouldReturnSameResultWithIndex_thanWithList() {
+		final List<HyperwalletBankAccount> hyperwalletBankAccounts = List.of(hyperwalletBankAccount(1, COUNTRY),
+				hyperwalletBankAccount(2, COUNTRY));
+		final IBANBankAccountModel miraklBankAccount = ibanBankAccountModel(null, "0002");
 
-		return hyperwalletBankAccount;
-	}
+		when(hyperwalletMiraklBankAccountEqualityCheckerMock.isSameBankAccount(hyperwalletBankAccounts.get(1),
+				miraklBankAccount)).thenReturn(true);
 
-	private IBANBankAccountModel ibanBankAccountModel(int idx) {
-		IBANBankAccountModel ibanBankAccountModel = IBANBankAccountModel.builder().token("token" + idx).build();
+		final HyperwalletBankAccountsIndex index = testObj.index(hyperwalletBankAccounts);
 
-		return ibanBankAccountModel;
+		assertThat(testObj.findExactOrCompatibleMatch(index, miraklBankAccount))
+				.isEqualTo(testObj.findExactOrCompatibleMatch(hyperwalletBankAccounts, miraklBankAccount))
+				.contains(hyperwalletBankAccounts.get(1));
+		assertThat(index.getBankAccounts()).containsExactlyElementsOf(hyperwalletBankAccounts);
 	}
 
-	private IBANBankAccountModel ibanBankAccountModel() {
-		IBANBankAccountModel ibanBankAccountModel = IBANBankAccountModel.builder().build();
+	private HyperwalletBankAccount hyperwalletBankAccount(final int idx, final String country) {
+		final HyperwalletBankAccount hyperwalletBankAccount = new HyperwalletBankAccount();
+		hyperwalletBankAccount.setToken("token" + idx);
+		hyperwalletBankAccount.setType(HyperwalletBankAccount.Type.BANK_ACCOUNT);
+		hyperwalletBankAccount.setTransferMethodCountry(country);
+		hyperwalletBankAccount.setTransferMethodCurrency(CURRENCY);
+		hyperwalletBankAccount.setBankAccountId(String.format("****%04d", idx));
+
+		return hyperwalletBankAccount;
+	}
 
-		return ibanBankAccountModel;
+	private IBANBankAccountModel ibanBankAccountModel(final String token, final String lastDigits) {
+		//@formatter:off
+		return IBANBankAccountModel.builder()
+				.token(token)
+				.transferMethodCountry(COUNTRY)
+				.transferMethodCurrency(CURRENCY)
+				.type(BankAccountType.IBAN)
+				.bankAccountNumber("ES9121000418450200" + lastDigits)
+				.build();
+		//@formatter:on
 	}
 
 }
@@ -4,11 +4,10 @@ import com.hyperwallet.clientsdk.model.HyperwalletBankAccount;
 import com.mirakl.client.core.error.MiraklErrorResponseBean;
 import com.mirakl.client.core.exception.MiraklApiException;
 import com.mirakl.client.mmp.operator.domain.shop.update.MiraklUpdateShop;
-import com.mirakl.client.mmp.operator.request.shop.MiraklUpdateShopsRequest;
 import com.mirakl.client.mmp.request.additionalfield.MiraklRequestAdditionalFieldValue;
 import com.mirakl.client.mmp.request.additionalfield.MiraklRequestAdditionalFieldValue.MiraklSimpleRequestAdditionalFieldValue;
 import com.paypal.infrastructure.mail.MailNotificationUtil;
-import com.paypal.infrastructure.sdk.mirakl.MiraklMarketplacePlatformOperatorApiWrapper;
+import com.paypal.infrastructure.miraklshopupdates.services.MiraklShopUpdatesAggregator;
 import com.paypal.infrastructure.util.MiraklLoggingErrorsUtil;
 import com.paypal.sellers.sellersextract.model.SellerModel;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,7 +34,7 @@ class MiraklBankAccountExtractServiceImplTest {
 	private MiraklBankAccountExtractServiceImpl testObj;
 
 	@Mock
-	private MiraklMarketplacePlatformOperatorApiWrapper miraklMarketplacePlatformOperatorApiClientMock;
+	private MiraklShopUpdatesAggregator miraklShopUpdatesAggregatorMock;
 
 	@Mock
 	private HyperwalletBankAccount hyperwalletBankAccount;
@@ -47,11 +46,11 @@ class MiraklBankAccountExtractServiceImplTest {
 	private MailNotificationUtil mailNotificationUtilMock;
 
 	@Captor
-	private ArgumentCaptor<MiraklUpdateShopsRequest> miraklUpdateShopsRequestCaptor;
+	private ArgumentCaptor<MiraklUpdateShop> miraklUpdateShopCaptor;
 
 	@BeforeEach
 	void setUp() {
-		testObj = new MiraklBankAccountExtractServiceImpl(miraklMarketplacePlatformOperatorApiClientMock,
+		testObj = new MiraklBankAccountExtractServiceImpl(miraklShopUpdatesAggregatorMock,
 				mailNotificationUtilMock);
 	}
 
@@ -63,10 +62,8 @@ class MiraklBankAccountExtractServiceImplTest {
 
 		testObj.updateBankAccountToken(sellerModelMock, hyperwalletBankAccount);
 
-		verify(miraklMarketplacePlatformOperatorApiClientMock).updateShops(miraklUpdateShopsRequestCaptor.capture());
-		final MiraklUpdateShopsRequest miraklUpdateShopsRequest = miraklUpdateShopsRequestCaptor.getValue();
-		assertThat(miraklUpdateShopsRequest.getShops()).hasSize(1);
-		final MiraklUpdateShop shopToUpdate = miraklUpdateShopsRequest.getShops().get(0);
+		verify(miraklShopUpdatesAggregatorMock).updateShop(miraklUpdateShopCaptor.capture());
+		final MiraklUpdateShop shopToUpdate = miraklUpdateShopCaptor.getValue();
 		assertThat(shopToUpdate).hasFieldOrPropertyWithValue("shopId", 12345L);
 		assertThat(shopToUpdate.getAdditionalFieldValues()).hasSize(1);
 		final MiraklRequestAdditionalFieldValue additionalFieldValue = shopToUpdate.getAdditionalFieldValues().get(0);
@@ -83,8 +80,7 @@ class MiraklBankAccountExtractServiceImplTest {
 
 		final MiraklApiException miraklApiException = new MiraklApiException(
 				new MiraklErrorResponseBean(1, "Something went wrong", "correlation-id"));
-		doThrow(miraklApiException).when(miraklMarketplacePlatformOperatorApiClientMock)
-				.updateShops(any(MiraklUpdateShopsRequest.class));
+		doThrow(miraklApiException).when(miraklShopUpdatesAggregatorMock).updateShop(any(MiraklUpdateShop.class));
 
 		testObj.updateBankAccountToken(sellerModelMock, hyperwalletBankAccount);
 
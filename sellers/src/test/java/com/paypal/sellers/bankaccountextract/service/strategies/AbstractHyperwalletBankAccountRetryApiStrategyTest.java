@@ -9,6 +9,7 @@ import com.paypal.infrastructure.hyperwallet.api.HyperwalletSDKUserService;
 import com.paypal.infrastructure.mail.MailNotificationUtil;
 import com.paypal.infrastructure.strategy.StrategyExecutor;
 import com.paypal.infrastructure.util.HyperwalletLoggingErrorsUtil;
+import com.paypal.sellers.bankaccountextract.service.HyperwalletBankAccountsCacheService;
 import com.paypal.sellers.entity.FailedBankAccountInformation;
 import com.paypal.sellers.sellersextract.model.SellerModel;
 import com.paypal.sellers.service.FailedEntityInformationService;
@@ -27,6 +28,8 @@ class AbstractHyperwalletBankAccountRetryApiStrategyTest {
 
 	private static final String HYPERWALLET_PROGRAM = "hyperwalletProgram";
 
+	private static final String USER_TOKEN = "userToken";
+
 	@Spy
 	@InjectMocks
 	private MyAbstractHyperwalletBankAccountRetryApiStrategy testObj;
@@ -46,6 +49,9 @@ class AbstractHyperwalletBankAccountRetryApiStrategyTest {
 	@Mock
 	private HyperwalletException hyperwalletExceptionMock;
 
+	@Mock
+	private HyperwalletBankAccountsCacheService hyperwalletBankAccountsCacheServiceMock;
+
 	private static final String ERROR_MESSAGE_PREFIX = "There was an error, please check the logs for further "
 			+ "information:\n";
 
@@ -60,6 +66,33 @@ class AbstractHyperwalletBankAccountRetryApiStrategyTest {
 		verify(testObj).callHyperwalletAPI(HYPERWALLET_PROGRAM, hyperwalletBankAccountMock);
 	}
 
+	@Test
+	void execute_shouldInvalidateCachedBankAccountsOfTheUser() {
+		when(sellerModelToHyperwalletBankAccountStrategyExecutorMock.execute(sellerModelMock))
+				.thenReturn(hyperwalletBankAccountMock);
+		when(sellerModelMock.getHyperwalletProgram()).thenReturn(HYPERWALLET_PROGRAM);
+		when(sellerModelMock.getToken()).thenReturn(USER_TOKEN);
+
+		testObj.execute(sellerModelMock);
+
+		verify(hyperwalletBankAccountsCacheServiceMock).invalidate(USER_TOKEN);
+	}
+
+	@Test
+	void execute_shouldNotInvalidateCachedBankAccountsOfTheUser_whenHyperwalletExceptionIsThrown() {
+		when(sellerModelMock.getClientUserId()).thenReturn("2001");
+		when(sellerModelMock.getHyperwalletProgram()).thenReturn(HYPERWALLET_PROGRAM);
+		when(sellerModelToHyperwalletBankAccountStrategyExecutorMock.execute(sellerModelMock))
+				.thenReturn(hyperwalletBankAccountMock);
+		doThrow(new HyperwalletException("Something went wrong")).when(testObj).callHyperwalletAPI(HYPERWALLET_PROGRAM,
+				hyperwalletBankAccountMock);
+
+		AssertionsForClassTypes.assertThatThrownBy(() -> testObj.execute(sellerModelMock))
+				.isInstanceOf(HMCHyperwalletAPIException.class);
+
+		verify(hyperwalletBankAccountsCacheServiceMock, never()).invalidate(any());
+	}
+
 	@Test
 	void execute_shouldSendEmailNotificationHyperwalletExceptionIsThrown() {
 		final HyperwalletException hyperwalletException = new HyperwalletException("Something went wrong");
@@ -101,8 +134,10 @@ class AbstractHyperwalletBankAccountRetryApiStrategyTest {
 				final FailedEntityInformationService<FailedBankAccountInformation> failedEntityInformationService,
 				final StrategyExecutor<SellerModel, HyperwalletBankAccount> sellerModelToHyperwalletBankAccountStrategyExecutor,
 				final HyperwalletSDKUserService hyperwalletSDKUserService,
-				final MailNotificationUtil mailNotificationUtil) {
-			super(sellerModelToHyperwalletBankAccountStrategyExecutor, hyperwalletSDKUserService, mailNotificationUtil);
+				final MailNotificationUtil mailNotificationUtil,
+				final HyperwalletBankAccountsCacheService hyperwalletBankAccountsCacheService) {
+			super(sellerModelToHyperwalletBankAccountStrategyExecutor, hyperwalletSDKUserService, mailNotificationUtil,
+					hyperwalletBankAccountsCacheService);
 		}
 
 		@Override
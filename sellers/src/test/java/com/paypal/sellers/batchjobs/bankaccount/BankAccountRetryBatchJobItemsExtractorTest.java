@@ -50,4 +50,9 @@ class BankAccountRetryBatchJobItemsExtractorTest {
 				.containsExactlyInAnyOrder(sellerModelMock1, sellerModelMock2);
 	}
 
+	@Test
+	void getMaxItemsPerRequest_shouldReturnMaxShopIdsPerRequest() {
+		assertThat(testObj.getMaxItemsPerRequest()).isEqualTo(MiraklSellersExtractService.MAX_SHOP_IDS_PER_REQUEST);
+	}
+
 }
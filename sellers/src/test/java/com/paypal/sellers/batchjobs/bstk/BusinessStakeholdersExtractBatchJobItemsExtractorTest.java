@@ -1,6 +1,7 @@
 package com.paypal.sellers.batchjobs.bstk;
 
 import com.paypal.infrastructure.batchjob.BatchJobContext;
+import com.paypal.infrastructure.service.TokenSynchronizationService;
 import com.paypal.sellers.sellersextract.model.BusinessStakeHolderModel;
 import com.paypal.sellers.sellersextract.model.SellerModel;
 import com.paypal.sellers.sellersextract.service.BusinessStakeholderExtractService;
@@ -33,11 +34,15 @@ class BusinessStakeholdersExtractBatchJobItemsExtractorTest {
 	@Mock
 	private BusinessStakeholderExtractService businessStakeholderExtractServiceMock;
 
+	@Mock
+	private TokenSynchronizationService<BusinessStakeHolderModel> businessStakeholderTokenSynchronizationServiceMock;
+
 	@Mock
 	private SellerModel sellerModelMock1, sellerModelMock2;
 
 	@Mock
-	private BusinessStakeHolderModel businessStakeHolderModelMock1, businessStakeHolderModelMock2;
+	private BusinessStakeHolderModel businessStakeHolderModelMock1, businessStakeHolderModelMock2,
+			synchronizedBusinessStakeHolderModelMock1, synchronizedBusinessStakeHolderModelMock2;
 
 	@Mock
 	private BatchJobContext batchJobContextMock;
@@ -49,11 +54,16 @@ class BusinessStakeholdersExtractBatchJobItemsExtractorTest {
 		when(businessStakeholderExtractServiceMock
 				.extractBusinessStakeHolders(List.of(sellerModelMock1, sellerModelMock2)))
 						.thenReturn(List.of(businessStakeHolderModelMock1, businessStakeHolderModelMock2));
+		when(businessStakeholderTokenSynchronizationServiceMock
+				.synchronizeTokens(List.of(businessStakeHolderModelMock1, businessStakeHolderModelMock2)))
+						.thenReturn(List.of(synchronizedBusinessStakeHolderModelMock1,
+								synchronizedBusinessStakeHolderModelMock2));
 
 		final Collection<BusinessStakeholderExtractJobItem> result = testObj.getItems(batchJobContextMock, DELTA);
 
 		assertThat(result.stream().map(BusinessStakeholderExtractJobItem::getItem).collect(Collectors.toList()))
-				.containsExactlyInAnyOrder(businessStakeHolderModelMock1, businessStakeHolderModelMock2);
+				.containsExactlyInAnyOrder(synchronizedBusinessStakeHolderModelMock1,
+						synchronizedBusinessStakeHolderModelMock2);
 	}
 
 }
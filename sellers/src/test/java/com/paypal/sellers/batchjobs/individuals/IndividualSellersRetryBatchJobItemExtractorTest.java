@@ -43,4 +43,9 @@ class IndividualSellersRetryBatchJobItemExtractorTest {
 				.containsExactlyInAnyOrder(sellerModelMock1, sellerModelMock2);
 	}
 
+	@Test
+	void getMaxItemsPerRequest_shouldReturnMaxShopIdsPerRequest() {
+		assertThat(testObj.getMaxItemsPerRequest()).isEqualTo(MiraklSellersExtractService.MAX_SHOP_IDS_PER_REQUEST);
+	}
+
 }
@@ -51,4 +51,9 @@ class ProfessionalSellersRetryBatchJobItemsExtractorTest {
 
 	}
 
+	@Test
+	void getMaxItemsPerRequest_shouldReturnMaxShopIdsPerRequest() {
+		assertThat(testObj.getMaxItemsPerRequest()).isEqualTo(MiraklSellersExtractService.MAX_SHOP_IDS_PER_REQUEST);
+	}
+
 }
@@ -61,7 +61,8 @@ class BankAccountExtractJobConfigTest {
 
 		assertThat(result.getJobClass()).hasSameClassAs(QuartzBatchJobBean.class);
 		assertThat(result.getKey().getName()).isEqualTo(RETRY_JOB_NAME);
-		assertThat(result.getJobDataMap()).containsEntry("batchJob", bankAccountRetryBatchJob);
+		assertThat(result.getJobDataMap()).containsEntry("batchJobClass",
+				bankAccountRetryBatchJob.getClass().getName());
 	}
 
 	@Test
@@ -35,7 +35,8 @@ class BusinessStakeholdersExtractJobConfigTest {
 
 		assertThat(result.getJobClass()).hasSameClassAs(QuartzBatchJobBean.class);
 		assertThat(result.getKey().getName()).isEqualTo(RETRY_JOB_NAME);
-		assertThat(result.getJobDataMap()).containsEntry("batchJob", businessStakeholdersRetryBatchJob);
+		assertThat(result.getJobDataMap()).containsEntry("batchJobClass",
+				businessStakeholdersRetryBatchJob.getClass().getName());
 	}
 
 	@Test
@@ -55,8 +55,8 @@ class IndividualSellersExtractJobConfigTest {
 
 		assertThat(result.getJobClass()).hasSameClassAs(QuartzBatchJobBean.class);
 		assertThat(result.getKey().getName()).isEqualTo(INDIVIDUAL_SELLERS_EXTRACT_RETRY_JOB_IDENTITY);
-		assertThat(result.getJobDataMap()).containsEntry(QuartzBatchJobBean.KEY_BATCH_JOB_BEAN,
-				individualSellersRetryBatchJobMock);
+		assertThat(result.getJobDataMap()).containsEntry(QuartzBatchJobBean.KEY_BATCH_JOB_CLASS,
+				individualSellersRetryBatchJobMock.getClass().getName());
 	}
 
 	@Test
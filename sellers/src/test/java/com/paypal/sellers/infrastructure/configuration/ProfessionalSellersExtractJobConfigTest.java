@@ -62,7 +62,8 @@ class ProfessionalSellersExtractJobConfigTest {
 
 		assertThat(result.getJobClass()).hasSameClassAs(QuartzBatchJobBean.class);
 		assertThat(result.getKey().getName()).isEqualTo(RETRY_JOB_NAME);
-		assertThat(result.getJobDataMap()).containsEntry("batchJob", professionalSellersRetryBatchJob);
+		assertThat(result.getJobDataMap()).containsEntry("batchJobClass",
+				professionalSellersRetryBatchJob.getClass().getName());
 	}
 
 	@Test
@@ -0,0 +1,95 @@
+package com.paypal.sellers.jobs;
+
+import com.mirakl.client.mmp.domain.shop.MiraklShop;
+import com.paypal.infrastructure.test.load.EndpointFaults;
+import com.paypal.infrastructure.test.load.LoadTestConfig;
+import com.paypal.infrastructure.test.load.LoadTestReport;
+import com.paypal.infrastructure.test.load.LoadTestRunner;
+import com.paypal.infrastructure.test.load.SyntheticLoadTestData;
+import com.paypal.infrastructure.test.mocks.hyperwallet.HyperwalletLoadEndpointsMock;
+import com.paypal.infrastructure.test.mocks.mirakl.MiraklLoadEndpointsMock;
+import com.paypal.sellers.SellersIntegrationTests;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.mockserver.model.HttpRequest;
+import org.mockserver.model.HttpRequestAndHttpResponse;
+import org.quartz.JobDetail;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockserver.model.HttpRequest.request;
+
+/**
+ * Support of the load tests of the seller extract jobs. Mirakl serves the generated shops
+ * and Hyperwallet accepts every request, injecting the configured faults.
+ * <p>
+ * Faults are only injected in Hyperwallet, so the shops are always extracted and every
+ * run has to report all the items of the generated shops, successful or failed, and one
+ * successful Hyperwallet write for every successful item.
+ */
+@Tag("LoadTest")
+@Import(LoadTestConfig.class)
+abstract class AbstractSellersExtractJobLoadTestSupport extends SellersIntegrationTests {
+
+	protected static final String HYPERWALLET_USER_PATH = "/api/rest/v4/users/usr-[^/]+";
+
+	@Autowired
+	private LoadTestRunner loadTestRunner;
+
+	@Autowired
+	private LoadTestConfig loadTestConfig;
+
+	protected List<MiraklShop> miraklShops;
+
+	@BeforeEach
+	void setUpLoadTestEndpoints() {
+		miraklShops = new SyntheticLoadTestData(loadTestConfig.getSeed()).shops(loadTestConfig.getItems());
+
+		final MiraklLoadEndpointsMock miraklLoadEndpointsMock = new MiraklLoadEndpointsMock(mockServerClient,
+				EndpointFaults.NONE);
+		miraklLoadEndpointsMock.getShops(miraklShops);
+		miraklLoadEndpointsMock.updateShops();
+		new HyperwalletLoadEndpointsMock(mockServerClient, loadTestConfig.endpointFaults()).acceptAllRequests();
+	}
+
+	/**
+	 * Runs the given job and checks that all the expected items were processed and that
+	 * every successful item was written to Hyperwallet once.
+	 * @param job the job to run.
+	 * @param expectedItems number of items the job has to process, successful or failed.
+	 * @param hyperwalletWrites the Hyperwallet requests that write the items of the job.
+	 * @return the report of the run.
+	 * @throws Exception if the job can't be run.
+	 */
+	protected LoadTestReport runJob(final JobDetail job, final int expectedItems,
+			final HttpRequest... hyperwalletWrites) throws Exception {
+		final LoadTestReport result = loadTestRunner.runJob(job.getKey(), loadTestConfig.getTimeout());
+		final List<HttpRequestAndHttpResponse> writes = recordedRequests(hyperwalletWrites);
+
+		// Items of the report include the failed ones
+		assertThat(result.getItems()).isEqualTo(expectedItems);
+		assertThat(result.getFailedItems()).isBetween(0, expectedItems);
+		assertThat(writes).hasSizeLessThanOrEqualTo(expectedItems);
+		assertThat(writes).filteredOn(write -> write.getHttpResponse().getStatusCode() == HttpStatus.OK.value())
+				.hasSize(result.getItems() - result.getFailedItems());
+
+		return result;
+	}
+
+	protected static HttpRequest hyperwalletWrite(final HttpMethod method, final String path) {
+		return request().withMethod(method.name()).withPath(path);
+	}
+
+	private List<HttpRequestAndHttpResponse> recordedRequests(final HttpRequest... requests) {
+		return Arrays.stream(requests).map(mockServerClient::retrieveRecordedRequestsAndResponses)
+				.flatMap(Arrays::stream).collect(Collectors.toList());
+	}
+
+}
@@ -0,0 +1,21 @@
+package com.paypal.sellers.jobs;
+
+import org.junit.jupiter.api.Test;
+import org.quartz.JobDetail;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpMethod;
+
+class BankAccountExtractJobLoadTest extends AbstractSellersExtractJobLoadTestSupport {
+
+	@Autowired
+	@Qualifier("bankAccountExtractJob")
+	private JobDetail bankAccountExtractJob;
+
+	@Test
+	void bankAccountExtractJob_shouldSynchronizeTheShopBankAccounts() throws Exception {
+		runJob(bankAccountExtractJob, miraklShops.size(),
+				hyperwalletWrite(HttpMethod.POST, HYPERWALLET_USER_PATH + "/bank-accounts"));
+	}
+
+}
@@ -0,0 +1,26 @@
+package com.paypal.sellers.jobs;
+
+import com.mirakl.client.mmp.domain.shop.MiraklShop;
+import org.junit.jupiter.api.Test;
+import org.quartz.JobDetail;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpMethod;
+
+import java.util.function.Predicate;
+
+class IndividualSellersExtractJobLoadTest extends AbstractSellersExtractJobLoadTestSupport {
+
+	@Autowired
+	@Qualifier("sellerExtractJob")
+	private JobDetail sellerExtractJob;
+
+	@Test
+	void sellerExtractJob_shouldSynchronizeAllTheIndividualShops() throws Exception {
+		final int individualShops = (int) miraklShops.stream().filter(Predicate.not(MiraklShop::isProfessional))
+				.count();
+
+		runJob(sellerExtractJob, individualShops, hyperwalletWrite(HttpMethod.PUT, HYPERWALLET_USER_PATH));
+	}
+
+}
@@ -0,0 +1,34 @@
+package com.paypal.sellers.jobs;
+
+import com.mirakl.client.mmp.domain.shop.MiraklShop;
+import org.junit.jupiter.api.Test;
+import org.quartz.JobDetail;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpMethod;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+class ProfessionalSellersExtractJobLoadTest extends AbstractSellersExtractJobLoadTestSupport {
+
+	private static final String BUSINESS_STAKEHOLDER_TOKEN_FIELD = "hw-stakeholder-token-";
+
+	@Autowired
+	@Qualifier("professionalSellerExtractJob")
+	private JobDetail professionalSellerExtractJob;
+
+	@Test
+	void professionalSellerExtractJob_shouldSynchronizeTheShopsAndTheirBusinessStakeholders() throws Exception {
+		final List<MiraklShop> professionalShops = miraklShops.stream().filter(MiraklShop::isProfessional)
+				.collect(Collectors.toList());
+		final long businessStakeholders = professionalShops.stream()
+				.flatMap(miraklShop -> miraklShop.getAdditionalFieldValues().stream())
+				.filter(field -> field.getCode().startsWith(BUSINESS_STAKEHOLDER_TOKEN_FIELD)).count();
+
+		runJob(professionalSellerExtractJob, professionalShops.size() + (int) businessStakeholders,
+				hyperwalletWrite(HttpMethod.PUT, HYPERWALLET_USER_PATH),
+				hyperwalletWrite(HttpMethod.PUT, HYPERWALLET_USER_PATH + "/business-stakeholders/stk-.+"));
+	}
+
+}
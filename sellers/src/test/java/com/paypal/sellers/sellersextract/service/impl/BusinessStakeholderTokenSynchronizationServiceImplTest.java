@@ -5,13 +5,17 @@ import com.hyperwallet.clientsdk.Hyperwallet;
 import com.hyperwallet.clientsdk.HyperwalletException;
 import com.hyperwallet.clientsdk.model.HyperwalletBusinessStakeholder;
 import com.hyperwallet.clientsdk.model.HyperwalletList;
+import com.mirakl.client.core.error.MiraklErrorResponseBean;
+import com.mirakl.client.core.exception.MiraklApiException;
 import com.mirakl.client.core.exception.MiraklException;
 import com.mirakl.client.mmp.domain.common.MiraklAdditionalFieldValue;
+import com.mirakl.client.mmp.operator.domain.shop.update.MiraklUpdateShop;
 import com.paypal.infrastructure.exceptions.HMCException;
 import com.paypal.infrastructure.exceptions.HMCHyperwalletAPIException;
 import com.paypal.infrastructure.exceptions.HMCMiraklAPIException;
 import com.paypal.infrastructure.hyperwallet.api.HyperwalletSDKUserService;
 import com.paypal.infrastructure.mail.MailNotificationUtil;
+import com.paypal.infrastructure.miraklshopupdates.services.MiraklShopUpdatesAggregator;
 import com.paypal.sellers.sellersextract.model.BusinessStakeHolderModel;
 import com.paypal.sellers.sellersextract.service.MiraklBusinessStakeholderExtractService;
 import org.apache.commons.lang3.StringUtils;
@@ -40,6 +44,16 @@ class BusinessStakeholderTokenSynchronizationServiceImplTest {
 
 	private static final String STK_EMAIL = "test@test.com";
 
+	private static final String STK_TOKEN_2 = "a8f3e21";
+
+	private static final int STK_ID_2 = 2;
+
+	private static final String STK_EMAIL_2 = "test2@test.com";
+
+	private static final String CLIENT_USER_ID_2 = "5678";
+
+	private static final String USER_TOKEN_2 = "userToken2";
+
 	public static final String HYPERWALLET_PROGRAM = "hyperwalletProgram";
 
 	public static final String USER_TOKEN = "userToken";
@@ -57,6 +71,9 @@ class BusinessStakeholderTokenSynchronizationServiceImplTest {
 	@Mock
 	private MailNotificationUtil mailNotificationUtilMock;
 
+	@Mock
+	private MiraklShopUpdatesAggregator miraklShopUpdatesAggregatorMock;
+
 	@RegisterExtension
 	final LogTrackerStub logTrackerStub = LogTrackerStub.create()
 			.recordForType(BusinessStakeholderTokenSynchronizationServiceImpl.class);
@@ -207,4 +224,141 @@ class BusinessStakeholderTokenSynchronizationServiceImplTest {
 				.map(BusinessStakeHolderModel::getToken).orElse(StringUtils.EMPTY)).isEqualTo(STK_TOKEN);
 	}
 
+	@Test
+	void synchronizeTokens_ShouldRetrieveSTKsOfEachUserOnceAndUpdateTokensInMiraklOncePerShop() {
+
+		final BusinessStakeHolderModel businessStakeHolderModel1 = businessStakeHolderModel(STK_ID, STK_EMAIL,
+				USER_TOKEN, CLIENT_USER_ID);
+		final BusinessStakeHolderModel businessStakeHolderModel2 = businessStakeHolderModel(STK_ID_2, STK_EMAIL_2,
+				USER_TOKEN, CLIENT_USER_ID);
+
+		when(hyperwalletSDKUserServiceMock.getHyperwalletInstanceByHyperwalletProgram(HYPERWALLET_PROGRAM))
+				.thenReturn(hyperwalletMock);
+		when(hyperwalletMock.listBusinessStakeholders(USER_TOKEN)).thenReturn(hyperwalletBusinessStakeholders(
+				hyperwalletBusinessStakeholder(STK_TOKEN, STK_EMAIL),
+				hyperwalletBusinessStakeholder(STK_TOKEN_2, STK_EMAIL_2)));
+
+		final List<BusinessStakeHolderModel> result = testObj
+				.synchronizeTokens(List.of(businessStakeHolderModel1, businessStakeHolderModel2));
+
+		verify(hyperwalletMock, times(1)).listBusinessStakeholders(USER_TOKEN);
+		verify(miraklBusinessStakeholderExtractServiceMock).updateBusinessStakeholderToken(eq(CLIENT_USER_ID),
+				businessStakeHolderModelsArgumentCaptor.capture());
+		assertThat(result).extracting(BusinessStakeHolderModel::getToken).containsExactly(STK_TOKEN, STK_TOKEN_2);
+		assertThat(businessStakeHolderModelsArgumentCaptor.getValue()).extracting(BusinessStakeHolderModel::getToken)
+				.containsExactlyInAnyOrder(STK_TOKEN, STK_TOKEN_2);
+	}
+
+	@Test
+	void synchronizeTokens_ShouldReturnSTKsOfUserUnchanged_WhenGettingHwBusinessStakeholdersAnHyperwalletExceptionIsThrown() {
+
+		final BusinessStakeHolderModel businessStakeHolderModel1 = businessStakeHolderModel(STK_ID, STK_EMAIL,
+				USER_TOKEN, CLIENT_USER_ID);
+		final BusinessStakeHolderModel businessStakeHolderModel2 = businessStakeHolderModel(STK_ID_2, STK_EMAIL_2,
+				USER_TOKEN_2, CLIENT_USER_ID_2);
+
+		when(hyperwalletSDKUserServiceMock.getHyperwalletInstanceByHyperwalletProgram(HYPERWALLET_PROGRAM))
+				.thenReturn(hyperwalletMock);
+		when(hyperwalletMock.listBusinessStakeholders(USER_TOKEN)).thenThrow(HyperwalletException.class);
+		when(hyperwalletMock.listBusinessStakeholders(USER_TOKEN_2))
+				.thenReturn(hyperwalletBusinessStakeholders(hyperwalletBusinessStakeholder(STK_TOKEN_2, STK_EMAIL_2)));
+
+		final List<BusinessStakeHolderModel> result = testObj
+				.synchronizeTokens(List.of(businessStakeHolderModel1, businessStakeHolderModel2));
+
+		assertThat(result.get(0)).isSameAs(businessStakeHolderModel1);
+		assertThat(result.get(1).getToken()).isEqualTo(STK_TOKEN_2);
+		verify(miraklBusinessStakeholderExtractServiceMock).updateBusinessStakeholderToken(eq(CLIENT_USER_ID_2),
+				anyList());
+		verify(miraklBusinessStakeholderExtractServiceMock, never())
+				.updateBusinessStakeholderToken(eq(CLIENT_USER_ID), anyList());
+		assertThat(logTrackerStub.contains("Business stakeholders of Hyperwallet user [" + USER_TOKEN
+				+ "] couldn't be retrieved in bulk, they will be synchronized individually")).isTrue();
+	}
+
+	@Test
+	void synchronizeTokens_ShouldReturnSTKsOfShopUnchanged_WhenUpdatingSTKTokensInMiraklThrowsAMiraklException() {
+
+		final BusinessStakeHolderModel businessStakeHolderModel = businessStakeHolderModel(STK_ID, STK_EMAIL,
+				USER_TOKEN, CLIENT_USER_ID);
+
+		when(hyperwalletSDKUserServiceMock.getHyperwalletInstanceByHyperwalletProgram(HYPERWALLET_PROGRAM))
+				.thenReturn(hyperwalletMock);
+		when(hyperwalletMock.listBusinessStakeholders(USER_TOKEN))
+				.thenReturn(hyperwalletBusinessStakeholders(hyperwalletBusinessStakeholder(STK_TOKEN, STK_EMAIL)));
+		doThrow(MiraklException.class).when(miraklBusinessStakeholderExtractServiceMock)
+				.updateBusinessStakeholderToken(eq(CLIENT_USER_ID), anyList());
+
+		final List<BusinessStakeHolderModel> result = testObj.synchronizeTokens(List.of(businessStakeHolderModel));
+
+		assertThat(result).containsExactly(businessStakeHolderModel);
+		assertThat(logTrackerStub.contains("Business stakeholder tokens of shop [" + CLIENT_USER_ID
+				+ "] couldn't be updated in bulk, they will be synchronized individually")).isTrue();
+	}
+
+	@Test
+	void synchronizeTokens_ShouldReturnSTKsOfShopUnchanged_WhenMiraklRejectsTheTokensUpdatedByTheExtractService() {
+
+		final MiraklBusinessStakeholderExtractServiceImpl miraklBusinessStakeholderExtractService = new MiraklBusinessStakeholderExtractServiceImpl(
+				miraklShopUpdatesAggregatorMock, mailNotificationUtilMock);
+		final BusinessStakeholderTokenSynchronizationServiceImpl synchronizationService = new BusinessStakeholderTokenSynchronizationServiceImpl(
+				hyperwalletSDKUserServiceMock, miraklBusinessStakeholderExtractService, mailNotificationUtilMock);
+		final BusinessStakeHolderModel businessStakeHolderModel = businessStakeHolderModel(STK_ID, STK_EMAIL,
+				USER_TOKEN, CLIENT_USER_ID);
+
+		when(hyperwalletSDKUserServiceMock.getHyperwalletInstanceByHyperwalletProgram(HYPERWALLET_PROGRAM))
+				.thenReturn(hyperwalletMock);
+		when(hyperwalletMock.listBusinessStakeholders(USER_TOKEN))
+				.thenReturn(hyperwalletBusinessStakeholders(hyperwalletBusinessStakeholder(STK_TOKEN, STK_EMAIL)));
+		doThrow(new MiraklApiException(new MiraklErrorResponseBean(1, "Something went wrong", "correlation-id")))
+				.when(miraklShopUpdatesAggregatorMock).updateShop(any(MiraklUpdateShop.class));
+
+		final List<BusinessStakeHolderModel> result = synchronizationService
+				.synchronizeTokens(List.of(businessStakeHolderModel));
+
+		assertThat(result).containsExactly(businessStakeHolderModel);
+		assertThat(logTrackerStub.contains("Business stakeholder tokens of shop [" + CLIENT_USER_ID
+				+ "] couldn't be updated in bulk, they will be synchronized individually")).isTrue();
+	}
+
+	@Test
+	void synchronizeTokens_ShouldNotCallHyperwallet_WhenSTKsHaveTokenOrNoEmail() {
+
+		final BusinessStakeHolderModel businessStakeHolderModelWithToken = BusinessStakeHolderModel.builder()
+				.clientUserId(CLIENT_USER_ID).userToken(USER_TOKEN).token(STK_TOKEN).build();
+		final BusinessStakeHolderModel businessStakeHolderModelWithoutEmail = BusinessStakeHolderModel.builder()
+				.clientUserId(CLIENT_USER_ID).userToken(USER_TOKEN).stkId(STK_ID).build();
+
+		final List<BusinessStakeHolderModel> result = testObj.synchronizeTokens(
+				List.of(businessStakeHolderModelWithToken, businessStakeHolderModelWithoutEmail));
+
+		assertThat(result).containsExactly(businessStakeHolderModelWithToken, businessStakeHolderModelWithoutEmail);
+		verifyNoInteractions(hyperwalletSDKUserServiceMock, miraklBusinessStakeholderExtractServiceMock);
+	}
+
+	private BusinessStakeHolderModel businessStakeHolderModel(final int stkId, final String email,
+			final String userToken, final String clientUserId) {
+		final MiraklAdditionalFieldValue.MiraklStringAdditionalFieldValue emailBusinessStakeHolderField = new MiraklAdditionalFieldValue.MiraklStringAdditionalFieldValue();
+		emailBusinessStakeHolderField.setCode("hw-stakeholder-email-" + stkId);
+		emailBusinessStakeHolderField.setValue(email);
+
+		return BusinessStakeHolderModel.builder().stkId(stkId).hyperwalletProgram(HYPERWALLET_PROGRAM)
+				.userToken(userToken).clientUserId(clientUserId).email(List.of(emailBusinessStakeHolderField), stkId)
+				.build();
+	}
+
+	private HyperwalletBusinessStakeholder hyperwalletBusinessStakeholder(final String token, final String email) {
+		final HyperwalletBusinessStakeholder hyperwalletBusinessStakeholder = new HyperwalletBusinessStakeholder();
+		hyperwalletBusinessStakeholder.setToken(token);
+		hyperwalletBusinessStakeholder.setEmail(email);
+		return hyperwalletBusinessStakeholder;
+	}
+
+	private HyperwalletList<HyperwalletBusinessStakeholder> hyperwalletBusinessStakeholders(
+			final HyperwalletBusinessStakeholder... hyperwalletBusinessStakeholders) {
+		final HyperwalletList<HyperwalletBusinessStakeholder> hyperwalletList = new HyperwalletList<>();
+		hyperwalletList.setData(List.of(hyperwalletBusinessStakeholders));
+		return hyperwalletList;
+	}
+
 }
@@ -3,10 +3,9 @@ package com.paypal.sellers.sellersextract.service.impl;
 import com.mirakl.client.core.error.MiraklErrorResponseBean;
 import com.mirakl.client.core.exception.MiraklApiException;
 import com.mirakl.client.mmp.operator.domain.shop.update.MiraklUpdateShop;
-import com.mirakl.client.mmp.operator.request.shop.MiraklUpdateShopsRequest;
 import com.mirakl.client.mmp.request.additionalfield.MiraklRequestAdditionalFieldValue;
 import com.paypal.infrastructure.mail.MailNotificationUtil;
-import com.paypal.infrastructure.sdk.mirakl.MiraklMarketplacePlatformOperatorApiWrapper;
+import com.paypal.infrastructure.miraklshopupdates.services.MiraklShopUpdatesAggregator;
 import com.paypal.infrastructure.util.MiraklLoggingErrorsUtil;
 import com.paypal.sellers.sellersextract.model.BusinessStakeHolderModel;
 import com.paypal.sellers.sellersextract.model.SellerModel;
@@ -24,6 +23,7 @@ import java.util.List;
 
 import static com.mirakl.client.mmp.request.additionalfield.MiraklRequestAdditionalFieldValue.MiraklSimpleRequestAdditionalFieldValue;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,7 +38,7 @@ class MiraklBusinessStakeholderExtractServiceImplTest {
 	private MiraklBusinessStakeholderExtractServiceImpl testObj;
 
 	@Mock
-	private MiraklMarketplacePlatformOperatorApiWrapper miraklMarketplacePlatformOperatorApiClientMock;
+	private MiraklShopUpdatesAggregator miraklShopUpdatesAggregatorMock;
 
 	@Mock
 	private SellerModel sellerModelMock;
@@ -50,11 +50,11 @@ class MiraklBusinessStakeholderExtractServiceImplTest {
 	private MailNotificationUtil mailNotificationUtilMock;
 
 	@Captor
-	private ArgumentCaptor<MiraklUpdateShopsRequest> miraklUpdateShopsRequestCaptor;
+	private ArgumentCaptor<MiraklUpdateShop> miraklUpdateShopCaptor;
 
 	@BeforeEach
 	void setUp() {
-		testObj = new MiraklBusinessStakeholderExtractServiceImpl(miraklMarketplacePlatformOperatorApiClientMock,
+		testObj = new MiraklBusinessStakeholderExtractServiceImpl(miraklShopUpdatesAggregatorMock,
 				mailNotificationUtilMock);
 	}
 
@@ -70,10 +70,8 @@ class MiraklBusinessStakeholderExtractServiceImplTest {
 		testObj.updateBusinessStakeholderToken(sellerModelMock.getClientUserId(),
 				sellerModelMock.getBusinessStakeHolderDetails());
 
-		verify(miraklMarketplacePlatformOperatorApiClientMock).updateShops(miraklUpdateShopsRequestCaptor.capture());
-		final MiraklUpdateShopsRequest miraklUpdateShopsRequest = miraklUpdateShopsRequestCaptor.getValue();
-		assertThat(miraklUpdateShopsRequest.getShops()).hasSize(1);
-		final MiraklUpdateShop shopToUpdate = miraklUpdateShopsRequest.getShops().get(0);
+		verify(miraklShopUpdatesAggregatorMock).updateShop(miraklUpdateShopCaptor.capture());
+		final MiraklUpdateShop shopToUpdate = miraklUpdateShopCaptor.getValue();
 		assertThat(shopToUpdate).hasFieldOrPropertyWithValue("shopId", 12345L);
 		assertThat(shopToUpdate.getAdditionalFieldValues()).hasSize(1);
 		final MiraklRequestAdditionalFieldValue additionalFieldValue = shopToUpdate.getAdditionalFieldValues().get(0);
@@ -84,16 +82,15 @@ class MiraklBusinessStakeholderExtractServiceImplTest {
 	}
 
 	@Test
-	void updateUserToken_shouldSendEmailNotification_whenMiraklExceptionIsThrown() {
+	void updateUserToken_shouldSendEmailNotificationAndRethrowTheException_whenMiraklExceptionIsThrown() {
 		when(sellerModelMock.getClientUserId()).thenReturn("12345");
 		when(sellerModelMock.getBusinessStakeHolderDetails()).thenReturn(List.of(businessStakeHolderModelMock));
 		final MiraklApiException miraklApiException = new MiraklApiException(
 				new MiraklErrorResponseBean(1, "Something went wrong", "correlation-id"));
-		doThrow(miraklApiException).when(miraklMarketplacePlatformOperatorApiClientMock)
-				.updateShops(any(MiraklUpdateShopsRequest.class));
+		doThrow(miraklApiException).when(miraklShopUpdatesAggregatorMock).updateShop(any(MiraklUpdateShop.class));
 
-		testObj.updateBusinessStakeholderToken(sellerModelMock.getClientUserId(),
-				sellerModelMock.getBusinessStakeHolderDetails());
+		assertThatThrownBy(() -> testObj.updateBusinessStakeholderToken(sellerModelMock.getClientUserId(),
+				sellerModelMock.getBusinessStakeHolderDetails())).isSameAs(miraklApiException);
 
 		verify(mailNotificationUtilMock).sendPlainTextEmail("Issue detected getting shop information in Mirakl",
 				String.format(ERROR_MESSAGE_PREFIX + "Something went wrong getting information of shop [12345]%n%s",
@@ -108,7 +105,7 @@ class MiraklBusinessStakeholderExtractServiceImplTest {
 				sellerModelMock.getBusinessStakeHolderDetails());
 
 		verifyNoInteractions(mailNotificationUtilMock);
-		verifyNoInteractions(miraklMarketplacePlatformOperatorApiClientMock);
+		verifyNoInteractions(miraklShopUpdatesAggregatorMock);
 	}
 
 }
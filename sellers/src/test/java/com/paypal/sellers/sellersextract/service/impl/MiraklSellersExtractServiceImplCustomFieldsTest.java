@@ -4,9 +4,9 @@ import com.hyperwallet.clientsdk.model.HyperwalletUser;
 import com.mirakl.client.core.error.MiraklErrorResponseBean;
 import com.mirakl.client.core.exception.MiraklApiException;
 import com.mirakl.client.mmp.operator.domain.shop.update.MiraklUpdateShop;
-import com.mirakl.client.mmp.operator.request.shop.MiraklUpdateShopsRequest;
 import com.mirakl.client.mmp.request.additionalfield.MiraklRequestAdditionalFieldValue;
 import com.paypal.infrastructure.mail.MailNotificationUtil;
+import com.paypal.infrastructure.miraklshopupdates.services.MiraklShopUpdatesAggregator;
 import com.paypal.infrastructure.sdk.mirakl.MiraklMarketplacePlatformOperatorApiWrapper;
 import com.paypal.infrastructure.util.MiraklLoggingErrorsUtil;
 import org.junit.jupiter.api.BeforeEach;
@@ -36,6 +36,9 @@ class MiraklSellersExtractServiceImplCustomFieldsTest {
 	@Mock
 	private MiraklMarketplacePlatformOperatorApiWrapper miraklMarketplacePlatformOperatorApiClientMock;
 
+	@Mock
+	private MiraklShopUpdatesAggregator miraklShopUpdatesAggregatorMock;
+
 	@Mock
 	private HyperwalletUser hyperwalletUserMock;
 
@@ -43,12 +46,12 @@ class MiraklSellersExtractServiceImplCustomFieldsTest {
 	private MailNotificationUtil mailNotificationUtilMock;
 
 	@Captor
-	private ArgumentCaptor<MiraklUpdateShopsRequest> miraklUpdateShopsRequestCaptor;
+	private ArgumentCaptor<MiraklUpdateShop> miraklUpdateShopCaptor;
 
 	@BeforeEach
 	void setUp() {
 		testObj = new MiraklSellersExtractServiceImpl(miraklMarketplacePlatformOperatorApiClientMock, null,
-				mailNotificationUtilMock);
+				mailNotificationUtilMock, miraklShopUpdatesAggregatorMock);
 	}
 
 	@DisplayName("Should Update Value for Custom Field 'hw-user-token'")
@@ -59,10 +62,8 @@ class MiraklSellersExtractServiceImplCustomFieldsTest {
 
 		testObj.updateUserToken(hyperwalletUserMock);
 
-		verify(miraklMarketplacePlatformOperatorApiClientMock).updateShops(miraklUpdateShopsRequestCaptor.capture());
-		final MiraklUpdateShopsRequest miraklUpdateShopsRequest = miraklUpdateShopsRequestCaptor.getValue();
-		assertThat(miraklUpdateShopsRequest.getShops()).hasSize(1);
-		final MiraklUpdateShop shopToUpdate = miraklUpdateShopsRequest.getShops().get(0);
+		verify(miraklShopUpdatesAggregatorMock).updateShop(miraklUpdateShopCaptor.capture());
+		final MiraklUpdateShop shopToUpdate = miraklUpdateShopCaptor.getValue();
 		assertThat(shopToUpdate).hasFieldOrPropertyWithValue("shopId", 12345L);
 		assertThat(shopToUpdate.getAdditionalFieldValues()).hasSize(1);
 		final MiraklRequestAdditionalFieldValue additionalFieldValue = shopToUpdate.getAdditionalFieldValues().get(0);
@@ -78,8 +79,7 @@ class MiraklSellersExtractServiceImplCustomFieldsTest {
 		when(hyperwalletUserMock.getClientUserId()).thenReturn("12345");
 		final MiraklApiException miraklApiException = new MiraklApiException(
 				new MiraklErrorResponseBean(1, "Something went wrong", "correlation-id"));
-		doThrow(miraklApiException).when(miraklMarketplacePlatformOperatorApiClientMock)
-				.updateShops(any(MiraklUpdateShopsRequest.class));
+		doThrow(miraklApiException).when(miraklShopUpdatesAggregatorMock).updateShop(any(MiraklUpdateShop.class));
 
 		testObj.updateUserToken(hyperwalletUserMock);
 
@@ -6,6 +6,7 @@ import com.mirakl.client.mmp.domain.shop.MiraklShop;
 import com.mirakl.client.mmp.domain.shop.MiraklShops;
 import com.mirakl.client.mmp.request.shop.MiraklGetShopsRequest;
 import com.paypal.infrastructure.mail.MailNotificationUtil;
+import com.paypal.infrastructure.miraklshopupdates.services.MiraklShopUpdatesAggregator;
 import com.paypal.infrastructure.sdk.mirakl.MiraklMarketplacePlatformOperatorApiWrapper;
 import com.paypal.infrastructure.strategy.StrategyExecutor;
 import com.paypal.infrastructure.util.MiraklLoggingErrorsUtil;
@@ -46,6 +47,9 @@ class MiraklSellersExtractServiceImplTest {
 	@Mock
 	private MiraklMarketplacePlatformOperatorApiWrapper miraklMarketplacePlatformOperatorApiClientMock;
 
+	@Mock
+	private MiraklShopUpdatesAggregator miraklShopUpdatesAggregatorMock;
+
 	@Mock
 	private Date dateMock;
 
@@ -64,7 +68,7 @@ class MiraklSellersExtractServiceImplTest {
 	@BeforeEach
 	void setUp() {
 		testObj = new MiraklSellersExtractServiceImpl(miraklMarketplacePlatformOperatorApiClientMock,
-				miraklShopSellerModelStrategyExecutor, mailNotificationUtilMock);
+				miraklShopSellerModelStrategyExecutor, mailNotificationUtilMock, miraklShopUpdatesAggregatorMock);
 	}
 
 	@Test
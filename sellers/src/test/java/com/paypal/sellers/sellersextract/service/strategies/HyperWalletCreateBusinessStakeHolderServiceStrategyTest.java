@@ -3,6 +3,7 @@ package com.paypal.sellers.sellersextract.service.strategies;
 import com.hyperwallet.clientsdk.Hyperwallet;
 import com.hyperwallet.clientsdk.HyperwalletException;
 import com.hyperwallet.clientsdk.model.HyperwalletBusinessStakeholder;
+import com.mirakl.client.core.exception.MiraklApiException;
 import com.paypal.infrastructure.converter.Converter;
 import com.paypal.infrastructure.hyperwallet.api.HyperwalletSDKUserService;
 import com.paypal.infrastructure.mail.MailNotificationUtil;
@@ -89,6 +90,31 @@ class HyperWalletCreateBusinessStakeHolderServiceStrategyTest {
 		assertThat(result).isEqualTo(businessStakeHolderResponseMock);
 	}
 
+	@Test
+	void execute_shouldReturnCreatedHyperWalletBusinessStakeHolder_whenTheTokenCantBeStoredInMirakl() {
+		when(businessStakeHolderModelHyperwalletBusinessStakeholderConverterMock.convert(businessStakeHolderMock))
+				.thenReturn(hyperwalletBusinessStakeholderMock);
+		when(hyperwalletClientMock.createBusinessStakeholder(TOKEN, hyperwalletBusinessStakeholderMock))
+				.thenReturn(hyperwalletBusinessStakeholderResponseMock);
+		when(hyperwalletBusinessStakeholderResponseMock.getToken()).thenReturn(BUSINESS_STAKE_HOLDER_TOKEN);
+		when(businessStakeHolderMock.getUserToken()).thenReturn(TOKEN);
+		when(businessStakeHolderMock.toBuilder()).thenReturn(businessStakeHolderBuilderMock);
+		when(businessStakeHolderBuilderMock.token(BUSINESS_STAKE_HOLDER_TOKEN))
+				.thenReturn(businessStakeHolderBuilderMock);
+		when(businessStakeHolderBuilderMock.justCreated(true)).thenReturn(businessStakeHolderBuilderMock);
+		when(businessStakeHolderBuilderMock.build()).thenReturn(businessStakeHolderResponseMock);
+		when(businessStakeHolderResponseMock.getClientUserId()).thenReturn(CLIENT_ID);
+		when(businessStakeHolderMock.getHyperwalletProgram()).thenReturn(HYPERWALLET_PROGRAM);
+		when(hyperwalletSDKUserServiceMock.getHyperwalletInstanceByHyperwalletProgram(HYPERWALLET_PROGRAM))
+				.thenReturn(hyperwalletClientMock);
+		doThrow(MiraklApiException.class).when(miraklBusinessStakeholderExtractServiceMock)
+				.updateBusinessStakeholderToken(CLIENT_ID, List.of(businessStakeHolderResponseMock));
+
+		final BusinessStakeHolderModel result = testObj.execute(businessStakeHolderMock);
+
+		assertThat(result).isEqualTo(businessStakeHolderResponseMock);
+	}
+
 	@Test
 	void execute_shouldSendEmailNotificationHyperwalletExceptionIsThrown() {
 		when(businessStakeHolderModelHyperwalletBusinessStakeholderConverterMock.convert(businessStakeHolderMock))